@@ -0,0 +1,339 @@
+/*
+ * DISCLAIMER PLACEHOLDER
+ */
+
+package com.ogprover.api;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintStream;
+import java.io.PrintWriter;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.ogprover.main.OGPConfigurationSettings;
+import com.ogprover.main.OGPConstants;
+import com.ogprover.pp.OGPResultOutputProverProtocol;
+import com.ogprover.pp.OGPXMLInputProverProtocol;
+import com.ogprover.utilities.logger.ILogger;
+
+
+/**
+ * <dl>
+ * <dt><b>Class description:</b></dt>
+ * <dd>Class for prover daemon - long-running prover which reads requests
+ *     from standard input or from TCP connections on local host and writes
+ *     results of proofs back, as soon as each proof is finished</dd>
+ * </dl>
+ *
+ * @version 1.00
+ * @author Ivan Petrovic
+ */
+// Each request and each result is JSON object in one line (see OGPJSONProtocol); results
+// are written in order in which proofs finish and are matched with requests by "id".
+// Request {"command": "shutdown"} stops the daemon after all accepted requests are
+// answered; end of standard input does the same in stdin mode. In stdin mode standard
+// output of prover (e.g. summary of each proof) is redirected to standard error, so
+// standard output contains only JSON lines.
+public class OGPDaemon {
+	/*
+	 * ======================================================================
+	 * ========================== VARIABLES =================================
+	 * ======================================================================
+	 */
+	/**
+	 * <i><b>
+	 * Version number of class in form xx.yy where
+	 * xx is major version/release number and yy is minor
+	 * release number.
+	 * </b></i>
+	 */
+	public static final String VERSION_NUM = "1.00"; // this should match the version number from class comment
+	/**
+	 * <i><b>Source of requests for reading them from standard input</b></i>
+	 */
+	public static final String SOURCE_STDIN = "stdin";
+	/**
+	 * <i><b>Command for stopping of daemon</b></i>
+	 */
+	public static final String COMMAND_SHUTDOWN = "shutdown";
+
+	/**
+	 * Settings of daemon - parameters of each proof are copied from them
+	 */
+	private OGPConfigurationSettings settings = null;
+	/**
+	 * Prover service which proves theorems from requests
+	 */
+	private OGPProverService service = null;
+	/**
+	 * Number of theorems which are proved at same time
+	 */
+	private int numOfWorkers = 1;
+	/**
+	 * Server socket in TCP mode (null in stdin mode)
+	 */
+	private ServerSocket serverSocket = null;
+	/**
+	 * Flag whether daemon has been asked to stop
+	 */
+	private volatile boolean stopped = false;
+
+
+
+	/*
+	 * ======================================================================
+	 * ========================== CONSTRUCTORS ==============================
+	 * ======================================================================
+	 */
+	/**
+	 * Constructor method
+	 *
+	 * @param settings	Settings of daemon, with parameters already set
+	 */
+	public OGPDaemon(OGPConfigurationSettings settings) {
+		this.settings = settings;
+	}
+
+
+
+	/*
+	 * ======================================================================
+	 * ========================== SPECIFIC METHODS ==========================
+	 * ======================================================================
+	 */
+	/**
+	 * Method that runs daemon until it is stopped.
+	 *
+	 * @param source	"stdin" or number of TCP port on local host
+	 * @return			RET_CODE_SUCCESS if daemon has been stopped regularly, ERR_CODE_GENERAL otherwise
+	 */
+	public int run(String source) {
+		ILogger logger = this.settings.getLogger();
+		int retCode = OGPConstants.RET_CODE_SUCCESS;
+
+		this.numOfWorkers = this.settings.getParameters().getBatchWorkers();
+		this.service = new OGPProverService(this.settings, this.numOfWorkers);
+
+		if (source.equals(OGPDaemon.SOURCE_STDIN)) {
+			PrintStream stdout = System.out;
+
+			System.setOut(System.err);
+			logger.info("Prover daemon reads requests from standard input with " + this.numOfWorkers + " worker thread(s).");
+			try {
+				new Connection(System.in, stdout).serve();
+			} catch (IOException e) {
+				logger.error("Failed to read requests from standard input: " + e.getMessage());
+				retCode = OGPConstants.ERR_CODE_GENERAL;
+			} finally {
+				this.service.shutdown();
+				System.setOut(stdout);
+			}
+			return retCode;
+		}
+
+		try {
+			this.serverSocket = new ServerSocket(Integer.parseInt(source), 50, InetAddress.getByName("127.0.0.1"));
+		} catch (IOException e) {
+			logger.error("Failed to open TCP port " + source + " for prover daemon: " + e.getMessage());
+			this.service.shutdown();
+			return OGPConstants.ERR_CODE_GENERAL;
+		}
+
+		logger.info("Prover daemon listens on port " + this.serverSocket.getLocalPort() + " of local host with " + this.numOfWorkers + " worker thread(s).");
+
+		AtomicInteger counter = new AtomicInteger(0);
+
+		while (!this.stopped) {
+			final Socket socket;
+
+			try {
+				socket = this.serverSocket.accept();
+			} catch (IOException e) {
+				if (!this.stopped) {
+					logger.error("Failed to accept connection of prover daemon: " + e.getMessage());
+					retCode = OGPConstants.ERR_CODE_GENERAL;
+				}
+				break;
+			}
+
+			Thread thread = new Thread(new Runnable() {
+				public void run() {
+					try {
+						new Connection(socket.getInputStream(), socket.getOutputStream()).serve();
+					} catch (IOException e) {
+						OGPDaemon.this.settings.getLogger().error("Connection of prover daemon failed: " + e.getMessage());
+					} finally {
+						try {
+							socket.close();
+						} catch (IOException e) {
+							// nothing to do - connection is already closed
+						}
+					}
+				}
+			}, "ogp-daemon-connection-" + counter.incrementAndGet());
+
+			thread.setDaemon(true); // idle connections don't keep stopped daemon alive
+			thread.start();
+		}
+
+		this.stop();
+		this.service.shutdown();
+		logger.info("Prover daemon has been stopped.");
+		return retCode;
+	}
+
+	/**
+	 * Method that stops daemon - requests which have already been accepted are finished.
+	 */
+	public void stop() {
+		this.stopped = true;
+		if (this.serverSocket != null) {
+			try {
+				this.serverSocket.close();
+			} catch (IOException e) {
+				// nothing to do - socket is already closed
+			}
+		}
+	}
+
+
+
+	/*
+	 * ======================================================================
+	 * ========================== INNER CLASSES =============================
+	 * ======================================================================
+	 */
+	/**
+	 * Connection of client - reads requests and writes results, one per line
+	 */
+	private class Connection implements OGPProverService.ResultListener {
+		/**
+		 * Reader of requests
+		 */
+		private BufferedReader reader;
+		/**
+		 * Writer of results - shared by worker threads
+		 */
+		private PrintWriter writer;
+		/**
+		 * Number of accepted requests which are not answered yet
+		 */
+		private int pending = 0;
+
+		/**
+		 * Constructor method
+		 *
+		 * @param in	Input stream with requests
+		 * @param out	Output stream for results
+		 */
+		public Connection(InputStream in, OutputStream out) throws IOException {
+			this.reader = new BufferedReader(new InputStreamReader(in, "UTF-8"));
+			this.writer = new PrintWriter(new OutputStreamWriter(out, "UTF-8"));
+		}
+
+		/**
+		 * Method that reads requests until end of input or until daemon is stopped,
+		 * and then waits for results of accepted requests.
+		 */
+		public void serve() throws IOException {
+			String line;
+
+			this.writeLine("{\"status\": \"ready\", \"workers\": " + OGPDaemon.this.numOfWorkers + "}");
+
+			try {
+				while (!OGPDaemon.this.stopped && (line = this.reader.readLine()) != null) {
+					line = line.trim();
+					if (line.length() > 0)
+						this.processRequest(line);
+				}
+			} finally {
+				this.waitForResults();
+			}
+		}
+
+		/**
+		 * Method that processes one request.
+		 *
+		 * @param line	Line with JSON object
+		 */
+		private void processRequest(String line) {
+			Map<String, Object> request = OGPJSONProtocol.parseObject(line);
+
+			if (request == null) {
+				this.writeLine(OGPJSONProtocol.errorToJSON(null, "Request is not valid JSON object."));
+				return;
+			}
+
+			Object command = request.get("command");
+
+			if (command != null) {
+				if (OGPDaemon.COMMAND_SHUTDOWN.equals(command))
+					OGPDaemon.this.stop();
+				else
+					this.writeLine(OGPJSONProtocol.errorToJSON(request.get("id"), "Unknown command " + command + "."));
+				return;
+			}
+
+			OGPXMLInputProverProtocol proverInput = OGPJSONProtocol.toInputProtocol(request);
+
+			if (proverInput == null) {
+				this.writeLine(OGPJSONProtocol.errorToJSON(request.get("id"), "Request has member of bad type."));
+				return;
+			}
+
+			synchronized (this) {
+				this.pending++;
+			}
+			if (OGPDaemon.this.service.submit(proverInput, this) != OGPConstants.RET_CODE_SUCCESS) {
+				synchronized (this) {
+					this.pending--;
+				}
+				this.writeLine(OGPJSONProtocol.errorToJSON(request.get("id"), "Prover daemon is stopping."));
+			}
+		}
+
+		/**
+		 * @see com.ogprover.api.OGPProverService.ResultListener#resultReady(com.ogprover.pp.OGPResultOutputProverProtocol)
+		 */
+		public void resultReady(OGPResultOutputProverProtocol result) {
+			this.writeLine(OGPJSONProtocol.toJSON(result));
+			synchronized (this) {
+				this.pending--;
+				this.notifyAll();
+			}
+		}
+
+		/**
+		 * Method that writes one line to client.
+		 *
+		 * @param line	Line with JSON object
+		 */
+		private synchronized void writeLine(String line) {
+			this.writer.print(line);
+			this.writer.print('\n');
+			this.writer.flush();
+		}
+
+		/**
+		 * Method that waits until all accepted requests are answered.
+		 */
+		private synchronized void waitForResults() {
+			while (this.pending > 0) {
+				try {
+					this.wait();
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					return;
+				}
+			}
+		}
+	}
+}
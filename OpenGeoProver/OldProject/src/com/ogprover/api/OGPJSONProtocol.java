@@ -0,0 +1,501 @@
+/*
+ * DISCLAIMER PLACEHOLDER
+ */
+
+package com.ogprover.api;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Vector;
+
+import com.ogprover.main.OGPBatchProver;
+import com.ogprover.main.OGPConstants;
+import com.ogprover.pp.OGPResultOutputProverProtocol;
+import com.ogprover.pp.OGPXMLInputProverProtocol;
+
+
+/**
+ * <dl>
+ * <dt><b>Class description:</b></dt>
+ * <dd>Class for JSON form of prover protocols - it reads requests and
+ *     writes results of prover daemon, each as JSON object in one line</dd>
+ * </dl>
+ *
+ * @version 1.00
+ * @author Ivan Petrovic
+ */
+// Request example:
+//     {"id": 7, "file": "input/thm01.xml", "format": "O", "output": "thm01", "options": ["-t", "60", "-o", "N"]}
+// where xml text of theorem can be passed instead of file name as "xml": "<?xml ...>";
+// only "file" or "xml" is required; "id" can be string or number and it is returned
+// unchanged in result. Result example:
+//     {"id": 7, "status": "proved", "retCode": 1, "proverTimeMs": 35, "wallTimeMs": 52,
+//      "maxNumOfTerms": 12, "report": "thm01", "log": "...", "ndgConditions": ["..."]}
+// Only small subset of JSON needed for requests is read (objects, arrays, strings,
+// numbers, true, false and null), so prover doesn't depend on external JSON library.
+// Numbers are read as BigDecimal, so their values are kept exactly.
+public class OGPJSONProtocol {
+	/*
+	 * ======================================================================
+	 * ========================== VARIABLES =================================
+	 * ======================================================================
+	 */
+	/**
+	 * <i><b>
+	 * Version number of class in form xx.yy where
+	 * xx is major version/release number and yy is minor
+	 * release number.
+	 * </b></i>
+	 */
+	public static final String VERSION_NUM = "1.00"; // this should match the version number from class comment
+	/**
+	 * <i><b>Maximal depth of nested objects and arrays</b></i>
+	 */
+	public static final int MAX_DEPTH = 64;
+	/**
+	 * <i><b>Maximal absolute value of scale of number which is written without exponent</b></i>
+	 */
+	private static final int MAX_PLAIN_SCALE = 30;
+
+	/**
+	 * Text which is parsed
+	 */
+	private String text = null;
+	/**
+	 * Current position in text
+	 */
+	private int pos = 0;
+	/**
+	 * Number of objects and arrays which contain current position
+	 */
+	private int depth = 0;
+
+
+
+	/*
+	 * ======================================================================
+	 * ========================== CONSTRUCTORS ==============================
+	 * ======================================================================
+	 */
+	/**
+	 * Constructor method
+	 *
+	 * @param text	Text to be parsed
+	 */
+	private OGPJSONProtocol(String text) {
+		this.text = text;
+		this.pos = 0;
+	}
+
+
+
+	/*
+	 * ======================================================================
+	 * ========================== SPECIFIC METHODS ==========================
+	 * ======================================================================
+	 */
+	/**
+	 * <i>[static method]</i><br>
+	 * Method that parses JSON object.
+	 *
+	 * @param text	Text of JSON object
+	 * @return		Map with members of object (values are String, BigDecimal, Boolean,
+	 * 				List, Map or null objects) or null if text is not valid JSON object
+	 */
+	@SuppressWarnings("unchecked")
+	public static Map<String, Object> parseObject(String text) {
+		OGPJSONProtocol parser = new OGPJSONProtocol(text);
+		Object value;
+
+		try {
+			parser.skipWhitespace();
+			if (parser.peek() != '{')
+				return null;
+			value = parser.parseValue();
+			parser.skipWhitespace();
+		} catch (IllegalArgumentException e) {
+			return null;
+		}
+
+		if (parser.pos != text.length())
+			return null;
+		return (Map<String, Object>)value;
+	}
+
+	/**
+	 * <i>[static method]</i><br>
+	 * Method that creates input prover protocol from request.
+	 *
+	 * @param request	Members of JSON object with request
+	 * @return			Input prover protocol or null if some member has bad type
+	 */
+	public static OGPXMLInputProverProtocol toInputProtocol(Map<String, Object> request) {
+		OGPXMLInputProverProtocol proverInput = new OGPXMLInputProverProtocol();
+		Object options = request.get("options");
+
+		proverInput.setId(OGPJSONProtocol.toText(request.get("id")));
+		proverInput.setNumericId(request.get("id") instanceof BigDecimal);
+		if (!(request.get("file") == null || request.get("file") instanceof String) ||
+			!(request.get("xml") == null || request.get("xml") instanceof String) ||
+			!(request.get("format") == null || request.get("format") instanceof String) ||
+			!(request.get("output") == null || request.get("output") instanceof String) ||
+			!(options == null || options instanceof List<?>))
+			return null;
+
+		proverInput.setTheoremFile((String)request.get("file"));
+		proverInput.setTheoremXML((String)request.get("xml"));
+		proverInput.setInputFormat((String)request.get("format"));
+		proverInput.setOutputFile((String)request.get("output"));
+
+		if (options != null) {
+			List<?> optionList = (List<?>)options;
+			String[] args = new String[optionList.size()];
+
+			for (int ii = 0, jj = optionList.size(); ii < jj; ii++) {
+				if ((args[ii] = OGPJSONProtocol.toText(optionList.get(ii))) == null)
+					return null;
+			}
+			proverInput.setOptions(args);
+		}
+
+		return proverInput;
+	}
+
+	/**
+	 * <i>[static method]</i><br>
+	 * Method that converts string or number value of JSON to text.
+	 *
+	 * @param value		JSON value
+	 * @return			Text of value or null if value is not string nor number
+	 */
+	private static String toText(Object value) {
+		if (value instanceof String)
+			return (String)value;
+		if (value instanceof BigDecimal) {
+			BigDecimal d = ((BigDecimal)value).stripTrailingZeros();
+
+			// number is written without trailing zeros and exponent (e.g. 60.0 or 6E+1 as 60),
+			// unless plain form would be too long
+			if (d.signum() == 0)
+				return "0";
+			if (Math.abs(d.scale()) > OGPJSONProtocol.MAX_PLAIN_SCALE)
+				return d.toString();
+			return d.toPlainString();
+		}
+		return null;
+	}
+
+	/**
+	 * <i>[static method]</i><br>
+	 * Method that writes result of proof as JSON object in one line.
+	 *
+	 * @param result	Result of proof
+	 * @return			Text of JSON object
+	 */
+	public static String toJSON(OGPResultOutputProverProtocol result) {
+		StringBuilder sb = new StringBuilder("{\"id\": ");
+
+		if (result.isNumericId() && result.getId() != null)
+			sb.append(result.getId()); // text of number is valid JSON number
+		else
+			OGPJSONProtocol.appendString(sb, result.getId());
+		sb.append(", \"status\": ");
+		OGPJSONProtocol.appendString(sb, result.getStatus());
+		sb.append(", \"retCode\": ");
+		sb.append(result.getRetCode());
+		sb.append(", \"proverTimeMs\": ");
+		sb.append(Math.round(result.getProverTime()));
+		sb.append(", \"wallTimeMs\": ");
+		sb.append(result.getWallTime());
+		sb.append(", \"maxNumOfTerms\": ");
+		sb.append(result.getMaxNumOfTerms());
+		if (result.getReportFile() != null) {
+			sb.append(", \"report\": ");
+			OGPJSONProtocol.appendString(sb, result.getReportFile());
+		}
+		if (result.getLogFile() != null) {
+			sb.append(", \"log\": ");
+			OGPJSONProtocol.appendString(sb, result.getLogFile());
+		}
+		if (result.getNdgConditions() != null) {
+			Vector<String> ndgConditions = result.getNdgConditions();
+
+			sb.append(", \"ndgConditions\": [");
+			for (int ii = 0, jj = ndgConditions.size(); ii < jj; ii++) {
+				if (ii > 0)
+					sb.append(", ");
+				OGPJSONProtocol.appendString(sb, ndgConditions.get(ii));
+			}
+			sb.append("]");
+		}
+		if (result.getErrorMessage() != null) {
+			sb.append(", \"error\": ");
+			OGPJSONProtocol.appendString(sb, result.getErrorMessage());
+		}
+		sb.append("}");
+
+		return sb.toString();
+	}
+
+	/**
+	 * <i>[static method]</i><br>
+	 * Method that writes error for request which can't be accepted.
+	 *
+	 * @param id		JSON value of identifier of request (can be null or value of
+	 * 					other type than string and number, which is written as null)
+	 * @param message	Error message
+	 * @return			Text of JSON object
+	 */
+	public static String errorToJSON(Object id, String message) {
+		OGPResultOutputProverProtocol result = new OGPResultOutputProverProtocol();
+
+		result.setId(OGPJSONProtocol.toText(id));
+		result.setNumericId(id instanceof BigDecimal);
+		result.setStatus(OGPBatchProver.STATUS_ERROR);
+		result.setRetCode(OGPConstants.ERR_CODE_GENERAL);
+		result.setErrorMessage(message);
+		return OGPJSONProtocol.toJSON(result);
+	}
+
+	/**
+	 * <i>[static method]</i><br>
+	 * Method that appends JSON string (or null) to string builder.
+	 *
+	 * @param sb		String builder
+	 * @param value		String value
+	 */
+	public static void appendString(StringBuilder sb, String value) {
+		if (value == null) {
+			sb.append("null");
+			return;
+		}
+
+		sb.append('"');
+		for (int ii = 0, jj = value.length(); ii < jj; ii++) {
+			char c = value.charAt(ii);
+
+			switch (c) {
+			case '"':
+				sb.append("\\\"");
+				break;
+			case '\\':
+				sb.append("\\\\");
+				break;
+			case '\n':
+				sb.append("\\n");
+				break;
+			case '\r':
+				sb.append("\\r");
+				break;
+			case '\t':
+				sb.append("\\t");
+				break;
+			default:
+				if (c < 0x20) {
+					String hex = Integer.toHexString(c);
+					sb.append("\\u");
+					for (int kk = hex.length(); kk < 4; kk++)
+						sb.append('0');
+					sb.append(hex);
+				}
+				else
+					sb.append(c);
+			}
+		}
+		sb.append('"');
+	}
+
+	/**
+	 * Method that gives current character of text.
+	 *
+	 * @return	Current character
+	 * @throws	IllegalArgumentException if end of text is reached
+	 */
+	private char peek() {
+		if (this.pos >= this.text.length())
+			throw new IllegalArgumentException("Unexpected end of JSON text");
+		return this.text.charAt(this.pos);
+	}
+
+	/**
+	 * Method that moves current position over specified character.
+	 *
+	 * @param c		Expected character
+	 * @throws		IllegalArgumentException if current character is different
+	 */
+	private void expect(char c) {
+		if (this.peek() != c)
+			throw new IllegalArgumentException("Expected '" + c + "' in JSON text");
+		this.pos++;
+	}
+
+	/**
+	 * Method that moves current position over white spaces.
+	 */
+	private void skipWhitespace() {
+		while (this.pos < this.text.length() && Character.isWhitespace(this.text.charAt(this.pos)))
+			this.pos++;
+	}
+
+	/**
+	 * Method that moves current position over specified literal.
+	 *
+	 * @param literal	Expected literal
+	 * @throws			IllegalArgumentException if text at current position is different
+	 */
+	private void expectLiteral(String literal) {
+		if (!this.text.startsWith(literal, this.pos))
+			throw new IllegalArgumentException("Expected " + literal + " in JSON text");
+		this.pos += literal.length();
+	}
+
+	/**
+	 * Method that parses JSON value at current position.
+	 *
+	 * @return	Parsed value
+	 * @throws	IllegalArgumentException if text is not valid JSON
+	 */
+	private Object parseValue() {
+		this.skipWhitespace();
+
+		char c = this.peek();
+
+		if ((c == '{' || c == '[') && this.depth >= OGPJSONProtocol.MAX_DEPTH)
+			throw new IllegalArgumentException("Too deeply nested JSON text");
+
+		switch (c) {
+		case '{':
+			Map<String, Object> members = new LinkedHashMap<String, Object>();
+
+			this.pos++;
+			this.depth++;
+			this.skipWhitespace();
+			if (this.peek() == '}') {
+				this.pos++;
+				this.depth--;
+				return members;
+			}
+			while (true) {
+				this.skipWhitespace();
+
+				String name = this.parseString();
+
+				this.skipWhitespace();
+				this.expect(':');
+				members.put(name, this.parseValue());
+				this.skipWhitespace();
+				if (this.peek() == '}') {
+					this.pos++;
+					this.depth--;
+					return members;
+				}
+				this.expect(',');
+			}
+		case '[':
+			List<Object> elements = new ArrayList<Object>();
+
+			this.pos++;
+			this.depth++;
+			this.skipWhitespace();
+			if (this.peek() == ']') {
+				this.pos++;
+				this.depth--;
+				return elements;
+			}
+			while (true) {
+				elements.add(this.parseValue());
+				this.skipWhitespace();
+				if (this.peek() == ']') {
+					this.pos++;
+					this.depth--;
+					return elements;
+				}
+				this.expect(',');
+			}
+		case '"':
+			return this.parseString();
+		case 't':
+			this.expectLiteral("true");
+			return Boolean.TRUE;
+		case 'f':
+			this.expectLiteral("false");
+			return Boolean.FALSE;
+		case 'n':
+			this.expectLiteral("null");
+			return null;
+		default:
+			int start = this.pos;
+
+			while (this.pos < this.text.length() && "+-0123456789.eE".indexOf(this.text.charAt(this.pos)) >= 0)
+				this.pos++;
+			try {
+				return new BigDecimal(this.text.substring(start, this.pos));
+			} catch (NumberFormatException e) {
+				throw new IllegalArgumentException("Bad value in JSON text");
+			}
+		}
+	}
+
+	/**
+	 * Method that parses JSON string at current position.
+	 *
+	 * @return	Parsed string
+	 * @throws	IllegalArgumentException if text is not valid JSON string
+	 */
+	private String parseString() {
+		StringBuilder sb = new StringBuilder();
+
+		this.expect('"');
+		while (true) {
+			char c = this.peek();
+
+			this.pos++;
+			if (c == '"')
+				return sb.toString();
+			if (c != '\\') {
+				sb.append(c);
+				continue;
+			}
+
+			c = this.peek();
+			this.pos++;
+			switch (c) {
+			case '"':
+			case '\\':
+			case '/':
+				sb.append(c);
+				break;
+			case 'b':
+				sb.append('\b');
+				break;
+			case 'f':
+				sb.append('\f');
+				break;
+			case 'n':
+				sb.append('\n');
+				break;
+			case 'r':
+				sb.append('\r');
+				break;
+			case 't':
+				sb.append('\t');
+				break;
+			case 'u':
+				if (this.pos + 4 > this.text.length())
+					throw new IllegalArgumentException("Bad escape sequence in JSON text");
+				try {
+					sb.append((char)Integer.parseInt(this.text.substring(this.pos, this.pos + 4), 16));
+				} catch (NumberFormatException e) {
+					throw new IllegalArgumentException("Bad escape sequence in JSON text");
+				}
+				this.pos += 4;
+				break;
+			default:
+				throw new IllegalArgumentException("Bad escape sequence in JSON text");
+			}
+		}
+	}
+}
@@ -0,0 +1,390 @@
+/*
+ * DISCLAIMER PLACEHOLDER
+ */
+
+package com.ogprover.api;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.ogprover.main.OGPBatchProver;
+import com.ogprover.main.OGPConfigurationSettings;
+import com.ogprover.main.OGPConstants;
+import com.ogprover.main.OGPParameters;
+import com.ogprover.main.OGPProofCache;
+import com.ogprover.main.OpenGeoProver;
+import com.ogprover.pp.OGPInputProverProtocol;
+import com.ogprover.pp.OGPOutputProverProtocol;
+import com.ogprover.pp.OGPResultOutputProverProtocol;
+import com.ogprover.pp.OGPXMLInputProverProtocol;
+import com.ogprover.pp.tp.OGPTP;
+import com.ogprover.thmprover.TheoremProver;
+import com.ogprover.utilities.io.CustomFileReader;
+import com.ogprover.utilities.logger.FileLogger;
+import com.ogprover.utilities.logger.ILogger;
+
+
+/**
+ * <dl>
+ * <dt><b>Class description:</b></dt>
+ * <dd>Class for prover service - API which proves theorems from input prover
+ *     protocols, either synchronously or by bounded pool of worker threads
+ *     which report results as soon as proofs are finished</dd>
+ * </dl>
+ *
+ * @version 1.00
+ * @author Ivan Petrovic
+ */
+// Service is created once and stays alive, so classes of prover are loaded and compiled
+// only once for many theorems. Each theorem is proved with its own settings (copy of
+// parameters of service changed by options of request) bound to thread which proves it.
+public class OGPProverService implements OGPAPI {
+	/*
+	 * ======================================================================
+	 * ========================== VARIABLES =================================
+	 * ======================================================================
+	 */
+	/**
+	 * <i><b>
+	 * Version number of class in form xx.yy where
+	 * xx is major version/release number and yy is minor
+	 * release number.
+	 * </b></i>
+	 */
+	public static final String VERSION_NUM = "1.00"; // this should match the version number from class comment
+
+	/**
+	 * Settings of service - parameters of each proof are copied from them
+	 */
+	private OGPConfigurationSettings settings = null;
+	/**
+	 * Pool of worker threads for submitted requests
+	 */
+	private ExecutorService pool = null;
+	/**
+	 * Number of requests received by service - used for unique names of reports
+	 */
+	private AtomicInteger numOfRequests = new AtomicInteger(0);
+	/**
+	 * Base names of output files of proofs which are running
+	 */
+	private Set<String> outputFilesInUse = new HashSet<String>();
+
+
+
+	/*
+	 * ======================================================================
+	 * ========================== CONSTRUCTORS ==============================
+	 * ======================================================================
+	 */
+	/**
+	 * Constructor method
+	 *
+	 * @param settings		Settings of service, with parameters already set
+	 * @param numOfWorkers	Number of theorems which are proved at same time
+	 * 						when requests are submitted
+	 */
+	public OGPProverService(OGPConfigurationSettings settings, int numOfWorkers) {
+		this.settings = settings;
+		this.pool = Executors.newFixedThreadPool(numOfWorkers, new ThreadFactory() {
+			private AtomicInteger counter = new AtomicInteger(0);
+
+			public Thread newThread(Runnable r) {
+				return new Thread(r, "ogp-service-" + this.counter.incrementAndGet());
+			}
+		});
+	}
+
+
+
+	/*
+	 * ======================================================================
+	 * ========================== SPECIFIC METHODS ==========================
+	 * ======================================================================
+	 */
+	/**
+	 * @see com.ogprover.api.OGPAPI#prove(com.ogprover.pp.OGPInputProverProtocol)
+	 */
+	public OGPOutputProverProtocol prove(OGPInputProverProtocol proverInput) {
+		OGPResultOutputProverProtocol result = new OGPResultOutputProverProtocol();
+
+		if (!(proverInput instanceof OGPXMLInputProverProtocol)) {
+			result.setRetCode(OGPConstants.ERR_CODE_GENERAL);
+			result.setStatus(OGPBatchProver.STATUS_ERROR);
+			result.setErrorMessage("Unsupported type of input prover protocol.");
+			return result;
+		}
+
+		return this.proveTheorem((OGPXMLInputProverProtocol)proverInput);
+	}
+
+	/**
+	 * Method that submits request to pool of worker threads; listener is
+	 * called from worker thread as soon as proof of this request is finished,
+	 * with error result if proof has failed unexpectedly.
+	 *
+	 * @param proverInput	Request with theorem
+	 * @param listener		Listener which receives result of proof
+	 * @return				RET_CODE_SUCCESS if request is accepted, ERR_CODE_GENERAL
+	 * 						if service has already been shut down
+	 */
+	public int submit(final OGPXMLInputProverProtocol proverInput, final ResultListener listener) {
+		try {
+			this.pool.execute(new Runnable() {
+				public void run() {
+					OGPResultOutputProverProtocol result;
+
+					try {
+						result = OGPProverService.this.proveTheorem(proverInput);
+					} catch (Throwable t) {
+						// listener must receive result of each request, otherwise client waits for it forever
+						OGPProverService.this.settings.getLogger().error("Proof of request failed: " + t.toString());
+						result = new OGPResultOutputProverProtocol();
+						result.setId(proverInput.getId());
+						result.setNumericId(proverInput.isNumericId());
+						result.setRetCode(OGPConstants.ERR_CODE_GENERAL);
+						result.setStatus(OGPBatchProver.STATUS_ERROR);
+						result.setErrorMessage("Proof of request failed: " + t.toString());
+					}
+					listener.resultReady(result);
+				}
+			});
+		} catch (RejectedExecutionException e) {
+			return OGPConstants.ERR_CODE_GENERAL;
+		}
+		return OGPConstants.RET_CODE_SUCCESS;
+	}
+
+	/**
+	 * Method that shuts down service - submitted requests are finished
+	 * before this method returns, while new requests are not accepted.
+	 */
+	public void shutdown() {
+		this.pool.shutdown();
+		try {
+			while (!this.pool.awaitTermination(1, TimeUnit.SECONDS))
+				;
+		} catch (InterruptedException e) {
+			this.pool.shutdownNow();
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	/**
+	 * Method that proves theorem from request with its own settings.
+	 *
+	 * @param request	Request with theorem
+	 * @return			Result of proof
+	 */
+	private OGPResultOutputProverProtocol proveTheorem(OGPXMLInputProverProtocol request) {
+		long startTime = System.currentTimeMillis();
+		int requestNumber = this.numOfRequests.incrementAndGet();
+		OGPResultOutputProverProtocol result = new OGPResultOutputProverProtocol();
+		OGPConfigurationSettings proofSettings = new OGPConfigurationSettings(this.settings);
+		OGPParameters parameters = proofSettings.getParameters();
+		ILogger logger = proofSettings.getLogger();
+		File tempFile = null;
+		String error = null;
+
+		result.setId(request.getId());
+		result.setNumericId(request.isNumericId());
+		result.setRetCode(OGPConstants.ERR_CODE_GENERAL);
+		result.setStatus(OGPBatchProver.STATUS_ERROR);
+		if (logger instanceof FileLogger) {
+			FileLogger fileLogger = (FileLogger)logger;
+			result.setLogFile(fileLogger.getLogDirectoryPath() + File.separator + fileLogger.getLogBaseFileName());
+		}
+
+		// theorem is read from file - xml text of theorem is saved to temporary file
+		File theoremFile = null;
+
+		if (request.getTheoremFile() != null) {
+			theoremFile = new File(request.getTheoremFile());
+
+			// same as in command line, theorem given by name only is taken from input directory
+			if (!theoremFile.isFile() && theoremFile.getParent() == null) {
+				String name = theoremFile.getName();
+				theoremFile = new File(CustomFileReader.INPUT_DIR_NAME, name.endsWith(".xml") ? name : name + ".xml");
+			}
+		}
+		else if (request.getTheoremXML() != null) {
+			Writer writer = null;
+
+			try {
+				tempFile = File.createTempFile("ogp_request", ".xml");
+				writer = new FileWriter(tempFile);
+				writer.write(request.getTheoremXML());
+				theoremFile = tempFile;
+			} catch (IOException e) {
+				error = "Failed to save xml of theorem to temporary file.";
+			} finally {
+				if (writer != null) {
+					try {
+						writer.close();
+					} catch (IOException e) {
+						error = "Failed to save xml of theorem to temporary file.";
+					}
+				}
+			}
+		}
+		else
+			error = "Request doesn't contain theorem.";
+
+		if (error == null && !theoremFile.isFile())
+			error = "Theorem " + theoremFile.getPath() + " doesn't exist.";
+
+		String inputFormat = request.getInputFormat();
+
+		if (error == null && inputFormat == null && (inputFormat = OGPBatchProver.recognizeFormat(theoremFile)) == null)
+			error = "Theorem " + ((tempFile != null) ? "from request" : theoremFile.getPath()) + " is not in known xml format.";
+
+		String outputFile = null;
+
+		if (error == null) {
+			outputFile = request.getOutputFile();
+
+			// default name is unique for each request, so reports of proofs of same
+			// theorem which are running at same time don't overwrite each other
+			if (outputFile == null) {
+				String theoremName = (tempFile != null) ? "request" : theoremFile.getName();
+
+				if (theoremName.endsWith(".xml"))
+					theoremName = theoremName.substring(0, theoremName.length() - ".xml".length());
+				outputFile = theoremName + "_" + ((request.getId() != null) ? OGPProverService.toFileName(request.getId()) : String.valueOf(requestNumber));
+			}
+
+			parameters.putInputFile(theoremFile.getPath());
+			parameters.putInputFormat(inputFormat);
+			parameters.putOutputFile(outputFile);
+
+			// options of request are applied to settings of this proof
+			if (request.getOptions().length > 0) {
+				OGPConfigurationSettings previous = OpenGeoProver.setThreadSettings(proofSettings);
+
+				try {
+					if (OGPParameters.readParametersFromCommandLine(request.getOptions()) != OGPConstants.RET_CODE_SUCCESS)
+						error = "Bad options in request.";
+				} catch (NumberFormatException e) {
+					error = "Bad options in request.";
+				} finally {
+					OpenGeoProver.setThreadSettings(previous);
+				}
+			}
+		}
+
+		if (error == null) {
+			// name given by request (or by its options) is not changed, while default name
+			// is repeated only when identifiers of requests are repeated
+			boolean isDefaultName = request.getOutputFile() == null && outputFile.equals(parameters.getOutputFile());
+
+			outputFile = parameters.getOutputFile();
+			synchronized (this.outputFilesInUse) {
+				if (isDefaultName && this.outputFilesInUse.contains(outputFile))
+					outputFile = outputFile + "_" + requestNumber;
+				if (this.outputFilesInUse.add(outputFile))
+					parameters.putOutputFile(outputFile);
+				else {
+					error = "Output file " + outputFile + " is used by another running proof.";
+					outputFile = null;
+				}
+			}
+		}
+
+		if (error != null) {
+			logger.error(error);
+			result.setErrorMessage(error);
+			if (tempFile != null)
+				tempFile.delete();
+			result.setWallTime(System.currentTimeMillis() - startTime);
+			return result;
+		}
+
+		int retCode;
+
+		try {
+			retCode = OpenGeoProver.runProver(proofSettings);
+		} finally {
+			synchronized (this.outputFilesInUse) {
+				this.outputFilesInUse.remove(outputFile);
+			}
+		}
+
+		result.setRetCode(retCode);
+		result.setStatus(OGPBatchProver.getStatus(retCode, proofSettings.getOgpMode()));
+		result.setProverTime(proofSettings.getStopwacth().getTimeIntMillisec());
+		result.setMaxNumOfTerms(proofSettings.getMaxNumOfTerms());
+		if (parameters.createReport())
+			result.setReportFile(parameters.getOutputFile());
+
+		// NDG conditions are available only for proved and disproved theorems
+		OGPTP thmProtocol = proofSettings.getParsedTP();
+		OGPProofCache.CacheEntry cacheEntry = proofSettings.getProofCacheEntry();
+
+		if (cacheEntry != null) // result is taken from or put to cache of proofs with NDG conditions already translated
+			result.setNdgConditions(cacheEntry.getNdgConditions());
+		else if (thmProtocol != null && proofSettings.getOgpMode() == OGPConstants.OGP_MODE_THM_PROVING &&
+			(retCode == TheoremProver.THEO_PROVE_RET_CODE_TRUE || retCode == TheoremProver.THEO_PROVE_RET_CODE_FALSE)) {
+			OGPConfigurationSettings previous = OpenGeoProver.setThreadSettings(proofSettings);
+
+			try {
+				result.setNdgConditions(thmProtocol.exportTranslatedNDGConditions());
+			} finally {
+				OpenGeoProver.setThreadSettings(previous);
+			}
+		}
+
+		if (tempFile != null)
+			tempFile.delete();
+		result.setWallTime(System.currentTimeMillis() - startTime);
+		logger.info("Request " + request.getId() + ": " + result.getStatus() + " (" + result.getWallTime() + " ms)");
+		return result;
+	}
+
+	/**
+	 * <i>[static method]</i><br>
+	 * Method that converts identifier of request to part of file name.
+	 *
+	 * @param id	Identifier of request
+	 * @return		Identifier with characters which are not letters, digits,
+	 * 				'-' or '_' replaced by '_'
+	 */
+	private static String toFileName(String id) {
+		StringBuilder sb = new StringBuilder(id.length());
+
+		for (int ii = 0, jj = id.length(); ii < jj; ii++) {
+			char c = id.charAt(ii);
+
+			sb.append((Character.isLetterOrDigit(c) || c == '-' || c == '_') ? c : '_');
+		}
+		return sb.toString();
+	}
+
+
+
+	/*
+	 * ======================================================================
+	 * ========================== INNER CLASSES =============================
+	 * ======================================================================
+	 */
+	/**
+	 * Listener which receives results of submitted requests
+	 */
+	public static interface ResultListener {
+		/**
+		 * Method called when proof of submitted request is finished.
+		 *
+		 * @param result	Result of proof
+		 */
+		public void resultReady(OGPResultOutputProverProtocol result);
+	}
+}
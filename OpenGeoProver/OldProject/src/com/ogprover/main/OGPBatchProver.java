@@ -0,0 +1,637 @@
+/*
+ * DISCLAIMER PLACEHOLDER
+ */
+
+package com.ogprover.main;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.ogprover.thmprover.TheoremProver;
+import com.ogprover.utilities.io.CustomFileWriter;
+import com.ogprover.utilities.logger.ILogger;
+
+
+/**
+ * <dl>
+ * <dt><b>Class description:</b></dt>
+ * <dd>Class for proving batch of theorems - all theorems from directory
+ *     or manifest file are proved by several worker threads and results
+ *     are collected in one table (CSV or JSON file)</dd>
+ * </dl>
+ *
+ * @version 1.00
+ * @author Ivan Petrovic
+ */
+// Theorems are independent, so workers only share queue of theorems; theorems are put
+// in queue from the biggest file to the smallest one, so long proofs are started first
+// and short ones fill the gaps at the end (worker which is done takes next theorem).
+// Each theorem is proved with its own settings (copy of batch parameters) bound to worker.
+public class OGPBatchProver {
+	/*
+	 * ======================================================================
+	 * ========================== VARIABLES =================================
+	 * ======================================================================
+	 */
+	/**
+	 * <i><b>
+	 * Version number of class in form xx.yy where
+	 * xx is major version/release number and yy is minor
+	 * release number.
+	 * </b></i>
+	 */
+	public static final String VERSION_NUM = "1.00"; // this should match the version number from class comment
+	/**
+	 * <i><b>Number of characters read from beginning of xml file to recognize its format</b></i>
+	 */
+	private static final int FORMAT_PREFIX_LENGTH = 4096;
+	/**
+	 * <i><b>Status of theorem which is proved</b></i>
+	 */
+	public static final String STATUS_PROVED = "proved";
+	/**
+	 * <i><b>Status of theorem which is proved with high probability by calculation modulo primes</b></i>
+	 */
+	public static final String STATUS_PROVED_MODULAR = "proved with high probability (modular)";
+	/**
+	 * <i><b>Status of theorem which is disproved</b></i>
+	 */
+	public static final String STATUS_DISPROVED = "disproved";
+	/**
+	 * <i><b>Status of theorem which can't be neither proved nor disproved</b></i>
+	 */
+	public static final String STATUS_UNKNOWN = "unknown";
+	/**
+	 * <i><b>Status of problem successfully transformed in mode for RC-constructibility</b></i>
+	 */
+	public static final String STATUS_TRANSFORMED = "transformed";
+	/**
+	 * <i><b>Status of proof stopped because time limit has been reached</b></i>
+	 */
+	public static final String STATUS_TIME_LIMIT = "time limit";
+	/**
+	 * <i><b>Status of proof stopped because space limit has been reached</b></i>
+	 */
+	public static final String STATUS_SPACE_LIMIT = "space limit";
+	/**
+	 * <i><b>Status of proof which failed because of some error</b></i>
+	 */
+	public static final String STATUS_ERROR = "error";
+
+	/**
+	 * Settings of batch - parameters of each proof are copied from them
+	 */
+	private OGPConfigurationSettings settings = null;
+	/**
+	 * Theorems of batch in input order
+	 */
+	private List<BatchEntry> entries = null;
+
+
+
+	/*
+	 * ======================================================================
+	 * ========================== GETTERS/SETTERS ===========================
+	 * ======================================================================
+	 */
+	/**
+	 * @return	List of theorems of batch with their results
+	 */
+	public List<BatchEntry> getEntries() {
+		return this.entries;
+	}
+
+
+
+	/*
+	 * ======================================================================
+	 * ========================== CONSTRUCTORS ==============================
+	 * ======================================================================
+	 */
+	/**
+	 * Constructor method
+	 *
+	 * @param settings	Settings of batch, with parameters already set
+	 */
+	public OGPBatchProver(OGPConfigurationSettings settings) {
+		this.settings = settings;
+		this.entries = new ArrayList<BatchEntry>();
+	}
+
+
+
+	/*
+	 * ======================================================================
+	 * ========================== SPECIFIC METHODS ==========================
+	 * ======================================================================
+	 */
+	/**
+	 * Method that proves all theorems of batch and writes table with results.
+	 *
+	 * @return	RET_CODE_SUCCESS if all theorems have been processed (regardless of
+	 * 			their results) and table is written, or ERR_CODE_GENERAL otherwise
+	 */
+	public int prove() {
+		ILogger logger = this.settings.getLogger();
+		OGPParameters parameters = this.settings.getParameters();
+
+		if (this.collectEntries(parameters.getBatchInput()) != OGPConstants.RET_CODE_SUCCESS)
+			return OGPConstants.ERR_CODE_GENERAL;
+
+		if (this.entries.size() == 0) {
+			logger.error("There are no theorems in batch " + parameters.getBatchInput() + ".");
+			return OGPConstants.ERR_CODE_GENERAL;
+		}
+
+		int numOfWorkers = Math.min(parameters.getBatchWorkers(), this.entries.size());
+		logger.info("Proving batch of " + this.entries.size() + " theorems with " + numOfWorkers + " worker thread(s)...");
+
+		// the biggest theorems go first to the queue of pool
+		List<BatchEntry> queue = new ArrayList<BatchEntry>(this.entries);
+		Collections.sort(queue, new Comparator<BatchEntry>() {
+			public int compare(BatchEntry e1, BatchEntry e2) {
+				if (e1.fileSize != e2.fileSize)
+					return (e1.fileSize > e2.fileSize) ? -1 : 1;
+				return e1.index - e2.index;
+			}
+		});
+
+		ExecutorService pool = Executors.newFixedThreadPool(numOfWorkers, new ThreadFactory() {
+			private AtomicInteger counter = new AtomicInteger(0);
+
+			public Thread newThread(Runnable r) {
+				return new Thread(r, "ogp-batch-" + this.counter.incrementAndGet());
+			}
+		});
+
+		for (final BatchEntry entry : queue) {
+			pool.execute(new Runnable() {
+				public void run() {
+					OGPBatchProver.this.proveEntry(entry);
+				}
+			});
+		}
+
+		pool.shutdown();
+		try {
+			while (!pool.awaitTermination(1, TimeUnit.SECONDS))
+				;
+		} catch (InterruptedException e) {
+			pool.shutdownNow();
+			Thread.currentThread().interrupt();
+			logger.error("Interrupted while waiting for theorems of batch to be proved.");
+			return OGPConstants.ERR_CODE_GENERAL;
+		}
+
+		this.logSummary();
+		return this.writeResults(parameters.getBatchResults());
+	}
+
+	/**
+	 * Method that collects theorems of batch. Input is either directory, when all
+	 * xml files with theorems from that directory are taken, or manifest file with
+	 * one theorem per line. Line of manifest contains name of xml file (relative to
+	 * directory of manifest) optionally followed by command line options which are
+	 * applied only to that theorem; empty lines and lines starting with '#' are skipped.
+	 *
+	 * @param batchInput	Name of directory or manifest file
+	 * @return				RET_CODE_SUCCESS if theorems are collected, ERR_CODE_GENERAL otherwise
+	 */
+	private int collectEntries(String batchInput) {
+		ILogger logger = this.settings.getLogger();
+		File input = new File(batchInput);
+
+		if (input.isDirectory()) {
+			File[] files = input.listFiles();
+
+			if (files == null) {
+				logger.error("Failed to list files of directory " + batchInput + ".");
+				return OGPConstants.ERR_CODE_GENERAL;
+			}
+
+			Arrays.sort(files);
+			for (File file : files) {
+				if (file.isFile() && file.getName().endsWith(".xml"))
+					this.addEntry(file, new String[0], false);
+			}
+			return OGPConstants.RET_CODE_SUCCESS;
+		}
+
+		if (!input.isFile()) {
+			logger.error("Batch of theorems " + batchInput + " doesn't exist.");
+			return OGPConstants.ERR_CODE_GENERAL;
+		}
+
+		BufferedReader reader = null;
+
+		try {
+			reader = new BufferedReader(new FileReader(input));
+			String line;
+
+			while ((line = reader.readLine()) != null) {
+				line = line.trim();
+				if (line.length() == 0 || line.charAt(0) == '#')
+					continue;
+
+				String[] tokens = line.split("\\s+");
+				File file = new File(tokens[0]);
+
+				if (!file.isAbsolute())
+					file = new File(input.getAbsoluteFile().getParentFile(), tokens[0]);
+
+				if (!file.isFile()) {
+					logger.error("Theorem " + tokens[0] + " from manifest file " + batchInput + " doesn't exist - skipping it.");
+					continue;
+				}
+				this.addEntry(file, Arrays.asList(tokens).subList(1, tokens.length).toArray(new String[tokens.length - 1]), true);
+			}
+		} catch (IOException e) {
+			logger.error("Failed to read manifest file " + batchInput + ": " + e.getMessage());
+			return OGPConstants.ERR_CODE_GENERAL;
+		} finally {
+			if (reader != null) {
+				try {
+					reader.close();
+				} catch (IOException e) {
+					// nothing to do - file has already been read
+				}
+			}
+		}
+
+		return OGPConstants.RET_CODE_SUCCESS;
+	}
+
+	/**
+	 * Method that adds theorem to batch; format of theorem is recognized
+	 * from content of its file.
+	 *
+	 * @param file		File with theorem
+	 * @param options	Command line options for this theorem
+	 * @param explicit	Whether file is explicitly listed in manifest; if not,
+	 * 					xml files which don't contain theorem are silently skipped
+	 */
+	private void addEntry(File file, String[] options, boolean explicit) {
+		String format = OGPBatchProver.recognizeFormat(file);
+
+		if (format == null) {
+			if (explicit)
+				this.settings.getLogger().error("File " + file.getPath() + " doesn't contain theorem in known xml format - skipping it.");
+			return;
+		}
+
+		BatchEntry entry = new BatchEntry();
+		entry.index = this.entries.size();
+		entry.file = file;
+		entry.fileSize = file.length();
+		entry.inputFormat = format;
+		entry.options = options;
+		this.entries.add(entry);
+	}
+
+	/**
+	 * <i>[static method]</i><br>
+	 * Method that recognizes format of xml file with theorem from beginning of file.
+	 *
+	 * @param file	Xml file
+	 * @return		"A" for algebraic form of theorem, "O" for OGP construction protocol
+	 * 				or null if format is not recognized or file can't be read
+	 */
+	public static String recognizeFormat(File file) {
+		FileReader reader = null;
+
+		try {
+			reader = new FileReader(file);
+			char[] buffer = new char[OGPBatchProver.FORMAT_PREFIX_LENGTH];
+			int length = reader.read(buffer);
+
+			if (length <= 0)
+				return null;
+
+			String prefix = new String(buffer, 0, length);
+
+			if (prefix.indexOf("<xpolysys") >= 0)
+				return "A";
+			if (prefix.indexOf("<constructions") >= 0)
+				return "O";
+			return null;
+		} catch (IOException e) {
+			return null;
+		} finally {
+			if (reader != null) {
+				try {
+					reader.close();
+				} catch (IOException e) {
+					// nothing to do
+				}
+			}
+		}
+	}
+
+	/**
+	 * Method that proves one theorem of batch and records its results in entry.
+	 * This method is executed by worker thread.
+	 *
+	 * @param entry		Theorem of batch
+	 */
+	private void proveEntry(BatchEntry entry) {
+		long startTime = System.currentTimeMillis();
+		OGPConfigurationSettings proofSettings = new OGPConfigurationSettings(this.settings);
+		OGPParameters parameters = proofSettings.getParameters();
+		String fileName = entry.file.getName();
+
+		parameters.putInputFile(entry.file.getPath());
+		parameters.putInputFormat(entry.inputFormat);
+		parameters.putOutputFile(fileName.substring(0, fileName.length() - ".xml".length()));
+
+		int retCode = OGPConstants.RET_CODE_SUCCESS;
+
+		// options from manifest are applied to settings of this proof
+		if (entry.options.length > 0) {
+			OGPConfigurationSettings previous = OpenGeoProver.setThreadSettings(proofSettings);
+
+			try {
+				retCode = OGPParameters.readParametersFromCommandLine(entry.options);
+			} finally {
+				OpenGeoProver.setThreadSettings(previous);
+			}
+		}
+
+		if (retCode != OGPConstants.RET_CODE_SUCCESS) {
+			proofSettings.getLogger().error("Bad options for theorem " + entry.file.getPath() + " in manifest file.");
+			proofSettings.getTimer().cancel();
+			entry.retCode = OGPConstants.ERR_CODE_GENERAL;
+		}
+		else
+			entry.retCode = OpenGeoProver.runProver(proofSettings);
+
+		entry.status = OGPBatchProver.getStatus(entry.retCode, proofSettings.getOgpMode());
+		entry.proverTime = proofSettings.getStopwacth().getTimeIntMillisec();
+		entry.wallTime = System.currentTimeMillis() - startTime;
+		entry.maxNumOfTerms = proofSettings.getMaxNumOfTerms();
+
+		proofSettings.getLogger().info("Theorem " + entry.file.getPath() + ": " + entry.status + " (" + entry.wallTime + " ms)");
+	}
+
+	/**
+	 * <i>[static method]</i><br>
+	 * Method that gives status of proof for its return code.
+	 *
+	 * @param retCode	Return code of proof
+	 * @param ogpMode	Execution mode of proof
+	 * @return			Status of proof (one of STATUS_xxx values)
+	 */
+	public static String getStatus(int retCode, int ogpMode) {
+		if (retCode == OGPConstants.ERR_CODE_TIME)
+			return OGPBatchProver.STATUS_TIME_LIMIT;
+		if (retCode == OGPConstants.ERR_CODE_SPACE)
+			return OGPBatchProver.STATUS_SPACE_LIMIT;
+
+		if (ogpMode == OGPConstants.OGP_MODE_RC_CONSTRUCTIBILITY)
+			return (retCode == OGPConstants.RET_CODE_SUCCESS) ? OGPBatchProver.STATUS_TRANSFORMED : OGPBatchProver.STATUS_ERROR;
+
+		switch (retCode) {
+		case TheoremProver.THEO_PROVE_RET_CODE_TRUE:
+			return OGPBatchProver.STATUS_PROVED;
+		case TheoremProver.THEO_PROVE_RET_CODE_TRUE_MODULAR:
+			return OGPBatchProver.STATUS_PROVED_MODULAR;
+		case TheoremProver.THEO_PROVE_RET_CODE_FALSE:
+			return OGPBatchProver.STATUS_DISPROVED;
+		case TheoremProver.THEO_PROVE_RET_CODE_UNKNOWN:
+			return OGPBatchProver.STATUS_UNKNOWN;
+		default:
+			return OGPBatchProver.STATUS_ERROR;
+		}
+	}
+
+	/**
+	 * Method that writes number of theorems with each status to log.
+	 */
+	private void logSummary() {
+		String[] statuses = { OGPBatchProver.STATUS_PROVED, OGPBatchProver.STATUS_PROVED_MODULAR,
+							  OGPBatchProver.STATUS_DISPROVED, OGPBatchProver.STATUS_UNKNOWN,
+							  OGPBatchProver.STATUS_TRANSFORMED, OGPBatchProver.STATUS_TIME_LIMIT,
+							  OGPBatchProver.STATUS_SPACE_LIMIT, OGPBatchProver.STATUS_ERROR };
+		StringBuilder sb = new StringBuilder("Batch of ");
+
+		sb.append(this.entries.size());
+		sb.append(" theorems finished:");
+		for (String status : statuses) {
+			int count = 0;
+
+			for (BatchEntry entry : this.entries) {
+				if (status.equals(entry.status))
+					count++;
+			}
+			if (count > 0) {
+				sb.append(" ");
+				sb.append(status);
+				sb.append(" - ");
+				sb.append(count);
+				sb.append(";");
+			}
+		}
+		this.settings.getLogger().info(sb.toString());
+	}
+
+	/**
+	 * Method that writes table with results of all theorems of batch, in input order.
+	 *
+	 * @param fileName	Name of output file; if it ends with ".json" JSON array is written,
+	 * 					otherwise CSV table is written
+	 * @return			RET_CODE_SUCCESS if table is written, ERR_CODE_GENERAL otherwise
+	 */
+	private int writeResults(String fileName) {
+		boolean json = fileName.endsWith(".json");
+		StringBuilder sb = new StringBuilder();
+
+		if (json) {
+			sb.append("[\n");
+			for (int ii = 0, size = this.entries.size(); ii < size; ii++) {
+				BatchEntry entry = this.entries.get(ii);
+
+				sb.append("  {\"theorem\": \"");
+				sb.append(OGPBatchProver.escapeJSON(entry.file.getPath()));
+				sb.append("\", \"format\": \"");
+				sb.append(entry.inputFormat);
+				sb.append("\", \"status\": \"");
+				sb.append(entry.status);
+				sb.append("\", \"retCode\": ");
+				sb.append(entry.retCode);
+				sb.append(", \"proverTimeMs\": ");
+				sb.append(Math.round(entry.proverTime));
+				sb.append(", \"wallTimeMs\": ");
+				sb.append(entry.wallTime);
+				sb.append(", \"maxNumOfTerms\": ");
+				sb.append(entry.maxNumOfTerms);
+				sb.append((ii < size - 1) ? "},\n" : "}\n");
+			}
+			sb.append("]\n");
+		}
+		else {
+			sb.append("theorem,format,status,return code,prover time (ms),wall time (ms),max number of terms\n");
+			for (BatchEntry entry : this.entries) {
+				sb.append(OGPBatchProver.escapeCSV(entry.file.getPath()));
+				sb.append(",");
+				sb.append(entry.inputFormat);
+				sb.append(",");
+				sb.append(entry.status);
+				sb.append(",");
+				sb.append(entry.retCode);
+				sb.append(",");
+				sb.append(Math.round(entry.proverTime));
+				sb.append(",");
+				sb.append(entry.wallTime);
+				sb.append(",");
+				sb.append(entry.maxNumOfTerms);
+				sb.append("\n");
+			}
+		}
+
+		CustomFileWriter writer = null;
+
+		try {
+			writer = new CustomFileWriter(fileName);
+			writer.write(sb.toString());
+		} catch (IOException e) {
+			this.settings.getLogger().error("Failed to write results of batch to file " + fileName + ".");
+			return OGPConstants.ERR_CODE_GENERAL;
+		} finally {
+			if (writer != null)
+				writer.close();
+		}
+
+		this.settings.getLogger().info("Results of batch are written to file " + writer.getOutputFile().getPath() + ".");
+		return OGPConstants.RET_CODE_SUCCESS;
+	}
+
+	/**
+	 * <i>[static method]</i><br>
+	 * Method that escapes value for CSV table.
+	 *
+	 * @param value		Value
+	 * @return			Value in quotes if it contains comma or quote, value itself otherwise
+	 */
+	private static String escapeCSV(String value) {
+		if (value.indexOf(',') < 0 && value.indexOf('"') < 0)
+			return value;
+		return "\"" + value.replace("\"", "\"\"") + "\"";
+	}
+
+	/**
+	 * <i>[static method]</i><br>
+	 * Method that escapes value for JSON string.
+	 *
+	 * @param value		Value
+	 * @return			Value with escaped backslashes and quotes
+	 */
+	private static String escapeJSON(String value) {
+		return value.replace("\\", "\\\\").replace("\"", "\\\"");
+	}
+
+
+
+	/*
+	 * ======================================================================
+	 * ========================== INNER CLASSES =============================
+	 * ======================================================================
+	 */
+	/**
+	 * Theorem of batch with results of its proof
+	 */
+	public static class BatchEntry {
+		/**
+		 * Position of theorem in batch
+		 */
+		private int index;
+		/**
+		 * Xml file with theorem
+		 */
+		private File file;
+		/**
+		 * Size of file - used as estimation of complexity of proof
+		 */
+		private long fileSize;
+		/**
+		 * Format of input file ("O" or "A")
+		 */
+		private String inputFormat;
+		/**
+		 * Command line options for this theorem
+		 */
+		private String[] options;
+		/**
+		 * Return code of proof
+		 */
+		private volatile int retCode = OGPConstants.ERR_CODE_GENERAL;
+		/**
+		 * Status of proof (one of OGPBatchProver.STATUS_xxx values)
+		 */
+		private volatile String status = OGPBatchProver.STATUS_ERROR;
+		/**
+		 * Time spent by prover in milliseconds
+		 */
+		private volatile double proverTime;
+		/**
+		 * Total time spent for this theorem in milliseconds
+		 */
+		private volatile long wallTime;
+		/**
+		 * Number of terms of the biggest polynomial obtained during proof
+		 */
+		private volatile int maxNumOfTerms;
+
+		/**
+		 * @return	Xml file with theorem
+		 */
+		public File getFile() {
+			return this.file;
+		}
+
+		/**
+		 * @return	Return code of proof
+		 */
+		public int getRetCode() {
+			return this.retCode;
+		}
+
+		/**
+		 * @return	Status of proof
+		 */
+		public String getStatus() {
+			return this.status;
+		}
+
+		/**
+		 * @return	Time spent by prover in milliseconds
+		 */
+		public double getProverTime() {
+			return this.proverTime;
+		}
+
+		/**
+		 * @return	Total time spent for theorem in milliseconds
+		 */
+		public long getWallTime() {
+			return this.wallTime;
+		}
+
+		/**
+		 * @return	Number of terms of the biggest polynomial obtained during proof
+		 */
+		public int getMaxNumOfTerms() {
+			return this.maxNumOfTerms;
+		}
+	}
+}
@@ -8,6 +8,8 @@ import java.text.SimpleDateFormat;
 import java.util.Calendar;
 
 import com.ogprover.pp.tp.OGPTP;
+import com.ogprover.utilities.OGPMemoryBudget;
+import com.ogprover.utilities.OGPMetrics;
 import com.ogprover.utilities.OGPTimer;
 import com.ogprover.utilities.Stopwatch;
 import com.ogprover.utilities.io.OGPOutput;
@@ -63,6 +65,14 @@ public class OGPConfigurationSettings {
 	 * Timer used to limit the prover's execution time
 	 */
 	private OGPTimer timer = null;
+	/**
+	 * Budget used to limit the memory of polynomials in prover's work
+	 */
+	private OGPMemoryBudget memoryBudget = null;
+	/**
+	 * Metrics of phases of proof (time, allocated bytes and sizes of polynomials)
+	 */
+	private OGPMetrics metrics = null;
 	/**
 	 * Utility to measure time spent for execution of some parts of prover's work
 	 */
@@ -111,6 +121,10 @@ public class OGPConfigurationSettings {
 	 * Theorem protocol obtained from parsing and conversion
 	 */
 	private OGPTP parsedTP = null;
+	/**
+	 * Result of proof which is taken from or put to cache of proofs (null if there is no such result)
+	 */
+	private OGPProofCache.CacheEntry proofCacheEntry = null;
 	/*
 	 * Return codes of some operations 
 	 */
@@ -180,6 +194,42 @@ public class OGPConfigurationSettings {
 		return timer;
 	}
 
+	/**
+	 * Method that sets memory budget of prover
+	 * 
+	 * @param memoryBudget The memory budget to set
+	 */
+	public void setMemoryBudget(OGPMemoryBudget memoryBudget) {
+		this.memoryBudget = memoryBudget;
+	}
+
+	/**
+	 * Method that retrieves memory budget of prover
+	 * 
+	 * @return The prover's memory budget
+	 */
+	public OGPMemoryBudget getMemoryBudget() {
+		return memoryBudget;
+	}
+
+	/**
+	 * Method that sets metrics of proof
+	 * 
+	 * @param metrics The metrics to set
+	 */
+	public void setMetrics(OGPMetrics metrics) {
+		this.metrics = metrics;
+	}
+
+	/**
+	 * Method that retrieves metrics of proof
+	 * 
+	 * @return The prover's metrics
+	 */
+	public OGPMetrics getMetrics() {
+		return metrics;
+	}
+
 	/**
 	 * Method that sets the stopwatch
 	 * 
@@ -204,17 +254,29 @@ public class OGPConfigurationSettings {
 	 * 
 	 * @param maxNumOfTerms The maximal number of terms to set
 	 */
-	public void setMaxNumOfTerms(int maxNumOfTerms) {
+	public synchronized void setMaxNumOfTerms(int maxNumOfTerms) {
 		this.maxNumOfTerms = maxNumOfTerms;
 	}
 
+	/**
+	 * Method that updates the maximal number of terms in polynomials 
+	 * obtained during execution of prover; it can be called from 
+	 * several threads (e.g. in concurrent pseudo divisions)
+	 * 
+	 * @param numOfTerms Number of terms of obtained polynomial
+	 */
+	public synchronized void updateMaxNumOfTerms(int numOfTerms) {
+		if (numOfTerms > this.maxNumOfTerms)
+			this.maxNumOfTerms = numOfTerms;
+	}
+
 	/**
 	 * Method that retrieves the maximal number of terms in polynomials 
 	 * obtained during execution of prover
 	 * 
 	 * @return The maximal number of terms
 	 */
-	public int getMaxNumOfTerms() {
+	public synchronized int getMaxNumOfTerms() {
 		return maxNumOfTerms;
 	}
 
@@ -264,6 +326,20 @@ public class OGPConfigurationSettings {
 		return parsedTP;
 	}
 
+	/**
+	 * @param proofCacheEntry the proofCacheEntry to set
+	 */
+	public void setProofCacheEntry(OGPProofCache.CacheEntry proofCacheEntry) {
+		this.proofCacheEntry = proofCacheEntry;
+	}
+
+	/**
+	 * @return the proofCacheEntry
+	 */
+	public OGPProofCache.CacheEntry getProofCacheEntry() {
+		return proofCacheEntry;
+	}
+
 	/**
 	 * @param retCodeOfPseudoDivision the retCodeOfPseudoDivision to set
 	 */
@@ -290,7 +366,7 @@ public class OGPConfigurationSettings {
 	 * Default constructor method
 	 */
 	public OGPConfigurationSettings() {
-		this(null);
+		this((String)null);
 	}
 	
 	/**
@@ -314,6 +390,8 @@ public class OGPConfigurationSettings {
 		this.setParameters(new OGPParameters());
 		this.setOutput(new OGPOutput(null, null));
 		this.setTimer(new OGPTimer());
+		this.setMemoryBudget(new OGPMemoryBudget());
+		this.setMetrics(new OGPMetrics());
 		this.setStopwacth(new Stopwatch());
 		
 		if (logFileName != null)
@@ -328,6 +406,25 @@ public class OGPConfigurationSettings {
 		this.setLogger(FileLogger.getLogger(logFileRootDirectory, this.logFileName));
 	}
 	
+	/**
+	 * Constructor method - creates settings for one proof of batch of theorems.
+	 * Parameters are copied from specified settings, while logger is shared with them.
+	 * 
+	 * @param settings	Settings of batch
+	 */
+	public OGPConfigurationSettings(OGPConfigurationSettings settings) {
+		this.setParameters(new OGPParameters(settings.getParameters()));
+		this.setOutput(new OGPOutput(null, null));
+		this.setTimer(new OGPTimer());
+		this.setMemoryBudget(new OGPMemoryBudget());
+		this.setMetrics(new OGPMetrics());
+		this.setStopwacth(new Stopwatch());
+		this.ogpMode = settings.ogpMode;
+		this.logFileName = settings.logFileName;
+		// new logger with same name would add one more appender to same log file
+		this.setLogger(settings.getLogger());
+	}
+	
 	
 
 	/*
@@ -359,7 +456,28 @@ public class OGPConfigurationSettings {
 		this.logger.error(sb.toString());
 		
 		this.setRetCodeOfPseudoDivision(OGPConstants.ERR_CODE_SPACE);
-		this.maxNumOfTerms = numOfTerms;
+		this.setMaxNumOfTerms(numOfTerms);
+	}
+	
+	/**
+	 * Method to log error during pseudo division when memory budget is exceeded.
+	 * It is called from pseudo division algorithm to save
+	 * output results that can be read later by prover to write
+	 * them in reports.
+	 * 
+	 * @param numOfTerms	Number of terms of obtained polynomial
+	 */
+	public void logMemoryErrorInPseudoDivision(int numOfTerms) {
+		StringBuilder sb = new StringBuilder();
+		sb.append("Memory limit of ");
+		sb.append(this.memoryBudget.getLimit() >> 20);
+		sb.append(" MB exceeded in pseudo division. Obtained polynomial with ");
+		sb.append(numOfTerms);
+		sb.append(" terms");
+		this.logger.error(sb.toString());
+		
+		this.setRetCodeOfPseudoDivision(OGPConstants.ERR_CODE_SPACE);
+		this.updateMaxNumOfTerms(numOfTerms);
 	}
 	
 	/**
@@ -131,6 +131,50 @@ public class OGPConstants {
 	 * <i><b>Default parameter value for space limit</b></i>
 	 */
 	public static final String DEF_VAL_PARAM_SPACE_LIMIT = "2000"; // maximal number of terms
+	/**
+	 * <i><b>Default parameter value for memory limit (part of heap of JVM is used)</b></i>
+	 */
+	public static final String DEF_VAL_PARAM_MEMORY_LIMIT = "0"; // in megabytes
+	/**
+	 * <i><b>Default parameter value for storage of polynomial terms</b></i>
+	 */
+	public static final String DEF_VAL_PARAM_POLY_STORAGE = "T"; // tree map
+	/**
+	 * <i><b>Default parameter value for arithmetic of coefficients</b></i>
+	 */
+	public static final String DEF_VAL_PARAM_ARITHMETIC = "D"; // double values
+	/**
+	 * <i><b>Default parameter value for profile file with costs of polynomial multiplication</b></i>
+	 */
+	public static final String DEF_VAL_PARAM_COST_PROFILE = null;
+	/**
+	 * <i><b>Default parameter value for input of batch of theorems (no batch)</b></i>
+	 */
+	public static final String DEF_VAL_PARAM_BATCH_INPUT = null;
+	/**
+	 * <i><b>Default parameter value for number of theorems proved at same time in batch</b></i>
+	 */
+	public static final String DEF_VAL_PARAM_BATCH_WORKERS = "1";
+	/**
+	 * <i><b>Default parameter value for file with table of results of batch</b></i>
+	 */
+	public static final String DEF_VAL_PARAM_BATCH_RESULTS = "batch_results.csv";
+	/**
+	 * <i><b>Default parameter value for daemon mode (not in daemon mode)</b></i>
+	 */
+	public static final String DEF_VAL_PARAM_DAEMON = null;
+	/**
+	 * <i><b>Default parameter value for directory of cache of proofs (results are kept only in memory)</b></i>
+	 */
+	public static final String DEF_VAL_PARAM_PROOF_CACHE = null;
+	/**
+	 * <i><b>Default parameter value for polynomials in output reports (big polynomials are truncated)</b></i>
+	 */
+	public static final String DEF_VAL_PARAM_REPORT_POLYNOMIALS = "T";
+	/**
+	 * <i><b>Default parameter value for numeric check of statement (check is performed)</b></i>
+	 */
+	public static final String DEF_VAL_PARAM_NUMERIC_CHECK = "T";
 	
 	
 	
@@ -8,7 +8,10 @@ import java.util.HashMap;
 
 import org.apache.log4j.Level;
 
+import com.ogprover.polynomials.Polynomial;
+import com.ogprover.polynomials.UTerm;
 import com.ogprover.thmprover.TheoremProver;
+import com.ogprover.utilities.OGPMemoryBudget;
 import com.ogprover.utilities.logger.ILogger;
 
 
@@ -38,7 +41,9 @@ public class OGPParameters {
 	
 	// list of parameters' names
 	// usage of parameters/options:
-	// 		OGP [-M ogpMode]-I theorem01[.gcl/xml] -i G -O theorem01_output -o A -p W -c 2 -l B [-v] -t 10000 -s 2000
+	// 		OGP [-M ogpMode]-I theorem01[.gcl/xml] -i G -O theorem01_output -o A -p W -c 2 -l B [-v] -t 10000 -s 2000 [-u 512] [-e T] [-a D] [-m costs.properties] [-k cache_dir/N] [-f T] [-n T]
+	//		OGP -b theorems_dir[/manifest.txt] [-w 4] [-r results.csv/json] (other options are applied to each theorem of batch)
+	//		OGP -d stdin/port [-w 4] (other options are applied to each request of daemon)
 	// there is default value for each parameter; they are defined in OGPConstants.java class as
 	// DEF_VAL_PARAM_xxx values.
 	/**
@@ -122,6 +127,86 @@ public class OGPParameters {
 	 * </b></i>
 	 */
 	public static final String PARAM_SPACE_LIMIT = "s";
+	/**
+	 * <i><b>
+	 * Parameter for memory limit as maximal estimated size in megabytes of polynomials 
+	 * in work during proving process; zero means that part of heap of JVM is used
+	 * </b></i>
+	 */
+	public static final String PARAM_MEMORY_LIMIT = "u";
+	/**
+	 * <i><b>
+	 * Parameter for storage of terms of x-polynomials; default is "T" (tree map), 
+	 * and can also be "A" (sorted arrays with merge based operations)
+	 * </b></i>
+	 */
+	public static final String PARAM_POLY_STORAGE = "e";
+	/**
+	 * <i><b>
+	 * Parameter for arithmetic of coefficients of u-terms; default is "D" (double values), 
+	 * and can also be "E" (exact rational numbers) or "M" (calculation modulo primes in Wu's method)
+	 * </b></i>
+	 */
+	public static final String PARAM_ARITHMETIC = "a";
+	/**
+	 * <i><b>
+	 * Parameter for name of profile file with costs of polynomial multiplication, used to choose 
+	 * between sequential, concurrent and Karatsuba-style multiplication; if omitted, costs are 
+	 * measured on first use; if file doesn't exist, measured costs are saved to it
+	 * </b></i>
+	 */
+	public static final String PARAM_COST_PROFILE = "m";
+	/**
+	 * <i><b>
+	 * Parameter for input of batch of theorems - directory with xml files or manifest file 
+	 * with one theorem per line; if it is set, all theorems of batch are proved instead of 
+	 * single input file
+	 * </b></i>
+	 */
+	public static final String PARAM_BATCH_INPUT = "b";
+	/**
+	 * <i><b>
+	 * Parameter for number of worker threads which prove theorems of batch at same time
+	 * </b></i>
+	 */
+	public static final String PARAM_BATCH_WORKERS = "w";
+	/**
+	 * <i><b>
+	 * Parameter for name of file with table of results of batch; it is JSON file when
+	 * name has extension ".json" and CSV file otherwise
+	 * </b></i>
+	 */
+	public static final String PARAM_BATCH_RESULTS = "r";
+	/**
+	 * <i><b>
+	 * Parameter for daemon mode - value "stdin" for requests from standard input or number of 
+	 * local TCP port; if it is set, prover stays running and proves theorems from requests 
+	 * in JSON form (one request per line) instead of single input file
+	 * </b></i>
+	 */
+	public static final String PARAM_DAEMON = "d";
+	/**
+	 * <i><b>
+	 * Parameter for directory of cache of proofs, where results of proved theorems are 
+	 * kept for next runs of prover; value "N" turns the cache off
+	 * </b></i>
+	 */
+	public static final String PARAM_PROOF_CACHE = "k";
+	/**
+	 * <i><b>
+	 * Parameter for polynomials in output reports; default is "T" (big polynomials are truncated 
+	 * to first terms), and can also be "F" (all terms of each polynomial are written)
+	 * </b></i>
+	 */
+	public static final String PARAM_REPORT_POLYNOMIALS = "f";
+	/**
+	 * <i><b>
+	 * Parameter for numeric check of statement before algebraic prover; default is "T" (statement 
+	 * is evaluated for random instances of construction and theorem is disproved when counterexample 
+	 * is found), and can also be "F" (check is skipped)
+	 * </b></i>
+	 */
+	public static final String PARAM_NUMERIC_CHECK = "n";
 	
 	// other variables
 	/**
@@ -155,10 +240,21 @@ public class OGPParameters {
 			key.equals(OGPParameters.PARAM_LOG_LEVEL) ||
 			key.equals(OGPParameters.PARAM_VERBOSE) ||
 			key.equals(OGPParameters.PARAM_TIME_LIMIT) ||
-			key.equals(OGPParameters.PARAM_SPACE_LIMIT))
+			key.equals(OGPParameters.PARAM_SPACE_LIMIT) ||
+			key.equals(OGPParameters.PARAM_MEMORY_LIMIT) ||
+			key.equals(OGPParameters.PARAM_POLY_STORAGE) ||
+			key.equals(OGPParameters.PARAM_ARITHMETIC) ||
+			key.equals(OGPParameters.PARAM_COST_PROFILE) ||
+			key.equals(OGPParameters.PARAM_BATCH_INPUT) ||
+			key.equals(OGPParameters.PARAM_BATCH_WORKERS) ||
+			key.equals(OGPParameters.PARAM_BATCH_RESULTS) ||
+			key.equals(OGPParameters.PARAM_DAEMON) ||
+			key.equals(OGPParameters.PARAM_PROOF_CACHE) ||
+			key.equals(OGPParameters.PARAM_REPORT_POLYNOMIALS) ||
+			key.equals(OGPParameters.PARAM_NUMERIC_CHECK))
 			return this.params.put(key, value);
 		
-		OpenGeoProver.settings.getLogger().error("Bad parameter name passed in.");
+		OpenGeoProver.getSettings().getLogger().error("Bad parameter name passed in.");
 		return null;
 	}
 	
@@ -251,7 +347,7 @@ public class OGPParameters {
 	 */
 	public String putConLevel(int n) {
 		if (n <= 0 || n > OGPConstants.maxNumOfThreads) {
-			OpenGeoProver.settings.getLogger().error("Attempt to put bad number of threads. Setting to default value of 1.");
+			OpenGeoProver.getSettings().getLogger().error("Attempt to put bad number of threads. Setting to default value of 1.");
 			return this.put(OGPParameters.PARAM_CONCURRENCY_LEVEL, "1");
 		}
 		
@@ -303,7 +399,7 @@ public class OGPParameters {
 	 */
 	public String putTimeLimit(double timeLim) {
 		if (timeLim <= 0) {
-			OpenGeoProver.settings.getLogger().error("Time limit in milliseconds must be a positive value.");
+			OpenGeoProver.getSettings().getLogger().error("Time limit in milliseconds must be a positive value.");
 			// assign default value
 			this.put(OGPParameters.PARAM_TIME_LIMIT, OGPConstants.DEF_VAL_PARAM_TIME_LIMIT);
 		}
@@ -319,7 +415,7 @@ public class OGPParameters {
 	 */
 	public String putSpaceLimit(int spaceLim) {
 		if (spaceLim <= 0) {
-			OpenGeoProver.settings.getLogger().error("Space limit in number of terms must be positive value.");
+			OpenGeoProver.getSettings().getLogger().error("Space limit in number of terms must be positive value.");
 			// assign default value
 			this.put(OGPParameters.PARAM_SPACE_LIMIT, OGPConstants.DEF_VAL_PARAM_SPACE_LIMIT);
 		}
@@ -327,6 +423,132 @@ public class OGPParameters {
 		return this.put(OGPParameters.PARAM_SPACE_LIMIT, spaceLim + "");
 	}
 	
+	/**
+	 * Method to put memory limit
+	 * 
+	 * @param memoryLim	Memory limit in megabytes to put (zero for default limit)
+	 * @return	Value of <b>OGPParameters.put(String key, String value)</b> method
+	 */
+	public String putMemoryLimit(int memoryLim) {
+		if (memoryLim < 0) {
+			OpenGeoProver.getSettings().getLogger().error("Memory limit in megabytes must not be negative value.");
+			return this.put(OGPParameters.PARAM_MEMORY_LIMIT, OGPConstants.DEF_VAL_PARAM_MEMORY_LIMIT);
+		}
+		
+		return this.put(OGPParameters.PARAM_MEMORY_LIMIT, memoryLim + "");
+	}
+	
+	/**
+	 * Method to put storage of polynomial terms
+	 * 
+	 * @param storage	Storage type to put (one of Polynomial.POLY_STORAGE_xxx values)
+	 * @return	Value of <b>OGPParameters.put(String key, String value)</b> method
+	 */
+	public String putPolyStorage(int storage) {
+		if (storage == Polynomial.POLY_STORAGE_ARRAY)
+			return this.put(OGPParameters.PARAM_POLY_STORAGE, "A");
+		return this.put(OGPParameters.PARAM_POLY_STORAGE, "T"); // tree is default
+	}
+	
+	/**
+	 * Method to put arithmetic of coefficients
+	 * 
+	 * @param arithmetic	Arithmetic to put (one of UTerm.ARITHMETIC_xxx values)
+	 * @return	Value of <b>OGPParameters.put(String key, String value)</b> method
+	 */
+	public String putArithmetic(int arithmetic) {
+		if (arithmetic == UTerm.ARITHMETIC_EXACT)
+			return this.put(OGPParameters.PARAM_ARITHMETIC, "E");
+		if (arithmetic == UTerm.ARITHMETIC_MODULAR)
+			return this.put(OGPParameters.PARAM_ARITHMETIC, "M");
+		return this.put(OGPParameters.PARAM_ARITHMETIC, "D"); // double is default
+	}
+	
+	/**
+	 * Method to put name of profile file with costs of polynomial multiplication
+	 * 
+	 * @param fileName	File name to put
+	 * @return	Value of <b>OGPParameters.put(String key, String value)</b> method
+	 */
+	public String putCostProfile(String fileName) {
+		return this.put(OGPParameters.PARAM_COST_PROFILE, fileName);
+	}
+	
+	/**
+	 * Method to put input of batch of theorems
+	 * 
+	 * @param fileName	Name of directory or manifest file to put
+	 * @return	Value of <b>OGPParameters.put(String key, String value)</b> method
+	 */
+	public String putBatchInput(String fileName) {
+		return this.put(OGPParameters.PARAM_BATCH_INPUT, fileName);
+	}
+	
+	/**
+	 * Method to put number of worker threads for batch of theorems
+	 * 
+	 * @param n	Number of worker threads to put
+	 * @return	Value of <b>OGPParameters.put(String key, String value)</b> method
+	 */
+	public String putBatchWorkers(int n) {
+		if (n <= 0 || n > OGPConstants.maxNumOfThreads) {
+			OpenGeoProver.getSettings().getLogger().error("Attempt to put bad number of worker threads. Setting to default value of 1.");
+			return this.put(OGPParameters.PARAM_BATCH_WORKERS, OGPConstants.DEF_VAL_PARAM_BATCH_WORKERS);
+		}
+		
+		return this.put(OGPParameters.PARAM_BATCH_WORKERS, n + "");
+	}
+	
+	/**
+	 * Method to put name of file with results of batch of theorems
+	 * 
+	 * @param fileName	File name to put
+	 * @return	Value of <b>OGPParameters.put(String key, String value)</b> method
+	 */
+	public String putBatchResults(String fileName) {
+		return this.put(OGPParameters.PARAM_BATCH_RESULTS, fileName);
+	}
+	
+	/**
+	 * Method to put source of requests for daemon mode
+	 * 
+	 * @param source	"stdin" or number of local TCP port to put
+	 * @return	Value of <b>OGPParameters.put(String key, String value)</b> method
+	 */
+	public String putDaemon(String source) {
+		return this.put(OGPParameters.PARAM_DAEMON, source);
+	}
+	
+	/**
+	 * Method to put directory of cache of proofs
+	 * 
+	 * @param dirName	Name of directory to put, or "N" to turn the cache off
+	 * @return	Value of <b>OGPParameters.put(String key, String value)</b> method
+	 */
+	public String putProofCache(String dirName) {
+		return this.put(OGPParameters.PARAM_PROOF_CACHE, dirName);
+	}
+	
+	/**
+	 * Method to put whether big polynomials are truncated in output reports
+	 * 
+	 * @param truncate	True to truncate big polynomials, false to write all terms
+	 * @return	Value of <b>OGPParameters.put(String key, String value)</b> method
+	 */
+	public String putReportPolynomials(boolean truncate) {
+		return this.put(OGPParameters.PARAM_REPORT_POLYNOMIALS, truncate ? "T" : "F");
+	}
+	
+	/**
+	 * Method to put whether statement is checked numerically before algebraic prover
+	 * 
+	 * @param check		True to check statement numerically, false to skip the check
+	 * @return	Value of <b>OGPParameters.put(String key, String value)</b> method
+	 */
+	public String putNumericCheck(boolean check) {
+		return this.put(OGPParameters.PARAM_NUMERIC_CHECK, check ? "T" : "F");
+	}
+	
 	
 	/**
 	 * Method for fetching a value assigned to specified parameter.
@@ -345,10 +567,21 @@ public class OGPParameters {
 			key.equals(OGPParameters.PARAM_LOG_LEVEL) ||
 			key.equals(OGPParameters.PARAM_VERBOSE) ||
 			key.equals(OGPParameters.PARAM_TIME_LIMIT) ||
-			key.equals(OGPParameters.PARAM_SPACE_LIMIT))
+			key.equals(OGPParameters.PARAM_SPACE_LIMIT) ||
+			key.equals(OGPParameters.PARAM_MEMORY_LIMIT) ||
+			key.equals(OGPParameters.PARAM_POLY_STORAGE) ||
+			key.equals(OGPParameters.PARAM_ARITHMETIC) ||
+			key.equals(OGPParameters.PARAM_COST_PROFILE) ||
+			key.equals(OGPParameters.PARAM_BATCH_INPUT) ||
+			key.equals(OGPParameters.PARAM_BATCH_WORKERS) ||
+			key.equals(OGPParameters.PARAM_BATCH_RESULTS) ||
+			key.equals(OGPParameters.PARAM_DAEMON) ||
+			key.equals(OGPParameters.PARAM_PROOF_CACHE) ||
+			key.equals(OGPParameters.PARAM_REPORT_POLYNOMIALS) ||
+			key.equals(OGPParameters.PARAM_NUMERIC_CHECK))
 			return this.params.get(key);
 		
-		OpenGeoProver.settings.getLogger().error("Bad parameter name passed in.");
+		OpenGeoProver.getSettings().getLogger().error("Bad parameter name passed in.");
 		return null;
 	}
 	
@@ -364,7 +597,7 @@ public class OGPParameters {
 		if (value.equals("C"))
 			return OGPConstants.OGP_MODE_RC_CONSTRUCTIBILITY;
 		
-		OpenGeoProver.settings.getLogger().error("Bad value assigned to parameter");
+		OpenGeoProver.getSettings().getLogger().error("Bad value assigned to parameter");
 		
 		return OGPConstants.ERR_CODE_GENERAL;
 	}
@@ -410,7 +643,7 @@ public class OGPParameters {
 		if (value.equals("A"))
 			return TheoremProver.TP_TYPE_AREA;
 		
-		OpenGeoProver.settings.getLogger().error("Bad value assigned to parameter");
+		OpenGeoProver.getSettings().getLogger().error("Bad value assigned to parameter");
 		
 		return OGPConstants.ERR_CODE_GENERAL;
 	}
@@ -423,7 +656,7 @@ public class OGPParameters {
 		int n = Integer.parseInt(value);
 		
 		if (n <= 0 || n > OGPConstants.maxNumOfThreads) {
-			OpenGeoProver.settings.getLogger().error("Bad value assigned to parameter");
+			OpenGeoProver.getSettings().getLogger().error("Bad value assigned to parameter");
 			return OGPConstants.ERR_CODE_GENERAL;
 		}
 		
@@ -457,7 +690,7 @@ public class OGPParameters {
 			retCode = Level.DEBUG;
 			break;
 		default: // default is basic level
-			OpenGeoProver.settings.getLogger().error("Bad value assigned to log level parameter.");
+			OpenGeoProver.getSettings().getLogger().error("Bad value assigned to log level parameter.");
 			break;
 		}
 		
@@ -482,13 +715,32 @@ public class OGPParameters {
 		long timeLim = Math.round(Double.parseDouble(value));
 		
 		if (timeLim <= 0) {
-			OpenGeoProver.settings.getLogger().error("Bad value assigned to parameter");
+			OpenGeoProver.getSettings().getLogger().error("Bad value assigned to parameter");
 			return OGPConstants.ERR_CODE_GENERAL;
 		}
 		
 		return timeLim;
 	}
 	
+	/**
+	 * @return	Integer value of memory limit in megabytes (zero if it is not set)
+	 */
+	public int getMemoryLimit() {
+		return Integer.parseInt(this.get(OGPParameters.PARAM_MEMORY_LIMIT));
+	}
+	
+	/**
+	 * @return	Memory limit in bytes for one proof - if memory limit is not set, it is part of
+	 * 			heap of JVM divided among proofs of batch which run at same time
+	 */
+	public long getMemoryLimitInBytes() {
+		int memoryLim = this.getMemoryLimit();
+		
+		if (memoryLim > 0)
+			return ((long)memoryLim) << 20;
+		return OGPMemoryBudget.getDefaultLimit(this.getBatchWorkers());
+	}
+	
 	/**
 	 * @return	Integer value of space limit
 	 */
@@ -497,13 +749,93 @@ public class OGPParameters {
 		int spaceLim = Integer.parseInt(value);
 		
 		if (spaceLim <= 0) {
-			OpenGeoProver.settings.getLogger().error("Bad value assigned to parameter");
+			OpenGeoProver.getSettings().getLogger().error("Bad value assigned to parameter");
 			return OGPConstants.ERR_CODE_GENERAL;
 		}
 		
 		return spaceLim;
 	}
 	
+	/**
+	 * @return	Constant representing storage of polynomial terms
+	 */
+	public int getPolyStorage() {
+		String value = this.get(OGPParameters.PARAM_POLY_STORAGE);
+		
+		if (value.equals("A"))
+			return Polynomial.POLY_STORAGE_ARRAY;
+		return Polynomial.POLY_STORAGE_TREE;
+	}
+	
+	/**
+	 * @return	Constant representing arithmetic of coefficients
+	 */
+	public int getArithmetic() {
+		String value = this.get(OGPParameters.PARAM_ARITHMETIC);
+		
+		if (value.equals("E"))
+			return UTerm.ARITHMETIC_EXACT;
+		if (value.equals("M"))
+			return UTerm.ARITHMETIC_MODULAR;
+		return UTerm.ARITHMETIC_DOUBLE;
+	}
+	
+	/**
+	 * @return	Name of profile file with costs of polynomial multiplication
+	 */
+	public String getCostProfile() {
+		return this.get(OGPParameters.PARAM_COST_PROFILE);
+	}
+	
+	/**
+	 * @return	Name of directory or manifest file with batch of theorems (null if there is no batch)
+	 */
+	public String getBatchInput() {
+		return this.get(OGPParameters.PARAM_BATCH_INPUT);
+	}
+	
+	/**
+	 * @return	Integer value of number of worker threads for batch of theorems
+	 */
+	public int getBatchWorkers() {
+		return Integer.parseInt(this.get(OGPParameters.PARAM_BATCH_WORKERS));
+	}
+	
+	/**
+	 * @return	Name of file with results of batch of theorems
+	 */
+	public String getBatchResults() {
+		return this.get(OGPParameters.PARAM_BATCH_RESULTS);
+	}
+	
+	/**
+	 * @return	Source of requests for daemon mode - "stdin" or number of local TCP port (null if not in daemon mode)
+	 */
+	public String getDaemon() {
+		return this.get(OGPParameters.PARAM_DAEMON);
+	}
+	
+	/**
+	 * @return	Name of directory of cache of proofs (null if results are kept only in memory, "N" if cache is off)
+	 */
+	public String getProofCache() {
+		return this.get(OGPParameters.PARAM_PROOF_CACHE);
+	}
+	
+	/**
+	 * @return	True if big polynomials are truncated in output reports, false if all terms are written
+	 */
+	public boolean truncateReportPolynomials() {
+		return !this.get(OGPParameters.PARAM_REPORT_POLYNOMIALS).equals("F");
+	}
+	
+	/**
+	 * @return	True if statement is checked numerically before algebraic prover, false otherwise
+	 */
+	public boolean checkNumerically() {
+		return !this.get(OGPParameters.PARAM_NUMERIC_CHECK).equals("F");
+	}
+	
 	
 	/*
 	 * ======================================================================
@@ -518,6 +850,15 @@ public class OGPParameters {
 		this.init();
 	}
 	
+	/**
+	 * Constructor method - creates copy of parameters
+	 * 
+	 * @param parameters	Parameters to be copied
+	 */
+	public OGPParameters(OGPParameters parameters) {
+		this.params = new HashMap<String, String>(parameters.params);
+	}
+	
 	/*
 	 * ======================================================================
 	 * ======================= COMMON OBJECT METHODS ========================
@@ -538,6 +879,17 @@ public class OGPParameters {
 		this.params.put(OGPParameters.PARAM_VERBOSE, OGPConstants.DEF_VAL_PARAM_VERBOSE);
 		this.params.put(OGPParameters.PARAM_TIME_LIMIT, OGPConstants.DEF_VAL_PARAM_TIME_LIMIT);
 		this.params.put(OGPParameters.PARAM_SPACE_LIMIT, OGPConstants.DEF_VAL_PARAM_SPACE_LIMIT);
+		this.params.put(OGPParameters.PARAM_MEMORY_LIMIT, OGPConstants.DEF_VAL_PARAM_MEMORY_LIMIT);
+		this.params.put(OGPParameters.PARAM_POLY_STORAGE, OGPConstants.DEF_VAL_PARAM_POLY_STORAGE);
+		this.params.put(OGPParameters.PARAM_ARITHMETIC, OGPConstants.DEF_VAL_PARAM_ARITHMETIC);
+		this.params.put(OGPParameters.PARAM_COST_PROFILE, OGPConstants.DEF_VAL_PARAM_COST_PROFILE);
+		this.params.put(OGPParameters.PARAM_BATCH_INPUT, OGPConstants.DEF_VAL_PARAM_BATCH_INPUT);
+		this.params.put(OGPParameters.PARAM_BATCH_WORKERS, OGPConstants.DEF_VAL_PARAM_BATCH_WORKERS);
+		this.params.put(OGPParameters.PARAM_BATCH_RESULTS, OGPConstants.DEF_VAL_PARAM_BATCH_RESULTS);
+		this.params.put(OGPParameters.PARAM_DAEMON, OGPConstants.DEF_VAL_PARAM_DAEMON);
+		this.params.put(OGPParameters.PARAM_PROOF_CACHE, OGPConstants.DEF_VAL_PARAM_PROOF_CACHE);
+		this.params.put(OGPParameters.PARAM_REPORT_POLYNOMIALS, OGPConstants.DEF_VAL_PARAM_REPORT_POLYNOMIALS);
+		this.params.put(OGPParameters.PARAM_NUMERIC_CHECK, OGPConstants.DEF_VAL_PARAM_NUMERIC_CHECK);
 	}
 	
 	
@@ -568,7 +920,7 @@ public class OGPParameters {
 		sb.append("\n\n-p\tprover method - can be \"W\" for Wu's method or \"G\" for Groebner basis method - default is \"");
 		sb.append(OGPConstants.DEF_VAL_PARAM_PROVER);
 		sb.append("\"");
-		sb.append("\n\n-c\tlevel of concurrency i.e. number of parallel threads for polynomials' multiplying -\n\t default is ");
+		sb.append("\n\n-c\tlevel of concurrency i.e. number of parallel threads for polynomials' multiplying\n\t and pseudo divisions in triangulation - default is ");
 		sb.append(OGPConstants.DEF_VAL_PARAM_CONCURRENCY_LEVEL);
 		sb.append(" and maximal value is ");
 		sb.append(OGPConstants.maxNumOfThreads);
@@ -580,6 +932,30 @@ public class OGPParameters {
 		sb.append(Double.parseDouble(OGPConstants.DEF_VAL_PARAM_TIME_LIMIT)/1000);
 		sb.append("\n\n-s\tspace limit as maximal number of terms in single polynomial obtained during proving process;\n\t default is ");
 		sb.append(OGPConstants.DEF_VAL_PARAM_SPACE_LIMIT);
+		sb.append("\n\n-u\tmemory limit as maximal estimated size in megabytes of polynomials in work during proving\n\t process (not required) - if not set, ");
+		sb.append((int)(OGPMemoryBudget.DEFAULT_HEAP_FRACTION * 100));
+		sb.append("% of maximal heap of JVM is shared by proofs which run at same time");
+		sb.append("\n\n-e\tstorage of terms of x-polynomials - can be \"T\" for tree map or \"A\" for sorted arrays;\n\t default is \"");
+		sb.append(OGPConstants.DEF_VAL_PARAM_POLY_STORAGE);
+		sb.append("\"");
+		sb.append("\n\n-a\tarithmetic of coefficients - can be \"D\" for double values, \"E\" for exact rational numbers\n\t or \"M\" for calculation modulo primes in Wu's method (result without NDG conditions); default is \"");
+		sb.append(OGPConstants.DEF_VAL_PARAM_ARITHMETIC);
+		sb.append("\"");
+		sb.append("\n\n-m\tname of profile file with costs of polynomial multiplication (not required) -\n\t if not set, costs are measured when needed; if file doesn't exist, measured costs are saved to it");
+		sb.append("\n\n-b\tbatch of theorems (not required) - directory with xml files or manifest file with one\n\t theorem per line, optionally followed by options for that theorem (e.g. \"thm01.xml -i A -t 60\");\n\t other options of command line are applied to each theorem and report is named after theorem");
+		sb.append("\n\n-w\tnumber of worker threads which prove theorems of batch at same time; default is ");
+		sb.append(OGPConstants.DEF_VAL_PARAM_BATCH_WORKERS);
+		sb.append("\n\n-r\tname of file with table of results of batch (status, time and maximal number of terms\n\t for each theorem) - JSON file if extension is \".json\", CSV file otherwise; default is \"");
+		sb.append(OGPConstants.DEF_VAL_PARAM_BATCH_RESULTS);
+		sb.append("\"");
+		sb.append("\n\n-d\tdaemon mode (not required) - \"stdin\" to read requests from standard input or number of\n\t TCP port on local host; each request is JSON object in one line (e.g. {\"id\": \"1\", \"file\": \"thm01.xml\",\n\t \"options\": [\"-t\", \"60\"]}) and result of each proof is written back as JSON object in one line;\n\t option -w sets number of theorems proved at same time");
+		sb.append("\n\n-k\tdirectory of cache of proofs (not required) - results of proved theorems are kept there and\n\t same theorem is not proved again by next runs of prover; \"N\" turns the cache off; if not set,\n\t results are kept only in memory while prover runs (e.g. in batch or daemon mode)");
+		sb.append("\n\n-f\tpolynomials in output reports - can be \"T\" to truncate big polynomials to their first terms\n\t or \"F\" to write all terms of each polynomial; default is \"");
+		sb.append(OGPConstants.DEF_VAL_PARAM_REPORT_POLYNOMIALS);
+		sb.append("\"");
+		sb.append("\n\n-n\tnumeric check of statement before algebraic prover - can be \"T\" to evaluate statement for\n\t random instances of construction and disprove theorem when counterexample is found, or \"F\"\n\t to skip the check; default is \"");
+		sb.append(OGPConstants.DEF_VAL_PARAM_NUMERIC_CHECK);
+		sb.append("\"");
 		sb.append("\n\n");
 		
 		System.out.println(sb.toString());
@@ -594,14 +970,14 @@ public class OGPParameters {
 	 */
 	public static int readParametersFromCommandLine(String[] args) {
 		int ii = 0, argc = args.length;
-		OGPParameters parameters = OpenGeoProver.settings.getParameters();
-		ILogger logger = OpenGeoProver.settings.getLogger();
+		OGPParameters parameters = OpenGeoProver.getSettings().getParameters();
+		ILogger logger = OpenGeoProver.getSettings().getLogger();
 		boolean setInputFmt = false, setInputName = false;
 		int retCode = OGPConstants.RET_CODE_SUCCESS;
 		
 		if (parameters == null) {
 			parameters = new OGPParameters();
-			OpenGeoProver.settings.setParameters(parameters);
+			OpenGeoProver.getSettings().setParameters(parameters);
 		}
 		
 		// Check if first 
@@ -635,7 +1011,7 @@ public class OGPParameters {
 						}
 						else {
 							parameters.put(OGPParameters.PARAM_OGP_MODE, paramValue);
-							OpenGeoProver.settings.setOgpMode(parameters.getOGPMode());
+							OpenGeoProver.getSettings().setOgpMode(parameters.getOGPMode());
 						}
 						ii += 2;
 					}
@@ -773,7 +1149,7 @@ public class OGPParameters {
 				
 				// prover
 				else if (paramName.equals(OGPParameters.PARAM_PROVER)) {
-					if (OpenGeoProver.settings.getOgpMode() != OGPConstants.OGP_MODE_THM_PROVING) {
+					if (OpenGeoProver.getSettings().getOgpMode() != OGPConstants.OGP_MODE_THM_PROVING) {
 						logger.error("Inappropriate parameter - current execution mode doesn't support it.");
 						retCode = OGPConstants.ERR_CODE_GENERAL;
 						ii++;
@@ -877,6 +1253,186 @@ public class OGPParameters {
 					}
 				}
 				
+				// memory limit
+				else if (paramName.equals(OGPParameters.PARAM_MEMORY_LIMIT)) {
+					if (paramValue == null) {
+						logger.error("Missing memory limit - part of heap of JVM is default.");
+						retCode = OGPConstants.ERR_CODE_GENERAL;
+						ii++;
+					}
+					else {
+						int value = Integer.parseInt(paramValue);
+						if (value <= 0) {
+							logger.error("Bad memory limit provided - ignoring this parameter.");
+							retCode = OGPConstants.ERR_CODE_GENERAL;
+						}
+						else
+							parameters.putMemoryLimit(value);
+						ii += 2;
+					}
+				}
+				
+				// storage of polynomial terms
+				else if (paramName.equals(OGPParameters.PARAM_POLY_STORAGE)) {
+					if (paramValue == null) {
+						logger.error("Missing storage of polynomial terms - tree map is default.");
+						retCode = OGPConstants.ERR_CODE_GENERAL;
+						ii++;
+					}
+					else {
+						if (!paramValue.equals("T") && !paramValue.equals("A")) {
+							logger.error("Bad storage of polynomial terms provided - ignoring this parameter.");
+							retCode = OGPConstants.ERR_CODE_GENERAL;
+						}
+						else
+							parameters.put(OGPParameters.PARAM_POLY_STORAGE, paramValue);
+						ii += 2;
+					}
+				}
+				
+				// arithmetic of coefficients
+				else if (paramName.equals(OGPParameters.PARAM_ARITHMETIC)) {
+					if (paramValue == null) {
+						logger.error("Missing arithmetic of coefficients - double values are default.");
+						retCode = OGPConstants.ERR_CODE_GENERAL;
+						ii++;
+					}
+					else {
+						if (!paramValue.equals("D") && !paramValue.equals("E") && !paramValue.equals("M")) {
+							logger.error("Bad arithmetic of coefficients provided - ignoring this parameter.");
+							retCode = OGPConstants.ERR_CODE_GENERAL;
+						}
+						else
+							parameters.put(OGPParameters.PARAM_ARITHMETIC, paramValue);
+						ii += 2;
+					}
+				}
+				
+				// profile file with costs of polynomial multiplication
+				else if (paramName.equals(OGPParameters.PARAM_COST_PROFILE)) {
+					if (paramValue == null) {
+						logger.error("Missing name of profile file with multiplication costs - ignoring this parameter.");
+						retCode = OGPConstants.ERR_CODE_GENERAL;
+						ii++;
+					}
+					else {
+						parameters.putCostProfile(paramValue);
+						ii += 2;
+					}
+				}
+				
+				// input of batch of theorems
+				else if (paramName.equals(OGPParameters.PARAM_BATCH_INPUT)) {
+					if (paramValue == null) {
+						logger.error("Missing name of directory or manifest file with batch of theorems - ignoring this parameter.");
+						retCode = OGPConstants.ERR_CODE_GENERAL;
+						ii++;
+					}
+					else {
+						parameters.putBatchInput(paramValue);
+						ii += 2;
+					}
+				}
+				
+				// number of worker threads for batch
+				else if (paramName.equals(OGPParameters.PARAM_BATCH_WORKERS)) {
+					if (paramValue == null) {
+						logger.error("Missing number of worker threads - single thread is default.");
+						retCode = OGPConstants.ERR_CODE_GENERAL;
+						ii++;
+					}
+					else {
+						int value = Integer.parseInt(paramValue);
+						if (value <= 0 || value > OGPConstants.maxNumOfThreads) {
+							logger.error("Bad number of worker threads provided - ignoring this parameter.");
+							retCode = OGPConstants.ERR_CODE_GENERAL;
+						}
+						else
+							parameters.putBatchWorkers(value);
+						ii += 2;
+					}
+				}
+				
+				// file with results of batch
+				else if (paramName.equals(OGPParameters.PARAM_BATCH_RESULTS)) {
+					if (paramValue == null) {
+						logger.error("Missing name of file with results of batch - ignoring this parameter.");
+						retCode = OGPConstants.ERR_CODE_GENERAL;
+						ii++;
+					}
+					else {
+						parameters.putBatchResults(paramValue);
+						ii += 2;
+					}
+				}
+				
+				// daemon mode
+				else if (paramName.equals(OGPParameters.PARAM_DAEMON)) {
+					if (paramValue == null) {
+						logger.error("Missing source of requests for daemon mode - ignoring this parameter.");
+						retCode = OGPConstants.ERR_CODE_GENERAL;
+						ii++;
+					}
+					else if (!paramValue.equals("stdin") && !paramValue.matches("[0-9]{1,5}")) {
+						logger.error("Bad source of requests for daemon mode provided - ignoring this parameter.");
+						retCode = OGPConstants.ERR_CODE_GENERAL;
+						ii += 2;
+					}
+					else {
+						parameters.putDaemon(paramValue);
+						ii += 2;
+					}
+				}
+				
+				// directory of cache of proofs
+				else if (paramName.equals(OGPParameters.PARAM_PROOF_CACHE)) {
+					if (paramValue == null) {
+						logger.error("Missing directory of cache of proofs - ignoring this parameter.");
+						retCode = OGPConstants.ERR_CODE_GENERAL;
+						ii++;
+					}
+					else {
+						parameters.putProofCache(paramValue);
+						ii += 2;
+					}
+				}
+				
+				// polynomials in output reports
+				else if (paramName.equals(OGPParameters.PARAM_REPORT_POLYNOMIALS)) {
+					if (paramValue == null) {
+						logger.error("Missing mode of polynomials in output reports - truncation of big polynomials is default.");
+						retCode = OGPConstants.ERR_CODE_GENERAL;
+						ii++;
+					}
+					else {
+						if (!paramValue.equals("T") && !paramValue.equals("F")) {
+							logger.error("Bad mode of polynomials in output reports provided - ignoring this parameter.");
+							retCode = OGPConstants.ERR_CODE_GENERAL;
+						}
+						else
+							parameters.put(OGPParameters.PARAM_REPORT_POLYNOMIALS, paramValue);
+						ii += 2;
+					}
+				}
+				
+				// numeric check of statement
+				else if (paramName.equals(OGPParameters.PARAM_NUMERIC_CHECK)) {
+					if (paramValue == null) {
+						logger.error("Missing mode of numeric check of statement - check is performed by default.");
+						retCode = OGPConstants.ERR_CODE_GENERAL;
+						ii++;
+					}
+					else {
+						if (!paramValue.equals("T") && !paramValue.equals("F")) {
+							logger.error("Bad mode of numeric check of statement provided - ignoring this parameter.");
+							retCode = OGPConstants.ERR_CODE_GENERAL;
+						}
+						else
+							parameters.put(OGPParameters.PARAM_NUMERIC_CHECK, paramValue);
+						ii += 2;
+					}
+				}
+				
 				// not supported parameter
 				else {
 					logger.error("Found unknown parameter '" + paramName + "'.");
@@ -900,6 +1456,6 @@ public class OGPParameters {
 	 * @return	TRUE if report has to be created, or FALSE otherwise.
 	 */
 	public boolean createReport() {
-		return !OpenGeoProver.settings.getParameters().getOutputFormat().equals("N");
+		return !this.getOutputFormat().equals("N");
 	}
 }
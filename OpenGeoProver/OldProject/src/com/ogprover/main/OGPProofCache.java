@@ -0,0 +1,547 @@
+/*
+ * DISCLAIMER PLACEHOLDER
+ */
+
+package com.ogprover.main;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Vector;
+
+import com.ogprover.polynomials.GeoTheorem;
+import com.ogprover.polynomials.Power;
+import com.ogprover.polynomials.Term;
+import com.ogprover.polynomials.UPolynomial;
+import com.ogprover.polynomials.UTerm;
+import com.ogprover.polynomials.XPolynomial;
+import com.ogprover.polynomials.XTerm;
+import com.ogprover.pp.tp.OGPTP;
+import com.ogprover.pp.tp.geoconstruction.GeoConstruction;
+import com.ogprover.pp.tp.geoconstruction.Point;
+import com.ogprover.thmprover.NumericChecker;
+import com.ogprover.thmprover.WuMethodProver;
+
+
+/**
+ * <dl>
+ * <dt><b>Class description:</b></dt>
+ * <dd>Class for cache of proofs - results of proved theorems kept in memory
+ *     and optionally in directory on disk, so they are shared by proofs of all
+ *     runs of prover</dd>
+ * </dl>
+ *
+ * @version 1.00
+ * @author Ivan Petrovic
+ */
+// Theorem is identified by fingerprint - SHA-256 hash of canonical text of its algebraic
+// form (hypotheses and statement, with exact coefficients and variable indices), together
+// with prover method and arithmetic. Algebraic form is used rather than construction steps,
+// since it contains all numeric parameters of constructions and is same for theorem given
+// in OGP xml form and in algebraic form. Labels of points with their coordinates are part of
+// fingerprint as well, since NDG conditions and report of cached result use these labels. Only conclusive results are kept (theorem proved,
+// disproved or neither), not proofs stopped by limits or errors. Each result on disk is
+// small properties file named by fingerprint, so directory can be shared by several
+// processes; most recently used results are also kept in memory.
+public class OGPProofCache {
+	/*
+	 * ======================================================================
+	 * ========================== VARIABLES =================================
+	 * ======================================================================
+	 */
+	/**
+	 * <i><b>
+	 * Version number of class in form xx.yy where
+	 * xx is major version/release number and yy is minor
+	 * release number.
+	 * </b></i>
+	 */
+	public static final String VERSION_NUM = "1.00"; // this should match the version number from class comment
+	/**
+	 * <i><b>Value of parameter for cache of proofs which turns the cache off</b></i>
+	 */
+	public static final String CACHE_OFF = "N";
+	/**
+	 * <i><b>Maximal number of results kept in memory</b></i>
+	 */
+	public static final int MEMORY_CAPACITY = 1024;
+	/**
+	 * <i><b>Extension of files with results on disk</b></i>
+	 */
+	private static final String FILE_EXTENSION = ".properties";
+	/**
+	 * <i><b>Caches of proofs in use, by their directories (empty name for cache only in memory)</b></i>
+	 */
+	private static final Map<String, OGPProofCache> caches = new HashMap<String, OGPProofCache>();
+
+	/**
+	 * Directory with results on disk (null if results are kept only in memory)
+	 */
+	private File directory = null;
+	/**
+	 * Most recently used results, by fingerprints of theorems
+	 */
+	private LinkedHashMap<String, CacheEntry> memory = null;
+
+
+
+	/*
+	 * ======================================================================
+	 * ========================== CONSTRUCTORS ==============================
+	 * ======================================================================
+	 */
+	/**
+	 * Constructor method
+	 *
+	 * @param directory		Directory with results on disk (null if results are kept only in memory)
+	 */
+	private OGPProofCache(File directory) {
+		this.directory = directory;
+		this.memory = new LinkedHashMap<String, CacheEntry>(16, 0.75f, true) {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, CacheEntry> eldest) {
+				return this.size() > OGPProofCache.MEMORY_CAPACITY;
+			}
+		};
+	}
+
+
+
+	/*
+	 * ======================================================================
+	 * ========================== SPECIFIC METHODS ==========================
+	 * ======================================================================
+	 */
+	/**
+	 * <i>[static method]</i><br>
+	 * Method that gives cache of proofs for value of parameter - same cache
+	 * is given to all proofs which use same directory.
+	 *
+	 * @param cacheDirectory	Directory with results on disk, null for cache only in memory
+	 * 							or OGPProofCache.CACHE_OFF for no cache
+	 * @return					Cache of proofs or null if cache is turned off
+	 */
+	public static OGPProofCache getCache(String cacheDirectory) {
+		if (OGPProofCache.CACHE_OFF.equals(cacheDirectory))
+			return null;
+
+		String key = (cacheDirectory == null) ? "" : new File(cacheDirectory).getAbsolutePath();
+
+		synchronized (OGPProofCache.caches) {
+			OGPProofCache cache = OGPProofCache.caches.get(key);
+
+			if (cache == null) {
+				cache = new OGPProofCache((cacheDirectory == null) ? null : new File(key));
+				OGPProofCache.caches.put(key, cache);
+			}
+			return cache;
+		}
+	}
+
+	/**
+	 * <i>[static method]</i><br>
+	 * Method that gives fingerprint of theorem in algebraic form.
+	 *
+	 * @param consProtocol	Construction protocol with theorem in algebraic form (before
+	 * 						it is proved, since prover changes polynomials of theorem)
+	 * @param proverType	Prover method
+	 * @param arithmetic	Arithmetic of coefficients
+	 * @param numericCheck	Whether statement is checked numerically before algebraic prover
+	 * @return				Fingerprint as hexadecimal text or null if theorem is incomplete
+	 */
+	public static String getFingerprint(OGPTP consProtocol, int proverType, int arithmetic, boolean numericCheck) {
+		GeoTheorem theorem = consProtocol.getAlgebraicGeoTheorem();
+
+		if (theorem == null || theorem.getHypotheses() == null || theorem.getStatement() == null)
+			return null;
+
+		StringBuilder sb = new StringBuilder();
+
+		sb.append("prover ");
+		sb.append(proverType);
+		sb.append("; arithmetic ");
+		sb.append(arithmetic);
+		// options which choose method that gives result of prover
+		if (arithmetic == UTerm.ARITHMETIC_MODULAR) {
+			sb.append("; primes ");
+			sb.append(WuMethodProver.NUM_OF_PRIMES);
+		}
+		sb.append("; numeric check ");
+		if (numericCheck) {
+			sb.append(NumericChecker.NUM_OF_INSTANCES);
+			sb.append(" of ");
+			sb.append(NumericChecker.MAX_NUM_OF_ATTEMPTS);
+		}
+		else
+			sb.append("off");
+		sb.append("; points:\n");
+		for (GeoConstruction gc : consProtocol.getConstructionSteps()) {
+			if (gc instanceof Point) {
+				Point p = (Point)gc;
+
+				sb.append(p.getGeoObjectLabel());
+				sb.append(" (");
+				sb.append(p.getX());
+				sb.append(", ");
+				sb.append(p.getY());
+				sb.append(")\n");
+			}
+		}
+		sb.append("hypotheses:\n");
+		for (XPolynomial xpoly : theorem.getHypotheses().getPolynomials()) {
+			OGPProofCache.appendCanonicalText(sb, xpoly);
+			sb.append("\n");
+		}
+		sb.append("statement:\n");
+		OGPProofCache.appendCanonicalText(sb, theorem.getStatement());
+
+		try {
+			byte[] digest = MessageDigest.getInstance("SHA-256").digest(sb.toString().getBytes("UTF-8"));
+			StringBuilder hex = new StringBuilder();
+
+			for (byte b : digest) {
+				hex.append(Character.forDigit((b >> 4) & 0xF, 16));
+				hex.append(Character.forDigit(b & 0xF, 16));
+			}
+			return hex.toString();
+		} catch (NoSuchAlgorithmException e) {
+			return null;
+		} catch (IOException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * <i>[static method]</i><br>
+	 * Method that appends canonical text of x-polynomial - its terms in descending
+	 * order, each with coefficient (fraction of u-polynomials) and powers of variables.
+	 *
+	 * @param sb		String builder
+	 * @param xpoly		X-polynomial
+	 */
+	private static void appendCanonicalText(StringBuilder sb, XPolynomial xpoly) {
+		for (Term t : xpoly.getTermsAsDescList()) {
+			XTerm xt = (XTerm)t;
+
+			sb.append("(");
+			OGPProofCache.appendCanonicalText(sb, xt.getUCoeff().getNumerator());
+			sb.append(")/(");
+			OGPProofCache.appendCanonicalText(sb, xt.getUCoeff().getDenominator());
+			sb.append(")");
+			OGPProofCache.appendPowers(sb, xt);
+			sb.append(" ");
+		}
+	}
+
+	/**
+	 * <i>[static method]</i><br>
+	 * Method that appends canonical text of u-polynomial.
+	 *
+	 * @param sb		String builder
+	 * @param upoly		U-polynomial
+	 */
+	private static void appendCanonicalText(StringBuilder sb, UPolynomial upoly) {
+		for (Term t : upoly.getTermsAsDescList()) {
+			UTerm ut = (UTerm)t;
+
+			sb.append((ut.getExactCoeff() != null) ? ut.getExactCoeff().toString() : Double.toString(ut.getCoeff()));
+			OGPProofCache.appendPowers(sb, ut);
+			sb.append(" ");
+		}
+	}
+
+	/**
+	 * <i>[static method]</i><br>
+	 * Method that appends powers of term.
+	 *
+	 * @param sb	String builder
+	 * @param t		Term
+	 */
+	private static void appendPowers(StringBuilder sb, Term t) {
+		for (Power p : t.getPowers()) {
+			sb.append("*");
+			sb.append(p.getVarType());
+			sb.append("_");
+			sb.append(p.getIndex());
+			sb.append("^");
+			sb.append(p.getExponent());
+		}
+	}
+
+	/**
+	 * Method that gives result of theorem from cache.
+	 *
+	 * @param fingerprint	Fingerprint of theorem
+	 * @return				Result of theorem or null if theorem is not in cache
+	 */
+	public CacheEntry get(String fingerprint) {
+		synchronized (this.memory) {
+			CacheEntry entry = this.memory.get(fingerprint);
+
+			if (entry != null || this.directory == null)
+				return entry;
+		}
+
+		CacheEntry entry = this.readEntry(fingerprint);
+
+		if (entry != null) {
+			synchronized (this.memory) {
+				this.memory.put(fingerprint, entry);
+			}
+		}
+		return entry;
+	}
+
+	/**
+	 * Method that puts result of theorem to cache.
+	 *
+	 * @param entry		Result of theorem
+	 * @return			RET_CODE_SUCCESS if result is saved, ERR_CODE_GENERAL if it
+	 * 					is kept only in memory since it can't be written to disk
+	 */
+	public int put(CacheEntry entry) {
+		synchronized (this.memory) {
+			this.memory.put(entry.fingerprint, entry);
+		}
+
+		if (this.directory == null)
+			return OGPConstants.RET_CODE_SUCCESS;
+		return this.writeEntry(entry);
+	}
+
+	/**
+	 * Method that reads result of theorem from disk.
+	 *
+	 * @param fingerprint	Fingerprint of theorem
+	 * @return				Result of theorem or null if it is not on disk or can't be read
+	 */
+	private CacheEntry readEntry(String fingerprint) {
+		File file = new File(this.directory, fingerprint + OGPProofCache.FILE_EXTENSION);
+
+		if (!file.isFile())
+			return null;
+
+		Properties props = new Properties();
+		InputStream in = null;
+
+		try {
+			in = new FileInputStream(file);
+			props.load(in);
+
+			CacheEntry entry = new CacheEntry(fingerprint, Integer.parseInt(props.getProperty("retCode")));
+			int numOfNDGs = Integer.parseInt(props.getProperty("ndg.count", "-1"));
+
+			entry.theoremName = props.getProperty("theorem");
+			entry.reportFile = props.getProperty("report");
+			entry.proverTime = Double.parseDouble(props.getProperty("proverTime", "0"));
+			if (numOfNDGs >= 0) {
+				entry.ndgConditions = new Vector<String>();
+				for (int ii = 0; ii < numOfNDGs; ii++)
+					entry.ndgConditions.add(props.getProperty("ndg." + ii, ""));
+			}
+			return entry;
+		} catch (IOException e) {
+			OpenGeoProver.getSettings().getLogger().error("Failed to read result of proof from cache file " + file.getPath() + ".");
+			return null;
+		} catch (NumberFormatException e) {
+			OpenGeoProver.getSettings().getLogger().error("Bad result of proof in cache file " + file.getPath() + ".");
+			return null;
+		} finally {
+			if (in != null) {
+				try {
+					in.close();
+				} catch (IOException e) {
+					// nothing to do - file has already been read
+				}
+			}
+		}
+	}
+
+	/**
+	 * Method that writes result of theorem to disk. Result is written to temporary
+	 * file which is then renamed, so other processes never read incomplete result.
+	 *
+	 * @param entry		Result of theorem
+	 * @return			RET_CODE_SUCCESS if result is written, ERR_CODE_GENERAL otherwise
+	 */
+	private int writeEntry(CacheEntry entry) {
+		Properties props = new Properties();
+
+		props.setProperty("retCode", entry.retCode + "");
+		if (entry.theoremName != null)
+			props.setProperty("theorem", entry.theoremName);
+		if (entry.reportFile != null)
+			props.setProperty("report", entry.reportFile);
+		props.setProperty("proverTime", entry.proverTime + "");
+		if (entry.ndgConditions != null) {
+			props.setProperty("ndg.count", entry.ndgConditions.size() + "");
+			for (int ii = 0, jj = entry.ndgConditions.size(); ii < jj; ii++)
+				props.setProperty("ndg." + ii, entry.ndgConditions.get(ii));
+		}
+
+		File file = new File(this.directory, entry.fingerprint + OGPProofCache.FILE_EXTENSION);
+		File tempFile = null;
+		OutputStream out = null;
+
+		try {
+			if (!this.directory.isDirectory() && !this.directory.mkdirs() && !this.directory.isDirectory())
+				throw new IOException("Failed to create directory");
+
+			tempFile = File.createTempFile(entry.fingerprint, ".tmp", this.directory);
+			out = new FileOutputStream(tempFile);
+			props.store(out, "OpenGeoProver - result of proof");
+			out.close();
+			out = null;
+			if (!tempFile.renameTo(file)) {
+				file.delete(); // on some systems existing file is not replaced
+				if (!tempFile.renameTo(file))
+					throw new IOException("Failed to rename temporary file");
+			}
+			tempFile = null;
+		} catch (IOException e) {
+			OpenGeoProver.getSettings().getLogger().error("Failed to write result of proof to cache directory " + this.directory.getPath() + ".");
+			return OGPConstants.ERR_CODE_GENERAL;
+		} finally {
+			if (out != null) {
+				try {
+					out.close();
+				} catch (IOException e) {
+					// nothing to do - temporary file is deleted
+				}
+			}
+			if (tempFile != null)
+				tempFile.delete();
+		}
+
+		return OGPConstants.RET_CODE_SUCCESS;
+	}
+
+
+
+	/*
+	 * ======================================================================
+	 * ========================== INNER CLASSES =============================
+	 * ======================================================================
+	 */
+	/**
+	 * Result of proved theorem kept in cache
+	 */
+	public static class CacheEntry {
+		/**
+		 * Fingerprint of theorem
+		 */
+		private String fingerprint;
+		/**
+		 * Return code of prover (one of TheoremProver.THEO_PROVE_RET_CODE_xxx values)
+		 */
+		private int retCode;
+		/**
+		 * Name of theorem
+		 */
+		private String theoremName = null;
+		/**
+		 * Base name of report files of proof (null if reports were not created)
+		 */
+		private String reportFile = null;
+		/**
+		 * Time spent by prover in milliseconds
+		 */
+		private double proverTime = 0;
+		/**
+		 * NDG conditions in user readable form (null if they are not available)
+		 */
+		private Vector<String> ndgConditions = null;
+
+		/**
+		 * Constructor method
+		 *
+		 * @param fingerprint	Fingerprint of theorem
+		 * @param retCode		Return code of prover
+		 */
+		public CacheEntry(String fingerprint, int retCode) {
+			this.fingerprint = fingerprint;
+			this.retCode = retCode;
+		}
+
+		/**
+		 * @return	Fingerprint of theorem
+		 */
+		public String getFingerprint() {
+			return this.fingerprint;
+		}
+
+		/**
+		 * @return	Return code of prover
+		 */
+		public int getRetCode() {
+			return this.retCode;
+		}
+
+		/**
+		 * @param theoremName	Name of theorem to set
+		 */
+		public void setTheoremName(String theoremName) {
+			this.theoremName = theoremName;
+		}
+
+		/**
+		 * @return	Name of theorem
+		 */
+		public String getTheoremName() {
+			return this.theoremName;
+		}
+
+		/**
+		 * @param reportFile	Base name of report files to set
+		 */
+		public void setReportFile(String reportFile) {
+			this.reportFile = reportFile;
+		}
+
+		/**
+		 * @return	Base name of report files of proof (null if reports were not created)
+		 */
+		public String getReportFile() {
+			return this.reportFile;
+		}
+
+		/**
+		 * @param proverTime	Time spent by prover in milliseconds to set
+		 */
+		public void setProverTime(double proverTime) {
+			this.proverTime = proverTime;
+		}
+
+		/**
+		 * @return	Time spent by prover in milliseconds
+		 */
+		public double getProverTime() {
+			return this.proverTime;
+		}
+
+		/**
+		 * @param ndgConditions		NDG conditions in user readable form to set
+		 */
+		public void setNdgConditions(Vector<String> ndgConditions) {
+			this.ndgConditions = ndgConditions;
+		}
+
+		/**
+		 * @return	NDG conditions in user readable form (null if they are not available)
+		 */
+		public Vector<String> getNdgConditions() {
+			return this.ndgConditions;
+		}
+	}
+}
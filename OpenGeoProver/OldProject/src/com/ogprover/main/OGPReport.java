@@ -9,6 +9,7 @@ import java.io.IOException;
 import com.ogprover.pp.tp.OGPTP;
 import com.ogprover.pp.tp.ndgcondition.AlgebraicNDGCondition;
 import com.ogprover.thmprover.TheoremProver;
+import com.ogprover.utilities.OGPMetrics;
 import com.ogprover.utilities.OGPUtilities;
 import com.ogprover.utilities.Stopwatch;
 import com.ogprover.utilities.io.OGPOutput;
@@ -98,15 +99,15 @@ public class OGPReport {
 	 * @return			SUCCESS if succeeded to open document, general error otherwise
 	 */
 	public int openReport() {
-		OGPParameters parameters = OpenGeoProver.settings.getParameters();
-		OGPOutput output = OpenGeoProver.settings.getOutput();
-		ILogger logger = OpenGeoProver.settings.getLogger();
+		OGPParameters parameters = OpenGeoProver.getSettings().getParameters();
+		OGPOutput output = OpenGeoProver.getSettings().getOutput();
+		ILogger logger = OpenGeoProver.getSettings().getLogger();
 		
 		if (parameters.createReport()) {
 			String title = null;
 			String author = null;
 			
-			if (OpenGeoProver.settings.getOgpMode() == OGPConstants.OGP_MODE_THM_PROVING) {
+			if (OpenGeoProver.getSettings().getOgpMode() == OGPConstants.OGP_MODE_THM_PROVING) {
 				title = "OpenGeoProver Output for conjecture ``" + this.thmProtocol.getTheoremName() + "'' ";
 			
 				if (parameters.getProver() == TheoremProver.TP_TYPE_WU)
@@ -116,7 +117,7 @@ public class OGPReport {
 				else if (parameters.getProver() == TheoremProver.TP_TYPE_AREA)
 					author = "Area method used";
 			}
-			else if (OpenGeoProver.settings.getOgpMode() == OGPConstants.OGP_MODE_RC_CONSTRUCTIBILITY) {
+			else if (OpenGeoProver.getSettings().getOgpMode() == OGPConstants.OGP_MODE_RC_CONSTRUCTIBILITY) {
 				title = "OpenGeoProver Output for RC-Constructibility problem ``" + this.thmProtocol.getTheoremName() + "'' ";
 				author = "Used algebraic method (with triangulation)";
 			}
@@ -141,10 +142,10 @@ public class OGPReport {
 	 * @return					SUCCESS if succeeded to print results, general error otherwise
 	 */
 	public int printProverResults(int proverRetCode) {
-		OGPParameters parameters = OpenGeoProver.settings.getParameters();
-		OGPOutput output = OpenGeoProver.settings.getOutput();
-		ILogger logger = OpenGeoProver.settings.getLogger();
-		Stopwatch stopwatch = OpenGeoProver.settings.getStopwacth();
+		OGPParameters parameters = OpenGeoProver.getSettings().getParameters();
+		OGPOutput output = OpenGeoProver.getSettings().getOutput();
+		ILogger logger = OpenGeoProver.getSettings().getLogger();
+		Stopwatch stopwatch = OpenGeoProver.getSettings().getStopwacth();
 		int retCode = OGPConstants.RET_CODE_SUCCESS;
 		
 		if (parameters.createReport()) {
@@ -188,6 +189,19 @@ public class OGPReport {
 				}
 			}
 			break;
+		case TheoremProver.THEO_PROVE_RET_CODE_TRUE_MODULAR:
+			statusText = "Theorem has been proved with high probability (modular).";
+			System.out.println(statusText);
+			if (parameters.createReport()) {
+				try {
+					output.closeItemWithDesc(statusText);
+				} catch (IOException e) {
+					logger.error("Failed to write to output file(s).");
+					output.close();
+					return OGPConstants.ERR_CODE_GENERAL;
+				}
+			}
+			break;
 		case TheoremProver.THEO_PROVE_RET_CODE_UNKNOWN:
 			statusText = "Theorem can't be neither proved nor disproved.";
 			System.out.println(statusText);
@@ -275,7 +289,7 @@ public class OGPReport {
 		String timeReportMiliSec = sb.toString();
 		sb = new StringBuilder();
 		sb.append("The biggest polynomial obtained during prover execution contains ");
-		sb.append(OpenGeoProver.settings.getMaxNumOfTerms());
+		sb.append(OpenGeoProver.getSettings().getMaxNumOfTerms());
 		sb.append(" terms.");
 		String spaceReport = sb.toString();
 		
@@ -329,7 +343,9 @@ public class OGPReport {
 			}
 		}
 		
+		OGPMetrics.Measurement measurement = OpenGeoProver.getSettings().getMetrics().start(OGPMetrics.PHASE_NDG_TRANSLATION);
 		retCode = this.thmProtocol.translateNDGConditionsToUserReadableForm();
+		measurement.stop();
 		
 		if (retCode != OGPConstants.RET_CODE_SUCCESS) {
 			boolean exceptionCaught = false;
@@ -418,4 +434,87 @@ public class OGPReport {
 		
 		return retCode;
 	}
+	
+	/**
+	 * Method for printing final report results of theorem whose result is 
+	 * taken from cache of proofs - theorem is not proved again.
+	 * 
+	 * @param entry		Result of theorem from cache of proofs
+	 * @return			SUCCESS if succeeded to print results, general error otherwise
+	 */
+	public int printCachedProverResults(OGPProofCache.CacheEntry entry) {
+		OGPParameters parameters = OpenGeoProver.getSettings().getParameters();
+		OGPOutput output = OpenGeoProver.getSettings().getOutput();
+		ILogger logger = OpenGeoProver.getSettings().getLogger();
+		String statusText;
+		
+		switch (entry.getRetCode()) {
+		case TheoremProver.THEO_PROVE_RET_CODE_FALSE:
+			statusText = "Theorem has been disproved.";
+			break;
+		case TheoremProver.THEO_PROVE_RET_CODE_TRUE:
+			statusText = "Theorem has been proved.";
+			break;
+		case TheoremProver.THEO_PROVE_RET_CODE_TRUE_MODULAR:
+			statusText = "Theorem has been proved with high probability (modular).";
+			break;
+		default:
+			statusText = "Theorem can't be neither proved nor disproved.";
+			break;
+		}
+		
+		StringBuilder sb = new StringBuilder("Result is taken from cache of proofs");
+		if (entry.getReportFile() != null) {
+			sb.append(" - see report ");
+			sb.append(entry.getReportFile());
+			sb.append(" of original proof");
+		}
+		sb.append(".");
+		String cacheText = sb.toString();
+		
+		System.out.println(statusText);
+		System.out.println(cacheText);
+		System.out.println();
+		System.out.println();
+		
+		if (!parameters.createReport())
+			return OGPConstants.RET_CODE_SUCCESS;
+		
+		try {
+			output.openSection("Prover results");
+			output.openEnum(SpecialFileFormatting.ENUM_COMMAND_DESCRIPTION);
+			output.openItemWithDesc("Status:");
+			output.closeItemWithDesc(statusText);
+			output.openItemWithDesc("Cache:");
+			output.closeItemWithDesc(cacheText);
+			output.closeEnum(SpecialFileFormatting.ENUM_COMMAND_DESCRIPTION);
+			output.closeSection();
+			
+			if (entry.getNdgConditions() != null) {
+				output.openSection("NDG Conditions");
+				output.openSubSection("NDG Conditions in readable form", false);
+				output.openEnum(SpecialFileFormatting.ENUM_COMMAND_ITEMIZE);
+				if (entry.getNdgConditions().size() == 0) {
+					output.openItem();
+					output.writePlainText("There are no NDG conditions for this theorem");
+					output.closeItem();
+				}
+				for (String ndgcText : entry.getNdgConditions()) {
+					output.openItem();
+					output.writePlainText(ndgcText);
+					output.closeItem();
+				}
+				output.closeEnum(SpecialFileFormatting.ENUM_COMMAND_ITEMIZE);
+				output.closeSubSection();
+				output.closeSection();
+			}
+			output.closeDocument();
+		} catch (IOException e) {
+			logger.error("Failed to write to output file(s).");
+			output.close();
+			return OGPConstants.ERR_CODE_GENERAL;
+		}
+		
+		return OGPConstants.RET_CODE_SUCCESS;
+	}
 }
\ No newline at end of file
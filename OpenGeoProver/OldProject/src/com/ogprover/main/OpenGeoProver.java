@@ -6,21 +6,28 @@ package com.ogprover.main;
 
 import java.io.IOException;
 
+import com.ogprover.api.OGPDaemon;
 import com.ogprover.polynomials.GeoTheorem;
+import com.ogprover.polynomials.MultiplicationCostModel;
 import com.ogprover.pp.tp.OGPTP;
 import com.ogprover.test.formats.geothm_xml.GeoTheoremXMLParser;
 import com.ogprover.test.formats.ogp_xml.OGPCPXMLParser;
 import com.ogprover.thmprover.AlgebraicMethodProver;
 import com.ogprover.thmprover.TheoremProver;
 import com.ogprover.thmprover.WuMethodProver;
+import com.ogprover.utilities.OGPMemoryBudget;
+import com.ogprover.utilities.OGPMetrics;
 import com.ogprover.utilities.OGPTimer;
 import com.ogprover.utilities.OGPUtilities;
 import com.ogprover.utilities.Stopwatch;
+import com.ogprover.utilities.io.CustomFileWriter;
 import com.ogprover.utilities.io.LaTeXFileWriter;
+import com.ogprover.utilities.io.OGPAsyncWriter;
 import com.ogprover.utilities.io.OGPOutput;
 import com.ogprover.utilities.io.SpecialFileFormatting;
 import com.ogprover.utilities.io.XMLFileWriter;
 import com.ogprover.utilities.logger.FileLogger;
+import com.ogprover.utilities.logger.ILogger;
 
 
 /**
@@ -48,10 +55,59 @@ public class OpenGeoProver {
 	public static final String VERSION_NUM = "1.00"; // this should match the version number from class comment
 	/**
 	 * <i>
-	 * Prover's configuration settings that can be accessed globally
+	 * Prover's configuration settings that can be accessed globally; these are
+	 * default settings, used by all threads which don't have their own settings
 	 * </i>
 	 */
 	public static OGPConfigurationSettings settings = null;
+	/**
+	 * <i>
+	 * Configuration settings of proof executed by current thread; when several
+	 * theorems are proved concurrently, each proof has its own settings (with
+	 * parameters, output, timer and logger) and they are set for threads which
+	 * execute it
+	 * </i>
+	 */
+	private static final ThreadLocal<OGPConfigurationSettings> threadSettings = new ThreadLocal<OGPConfigurationSettings>();
+	
+	
+	
+	/*
+	 * ======================================================================
+	 * ========================== GETTERS/SETTERS ===========================
+	 * ======================================================================
+	 */
+	/**
+	 * <i>[static method]</i><br>
+	 * Method that retrieves configuration settings of current thread
+	 * 
+	 * @return	Settings of proof executed by current thread or global settings
+	 * 			if current thread doesn't have its own settings
+	 */
+	public static OGPConfigurationSettings getSettings() {
+		OGPConfigurationSettings s = OpenGeoProver.threadSettings.get();
+		
+		return ((s != null) ? s : OpenGeoProver.settings);
+	}
+	
+	/**
+	 * <i>[static method]</i><br>
+	 * Method that sets configuration settings of current thread
+	 * 
+	 * @param s		Settings of proof executed by current thread; if null is
+	 * 				passed, thread will use global settings
+	 * @return		Previous settings of current thread (null if it has used global settings)
+	 */
+	public static OGPConfigurationSettings setThreadSettings(OGPConfigurationSettings s) {
+		OGPConfigurationSettings previous = OpenGeoProver.threadSettings.get();
+		
+		if (s != null)
+			OpenGeoProver.threadSettings.set(s);
+		else
+			OpenGeoProver.threadSettings.remove();
+		return previous;
+	}
+	
 	
 	
 	/*
@@ -68,9 +124,7 @@ public class OpenGeoProver {
 	public static void main(String[] args) {
 		OpenGeoProver.settings = new OGPConfigurationSettings(); // TODO - this currently creates log file with default name and location, but later it should be allowed to set these elements in command line
 		OGPParameters parameters = OpenGeoProver.settings.getParameters();
-		OGPOutput output = OpenGeoProver.settings.getOutput();
 		FileLogger logger = (FileLogger) OpenGeoProver.settings.getLogger();
-		Stopwatch stopwatch = OpenGeoProver.settings.getStopwacth();
 		OGPTimer timer = OpenGeoProver.settings.getTimer();
 		
 		// prover's introduction message
@@ -81,7 +135,15 @@ public class OpenGeoProver {
 		sb.append("Reimplementation of C++ version 2.00;\nwritten by Goran Predovic and Predrag Janicic, University of Belgrade.\n");
 		sb.append("Copyright (c) 2005-2011. Not for commercial use.\n\n");
 		sb.append("Type \"-h\" or \"--help\" if necessary, for explanation about correct usage of command line.\n\n");
-		System.out.println(sb.toString());
+		
+		// standard output of daemon reading requests from standard input is reserved for its responses
+		boolean daemonOnStdin = false;
+		
+		for (int ii = 0; ii + 1 < args.length; ii++) {
+			if (args[ii].equals("-" + OGPParameters.PARAM_DAEMON) && args[ii + 1].equals(OGPDaemon.SOURCE_STDIN))
+				daemonOnStdin = true;
+		}
+		(daemonOnStdin ? System.err : System.out).println(sb.toString());
 		
 		int retCode = OGPConstants.RET_CODE_SUCCESS;
 		
@@ -107,6 +169,94 @@ public class OpenGeoProver {
 		logger.setLevel(parameters.getLogLevel());
 		logger.setVerbose(parameters.getVerbose());
 		
+		if (parameters.getDaemon() != null) { // proving theorems from requests until daemon is stopped
+			OGPMetrics.registerMBean(); // metrics of proofs are available through JMX while prover runs
+			new OGPDaemon(OpenGeoProver.settings).run(parameters.getDaemon());
+		}
+		else if (parameters.getBatchInput() != null) { // proving all theorems of batch
+			OGPMetrics.registerMBean();
+			new OGPBatchProver(OpenGeoProver.settings).prove();
+			timer.cancel(); // each theorem has its own timer
+		}
+		else
+			OpenGeoProver.runProver(OpenGeoProver.settings);
+	}
+	
+	/**
+	 * <i>[static method]</i><br>
+	 * Method that proves one theorem with specified settings - it creates output
+	 * files, reads input problem, invokes prover and presents results in report.
+	 * Settings are set for current thread during execution, so several theorems
+	 * can be proved concurrently in separate threads, each with its own settings.
+	 * 
+	 * @param proofSettings		Settings of proof, with parameters already set
+	 * @return					Return code of prover (one of TheoremProver.THEO_PROVE_RET_CODE_xxx
+	 * 							values or error code), result of transformation in mode for
+	 * 							RC-constructibility, or ERR_CODE_GENERAL if proof can't be started
+	 */
+	public static int runProver(OGPConfigurationSettings proofSettings) {
+		OGPConfigurationSettings previous = OpenGeoProver.setThreadSettings(proofSettings);
+		OGPParameters parameters = proofSettings.getParameters();
+		
+		// metrics are measured only if they are written next to report or available through JMX
+		proofSettings.getMetrics().setEnabled(OGPMetrics.isMBeanRegistered() || (parameters.createReport() && parameters.getOutputFile() != null));
+		try {
+			return OpenGeoProver.executeProver(proofSettings);
+		} finally {
+			proofSettings.getTimer().cancel(); // deadline of proof is not needed any more
+			OpenGeoProver.writeMetrics(proofSettings);
+			if (proofSettings.getOutput() != null)
+				proofSettings.getOutput().close(); // report is buffered - rest of it is written to files on closing
+			OGPAsyncWriter.getInstance().flush(); // log and report of proof are complete when it returns
+			OpenGeoProver.setThreadSettings(previous);
+		}
+	}
+	
+	/**
+	 * <i>[static method]</i><br>
+	 * Method that adds metrics of finished proof to global metrics (available
+	 * through JMX) and writes them in JSON form next to report of proof.
+	 * 
+	 * @param proofSettings		Settings of finished proof
+	 */
+	private static void writeMetrics(OGPConfigurationSettings proofSettings) {
+		OGPParameters parameters = proofSettings.getParameters();
+		OGPMetrics metrics = proofSettings.getMetrics();
+		
+		OGPMetrics.getGlobalMetrics().addProof(metrics, parameters.getInputFile());
+		if (!parameters.createReport() || parameters.getOutputFile() == null)
+			return;
+		
+		CustomFileWriter writer = null;
+		
+		try {
+			writer = new CustomFileWriter(parameters.getOutputFile() + "_metrics", "json");
+			writer.write(metrics.toJSON(parameters.getInputFile()));
+		} catch (IOException e) {
+			proofSettings.getLogger().error("Failed to write metrics of proof.");
+		} finally {
+			if (writer != null)
+				writer.close();
+		}
+	}
+	
+	/**
+	 * <i>[static method]</i><br>
+	 * Method that executes steps of proof for settings of current thread.
+	 * 
+	 * @param settings	Settings of proof
+	 * @return			See runProver()
+	 */
+	private static int executeProver(OGPConfigurationSettings settings) {
+		OGPParameters parameters = settings.getParameters();
+		OGPOutput output = settings.getOutput();
+		ILogger logger = settings.getLogger();
+		Stopwatch stopwatch = settings.getStopwacth();
+		OGPTimer timer = settings.getTimer();
+		OGPMemoryBudget budget = settings.getMemoryBudget();
+		int retCode = OGPConstants.RET_CODE_SUCCESS;
+		StringBuilder sb;
+		
 		// creating output files
 		if (parameters.createReport()) {
 			String outputFmt = parameters.getOutputFormat();
@@ -116,17 +266,18 @@ public class OpenGeoProver {
 			
 			if (outputFile == null) {
 				logger.error("Error: Null name for output file.");
-				return;
+				return OGPConstants.ERR_CODE_GENERAL;
 			}
 			
 			if (!outputFmt.equals("A") && !outputFmt.equals("L") && !outputFmt.equals("X")) {
 				logger.error("Invalid format of output file.");
-				return;
+				return OGPConstants.ERR_CODE_GENERAL;
 			}
 			
 			if (outputFmt.equals("A") || outputFmt.equals("L")) {
 				try {
 					latexWriter = new LaTeXFileWriter(outputFile);
+					latexWriter.setTruncatePolynomials(parameters.truncateReportPolynomials());
 				} catch (IOException e) {
 					logger.error("Failed to open LaTeX output file.");
 //					if (latexWriter != null)
@@ -138,6 +289,7 @@ public class OpenGeoProver {
 			if (outputFmt.equals("A") || outputFmt.equals("X")) {
 				try {
 					xmlWriter = new XMLFileWriter(outputFile);
+					xmlWriter.setTruncatePolynomials(parameters.truncateReportPolynomials());
 				} catch (IOException e) {
 					logger.error("Failed to open XML output file.");
 //					if (xmlWriter != null)
@@ -147,7 +299,7 @@ public class OpenGeoProver {
 			}
 			
 			output = new OGPOutput(latexWriter, xmlWriter);
-			OpenGeoProver.settings.setOutput(output);
+			settings.setOutput(output);
 		}
 		
 		
@@ -167,7 +319,7 @@ public class OpenGeoProver {
 				if (consProtocol == null) {
 					logger.error("Failed to read theorem.");
 					output.close();
-					return;
+					return OGPConstants.ERR_CODE_GENERAL;
 				}
 				
 				report = new OGPReport(consProtocol);
@@ -182,12 +334,13 @@ public class OpenGeoProver {
 				if (theorem == null) {
 					logger.error("Failed to read theorem.");
 					output.close();
-					return;
+					return OGPConstants.ERR_CODE_GENERAL;
 				}
 				
 				consProtocol = new OGPTP();
 				consProtocol.setAlgebraicGeoTheorem(theorem);
 				consProtocol.setTheoremName(theorem.getName());
+				settings.setParsedTP(consProtocol);
 				report = new OGPReport(consProtocol);
 				
 				// opening output report
@@ -199,14 +352,14 @@ public class OpenGeoProver {
 			else { // unknown format
 				logger.error("Unknown format of input file.");
 				output.close();
-				return;
+				return OGPConstants.ERR_CODE_GENERAL;
 			}
 		}
 		else { // reading problem from internal memory
 			// TODO
 		}
 		
-		if (OpenGeoProver.settings.getOgpMode() == OGPConstants.OGP_MODE_THM_PROVING) {
+		if (settings.getOgpMode() == OGPConstants.OGP_MODE_THM_PROVING) {
 			/*
 			 *  STEP 3 - Invoking prover
 			 */
@@ -214,32 +367,38 @@ public class OpenGeoProver {
 				/*
 				 * Validation of CP
 				 */
-				if (!consProtocol.isValid()) {
+				OGPMetrics.Measurement measurement = settings.getMetrics().start(OGPMetrics.PHASE_CP_VALIDATION);
+				boolean valid = consProtocol.isValid();
+				
+				measurement.stop();
+				if (!valid) {
 					output.close();
-					return;
+					return OGPConstants.ERR_CODE_GENERAL;
 				}
 			
 				/*
 				 * Transformation to Algebraic form
 				 */
-				OpenGeoProver.settings.getStopwacth().startMeasureTime();
+				settings.getStopwacth().startMeasureTime();
 				try {
 					output.openSection("Transformation of Construction Protocol to algebraic form");
 				} catch (IOException e) {
 					logger.error("Failed to write to output file(s).");
 					output.close();
-					return;
+					return OGPConstants.ERR_CODE_GENERAL;
 				}
 			
+				measurement = settings.getMetrics().start(OGPMetrics.PHASE_ALGEBRAIC_FORM);
 				retCode = consProtocol.convertToAlgebraicForm();
 				theorem = consProtocol.getAlgebraicGeoTheorem();
+				measurement.stop();
 			
 				if (retCode != OGPConstants.RET_CODE_SUCCESS) {
 					output.close();
-					return;
+					return retCode;
 				}
 			
-				OpenGeoProver.settings.getStopwacth().endMeasureTime();
+				settings.getStopwacth().endMeasureTime();
 				try {
 					output.openSubSection("Time spent for transformation of Construction Protocol to algebraic form", false);
 					output.openEnum(SpecialFileFormatting.ENUM_COMMAND_ITEMIZE);
@@ -252,29 +411,58 @@ public class OpenGeoProver {
 				} catch (IOException e) {
 					logger.error("Failed to write to output file(s).");
 					output.close();
-					return;
+					return OGPConstants.ERR_CODE_GENERAL;
 				}
 			}
 		
-			logger.info("Invoking prover method...");
 			int proverType = parameters.getProver();
+			
+			// theorem which has already been proved is not proved again - fingerprint is
+			// taken before proving since prover changes polynomials of theorem
+			OGPProofCache cache = OGPProofCache.getCache(parameters.getProofCache());
+			String fingerprint = (cache != null) ? OGPProofCache.getFingerprint(consProtocol, proverType, parameters.getArithmetic(), parameters.checkNumerically()) : null;
+			
+			if (fingerprint != null) {
+				OGPProofCache.CacheEntry entry = cache.get(fingerprint);
+				
+				if (entry != null) {
+					logger.info("Result of theorem is taken from cache of proofs.");
+					settings.setProofCacheEntry(entry);
+					if (report != null)
+						report.printCachedProverResults(entry);
+					return entry.getRetCode();
+				}
+			}
+			
+			logger.info("Invoking prover method...");
 			AlgebraicMethodProver proverMethod = null;
+			double proverTime = 0;
 			
 			if (proverType == TheoremProver.TP_TYPE_WU) { // Wu's method
 				proverMethod = new WuMethodProver(theorem);
+				MultiplicationCostModel.getModel(); // costs of multiplication are measured (once) before deadline of proof is set
 				timer.setTimer(parameters.getTimeLimit()); // setting timer
+				budget.setBudget(parameters.getMemoryLimitInBytes());
 				stopwatch.startMeasureTime();
 				retCode = proverMethod.prove();
 				stopwatch.endMeasureTime();
+				proverTime = stopwatch.getTimeIntMillisec();
 			}
 			else if (proverType == TheoremProver.TP_TYPE_GROEBNER) { // Groebner basis method
 				// TODO
 			}
 			else {
 				System.out.println("Invalid prover type.");
-				return;
+				return OGPConstants.ERR_CODE_GENERAL;
 			}
 			timer.cancel(); // canceling timer
+			budget.cancel();
+			
+			// some product could be left incomplete when time was up or memory budget was exceeded
+			if (retCode >= 0 && budget.isExceeded())
+				retCode = OGPConstants.ERR_CODE_SPACE;
+			if (retCode >= 0 && timer.isTimeIsUp())
+				retCode = OGPConstants.ERR_CODE_TIME;
 		
 		
 			/*
@@ -283,13 +471,38 @@ public class OpenGeoProver {
 			logger.info("Prover results:\n");
 			if (report != null)
 				report.printProverResults(retCode);
+			
+			// conclusive result is kept in cache of proofs
+			if (fingerprint != null && (retCode == TheoremProver.THEO_PROVE_RET_CODE_TRUE || 
+										retCode == TheoremProver.THEO_PROVE_RET_CODE_FALSE ||
+										retCode == TheoremProver.THEO_PROVE_RET_CODE_TRUE_MODULAR ||
+										retCode == TheoremProver.THEO_PROVE_RET_CODE_UNKNOWN)) {
+				OGPProofCache.CacheEntry entry = new OGPProofCache.CacheEntry(fingerprint, retCode);
+				
+				entry.setTheoremName(consProtocol.getTheoremName());
+				entry.setReportFile(parameters.createReport() ? parameters.getOutputFile() : null);
+				entry.setProverTime(proverTime);
+				if (retCode == TheoremProver.THEO_PROVE_RET_CODE_TRUE || retCode == TheoremProver.THEO_PROVE_RET_CODE_FALSE)
+					entry.setNdgConditions(consProtocol.exportTranslatedNDGConditions());
+				cache.put(entry);
+				settings.setProofCacheEntry(entry);
+			}
 		}
-		else if (OpenGeoProver.settings.getOgpMode() == OGPConstants.OGP_MODE_RC_CONSTRUCTIBILITY) {
+		else if (settings.getOgpMode() == OGPConstants.OGP_MODE_RC_CONSTRUCTIBILITY) {
 			timer.setTimer(parameters.getTimeLimit());
+			budget.setBudget(parameters.getMemoryLimitInBytes());
 			stopwatch.startMeasureTime();
 			int result = consProtocol.transformRcConsProblemToPolynomialForm();
 			stopwatch.endMeasureTime();
 			timer.cancel();  // cancel timer task
+			budget.cancel();
+			
+			// some product could be left incomplete when time was up or memory budget was exceeded
+			if (result == OGPConstants.RET_CODE_SUCCESS && budget.isExceeded())
+				result = OGPConstants.ERR_CODE_SPACE;
+			if (result == OGPConstants.RET_CODE_SUCCESS && timer.isTimeIsUp())
+				result = OGPConstants.ERR_CODE_TIME;
+			retCode = result;
 			
 			if (parameters.createReport()) {
 				try {
@@ -307,7 +520,7 @@ public class OpenGeoProver {
 			String timeReportSec = sb.toString();
 			sb = new StringBuilder();
 			sb.append("The biggest polynomial obtained during application execution contains ");
-			sb.append(OpenGeoProver.settings.getMaxNumOfTerms());
+			sb.append(settings.getMaxNumOfTerms());
 			sb.append(" terms.");
 			String spaceReport = sb.toString();
 			
@@ -331,7 +544,7 @@ public class OpenGeoProver {
 				sb.append("Transformation failed since space limit of ");
 				sb.append(parameters.getSpaceLimit());
 				sb.append(" polynomial terms has been reached - the biggest polynomial obtained during execution contains ");
-				sb.append(OpenGeoProver.settings.getMaxNumOfTerms());
+				sb.append(settings.getMaxNumOfTerms());
 				sb.append(" terms.");
 				message = sb.toString();
 				logger.error(message);
@@ -359,5 +572,7 @@ public class OpenGeoProver {
 				}
 			}
 		}
+		
+		return retCode;
 	}
 }
\ No newline at end of file
@@ -0,0 +1,165 @@
+/*
+ * DISCLAIMER PLACEHOLDER
+ */
+
+package com.ogprover.multithread;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.ogprover.main.OGPConfigurationSettings;
+import com.ogprover.main.OpenGeoProver;
+import com.ogprover.polynomials.XPolynomial;
+import com.ogprover.pp.tp.auxiliary.PointSetRelationshipManager;
+import com.ogprover.pp.tp.geoconstruction.Point;
+
+
+/**
+ * <dl>
+ * <dt><b>Class description:</b></dt>
+ * <dd>Class for concurrent instantiation of condition of set of points for several
+ *     candidate maps of points, used in search for best elements for instantiation</dd>
+ * </dl>
+ *
+ * @version 1.00
+ * @author Ivan Petrovic
+ */
+// Instantiation only reads points and condition, so candidates are instantiated by threads
+// of pool while manager waits, and results are returned in order of candidates; manager then
+// processes them in that order, same as in sequential search. Pools are separate from other
+// pools, since reduction of instances can multiply polynomials concurrently.
+public class ParallelConditionInstantiation {
+	/*
+	 * ======================================================================
+	 * ========================== VARIABLES =================================
+	 * ======================================================================
+	 */
+	/**
+	 * <i><b>
+	 * Version number of class in form xx.yy where
+	 * xx is major version/release number and yy is minor
+	 * release number.
+	 * </b></i>
+	 */
+	public static final String VERSION_NUM = "1.00"; // this should match the version number from class comment
+	/**
+	 * <i><b>Pools of threads for instantiations by number of threads; pool is created on first use</b></i>
+	 */
+	private static Map<Integer, ExecutorService> pools = new HashMap<Integer, ExecutorService>();
+
+
+
+	/*
+	 * ======================================================================
+	 * ========================== GETTERS/SETTERS ===========================
+	 * ======================================================================
+	 */
+	/**
+	 * <i>[static method]</i><br>
+	 * Method that gives pool of threads for instantiations with specified
+	 * number of threads.
+	 *
+	 * @param n		Number of threads
+	 * @return		Pool of threads
+	 */
+	public static synchronized ExecutorService getPool(int n) {
+		ExecutorService pool = ParallelConditionInstantiation.pools.get(n);
+
+		if (pool == null) {
+			pool = Executors.newFixedThreadPool(n, new ThreadFactory() {
+				private AtomicInteger counter = new AtomicInteger(0);
+
+				public Thread newThread(Runnable r) {
+					Thread t = new Thread(r, "ogp-instance-" + this.counter.incrementAndGet());
+					t.setDaemon(true);
+					return t;
+				}
+			});
+			ParallelConditionInstantiation.pools.put(n, pool);
+		}
+		return pool;
+	}
+
+
+
+	/*
+	 * ======================================================================
+	 * ========================== CONSTRUCTORS ==============================
+	 * ======================================================================
+	 */
+	/**
+	 * Constructor method - all methods of this class are static
+	 */
+	private ParallelConditionInstantiation() {
+	}
+
+
+
+	/*
+	 * ======================================================================
+	 * ========================== SPECIFIC METHODS ==========================
+	 * ======================================================================
+	 */
+	/**
+	 * <i>[static method]</i><br>
+	 * Method that instantiates current condition of manager for all passed in
+	 * maps of points concurrently (same as when manager instantiates condition
+	 * for each of them).
+	 *
+	 * @param manager		Manager with condition to be instantiated
+	 * @param pointsMaps	Candidate maps of points
+	 * @param n				Number of parallel threads
+	 * @return				Array with instances in same order as maps of points (element
+	 * 						is null if instantiation for corresponding map has failed), or
+	 * 						null if threads couldn't be completed
+	 */
+	public static XPolynomial[] instantiateConditions(final PointSetRelationshipManager manager, List<Map<String, Point>> pointsMaps, int n) {
+		// Condition is compiled on first use; it is compiled here, before tasks
+		// are submitted, so threads only read shared compiled form.
+		manager.getCondition().getCompiledForm();
+
+		List<Callable<XPolynomial>> tasks = new ArrayList<Callable<XPolynomial>>(pointsMaps.size());
+		final OGPConfigurationSettings settings = OpenGeoProver.getSettings(); // settings of this proof for threads of pool
+
+		for (final Map<String, Point> pointsMap : pointsMaps) {
+			tasks.add(new Callable<XPolynomial>() {
+				public XPolynomial call() {
+					OGPConfigurationSettings previous = OpenGeoProver.setThreadSettings(settings);
+
+					try {
+						return manager.instantiateCondition(pointsMap);
+					} finally {
+						OpenGeoProver.setThreadSettings(previous);
+					}
+				}
+			});
+		}
+
+		XPolynomial[] results = new XPolynomial[pointsMaps.size()];
+
+		try {
+			List<Future<XPolynomial>> futures = ParallelConditionInstantiation.getPool(n).invokeAll(tasks);
+
+			for (int ii = 0, jj = futures.size(); ii < jj; ii++)
+				results[ii] = futures.get(ii).get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			OpenGeoProver.getSettings().getLogger().error("Interrupted while waiting for instantiations of condition.");
+			return null;
+		} catch (ExecutionException e) {
+			OpenGeoProver.getSettings().getLogger().error("Failed to complete instantiation of condition: " + e.getCause());
+			return null;
+		}
+
+		return results;
+	}
+}
@@ -0,0 +1,378 @@
+/*
+ * DISCLAIMER PLACEHOLDER
+ */
+
+package com.ogprover.multithread;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.ogprover.main.OGPConfigurationSettings;
+import com.ogprover.main.OpenGeoProver;
+import com.ogprover.polynomials.GeoBucket;
+import com.ogprover.polynomials.SortedTermArray;
+
+
+/**
+ * <dl>
+ * <dt><b>Class description:</b></dt>
+ * <dd>Class for concurrent multiplication of two polynomials on pool of threads;
+ *     larger factor is recursively split into ranges of terms, each range gives sorted
+ *     partial product and partial products are merged in binary tree</dd>
+ * </dl>
+ *
+ * @version 1.00
+ * @author Ivan Petrovic
+ */
+// Splitting is done in fork-join manner: task which splits range submits its right half
+// to pool and continues with the left half. Each inner node of tree of ranges is merged
+// by the thread which completes the later of its two children, so no thread ever waits
+// for another one and there is no lock around the resulting polynomial.
+public class ParallelPolyMultiplier {
+	/*
+	 * ======================================================================
+	 * ========================== VARIABLES =================================
+	 * ======================================================================
+	 */
+	/**
+	 * <i><b>
+	 * Version number of class in form xx.yy where
+	 * xx is major version/release number and yy is minor
+	 * release number.
+	 * </b></i>
+	 */
+	public static final String VERSION_NUM = "1.00"; // this should match the version number from class comment
+	/**
+	 * <i><b>Number of leaf ranges per requested thread (more leaves give better load balance)</b></i>
+	 */
+	private static final int NUM_OF_LEAVES_PER_THREAD = 4;
+	/**
+	 * <i><b>Pools of threads for multiplications by number of threads; pool is created on first use
+	 * and shared by all multiplications with that number of threads</b></i>
+	 */
+	private static Map<Integer, ExecutorService> pools = new HashMap<Integer, ExecutorService>();
+
+	/**
+	 * Factor which is split into ranges
+	 */
+	private SortedTermArray first;
+	/**
+	 * Factor which is multiplied by each range of first factor
+	 */
+	private SortedTermArray second;
+	/**
+	 * Maximal number of terms in leaf range
+	 */
+	private int leafSize;
+	/**
+	 * Pool of threads which executes tasks of this multiplication
+	 */
+	private ExecutorService pool;
+	/**
+	 * Signal for completion of multiplication
+	 */
+	private CountDownLatch done;
+	/**
+	 * Resulting product
+	 */
+	private volatile SortedTermArray result;
+	/**
+	 * Error raised in some task, if any
+	 */
+	private volatile Throwable failure;
+	/**
+	 * Settings of proof which requested multiplication; they are set
+	 * for threads of pool while they execute tasks of this multiplication
+	 */
+	private OGPConfigurationSettings settings;
+
+
+
+	/*
+	 * ======================================================================
+	 * ========================== GETTERS/SETTERS ===========================
+	 * ======================================================================
+	 */
+	/**
+	 * <i>[static method]</i><br>
+	 * Method that gives pool of threads for multiplications with specified
+	 * number of threads; threads don't prevent exit of application.
+	 *
+	 * @param n		Number of threads
+	 * @return		Pool of threads
+	 */
+	public static synchronized ExecutorService getPool(int n) {
+		ExecutorService pool = ParallelPolyMultiplier.pools.get(n);
+
+		if (pool == null) {
+			pool = Executors.newFixedThreadPool(n, new ThreadFactory() {
+				private AtomicInteger counter = new AtomicInteger(0);
+
+				public Thread newThread(Runnable r) {
+					Thread t = new Thread(r, "ogp-mult-" + this.counter.incrementAndGet());
+					t.setDaemon(true);
+					return t;
+				}
+			});
+			ParallelPolyMultiplier.pools.put(n, pool);
+		}
+		return pool;
+	}
+
+
+
+	/*
+	 * ======================================================================
+	 * ========================== CONSTRUCTORS ==============================
+	 * ======================================================================
+	 */
+	/**
+	 * Constructor method
+	 *
+	 * @param first		Factor which is split into ranges
+	 * @param second	Another factor
+	 * @param leafSize	Maximal number of terms in leaf range
+	 * @param pool		Pool of threads which executes tasks
+	 */
+	private ParallelPolyMultiplier(SortedTermArray first, SortedTermArray second, int leafSize, ExecutorService pool) {
+		this.first = first;
+		this.second = second;
+		this.leafSize = leafSize;
+		this.pool = pool;
+		this.done = new CountDownLatch(1);
+		this.result = null;
+		this.failure = null;
+		this.settings = OpenGeoProver.getSettings();
+	}
+
+
+
+	/*
+	 * ======================================================================
+	 * ========================== SPECIFIC METHODS ==========================
+	 * ======================================================================
+	 */
+	/**
+	 * <i>[static method]</i><br>
+	 * Method that calculates product of two polynomials concurrently.
+	 * Neither of factors is changed.
+	 *
+	 * @param a		First factor
+	 * @param b		Second factor
+	 * @param n		Number of parallel threads
+	 * @return		Sorted array with product of factors or null in case of error
+	 */
+	public static SortedTermArray multiply(SortedTermArray a, SortedTermArray b, int n) {
+		int size = (a.size() < b.size()) ? b.size() : a.size();
+
+		return ParallelPolyMultiplier.multiply(a, b, n, ParallelPolyMultiplier.getLeafSize(size, n));
+	}
+
+	/**
+	 * <i>[static method]</i><br>
+	 * Method that calculates product of two polynomials concurrently,
+	 * with specified size of leaf ranges. Neither of factors is changed.
+	 *
+	 * @param a			First factor
+	 * @param b			Second factor
+	 * @param n			Number of parallel threads
+	 * @param leafSize	Maximal number of terms of larger factor in leaf range
+	 * 					(if it is not less than number of terms, product is calculated by single task)
+	 * @return			Sorted array with product of factors or null in case of error
+	 */
+	public static SortedTermArray multiply(SortedTermArray a, SortedTermArray b, int n, int leafSize) {
+		// split larger factor, so lopsided products are split as well
+		SortedTermArray first = a, second = b;
+
+		if (a.size() < b.size()) {
+			first = b;
+			second = a;
+		}
+
+		if (first.size() == 0 || second.size() == 0)
+			return new SortedTermArray(1);
+
+		// pool has n threads, so number of threads set by parameters limits use of processors
+		ParallelPolyMultiplier mult = new ParallelPolyMultiplier(first, second, leafSize, ParallelPolyMultiplier.getPool(n));
+
+		mult.pool.execute(mult.new RangeTask(0, first.size(), null, 0));
+
+		try {
+			mult.done.await();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return null;
+		}
+
+		return ((mult.failure == null) ? mult.result : null);
+	}
+
+	/**
+	 * <i>[static method]</i><br>
+	 * Method that gives approximate number of leaf ranges (tasks) used for multiplication.
+	 *
+	 * @param size	Number of terms of larger factor
+	 * @param n		Number of parallel threads
+	 * @return		Number of leaf ranges
+	 */
+	public static int getNumOfLeaves(int size, int n) {
+		int leafSize = ParallelPolyMultiplier.getLeafSize(size, n);
+
+		return ((leafSize > 0) ? (size + leafSize - 1) / leafSize : 0);
+	}
+
+	/**
+	 * <i>[static method]</i><br>
+	 * Method that gives maximal number of terms in leaf range used for multiplication.
+	 *
+	 * @param size	Number of terms of larger factor
+	 * @param n		Number of parallel threads
+	 * @return		Maximal number of terms in leaf range
+	 */
+	private static int getLeafSize(int size, int n) {
+		int numOfLeaves = n * ParallelPolyMultiplier.NUM_OF_LEAVES_PER_THREAD;
+
+		return (size + numOfLeaves - 1) / numOfLeaves;
+	}
+
+	/**
+	 * Method that passes partial product to inner node of tree and merges
+	 * products in nodes whose both children are completed.
+	 *
+	 * @param node		Parent node of completed range (null for root)
+	 * @param slot		Position of completed range in parent node (0 or 1)
+	 * @param product	Partial product of completed range
+	 */
+	private void complete(MergeNode node, int slot, SortedTermArray product) {
+		while (node != null) {
+			node.products[slot] = product;
+			if (node.pending.decrementAndGet() != 0)
+				return; // another child is not completed yet - it will continue merging
+
+			// both children are completed - merge them and go up
+			product = SortedTermArray.merge(node.products[0], node.products[1], false, false);
+			node.products = null;
+			slot = node.slot;
+			node = node.parent;
+		}
+
+		this.result = product;
+		this.done.countDown();
+	}
+
+
+
+	/*
+	 * ======================================================================
+	 * ========================== INNER CLASSES =============================
+	 * ======================================================================
+	 */
+	/**
+	 * Inner node of tree of ranges
+	 */
+	private static class MergeNode {
+		/**
+		 * Parent node or null for root
+		 */
+		private MergeNode parent;
+		/**
+		 * Position of this node in parent node
+		 */
+		private int slot;
+		/**
+		 * Partial products of children
+		 */
+		private SortedTermArray[] products;
+		/**
+		 * Number of children which are not completed yet
+		 */
+		private AtomicInteger pending;
+
+		/**
+		 * Constructor method
+		 *
+		 * @param parent	Parent node
+		 * @param slot		Position of this node in parent node
+		 */
+		public MergeNode(MergeNode parent, int slot) {
+			this.parent = parent;
+			this.slot = slot;
+			this.products = new SortedTermArray[2];
+			this.pending = new AtomicInteger(2);
+		}
+	}
+
+	/**
+	 * Task for multiplication of range of terms of first factor by second factor
+	 */
+	private class RangeTask implements Runnable {
+		/**
+		 * Position of first term of range
+		 */
+		private int fromIndex;
+		/**
+		 * Position after last term of range
+		 */
+		private int toIndex;
+		/**
+		 * Parent node
+		 */
+		private MergeNode parent;
+		/**
+		 * Position of this range in parent node
+		 */
+		private int slot;
+
+		/**
+		 * Constructor method
+		 *
+		 * @param fromIndex		Position of first term of range
+		 * @param toIndex		Position after last term of range
+		 * @param parent		Parent node
+		 * @param slot			Position of this range in parent node
+		 */
+		public RangeTask(int fromIndex, int toIndex, MergeNode parent, int slot) {
+			this.fromIndex = fromIndex;
+			this.toIndex = toIndex;
+			this.parent = parent;
+			this.slot = slot;
+		}
+
+		/**
+		 * @see java.lang.Runnable#run()
+		 */
+		public void run() {
+			ParallelPolyMultiplier mult = ParallelPolyMultiplier.this;
+			OGPConfigurationSettings previous = OpenGeoProver.setThreadSettings(mult.settings);
+
+			try {
+				// fork right halves while range is too large
+				while (this.toIndex - this.fromIndex > mult.leafSize) {
+					int middle = (this.fromIndex + this.toIndex) >>> 1;
+					MergeNode node = new MergeNode(this.parent, this.slot);
+
+					ParallelPolyMultiplier.this.pool.execute(new RangeTask(middle, this.toIndex, node, 1));
+					this.toIndex = middle;
+					this.parent = node;
+					this.slot = 0;
+				}
+
+				GeoBucket bucket = new GeoBucket();
+
+				bucket.addProduct(mult.first.subArray(this.fromIndex, this.toIndex), mult.second, false);
+				mult.complete(this.parent, this.slot, bucket.getResult());
+			} catch (Throwable t) {
+				// release waiting thread - result is not valid any more
+				mult.failure = t;
+				mult.done.countDown();
+			} finally {
+				OpenGeoProver.setThreadSettings(previous);
+			}
+		}
+	}
+}
@@ -0,0 +1,167 @@
+/*
+ * DISCLAIMER PLACEHOLDER
+ */
+
+package com.ogprover.multithread;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.ogprover.main.OGPConfigurationSettings;
+import com.ogprover.main.OpenGeoProver;
+import com.ogprover.polynomials.Term;
+import com.ogprover.polynomials.XPolynomial;
+
+
+/**
+ * <dl>
+ * <dt><b>Class description:</b></dt>
+ * <dd>Class for concurrent reduction of several x-polynomials by same polynomial
+ *     (pseudo division over same variable), used in triangulation of polynomial system</dd>
+ * </dl>
+ *
+ * @version 1.00
+ * @author Ivan Petrovic
+ */
+// Pseudo divisions run on their own pool, separate from pool used by ParallelPolyMultiplier,
+// because each of them waits for concurrent multiplications it starts. Results are returned
+// in order of input polynomials, so triangulation and its report don't depend on order in
+// which threads finish. There is one pool for each requested number of threads, since
+// theorems proved concurrently may use different numbers of threads.
+public class ParallelPseudoDivision {
+	/*
+	 * ======================================================================
+	 * ========================== VARIABLES =================================
+	 * ======================================================================
+	 */
+	/**
+	 * <i><b>
+	 * Version number of class in form xx.yy where
+	 * xx is major version/release number and yy is minor
+	 * release number.
+	 * </b></i>
+	 */
+	public static final String VERSION_NUM = "1.00"; // this should match the version number from class comment
+	/**
+	 * <i><b>Pools of threads for pseudo divisions by number of threads; pool is created on first use</b></i>
+	 */
+	private static Map<Integer, ExecutorService> pools = new HashMap<Integer, ExecutorService>();
+
+
+
+	/*
+	 * ======================================================================
+	 * ========================== GETTERS/SETTERS ===========================
+	 * ======================================================================
+	 */
+	/**
+	 * <i>[static method]</i><br>
+	 * Method that gives pool of threads for pseudo divisions with specified
+	 * number of threads.
+	 *
+	 * @param n		Number of threads
+	 * @return		Pool of threads
+	 */
+	public static synchronized ExecutorService getPool(int n) {
+		ExecutorService pool = ParallelPseudoDivision.pools.get(n);
+
+		if (pool == null) {
+			pool = Executors.newFixedThreadPool(n, new ThreadFactory() {
+				private AtomicInteger counter = new AtomicInteger(0);
+
+				public Thread newThread(Runnable r) {
+					Thread t = new Thread(r, "ogp-prem-" + this.counter.incrementAndGet());
+					t.setDaemon(true);
+					return t;
+				}
+			});
+			ParallelPseudoDivision.pools.put(n, pool);
+		}
+		return pool;
+	}
+
+
+
+	/*
+	 * ======================================================================
+	 * ========================== CONSTRUCTORS ==============================
+	 * ======================================================================
+	 */
+	/**
+	 * Constructor method - all methods of this class are static
+	 */
+	private ParallelPseudoDivision() {
+	}
+
+
+
+	/*
+	 * ======================================================================
+	 * ========================== SPECIFIC METHODS ==========================
+	 * ======================================================================
+	 */
+	/**
+	 * <i>[static method]</i><br>
+	 * Method that calculates pseudo remainders of polynomials with respect to same polynomial
+	 * concurrently. Each polynomial from list is changed to its pseudo remainder (same as
+	 * when XPolynomial.pseudoReminder() is called), while divisor is not changed.
+	 *
+	 * @param polys		List of polynomials to be reduced
+	 * @param divisor	Polynomial which all polynomials are pseudo divided by
+	 * @param varIndex	Index of variable over which pseudo division is performed
+	 * @param n			Number of parallel threads
+	 * @return			Array with pseudo remainders in same order as input polynomials (element
+	 * 					is null if pseudo division of corresponding polynomial has failed), or
+	 * 					null if threads couldn't be completed
+	 */
+	public static XPolynomial[] pseudoReminders(List<XPolynomial> polys, final XPolynomial divisor, final int varIndex, int n) {
+		// Terms of divisor cache their packed powers on first use; they are filled in here,
+		// before tasks are submitted, so threads only read shared divisor.
+		for (Term t : divisor.getTermsAsDescList())
+			t.getPackedPowers();
+
+		List<Callable<XPolynomial>> tasks = new ArrayList<Callable<XPolynomial>>(polys.size());
+		final OGPConfigurationSettings settings = OpenGeoProver.getSettings(); // settings of this proof for threads of pool
+
+		for (final XPolynomial xp : polys) {
+			tasks.add(new Callable<XPolynomial>() {
+				public XPolynomial call() {
+					OGPConfigurationSettings previous = OpenGeoProver.setThreadSettings(settings);
+
+					try {
+						return xp.pseudoReminder(divisor, varIndex);
+					} finally {
+						OpenGeoProver.setThreadSettings(previous);
+					}
+				}
+			});
+		}
+
+		XPolynomial[] results = new XPolynomial[polys.size()];
+
+		try {
+			List<Future<XPolynomial>> futures = ParallelPseudoDivision.getPool(n).invokeAll(tasks);
+
+			for (int ii = 0, jj = futures.size(); ii < jj; ii++)
+				results[ii] = futures.get(ii).get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			OpenGeoProver.getSettings().getLogger().error("Interrupted while waiting for pseudo divisions.");
+			return null;
+		} catch (ExecutionException e) {
+			OpenGeoProver.getSettings().getLogger().error("Failed to complete pseudo division: " + e.getCause());
+			return null;
+		}
+
+		return results;
+	}
+}
@@ -0,0 +1,270 @@
+/*
+ * DISCLAIMER PLACEHOLDER
+ */
+
+package com.ogprover.polynomials;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+import com.ogprover.main.OpenGeoProver;
+
+
+/**
+ * <dl>
+ * <dt><b>Class description:</b></dt>
+ * <dd>Class for compiled form of symbolic polynomial - polynomial with slots
+ *     for points, which is instantiated to x-polynomial by substitution of
+ *     coordinates of points for slots</dd>
+ * </dl>
+ *
+ * @version 1.00
+ * @author Ivan Petrovic
+ */
+// Polynomial is compiled once for a symbolic polynomial (see SymbolicPolynomial.getCompiledForm())
+// and doesn't change afterwards, so it can be shared by threads. Each symbolic variable is
+// replaced by index of coordinate: 2*slot for x coordinate and 2*slot+1 for y coordinate
+// of point, where slot is index of point label; powers of same coordinate within a term
+// are merged during compilation. Instantiation then only creates terms of result, without
+// maps of powers and without looking up points for each power.
+public final class CompiledSymbolicPolynomial {
+	/*
+	 * ======================================================================
+	 * ========================== VARIABLES =================================
+	 * ======================================================================
+	 */
+	/**
+	 * <i><b>
+	 * Version number of class in form xx.yy where
+	 * xx is major version/release number and yy is minor
+	 * release number.
+	 * </b></i>
+	 */
+	public static final String VERSION_NUM = "1.00"; // this should match the version number from class comment
+
+	/**
+	 * Tree of terms of symbolic polynomial which this form is compiled from
+	 */
+	private final TreeMap<Term, Term> source;
+	/**
+	 * Number of terms of symbolic polynomial at the moment of compilation
+	 */
+	private final int numOfSourceTerms;
+	/**
+	 * Labels of points - index of label is slot of point
+	 */
+	private final String[] pointLabels;
+	/**
+	 * Coefficients of terms, in descending order of terms
+	 */
+	private final double[] coeffs;
+	/**
+	 * Indices of coordinates of powers of each term
+	 */
+	private final int[][] coordinates;
+	/**
+	 * Exponents of powers of each term
+	 */
+	private final int[][] exponents;
+	/**
+	 * Flag which tells whether compilation has succeeded
+	 */
+	private final boolean valid;
+
+
+
+	/*
+	 * ======================================================================
+	 * ========================== GETTERS/SETTERS ===========================
+	 * ======================================================================
+	 */
+	/**
+	 * @return	Labels of points, in order of slots - returned array must not be changed
+	 */
+	public String[] getPointLabels() {
+		return this.pointLabels;
+	}
+
+	/**
+	 * @return	True if symbolic polynomial has been successfully compiled, false otherwise
+	 */
+	public boolean isValid() {
+		return this.valid;
+	}
+
+
+
+	/*
+	 * ======================================================================
+	 * ========================== CONSTRUCTORS ==============================
+	 * ======================================================================
+	 */
+	/**
+	 * Constructor method - compiles symbolic polynomial
+	 *
+	 * @param sp	Symbolic polynomial to be compiled
+	 */
+	public CompiledSymbolicPolynomial(SymbolicPolynomial sp) {
+		ArrayList<Term> terms = sp.getTermsAsDescList();
+		int numOfTerms = terms.size();
+		Map<String, Integer> slots = new HashMap<String, Integer>();
+		ArrayList<String> labels = new ArrayList<String>();
+		boolean success = true;
+
+		this.source = sp.getTerms();
+		this.numOfSourceTerms = sp.getNumOfTerms();
+		this.coeffs = new double[numOfTerms];
+		this.coordinates = new int[numOfTerms][];
+		this.exponents = new int[numOfTerms][];
+
+		for (int ii = 0; ii < numOfTerms && success; ii++) {
+			Term st = terms.get(ii);
+			int numOfPowers = st.getPowers().size();
+			int[] coords = new int[numOfPowers];
+			int[] exps = new int[numOfPowers];
+			int size = 0;
+
+			this.coeffs[ii] = ((SymbolicTerm)st).getCoeff();
+
+			for (Power pow : st.getPowers()) {
+				SymbolicVariable sv = (SymbolicVariable)pow.getVariable();
+				short varType = sv.getVariableType();
+				int coord;
+
+				if (varType != Variable.VAR_TYPE_SYMB_X && varType != Variable.VAR_TYPE_SYMB_Y) {
+					OpenGeoProver.getSettings().getLogger().error("Non-symbolic variable obtained when symbolic was excpected");
+					success = false;
+					break;
+				}
+
+				Integer slot = slots.get(sv.getPointLabel());
+
+				if (slot == null) {
+					slot = Integer.valueOf(labels.size());
+					slots.put(sv.getPointLabel(), slot);
+					labels.add(sv.getPointLabel());
+				}
+				coord = 2*slot.intValue() + ((varType == Variable.VAR_TYPE_SYMB_X) ? 0 : 1);
+
+				// merge powers of same coordinate
+				int jj = 0;
+
+				while (jj < size && coords[jj] != coord)
+					jj++;
+				if (jj < size)
+					exps[jj] += pow.getExponent();
+				else {
+					coords[size] = coord;
+					exps[size] = pow.getExponent();
+					size++;
+				}
+			}
+
+			if (size < numOfPowers) {
+				int[] c = new int[size];
+				int[] e = new int[size];
+
+				System.arraycopy(coords, 0, c, 0, size);
+				System.arraycopy(exps, 0, e, 0, size);
+				coords = c;
+				exps = e;
+			}
+			this.coordinates[ii] = coords;
+			this.exponents[ii] = exps;
+		}
+
+		this.pointLabels = labels.toArray(new String[labels.size()]);
+		this.valid = success;
+	}
+
+
+
+	/*
+	 * ======================================================================
+	 * ========================== SPECIFIC METHODS ==========================
+	 * ======================================================================
+	 */
+	/**
+	 * Method that checks whether this form is compiled from current
+	 * state of passed in symbolic polynomial.
+	 *
+	 * @param sp	Symbolic polynomial
+	 * @return		True if this form can be used for instantiation of that polynomial,
+	 * 				false otherwise
+	 */
+	public boolean isCompiledFrom(SymbolicPolynomial sp) {
+		return this.source == sp.getTerms() && this.numOfSourceTerms == sp.getNumOfTerms();
+	}
+
+	/**
+	 * Method that instantiates this compiled form to x-polynomial.
+	 *
+	 * @param pointCoordinates	Coordinates of points assigned to slots: element with index 2*slot
+	 * 							is x coordinate and element with index 2*slot+1 is y coordinate
+	 * 							of point of that slot
+	 * @return					XPolynomial representing instance of compiled form
+	 */
+	public XPolynomial instantiate(UXVariable[] pointCoordinates) {
+		XPolynomial result = new XPolynomial(); // empty polynomial
+		// coordinates are cloned once, when they are used for the first time, and then shared by
+		// powers of result - variables in polynomials are never changed in place
+		Variable[] clones = new Variable[pointCoordinates.length];
+
+		for (int ii = 0, numOfTerms = this.coeffs.length; ii < numOfTerms; ii++) {
+			int[] coords = this.coordinates[ii];
+			int[] exps = this.exponents[ii];
+			boolean isZeroTerm = false;
+
+			// if some power is zero (u-variable with index 0) whole term is zero
+			// and will not be added to resulting XPolynomial
+			for (int jj = 0; jj < coords.length; jj++) {
+				UXVariable v = pointCoordinates[coords[jj]];
+
+				if (v.getVariableType() == Variable.VAR_TYPE_UX_U && v.getIndex() == 0) {
+					isZeroTerm = true;
+					break;
+				}
+			}
+			if (isZeroTerm)
+				continue;
+
+			UTerm ut = new UTerm(this.coeffs[ii]);
+
+			// first u-powers, then x-powers (coefficient of x-term is created from complete u-term);
+			// method addPower() merges powers of same variable obtained from different coordinates
+			for (int jj = 0; jj < coords.length; jj++) {
+				if (pointCoordinates[coords[jj]].getVariableType() == Variable.VAR_TYPE_UX_U)
+					ut.addPower(new Power(this.getClone(pointCoordinates, clones, coords[jj]), exps[jj]));
+			}
+
+			UPolynomial up = new UPolynomial();
+			up.addTerm(ut);
+			XTerm xt = new XTerm(new UFraction(up));
+
+			for (int jj = 0; jj < coords.length; jj++) {
+				if (pointCoordinates[coords[jj]].getVariableType() == Variable.VAR_TYPE_UX_X)
+					xt.addPower(new Power(this.getClone(pointCoordinates, clones, coords[jj]), exps[jj]));
+			}
+
+			result.addTerm(xt);
+		}
+
+		return result;
+	}
+
+	/**
+	 * Method that retrieves clone of coordinate of point, creating it if necessary.
+	 *
+	 * @param pointCoordinates	Coordinates of points
+	 * @param clones			Already created clones of coordinates
+	 * @param coord				Index of coordinate
+	 * @return					Clone of coordinate
+	 */
+	private Variable getClone(UXVariable[] pointCoordinates, Variable[] clones, int coord) {
+		if (clones[coord] == null)
+			clones[coord] = pointCoordinates[coord].clone();
+		return clones[coord];
+	}
+}
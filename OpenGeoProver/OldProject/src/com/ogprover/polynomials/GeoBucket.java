@@ -0,0 +1,286 @@
+/*
+ * DISCLAIMER PLACEHOLDER
+ */
+
+package com.ogprover.polynomials;
+
+import com.ogprover.main.OpenGeoProver;
+import com.ogprover.utilities.OGPMemoryBudget;
+import com.ogprover.utilities.OGPTimer;
+
+/**
+ * <dl>
+ * <dt><b>Class description:</b></dt>
+ * <dd>Class for accumulation of many additions of polynomials (geobucket);
+ *     terms are kept in several sorted arrays of increasing capacity and
+ *     they are merged into one polynomial only when leading term or
+ *     final result is requested</dd>
+ * </dl>
+ *
+ * @version 1.00
+ * @author Ivan Petrovic
+ */
+// Bucket with index ii can hold up to 4^ii terms. Polynomial with m terms is added
+// to bucket whose capacity is at least m, and when bucket becomes too big it is
+// moved (merged) to next bucket. This way each term is merged only logarithmic number
+// of times, instead of each addition to large accumulator costing its whole size.
+public class GeoBucket {
+	/*
+	 * ======================================================================
+	 * ========================== VARIABLES =================================
+	 * ======================================================================
+	 */
+	/**
+	 * <i><b>
+	 * Version number of class in form xx.yy where
+	 * xx is major version/release number and yy is minor
+	 * release number.
+	 * </b></i>
+	 */
+	public static final String VERSION_NUM = "1.00"; // this should match the version number from class comment
+	/**
+	 * <i><b>Binary logarithm of ratio of capacities of two successive buckets</b></i>
+	 */
+	private static final int BUCKET_SHIFT = 2;
+	/**
+	 * <i><b>Maximal number of buckets (capacity of the last one is not limited)</b></i>
+	 */
+	private static final int MAX_NUM_OF_BUCKETS = 16;
+
+	/**
+	 * Buckets with terms; empty bucket is null
+	 */
+	private SortedTermArray[] buckets;
+	/**
+	 * Index of the last non-empty bucket
+	 */
+	private int lastBucket;
+	/**
+	 * Memory budget of proof which products are reserved in
+	 */
+	private OGPMemoryBudget budget;
+	/**
+	 * Number of bytes reserved for terms of this accumulator
+	 */
+	private long reservedBytes;
+
+
+
+	/*
+	 * ======================================================================
+	 * ========================== GETTERS/SETTERS ===========================
+	 * ======================================================================
+	 */
+	/**
+	 * Method that gives number of terms in all buckets; since buckets are not
+	 * merged, this is upper bound for number of terms of resulting polynomial.
+	 *
+	 * @return	Number of terms in buckets
+	 */
+	public int getNumOfTerms() {
+		int num = 0;
+
+		for (int ii = 0; ii <= this.lastBucket; ii++) {
+			if (this.buckets[ii] != null)
+				num += this.buckets[ii].size();
+		}
+
+		return num;
+	}
+
+
+
+	/*
+	 * ======================================================================
+	 * ========================== CONSTRUCTORS ==============================
+	 * ======================================================================
+	 */
+	/**
+	 * Constructor method
+	 */
+	public GeoBucket() {
+		this.buckets = new SortedTermArray[GeoBucket.MAX_NUM_OF_BUCKETS];
+		this.lastBucket = -1;
+		this.budget = OpenGeoProver.getSettings().getMemoryBudget();
+		this.reservedBytes = 0;
+	}
+
+
+
+	/*
+	 * ======================================================================
+	 * ========================== SPECIFIC METHODS ==========================
+	 * ======================================================================
+	 */
+	/**
+	 * <i>[static method]</i><br>
+	 * Method that gives index of the smallest bucket which can hold specified number of terms.
+	 *
+	 * @param size	Number of terms
+	 * @return		Index of bucket
+	 */
+	private static int getBucketIndex(int size) {
+		int ii = 0;
+
+		while (ii < GeoBucket.MAX_NUM_OF_BUCKETS - 1 && size > (1 << (GeoBucket.BUCKET_SHIFT * ii)))
+			ii++;
+
+		return ii;
+	}
+
+	/**
+	 * Method that adds terms from sorted array to this accumulator.
+	 * Terms are moved (not copied) and passed in array shouldn't be used
+	 * after this operation.
+	 *
+	 * @param a		Sorted array of terms
+	 */
+	public void add(SortedTermArray a) {
+		if (a == null || a.size() == 0)
+			return;
+
+		int ii = GeoBucket.getBucketIndex(a.size());
+
+		// merge with buckets and move to next one while it is too big
+		while (true) {
+			if (this.buckets[ii] != null) {
+				a = SortedTermArray.merge(this.buckets[ii], a, false, false);
+				this.buckets[ii] = null;
+			}
+
+			if (ii == GeoBucket.MAX_NUM_OF_BUCKETS - 1 || a.size() <= (1 << (GeoBucket.BUCKET_SHIFT * ii)))
+				break;
+			ii++;
+		}
+
+		this.buckets[ii] = a;
+		if (ii > this.lastBucket)
+			this.lastBucket = ii;
+	}
+
+	/**
+	 * Method that adds (or subtracts) product of two polynomials to this accumulator.
+	 * Neither of polynomials is changed.
+	 * <p>
+	 * Product with single term keeps the order of terms, so each term of smaller
+	 * polynomial produces one sorted chunk of product terms which is added to buckets.
+	 * When time for proof is up or its memory budget is exceeded, remaining chunks
+	 * are skipped - product is then incomplete and caller discards it when it checks
+	 * the limits.
+	 * </p>
+	 *
+	 * @param a			First factor
+	 * @param b			Second factor
+	 * @param negate	Whether product is subtracted or added
+	 */
+	public void addProduct(SortedTermArray a, SortedTermArray b, boolean negate) {
+		SortedTermArray small = a, large = b;
+
+		if (a.size() > b.size()) {
+			small = b;
+			large = a;
+		}
+
+		OGPTimer timer = OpenGeoProver.getSettings().getTimer();
+		int work = 0; // number of term products since last check of time
+
+		for (int ii = 0, jj = small.size(); ii < jj; ii++) {
+			if (work >= OGPTimer.POLL_INTERVAL) {
+				if (timer.isTimeIsUp())
+					return;
+				work = 0;
+			}
+			work += large.size();
+
+			Term curr = small.get(ii);
+			SortedTermArray chunk = new SortedTermArray(large.size());
+
+			for (int kk = 0, ll = large.size(); kk < ll; kk++) {
+				Term prod = large.get(kk).clone();
+
+				prod.mul(curr);
+				if (negate)
+					prod.invert();
+				if (!prod.isZero())
+					chunk.append(prod);
+			}
+
+			this.add(chunk);
+
+			long bytes = chunk.estimateSizeFromSample();
+
+			this.reservedBytes += bytes;
+			if (!this.budget.reserve(bytes))
+				return;
+		}
+	}
+
+	/**
+	 * Method that adds (or subtracts) product of two polynomials to this accumulator.
+	 *
+	 * @see #addProduct(SortedTermArray, SortedTermArray, boolean)
+	 */
+	public void addProduct(Polynomial a, Polynomial b, boolean negate) {
+		this.addProduct(a.viewAsTermArray(), b.viewAsTermArray(), negate);
+	}
+
+	/**
+	 * Method that merges all buckets into one.
+	 *
+	 * @return	Sorted array with all terms from this accumulator, which
+	 * 			remains in the biggest used bucket
+	 */
+	private SortedTermArray canonicalize() {
+		SortedTermArray result = null;
+		int resultBucket = 0;
+
+		// merge from smaller to bigger buckets
+		for (int ii = 0; ii <= this.lastBucket; ii++) {
+			if (this.buckets[ii] != null) {
+				result = (result == null) ? this.buckets[ii] : SortedTermArray.merge(this.buckets[ii], result, false, false);
+				this.buckets[ii] = null;
+				resultBucket = ii;
+			}
+		}
+
+		if (result == null)
+			return null;
+
+		// keep merged terms in the biggest bucket used, so accumulation can continue
+		this.buckets[resultBucket] = result;
+		this.lastBucket = resultBucket;
+		return result;
+	}
+
+	/**
+	 * Method that gives leading (the greatest) term of accumulated polynomial.
+	 *
+	 * @return	Leading term or null if accumulated polynomial is zero
+	 */
+	public Term getLeadingTerm() {
+		SortedTermArray result = this.canonicalize();
+
+		return ((result != null) ? result.getLast() : null);
+	}
+
+	/**
+	 * Method that gives accumulated polynomial; after this operation
+	 * this accumulator is empty.
+	 *
+	 * @return	Sorted array with all terms from this accumulator
+	 */
+	public SortedTermArray getResult() {
+		SortedTermArray result = this.canonicalize();
+
+		// result is accounted by its user
+		this.budget.release(this.reservedBytes);
+		this.reservedBytes = 0;
+
+		if (result == null)
+			return new SortedTermArray(1);
+
+		this.buckets[this.lastBucket] = null;
+		this.lastBucket = -1;
+		return result;
+	}
+}
@@ -204,7 +204,7 @@ public class GeoTheorem {
 	 * @return	SUCCESS if successful, general error code otherwise.
 	 */
 	public int fillNDGConditionsForWuProver() {
-		ILogger logger = OpenGeoProver.settings.getLogger();
+		ILogger logger = OpenGeoProver.getSettings().getLogger();
 		XPolynomial one = new XPolynomial(1);
 		int numOfHypotheses = (this.hypotheses != null) ? this.hypotheses.getPolynomials().size() : 0;
 		
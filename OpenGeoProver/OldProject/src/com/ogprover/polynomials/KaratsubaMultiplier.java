@@ -0,0 +1,194 @@
+/*
+ * DISCLAIMER PLACEHOLDER
+ */
+
+package com.ogprover.polynomials;
+
+
+/**
+ * <dl>
+ * <dt><b>Class description:</b></dt>
+ * <dd>Class for Karatsuba-style multiplication of dense polynomials;
+ *     factors are split by exponent of main variable and product is
+ *     obtained from three products of smaller polynomials instead of four</dd>
+ * </dl>
+ *
+ * @version 1.00
+ * @author Ivan Petrovic
+ */
+// For a = a0 + v^k*a1 and b = b0 + v^k*b1 product is calculated as
+// a*b = z0 + v^k*(z1 - z0 - z2) + v^(2k)*z2, where z0 = a0*b0, z2 = a1*b1 and
+// z1 = (a0 + a1)*(b0 + b1). This saves work only when terms of a0 and a1 overlap,
+// i.e. for dense polynomials - the choice is made by MultiplicationCostModel.
+public class KaratsubaMultiplier {
+	/*
+	 * ======================================================================
+	 * ========================== VARIABLES =================================
+	 * ======================================================================
+	 */
+	/**
+	 * <i><b>
+	 * Version number of class in form xx.yy where
+	 * xx is major version/release number and yy is minor
+	 * release number.
+	 * </b></i>
+	 */
+	public static final String VERSION_NUM = "1.00"; // this should match the version number from class comment
+	/**
+	 * <i><b>Minimal number of terms of both factors for splitting - smaller factors are multiplied directly</b></i>
+	 */
+	public static final int MIN_NUM_OF_TERMS = 32;
+
+
+
+	/*
+	 * ======================================================================
+	 * ========================== CONSTRUCTORS ==============================
+	 * ======================================================================
+	 */
+	/**
+	 * Constructor method - all methods of this class are static
+	 */
+	private KaratsubaMultiplier() {
+	}
+
+
+
+	/*
+	 * ======================================================================
+	 * ========================== SPECIFIC METHODS ==========================
+	 * ======================================================================
+	 */
+	/**
+	 * <i>[static method]</i><br>
+	 * Method that calculates product of two polynomials.
+	 * Neither of factors is changed.
+	 *
+	 * @param a		First factor
+	 * @param b		Second factor
+	 * @return		New array with product of factors
+	 */
+	public static SortedTermArray multiply(SortedTermArray a, SortedTermArray b) {
+		if (a.size() < KaratsubaMultiplier.MIN_NUM_OF_TERMS || b.size() < KaratsubaMultiplier.MIN_NUM_OF_TERMS)
+			return a.multiply(b);
+
+		// main variable is the greatest variable of leading terms
+		Power pa = KaratsubaMultiplier.getLeadingPower(a);
+		Power pb = KaratsubaMultiplier.getLeadingPower(b);
+		Power mainPower = (pb == null || (pa != null && pa.getIndex() >= pb.getIndex())) ? pa : pb;
+
+		if (mainPower == null)
+			return a.multiply(b); // both factors are constants
+
+		int varIndex = (int)mainPower.getIndex();
+		int degA = KaratsubaMultiplier.getDegree(a, varIndex);
+		int degB = KaratsubaMultiplier.getDegree(b, varIndex);
+		int k = (((degA > degB) ? degA : degB) + 1) / 2;
+
+		if (degA < k || degB < k)
+			return a.multiply(b); // some factor has no upper part and split doesn't save anything
+
+		SortedTermArray[] partsA = KaratsubaMultiplier.split(a, varIndex, k);
+		SortedTermArray[] partsB = KaratsubaMultiplier.split(b, varIndex, k);
+		SortedTermArray z0 = KaratsubaMultiplier.multiply(partsA[0], partsB[0]);
+		SortedTermArray z2 = KaratsubaMultiplier.multiply(partsA[1], partsB[1]);
+		SortedTermArray z1 = KaratsubaMultiplier.multiply(SortedTermArray.merge(partsA[0].cloneTerms(), partsA[1], false, true),
+														  SortedTermArray.merge(partsB[0].cloneTerms(), partsB[1], false, true));
+
+		z1 = SortedTermArray.merge(z1, z0, true, true);
+		z1 = SortedTermArray.merge(z1, z2, true, true);
+
+		SortedTermArray result = SortedTermArray.merge(z0, KaratsubaMultiplier.shift(z1, mainPower.getVarType(), varIndex, k), false, false);
+
+		return SortedTermArray.merge(result, KaratsubaMultiplier.shift(z2, mainPower.getVarType(), varIndex, 2*k), false, false);
+	}
+
+	/**
+	 * <i>[static method]</i><br>
+	 * Method that gives power of the greatest variable of leading term.
+	 *
+	 * @param a		Sorted array of terms
+	 * @return		Power of the greatest variable or null if there is no such power
+	 */
+	private static Power getLeadingPower(SortedTermArray a) {
+		Term t = a.getLast();
+
+		if (t == null || t.getPowers().size() == 0)
+			return null;
+		return t.getPowers().get(0); // powers are sorted in descending order
+	}
+
+	/**
+	 * <i>[static method]</i><br>
+	 * Method that gives the greatest exponent of variable in terms of array.
+	 *
+	 * @param a			Sorted array of terms
+	 * @param varIndex	Index of variable
+	 * @return			The greatest exponent
+	 */
+	private static int getDegree(SortedTermArray a, int varIndex) {
+		int degree = 0;
+
+		for (int ii = 0, size = a.size(); ii < size; ii++) {
+			int exp = a.get(ii).getVariableExponent(varIndex);
+
+			if (exp > degree)
+				degree = exp;
+		}
+
+		return degree;
+	}
+
+	/**
+	 * <i>[static method]</i><br>
+	 * Method that splits polynomial a to a0 + v^k*a1, where v is specified
+	 * variable and a0 contains terms with exponent of v less than k.
+	 * Terms of a0 are not copied, while terms of a1 are new terms.
+	 *
+	 * @param a			Sorted array of terms
+	 * @param varIndex	Index of variable v
+	 * @param k			Exponent used for splitting
+	 * @return			Array with a0 and a1
+	 */
+	private static SortedTermArray[] split(SortedTermArray a, int varIndex, int k) {
+		SortedTermArray lower = new SortedTermArray(a.size());
+		SortedTermArray upper = new SortedTermArray(a.size());
+
+		// division by v^k keeps the order of terms
+		for (int ii = 0, size = a.size(); ii < size; ii++) {
+			Term t = a.get(ii);
+
+			if (t.getVariableExponent(varIndex) < k)
+				lower.append(t);
+			else
+				upper.append(t.clone().changePowerExponent(varIndex, -k));
+		}
+
+		return new SortedTermArray[] { lower, upper };
+	}
+
+	/**
+	 * <i>[static method]</i><br>
+	 * Method that multiplies all terms of array by power of variable.
+	 * Terms are changed and moved to new array.
+	 *
+	 * @param a			Sorted array of terms
+	 * @param varType	Type of variable
+	 * @param varIndex	Index of variable
+	 * @param exponent	Exponent of power
+	 * @return			New array with changed terms
+	 */
+	private static SortedTermArray shift(SortedTermArray a, short varType, int varIndex, int exponent) {
+		SortedTermArray result = new SortedTermArray(a.size());
+
+		// multiplication by power keeps the order of terms
+		for (int ii = 0, size = a.size(); ii < size; ii++) {
+			Term t = a.get(ii);
+
+			t.addPower(new Power(varType, varIndex, exponent));
+			result.append(t);
+		}
+
+		return result;
+	}
+}
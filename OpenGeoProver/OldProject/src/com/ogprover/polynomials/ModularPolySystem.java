@@ -0,0 +1,355 @@
+/*
+ * DISCLAIMER PLACEHOLDER
+ */
+
+package com.ogprover.polynomials;
+
+import java.util.BitSet;
+import java.util.Vector;
+
+import com.ogprover.main.OGPConstants;
+import com.ogprover.main.OpenGeoProver;
+
+
+/**
+ * <dl>
+ * <dt><b>Class description:</b></dt>
+ * <dd>Class for system of polynomials over prime field; it is used for
+ *     triangulation and calculation of final remainder in Wu's method
+ *     without u-fraction coefficients</dd>
+ * </dl>
+ *
+ * @version 1.00
+ * @author Ivan Petrovic
+ */
+// Triangulation follows exactly the same steps as triangulation of XPolySystem
+// (without writing to report), so for almost all values of u-variables the
+// final remainder over prime field is image of the final remainder of x-polynomials.
+public class ModularPolySystem {
+	/*
+	 * ======================================================================
+	 * ========================== VARIABLES =================================
+	 * ======================================================================
+	 */
+	/**
+	 * <i><b>
+	 * Version number of class in form xx.yy where
+	 * xx is major version/release number and yy is minor
+	 * release number.
+	 * </b></i>
+	 */
+	public static final String VERSION_NUM = "1.00"; // this should match the version number from class comment
+	/**
+	 * Collection of polynomials that make the system
+	 */
+	private Vector<ModularPolynomial> polynomials;
+	/**
+	 * List of variable indices as they were introduced in triangular system
+	 */
+	private Vector<Integer> variableList;
+
+
+
+	/*
+	 * ======================================================================
+	 * ========================== GETTERS/SETTERS ===========================
+	 * ======================================================================
+	 */
+	/**
+	 * @return The polynomials
+	 */
+	public Vector<ModularPolynomial> getPolynomials() {
+		return polynomials;
+	}
+
+	/**
+	 * @return The variableList
+	 */
+	public Vector<Integer> getVariableList() {
+		return variableList;
+	}
+
+
+
+	/*
+	 * ======================================================================
+	 * ========================== CONSTRUCTORS ==============================
+	 * ======================================================================
+	 */
+	/**
+	 * Constructor method
+	 */
+	public ModularPolySystem() {
+		this.polynomials = new Vector<ModularPolynomial>();
+		this.variableList = null; // this is going to be populated in triangulation method
+	}
+
+	/**
+	 * <i>[static method]</i><br>
+	 * Method that maps system of x-polynomials to system over prime field.
+	 *
+	 * @param system	System of x-polynomials
+	 * @param field		Field of coefficients
+	 * @return			Image of system or null if some polynomial can't be mapped
+	 */
+	public static ModularPolySystem fromXPolySystem(XPolySystem system, PrimeField field) {
+		ModularPolySystem mps = new ModularPolySystem();
+
+		for (XPolynomial xp : system.getPolynomials()) {
+			ModularPolynomial mp = ModularPolynomial.fromXPolynomial(xp, field);
+
+			if (mp == null)
+				return null;
+			mps.polynomials.add(mp);
+		}
+
+		return mps;
+	}
+
+
+
+	/*
+	 * ======================================================================
+	 * ========================== SPECIFIC METHODS ==========================
+	 * ======================================================================
+	 */
+	/**
+	 * Method that checks whether this system is already triangular and if so,
+	 * reorders it.
+	 *
+	 * @return	True if system is triangular, false otherwise
+	 *
+	 * @see com.ogprover.polynomials.XPolySystem#checkAndReOrderTriangularSystem()
+	 */
+	public boolean checkAndReOrderTriangularSystem() {
+		if (this.polynomials.size() == 0)
+			return true;
+
+		int n = this.polynomials.size();
+		int[] polysByNumOfVars = new int[n + 1]; // i-th element is index of polynomial with exactly i number of x variables
+		BitSet[] varsInPolys = new BitSet[n];
+
+		for (int ii = 0; ii <= n; ii++)
+			polysByNumOfVars[ii] = -1;
+		this.variableList = new Vector<Integer>(n);
+
+		for (int ii = 0; ii < n; ii++) {
+			ModularPolynomial mp = this.polynomials.get(ii);
+			BitSet bs = new BitSet(n);
+
+			for (int jj = 0, size = mp.getNumOfTerms(); jj < size; jj++) {
+				long[] m = mp.getMonomial(jj);
+
+				for (int kk = 0; kk < m.length; kk++)
+					bs.set(PackedMonomial.getIndex(m[kk]) - 1);
+			}
+			varsInPolys[ii] = bs;
+
+			int counter = bs.cardinality();
+
+			if (counter <= 0 || counter > n || polysByNumOfVars[counter] >= 0)
+				return false;
+			polysByNumOfVars[counter] = ii;
+		}
+
+		this.variableList.add(Integer.valueOf(varsInPolys[polysByNumOfVars[1]].nextSetBit(0) + 1));
+
+		for (int ii = 1, jj = 2; jj <= n; ii++, jj++) {
+			BitSet bsi = varsInPolys[polysByNumOfVars[ii]];
+			BitSet bsj = varsInPolys[polysByNumOfVars[jj]];
+			BitSet bsiCopy = (BitSet)bsi.clone();
+
+			bsiCopy.and(bsj);
+			if (!bsi.equals(bsiCopy))
+				return false; // polynomial jj doesn't contain all variables of polynomial ii
+
+			BitSet bsiNewCopy = (BitSet)bsi.clone();
+
+			bsiNewCopy.xor(bsj);
+			this.variableList.add(Integer.valueOf(bsiNewCopy.nextSetBit(0) + 1));
+		}
+
+		Vector<ModularPolynomial> triangularSystem = new Vector<ModularPolynomial>(n);
+
+		for (int ii = 0; ii < n; ii++)
+			triangularSystem.add(this.polynomials.get(polysByNumOfVars[ii + 1]));
+
+		this.polynomials = triangularSystem;
+		return true;
+	}
+
+	/**
+	 * Method that gives return code when pseudo division has failed.
+	 *
+	 * @return	Error code for time or space limit
+	 */
+	private static int getErrorCodeOfPseudoDivision() {
+		return (OpenGeoProver.getSettings().getTimer().isTimeIsUp() ? OGPConstants.ERR_CODE_TIME : OGPConstants.ERR_CODE_SPACE);
+	}
+
+	/**
+	 * Method that performs triangulation over this system.
+	 *
+	 * @return	Return code is zero when operation is successfully completed
+	 * 			and negative with specific error code, if error happens
+	 *
+	 * @see com.ogprover.polynomials.XPolySystem#triangulate()
+	 */
+	public int triangulate() {
+		if (this.checkAndReOrderTriangularSystem() == true)
+			return OGPConstants.RET_CODE_SUCCESS;
+
+		this.variableList = new Vector<Integer>();
+
+		Vector<ModularPolynomial> triangularSystem = new Vector<ModularPolynomial>();
+		Vector<ModularPolynomial> auxSystem = this.polynomials;
+
+		for (int ii = this.polynomials.size(); ii > 0; ii--) {
+			// split auxiliary system to polynomials free of variable x[ii] and others
+			Vector<ModularPolynomial> freeSystem = new Vector<ModularPolynomial>();
+			Vector<ModularPolynomial> nonFreeSystem = new Vector<ModularPolynomial>();
+
+			for (ModularPolynomial mp : auxSystem) {
+				if (mp.getLeadingExp(ii) > 0)
+					nonFreeSystem.add(mp);
+				else
+					freeSystem.add(mp);
+			}
+
+			if (nonFreeSystem.size() == 0) {
+				OpenGeoProver.getSettings().getLogger().error("Variable with index " + ii + " not found in polynomial system.");
+				return OGPConstants.ERR_CODE_GENERAL;
+			}
+
+			if (nonFreeSystem.size() == 1) {
+				triangularSystem.add(0, nonFreeSystem.get(0));
+				this.variableList.add(0, Integer.valueOf(ii));
+				auxSystem = freeSystem;
+				continue;
+			}
+
+			boolean end = false;
+
+			do {
+				// find two polynomials with smallest exponent of variable x[ii]
+				// (in same way as it is done for x-polynomials)
+				int first = 0, second = 1;
+				int exp1 = nonFreeSystem.get(first).getLeadingExp(ii),
+					exp2 = nonFreeSystem.get(second).getLeadingExp(ii);
+				int min1, min2;
+
+				if (exp1 <= exp2) {
+					min1 = exp1;
+					min2 = exp2;
+				}
+				else {
+					first = 1;
+					second = 0;
+					min1 = exp2;
+					min2 = exp1;
+				}
+
+				for (int ll = 2, mm = nonFreeSystem.size(); ll < mm; ll++) {
+					int currExp = nonFreeSystem.get(ll).getLeadingExp(ii);
+
+					if (currExp < min1) {
+						first = ll;
+						min1 = currExp;
+					}
+					else if (currExp > min1 && currExp < min2) {
+						second = ll;
+						min2 = currExp;
+					}
+				}
+
+				if (min1 == 1) {
+					// choose polynomial linear in x[ii] and clean all others from x[ii]
+					ModularPolynomial currPoly = nonFreeSystem.get(first);
+
+					triangularSystem.add(0, currPoly);
+					this.variableList.add(0, Integer.valueOf(ii));
+					nonFreeSystem.remove(first);
+					for (ModularPolynomial mp : nonFreeSystem) {
+						ModularPolynomial tempMP = mp.pseudoReminder(currPoly, ii);
+
+						if (tempMP == null)
+							return ModularPolySystem.getErrorCodeOfPseudoDivision();
+						freeSystem.add(tempMP);
+					}
+					auxSystem = freeSystem;
+					end = true;
+				}
+				else {
+					// reduce two chosen polynomials
+					ModularPolynomial r2 = nonFreeSystem.get(second);
+					ModularPolynomial r1 = nonFreeSystem.get(first);
+					int leadExp = 0;
+
+					do {
+						ModularPolynomial temp = r2.pseudoReminder(r1, ii);
+
+						if (temp == null)
+							return ModularPolySystem.getErrorCodeOfPseudoDivision();
+
+						r2 = r1;
+						r1 = temp;
+
+						if (r1.isZero()) {
+							OpenGeoProver.getSettings().getLogger().error("Two polynomials have common factor.");
+							return OGPConstants.ERR_CODE_GENERAL;
+						}
+
+						leadExp = r1.getLeadingExp(ii);
+					} while (leadExp > 1);
+
+					nonFreeSystem.set(first, r1);
+					nonFreeSystem.set(second, r2);
+
+					if (leadExp == 0) {
+						freeSystem.add(r1);
+						nonFreeSystem.remove(first);
+						if (nonFreeSystem.size() == 1) {
+							triangularSystem.add(0, r2);
+							this.variableList.add(0, Integer.valueOf(ii));
+							auxSystem = freeSystem;
+							end = true;
+						}
+					}
+					else { // leadExp == 1
+						triangularSystem.add(0, r1);
+						this.variableList.add(0, Integer.valueOf(ii));
+						nonFreeSystem.remove(first);
+						for (ModularPolynomial mp : nonFreeSystem) {
+							ModularPolynomial tempMP = mp.pseudoReminder(r1, ii);
+
+							if (tempMP == null)
+								return ModularPolySystem.getErrorCodeOfPseudoDivision();
+							freeSystem.add(tempMP);
+						}
+						auxSystem = freeSystem;
+						end = true;
+					}
+				}
+			} while (!end);
+		}
+
+		this.polynomials = triangularSystem;
+		return OGPConstants.RET_CODE_SUCCESS;
+	}
+
+	/**
+	 * Method that calculates final remainder of polynomial with respect to
+	 * this (triangular) system.
+	 *
+	 * @param mp	Polynomial (image of statement of theorem)
+	 * @return		Final remainder or null in case of error
+	 */
+	public ModularPolynomial getFinalRemainder(ModularPolynomial mp) {
+		ModularPolynomial finalRemainder = mp;
+
+		for (int ii = this.polynomials.size() - 1; ii >= 0 && finalRemainder != null; ii--)
+			finalRemainder = finalRemainder.pseudoReminder(this.polynomials.get(ii), this.variableList.get(ii).intValue());
+
+		return finalRemainder;
+	}
+}
@@ -0,0 +1,428 @@
+/*
+ * DISCLAIMER PLACEHOLDER
+ */
+
+package com.ogprover.polynomials;
+
+import java.util.ArrayList;
+
+import com.ogprover.main.OpenGeoProver;
+import com.ogprover.utilities.OGPTimer;
+
+
+/**
+ * <dl>
+ * <dt><b>Class description:</b></dt>
+ * <dd>Class for polynomial in x-variables with coefficients from prime field;
+ *     it is image of x-polynomial with u-fraction coefficients for chosen
+ *     values of u-variables</dd>
+ * </dl>
+ *
+ * @version 1.00
+ * @author Ivan Petrovic
+ */
+// Terms are kept in arrays sorted in descending order: packed powers of x-variables
+// (see PackedMonomial) and coefficients which are non-zero elements of prime field.
+// Objects are not changed by arithmetic operations - each operation creates new polynomial.
+public class ModularPolynomial {
+	/*
+	 * ======================================================================
+	 * ========================== VARIABLES =================================
+	 * ======================================================================
+	 */
+	/**
+	 * <i><b>
+	 * Version number of class in form xx.yy where
+	 * xx is major version/release number and yy is minor
+	 * release number.
+	 * </b></i>
+	 */
+	public static final String VERSION_NUM = "1.00"; // this should match the version number from class comment
+
+	/**
+	 * Field of coefficients
+	 */
+	private PrimeField field;
+	/**
+	 * Packed powers of terms in descending order
+	 */
+	private long[][] monomials;
+	/**
+	 * Coefficients of terms - element at some position belongs to
+	 * term at same position in array of monomials
+	 */
+	private long[] coeffs;
+	/**
+	 * Number of terms
+	 */
+	private int size;
+
+
+
+	/*
+	 * ======================================================================
+	 * ========================== GETTERS/SETTERS ===========================
+	 * ======================================================================
+	 */
+	/**
+	 * @return	Field of coefficients
+	 */
+	public PrimeField getField() {
+		return this.field;
+	}
+
+	/**
+	 * @return	Number of terms
+	 */
+	public int getNumOfTerms() {
+		return this.size;
+	}
+
+	/**
+	 * @return	True if this polynomial is zero, false otherwise
+	 */
+	public boolean isZero() {
+		return (this.size == 0);
+	}
+
+	/**
+	 * Method that gives packed powers of term at specified position
+	 *
+	 * @param ii	Position of term (0 is for the greatest term)
+	 * @return		Packed powers of term
+	 */
+	public long[] getMonomial(int ii) {
+		return this.monomials[ii];
+	}
+
+
+
+	/*
+	 * ======================================================================
+	 * ========================== CONSTRUCTORS ==============================
+	 * ======================================================================
+	 */
+	/**
+	 * Constructor method
+	 *
+	 * @param field		Field of coefficients
+	 * @param capacity	Initial capacity of arrays
+	 */
+	public ModularPolynomial(PrimeField field, int capacity) {
+		if (capacity < 1)
+			capacity = 1;
+		this.field = field;
+		this.monomials = new long[capacity][];
+		this.coeffs = new long[capacity];
+		this.size = 0;
+	}
+
+	/**
+	 * <i>[static method]</i><br>
+	 * Method that maps x-polynomial to polynomial over prime field.
+	 *
+	 * @param xp		X-polynomial
+	 * @param field		Field of coefficients
+	 * @return			Image of x-polynomial or null if some coefficient can't be
+	 * 					mapped to field or powers of some term can't be packed
+	 */
+	public static ModularPolynomial fromXPolynomial(XPolynomial xp, PrimeField field) {
+		ArrayList<Term> termList = xp.getTermsAsDescList();
+		ModularPolynomial mp = new ModularPolynomial(field, termList.size());
+
+		for (Term t : termList) {
+			long[] m = t.getPackedPowers();
+			long c = field.valueOf(((XTerm)t).getUCoeff());
+
+			if (m == null || c == PrimeField.UNDEFINED)
+				return null;
+			if (c != 0)
+				mp.append(m, c);
+		}
+
+		return mp;
+	}
+
+
+
+	/*
+	 * ======================================================================
+	 * ========================== SPECIFIC METHODS ==========================
+	 * ======================================================================
+	 */
+	/**
+	 * Method that adds term at the end of arrays; caller is responsible
+	 * that it is less than all terms already added.
+	 *
+	 * @param m		Packed powers of term
+	 * @param c		Non-zero coefficient of term
+	 */
+	private void append(long[] m, long c) {
+		if (this.size == this.coeffs.length) {
+			int newCapacity = this.size + (this.size >> 1) + 1;
+			long[][] newMonomials = new long[newCapacity][];
+			long[] newCoeffs = new long[newCapacity];
+
+			System.arraycopy(this.monomials, 0, newMonomials, 0, this.size);
+			System.arraycopy(this.coeffs, 0, newCoeffs, 0, this.size);
+			this.monomials = newMonomials;
+			this.coeffs = newCoeffs;
+		}
+
+		this.monomials[this.size] = m;
+		this.coeffs[this.size] = c;
+		this.size++;
+	}
+
+	/**
+	 * Method that gives greatest exponent of given variable in this polynomial.
+	 *
+	 * @param varIndex	Index of variable that is searched for
+	 * @return			Greatest exponent of variable (0 means polynomial doesn't
+	 * 					contain this variable)
+	 *
+	 * @see com.ogprover.polynomials.XPolynomial#getLeadingExp(int)
+	 */
+	public int getLeadingExp(int varIndex) {
+		int maxExp = 0;
+
+		for (int ii = 0; ii < this.size; ii++) {
+			long[] m = this.monomials[ii];
+
+			// terms are sorted in descending order so when greatest variable
+			// of term is less than given one, all remaining terms don't contain it
+			if (m.length == 0 || PackedMonomial.getIndex(m[0]) < varIndex)
+				break;
+
+			int currExp = PackedMonomial.getVariableExponent(m, varIndex);
+
+			if (currExp > maxExp)
+				maxExp = currExp;
+		}
+
+		return maxExp;
+	}
+
+	/**
+	 * Method that retrieves greatest exponent of given variable and leading
+	 * coefficient by that variable.
+	 *
+	 * @param varIndex		Index of variable
+	 * @param expDecr		Exponent decrement; -1 for pure leading coefficient
+	 * @param leadingCoeff	Empty polynomial where leading coefficient is stored
+	 * @return				Greatest exponent of variable which is not less than decrement
+	 * 						or zero if there is no such exponent
+	 *
+	 * @see com.ogprover.polynomials.XPolynomial#pseudoReminder(XPolynomial, int)
+	 */
+	// Same as private method with same name in XPolynomial.
+	public int getLeadingExpAndCoeff(int varIndex, int expDecr, ModularPolynomial leadingCoeff) {
+		int maxExp = 0;
+
+		// first pass - find maximal exponent
+		for (int ii = 0; ii < this.size; ii++) {
+			long[] m = this.monomials[ii];
+
+			if (m.length == 0 || PackedMonomial.getIndex(m[0]) < varIndex)
+				break;
+
+			int currExp = PackedMonomial.getVariableExponent(m, varIndex);
+
+			if (currExp > 0 && currExp >= expDecr && currExp > maxExp)
+				maxExp = currExp;
+		}
+
+		if (maxExp == 0)
+			return 0;
+
+		// second pass - collect terms with maximal exponent; change of exponent
+		// of same variable in all these terms doesn't change their order
+		int newExp = ((expDecr >= 0) ? maxExp - expDecr : 0);
+
+		for (int ii = 0; ii < this.size; ii++) {
+			long[] m = this.monomials[ii];
+
+			if (m.length == 0 || PackedMonomial.getIndex(m[0]) < varIndex)
+				break;
+			if (PackedMonomial.getVariableExponent(m, varIndex) == maxExp)
+				leadingCoeff.append(ModularPolynomial.changeExponent(m, varIndex, newExp), this.coeffs[ii]);
+		}
+
+		return maxExp;
+	}
+
+	/**
+	 * <i>[static method]</i><br>
+	 * Method that creates monomial with changed exponent of given variable;
+	 * the variable must be present in passed in monomial.
+	 *
+	 * @param m			Packed monomial
+	 * @param varIndex	Index of variable
+	 * @param newExp	New exponent of variable (zero removes variable)
+	 * @return			New packed monomial
+	 */
+	private static long[] changeExponent(long[] m, int varIndex, int newExp) {
+		int pos = 0;
+
+		while (PackedMonomial.getIndex(m[pos]) != varIndex)
+			pos++;
+
+		if (newExp > 0) {
+			long[] result = m.clone();
+			result[pos] = PackedMonomial.packPower(varIndex, newExp);
+			return result;
+		}
+
+		long[] result = new long[m.length - 1];
+		System.arraycopy(m, 0, result, 0, pos);
+		System.arraycopy(m, pos + 1, result, pos, m.length - pos - 1);
+		return result;
+	}
+
+	/**
+	 * <i>[static method]</i><br>
+	 * Method that merges two polynomials into new one.
+	 *
+	 * @param a			First polynomial
+	 * @param b			Second polynomial
+	 * @param negate	Whether second polynomial is subtracted or added
+	 * @return			Sum or difference of polynomials
+	 */
+	private static ModularPolynomial merge(ModularPolynomial a, ModularPolynomial b, boolean negate) {
+		PrimeField field = a.field;
+		ModularPolynomial result = new ModularPolynomial(field, a.size + b.size);
+		int ii = 0, jj = 0;
+
+		while (ii < a.size && jj < b.size) {
+			int cmp = PackedMonomial.compare(a.monomials[ii], b.monomials[jj]);
+
+			if (cmp > 0) {
+				result.append(a.monomials[ii], a.coeffs[ii]);
+				ii++;
+			}
+			else if (cmp < 0) {
+				result.append(b.monomials[jj], negate ? field.subtract(0, b.coeffs[jj]) : b.coeffs[jj]);
+				jj++;
+			}
+			else {
+				long c = negate ? field.subtract(a.coeffs[ii], b.coeffs[jj]) : field.add(a.coeffs[ii], b.coeffs[jj]);
+
+				if (c != 0)
+					result.append(a.monomials[ii], c);
+				ii++;
+				jj++;
+			}
+		}
+
+		for (; ii < a.size; ii++)
+			result.append(a.monomials[ii], a.coeffs[ii]);
+		for (; jj < b.size; jj++)
+			result.append(b.monomials[jj], negate ? field.subtract(0, b.coeffs[jj]) : b.coeffs[jj]);
+
+		return result;
+	}
+
+	/**
+	 * Method for subtraction of polynomials
+	 *
+	 * @param p		Passed in polynomial
+	 * @return		New polynomial - difference of this and passed in polynomial
+	 */
+	public ModularPolynomial subtract(ModularPolynomial p) {
+		return ModularPolynomial.merge(this, p, true);
+	}
+
+	/**
+	 * Method for multiplication of polynomials
+	 *
+	 * @param p		Passed in polynomial
+	 * @return		New polynomial - product of this and passed in polynomial
+	 */
+	public ModularPolynomial multiply(ModularPolynomial p) {
+		ModularPolynomial small = this, large = p;
+
+		if (this.size > p.size) {
+			small = p;
+			large = this;
+		}
+
+		if (small.size == 0)
+			return new ModularPolynomial(this.field, 1);
+
+		// product with single term keeps order of terms, so each term of smaller
+		// polynomial gives one sorted chunk; chunks are then merged pairwise
+		ArrayList<ModularPolynomial> chunks = new ArrayList<ModularPolynomial>(small.size);
+		OGPTimer timer = OpenGeoProver.getSettings().getTimer();
+		int work = 0; // number of term products since last check of time
+
+		for (int ii = 0; ii < small.size; ii++) {
+			// incomplete product is discarded by caller when it checks the time
+			if (work >= OGPTimer.POLL_INTERVAL) {
+				if (timer.isTimeIsUp())
+					break;
+				work = 0;
+			}
+			work += large.size;
+
+			ModularPolynomial chunk = new ModularPolynomial(this.field, large.size);
+
+			for (int jj = 0; jj < large.size; jj++)
+				chunk.append(PackedMonomial.multiply(large.monomials[jj], small.monomials[ii]),
+							 this.field.multiply(large.coeffs[jj], small.coeffs[ii])); // product of non-zero elements of field is non-zero
+			chunks.add(chunk);
+		}
+
+		while (chunks.size() > 1) {
+			ArrayList<ModularPolynomial> merged = new ArrayList<ModularPolynomial>((chunks.size() + 1) / 2);
+
+			for (int ii = 0, jj = chunks.size(); ii < jj; ii += 2)
+				merged.add((ii + 1 < jj) ? ModularPolynomial.merge(chunks.get(ii), chunks.get(ii + 1), false) : chunks.get(ii));
+			chunks = merged;
+		}
+
+		return chunks.get(0);
+	}
+
+	/**
+	 * Method for calculation of pseudo reminder of this polynomial with
+	 * another passed in polynomial over variable with passed in index.
+	 *
+	 * @param p			Divisor polynomial
+	 * @param varIndex	Index of variable
+	 * @return			New polynomial - pseudo reminder, or null if space or time
+	 * 					limit has been exceeded
+	 *
+	 * @see com.ogprover.polynomials.XPolynomial#pseudoReminder(XPolynomial, int)
+	 */
+	public ModularPolynomial pseudoReminder(ModularPolynomial p, int varIndex) {
+		ModularPolynomial pc = new ModularPolynomial(this.field, p.size);
+		int pe = p.getLeadingExpAndCoeff(varIndex, -1, pc);
+
+		if (pe == 0) // p is constant as polynomial by given variable
+			return new ModularPolynomial(this.field, 1);
+
+		ModularPolynomial reminder = this;
+
+		while (true) {
+			ModularPolynomial rc = new ModularPolynomial(this.field, reminder.size);
+			int re = reminder.getLeadingExpAndCoeff(varIndex, pe, rc);
+
+			if (re < pe)
+				return reminder;
+
+			// new reminder is reminder*pc - p*rc
+			reminder = reminder.multiply(pc).subtract(p.multiply(rc));
+
+			if (reminder.size > OpenGeoProver.getSettings().getMaxNumOfTerms())
+				OpenGeoProver.getSettings().setMaxNumOfTerms(reminder.size);
+			if (reminder.size > OpenGeoProver.getSettings().getParameters().getSpaceLimit()) {
+				OpenGeoProver.getSettings().getLogger().error("Polynomial exceeds maximal allowed number of terms.");
+				return null;
+			}
+			if (OpenGeoProver.getSettings().getTimer().isTimeIsUp()) {
+				OpenGeoProver.getSettings().getLogger().error("Prover execution time has been expired.");
+				return null;
+			}
+		}
+	}
+}
@@ -0,0 +1,327 @@
+/*
+ * DISCLAIMER PLACEHOLDER
+ */
+
+package com.ogprover.polynomials;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.concurrent.ConcurrentHashMap;
+
+
+/**
+ * <dl>
+ * <dt><b>Class description:</b></dt>
+ * <dd>Class for canonical (interned) immutable monomials in packed form, with
+ *     precomputed hash code and total degree</dd>
+ * </dl>
+ *
+ * @version 1.00
+ * @author Ivan Petrovic
+ */
+// There is at most one instance of this class for each product of powers in use,
+// so equal monomials are same objects (and share same packed array) - equality check
+// is reference check. Instances are kept in table with weak references, so monomials
+// which are not used by any term any more are removed by garbage collector.
+public final class Monomial implements Comparable<Monomial> {
+	/*
+	 * ======================================================================
+	 * ========================== VARIABLES =================================
+	 * ======================================================================
+	 */
+	/**
+	 * <i><b>
+	 * Version number of class in form xx.yy where
+	 * xx is major version/release number and yy is minor
+	 * release number.
+	 * </b></i>
+	 */
+	public static final String VERSION_NUM = "1.00"; // this should match the version number from class comment
+	/**
+	 * <i><b>Table of interned monomials: key is packed form and value is weak reference to monomial</b></i>
+	 */
+	private static final ConcurrentHashMap<Key, Entry> table = new ConcurrentHashMap<Key, Entry>();
+	/**
+	 * <i><b>Queue of references to monomials removed by garbage collector</b></i>
+	 */
+	private static final ReferenceQueue<Monomial> queue = new ReferenceQueue<Monomial>();
+	/**
+	 * <i><b>Constant monomial (without powers)</b></i>
+	 */
+	public static final Monomial CONSTANT = Monomial.valueOf(PackedMonomial.CONSTANT);
+
+	/**
+	 * Packed powers (see PackedMonomial); this array must not be changed
+	 */
+	private final long[] powers;
+	/**
+	 * Hash code of packed powers
+	 */
+	private final int hash;
+	/**
+	 * Total degree - sum of all exponents
+	 */
+	private final int degree;
+
+
+
+	/*
+	 * ======================================================================
+	 * ========================== GETTERS/SETTERS ===========================
+	 * ======================================================================
+	 */
+	/**
+	 * @return	Packed powers - returned array must not be changed
+	 */
+	public long[] getPowers() {
+		return this.powers;
+	}
+
+	/**
+	 * @return	Total degree of monomial
+	 */
+	public int getDegree() {
+		return this.degree;
+	}
+
+	/**
+	 * <i>[static method]</i><br>
+	 * @return	Number of monomials in table of interned monomials
+	 */
+	public static int getNumOfInternedMonomials() {
+		Monomial.expungeStaleEntries();
+		return Monomial.table.size();
+	}
+
+
+
+	/*
+	 * ======================================================================
+	 * ========================== CONSTRUCTORS ==============================
+	 * ======================================================================
+	 */
+	/**
+	 * Constructor method - instances are created only by valueOf() method
+	 *
+	 * @param powers	Packed powers
+	 * @param hash		Hash code of packed powers
+	 */
+	private Monomial(long[] powers, int hash) {
+		this.powers = powers;
+		this.hash = hash;
+		this.degree = PackedMonomial.getDegree(powers);
+	}
+
+	/**
+	 * <i>[static method]</i><br>
+	 * Method that gives canonical monomial for packed powers.
+	 *
+	 * @param packed	Packed powers; if new monomial is created this array is
+	 * 					used by it, so caller must not change it afterwards
+	 * @return			Canonical monomial
+	 */
+	public static Monomial valueOf(long[] packed) {
+		Key key = new Key(packed, PackedMonomial.hashCode(packed, packed.length));
+		Entry e = Monomial.table.get(key);
+		Monomial m = (e != null) ? e.get() : null;
+
+		if (m != null)
+			return m;
+
+		Monomial.expungeStaleEntries();
+
+		Monomial newMonomial = new Monomial(packed, key.hash);
+		Entry newEntry = new Entry(newMonomial, key);
+
+		// another thread may intern same monomial in the meantime
+		while (true) {
+			e = Monomial.table.putIfAbsent(key, newEntry);
+			if (e == null)
+				return newMonomial;
+
+			m = e.get();
+			if (m != null)
+				return m;
+
+			// entry with removed monomial is replaced
+			if (Monomial.table.replace(key, e, newEntry))
+				return newMonomial;
+		}
+	}
+
+
+
+	/*
+	 * ======================================================================
+	 * ======================= COMMON OBJECT METHODS ========================
+	 * ======================================================================
+	 */
+	/**
+	 * Method hashCode
+	 *
+	 * @see java.lang.Object#hashCode()
+	 */
+	@Override
+	public int hashCode() {
+		return this.hash;
+	}
+
+	/**
+	 * Method equals - interned monomials are equal only if they are same object
+	 *
+	 * @see java.lang.Object#equals(java.lang.Object)
+	 */
+	@Override
+	public boolean equals(Object obj) {
+		return (this == obj);
+	}
+
+	/**
+	 * Comparison of monomials; result is same as for comparison of terms with these powers.
+	 *
+	 * @see java.lang.Comparable#compareTo(java.lang.Object)
+	 */
+	public int compareTo(Monomial m) {
+		if (this == m)
+			return 0;
+		return PackedMonomial.compare(this.powers, m.powers);
+	}
+
+	/**
+	 * Method toString
+	 *
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder("[");
+
+		for (int ii = 0; ii < this.powers.length; ii++) {
+			if (ii > 0)
+				sb.append(", ");
+			sb.append(PackedMonomial.getIndex(this.powers[ii]));
+			sb.append("^");
+			sb.append(PackedMonomial.getExponent(this.powers[ii]));
+		}
+
+		return sb.append("]").toString();
+	}
+
+
+
+	/*
+	 * ======================================================================
+	 * ========================== SPECIFIC METHODS ==========================
+	 * ======================================================================
+	 */
+	/**
+	 * Method that gives exponent of specified variable.
+	 *
+	 * @param varIndex	Index of variable
+	 * @return			Exponent of variable or zero if monomial doesn't contain it
+	 */
+	public int getExponent(long varIndex) {
+		return PackedMonomial.getVariableExponent(this.powers, varIndex);
+	}
+
+	/**
+	 * Method that gives product of this and another monomial.
+	 *
+	 * @param m		Another monomial
+	 * @return		Canonical monomial of product
+	 */
+	public Monomial multiply(Monomial m) {
+		if (m.powers.length == 0)
+			return this;
+		if (this.powers.length == 0)
+			return m;
+		return Monomial.valueOf(PackedMonomial.multiply(this.powers, m.powers));
+	}
+
+	/**
+	 * <i>[static method]</i><br>
+	 * Method that removes entries of monomials removed by garbage collector from table.
+	 */
+	private static void expungeStaleEntries() {
+		Entry e;
+
+		while ((e = (Entry)Monomial.queue.poll()) != null)
+			Monomial.table.remove(e.key, e); // entry may already be replaced
+	}
+
+
+
+	/*
+	 * ======================================================================
+	 * ========================== INNER CLASSES =============================
+	 * ======================================================================
+	 */
+	/**
+	 * Key of table - packed powers with precomputed hash code
+	 */
+	private static final class Key {
+		/**
+		 * Packed powers
+		 */
+		private final long[] powers;
+		/**
+		 * Hash code of packed powers
+		 */
+		private final int hash;
+
+		/**
+		 * Constructor method
+		 *
+		 * @param powers	Packed powers
+		 * @param hash		Hash code
+		 */
+		public Key(long[] powers, int hash) {
+			this.powers = powers;
+			this.hash = hash;
+		}
+
+		/**
+		 * @see java.lang.Object#hashCode()
+		 */
+		@Override
+		public int hashCode() {
+			return this.hash;
+		}
+
+		/**
+		 * @see java.lang.Object#equals(java.lang.Object)
+		 */
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj)
+				return true;
+			if (!(obj instanceof Key))
+				return false;
+
+			Key k = (Key)obj;
+
+			return (this.hash == k.hash && PackedMonomial.compare(this.powers, k.powers) == 0);
+		}
+	}
+
+	/**
+	 * Value of table - weak reference to monomial which remembers its key
+	 */
+	private static final class Entry extends WeakReference<Monomial> {
+		/**
+		 * Key of this entry in table
+		 */
+		private final Key key;
+
+		/**
+		 * Constructor method
+		 *
+		 * @param m		Monomial
+		 * @param key	Key of monomial in table
+		 */
+		public Entry(Monomial m, Key key) {
+			super(m, Monomial.queue);
+			this.key = key;
+		}
+	}
+}
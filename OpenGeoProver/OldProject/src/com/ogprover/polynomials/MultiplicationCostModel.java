@@ -0,0 +1,577 @@
+/*
+ * DISCLAIMER PLACEHOLDER
+ */
+
+package com.ogprover.polynomials;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.BitSet;
+import java.util.Properties;
+
+import com.ogprover.main.OGPConfigurationSettings;
+import com.ogprover.main.OGPConstants;
+import com.ogprover.main.OpenGeoProver;
+import com.ogprover.multithread.ParallelPolyMultiplier;
+import com.ogprover.utilities.logger.ILogger;
+
+
+/**
+ * <dl>
+ * <dt><b>Class description:</b></dt>
+ * <dd>Class for cost model of polynomial multiplication; it estimates time of
+ *     sequential, concurrent and Karatsuba-style multiplication from sizes of
+ *     factors, their term density and number of available processors, and
+ *     chooses the cheapest one</dd>
+ * </dl>
+ *
+ * @version 1.00
+ * @author Ivan Petrovic
+ */
+// Costs are measured on first use by multiplying sample polynomials, or they are
+// loaded from profile file set by parameters (if that file doesn't exist, measured
+// costs are saved to it). Small products are always multiplied sequentially without
+// consulting the model, so calibration happens only when it can make a difference.
+public class MultiplicationCostModel {
+	/*
+	 * ======================================================================
+	 * ========================== VARIABLES =================================
+	 * ======================================================================
+	 */
+	/**
+	 * <i><b>
+	 * Version number of class in form xx.yy where
+	 * xx is major version/release number and yy is minor
+	 * release number.
+	 * </b></i>
+	 */
+	public static final String VERSION_NUM = "1.00"; // this should match the version number from class comment
+	/**
+	 * <i><b>Sequential multiplication</b></i>
+	 */
+	public static final int STRATEGY_SEQUENTIAL = 0;
+	/**
+	 * <i><b>Concurrent multiplication on shared pool of threads</b></i>
+	 */
+	public static final int STRATEGY_CONCURRENT = 1;
+	/**
+	 * <i><b>Karatsuba-style multiplication</b></i>
+	 */
+	public static final int STRATEGY_KARATSUBA = 2;
+	/**
+	 * <i><b>Products with less pairs of terms are always calculated sequentially</b></i>
+	 */
+	public static final long MIN_NUM_OF_PAIRS = 4096;
+	/**
+	 * <i><b>Minimal term density of both factors for Karatsuba-style multiplication</b></i>
+	 */
+	public static final double MIN_KARATSUBA_DENSITY = 0.3;
+	/**
+	 * <i><b>Maximal ratio of numbers of terms of factors for Karatsuba-style multiplication</b></i>
+	 */
+	public static final int MAX_KARATSUBA_SIZE_RATIO = 4;
+	/**
+	 * <i><b>Cost of Karatsuba-style multiplication grows as (m*n)^(log(3)/log(4))</b></i>
+	 */
+	private static final double KARATSUBA_EXPONENT = Math.log(3) / Math.log(4);
+	/**
+	 * <i><b>Degree of dense sample polynomials used for calibration</b></i>
+	 */
+	private static final int CALIBRATION_DEGREE = 10;
+	/**
+	 * <i><b>Number of measurements for each strategy (the best one is used)</b></i>
+	 */
+	private static final int CALIBRATION_NUM_OF_RUNS = 3;
+	/**
+	 * <i><b>Key in profile file for cost of sequential multiplication with tree of terms</b></i>
+	 */
+	public static final String KEY_SEQ_TREE_COST = "sequential.tree.nanosPerPair";
+	/**
+	 * <i><b>Key in profile file for cost of sequential multiplication with sorted array of terms</b></i>
+	 */
+	public static final String KEY_SEQ_ARRAY_COST = "sequential.array.nanosPerPair";
+	/**
+	 * <i><b>Key in profile file for cost of concurrent multiplication per pair of terms</b></i>
+	 */
+	public static final String KEY_CON_PAIR_COST = "concurrent.nanosPerPair";
+	/**
+	 * <i><b>Key in profile file for cost of concurrent multiplication per task</b></i>
+	 */
+	public static final String KEY_CON_TASK_COST = "concurrent.nanosPerTask";
+	/**
+	 * <i><b>Key in profile file for cost of Karatsuba-style multiplication</b></i>
+	 */
+	public static final String KEY_KARATSUBA_COST = "karatsuba.nanosPerUnit";
+	/**
+	 * <i><b>Key in profile file for number of processors</b></i>
+	 */
+	public static final String KEY_NUM_OF_PROCESSORS = "processors";
+	/**
+	 * <i><b>Cost model used for all multiplications; it is created on first use</b></i>
+	 */
+	private static MultiplicationCostModel model = null;
+
+	/**
+	 * Time in nanoseconds per pair of terms for sequential multiplication with tree of terms
+	 */
+	private double seqTreeCost;
+	/**
+	 * Time in nanoseconds per pair of terms for sequential multiplication with sorted array of terms
+	 */
+	private double seqArrayCost;
+	/**
+	 * Time in nanoseconds per pair of terms for concurrent multiplication in single thread
+	 */
+	private double conPairCost;
+	/**
+	 * Overhead in nanoseconds per task of concurrent multiplication
+	 */
+	private double conTaskCost;
+	/**
+	 * Time in nanoseconds per unit (m*n)^KARATSUBA_EXPONENT of Karatsuba-style multiplication
+	 */
+	private double karatsubaCost;
+	/**
+	 * Number of processors that can run threads of concurrent multiplication
+	 */
+	private int numOfProcessors;
+
+
+
+	/*
+	 * ======================================================================
+	 * ========================== GETTERS/SETTERS ===========================
+	 * ======================================================================
+	 */
+	/**
+	 * <i>[static method]</i><br>
+	 * Method that gives cost model used for all multiplications;
+	 * it is loaded or measured on first call.
+	 * Measuring is done with settings detached from current proof, so
+	 * it is not cut short when time of proof is up.
+	 *
+	 * @return	The cost model
+	 */
+	public static synchronized MultiplicationCostModel getModel() {
+		if (MultiplicationCostModel.model == null) {
+			String fileName = OpenGeoProver.getSettings().getParameters().getCostProfile();
+			MultiplicationCostModel m = new MultiplicationCostModel();
+
+			if (fileName == null || !(new File(fileName)).exists() || m.load(fileName) != OGPConstants.RET_CODE_SUCCESS) {
+				// new settings have their own timer which is never set
+				OGPConfigurationSettings previous = OpenGeoProver.setThreadSettings(new OGPConfigurationSettings(OpenGeoProver.getSettings()));
+
+				try {
+					m.calibrate();
+				} finally {
+					OpenGeoProver.setThreadSettings(previous);
+				}
+				if (fileName != null && !(new File(fileName)).exists())
+					m.save(fileName);
+			}
+			MultiplicationCostModel.model = m;
+		}
+		return MultiplicationCostModel.model;
+	}
+
+	/**
+	 * <i>[static method]</i><br>
+	 * Method that sets cost model used for all multiplications.
+	 *
+	 * @param m		The cost model (null to measure it again on next use)
+	 */
+	public static synchronized void setModel(MultiplicationCostModel m) {
+		MultiplicationCostModel.model = m;
+	}
+
+	/**
+	 * @return	Number of processors that can run threads of concurrent multiplication
+	 */
+	public int getNumOfProcessors() {
+		return this.numOfProcessors;
+	}
+
+
+
+	/*
+	 * ======================================================================
+	 * ========================== CONSTRUCTORS ==============================
+	 * ======================================================================
+	 */
+	/**
+	 * Constructor method - costs have to be measured or loaded from file
+	 */
+	public MultiplicationCostModel() {
+		this.numOfProcessors = Runtime.getRuntime().availableProcessors();
+	}
+
+	/**
+	 * Constructor method
+	 *
+	 * @param seqTreeCost		Time per pair of terms for sequential multiplication with tree of terms
+	 * @param seqArrayCost		Time per pair of terms for sequential multiplication with sorted array of terms
+	 * @param conPairCost		Time per pair of terms for concurrent multiplication in single thread
+	 * @param conTaskCost		Overhead per task of concurrent multiplication
+	 * @param karatsubaCost		Time per unit of Karatsuba-style multiplication
+	 * @param numOfProcessors	Number of available processors
+	 */
+	public MultiplicationCostModel(double seqTreeCost, double seqArrayCost, double conPairCost,
+								   double conTaskCost, double karatsubaCost, int numOfProcessors) {
+		this.seqTreeCost = seqTreeCost;
+		this.seqArrayCost = seqArrayCost;
+		this.conPairCost = conPairCost;
+		this.conTaskCost = conTaskCost;
+		this.karatsubaCost = karatsubaCost;
+		this.numOfProcessors = numOfProcessors;
+	}
+
+
+
+	/*
+	 * ======================================================================
+	 * ======================= COMMON OBJECT METHODS ========================
+	 * ======================================================================
+	 */
+	/**
+	 * Method toString
+	 *
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return "sequential (tree) " + this.seqTreeCost + " ns/pair, sequential (array) " + this.seqArrayCost +
+			   " ns/pair, concurrent " + this.conPairCost + " ns/pair + " + this.conTaskCost +
+			   " ns/task, Karatsuba " + this.karatsubaCost + " ns/unit, " + this.numOfProcessors + " processor(s)";
+	}
+
+
+
+	/*
+	 * ======================================================================
+	 * ========================== SPECIFIC METHODS ==========================
+	 * ======================================================================
+	 */
+	/**
+	 * <i>[static method]</i><br>
+	 * Method that chooses strategy for multiplication of two polynomials.
+	 *
+	 * @param a				First factor
+	 * @param b				Second factor
+	 * @param numOfThreads	Maximal number of parallel threads
+	 * @return				One of STRATEGY_xxx values
+	 */
+	public static int chooseStrategy(Polynomial a, Polynomial b, int numOfThreads) {
+		int m = a.getNumOfTerms(), n = b.getNumOfTerms();
+		int min = (m < n) ? m : n, max = (m < n) ? n : m;
+
+		if ((long)m * n < MultiplicationCostModel.MIN_NUM_OF_PAIRS)
+			return MultiplicationCostModel.STRATEGY_SEQUENTIAL;
+
+		boolean karatsubaCandidate = (min >= KaratsubaMultiplier.MIN_NUM_OF_TERMS &&
+									  max <= MultiplicationCostModel.MAX_KARATSUBA_SIZE_RATIO * min &&
+									  MultiplicationCostModel.getTermDensity(a) >= MultiplicationCostModel.MIN_KARATSUBA_DENSITY &&
+									  MultiplicationCostModel.getTermDensity(b) >= MultiplicationCostModel.MIN_KARATSUBA_DENSITY);
+
+		if (numOfThreads <= 1 && !karatsubaCandidate)
+			return MultiplicationCostModel.STRATEGY_SEQUENTIAL; // there is nothing to choose
+
+		boolean useArray = (a.getType() == Polynomial.POLY_TYPE_XPOLY && Polynomial.useTermArray());
+
+		return MultiplicationCostModel.getModel().chooseStrategy(m, n, numOfThreads, karatsubaCandidate, useArray);
+	}
+
+	/**
+	 * Method that chooses the cheapest strategy for multiplication of two polynomials.
+	 *
+	 * @param m						Number of terms of first factor
+	 * @param n						Number of terms of second factor
+	 * @param numOfThreads			Maximal number of parallel threads
+	 * @param karatsubaCandidate	Whether factors are dense enough for Karatsuba-style multiplication
+	 * @param useArray				Whether sequential multiplication uses sorted arrays of terms
+	 * @return						One of STRATEGY_xxx values
+	 */
+	public int chooseStrategy(int m, int n, int numOfThreads, boolean karatsubaCandidate, boolean useArray) {
+		int strategy = MultiplicationCostModel.STRATEGY_SEQUENTIAL;
+		double minCost = this.estimateSequentialCost(m, n, useArray);
+
+		if (numOfThreads > 1) {
+			double cost = this.estimateConcurrentCost(m, n, numOfThreads);
+
+			if (cost < minCost) {
+				strategy = MultiplicationCostModel.STRATEGY_CONCURRENT;
+				minCost = cost;
+			}
+		}
+
+		if (karatsubaCandidate && this.estimateKaratsubaCost(m, n) < minCost)
+			strategy = MultiplicationCostModel.STRATEGY_KARATSUBA;
+
+		return strategy;
+	}
+
+	/**
+	 * Method that estimates time of sequential multiplication.
+	 *
+	 * @param m			Number of terms of first factor
+	 * @param n			Number of terms of second factor
+	 * @param useArray	Whether sorted arrays of terms are used
+	 * @return			Estimated time in nanoseconds
+	 */
+	public double estimateSequentialCost(int m, int n, boolean useArray) {
+		return (double)m * n * (useArray ? this.seqArrayCost : this.seqTreeCost);
+	}
+
+	/**
+	 * Method that estimates time of concurrent multiplication; threads
+	 * above number of processors don't speed up the multiplication.
+	 *
+	 * @param m				Number of terms of first factor
+	 * @param n				Number of terms of second factor
+	 * @param numOfThreads	Number of parallel threads
+	 * @return				Estimated time in nanoseconds
+	 */
+	public double estimateConcurrentCost(int m, int n, int numOfThreads) {
+		int effThreads = (numOfThreads < this.numOfProcessors) ? numOfThreads : this.numOfProcessors;
+		int numOfLeaves = ParallelPolyMultiplier.getNumOfLeaves((m > n) ? m : n, numOfThreads);
+
+		return (double)m * n * this.conPairCost / effThreads + numOfLeaves * this.conTaskCost;
+	}
+
+	/**
+	 * Method that estimates time of Karatsuba-style multiplication of dense polynomials.
+	 *
+	 * @param m		Number of terms of first factor
+	 * @param n		Number of terms of second factor
+	 * @return		Estimated time in nanoseconds
+	 */
+	public double estimateKaratsubaCost(int m, int n) {
+		return Math.pow((double)m * n, MultiplicationCostModel.KARATSUBA_EXPONENT) * this.karatsubaCost;
+	}
+
+	/**
+	 * <i>[static method]</i><br>
+	 * Method that calculates term density of polynomial as ratio of number of its
+	 * terms and number of all monomials in same variables of at most same degree.
+	 *
+	 * @param p		Polynomial
+	 * @return		Term density between 0 and 1
+	 */
+	public static double getTermDensity(Polynomial p) {
+		SortedTermArray a = p.viewAsTermArray();
+		BitSet vars = new BitSet();
+		int degree = 0;
+
+		for (int ii = 0, size = a.size(); ii < size; ii++) {
+			long[] packed = a.get(ii).getPackedPowers();
+
+			if (packed == null)
+				return 0; // symbolic terms are not considered
+
+			for (int jj = 0; jj < packed.length; jj++)
+				vars.set(PackedMonomial.getIndex(packed[jj]));
+
+			int d = PackedMonomial.getDegree(packed);
+
+			if (d > degree)
+				degree = d;
+		}
+
+		// number of monomials of degree at most d in v variables is binomial(v + d, d)
+		double numOfMonomials = 1;
+
+		for (int ii = 1, v = vars.cardinality(); ii <= degree; ii++)
+			numOfMonomials = numOfMonomials * (v + ii) / ii;
+
+		return (a.size() >= numOfMonomials) ? 1 : a.size() / numOfMonomials;
+	}
+
+	/**
+	 * Method that measures costs of all strategies on sample polynomials.
+	 */
+	public void calibrate() {
+		ILogger logger = OpenGeoProver.getSettings().getLogger();
+		Polynomial a = MultiplicationCostModel.createSamplePolynomial(MultiplicationCostModel.CALIBRATION_DEGREE, 1);
+		Polynomial b = MultiplicationCostModel.createSamplePolynomial(MultiplicationCostModel.CALIBRATION_DEGREE, 2);
+		SortedTermArray sa = a.viewAsTermArray(), sb = b.viewAsTermArray();
+		SortedTermArray single = sa.subArray(0, 1);
+		double numOfPairs = (double)sa.size() * sb.size();
+		int numOfLeaves = ParallelPolyMultiplier.getNumOfLeaves(sb.size(), 1);
+		int wholeSize = sa.size() + sb.size(); // leaf range with all terms - product is calculated by single task
+		long[] times = new long[MultiplicationCostModel.CALIBRATION_NUM_OF_RUNS];
+
+		this.numOfProcessors = Runtime.getRuntime().availableProcessors();
+
+		for (int ii = 0; ii < times.length; ii++) {
+			long start = System.nanoTime();
+			a.clone().multiplyByPolynomialSequentially(b);
+			times[ii] = System.nanoTime() - start;
+		}
+		this.seqTreeCost = MultiplicationCostModel.getMinTime(times) / numOfPairs;
+
+		for (int ii = 0; ii < times.length; ii++) {
+			long start = System.nanoTime();
+			sa.multiply(sb);
+			times[ii] = System.nanoTime() - start;
+		}
+		this.seqArrayCost = MultiplicationCostModel.getMinTime(times) / numOfPairs;
+
+		// overhead of tasks is measured on product with single term
+		for (int ii = 0; ii < times.length; ii++) {
+			long start = System.nanoTime();
+			ParallelPolyMultiplier.multiply(single, sb, 1);
+			times[ii] = System.nanoTime() - start;
+		}
+		this.conTaskCost = MultiplicationCostModel.getMinTime(times) / numOfLeaves;
+
+		// time per pair is measured in single task on single thread, since estimation of
+		// concurrent cost divides it by number of threads
+		for (int ii = 0; ii < times.length; ii++) {
+			long start = System.nanoTime();
+			ParallelPolyMultiplier.multiply(single, sb, 1, wholeSize);
+			times[ii] = System.nanoTime() - start;
+		}
+		double singleTime = MultiplicationCostModel.getMinTime(times);
+
+		for (int ii = 0; ii < times.length; ii++) {
+			long start = System.nanoTime();
+			ParallelPolyMultiplier.multiply(sa, sb, 1, wholeSize);
+			times[ii] = System.nanoTime() - start;
+		}
+		this.conPairCost = Math.max(MultiplicationCostModel.getMinTime(times) - singleTime, 0) / numOfPairs;
+
+		for (int ii = 0; ii < times.length; ii++) {
+			long start = System.nanoTime();
+			KaratsubaMultiplier.multiply(sa, sb);
+			times[ii] = System.nanoTime() - start;
+		}
+		this.karatsubaCost = MultiplicationCostModel.getMinTime(times) / Math.pow(numOfPairs, MultiplicationCostModel.KARATSUBA_EXPONENT);
+
+		logger.debug("Measured costs of polynomial multiplication: " + this.toString());
+	}
+
+	/**
+	 * <i>[static method]</i><br>
+	 * Method that gives the shortest measured time.
+	 *
+	 * @param times		Measured times
+	 * @return			The shortest time
+	 */
+	private static double getMinTime(long[] times) {
+		long min = times[0];
+
+		for (int ii = 1; ii < times.length; ii++) {
+			if (times[ii] < min)
+				min = times[ii];
+		}
+
+		return min;
+	}
+
+	/**
+	 * <i>[static method]</i><br>
+	 * Method that creates dense u-polynomial in two variables used for calibration.
+	 *
+	 * @param degree	Total degree of polynomial
+	 * @param seed		Value used to make coefficients of different polynomials different
+	 * @return			Created polynomial
+	 */
+	private static Polynomial createSamplePolynomial(int degree, int seed) {
+		Polynomial p = new UPolynomial();
+		int cnt = 0;
+
+		for (int ii = 0; ii <= degree; ii++) {
+			for (int jj = 0; ii + jj <= degree; jj++) {
+				Term t = new UTerm(seed + 0.5*cnt++);
+
+				if (ii > 0)
+					t.addPower(new Power(Variable.VAR_TYPE_UX_U, 2, ii));
+				if (jj > 0)
+					t.addPower(new Power(Variable.VAR_TYPE_UX_U, 1, jj));
+				p.addTerm(t);
+			}
+		}
+
+		return p;
+	}
+
+	/**
+	 * Method that loads costs from profile file.
+	 *
+	 * @param fileName	Name of profile file
+	 * @return			RET_CODE_SUCCESS or ERR_CODE_GENERAL if file can't be read
+	 */
+	public int load(String fileName) {
+		ILogger logger = OpenGeoProver.getSettings().getLogger();
+		Properties props = new Properties();
+		FileInputStream in = null;
+
+		try {
+			in = new FileInputStream(fileName);
+			props.load(in);
+			this.seqTreeCost = Double.parseDouble(props.getProperty(MultiplicationCostModel.KEY_SEQ_TREE_COST));
+			this.seqArrayCost = Double.parseDouble(props.getProperty(MultiplicationCostModel.KEY_SEQ_ARRAY_COST));
+			this.conPairCost = Double.parseDouble(props.getProperty(MultiplicationCostModel.KEY_CON_PAIR_COST));
+			this.conTaskCost = Double.parseDouble(props.getProperty(MultiplicationCostModel.KEY_CON_TASK_COST));
+			this.karatsubaCost = Double.parseDouble(props.getProperty(MultiplicationCostModel.KEY_KARATSUBA_COST));
+			this.numOfProcessors = Integer.parseInt(props.getProperty(MultiplicationCostModel.KEY_NUM_OF_PROCESSORS));
+		} catch (IOException e) {
+			logger.error("Failed to read profile of multiplication costs from file " + fileName + ": " + e.toString());
+			return OGPConstants.ERR_CODE_GENERAL;
+		} catch (NullPointerException e) {
+			logger.error("Missing value in profile of multiplication costs in file " + fileName);
+			return OGPConstants.ERR_CODE_GENERAL;
+		} catch (NumberFormatException e) {
+			logger.error("Bad value in profile of multiplication costs in file " + fileName + ": " + e.getMessage());
+			return OGPConstants.ERR_CODE_GENERAL;
+		} finally {
+			if (in != null) {
+				try {
+					in.close();
+				} catch (IOException e) {
+					// nothing to do - values are already read
+				}
+			}
+		}
+
+		logger.debug("Loaded costs of polynomial multiplication: " + this.toString());
+		return OGPConstants.RET_CODE_SUCCESS;
+	}
+
+	/**
+	 * Method that saves costs to profile file.
+	 *
+	 * @param fileName	Name of profile file
+	 * @return			RET_CODE_SUCCESS or ERR_CODE_GENERAL if file can't be written
+	 */
+	public int save(String fileName) {
+		Properties props = new Properties();
+		FileOutputStream out = null;
+
+		props.setProperty(MultiplicationCostModel.KEY_SEQ_TREE_COST, Double.toString(this.seqTreeCost));
+		props.setProperty(MultiplicationCostModel.KEY_SEQ_ARRAY_COST, Double.toString(this.seqArrayCost));
+		props.setProperty(MultiplicationCostModel.KEY_CON_PAIR_COST, Double.toString(this.conPairCost));
+		props.setProperty(MultiplicationCostModel.KEY_CON_TASK_COST, Double.toString(this.conTaskCost));
+		props.setProperty(MultiplicationCostModel.KEY_KARATSUBA_COST, Double.toString(this.karatsubaCost));
+		props.setProperty(MultiplicationCostModel.KEY_NUM_OF_PROCESSORS, Integer.toString(this.numOfProcessors));
+
+		try {
+			out = new FileOutputStream(fileName);
+			props.store(out, "OpenGeoProver - costs of polynomial multiplication");
+		} catch (IOException e) {
+			OpenGeoProver.getSettings().getLogger().error("Failed to write profile of multiplication costs to file " + fileName + ": " + e.toString());
+			return OGPConstants.ERR_CODE_GENERAL;
+		} finally {
+			if (out != null) {
+				try {
+					out.close();
+				} catch (IOException e) {
+					// nothing to do
+				}
+			}
+		}
+
+		return OGPConstants.RET_CODE_SUCCESS;
+	}
+}
@@ -0,0 +1,381 @@
+/*
+ * DISCLAIMER PLACEHOLDER
+ */
+
+package com.ogprover.polynomials;
+
+import java.util.Vector;
+
+/**
+ * <dl>
+ * <dt><b>Class description:</b></dt>
+ * <dd>Class with primitive (packed) representation of monomials - products of powers</dd>
+ * </dl>
+ *
+ * @version 1.00
+ * @author Ivan Petrovic
+ */
+// Monomial is kept as array of long values; each element encodes one power
+// with variable index in upper 32 bits and exponent in lower 32 bits, e.g.
+// (x_9)^4*(x_6)*(x_2)^3 is encoded as [9<<32|4, 6<<32|1, 2<<32|3].
+// Elements are sorted in descending order, same as powers in Term objects,
+// so comparison of two packed powers as long values gives same result as
+// Power.compareTo() for powers of same variable type.
+public final class PackedMonomial {
+	/*
+	 * ======================================================================
+	 * ========================== VARIABLES =================================
+	 * ======================================================================
+	 */
+	/**
+	 * <i><b>
+	 * Version number of class in form xx.yy where
+	 * xx is major version/release number and yy is minor
+	 * release number.
+	 * </b></i>
+	 */
+	public static final String VERSION_NUM = "1.00"; // this should match the version number from class comment
+	/**
+	 * <i><b>Packed form of constant monomial (without powers)</b></i>
+	 */
+	public static final long[] CONSTANT = new long[0];
+	/**
+	 * <i><b>Mask for extraction of exponent from packed power</b></i>
+	 */
+	private static final long EXP_MASK = 0xFFFFFFFFL;
+	/**
+	 * <i><b>Maximal variable index that can be packed</b></i>
+	 */
+	public static final long MAX_PACKED_INDEX = Integer.MAX_VALUE;
+
+
+
+	/*
+	 * ======================================================================
+	 * ========================== CONSTRUCTORS ==============================
+	 * ======================================================================
+	 */
+	/**
+	 * Constructor method - all methods of this class are static
+	 */
+	private PackedMonomial() {
+	}
+
+
+
+	/*
+	 * ======================================================================
+	 * ========================== SPECIFIC METHODS ==========================
+	 * ======================================================================
+	 */
+	/**
+	 * <i>[static method]</i><br>
+	 * Method that packs single power.
+	 *
+	 * @param index		Index of variable
+	 * @param exponent	Exponent of power
+	 * @return			Packed power
+	 */
+	public static long packPower(long index, int exponent) {
+		return (index << 32) | (exponent & PackedMonomial.EXP_MASK);
+	}
+
+	/**
+	 * <i>[static method]</i><br>
+	 * Method that retrieves variable index from packed power.
+	 *
+	 * @param packedPower	Packed power
+	 * @return				Index of variable
+	 */
+	public static int getIndex(long packedPower) {
+		return (int)(packedPower >>> 32);
+	}
+
+	/**
+	 * <i>[static method]</i><br>
+	 * Method that retrieves exponent from packed power.
+	 *
+	 * @param packedPower	Packed power
+	 * @return				Exponent of power
+	 */
+	public static int getExponent(long packedPower) {
+		return (int)(packedPower & PackedMonomial.EXP_MASK);
+	}
+
+	/**
+	 * <i>[static method]</i><br>
+	 * Method that packs vector of powers sorted in descending order.
+	 * Only powers of u and x variables with non-negative index and exponent
+	 * can be packed (symbolic variables have huge indices which depend on point labels).
+	 *
+	 * @param powers	Vector of powers in descending order
+	 * @return			Packed monomial or null if powers can't be packed
+	 */
+	public static long[] pack(Vector<Power> powers) {
+		int size = powers.size();
+
+		if (size == 0)
+			return PackedMonomial.CONSTANT;
+
+		long[] packed = new long[size];
+
+		for (int ii = 0; ii < size; ii++) {
+			Power p = powers.get(ii);
+
+			if (p == null)
+				return null;
+
+			short varType = p.getVarType();
+			long index = p.getIndex();
+			int exp = p.getExponent();
+
+			if ((varType != Variable.VAR_TYPE_UX_U && varType != Variable.VAR_TYPE_UX_X) ||
+				index < 0 || index > PackedMonomial.MAX_PACKED_INDEX || exp < 0)
+				return null;
+			packed[ii] = PackedMonomial.packPower(index, exp);
+		}
+
+		return packed;
+	}
+
+	/**
+	 * <i>[static method]</i><br>
+	 * Method that unpacks monomial into vector of new power objects.
+	 *
+	 * @param packed	Packed monomial
+	 * @param varType	Type of variables of powers (one of Variable.VAR_TYPE_UX_xxx)
+	 * @return			Vector of powers in descending order
+	 */
+	public static Vector<Power> unpack(long[] packed, int length, short varType) {
+		Vector<Power> powers = new Vector<Power>(length);
+
+		for (int ii = 0; ii < length; ii++)
+			powers.addElement(new Power(varType, PackedMonomial.getIndex(packed[ii]), PackedMonomial.getExponent(packed[ii])));
+
+		return powers;
+	}
+
+	/**
+	 * <i>[static method]</i><br>
+	 * Comparison of two packed monomials; the result is same as
+	 * for comparison of terms with these powers.
+	 *
+	 * @param a		First monomial
+	 * @param b		Second monomial
+	 * @return		Negative, zero or positive value when first monomial is
+	 * 				less than, equal to or greater than second monomial
+	 */
+	public static int compare(long[] a, long[] b) {
+		if (a == b)
+			return 0; // same interned monomial
+		return PackedMonomial.compare(a, a.length, b, b.length);
+	}
+
+	/**
+	 * <i>[static method]</i><br>
+	 * Comparison of two packed monomials, with explicit number of used elements.
+	 *
+	 * @see #compare(long[], long[])
+	 */
+	public static int compare(long[] a, int alen, long[] b, int blen) {
+		for (int ii = 0, len = ((alen < blen) ? alen : blen); ii < len; ii++) {
+			long pa = a[ii], pb = b[ii];
+
+			if (pa != pb)
+				return (pa < pb) ? -1 : 1;
+		}
+
+		return ((alen < blen) ? -1 : ((alen > blen) ? 1 : 0));
+	}
+
+	/**
+	 * <i>[static method]</i><br>
+	 * Method that stores product of two monomials into passed in buffer.
+	 * Buffer must have at least a.length + b.length elements.
+	 *
+	 * @param a		First monomial
+	 * @param b		Second monomial
+	 * @param out	Buffer for result
+	 * @return		Number of elements of resulting monomial in buffer
+	 */
+	public static int multiply(long[] a, long[] b, long[] out) {
+		int ii = 0, jj = 0, kk = 0;
+		int size = a.length, tsize = b.length;
+
+		// both arrays are sorted in descending order, so pass them simultaneously
+		while (ii < size && jj < tsize) {
+			int ai = PackedMonomial.getIndex(a[ii]), bj = PackedMonomial.getIndex(b[jj]);
+
+			if (ai == bj) {
+				out[kk++] = a[ii] + PackedMonomial.getExponent(b[jj]); // exponents are summed in lower bits
+				ii++;
+				jj++;
+			}
+			else if (ai > bj)
+				out[kk++] = a[ii++];
+			else
+				out[kk++] = b[jj++];
+		}
+		while (ii < size)
+			out[kk++] = a[ii++];
+		while (jj < tsize)
+			out[kk++] = b[jj++];
+
+		return kk;
+	}
+
+	/**
+	 * <i>[static method]</i><br>
+	 * Method that gives product of two monomials.
+	 *
+	 * @param a		First monomial
+	 * @param b		Second monomial
+	 * @return		Product of monomials
+	 */
+	public static long[] multiply(long[] a, long[] b) {
+		if (a.length == 0)
+			return b;
+		if (b.length == 0)
+			return a;
+
+		long[] buffer = new long[a.length + b.length];
+		int len = PackedMonomial.multiply(a, b, buffer);
+
+		if (len == buffer.length)
+			return buffer;
+
+		long[] result = new long[len];
+		System.arraycopy(buffer, 0, result, 0, len);
+		return result;
+	}
+
+	/**
+	 * <i>[static method]</i><br>
+	 * Method that examines whether first monomial is divisible by second one.
+	 *
+	 * @param a		First monomial
+	 * @param b		Second monomial
+	 * @return		True if first monomial is divisible by second, false otherwise
+	 */
+	public static boolean isDivisible(long[] a, long[] b) {
+		int ii = 0, jj = 0;
+		int size = a.length, tsize = b.length;
+
+		// to be divisible by second monomial, first monomial must contain
+		// at least all variables from second monomial
+		if (tsize > size)
+			return false;
+
+		while (ii < size && jj < tsize) {
+			int ai = PackedMonomial.getIndex(a[ii]), bj = PackedMonomial.getIndex(b[jj]);
+
+			if (ai == bj) {
+				if (PackedMonomial.getExponent(a[ii]) < PackedMonomial.getExponent(b[jj]))
+					return false;
+				ii++;
+				jj++;
+			}
+			else if (ai > bj)
+				ii++;
+			else
+				return false; // variable from second monomial is not found in first
+		}
+
+		return (jj == tsize);
+	}
+
+	/**
+	 * <i>[static method]</i><br>
+	 * Method that stores quotient of two monomials into passed in buffer;
+	 * assumption is that first monomial is divisible by second.
+	 * Buffer must have at least a.length elements.
+	 *
+	 * @param a		First monomial
+	 * @param b		Second monomial
+	 * @param out	Buffer for result
+	 * @return		Number of elements of resulting monomial in buffer
+	 */
+	public static int divide(long[] a, long[] b, long[] out) {
+		int ii = 0, jj = 0, kk = 0;
+		int size = a.length, tsize = b.length;
+
+		while (ii < size) {
+			if (jj < tsize && PackedMonomial.getIndex(a[ii]) == PackedMonomial.getIndex(b[jj])) {
+				int exp = PackedMonomial.getExponent(a[ii]) - PackedMonomial.getExponent(b[jj]);
+
+				if (exp > 0)
+					out[kk++] = a[ii] - PackedMonomial.getExponent(b[jj]);
+				ii++;
+				jj++;
+			}
+			else if (jj < tsize && PackedMonomial.getIndex(a[ii]) < PackedMonomial.getIndex(b[jj]))
+				jj++; // not divisible by this variable - skip it
+			else
+				out[kk++] = a[ii++];
+		}
+
+		return kk;
+	}
+
+	/**
+	 * <i>[static method]</i><br>
+	 * Method that gives exponent of specified variable in monomial.
+	 *
+	 * @param a			Monomial
+	 * @param varIndex	Index of variable
+	 * @return			Exponent of variable or zero if monomial doesn't contain it
+	 */
+	public static int getVariableExponent(long[] a, long varIndex) {
+		// binary search - elements are sorted in descending order
+		int left = 0, right = a.length - 1;
+
+		while (left <= right) {
+			int middle = (left + right) >>> 1;
+			long midIndex = PackedMonomial.getIndex(a[middle]);
+
+			if (midIndex == varIndex)
+				return PackedMonomial.getExponent(a[middle]);
+			if (midIndex < varIndex)
+				right = middle - 1;
+			else
+				left = middle + 1;
+		}
+
+		return 0;
+	}
+
+	/**
+	 * <i>[static method]</i><br>
+	 * Method that gives total degree of monomial.
+	 *
+	 * @param a		Monomial
+	 * @return		Sum of all exponents
+	 */
+	public static int getDegree(long[] a) {
+		int degree = 0;
+
+		for (int ii = 0; ii < a.length; ii++)
+			degree += PackedMonomial.getExponent(a[ii]);
+
+		return degree;
+	}
+
+	/**
+	 * <i>[static method]</i><br>
+	 * Method that calculates hash code of monomial.
+	 *
+	 * @param a		Monomial
+	 * @param len	Number of used elements
+	 * @return		Hash code
+	 */
+	public static int hashCode(long[] a, int len) {
+		int hash = 1;
+
+		for (int ii = 0; ii < len; ii++) {
+			long element = a[ii];
+			hash = 31 * hash + (int)(element ^ (element >>> 32));
+		}
+
+		return hash;
+	}
+}
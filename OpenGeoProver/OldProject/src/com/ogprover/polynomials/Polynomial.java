@@ -6,16 +6,16 @@ package com.ogprover.polynomials;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.TreeMap;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.TimeUnit;
 
 import com.ogprover.main.OGPConstants;
 import com.ogprover.main.OpenGeoProver;
-import com.ogprover.multithread.PolyMultThread;
-import com.ogprover.multithread.SyncProduct;
+import com.ogprover.multithread.ParallelPolyMultiplier;
+import com.ogprover.utilities.OGPMemoryBudget;
+import com.ogprover.utilities.OGPMetrics;
+import com.ogprover.utilities.OGPTimer;
 import com.ogprover.utilities.logger.ILogger;
 
 /**
@@ -54,6 +54,15 @@ public abstract class Polynomial implements Cloneable, RationalAlgebraicExpressi
 	 * <i><b>Symbolic polynomial</b></i>
 	 */
 	public static final short POLY_TYPE_SYMBOLIC = 3;
+	// Class constants for storage of terms
+	/**
+	 * <i><b>Terms are stored in tree map (default)</b></i>
+	 */
+	public static final short POLY_STORAGE_TREE = 1;
+	/**
+	 * <i><b>Terms of x-polynomials are stored in sorted array during addition and multiplication</b></i>
+	 */
+	public static final short POLY_STORAGE_ARRAY = 2;
 	
 	// Other class data members
 	/**
@@ -66,6 +75,11 @@ public abstract class Polynomial implements Cloneable, RationalAlgebraicExpressi
 	 									 // There are no two equals terms in this collection.
 	 									 // Each term also represents itself's key - 
 	 									 // therefore Term's compareTo() method is used for natural keys order.
+	/**
+	 * Alternative storage of terms in sorted array (see POLY_STORAGE_ARRAY); when it is not null,
+	 * it holds the terms of this polynomial and tree of terms is not up to date.
+	 */
+	protected SortedTermArray termArray = null; // tree of terms is rebuilt from array only when it is requested
 	
 	/*
 	 * ======================================================================
@@ -98,15 +112,33 @@ public abstract class Polynomial implements Cloneable, RationalAlgebraicExpressi
 	 * @return	Collection of terms of this polynomial
 	 */
 	public TreeMap<Term, Term> getTerms() {
+		if (this.termArray != null) {
+			this.terms = this.termArray.toTreeMap();
+			this.termArray = null;
+		}
 		return terms;
 	}
 	
+	/**
+	 * Method that gives number of terms of this polynomial
+	 * (it doesn't require tree of terms to be rebuilt).
+	 * 
+	 * @return	Number of terms
+	 */
+	public int getNumOfTerms() {
+		if (this.termArray != null)
+			return this.termArray.size();
+		return this.terms.size();
+	}
+	
 	/**
 	 * Check whether polynomial is zero constant.
 	 * 
 	 * @return	True if polynomial is zero, false otherwise.
 	 */
 	public final boolean isZero() {
+		if (this.termArray != null)
+			return this.termArray.size() == 0;
 		return this.terms.isEmpty(); // attention: zero terms will not be kept in tree of terms and that is why this condition is sufficient.
 									 // please see addTerm() method from this class.
 	}
@@ -118,16 +150,60 @@ public abstract class Polynomial implements Cloneable, RationalAlgebraicExpressi
 	 * 				List contains references to objects from original tree of terms.
 	 */
 	public ArrayList<Term> getTermsAsDescList(){
-		Collection<Term> col = this.terms.values(); // all values from tree in ascending order
-		Iterator<Term> termIT = col.iterator();
-		ArrayList<Term> list = new ArrayList<Term>();
+		if (this.termArray != null)
+			return this.termArray.toDescList();
 		
-		while (termIT.hasNext())
-			list.add(0, termIT.next()); // add at the beginning of list
-
+		ArrayList<Term> list = new ArrayList<Term>(this.terms.values()); // all values from tree in ascending order
+		
+		Collections.reverse(list); // reversing is cheaper than adding each term at the beginning of list
 		return list;
 	}
 	
+	/**
+	 * <i>[static method]</i><br>
+	 * Method that checks whether sorted arrays of terms are used for x-polynomials.
+	 * 
+	 * @return	True if POLY_STORAGE_ARRAY is set by parameters, false otherwise
+	 */
+	public static boolean useTermArray() {
+		return OpenGeoProver.getSettings().getParameters().getPolyStorage() == Polynomial.POLY_STORAGE_ARRAY;
+	}
+	
+	/**
+	 * Method that switches this polynomial to storage of terms in sorted array.
+	 * 
+	 * @return	Sorted array with terms of this polynomial
+	 */
+	protected SortedTermArray getTermArray() {
+		if (this.termArray == null) {
+			this.termArray = new SortedTermArray(this.terms.values());
+			this.terms = null;
+		}
+		return this.termArray;
+	}
+	
+	/**
+	 * Method that replaces terms of this polynomial by terms from sorted array.
+	 * 
+	 * @param termArray	Sorted array of terms (it is not copied)
+	 */
+	protected void setTermArray(SortedTermArray termArray) {
+		this.termArray = termArray;
+		this.terms = null;
+	}
+	
+	/**
+	 * Method that gives terms of this polynomial in sorted array without changing 
+	 * the storage of this polynomial.
+	 * 
+	 * @return	Sorted array with terms of this polynomial (terms are not copied)
+	 */
+	protected SortedTermArray viewAsTermArray() {
+		if (this.termArray != null)
+			return this.termArray;
+		return new SortedTermArray(this.terms.values());
+	}
+	
 	/**
 	 * Method that retrieves the greatest degree of all terms of this polynomial.
 	 * It is called the polynomial degree.
@@ -177,6 +253,42 @@ public abstract class Polynomial implements Cloneable, RationalAlgebraicExpressi
 	 * ========================== SPECIFIC METHODS ==========================
 	 * ======================================================================
 	 */
+	/**
+	 * Method that gives estimated number of bytes used by this polynomial (see OGPMemoryBudget).
+	 * 
+	 * @return	Estimated number of bytes
+	 */
+	public long estimateSize() {
+		long size = OGPMemoryBudget.OBJECT_HEADER + 2*OGPMemoryBudget.REFERENCE;
+		
+		if (this.termArray != null)
+			return size + this.termArray.estimateSize();
+		
+		size += OGPMemoryBudget.OBJECT_HEADER + 32 + this.terms.size()*OGPMemoryBudget.TREE_ENTRY; // tree map and its entries
+		for (Term t : this.terms.values())
+			size += t.estimateSize();
+		return size;
+	}
+	
+	/**
+	 * Method that gives estimated number of bytes used by this polynomial, calculated
+	 * from sizes of few terms; it is used where walking through all terms would be too
+	 * expensive.
+	 * 
+	 * @return	Estimated number of bytes
+	 */
+	public long estimateSizeFromSample() {
+		if (this.termArray != null)
+			return OGPMemoryBudget.OBJECT_HEADER + 2*OGPMemoryBudget.REFERENCE + this.termArray.estimateSizeFromSample();
+		if (this.terms.size() <= 3)
+			return this.estimateSize();
+		
+		long sample = this.terms.firstKey().estimateSize() + this.terms.lastKey().estimateSize();
+		
+		return OGPMemoryBudget.OBJECT_HEADER + 2*OGPMemoryBudget.REFERENCE + OGPMemoryBudget.OBJECT_HEADER + 32 + 
+			   this.terms.size()*(OGPMemoryBudget.TREE_ENTRY + sample/2);
+	}
+	
 	// Arithmetics operations with polynomials
 	/**
 	 * <b>[final method]</b><br>
@@ -186,7 +298,7 @@ public abstract class Polynomial implements Cloneable, RationalAlgebraicExpressi
 	 * @return		This polynomial, which is result of operation
 	 */
 	public final Polynomial addTerm(Term t) {
-		ILogger logger = OpenGeoProver.settings.getLogger();
+		ILogger logger = OpenGeoProver.getSettings().getLogger();
 		
 		if (t == null) {
 			logger.error("Attempt to add null term.");
@@ -206,16 +318,17 @@ public abstract class Polynomial implements Cloneable, RationalAlgebraicExpressi
 			return this;
 		}
 		
-		Term tFromTree = this.terms.get(t);
+		TreeMap<Term, Term> treeOfTerms = this.getTerms();
+		Term tFromTree = treeOfTerms.get(t);
 		
 		if (tFromTree == null) { // this is a brand new term
-			this.terms.put(t, t);
+			treeOfTerms.put(t, t);
 		}
 		else {
 			tFromTree.merge(t); // merging existing term with new term
 			// if became zero, remove from collection
 			if (tFromTree.isZero() == true)
-				this.terms.remove(tFromTree);
+				treeOfTerms.remove(tFromTree);
 		}
 		
 		return this;
@@ -229,7 +342,7 @@ public abstract class Polynomial implements Cloneable, RationalAlgebraicExpressi
 	 * @return		This polynomial, which is result of operation
 	 */
 	public final Polynomial addPolynomial(Polynomial p) {
-		ILogger logger = OpenGeoProver.settings.getLogger();
+		ILogger logger = OpenGeoProver.getSettings().getLogger();
 		
 		if (p == null) {
 			logger.error("Attempt to add null polynomial.");
@@ -245,6 +358,12 @@ public abstract class Polynomial implements Cloneable, RationalAlgebraicExpressi
 		if (p.isZero())
 			return this;
 		
+		if (this.getType() == Polynomial.POLY_TYPE_XPOLY && Polynomial.useTermArray()) {
+			// merge of two sorted arrays
+			this.termArray = SortedTermArray.merge(this.getTermArray(), p.viewAsTermArray(), false, true);
+			return this;
+		}
+		
 		Collection<Term> col = p.getTerms().values(); // all values from tree in ascending order
 		Iterator<Term> termIT = col.iterator();
 		
@@ -262,7 +381,7 @@ public abstract class Polynomial implements Cloneable, RationalAlgebraicExpressi
 	 * @return		This polynomial, which is result of operation
 	 */
 	public final Polynomial subtractPolynomial(Polynomial p) {
-		ILogger logger = OpenGeoProver.settings.getLogger();
+		ILogger logger = OpenGeoProver.getSettings().getLogger();
 		
 		if (p == null) {
 			logger.error("Attempt to subtract null polynomial.");
@@ -274,6 +393,12 @@ public abstract class Polynomial implements Cloneable, RationalAlgebraicExpressi
 			return null;
 		}
 		
+		if (this.getType() == Polynomial.POLY_TYPE_XPOLY && Polynomial.useTermArray()) {
+			// merge of two sorted arrays
+			this.termArray = SortedTermArray.merge(this.getTermArray(), p.viewAsTermArray(), true, true);
+			return this;
+		}
+		
 		Collection<Term> col = p.getTerms().values(); // all values from tree in ascending order
 		Iterator<Term> termIT = col.iterator();
 		
@@ -298,10 +423,11 @@ public abstract class Polynomial implements Cloneable, RationalAlgebraicExpressi
 		if (d > -OGPConstants.EPSILON && d < OGPConstants.EPSILON) {
 			// multiplication by zero - therefore new polynomial is zero
 			this.terms = new TreeMap<Term, Term>(); // new empty tree of terms
+			this.termArray = null;
 		}
 		else {
 			// multiply each term by real constant
-			Collection<Term> col = this.terms.values(); // all values from tree in ascending order
+			Collection<Term> col = this.getTermsAsDescList(); // order of terms is not important here
 			Iterator<Term> termIT = col.iterator();
 		
 			while (termIT.hasNext()) {
@@ -313,6 +439,32 @@ public abstract class Polynomial implements Cloneable, RationalAlgebraicExpressi
 		return this;
 	}
 	
+	/**
+	 * <b>[final method]</b><br>
+	 * Method for multiplication of this polynomial by rational constant.
+	 * 
+	 * @param r		Rational constant - factor
+	 * @return		Product of this polynomial and rational factor
+	 */
+	public final Polynomial multiplyByRationalConstant(RationalNumber r){
+		// if this polynomial is zero - nothing is changed
+		if (this.isZero())
+			return this;
+		
+		if (r.isZero()) {
+			// multiplication by zero - therefore new polynomial is zero
+			this.terms = new TreeMap<Term, Term>(); // new empty tree of terms
+			this.termArray = null;
+		}
+		else {
+			// multiply each term by rational constant; order of terms is not important here
+			for (Term t : this.getTermsAsDescList())
+				t.mul(r);
+		}
+		
+		return this;
+	}
+	
 	/**
 	 * <b>[final method]</b><br>
 	 * Method for multiplication of this polynomial by term.
@@ -321,7 +473,7 @@ public abstract class Polynomial implements Cloneable, RationalAlgebraicExpressi
 	 * @return		Product of this polynomial and term
 	 */
 	public final Polynomial multiplyByTerm(Term t){
-		ILogger logger = OpenGeoProver.settings.getLogger();
+		ILogger logger = OpenGeoProver.getSettings().getLogger();
 		
 		if (t == null) {
 			logger.error("Attempt to multiply by null term.");
@@ -339,17 +491,21 @@ public abstract class Polynomial implements Cloneable, RationalAlgebraicExpressi
 		if (this.isZero())
 			return this;
 		
-		Collection<Term> col = this.terms.values(); // all values from tree in ascending order
+		Collection<Term> col = this.getTermsAsDescList(); // order of terms is not important here
 		Iterator<Term> termIT = col.iterator();
 		
 		// if term is zero constant - result is zero polynomial
-		if (t.isZero() == true)
+		if (t.isZero() == true) {
 			this.terms = new TreeMap<Term, Term>(); // new empty tree of terms
+			this.termArray = null;
+		}
 		else {
 			// multiply each term by passed in term - order will be same
 			while (termIT.hasNext()) {
 				termIT.next().mul(t);
 			}
+			if (this.termArray != null)
+				this.termArray.refreshMonomials(); // powers of terms have been changed
 		}
 		
 		return this;
@@ -363,16 +519,61 @@ public abstract class Polynomial implements Cloneable, RationalAlgebraicExpressi
 	 * @return		Product of this polynomial and passed in polynomial
 	 */
 	public final Polynomial multiplyByPolynomial(Polynomial p){
-		ILogger logger = OpenGeoProver.settings.getLogger();
+		OGPMetrics.Measurement measurement = OpenGeoProver.getSettings().getMetrics().startMultiplication(this.getNumOfTerms(), p.getNumOfTerms());
+		Polynomial product = this.multiplyByPolynomialOfChosenStrategy(p);
+		
+		measurement.stop((product != null) ? product.getNumOfTerms() : OGPMetrics.NO_TERMS);
+		return product;
+	}
+	
+	/**
+	 * Method for multiplication of this polynomial by another polynomial
+	 * in way chosen by cost model of multiplication.
+	 * 
+	 * @param p		Polynomial - factor
+	 * @return		Product of this polynomial and passed in polynomial
+	 */
+	private Polynomial multiplyByPolynomialOfChosenStrategy(Polynomial p){
+		ILogger logger = OpenGeoProver.getSettings().getLogger();
+		
+		if (p == null) {
+			logger.error("Attempt to multiply by null polynomial.");
+			return null;
+		}
+		
+		if (this.getType() != p.getType()) {
+			logger.error("Attempt to multiply by polynomial of another type.");
+			return null;
+		}
+		
+		// if this polynomial is zero - nothing is changed
+		if (this.isZero())
+			return this;
 		
-		int n = OpenGeoProver.settings.getParameters().getConLevel();
+		int n = OpenGeoProver.getSettings().getParameters().getConLevel();
 		
-		// if polynomials have huge number of terms multiply them concurrently
-		//if (n > 1 && (this.getTerms().size() > 400 || p.getTerms().size() > 400)) {
-		if (n > 1 && (this.getTerms().size() > 500 && p.getTerms().size() > 500)) {
+		// cost model chooses the fastest way of multiplication for sizes of polynomials
+		switch (MultiplicationCostModel.chooseStrategy(this, p, n)) {
+		case MultiplicationCostModel.STRATEGY_CONCURRENT:
 			logger.debug("Concurrent multiplication");
-			return multiplyByPolynomialConcurrently(p, n);
+			return this.multiplyByPolynomialConcurrently(p, n);
+		case MultiplicationCostModel.STRATEGY_KARATSUBA:
+			logger.debug("Karatsuba multiplication");
+			return this.setProduct(KaratsubaMultiplier.multiply(this.viewAsTermArray(), p.viewAsTermArray()));
+		default:
+			return this.multiplyByPolynomialSequentially(p);
 		}
+	}
+	
+	/**
+	 * <b>[final method]</b><br>
+	 * Method for multiplication of this polynomial by another polynomial in single thread.
+	 * 
+	 * @param p		Polynomial - factor
+	 * @return		Product of this polynomial and passed in polynomial
+	 */
+	public final Polynomial multiplyByPolynomialSequentially(Polynomial p){
+		ILogger logger = OpenGeoProver.getSettings().getLogger();
 		
 		if (p == null) {
 			logger.error("Attempt to multiply by null polynomial.");
@@ -388,17 +589,34 @@ public abstract class Polynomial implements Cloneable, RationalAlgebraicExpressi
 		if (this.isZero())
 			return this;
 		
-		Collection<Term> col = this.terms.values(); // all values from tree in ascending order
+		if (this.getType() == Polynomial.POLY_TYPE_XPOLY && Polynomial.useTermArray()) {
+			// chunk based multiplication of sorted arrays
+			this.termArray = this.getTermArray().multiply(p.viewAsTermArray());
+			return this;
+		}
+		
+		Collection<Term> col = this.getTerms().values(); // all values from tree in ascending order
 		Iterator<Term> termIT = col.iterator();
 		Collection<Term> colP = p.getTerms().values(); // all values from tree in ascending order
 		Iterator<Term> termITP = colP.iterator();
 		
 		//long numIterations = 0; // used for better memory management
 		
+		OGPTimer timer = OpenGeoProver.getSettings().getTimer();
+		int work = 0; // number of term products since last check of time
+		
 		// if passed in polynomial is zero constant - result is zero polynomial
 		this.terms = new TreeMap<Term, Term>(); // new empty tree of terms
 		if (p.isZero() == false) {
 			while (termIT.hasNext()) {
+				// incomplete product is discarded by caller when it checks the time
+				if (work >= OGPTimer.POLL_INTERVAL) {
+					if (timer.isTimeIsUp())
+						break;
+					work = 0;
+				}
+				work += colP.size();
+				
 				Term curr = termIT.next();
 
 				while (termITP.hasNext()){
@@ -434,10 +652,10 @@ public abstract class Polynomial implements Cloneable, RationalAlgebraicExpressi
 	 * @return		Product of this polynomial and passed in polynomial
 	 */
 	public final Polynomial multiplyByPolynomialConcurrently(Polynomial p, int n){
-		ILogger logger = OpenGeoProver.settings.getLogger();
+		ILogger logger = OpenGeoProver.getSettings().getLogger();
 		
 		if (n == 1)
-			return this.multiplyByPolynomial(p);
+			return this.multiplyByPolynomialSequentially(p);
 		
 		if (p == null) {
 			logger.error("Attempt to multiply by null polynomial.");
@@ -464,39 +682,42 @@ public abstract class Polynomial implements Cloneable, RationalAlgebraicExpressi
 						". Setting to maximal number.");
 			n = OGPConstants.maxNumOfThreads;
 		}
-		ExecutorService service = Executors.newFixedThreadPool(n); // object for generating threads
-		// create sources for reading terms
-		Object[] firstPolyTermsArray = this.terms.values().toArray();
-		ArrayList<Term> firstArray = new ArrayList<Term>();
-		for (int ii = 0, jj = this.terms.size(); ii < jj; ii++)
-			firstArray.add(ii, (Term)firstPolyTermsArray[ii]);
-		Object[] secondPolyTermsArray = p.getTerms().values().toArray();
-		ArrayList<Term> secondArray = new ArrayList<Term>();
-		for (int ii = 0, jj = p.getTerms().size(); ii < jj; ii++)
-			secondArray.add(ii, (Term)secondPolyTermsArray[ii]);
 		
 		// if passed in polynomial is zero constant - result is zero polynomial
-		this.terms = new TreeMap<Term, Term>(); // new empty tree of terms
-		Polynomial localStorage = this.clone();
+		if (p.isZero()) {
+			this.terms = new TreeMap<Term, Term>(); // new empty tree of terms
+			this.termArray = null;
+			return this;
+		}
 		
-		if (p.isZero() == false) {
-			// create destination for terms of result - synchronized object
-			SyncProduct sp = new SyncProduct(this);
-			
-			for (int ii = 0; ii < n; ii++)
-				service.execute(new PolyMultThread(ii, n, firstArray, secondArray, localStorage.clone(), sp, ii + "")); // create and run thread - each thread is using same 
-																								                         // arrays of terms for reading and same synchronization 
-																								                         // object sp for storing results
-			service.shutdown(); // prevent creating new threads and keep already executed until they complete
-			
-			// wait for all threads to complete their work
-			try {
-				if (!service.awaitTermination(n*5000, TimeUnit.MILLISECONDS)) {
-					logger.error("Failed to complete all threads");
-					service.shutdownNow(); // immediately kill all created running threads
-					return null;
-				}
-			} catch (InterruptedException e) {}
+		// partial products are calculated and merged on shared pool of threads
+		SortedTermArray product = ParallelPolyMultiplier.multiply(this.viewAsTermArray(), p.viewAsTermArray(), n);
+		
+		if (product == null) {
+			logger.error("Failed to complete all threads");
+			return null;
+		}
+		
+		return this.setProduct(product);
+	}
+	
+	/**
+	 * Method that replaces terms of this polynomial by terms of calculated product,
+	 * keeping the storage of terms set by parameters. Powers of terms of product
+	 * are interned, so that equal monomials of stored polynomials share memory.
+	 * 
+	 * @param product	Sorted array with terms of product (it is not copied)
+	 * @return			This polynomial
+	 */
+	protected Polynomial setProduct(SortedTermArray product) {
+		for (int ii = 0, size = product.size(); ii < size; ii++)
+			product.get(ii).getMonomial();
+		
+		if (this.getType() == Polynomial.POLY_TYPE_XPOLY && Polynomial.useTermArray())
+			this.setTermArray(product);
+		else {
+			this.terms = product.toTreeMap();
+			this.termArray = null;
 		}
 		
 		return this;
@@ -509,7 +730,7 @@ public abstract class Polynomial implements Cloneable, RationalAlgebraicExpressi
 	 * @return		This polynomial, which is result of operation
 	 */
 	public final Polynomial invert() {
-		Collection<Term> col = this.terms.values(); // all values from tree in ascending order
+		Collection<Term> col = this.getTermsAsDescList(); // order of terms is not important here
 		Iterator<Term> termIT = col.iterator();
 
 		while (termIT.hasNext()) { 
@@ -526,6 +747,8 @@ public abstract class Polynomial implements Cloneable, RationalAlgebraicExpressi
 	 * @return		Leading (highest) term of this polynomial.
 	 */
 	public final Term getLeadingTerm(){
+		if (this.termArray != null)
+			return this.termArray.getLast();
 		return this.terms.get(this.terms.lastKey());
 	}
 }
\ No newline at end of file
@@ -0,0 +1,198 @@
+/*
+ * DISCLAIMER PLACEHOLDER
+ */
+
+package com.ogprover.polynomials;
+
+import java.util.ArrayList;
+
+
+/**
+ * <dl>
+ * <dt><b>Class description:</b></dt>
+ * <dd>Class for polynomials of specific position of points prepared for
+ *     matching with polynomial forms of NDG conditions</dd>
+ * </dl>
+ *
+ * @version 1.00
+ * @author Ivan Petrovic
+ */
+// Polynomial of position is matched with NDG condition by comparing each single u-variable
+// from u-factor of polynomial, and polynomial divided by that u-factor (residual polynomial),
+// with polynomial of NDG condition (see XPolynomial.matchesNDGCPolynomial()). These polynomials
+// depend only on position of points, so they are calculated once, together with number of
+// terms and hash code of x-monomials of each of them; matching with NDG condition then
+// compares polynomials only when their number of terms and hash codes are same.
+public class PositionPolynomialForm {
+	/*
+	 * ======================================================================
+	 * ========================== VARIABLES =================================
+	 * ======================================================================
+	 */
+	/**
+	 * <i><b>
+	 * Version number of class in form xx.yy where
+	 * xx is major version/release number and yy is minor
+	 * release number.
+	 * </b></i>
+	 */
+	public static final String VERSION_NUM = "1.00"; // this should match the version number from class comment
+
+	/**
+	 * Polynomials compared with polynomial of NDG condition - single u-variables
+	 * and residual polynomials
+	 */
+	private ArrayList<XPolynomial> candidates = new ArrayList<XPolynomial>();
+	/**
+	 * Hash codes of x-monomials of candidate polynomials
+	 */
+	private ArrayList<Integer> candidateHashCodes = new ArrayList<Integer>();
+	/**
+	 * Residual polynomials - checked for divisibility by single term polynomial of NDG condition
+	 */
+	private ArrayList<XPolynomial> residuals = new ArrayList<XPolynomial>();
+
+
+
+	/*
+	 * ======================================================================
+	 * ========================== CONSTRUCTORS ==============================
+	 * ======================================================================
+	 */
+	/**
+	 * Constructor method
+	 *
+	 * @param positionPolys		Polynomials of specific position of points; position matches
+	 * 							NDG condition if any of them matches it (null polynomials are skipped)
+	 */
+	public PositionPolynomialForm(XPolynomial... positionPolys) {
+		for (XPolynomial xp : positionPolys) {
+			if (xp != null)
+				this.addPositionPolynomial(xp);
+		}
+	}
+
+
+
+	/*
+	 * ======================================================================
+	 * ========================== SPECIFIC METHODS ==========================
+	 * ======================================================================
+	 */
+	/**
+	 * Method that prepares polynomial of position of points for matching.
+	 *
+	 * @param xp	Polynomial of position of points
+	 */
+	private void addPositionPolynomial(XPolynomial xp) {
+		// If polynomial is zero, it cannot match polynomial form of NDG condition
+		// since that polynomial is non-zero
+		if (xp.isZero())
+			return;
+
+		XPolynomial positionPoly = ((XPolynomial) xp.clone()).reduceUTerms(false);
+
+		// Calculate u factor of position polynomial
+		UTerm posPolyUFactor = null;
+
+		for (Term t : positionPoly.getTermsAsDescList()) {
+			XTerm xt = (XTerm)t;
+
+			for (Term ut : xt.getUCoeff().getNumerator().getTermsAsDescList()) {
+				if (posPolyUFactor == null) {
+					posPolyUFactor = (UTerm)ut.clone();
+					posPolyUFactor.setCoeff(1);
+				}
+				else
+					posPolyUFactor.gcd(ut);
+			}
+		}
+
+		if (posPolyUFactor == null)
+			return; // nothing left after reduction of u-terms
+
+		// single u-variables
+		for (Power p : posPolyUFactor.getPowers()) {
+			UPolynomial up = new UPolynomial();
+			UTerm ut = new UTerm(1);
+			ut.addPower(p.clone());
+			up.addTerm(ut);
+			XPolynomial uVarPoly = new XPolynomial();
+			uVarPoly.addTerm(new XTerm(new UFraction(up)));
+			this.addCandidate(uVarPoly);
+		}
+
+		// residual polynomial
+		XPolynomial posPolyResidum = (XPolynomial) positionPoly.clone();
+
+		for (Term xt : posPolyResidum.getTermsAsDescList())
+			((XTerm) xt).getUCoeff().getNumerator().divideByTerm(posPolyUFactor);
+		this.residuals.add(posPolyResidum);
+		this.addCandidate(posPolyResidum);
+	}
+
+	/**
+	 * Method that adds polynomial to be compared with polynomial of NDG condition.
+	 *
+	 * @param xp	X-polynomial
+	 */
+	private void addCandidate(XPolynomial xp) {
+		this.candidates.add(xp);
+		this.candidateHashCodes.add(Integer.valueOf(XPolynomialIndex.hashCodeOfMonomials(xp)));
+	}
+
+	/**
+	 * Method that checks if position of points matches polynomial
+	 * form of NDG condition.
+	 *
+	 * @param ndgcPoly	Polynomial form of NDG condition - non-zero polynomial which is
+	 * 					reduced by u-term division (removed sufficient u-terms)
+	 * @return			True if position corresponds to passed in polynomial form of NDG condition
+	 */
+	public boolean matches(XPolynomial ndgcPoly) {
+		return this.matches(ndgcPoly, XPolynomialIndex.hashCodeOfMonomials(ndgcPoly));
+	}
+
+	/**
+	 * Method that checks if position of points matches polynomial
+	 * form of NDG condition.
+	 *
+	 * @param ndgcPoly		Polynomial form of NDG condition - non-zero polynomial which is
+	 * 						reduced by u-term division (removed sufficient u-terms)
+	 * @param ndgcHashCode	Hash code of x-monomials of polynomial of NDG condition
+	 * 						(see XPolynomialIndex.hashCodeOfMonomials())
+	 * @return				True if position corresponds to passed in polynomial form of NDG condition
+	 */
+	public boolean matches(XPolynomial ndgcPoly, int ndgcHashCode) {
+		int numOfTerms = ndgcPoly.getNumOfTerms();
+
+		// special case - if NDGC polynomial is single term polynomial, check whether residual polynomial is divisible by it
+		if (numOfTerms == 1) {
+			Term singleTerm = ndgcPoly.getTermsAsDescList().get(0);
+
+			for (XPolynomial residum : this.residuals) {
+				boolean bDivisible = true;
+
+				for (Term xt : residum.getTermsAsDescList()) {
+					if (!xt.isDivisibleByTerm(singleTerm)) {
+						bDivisible = false;
+						break;
+					}
+				}
+
+				if (bDivisible)
+					return true;
+			}
+		}
+
+		for (int ii = 0, jj = this.candidates.size(); ii < jj; ii++) {
+			XPolynomial candidate = this.candidates.get(ii);
+
+			// equal polynomials have same x-monomials
+			if (candidate.getNumOfTerms() == numOfTerms && this.candidateHashCodes.get(ii).intValue() == ndgcHashCode && candidate.equals(ndgcPoly))
+				return true;
+		}
+
+		return false;
+	}
+}
@@ -188,7 +188,7 @@ public class Power implements Comparable<Power>, Cloneable, RationalAlgebraicExp
 		int result = 0;
 		
 		if (p == null) {
-			OpenGeoProver.settings.getLogger().error("Null power passed in.");
+			OpenGeoProver.getSettings().getLogger().error("Null power passed in.");
 			return -2; // error
 		}
 		
@@ -234,7 +234,7 @@ public class Power implements Comparable<Power>, Cloneable, RationalAlgebraicExp
 	 */
 	public Power mul(Power p){
 		if (p == null) {
-			OpenGeoProver.settings.getLogger().error("Null pointer passed in.");
+			OpenGeoProver.getSettings().getLogger().error("Null pointer passed in.");
 			return null;
 		}
 		
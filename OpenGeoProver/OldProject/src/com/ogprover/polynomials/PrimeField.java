@@ -0,0 +1,250 @@
+/*
+ * DISCLAIMER PLACEHOLDER
+ */
+
+package com.ogprover.polynomials;
+
+import java.math.BigInteger;
+import java.util.HashMap;
+import java.util.Random;
+
+
+/**
+ * <dl>
+ * <dt><b>Class description:</b></dt>
+ * <dd>Class for arithmetic in finite field of integers modulo prime number,
+ *     with fixed random values of u-variables used for evaluation of
+ *     u-fractions</dd>
+ * </dl>
+ *
+ * @version 1.00
+ * @author Ivan Petrovic
+ */
+// All primes are less than 2^31, so product of two elements of field fits
+// into long value and there is no need for 128-bit multiplication.
+public class PrimeField {
+	/*
+	 * ======================================================================
+	 * ========================== VARIABLES =================================
+	 * ======================================================================
+	 */
+	/**
+	 * <i><b>
+	 * Version number of class in form xx.yy where
+	 * xx is major version/release number and yy is minor
+	 * release number.
+	 * </b></i>
+	 */
+	public static final String VERSION_NUM = "1.00"; // this should match the version number from class comment
+	/**
+	 * <i><b>The greatest primes less than 2^31</b></i>
+	 */
+	public static final long[] PRIMES = { 2147483647L, 2147483629L, 2147483587L, 2147483579L,
+										  2147483563L, 2147483549L, 2147483543L, 2147483497L };
+	/**
+	 * <i><b>Value which marks that element of field can't be calculated (e.g. division by zero)</b></i>
+	 */
+	public static final long UNDEFINED = -1;
+
+	/**
+	 * Prime number - modulus of this field
+	 */
+	private long prime;
+	/**
+	 * Prime number as big integer
+	 */
+	private BigInteger bigPrime;
+	/**
+	 * Generator of random values of u-variables
+	 */
+	private Random random;
+	/**
+	 * Map of values assigned to u-variables: key is index of u-variable
+	 * and value is its non-zero value from this field
+	 */
+	private HashMap<Long, Long> uValues;
+
+
+
+	/*
+	 * ======================================================================
+	 * ========================== GETTERS/SETTERS ===========================
+	 * ======================================================================
+	 */
+	/**
+	 * @return	Prime number - modulus of this field
+	 */
+	public long getPrime() {
+		return this.prime;
+	}
+
+
+
+	/*
+	 * ======================================================================
+	 * ========================== CONSTRUCTORS ==============================
+	 * ======================================================================
+	 */
+	/**
+	 * Constructor method
+	 *
+	 * @param prime		Prime number less than 2^31
+	 */
+	public PrimeField(long prime) {
+		this.prime = prime;
+		this.bigPrime = BigInteger.valueOf(prime);
+		this.random = new Random(prime); // fixed seed makes results reproducible
+		this.uValues = new HashMap<Long, Long>();
+	}
+
+
+
+	/*
+	 * ======================================================================
+	 * ========================== SPECIFIC METHODS ==========================
+	 * ======================================================================
+	 */
+	/**
+	 * Addition of two elements of field
+	 */
+	public long add(long a, long b) {
+		long c = a + b;
+		return ((c >= this.prime) ? c - this.prime : c);
+	}
+
+	/**
+	 * Subtraction of two elements of field
+	 */
+	public long subtract(long a, long b) {
+		long c = a - b;
+		return ((c < 0) ? c + this.prime : c);
+	}
+
+	/**
+	 * Multiplication of two elements of field
+	 */
+	public long multiply(long a, long b) {
+		return (a * b) % this.prime;
+	}
+
+	/**
+	 * Power of element of field
+	 *
+	 * @param a		Base
+	 * @param exp	Non-negative exponent
+	 * @return		a^exp in this field
+	 */
+	public long pow(long a, long exp) {
+		long result = 1, base = a;
+
+		while (exp > 0) {
+			if ((exp & 1) != 0)
+				result = this.multiply(result, base);
+			base = this.multiply(base, base);
+			exp >>= 1;
+		}
+
+		return result;
+	}
+
+	/**
+	 * Multiplicative inverse of element of field
+	 *
+	 * @param a		Non-zero element of field
+	 * @return		Inverse of passed in element or UNDEFINED if it is zero
+	 */
+	public long inverse(long a) {
+		if (a == 0)
+			return PrimeField.UNDEFINED;
+		return this.pow(a, this.prime - 2); // by Fermat's little theorem
+	}
+
+	/**
+	 * Method that maps rational number to this field.
+	 *
+	 * @param r		Rational number
+	 * @return		Element of field or UNDEFINED if denominator is divisible by prime
+	 */
+	public long valueOf(RationalNumber r) {
+		long num = r.getNumerator().mod(this.bigPrime).longValue();
+		long den = r.getDenominator().mod(this.bigPrime).longValue();
+
+		if (den == 0)
+			return PrimeField.UNDEFINED;
+		return ((den == 1) ? num : this.multiply(num, this.inverse(den)));
+	}
+
+	/**
+	 * Method that gives value assigned to u-variable; new variables
+	 * get random non-zero values.
+	 *
+	 * @param index		Index of u-variable
+	 * @return			Value of u-variable
+	 */
+	public long getUValue(long index) {
+		Long key = Long.valueOf(index);
+		Long value = this.uValues.get(key);
+
+		if (value == null) {
+			value = Long.valueOf(1 + this.random.nextInt((int)(this.prime - 1))); // prime - 1 fits into integer
+			this.uValues.put(key, value);
+		}
+
+		return value.longValue();
+	}
+
+	/**
+	 * Method that evaluates u-term for values of u-variables from this field.
+	 *
+	 * @param ut	U-term
+	 * @return		Value of u-term or UNDEFINED if coefficient can't be mapped to this field
+	 */
+	public long valueOf(UTerm ut) {
+		RationalNumber r = ut.getExactCoeff();
+		long value = this.valueOf((r != null) ? r : RationalNumber.valueOf(ut.getCoeff()));
+
+		if (value == PrimeField.UNDEFINED)
+			return PrimeField.UNDEFINED;
+
+		for (Power pow : ut.getPowers())
+			value = this.multiply(value, this.pow(this.getUValue(pow.getIndex()), pow.getExponent()));
+
+		return value;
+	}
+
+	/**
+	 * Method that evaluates u-polynomial for values of u-variables from this field.
+	 *
+	 * @param up	U-polynomial
+	 * @return		Value of u-polynomial or UNDEFINED if some coefficient can't be mapped to this field
+	 */
+	public long valueOf(UPolynomial up) {
+		long value = 0;
+
+		for (Term t : up.getTermsAsDescList()) {
+			long tValue = this.valueOf((UTerm)t);
+
+			if (tValue == PrimeField.UNDEFINED)
+				return PrimeField.UNDEFINED;
+			value = this.add(value, tValue);
+		}
+
+		return value;
+	}
+
+	/**
+	 * Method that evaluates u-fraction for values of u-variables from this field.
+	 *
+	 * @param uf	U-fraction
+	 * @return		Value of u-fraction or UNDEFINED if it can't be calculated
+	 * 				(e.g. denominator is zero for chosen values of u-variables)
+	 */
+	public long valueOf(UFraction uf) {
+		long num = this.valueOf(uf.getNumerator());
+		long den = this.valueOf(uf.getDenominator());
+
+		if (num == PrimeField.UNDEFINED || den == PrimeField.UNDEFINED || den == 0)
+			return PrimeField.UNDEFINED;
+		return this.multiply(num, this.inverse(den));
+	}
+}
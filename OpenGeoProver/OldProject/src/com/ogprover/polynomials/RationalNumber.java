@@ -0,0 +1,431 @@
+/*
+ * DISCLAIMER PLACEHOLDER
+ */
+
+package com.ogprover.polynomials;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+
+import com.ogprover.utilities.OGPMemoryBudget;
+
+
+/**
+ * <dl>
+ * <dt><b>Class description:</b></dt>
+ * <dd>Class for exact rational numbers used as coefficients of u-terms</dd>
+ * </dl>
+ *
+ * @version 1.00
+ * @author Ivan Petrovic
+ */
+// Objects of this class are immutable. Numerator and denominator are kept
+// in long values while they fit into integer range (then all products of two
+// numbers fit into long value without overflow) and in BigInteger objects otherwise.
+// Fraction is always reduced and denominator is positive.
+public final class RationalNumber implements Comparable<RationalNumber> {
+	/*
+	 * ======================================================================
+	 * ========================== VARIABLES =================================
+	 * ======================================================================
+	 */
+	/**
+	 * <i><b>
+	 * Version number of class in form xx.yy where
+	 * xx is major version/release number and yy is minor
+	 * release number.
+	 * </b></i>
+	 */
+	public static final String VERSION_NUM = "1.00"; // this should match the version number from class comment
+	/**
+	 * <i><b>Rational number zero</b></i>
+	 */
+	public static final RationalNumber ZERO = new RationalNumber(0, 1);
+	/**
+	 * <i><b>Rational number one</b></i>
+	 */
+	public static final RationalNumber ONE = new RationalNumber(1, 1);
+	/**
+	 * <i><b>Maximal absolute value of numerator and denominator kept in long values</b></i>
+	 */
+	private static final long SMALL_LIMIT = Integer.MAX_VALUE;
+	/**
+	 * <i><b>Greatest integer that can be exactly represented by double value</b></i>
+	 */
+	private static final double MAX_EXACT_DOUBLE_INTEGER = 9007199254740992.0; // 2^53
+
+	/**
+	 * Numerator (when number is small)
+	 */
+	private final long num;
+	/**
+	 * Denominator (when number is small)
+	 */
+	private final long den;
+	/**
+	 * Numerator (when number is big); null for small number
+	 */
+	private final BigInteger bigNum;
+	/**
+	 * Denominator (when number is big); null for small number
+	 */
+	private final BigInteger bigDen;
+
+
+
+	/*
+	 * ======================================================================
+	 * ========================== GETTERS/SETTERS ===========================
+	 * ======================================================================
+	 */
+	/**
+	 * @return	Numerator of this number
+	 */
+	public BigInteger getNumerator() {
+		return ((this.bigNum != null) ? this.bigNum : BigInteger.valueOf(this.num));
+	}
+
+	/**
+	 * @return	Denominator of this number (always positive)
+	 */
+	public BigInteger getDenominator() {
+		return ((this.bigDen != null) ? this.bigDen : BigInteger.valueOf(this.den));
+	}
+
+	/**
+	 * @return	True if numerator and denominator are kept in long values
+	 */
+	public boolean isSmall() {
+		return (this.bigNum == null);
+	}
+
+
+
+	/*
+	 * ======================================================================
+	 * ========================== CONSTRUCTORS ==============================
+	 * ======================================================================
+	 */
+	/**
+	 * Constructor method for small number; arguments are already reduced
+	 *
+	 * @param num	Numerator
+	 * @param den	Denominator
+	 */
+	private RationalNumber(long num, long den) {
+		this.num = num;
+		this.den = den;
+		this.bigNum = null;
+		this.bigDen = null;
+	}
+
+	/**
+	 * Constructor method for big number; arguments are already reduced
+	 *
+	 * @param num	Numerator
+	 * @param den	Denominator
+	 */
+	private RationalNumber(BigInteger num, BigInteger den) {
+		this.num = 0;
+		this.den = 1;
+		this.bigNum = num;
+		this.bigDen = den;
+	}
+
+	/**
+	 * <i>[static method]</i><br>
+	 * Method that creates rational number from integer value.
+	 *
+	 * @param n		Integer value
+	 * @return		Rational number
+	 */
+	public static RationalNumber valueOf(long n) {
+		if (n == 0)
+			return RationalNumber.ZERO;
+		if (n == 1)
+			return RationalNumber.ONE;
+		if (n >= -RationalNumber.SMALL_LIMIT && n <= RationalNumber.SMALL_LIMIT)
+			return new RationalNumber(n, 1);
+		return new RationalNumber(BigInteger.valueOf(n), BigInteger.ONE);
+	}
+
+	/**
+	 * <i>[static method]</i><br>
+	 * Method that creates rational number from fraction of two integers.
+	 *
+	 * @param n		Numerator
+	 * @param d		Denominator (must not be zero)
+	 * @return		Rational number
+	 */
+	public static RationalNumber valueOf(long n, long d) {
+		if (n == Long.MIN_VALUE || d == Long.MIN_VALUE) // negation would overflow
+			return RationalNumber.create(BigInteger.valueOf(n), BigInteger.valueOf(d));
+		return RationalNumber.create(n, d);
+	}
+
+	/**
+	 * <i>[static method]</i><br>
+	 * Method that creates rational number from real value. Integer values are
+	 * converted directly and other values by their shortest decimal representation
+	 * (e.g. 0.1 becomes 1/10).
+	 *
+	 * @param d		Real value (must be finite)
+	 * @return		Rational number
+	 */
+	public static RationalNumber valueOf(double d) {
+		if (d == Math.rint(d) && Math.abs(d) < RationalNumber.MAX_EXACT_DOUBLE_INTEGER)
+			return RationalNumber.valueOf((long)d);
+
+		BigDecimal bd = BigDecimal.valueOf(d);
+
+		if (bd.scale() <= 0)
+			return RationalNumber.create(bd.toBigInteger(), BigInteger.ONE);
+		return RationalNumber.create(bd.unscaledValue(), BigInteger.TEN.pow(bd.scale()));
+	}
+
+	/**
+	 * <i>[static method]</i><br>
+	 * Method that creates reduced rational number from two long values
+	 * whose absolute values are less than 2^63.
+	 */
+	private static RationalNumber create(long n, long d) {
+		if (n == 0)
+			return RationalNumber.ZERO;
+		if (d < 0) {
+			n = -n;
+			d = -d;
+		}
+
+		long g = RationalNumber.gcd((n < 0) ? -n : n, d);
+
+		if (g != 1) {
+			n /= g;
+			d /= g;
+		}
+
+		if (n >= -RationalNumber.SMALL_LIMIT && n <= RationalNumber.SMALL_LIMIT && d <= RationalNumber.SMALL_LIMIT)
+			return new RationalNumber(n, d);
+		return new RationalNumber(BigInteger.valueOf(n), BigInteger.valueOf(d));
+	}
+
+	/**
+	 * <i>[static method]</i><br>
+	 * Method that creates reduced rational number from two big integers.
+	 */
+	private static RationalNumber create(BigInteger n, BigInteger d) {
+		if (n.signum() == 0)
+			return RationalNumber.ZERO;
+		if (d.signum() < 0) {
+			n = n.negate();
+			d = d.negate();
+		}
+
+		BigInteger g = n.gcd(d);
+
+		if (!g.equals(BigInteger.ONE)) {
+			n = n.divide(g);
+			d = d.divide(g);
+		}
+
+		// go back to small representation when possible
+		if (n.bitLength() < 32 && d.bitLength() < 32)
+			return RationalNumber.create(n.longValue(), d.longValue());
+		return new RationalNumber(n, d);
+	}
+
+	/**
+	 * <i>[static method]</i><br>
+	 * Greatest common divisor of two non-negative long values.
+	 */
+	private static long gcd(long a, long b) {
+		while (b != 0) {
+			long t = a % b;
+
+			a = b;
+			b = t;
+		}
+		return a;
+	}
+
+
+
+	/*
+	 * ======================================================================
+	 * ======================= COMMON OBJECT METHODS ========================
+	 * ======================================================================
+	 */
+	/**
+	 * Method equals
+	 *
+	 * @see java.lang.Object#equals(java.lang.Object)
+	 */
+	public boolean equals(Object obj) {
+		if (!(obj instanceof RationalNumber))
+			return false;
+
+		RationalNumber r = (RationalNumber)obj;
+
+		if (this.isSmall() && r.isSmall())
+			return (this.num == r.num && this.den == r.den);
+		if (this.isSmall() != r.isSmall())
+			return false; // representation is unique
+		return (this.bigNum.equals(r.bigNum) && this.bigDen.equals(r.bigDen));
+	}
+
+	/**
+	 * Method hashCode
+	 *
+	 * @see java.lang.Object#hashCode()
+	 */
+	public int hashCode() {
+		if (this.isSmall())
+			return (int)(31 * this.num + this.den);
+		return 31 * this.bigNum.hashCode() + this.bigDen.hashCode();
+	}
+
+	/**
+	 * CompareTo method
+	 *
+	 * @see java.lang.Comparable#compareTo(java.lang.Object)
+	 */
+	public int compareTo(RationalNumber r) {
+		if (this.isSmall() && r.isSmall()) {
+			long lhs = this.num * r.den, rhs = r.num * this.den;
+
+			return ((lhs < rhs) ? -1 : ((lhs > rhs) ? 1 : 0));
+		}
+		return this.getNumerator().multiply(r.getDenominator()).compareTo(r.getNumerator().multiply(this.getDenominator()));
+	}
+
+	/**
+	 * Method toString
+	 *
+	 * @see java.lang.Object#toString()
+	 */
+	public String toString() {
+		if (this.isSmall())
+			return ((this.den == 1) ? String.valueOf(this.num) : this.num + "/" + this.den);
+		return (this.bigDen.equals(BigInteger.ONE) ? this.bigNum.toString() : this.bigNum + "/" + this.bigDen);
+	}
+
+
+
+	/*
+	 * ======================================================================
+	 * ========================== SPECIFIC METHODS ==========================
+	 * ======================================================================
+	 */
+	/**
+	 * Method that gives estimated number of bytes used by this number (see OGPMemoryBudget).
+	 *
+	 * @return	Estimated number of bytes
+	 */
+	public long estimateSize() {
+		long size = OGPMemoryBudget.OBJECT_HEADER + 16 + 2*OGPMemoryBudget.REFERENCE;
+
+		// big integer with its array of magnitude
+		if (this.bigNum != null)
+			size += 2*(OGPMemoryBudget.OBJECT_HEADER + 24 + OGPMemoryBudget.ARRAY_HEADER) + (this.bigNum.bitLength() + this.bigDen.bitLength())/8;
+		return size;
+	}
+
+	/**
+	 * @return	True if this number is zero
+	 */
+	public boolean isZero() {
+		return (this.isSmall() && this.num == 0);
+	}
+
+	/**
+	 * @return	-1, 0 or 1 when this number is negative, zero or positive
+	 */
+	public int signum() {
+		if (this.isSmall())
+			return ((this.num < 0) ? -1 : ((this.num > 0) ? 1 : 0));
+		return this.bigNum.signum();
+	}
+
+	/**
+	 * @return	Real value of this number (rounded when not representable)
+	 */
+	public double doubleValue() {
+		if (this.isSmall())
+			return ((double)this.num) / this.den;
+		return new BigDecimal(this.bigNum).divide(new BigDecimal(this.bigDen), MathContext.DECIMAL64).doubleValue();
+	}
+
+	/**
+	 * Addition of two rational numbers
+	 *
+	 * @param r		Passed in number
+	 * @return		New number - sum of this and passed in number
+	 */
+	public RationalNumber add(RationalNumber r) {
+		if (this.isSmall() && r.isSmall()) {
+			if (this.den == r.den)
+				return RationalNumber.create(this.num + r.num, this.den);
+			// all products are less than 2^62 so their sum doesn't overflow
+			return RationalNumber.create(this.num * r.den + r.num * this.den, this.den * r.den);
+		}
+		return RationalNumber.create(this.getNumerator().multiply(r.getDenominator()).add(r.getNumerator().multiply(this.getDenominator())),
+									 this.getDenominator().multiply(r.getDenominator()));
+	}
+
+	/**
+	 * Subtraction of two rational numbers
+	 *
+	 * @param r		Passed in number
+	 * @return		New number - difference of this and passed in number
+	 */
+	public RationalNumber subtract(RationalNumber r) {
+		return this.add(r.negate());
+	}
+
+	/**
+	 * Multiplication of two rational numbers
+	 *
+	 * @param r		Passed in number
+	 * @return		New number - product of this and passed in number
+	 */
+	public RationalNumber multiply(RationalNumber r) {
+		if (this.isSmall() && r.isSmall()) {
+			if (this.num == 0 || r.num == 0)
+				return RationalNumber.ZERO;
+			if (this.den == 1 && r.den == 1)
+				return RationalNumber.valueOf(this.num * r.num);
+			return RationalNumber.create(this.num * r.num, this.den * r.den);
+		}
+		return RationalNumber.create(this.getNumerator().multiply(r.getNumerator()), this.getDenominator().multiply(r.getDenominator()));
+	}
+
+	/**
+	 * Division of two rational numbers
+	 *
+	 * @param r		Passed in number (must not be zero)
+	 * @return		New number - quotient of this and passed in number
+	 */
+	public RationalNumber divide(RationalNumber r) {
+		return this.multiply(r.reciprocal());
+	}
+
+	/**
+	 * @return	New number with opposite sign
+	 */
+	public RationalNumber negate() {
+		if (this.isSmall())
+			return new RationalNumber(-this.num, this.den); // numerator is in integer range
+		return new RationalNumber(this.bigNum.negate(), this.bigDen);
+	}
+
+	/**
+	 * @return	New number - reciprocal value of this number (which must not be zero)
+	 */
+	public RationalNumber reciprocal() {
+		if (this.isSmall())
+			return ((this.num < 0) ? new RationalNumber(-this.den, -this.num) : new RationalNumber(this.den, this.num));
+		if (this.bigNum.signum() < 0)
+			return new RationalNumber(this.bigDen.negate(), this.bigNum.negate());
+		return new RationalNumber(this.bigDen, this.bigNum);
+	}
+}
@@ -0,0 +1,450 @@
+/*
+ * DISCLAIMER PLACEHOLDER
+ */
+
+package com.ogprover.polynomials;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+
+import com.ogprover.utilities.OGPMemoryBudget;
+
+
+/**
+ * <dl>
+ * <dt><b>Class description:</b></dt>
+ * <dd>Class for storage of polynomial terms in array sorted in ascending order;
+ *     it is alternative to tree of terms with merge based addition and
+ *     chunk based multiplication of polynomials</dd>
+ * </dl>
+ *
+ * @version 1.00
+ * @author Ivan Petrovic
+ */
+// Terms are kept in same (ascending) order as in tree of terms and their packed
+// powers (see PackedMonomial) are kept in parallel array, so comparison of terms
+// in merging loops doesn't have to access term objects and vectors of powers.
+public class SortedTermArray {
+	/*
+	 * ======================================================================
+	 * ========================== VARIABLES =================================
+	 * ======================================================================
+	 */
+	/**
+	 * <i><b>
+	 * Version number of class in form xx.yy where
+	 * xx is major version/release number and yy is minor
+	 * release number.
+	 * </b></i>
+	 */
+	public static final String VERSION_NUM = "1.00"; // this should match the version number from class comment
+	/**
+	 * <i><b>Default initial capacity of arrays</b></i>
+	 */
+	private static final int DEF_CAPACITY = 16;
+
+	/**
+	 * Terms sorted in ascending order; there are no two equal terms
+	 * and there are no zero terms in this array
+	 */
+	private Term[] terms;
+	/**
+	 * Packed powers of terms - element at some position belongs to
+	 * term at same position in array of terms; it is null when powers
+	 * of term can't be packed
+	 */
+	private long[][] monomials;
+	/**
+	 * Number of terms in array
+	 */
+	private int size;
+
+
+
+	/*
+	 * ======================================================================
+	 * ========================== GETTERS/SETTERS ===========================
+	 * ======================================================================
+	 */
+	/**
+	 * @return	Number of terms
+	 */
+	public int size() {
+		return this.size;
+	}
+
+	/**
+	 * Method that gives term at specified position
+	 *
+	 * @param ii	Position of term (0 is for the smallest term)
+	 * @return		Term at specified position
+	 */
+	public Term get(int ii) {
+		return this.terms[ii];
+	}
+
+	/**
+	 * @return	The greatest term or null if there are no terms
+	 */
+	public Term getLast() {
+		return ((this.size > 0) ? this.terms[this.size - 1] : null);
+	}
+
+
+
+	/*
+	 * ======================================================================
+	 * ========================== CONSTRUCTORS ==============================
+	 * ======================================================================
+	 */
+	/**
+	 * Constructor method
+	 *
+	 * @param capacity	Initial capacity of arrays
+	 */
+	public SortedTermArray(int capacity) {
+		if (capacity < 1)
+			capacity = 1;
+		this.terms = new Term[capacity];
+		this.monomials = new long[capacity][];
+		this.size = 0;
+	}
+
+	/**
+	 * Constructor method
+	 *
+	 * @param col	Collection of terms sorted in ascending order (e.g. values from tree
+	 * 				of terms); terms are not copied
+	 */
+	public SortedTermArray(Collection<Term> col) {
+		this(col.size());
+
+		for (Term t : col)
+			this.append(t);
+	}
+
+
+
+	/*
+	 * ======================================================================
+	 * ======================= COMMON OBJECT METHODS ========================
+	 * ======================================================================
+	 */
+	/**
+	 * Method that gives copy of this array with cloned terms
+	 *
+	 * @return	New array with copies of terms
+	 */
+	public SortedTermArray cloneTerms() {
+		SortedTermArray c = new SortedTermArray(this.size);
+
+		for (int ii = 0; ii < this.size; ii++)
+			c.append(this.terms[ii].clone());
+
+		return c;
+	}
+
+
+
+	/*
+	 * ======================================================================
+	 * ========================== SPECIFIC METHODS ==========================
+	 * ======================================================================
+	 */
+	/**
+	 * Method that gives estimated number of bytes used by this array and its terms
+	 * (see OGPMemoryBudget).
+	 *
+	 * @return	Estimated number of bytes
+	 */
+	public long estimateSize() {
+		long size = this.estimateOwnSize();
+
+		for (int ii = 0; ii < this.size; ii++)
+			size += this.terms[ii].estimateSize();
+		return size;
+	}
+
+	/**
+	 * Method that gives estimated number of bytes used by this array and its terms,
+	 * calculated from sizes of first, middle and last term; it is used in inner
+	 * loops where walking through all terms would be too expensive.
+	 *
+	 * @return	Estimated number of bytes
+	 */
+	public long estimateSizeFromSample() {
+		if (this.size <= 3)
+			return this.estimateSize();
+
+		long sample = this.terms[0].estimateSize() + this.terms[this.size >> 1].estimateSize() + this.terms[this.size - 1].estimateSize();
+
+		return this.estimateOwnSize() + sample * this.size / 3;
+	}
+
+	/**
+	 * Method that gives estimated number of bytes used by this array without its terms.
+	 *
+	 * @return	Estimated number of bytes
+	 */
+	private long estimateOwnSize() {
+		return OGPMemoryBudget.OBJECT_HEADER + 2*OGPMemoryBudget.REFERENCE + 8 + 
+			   2*(OGPMemoryBudget.ARRAY_HEADER + (long)this.terms.length*OGPMemoryBudget.REFERENCE);
+	}
+
+	/**
+	 * Method that adds term at the end of array; caller is responsible
+	 * that it is greater than all terms already added.
+	 *
+	 * @param t		Term to be added
+	 */
+	public void append(Term t) {
+		if (this.size == this.terms.length) {
+			int newCapacity = ((this.size < SortedTermArray.DEF_CAPACITY) ? SortedTermArray.DEF_CAPACITY : this.size + (this.size >> 1));
+			Term[] newTerms = new Term[newCapacity];
+			long[][] newMonomials = new long[newCapacity][];
+
+			System.arraycopy(this.terms, 0, newTerms, 0, this.size);
+			System.arraycopy(this.monomials, 0, newMonomials, 0, this.size);
+			this.terms = newTerms;
+			this.monomials = newMonomials;
+		}
+
+		this.terms[this.size] = t;
+		this.monomials[this.size] = t.getPackedPowers();
+		this.size++;
+	}
+
+	/**
+	 * Method that gives part of this array; terms are not copied.
+	 * 
+	 * @param fromIndex		Position of first term (inclusive)
+	 * @param toIndex		Position of last term (exclusive)
+	 * @return				New array with terms from specified range
+	 */
+	public SortedTermArray subArray(int fromIndex, int toIndex) {
+		SortedTermArray sub = new SortedTermArray(toIndex - fromIndex);
+
+		System.arraycopy(this.terms, fromIndex, sub.terms, 0, toIndex - fromIndex);
+		System.arraycopy(this.monomials, fromIndex, sub.monomials, 0, toIndex - fromIndex);
+		sub.size = toIndex - fromIndex;
+		return sub;
+	}
+
+	/**
+	 * Method that re-reads packed powers of all terms; it has to be
+	 * called after terms have been changed (e.g. multiplied by some term).
+	 */
+	public void refreshMonomials() {
+		for (int ii = 0; ii < this.size; ii++)
+			this.monomials[ii] = this.terms[ii].getPackedPowers();
+	}
+
+	/**
+	 * Comparison of term from this array with term from another array.
+	 *
+	 * @param ii	Position of term in this array
+	 * @param a		Another array
+	 * @param jj	Position of term in another array
+	 * @return		Same as Term.compareTo()
+	 */
+	private int compare(int ii, SortedTermArray a, int jj) {
+		long[] m1 = this.monomials[ii], m2 = a.monomials[jj];
+
+		if (m1 != null && m2 != null)
+			return PackedMonomial.compare(m1, m2);
+		return this.terms[ii].compareTo(a.terms[jj]);
+	}
+
+	/**
+	 * <i>[static method]</i><br>
+	 * Method that merges two sorted arrays of terms into new sorted array.
+	 * Terms from first array are moved to new array and first array
+	 * shouldn't be used after this operation.
+	 *
+	 * @param a			First array
+	 * @param b			Second array
+	 * @param negate	Whether terms from second array are subtracted or added
+	 * @param copy		Whether terms from second array have to be cloned; when false,
+	 * 					terms from second array are moved to new array
+	 * @return			New array with sum/difference of terms
+	 */
+	public static SortedTermArray merge(SortedTermArray a, SortedTermArray b, boolean negate, boolean copy) {
+		int ii = 0, jj = 0, asize = a.size, bsize = b.size;
+		SortedTermArray result = new SortedTermArray(asize + bsize);
+
+		// Pass simultaneously both arrays - this is possible
+		// because they are both sorted in ascending order.
+		while (ii < asize && jj < bsize) {
+			int cmp = a.compare(ii, b, jj);
+
+			if (cmp < 0)
+				result.append(a.terms[ii++]);
+			else if (cmp > 0)
+				result.append(SortedTermArray.prepareTerm(b.terms[jj++], negate, copy));
+			else {
+				// equal terms are merged and zero result is not kept
+				Term t = a.terms[ii++];
+
+				t.merge(SortedTermArray.prepareTerm(b.terms[jj++], negate, copy));
+				if (!t.isZero())
+					result.append(t);
+			}
+		}
+
+		while (ii < asize)
+			result.append(a.terms[ii++]);
+		while (jj < bsize)
+			result.append(SortedTermArray.prepareTerm(b.terms[jj++], negate, copy));
+
+		return result;
+	}
+
+	/**
+	 * <i>[static method]</i><br>
+	 * Method that prepares term from second array of merge operation.
+	 *
+	 * @see #merge(SortedTermArray, SortedTermArray, boolean, boolean)
+	 */
+	private static Term prepareTerm(Term t, boolean negate, boolean copy) {
+		Term c = copy ? t.clone() : t;
+
+		if (negate)
+			c.invert();
+		return c;
+	}
+
+	/**
+	 * Method that calculates product of terms from this and passed in array.
+	 * Neither of arrays is changed.
+	 *
+	 * @param a		Passed in array
+	 * @return		New array with product of terms
+	 */
+	public SortedTermArray multiply(SortedTermArray a) {
+		// chunks of product are accumulated in geobucket
+		GeoBucket bucket = new GeoBucket();
+
+		bucket.addProduct(this, a, false);
+		return bucket.getResult();
+	}
+
+	/**
+	 * Method that gives list of terms in descending order
+	 *
+	 * @return	List of terms
+	 */
+	public ArrayList<Term> toDescList() {
+		ArrayList<Term> list = new ArrayList<Term>(this.size);
+
+		for (int ii = this.size - 1; ii >= 0; ii--)
+			list.add(this.terms[ii]);
+
+		return list;
+	}
+
+	/**
+	 * Method that creates tree of terms from this array.
+	 * Since terms are already sorted, tree is built in linear time.
+	 *
+	 * @return	Tree of terms
+	 */
+	public TreeMap<Term, Term> toTreeMap() {
+		// TreeMap builds itself from sorted map without comparisons
+		return new TreeMap<Term, Term>(new SortedView());
+	}
+
+
+
+	/*
+	 * ======================================================================
+	 * ========================== INNER CLASSES =============================
+	 * ======================================================================
+	 */
+	/**
+	 * Read-only view of array of terms as sorted map, used only for fast
+	 * creation of tree of terms.
+	 */
+	private class SortedView extends AbstractMap<Term, Term> implements SortedMap<Term, Term> {
+		public Comparator<? super Term> comparator() {
+			return null; // natural order of terms
+		}
+
+		public Term firstKey() {
+			if (SortedTermArray.this.size == 0)
+				throw new NoSuchElementException();
+			return SortedTermArray.this.terms[0];
+		}
+
+		public Term lastKey() {
+			if (SortedTermArray.this.size == 0)
+				throw new NoSuchElementException();
+			return SortedTermArray.this.terms[SortedTermArray.this.size - 1];
+		}
+
+		public SortedMap<Term, Term> headMap(Term toKey) {
+			throw new UnsupportedOperationException();
+		}
+
+		public SortedMap<Term, Term> subMap(Term fromKey, Term toKey) {
+			throw new UnsupportedOperationException();
+		}
+
+		public SortedMap<Term, Term> tailMap(Term fromKey) {
+			throw new UnsupportedOperationException();
+		}
+
+		public int size() {
+			return SortedTermArray.this.size;
+		}
+
+		public Set<Map.Entry<Term, Term>> entrySet() {
+			return new AbstractSet<Map.Entry<Term, Term>>() {
+				public int size() {
+					return SortedTermArray.this.size;
+				}
+
+				public Iterator<Map.Entry<Term, Term>> iterator() {
+					return new Iterator<Map.Entry<Term, Term>>() {
+						private int ii = 0;
+
+						public boolean hasNext() {
+							return this.ii < SortedTermArray.this.size;
+						}
+
+						public Map.Entry<Term, Term> next() {
+							if (this.ii >= SortedTermArray.this.size)
+								throw new NoSuchElementException();
+							final Term t = SortedTermArray.this.terms[this.ii++];
+
+							// each term is key for itself
+							return new Map.Entry<Term, Term>() {
+								public Term getKey() {
+									return t;
+								}
+								public Term getValue() {
+									return t;
+								}
+								public Term setValue(Term value) {
+									throw new UnsupportedOperationException();
+								}
+							};
+						}
+
+						public void remove() {
+							throw new UnsupportedOperationException();
+						}
+					};
+				}
+			};
+		}
+	}
+}
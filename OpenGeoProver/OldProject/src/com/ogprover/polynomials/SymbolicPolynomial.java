@@ -54,6 +54,11 @@ public class SymbolicPolynomial extends Polynomial {
 	 */
 	public static final int FIRST_DERIVATIVE_DENOMINATOR = 1;
 	
+	/**
+	 * Compiled form of this polynomial, used for its instantiation (created on demand)
+	 */
+	private volatile CompiledSymbolicPolynomial compiledForm = null;
+	
 	
 	/*
 	 * ======================================================================
@@ -70,6 +75,23 @@ public class SymbolicPolynomial extends Polynomial {
 		return Polynomial.POLY_TYPE_SYMBOLIC;
 	}
 	
+	/**
+	 * Method that retrieves compiled form of this polynomial; it is compiled
+	 * when it is requested for the first time and recompiled only if terms
+	 * of polynomial have been changed in the meantime.
+	 * 
+	 * @return	Compiled form of this polynomial
+	 */
+	public CompiledSymbolicPolynomial getCompiledForm() {
+		CompiledSymbolicPolynomial t = this.compiledForm;
+		
+		if (t == null || !t.isCompiledFrom(this)) {
+			t = new CompiledSymbolicPolynomial(this);
+			this.compiledForm = t; // concurrent compilations give equal forms, so any of them can be kept
+		}
+		return t;
+	}
+	
 	/*
 	 * ======================================================================
 	 * ========================== CONSTRUCTORS ==============================
@@ -339,7 +361,7 @@ public class SymbolicPolynomial extends Polynomial {
 				if (replacementLabel != null)
 					sv.setPointLabel(replacementLabel);
 				else {
-					OpenGeoProver.settings.getLogger().error("Failed to substitute label " + sv.getPointLabel());
+					OpenGeoProver.getSettings().getLogger().error("Failed to substitute label " + sv.getPointLabel());
 					return null;
 				}
 			}
@@ -364,7 +386,7 @@ public class SymbolicPolynomial extends Polynomial {
 	 */
 	public SymbolicPolynomial substitute(String destLabel, String srcLabel) {
 		if (destLabel == null || srcLabel == null) {
-			OpenGeoProver.settings.getLogger().error("Null label passed in");
+			OpenGeoProver.getSettings().getLogger().error("Null label passed in");
 			return null;
 		}
 		
@@ -7,6 +7,7 @@ package com.ogprover.polynomials;
 import java.util.Vector;
 
 import com.ogprover.main.OpenGeoProver;
+import com.ogprover.utilities.OGPMemoryBudget;
 import com.ogprover.utilities.logger.ILogger;
 
 
@@ -56,6 +57,17 @@ public abstract class Term implements Comparable<Term>, Cloneable, RationalAlgeb
 									// (TERM_TYPE_XTERM contains powers of VAR_TYPE_X and similar for UTERM/U)
 									// 2. this vector is sorted in descending order by powers, as defined by their compare method
 									// (e.g. correct order in this vector is [x_9, (x_6)^2, (x_5)^4, x_2] or [(u_4)^3, u_3, (u_1)^7] etc.)
+	/**
+	 * Packed form of powers (see PackedMonomial) used for fast comparison
+	 * and divisibility check; it is lazily created from vector of powers and
+	 * discarded whenever powers are changed by methods of this class
+	 */
+	protected long[] packedPowers = null; // never changed in place, so it can be shared among clones
+	/**
+	 * Canonical (interned) monomial of powers, created on request; when it is
+	 * set, packed powers of this term are the array of that monomial
+	 */
+	protected Monomial monomial = null; // immutable, so it can be shared among clones
 	
 	/*
 	 * ======================================================================
@@ -95,6 +107,16 @@ public abstract class Term implements Comparable<Term>, Cloneable, RationalAlgeb
 	 * @return	This term which is result of operation
 	 */
 	public abstract Term mul(double r);
+	/**
+	 * Method to multiply this term by a rational coefficient; terms
+	 * with exact coefficients override this method
+	 * 
+	 * @param r	A rational coefficient to multiply this term by
+	 * @return	This term which is result of operation
+	 */
+	public Term mul(RationalNumber r) {
+		return this.mul(r.doubleValue());
+	}
 	/**
 	 * Method to divide this term by another
 	 * 
@@ -131,6 +153,52 @@ public abstract class Term implements Comparable<Term>, Cloneable, RationalAlgeb
 		return this.powers;
 	}
 	
+	/**
+	 * Method that gives packed form of powers of this term
+	 * 
+	 * @return	Packed powers or null if powers of this term can't be packed
+	 * 			(e.g. for symbolic terms)
+	 */
+	public long[] getPackedPowers() {
+		if (this.getType() == Term.TERM_TYPE_SYMBOLIC)
+			return null;
+		
+		// size check detects powers added or removed directly through vector
+		if (this.packedPowers == null || this.packedPowers.length != this.powers.size())
+			this.packedPowers = PackedMonomial.pack(this.powers);
+		return this.packedPowers;
+	}
+	
+	/**
+	 * Method that gives canonical monomial of powers of this term;
+	 * packed powers of this term are replaced by the array of that monomial,
+	 * so all interned terms with same powers share same array.
+	 * 
+	 * @return	Interned monomial or null if powers of this term can't be packed
+	 * 			(e.g. for symbolic terms)
+	 */
+	public Monomial getMonomial() {
+		long[] packed = this.getPackedPowers();
+		
+		if (packed == null)
+			return null;
+		
+		if (this.monomial == null || this.monomial.getPowers() != packed) {
+			this.monomial = Monomial.valueOf(packed);
+			this.packedPowers = this.monomial.getPowers();
+		}
+		return this.monomial;
+	}
+	
+	/**
+	 * Method that discards packed form of powers; it has to be called
+	 * whenever vector of powers is changed.
+	 */
+	public void invalidatePackedPowers() {
+		this.packedPowers = null;
+		this.monomial = null;
+	}
+	
 	
 	
 	/*
@@ -138,6 +206,19 @@ public abstract class Term implements Comparable<Term>, Cloneable, RationalAlgeb
 	 * ======================= COMMON OBJECT METHODS ========================
 	 * ======================================================================
 	 */
+	/**
+	 * Method hashCode - it is consistent with comparison of terms
+	 * which doesn't depend on coefficients
+	 * 
+	 * @see java.lang.Object#hashCode()
+	 */
+	@Override
+	public int hashCode() {
+		Monomial m = this.getMonomial();
+		
+		return ((m != null) ? m.hashCode() : this.powers.size());
+	}
+	
 	/** CompareTo method
 	 * 
 	 * @see java.lang.Comparable#compareTo(java.lang.Object)
@@ -148,23 +229,29 @@ public abstract class Term implements Comparable<Term>, Cloneable, RationalAlgeb
 		int size = this.powers.size(), 
 		tsize = ((t != null) ? t.getPowers().size() : 0);
 		int ii = 0;
-		ILogger logger = OpenGeoProver.settings.getLogger();
 
 		if (t == null) {
-			logger.error("Null term passed in.");
+			OpenGeoProver.getSettings().getLogger().error("Null term passed in.");
 			return -2; // error
 		}
 	
 		// default comparison of terms with different type - theoretical case
 		if (this.getType() != t.getType())
 			return this.getType() - t.getType();
+		
+		// fast comparison of packed powers
+		long[] packed = this.getPackedPowers();
+		long[] tpacked = (packed != null) ? t.getPackedPowers() : null;
+		
+		if (tpacked != null)
+			return PackedMonomial.compare(packed, tpacked);
 	
 		while (ii < size && ii < tsize) {
 			Power p = this.powers.get(ii);
 			Power q = t.getPowers().get(ii);
 		
 			if (p == null || q == null) {
-				logger.error("Found null object(s) when expected non-null value");
+				OpenGeoProver.getSettings().getLogger().error("Found null object(s) when expected non-null value");
 				return -2;
 			}
 		
@@ -182,14 +269,31 @@ public abstract class Term implements Comparable<Term>, Cloneable, RationalAlgeb
 	 * ========================== SPECIFIC METHODS ==========================
 	 * ======================================================================
 	 */
+	/**
+	 * Method that gives estimated number of bytes used by this term (see OGPMemoryBudget);
+	 * subclasses add size of their coefficients.
+	 * 
+	 * @return	Estimated number of bytes
+	 */
+	public long estimateSize() {
+		int n = this.powers.size();
+		// term, vector of powers with its array and powers (variables are shared)
+		long size = OGPMemoryBudget.OBJECT_HEADER + 3*OGPMemoryBudget.REFERENCE + 
+					OGPMemoryBudget.OBJECT_HEADER + 2*OGPMemoryBudget.REFERENCE + 
+					OGPMemoryBudget.ARRAY_HEADER + this.powers.capacity()*OGPMemoryBudget.REFERENCE + 
+					n*(OGPMemoryBudget.OBJECT_HEADER + OGPMemoryBudget.REFERENCE + 8);
+		
+		if (this.packedPowers != null && this.monomial == null) // interned monomial is shared
+			size += OGPMemoryBudget.ARRAY_HEADER + 8*this.packedPowers.length;
+		return size;
+	}
+	
 	/**
 	 * Adds power to collection and keeps the sorting order.
 	 * 
 	 * @param p		Power to be added into collection
 	 */
 	public void addPower(Power p) {
-		ILogger logger = OpenGeoProver.settings.getLogger();
-		
 		// If power is of another variable type, don't add it into collection
 		if ((this.getType() == Term.TERM_TYPE_UTERM && p.getVarType() == Variable.VAR_TYPE_UX_U) ||
 			(this.getType() == Term.TERM_TYPE_XTERM && p.getVarType() == Variable.VAR_TYPE_UX_X) ||
@@ -202,12 +306,14 @@ public abstract class Term implements Comparable<Term>, Cloneable, RationalAlgeb
 			long pIndex = p.getIndex();
 			int pExp = p.getExponent();
 			
+			this.invalidatePackedPowers();
+			
 			while (left <= right) {
 				middle = (left + right) >> 1;
 				middleP = this.powers.get(middle);
 				
 				if (middleP == null) { // error
-					logger.error("Found null object in collection, while in binary search algorithm in addPower() method.");
+					OpenGeoProver.getSettings().getLogger().error("Found null object in collection, while in binary search algorithm in addPower() method.");
 					break;
 				}
 				middleIndex = middleP.getIndex();
@@ -231,7 +337,7 @@ public abstract class Term implements Comparable<Term>, Cloneable, RationalAlgeb
 			}
 		}
 		else
-			logger.warn("Attempting to add power of another variable type.");
+			OpenGeoProver.getSettings().getLogger().warn("Attempting to add power of another variable type.");
 	}
 	
 	/**
@@ -247,16 +353,23 @@ public abstract class Term implements Comparable<Term>, Cloneable, RationalAlgeb
 		int size = this.powers.size();
 		int tsize = ((t != null) ? t.getPowers().size() : 0);
 		int ii = 0, jj = 0, op = ((add == true) ? 1 : -1);
-		ILogger logger = OpenGeoProver.settings.getLogger();
 		
 		// Terms must be of same type
 		if (t == null)
 			return; // nothing to merge
 		if (this.getType() != t.getType()) {
-			logger.warn("Attempt to merge two terms of different types.");
+			OpenGeoProver.getSettings().getLogger().warn("Attempt to merge two terms of different types.");
 			return;
 		}
 		
+		// In 'add' mode packed powers of result are calculated directly from packed
+		// powers of both terms, if available, which is cheaper than packing of merged vector.
+		long[] packed = (add && this.packedPowers != null && this.packedPowers.length == size) ? this.packedPowers : null;
+		long[] tpacked = (packed != null) ? t.getPackedPowers() : null;
+		
+		this.packedPowers = (tpacked != null) ? PackedMonomial.multiply(packed, tpacked) : null;
+		this.monomial = null; // product is interned on request
+		
 		// Pass simultaneously both collections - this is possible
 		// because they are both sorted in descending order.
 		while (ii < size && jj < tsize){
@@ -264,7 +377,8 @@ public abstract class Term implements Comparable<Term>, Cloneable, RationalAlgeb
 			Power pj = t.getPowers().get(jj);
 			
 			if (pi == null || pj == null) {
-				logger.error("Null object(s) read from collection");
+				OpenGeoProver.getSettings().getLogger().error("Null object(s) read from collection");
+				this.invalidatePackedPowers();
 				return;
 			}
 			
@@ -332,16 +446,15 @@ public abstract class Term implements Comparable<Term>, Cloneable, RationalAlgeb
 		int size = this.powers.size(), 
 			tsize = ((t != null) ? t.getPowers().size() : 0);
 		Power pi = null, pj = null;
-		ILogger logger = OpenGeoProver.settings.getLogger();
 		
 		if (t == null) {
-			logger.error("Null term passed in.");
+			OpenGeoProver.getSettings().getLogger().error("Null term passed in.");
 			return false;
 		}
 		
 		// terms must be of same type
 		if (this.getType() != t.getType()) {
-			logger.error("Terms must be of same type.");
+			OpenGeoProver.getSettings().getLogger().error("Terms must be of same type.");
 			return false;
 		}
 		
@@ -356,13 +469,20 @@ public abstract class Term implements Comparable<Term>, Cloneable, RationalAlgeb
 		if (tsize > size)
 			return false;
 		
+		// fast check on packed powers
+		long[] packed = this.getPackedPowers();
+		long[] tpacked = (packed != null) ? t.getPackedPowers() : null;
+		
+		if (tpacked != null)
+			return PackedMonomial.isDivisible(packed, tpacked);
+		
 		// Pass both terms simultaneously - 
 		// it is possible because they are both order in descending order
 		while (ii < size && jj < tsize) {
 			if (readI) {
 				pi = this.powers.get(ii);
 				if (pi == null) {
-					logger.error("Found null object when expected non-null value");
+					OpenGeoProver.getSettings().getLogger().error("Found null object when expected non-null value");
 					return false;
 				}
 				piIndex = pi.getIndex();
@@ -370,9 +490,9 @@ public abstract class Term implements Comparable<Term>, Cloneable, RationalAlgeb
 			}
 			
 			if (readJ) {
-				pj = this.powers.get(jj);
+				pj = t.getPowers().get(jj);
 				if (pj == null) {
-					logger.error("Found null object when expected non-null value");
+					OpenGeoProver.getSettings().getLogger().error("Found null object when expected non-null value");
 					return false;
 				}
 				pjIndex = pj.getIndex();
@@ -440,7 +560,7 @@ public abstract class Term implements Comparable<Term>, Cloneable, RationalAlgeb
 			midP = this.powers.get(middle);
 			
 			if (midP == null) {
-				OpenGeoProver.settings.getLogger().error("Found null object");
+				OpenGeoProver.getSettings().getLogger().error("Found null object");
 				return -1;
 			}
 			
@@ -476,7 +596,7 @@ public abstract class Term implements Comparable<Term>, Cloneable, RationalAlgeb
 			midP = this.powers.get(middle);
 			
 			if (midP == null) {
-				OpenGeoProver.settings.getLogger().error("Found null object");
+				OpenGeoProver.getSettings().getLogger().error("Found null object");
 				return null;
 			}
 			
@@ -508,10 +628,11 @@ public abstract class Term implements Comparable<Term>, Cloneable, RationalAlgeb
 			if (ii >= 0) {
 				Power pi = this.powers.get(ii);
 				if (pi == null) {
-					OpenGeoProver.settings.getLogger().error("Null object found when expected non-null value");
+					OpenGeoProver.getSettings().getLogger().error("Null object found when expected non-null value");
 					return null;
 				}
 				pi.addToExponent(expInc); // update current element
+				this.invalidatePackedPowers();
 				
 				// if new exponent is zero, remove power from vector
 				if (pi.getExponent() == 0)
@@ -529,6 +650,11 @@ public abstract class Term implements Comparable<Term>, Cloneable, RationalAlgeb
 	 * @return				Power exponent of specified variable if found, zero otherwise
 	 */
 	public final int getVariableExponent(int varIndex){
+		long[] packed = this.getPackedPowers();
+		
+		if (packed != null)
+			return PackedMonomial.getVariableExponent(packed, varIndex);
+		
 		Power p = this.getPowerOfVarIndex(varIndex);
 		
 		if (p == null)
@@ -550,9 +676,10 @@ public abstract class Term implements Comparable<Term>, Cloneable, RationalAlgeb
 	// t2 = [x_9, x_8, (x_6)^2, x_5, x_3, (x_2)^2]
 	// then gcd(t1, t2) = [(x_6)^2, x_5, x_3] etc.
 	public final Term gcd(Term t){
-		ILogger logger = OpenGeoProver.settings.getLogger();
+		ILogger logger = OpenGeoProver.getSettings().getLogger();
 		Term thisBeforeChange = this.clone();
 		this.powers = new Vector<Power>(); // prepare vector of powers to receive powers of gcd
+		this.invalidatePackedPowers();
 		
 		if (t == null) {
 			logger.error("Null term passed in");
@@ -10,6 +10,7 @@ import java.util.Map;
 
 import com.ogprover.main.OGPConstants;
 import com.ogprover.main.OpenGeoProver;
+import com.ogprover.utilities.OGPMemoryBudget;
 
 /**
  * <dl>
@@ -163,6 +164,21 @@ public class UFraction implements Cloneable, RationalAlgebraicExpression {
 	 * ========================== SPECIFIC METHODS ==========================
 	 * ======================================================================
 	 */
+	/**
+	 * Method that gives estimated number of bytes used by this fraction (see OGPMemoryBudget).
+	 * 
+	 * @return	Estimated number of bytes
+	 */
+	public long estimateSize() {
+		long size = OGPMemoryBudget.OBJECT_HEADER + 2*OGPMemoryBudget.REFERENCE;
+		
+		if (this.numerator != null)
+			size += this.numerator.estimateSize();
+		if (this.denominator != null)
+			size += this.denominator.estimateSize();
+		return size;
+	}
+	
 	/**
 	 * <i>
 	 * Examines whether fraction is valid i.e. its denominator is not zero polynomial.
@@ -238,13 +254,18 @@ public class UFraction implements Cloneable, RationalAlgebraicExpression {
 			if (ut.getPowers().size() == 0 && 
 				(this.numerator.getTerms().size() != 1 || 
 				 utn.getPowers().size() != 0)) {
+				RationalNumber exactCoeff = ut.getExactCoeff();
+				
 				itNum = colNum.iterator();
-				while (itNum.hasNext())
-					itNum.next().mul(1/ut.getCoeff()); // this division is safe because we assume
-				                                       // that this fraction is valid and therefore
-				                                       // denominator is not zero, which in this
-				                                       // special case (single u-term with no powers)
-				                                       // means that coefficient is not zero
+				while (itNum.hasNext()) {
+					// this division is safe because we assume that this fraction is valid and therefore
+					// denominator is not zero, which in this special case (single u-term with no powers)
+					// means that coefficient is not zero
+					if (exactCoeff != null)
+						itNum.next().mul(exactCoeff.reciprocal());
+					else
+						itNum.next().mul(1/ut.getCoeff());
+				}
 				
 				ut.setCoeff(1);
 			}
@@ -367,6 +388,29 @@ public class UFraction implements Cloneable, RationalAlgebraicExpression {
 		return this;
 	}
 	
+	/**
+	 * Method that multiplies this fraction by rational constant
+	 * 
+	 * @param r		Passed in constant
+	 * @return		This object, which is result of operation (product with rational constant)
+	 */
+	public UFraction mul(RationalNumber r) {
+		if (this.isZero())
+			return this;
+		
+		if (r.isZero()) {
+			this.numerator = new UPolynomial(); // empty (zero) polynomial
+			Term ut = new UTerm(1);
+			this.denominator = new UPolynomial();
+			this.denominator.addTerm(ut); // denominator contains constant 1
+			return this;
+		}
+		
+		this.numerator.multiplyByRationalConstant(r);
+		
+		return this;
+	}
+	
 	/**
 	 * Method that answers whether fraction consists of single negative term.
 	 * This is used when printing fraction.
@@ -599,7 +643,7 @@ public class UFraction implements Cloneable, RationalAlgebraicExpression {
 		UPolynomial resUFNum = this.numerator.instantiateVariablesWithValues(varValuesMap);
 		UPolynomial resUFDen = this.denominator.instantiateVariablesWithValues(varValuesMap);
 		if (resUFDen.isZero()) {
-			OpenGeoProver.settings.getLogger().error("Failed instantiation of fraction - denominator is zero");
+			OpenGeoProver.getSettings().getLogger().error("Failed instantiation of fraction - denominator is zero");
 			return null;
 		}
 		if (resUFNum.isZero())
@@ -6,7 +6,10 @@ package com.ogprover.polynomials;
 
 import java.util.Map;
 import java.util.Vector;
+import com.ogprover.main.OGPConfigurationSettings;
 import com.ogprover.main.OGPConstants;
+import com.ogprover.main.OpenGeoProver;
+import com.ogprover.utilities.OGPMemoryBudget;
 import com.ogprover.utilities.OGPUtilities;
 
 /**
@@ -33,10 +36,28 @@ public class UTerm extends Term {
 	 * </b></i>
 	 */
 	public static final String VERSION_NUM = "1.00"; // this should match the version number from class comment
+	/**
+	 * <i><b>Arithmetic of coefficients with double values</b></i>
+	 */
+	public static final int ARITHMETIC_DOUBLE = 1;
+	/**
+	 * <i><b>Exact arithmetic of coefficients with rational numbers</b></i>
+	 */
+	public static final int ARITHMETIC_EXACT = 2;
+	/**
+	 * <i><b>Arithmetic modulo prime numbers (u-terms use double coefficients,
+	 * but prover calculates over prime fields)</b></i>
+	 */
+	public static final int ARITHMETIC_MODULAR = 3;
 	/**
 	 * Coefficient of term
 	 */
 	private double coeff;
+	/**
+	 * Exact coefficient of term - null when term uses double arithmetic;
+	 * when it is set, double coefficient is its (rounded) value used for printing
+	 */
+	private RationalNumber exactCoeff = null;
 	
 	
 	
@@ -52,6 +73,8 @@ public class UTerm extends Term {
 	 */
 	public void setCoeff(double coeff) {
 		this.coeff = coeff;
+		if (this.exactCoeff != null)
+			this.exactCoeff = RationalNumber.valueOf(coeff);
 	}
 
 	/**
@@ -63,6 +86,26 @@ public class UTerm extends Term {
 		return coeff;
 	}
 	
+	/**
+	 * Method to set the exact coefficient of term; this switches term
+	 * to exact arithmetic
+	 * 
+	 * @param exactCoeff	The exact coefficient to set
+	 */
+	public void setExactCoeff(RationalNumber exactCoeff) {
+		this.exactCoeff = exactCoeff;
+		this.coeff = exactCoeff.doubleValue();
+	}
+	
+	/**
+	 * Method to get the exact coefficient from term
+	 * 
+	 * @return	The exact coefficient of term or null if term uses double arithmetic
+	 */
+	public RationalNumber getExactCoeff() {
+		return exactCoeff;
+	}
+	
 	/**
 	 * Method that retrieves type of polynomial
 	 * 
@@ -86,6 +129,30 @@ public class UTerm extends Term {
 	 */
 	public UTerm (double coeff) {
 		this.coeff = coeff;
+		if (UTerm.useExactArithmetic())
+			this.exactCoeff = RationalNumber.valueOf(coeff);
+		this.powers = new Vector<Power>(); // empty vector of powers
+	}
+	
+	/**
+	 * Constructor method
+	 * 
+	 * @param exactCoeff	Exact coefficient of u-term
+	 */
+	public UTerm (RationalNumber exactCoeff) {
+		this.setExactCoeff(exactCoeff);
+		this.powers = new Vector<Power>(); // empty vector of powers
+	}
+	
+	/**
+	 * Constructor method used for copying of terms
+	 * 
+	 * @param coeff			Coefficient of u-term
+	 * @param exactCoeff	Exact coefficient of u-term or null
+	 */
+	private UTerm (double coeff, RationalNumber exactCoeff) {
+		this.coeff = coeff;
+		this.exactCoeff = exactCoeff; // rational numbers are immutable and can be shared
 		this.powers = new Vector<Power>(); // empty vector of powers
 	}
 
@@ -103,7 +170,7 @@ public class UTerm extends Term {
 	 */
 	@Override
 	public Term clone() {
-		Term c = new UTerm(this.coeff);
+		Term c = new UTerm(this.coeff, this.exactCoeff);
 		int ii = 0, size = this.powers.size();
 		
 		while (ii < size) {
@@ -111,6 +178,8 @@ public class UTerm extends Term {
 			c.getPowers().addElement(this.powers.get(ii).clone());
 			ii++;
 		}
+		c.packedPowers = this.packedPowers; // packed powers are immutable and can be shared
+		c.monomial = this.monomial;
 		
 		return c;
 	}
@@ -168,6 +237,39 @@ public class UTerm extends Term {
 	 * ========================== SPECIFIC METHODS ==========================
 	 * ======================================================================
 	 */
+	/**
+	 * @see com.ogprover.polynomials.Term#estimateSize()
+	 */
+	@Override
+	public long estimateSize() {
+		long size = super.estimateSize() + 8 + OGPMemoryBudget.REFERENCE;
+		
+		if (this.exactCoeff != null)
+			size += this.exactCoeff.estimateSize();
+		return size;
+	}
+	
+	/**
+	 * <i>[static method]</i><br>
+	 * Method that examines whether new u-terms use exact arithmetic of coefficients.
+	 * 
+	 * @return	True if exact arithmetic is set by parameters, false otherwise
+	 */
+	public static boolean useExactArithmetic() {
+		OGPConfigurationSettings settings = OpenGeoProver.getSettings();
+		
+		return (settings != null && settings.getParameters().getArithmetic() == UTerm.ARITHMETIC_EXACT);
+	}
+	
+	/**
+	 * Method that gives coefficient of this term as rational number
+	 * 
+	 * @return	Exact coefficient or rational number converted from double coefficient
+	 */
+	private RationalNumber toRationalNumber() {
+		return ((this.exactCoeff != null) ? this.exactCoeff : RationalNumber.valueOf(this.coeff));
+	}
+	
 	/**
 	 * Method for merging this term with another equal term.
 	 * Terms are considered equals if have same powers.
@@ -181,7 +283,15 @@ public class UTerm extends Term {
 	 */
 	@Override
 	public Term merge(Term t) {
-		this.coeff += ((t != null) ? ((UTerm)t).getCoeff() : 0);
+		if (t == null)
+			return this;
+		
+		UTerm ut = (UTerm)t;
+		
+		if (this.exactCoeff != null || ut.exactCoeff != null)
+			this.setExactCoeff(this.toRationalNumber().add(ut.toRationalNumber()));
+		else
+			this.coeff += ut.coeff;
 		return this;
 	}
 
@@ -195,7 +305,12 @@ public class UTerm extends Term {
 	 */
 	@Override
 	public Term mul(Term t) {
-		this.coeff *= ((t != null) ? ((UTerm)t).getCoeff() : 0);
+		UTerm ut = (UTerm)t;
+		
+		if (ut != null && (this.exactCoeff != null || ut.exactCoeff != null))
+			this.setExactCoeff(this.toRationalNumber().multiply(ut.toRationalNumber()));
+		else
+			this.setCoeff(this.coeff * ((ut != null) ? ut.coeff : 0));
 		this.mergePowers(t, true);
 		return this;
 	}
@@ -210,7 +325,27 @@ public class UTerm extends Term {
 	 */
 	@Override
 	public Term mul(double r) {
-		this.coeff *= r;
+		if (this.exactCoeff != null)
+			this.setExactCoeff(this.exactCoeff.multiply(RationalNumber.valueOf(r)));
+		else
+			this.coeff *= r;
+		return this;
+	}
+	
+	/**
+	 * Multiplication of this term with rational coefficient
+	 * 
+	 * @param r		Rational coefficient multiplier
+	 * @return		This term which is result of operation
+	 * 
+	 * @see com.ogprover.polynomials.Term#mul(com.ogprover.polynomials.RationalNumber)
+	 */
+	@Override
+	public Term mul(RationalNumber r) {
+		if (this.exactCoeff != null)
+			this.setExactCoeff(this.exactCoeff.multiply(r));
+		else
+			this.coeff *= r.doubleValue();
 		return this;
 	}
 
@@ -228,11 +363,25 @@ public class UTerm extends Term {
 	 */
 	@Override
 	public Term divide(Term t) {
-		double d = ((t != null) ? ((UTerm)t).getCoeff() : 0);
-		
-		if (d < OGPConstants.EPSILON && d > -OGPConstants.EPSILON)
+		if (t == null)
 			return null; // division by zero
-		this.coeff /= d;
+		
+		UTerm ut = (UTerm)t;
+		
+		if (this.exactCoeff != null || ut.exactCoeff != null) {
+			RationalNumber r = ut.toRationalNumber();
+			
+			if (r.isZero())
+				return null; // division by zero
+			this.setExactCoeff(this.toRationalNumber().divide(r));
+		}
+		else {
+			double d = ut.coeff;
+			
+			if (d < OGPConstants.EPSILON && d > -OGPConstants.EPSILON)
+				return null; // division by zero
+			this.coeff /= d;
+		}
 		this.mergePowers(t, false);
 		return this;
 	}
@@ -247,6 +396,8 @@ public class UTerm extends Term {
 	@Override
 	public Term invert() {
 		this.coeff *= -1;
+		if (this.exactCoeff != null)
+			this.exactCoeff = this.exactCoeff.negate();
 		return this;
 	}
 	
@@ -259,6 +410,8 @@ public class UTerm extends Term {
 	 */
 	@Override
 	public boolean isZero() {
+		if (this.exactCoeff != null)
+			return this.exactCoeff.isZero(); // no tolerance for exact coefficient
 		return (this.coeff > -OGPConstants.EPSILON && this.coeff < OGPConstants.EPSILON);
 	}
 	
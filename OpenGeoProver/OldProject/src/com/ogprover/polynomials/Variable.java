@@ -133,7 +133,7 @@ public abstract class Variable implements Comparable<Variable>, Cloneable, Ratio
 	 */
 	public int compareTo(Variable v) {
 		if (v == null) {
-			OpenGeoProver.settings.getLogger().error("Null variable passed in.");
+			OpenGeoProver.getSettings().getLogger().error("Null variable passed in.");
 			return -2; // error
 		}
 		
@@ -12,6 +12,8 @@ import java.util.Vector;
 
 import com.ogprover.main.OGPConstants;
 import com.ogprover.main.OpenGeoProver;
+import com.ogprover.multithread.ParallelPseudoDivision;
+import com.ogprover.utilities.OGPMetrics;
 import com.ogprover.utilities.io.OGPOutput;
 import com.ogprover.utilities.io.SpecialFileFormatting;
 import com.ogprover.utilities.logger.ILogger;
@@ -48,6 +50,10 @@ public class XPolySystem {
 	 * List of variable indices as they were introduced in triangular system 
 	 */
 	private Vector<Integer> variableList;
+	/**
+	 * Measurement of current step of triangulation (null when no step is in progress)
+	 */
+	private OGPMetrics.Measurement stepMeasurement = null;
 	
 	
 	/*
@@ -320,9 +326,30 @@ public class XPolySystem {
 	 * 			and negative with specific error code, if error happens
 	 */
 	public int triangulate() {
+		OGPMetrics metrics = OpenGeoProver.getSettings().getMetrics();
+		OGPMetrics.Measurement measurement = metrics.start(OGPMetrics.PHASE_TRIANGULATION);
+		int retCode = this.triangulateSystem(metrics);
+		
+		// step interrupted by error
+		if (this.stepMeasurement != null) {
+			this.stepMeasurement.stop();
+			this.stepMeasurement = null;
+		}
+		measurement.stop(XPolySystem.getNumOfTerms(this.polynomials));
+		return retCode;
+	}
+	
+	/**
+	 * Method that transforms this system in triangular form (see triangulate()).
+	 * 
+	 * @param metrics	Metrics where steps of triangulation are measured
+	 * @return			Return code is zero when operation is successfully completed
+	 * 					and negative with specific error code, if error happens
+	 */
+	private int triangulateSystem(OGPMetrics metrics) {
 		StringBuilder sb;
-		OGPOutput output = OpenGeoProver.settings.getOutput();
-		ILogger logger = OpenGeoProver.settings.getLogger();
+		OGPOutput output = OpenGeoProver.getSettings().getOutput();
+		ILogger logger = OpenGeoProver.getSettings().getLogger();
 		
 		// if system is already triangular, only reorder it and exit
 		if (this.checkAndReOrderTriangularSystem() == true) {
@@ -365,6 +392,7 @@ public class XPolySystem {
 		// main loop for triangulation of polynomial system
 		for (int ii = this.polynomials.size(), istep = 1, isize = this.polynomials.size(); ii > 0; ii--, istep++){ // loop through x variables starting from greatest one
 			// in this step auxiliary system has to be made free of variable with index ii
+			this.stepMeasurement = metrics.start(OGPMetrics.PHASE_TRIANGULATION_STEP);
 			
 			try {
 				output.openSubSection("Triangulation, step " + istep, true);
@@ -610,45 +638,10 @@ public class XPolySystem {
 						triangularSystem.add(0, currPoly); // always add to beginning
 						this.variableList.add(0, new Integer(ii));
 						nonFreeSystem.remove(first);
-						for (int ll = 0, mm = nonFreeSystem.size(); ll < mm; ll++) {
-							XPolynomial tempXP = nonFreeSystem.get(ll).pseudoReminder(currPoly, ii);
-							
-							if (tempXP == null)
-								return OpenGeoProver.settings.getRetCodeOfPseudoDivision();
-							
-							int numOfTerms = tempXP.getTerms().size();
-							
-							if (numOfTerms > OpenGeoProver.settings.getParameters().getSpaceLimit()) {
-								String errMsg = "Polynomial exceeds maximal allowed number of terms.";
-								logger.error(errMsg);
-								try {
-									output.openItemWithDesc("Error:");
-									output.closeItemWithDesc(errMsg);
-								} catch (IOException e) {
-									logger.error("Failed to write to output file(s).");
-									output.close();
-									return OGPConstants.ERR_CODE_GENERAL;
-								}
-								return OGPConstants.ERR_CODE_SPACE;
-							}
-							if (numOfTerms > OpenGeoProver.settings.getMaxNumOfTerms()) {
-								OpenGeoProver.settings.setMaxNumOfTerms(numOfTerms);
-							}
-							if (OpenGeoProver.settings.getTimer().isTimeIsUp()) {
-								String errMsg = "Prover execution time has been expired.";
-								logger.error(errMsg);
-								try {
-									output.openItemWithDesc("Error:");
-									output.closeItemWithDesc(errMsg);
-								} catch (IOException e) {
-									logger.error("Failed to write to output file(s).");
-									output.close();
-									return OGPConstants.ERR_CODE_GENERAL;
-								}
-								return OGPConstants.ERR_CODE_TIME;
-							}
-							freeSystem.add(tempXP);
-						}
+						int retCode = XPolySystem.reducePolynomials(nonFreeSystem, currPoly, ii, freeSystem);
+						
+						if (retCode != OGPConstants.RET_CODE_SUCCESS)
+							return retCode;
 						auxSystem = freeSystem; // prepare for the next step
 						end = true;
 					}
@@ -681,11 +674,11 @@ public class XPolySystem {
 							XPolynomial temp = r2.pseudoReminder(r1, ii);
 							
 							if (temp == null)
-								return OpenGeoProver.settings.getRetCodeOfPseudoDivision();
+								return OpenGeoProver.getSettings().getRetCodeOfPseudoDivision();
 							
-							int numOfTerms = temp.getTerms().size();
+							int numOfTerms = temp.getNumOfTerms();
 							
-							if (numOfTerms > OpenGeoProver.settings.getParameters().getSpaceLimit()) {
+							if (numOfTerms > OpenGeoProver.getSettings().getParameters().getSpaceLimit()) {
 								String errMsg = "Polynomial exceeds maximal allowed number of terms.";
 								logger.error(errMsg);
 								try {
@@ -698,10 +691,10 @@ public class XPolySystem {
 								}
 								return OGPConstants.ERR_CODE_SPACE;
 							}
-							if (numOfTerms > OpenGeoProver.settings.getMaxNumOfTerms()) {
-								OpenGeoProver.settings.setMaxNumOfTerms(numOfTerms);
+							if (numOfTerms > OpenGeoProver.getSettings().getMaxNumOfTerms()) {
+								OpenGeoProver.getSettings().setMaxNumOfTerms(numOfTerms);
 							}
-							if (OpenGeoProver.settings.getTimer().isTimeIsUp()) {
+							if (OpenGeoProver.getSettings().getTimer().isTimeIsUp()) {
 								String errMsg = "Prover execution time has been expired.";
 								logger.error(errMsg);
 								try {
@@ -760,45 +753,10 @@ public class XPolySystem {
 							triangularSystem.add(0, r1); // always add to beginning
 							this.variableList.add(0, new Integer(ii));
 							nonFreeSystem.remove(first);
-							for (int ll = 0, mm = nonFreeSystem.size(); ll < mm; ll++) {
-								XPolynomial tempXP = nonFreeSystem.get(ll).pseudoReminder(r1, ii);
-								
-								if (tempXP == null)
-									return OpenGeoProver.settings.getRetCodeOfPseudoDivision();
-								
-								int numOfTerms = tempXP.getTerms().size();
-								
-								if (numOfTerms > OpenGeoProver.settings.getParameters().getSpaceLimit()) {
-									String errMsg = "Polynomial exceeds maximal allowed number of terms.";
-									logger.error(errMsg);
-									try {
-										output.openItemWithDesc("Error:");
-										output.closeItemWithDesc(errMsg);
-									} catch (IOException e) {
-										logger.error("Failed to write to output file(s).");
-										output.close();
-										return OGPConstants.ERR_CODE_GENERAL;
-									}
-									return OGPConstants.ERR_CODE_SPACE;
-								}
-								if (numOfTerms > OpenGeoProver.settings.getMaxNumOfTerms()) {
-									OpenGeoProver.settings.setMaxNumOfTerms(numOfTerms);
-								}
-								if (OpenGeoProver.settings.getTimer().isTimeIsUp()) {
-									String errMsg = "Prover execution time has been expired.";
-									logger.error(errMsg);
-									try {
-										output.openItemWithDesc("Error:");
-										output.closeItemWithDesc(errMsg);
-									} catch (IOException e) {
-										logger.error("Failed to write to output file(s).");
-										output.close();
-										return OGPConstants.ERR_CODE_GENERAL;
-									}
-									return OGPConstants.ERR_CODE_TIME;
-								}
-								freeSystem.add(tempXP);
-							}
+							int retCode = XPolySystem.reducePolynomials(nonFreeSystem, r1, ii, freeSystem);
+							
+							if (retCode != OGPConstants.RET_CODE_SUCCESS)
+								return retCode;
 							auxSystem = freeSystem; // prepare for the next step
 							end = true;
 						}
@@ -829,6 +787,9 @@ public class XPolySystem {
 				output.close();
 				return OGPConstants.ERR_CODE_GENERAL;
 			}
+			
+			this.stepMeasurement.stop(XPolySystem.getNumOfTerms(tempSystemForOutput));
+			this.stepMeasurement = null;
 		}
 		
 		// at the end, set new system to triangular system
@@ -846,6 +807,89 @@ public class XPolySystem {
 		return OGPConstants.RET_CODE_SUCCESS;
 	}
 	
+	/**
+	 * <i>[static method]</i><br>
+	 * Method that calculates total number of terms in polynomials.
+	 * 
+	 * @param polys	Polynomials
+	 * @return		Total number of terms
+	 */
+	private static int getNumOfTerms(Vector<XPolynomial> polys) {
+		int numOfTerms = 0;
+		
+		for (XPolynomial xp : polys)
+			numOfTerms += xp.getNumOfTerms();
+		return numOfTerms;
+	}
+	
+	/**
+	 * <i>[static method]</i><br>
+	 * Method that reduces all polynomials which contain chosen variable by polynomial
+	 * chosen for triangular system, and adds obtained pseudo remainders to polynomials
+	 * free of that variable. When concurrency level is greater than one, pseudo divisions
+	 * are performed concurrently and their results are processed in same order as in
+	 * sequential reduction.
+	 * 
+	 * @param nonFreeSystem	Polynomials to be reduced
+	 * @param pivot			Polynomial chosen for triangular system
+	 * @param varIndex		Index of chosen variable
+	 * @param freeSystem	Polynomials free of chosen variable
+	 * @return				RET_CODE_SUCCESS or ERR_CODE_xxx
+	 */
+	private static int reducePolynomials(Vector<XPolynomial> nonFreeSystem, XPolynomial pivot, int varIndex, Vector<XPolynomial> freeSystem) {
+		OGPOutput output = OpenGeoProver.getSettings().getOutput();
+		ILogger logger = OpenGeoProver.getSettings().getLogger();
+		int n = OpenGeoProver.getSettings().getParameters().getConLevel();
+		XPolynomial[] reminders = null;
+		
+		if (n > 1 && nonFreeSystem.size() > 1) {
+			reminders = ParallelPseudoDivision.pseudoReminders(nonFreeSystem, pivot, varIndex, n);
+			
+			if (reminders == null)
+				return OGPConstants.ERR_CODE_GENERAL;
+		}
+		
+		for (int ll = 0, mm = nonFreeSystem.size(); ll < mm; ll++) {
+			XPolynomial tempXP = (reminders != null) ? reminders[ll] : nonFreeSystem.get(ll).pseudoReminder(pivot, varIndex);
+			
+			if (tempXP == null)
+				return OpenGeoProver.getSettings().getRetCodeOfPseudoDivision();
+			
+			int numOfTerms = tempXP.getNumOfTerms();
+			
+			if (numOfTerms > OpenGeoProver.getSettings().getParameters().getSpaceLimit()) {
+				String errMsg = "Polynomial exceeds maximal allowed number of terms.";
+				logger.error(errMsg);
+				try {
+					output.openItemWithDesc("Error:");
+					output.closeItemWithDesc(errMsg);
+				} catch (IOException e) {
+					logger.error("Failed to write to output file(s).");
+					output.close();
+					return OGPConstants.ERR_CODE_GENERAL;
+				}
+				return OGPConstants.ERR_CODE_SPACE;
+			}
+			OpenGeoProver.getSettings().updateMaxNumOfTerms(numOfTerms);
+			if (OpenGeoProver.getSettings().getTimer().isTimeIsUp()) {
+				String errMsg = "Prover execution time has been expired.";
+				logger.error(errMsg);
+				try {
+					output.openItemWithDesc("Error:");
+					output.closeItemWithDesc(errMsg);
+				} catch (IOException e) {
+					logger.error("Failed to write to output file(s).");
+					output.close();
+					return OGPConstants.ERR_CODE_GENERAL;
+				}
+				return OGPConstants.ERR_CODE_TIME;
+			}
+			freeSystem.add(tempXP);
+		}
+		
+		return OGPConstants.RET_CODE_SUCCESS;
+	}
+	
 	/**
 	 * Method which examines whether this polynomial system is linear;
 	 * i.e. if power of each dependent variable in each term of each
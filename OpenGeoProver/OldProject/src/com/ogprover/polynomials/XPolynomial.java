@@ -14,6 +14,8 @@ import java.util.Vector;
 
 import com.ogprover.main.OGPConstants;
 import com.ogprover.main.OpenGeoProver;
+import com.ogprover.utilities.OGPMemoryBudget;
+import com.ogprover.utilities.OGPMetrics;
 import com.ogprover.utilities.logger.ILogger;
 
 /**
@@ -89,9 +91,15 @@ public class XPolynomial extends Polynomial {
 	 */
 	@Override
 	public Polynomial clone() {
+		Polynomial c = new XPolynomial();
+		
+		if (this.termArray != null) {
+			c.termArray = this.termArray.cloneTerms();
+			return c;
+		}
+		
 		Collection<Term> col = this.terms.values(); // all values from tree in ascending order
 		Iterator<Term> termIT = col.iterator();
-		Polynomial c = new XPolynomial();
 		
 		while(termIT.hasNext()) {
 			Term ct = termIT.next().clone();
@@ -296,7 +304,7 @@ public class XPolynomial extends Polynomial {
 		boolean calcNumGcd = true, calcDenGcd = true; // flags for continuing of calculation
 		
 		// no reduction should be done on zero polynomial
-		if (this.terms.size() == 0)
+		if (this.isZero())
 			return this;
 		
 		// perform simple reduction of each x-term by division of 
@@ -348,7 +356,7 @@ public class XPolynomial extends Polynomial {
 		}
 		
 		if (numGcd == null || denGcd == null) {
-			OpenGeoProver.settings.getLogger().error("Failed to calculate GCD of u-coefficients from terms of x-polynomial");
+			OpenGeoProver.getSettings().getLogger().error("Failed to calculate GCD of u-coefficients from terms of x-polynomial");
 			return null;
 		}
 		
@@ -379,12 +387,15 @@ public class XPolynomial extends Polynomial {
 		// create monic polynomial by dividing it with double coefficient from 
 		// leading u-term of numerator of u-fraction which is coefficient of leading 
 		// x-term
-		double leadingDoubleCoeff = ((UTerm)((XTerm)this.getTermsAsDescList().get(0)).getUCoeff().getNumerator().getTermsAsDescList().get(0)).getCoeff();
-		if (leadingDoubleCoeff > -OGPConstants.EPSILON && leadingDoubleCoeff < OGPConstants.EPSILON) {
-			OpenGeoProver.settings.getLogger().error("Attempt to divide by zero - leading coefficient must not be zero since zero terms are not kept in memory");
+		UTerm leadingUTerm = (UTerm)((XTerm)this.getTermsAsDescList().get(0)).getUCoeff().getNumerator().getTermsAsDescList().get(0);
+		if (leadingUTerm.isZero()) {
+			OpenGeoProver.getSettings().getLogger().error("Attempt to divide by zero - leading coefficient must not be zero since zero terms are not kept in memory");
 			return null;
 		}
-		this.multiplyByRealConstant(1/leadingDoubleCoeff);
+		if (leadingUTerm.getExactCoeff() != null)
+			this.multiplyByRationalConstant(leadingUTerm.getExactCoeff().reciprocal());
+		else
+			this.multiplyByRealConstant(1/leadingUTerm.getCoeff());
 		
 		return this;
 	}
@@ -448,7 +459,7 @@ public class XPolynomial extends Polynomial {
 	// is 2) and leading coefficient, multiplied by (x_3) since maximal exponent is decreased by 1, is:
 	// (x_6)(x_3) + 2(u_1)(x_3).
 	private int getLeadingExpAndCoeff(int varIndex, int expDecr, XPolynomial leadingCoeff) {
-		ILogger logger = OpenGeoProver.settings.getLogger();
+		ILogger logger = OpenGeoProver.getSettings().getLogger();
 		
 		if (leadingCoeff == null) {
 			logger.error("Passed null polynomial - no place where to store terms");
@@ -536,27 +547,40 @@ public class XPolynomial extends Polynomial {
 	 * 					in case of error
 	 */
 	public XPolynomial pseudoReminder(XPolynomial p, int varIndex) {
+		OGPMetrics.Measurement measurement = OpenGeoProver.getSettings().getMetrics().start(OGPMetrics.PHASE_PSEUDO_REMAINDER);
+		XPolynomial remainder = this.calculatePseudoReminder(p, varIndex);
+		
+		measurement.stop((remainder != null) ? remainder.getNumOfTerms() : OGPMetrics.NO_TERMS);
+		return remainder;
+	}
+	
+	/**
+	 * Method that calculates pseudo reminder of this polynomial with
+	 * another passed in polynomial over variable with passed in index
+	 * (see pseudoReminder()).
+	 * 
+	 * @param p			Polynomial which this polynomial is pseudo divided by
+	 * @param varIndex	Index of variable over which pseudo division is performed
+	 * @return			This polynomial which is pseudo reminder, or null in case of error
+	 */
+	private XPolynomial calculatePseudoReminder(XPolynomial p, int varIndex) {
 		if (p == null) {
-			OpenGeoProver.settings.logGeneralErrorInPseudoDivision("Pseudo division error: Null polynomial passed in.");
+			OpenGeoProver.getSettings().logGeneralErrorInPseudoDivision("Pseudo division error: Null polynomial passed in.");
 			return null;
 		}
 		
 		if (varIndex <= 0) {
-			OpenGeoProver.settings.logGeneralErrorInPseudoDivision("Pseudo division error: Bad variable index passed in - it should be positive.");
+			OpenGeoProver.getSettings().logGeneralErrorInPseudoDivision("Pseudo division error: Bad variable index passed in - it should be positive.");
 			return null;
 		}
 		
 		/*
 		 * Update space measure
 		 */
-		int sizeOfThis = this.getTerms().size();
-		if (sizeOfThis > OpenGeoProver.settings.getMaxNumOfTerms()) {
-			OpenGeoProver.settings.setMaxNumOfTerms(sizeOfThis);
-		}
-		int sizeOfP = p.getTerms().size();
-		if (sizeOfP > OpenGeoProver.settings.getMaxNumOfTerms()) {
-			OpenGeoProver.settings.setMaxNumOfTerms(sizeOfP);
-		}
+		int sizeOfThis = this.getNumOfTerms();
+		OpenGeoProver.getSettings().updateMaxNumOfTerms(sizeOfThis);
+		int sizeOfP = p.getNumOfTerms();
+		OpenGeoProver.getSettings().updateMaxNumOfTerms(sizeOfP);
 		
 		// first of all calculate exponent and (pure) leading coefficient in
 		// passed in polynomial over variable with given index
@@ -564,7 +588,7 @@ public class XPolynomial extends Polynomial {
 		int pe = p.getLeadingExpAndCoeff(varIndex, -1, pc);
 		
 		if (pe < 0) { // error has occurred
-			OpenGeoProver.settings.logGeneralErrorInPseudoDivision("Pseudo division error: Failed to get leading exponent and coefficient.");
+			OpenGeoProver.getSettings().logGeneralErrorInPseudoDivision("Pseudo division error: Failed to get leading exponent and coefficient.");
 			return null;
 		}
 		
@@ -572,11 +596,14 @@ public class XPolynomial extends Polynomial {
 			// in this case polynomial p is constant as polynomial by
 			// given variable and thus reminder is zero polynomial
 			this.terms = new TreeMap<Term, Term>();
+			this.termArray = null;
 			return this;
 		}
 		
 		boolean canProceed;
 		XPolynomial reminder = this; // initial reminder is this polynomial
+		OGPMemoryBudget budget = OpenGeoProver.getSettings().getMemoryBudget();
+		long reminderBytes = 0; // bytes reserved for reminder in memory budget
 		
 		do {
 			canProceed = false;
@@ -586,7 +613,8 @@ public class XPolynomial extends Polynomial {
 			int re = reminder.getLeadingExpAndCoeff(varIndex, pe, rc);
 			
 			if (re < 0) { // error has occurred
-				OpenGeoProver.settings.logGeneralErrorInPseudoDivision("Pseudo division error: Failed to get leading exponent and coefficient.");
+				budget.release(reminderBytes);
+				OpenGeoProver.getSettings().logGeneralErrorInPseudoDivision("Pseudo division error: Failed to get leading exponent and coefficient.");
 				return null;
 			}
 			
@@ -594,8 +622,13 @@ public class XPolynomial extends Polynomial {
 			// rc contains calculated leading coefficient
 			if (re >= pe) { // one step of pseudo division can be done
 				canProceed = true; // after division, one more loop step will be done
-				// calculate new reminder
-				reminder = (XPolynomial)reminder.multiplyByPolynomial(pc).subtractPolynomial(p.clone().multiplyByPolynomial(rc));
+				// calculate new reminder as reminder*pc - p*rc; products are accumulated
+				// in geobucket and merged into new reminder only at the end of this step
+				GeoBucket bucket = new GeoBucket();
+				
+				bucket.addProduct(reminder, pc, false);
+				bucket.addProduct(p, rc, true);
+				reminder.setProduct(bucket.getResult()); // keeps storage of terms set by parameters
 				/*
 				XPolynomial tempP = (XPolynomial) p.clone();
 				tempP.multiplyByPolynomial(rc);
@@ -608,20 +641,28 @@ public class XPolynomial extends Polynomial {
 			/*
 			 * Check space and time limits and update space measure
 			 */
-			int sizeOfRem = reminder.getTerms().size();
-			if (sizeOfRem > OpenGeoProver.settings.getParameters().getSpaceLimit()) {
-				OpenGeoProver.settings.logSpaceErrorInPseudoDivision(sizeOfRem);
+			int sizeOfRem = reminder.getNumOfTerms();
+			budget.release(reminderBytes);
+			if (sizeOfRem > OpenGeoProver.getSettings().getParameters().getSpaceLimit()) {
+				OpenGeoProver.getSettings().logSpaceErrorInPseudoDivision(sizeOfRem);
 				return null;
 			}
-			if (OpenGeoProver.settings.getTimer().isTimeIsUp()) {
-				OpenGeoProver.settings.logTimeErrorInPseudoDivision();
+			reminderBytes = reminder.estimateSizeFromSample();
+			if (!budget.reserve(reminderBytes)) {
+				budget.release(reminderBytes);
+				OpenGeoProver.getSettings().logMemoryErrorInPseudoDivision(sizeOfRem);
 				return null;
 			}
-			if (sizeOfRem > OpenGeoProver.settings.getMaxNumOfTerms()) {
-				OpenGeoProver.settings.setMaxNumOfTerms(sizeOfRem);
+			if (OpenGeoProver.getSettings().getTimer().isTimeIsUp()) {
+				budget.release(reminderBytes);
+				OpenGeoProver.getSettings().logTimeErrorInPseudoDivision();
+				return null;
 			}
+			OpenGeoProver.getSettings().updateMaxNumOfTerms(sizeOfRem);
 		} while (canProceed);
 		
+		budget.release(reminderBytes);
+		
 		// if exponent from this polynomial is smaller than the exponent
 		// from p, then result of pseudo reminder is this polynomial
 		return this; // this is same as reminder reference
@@ -644,7 +685,7 @@ public class XPolynomial extends Polynomial {
 			Term currT = termList.get(ii);
 			
 			if (currT == null) {
-				OpenGeoProver.settings.getLogger().error("Null object found when expected non-null value");
+				OpenGeoProver.getSettings().getLogger().error("Null object found when expected non-null value");
 				return OGPConstants.ERR_CODE_NULL;
 			}
 			int currExp = currT.getVariableExponent(varIndex); // exponent of given variable in current term
@@ -758,74 +799,8 @@ public class XPolynomial extends Polynomial {
 	 * 					form of NDG condition.
 	 */
 	public boolean matchesNDGCPolynomial(XPolynomial ndgcPoly) {
-		// If this polynomial is zero, it cannot match polynomial form of NDG condition
-		// since that polynomial is non-zero
-		if (this.isZero() == true)
-			return false;
-		
 		// This polynomial represents algebraic form of specific position of some points
-		XPolynomial positionPoly = ((XPolynomial) this.clone()).reduceUTerms(false);
-		XPolynomial conditionPoly = (XPolynomial) ndgcPoly.clone();
-		
-		// Calculate u factor of position polynomial
-		UTerm posPolyUFactor = null;
-		
-		for (Term t : positionPoly.getTermsAsDescList()) {
-			XTerm xt = (XTerm)t;
-			
-			for (Term ut : xt.getUCoeff().getNumerator().getTermsAsDescList()) {
-				if (posPolyUFactor == null) {
-					posPolyUFactor = (UTerm)ut.clone();
-					posPolyUFactor.setCoeff(1);
-				}
-				else
-					posPolyUFactor.gcd(ut);
-			}
-		}
-		
-		// Calculate residual polynomial for position polynomial
-		XPolynomial posPolyResidum = (XPolynomial) positionPoly.clone();
-		
-		for (Term xt : posPolyResidum.getTermsAsDescList())
-			((XTerm) xt).getUCoeff().getNumerator().divideByTerm(posPolyUFactor);
-		
-		/*
-		 * Each single u-variable and residual polynomial should be compared 
-		 * with polynomial for NDGC. If any of these polynomials is equal to 
-		 * polynomial form of NDGC, that means that in certain occasions this 
-		 * position can generate specified degenerative condition.
-		 */
-		for (Power p : posPolyUFactor.getPowers()) {
-			// single u-variable
-			UPolynomial up = new UPolynomial();
-			UTerm ut = new UTerm(1);
-			ut.addPower(p.clone());
-			up.addTerm(ut);
-			XTerm xt = new XTerm(new UFraction(up));
-			XPolynomial xp = new XPolynomial();
-			xp.addTerm(xt);
-			
-			if (xp.equals(conditionPoly))
-				return true; // found a match
-		}
-		
-		// special case - if NDGC polynomial is single term polynomial, check whether position polynomial is divisible by it
-		if (conditionPoly.getTerms().size() == 1) {
-			boolean bDivisible = true;
-			Term singleTerm = conditionPoly.getTermsAsDescList().get(0);
-			
-			for (Term xt : posPolyResidum.getTermsAsDescList()) {
-				if (!xt.isDivisibleByTerm(singleTerm)) {
-					bDivisible = false;
-					break;
-				}
-			}
-		
-			if (bDivisible)
-				return true;
-		}
-		
-		return posPolyResidum.equals(conditionPoly);
+		return new PositionPolynomialForm(this).matches(ndgcPoly);
 	}
 	
 	/**
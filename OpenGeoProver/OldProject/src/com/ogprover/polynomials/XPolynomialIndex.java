@@ -0,0 +1,297 @@
+/*
+ * DISCLAIMER PLACEHOLDER
+ */
+
+package com.ogprover.polynomials;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.ogprover.main.OGPConstants;
+
+
+/**
+ * <dl>
+ * <dt><b>Class description:</b></dt>
+ * <dd>Class for hash index of list of x-polynomials (e.g. hypotheses of theorem),
+ *     used to find polynomial from list equal to given polynomial up to real factor</dd>
+ * </dl>
+ *
+ * @version 1.00
+ * @author Ivan Petrovic
+ */
+// Polynomials are indexed by hash code of their x-monomials, which doesn't depend on
+// coefficients, so polynomial and all its scalar multiples are in same bucket; buckets
+// are small and only their polynomials are compared with given polynomial. Index follows
+// list of polynomials by update(): polynomials appended to list are indexed incrementally,
+// while any other change of list (detected by comparing indexed polynomials with elements
+// of list one by one) causes rebuilding of index. Polynomials of list can also be changed
+// in place (e.g. during triangulation), so update() recalculates hash codes of indexed
+// polynomials and moves those whose x-monomials have been changed to their new buckets.
+// Checks of redundancy are collected in isRedundant() - more of them (e.g. cheap check of
+// linear combinations of indexed polynomials) can be added there.
+public class XPolynomialIndex {
+	/*
+	 * ======================================================================
+	 * ========================== VARIABLES =================================
+	 * ======================================================================
+	 */
+	/**
+	 * <i><b>
+	 * Version number of class in form xx.yy where
+	 * xx is major version/release number and yy is minor
+	 * release number.
+	 * </b></i>
+	 */
+	public static final String VERSION_NUM = "1.00"; // this should match the version number from class comment
+
+	/**
+	 * List of polynomials which is indexed
+	 */
+	private List<XPolynomial> source = null;
+	/**
+	 * Indexed polynomials, in same order as in source list
+	 */
+	private ArrayList<XPolynomial> polynomials = new ArrayList<XPolynomial>();
+	/**
+	 * Hash codes of x-monomials of indexed polynomials at the moment of their indexing,
+	 * in same order as polynomials
+	 */
+	private ArrayList<Integer> keys = new ArrayList<Integer>();
+	/**
+	 * Buckets of indexed polynomials by hash code of their x-monomials
+	 */
+	private Map<Integer, ArrayList<XPolynomial>> buckets = new HashMap<Integer, ArrayList<XPolynomial>>();
+
+
+
+	/*
+	 * ======================================================================
+	 * ========================== GETTERS/SETTERS ===========================
+	 * ======================================================================
+	 */
+	/**
+	 * @return	Number of indexed polynomials
+	 */
+	public int size() {
+		return this.polynomials.size();
+	}
+
+
+
+	/*
+	 * ======================================================================
+	 * ========================== SPECIFIC METHODS ==========================
+	 * ======================================================================
+	 */
+	/**
+	 * <i>[static method]</i><br>
+	 * Method that calculates hash code of x-monomials of polynomial; it is same for
+	 * polynomial and all polynomials equal to it up to real factor.
+	 *
+	 * @param xp	X-polynomial
+	 * @return		Hash code of x-monomials
+	 */
+	public static int hashCodeOfMonomials(XPolynomial xp) {
+		int hash = xp.getNumOfTerms();
+
+		for (Term t : xp.getTermsAsDescList())
+			hash = 31*hash + t.hashCode(); // hash code of term depends only on its powers
+		return hash;
+	}
+
+	/**
+	 * <i>[static method]</i><br>
+	 * Method that checks whether polynomial is product of other polynomial and some
+	 * real factor: all terms must have same x-powers, same denominators and numerators
+	 * with same u-powers and proportional coefficients.
+	 *
+	 * @param xp		X-polynomial
+	 * @param other		Other x-polynomial
+	 * @return			True if xp = r * other for some real r, false otherwise
+	 */
+	public static boolean isScalarMultiple(XPolynomial xp, XPolynomial other) {
+		if (xp.getNumOfTerms() != other.getNumOfTerms())
+			return false;
+
+		ArrayList<Term> terms = xp.getTermsAsDescList();
+		ArrayList<Term> otherTerms = other.getTermsAsDescList();
+		double[] factor = new double[] {0}; // ratio of coefficients, determined by first pair of them
+
+		for (int ii = 0, jj = terms.size(); ii < jj; ii++) {
+			XTerm t = (XTerm)terms.get(ii);
+			XTerm ot = (XTerm)otherTerms.get(ii);
+
+			if (t.compareTo(ot) != 0)
+				return false;
+			if (!XPolynomialIndex.isProportional(t.getUCoeff().getDenominator(), ot.getUCoeff().getDenominator(), new double[] {1}) ||
+				!XPolynomialIndex.isProportional(t.getUCoeff().getNumerator(), ot.getUCoeff().getNumerator(), factor))
+				return false;
+		}
+		return true;
+	}
+
+	/**
+	 * <i>[static method]</i><br>
+	 * Method that checks whether coefficients of u-polynomial are coefficients of other
+	 * u-polynomial multiplied by factor.
+	 *
+	 * @param up		U-polynomial
+	 * @param other		Other u-polynomial
+	 * @param factor	Array with factor as its only element; if it is zero, factor is
+	 * 					determined by first pair of terms and stored in array
+	 * @return			True if polynomials have same u-powers and proportional coefficients
+	 */
+	private static boolean isProportional(UPolynomial up, UPolynomial other, double[] factor) {
+		if (up.getNumOfTerms() != other.getNumOfTerms())
+			return false;
+
+		ArrayList<Term> terms = up.getTermsAsDescList();
+		ArrayList<Term> otherTerms = other.getTermsAsDescList();
+
+		for (int ii = 0, jj = terms.size(); ii < jj; ii++) {
+			UTerm t = (UTerm)terms.get(ii);
+			UTerm ot = (UTerm)otherTerms.get(ii);
+
+			if (t.compareTo(ot) != 0)
+				return false;
+			if (factor[0] == 0)
+				factor[0] = t.getCoeff()/ot.getCoeff(); // zero terms are not kept in polynomials
+			if (Math.abs(t.getCoeff() - factor[0]*ot.getCoeff()) > OGPConstants.EPSILON * Math.max(1, Math.abs(t.getCoeff())))
+				return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Method that adds polynomial to index.
+	 *
+	 * @param xp	Polynomial to be indexed
+	 */
+	public void add(XPolynomial xp) {
+		Integer key = Integer.valueOf(XPolynomialIndex.hashCodeOfMonomials(xp));
+
+		this.addToBucket(key, xp);
+		this.polynomials.add(xp);
+		this.keys.add(key);
+	}
+
+	/**
+	 * Method that adds polynomial to bucket with passed in key.
+	 *
+	 * @param key	Hash code of x-monomials of polynomial
+	 * @param xp	Polynomial
+	 */
+	private void addToBucket(Integer key, XPolynomial xp) {
+		ArrayList<XPolynomial> bucket = this.buckets.get(key);
+
+		if (bucket == null) {
+			bucket = new ArrayList<XPolynomial>(1);
+			this.buckets.put(key, bucket);
+		}
+		bucket.add(xp);
+	}
+
+	/**
+	 * Method that removes polynomial (same object, not just equal one)
+	 * from bucket with passed in key.
+	 *
+	 * @param key	Hash code of x-monomials of polynomial when it was put in bucket
+	 * @param xp	Polynomial
+	 */
+	private void removeFromBucket(Integer key, XPolynomial xp) {
+		ArrayList<XPolynomial> bucket = this.buckets.get(key);
+
+		for (int ii = 0, jj = bucket.size(); ii < jj; ii++) {
+			if (bucket.get(ii) == xp) {
+				bucket.remove(ii);
+				break;
+			}
+		}
+		if (bucket.size() == 0)
+			this.buckets.remove(key);
+	}
+
+	/**
+	 * Method that removes all polynomials from index.
+	 */
+	public void clear() {
+		this.polynomials.clear();
+		this.keys.clear();
+		this.buckets.clear();
+		this.source = null;
+	}
+
+	/**
+	 * Method that brings index up to date with list of polynomials: new polynomials
+	 * at the end of list are added to index, indexed polynomials whose x-monomials
+	 * have been changed in place are moved to their new buckets, and if list has been
+	 * changed in any other way (or another list is passed in) index is rebuilt.
+	 *
+	 * @param polys		List of polynomials to be indexed
+	 */
+	public void update(List<XPolynomial> polys) {
+		int n = this.polynomials.size();
+		boolean changed = (polys != this.source || n > polys.size());
+
+		// element replaced or removed anywhere in list shifts or changes indexed prefix
+		for (int ii = 0; ii < n && !changed; ii++) {
+			if (polys.get(ii) != this.polynomials.get(ii))
+				changed = true;
+		}
+		if (changed) {
+			this.clear();
+			this.source = polys;
+			n = 0;
+		}
+		for (int ii = 0; ii < n; ii++) {
+			XPolynomial xp = this.polynomials.get(ii);
+			Integer key = Integer.valueOf(XPolynomialIndex.hashCodeOfMonomials(xp));
+
+			if (!key.equals(this.keys.get(ii))) {
+				this.removeFromBucket(this.keys.get(ii), xp);
+				this.addToBucket(key, xp);
+				this.keys.set(ii, key);
+			}
+		}
+		for (int ii = n, jj = polys.size(); ii < jj; ii++)
+			this.add(polys.get(ii));
+	}
+
+	/**
+	 * Method that finds indexed polynomial which is equal to passed in polynomial
+	 * up to real factor. Indexed polynomials changed in place are found by their
+	 * new x-monomials only after next update().
+	 *
+	 * @param xp	X-polynomial
+	 * @return		Found indexed polynomial or null if there is no such polynomial
+	 */
+	public XPolynomial findScalarMultiple(XPolynomial xp) {
+		ArrayList<XPolynomial> bucket = this.buckets.get(Integer.valueOf(XPolynomialIndex.hashCodeOfMonomials(xp)));
+
+		if (bucket == null)
+			return null;
+
+		for (XPolynomial indexed : bucket) {
+			// polynomials with same x-monomials which are equal even if their
+			// coefficients are written differently (e.g. by different fractions)
+			if (xp.clone().subtractPolynomial(indexed).isZero() || XPolynomialIndex.isScalarMultiple(xp, indexed))
+				return indexed;
+		}
+		return null;
+	}
+
+	/**
+	 * Method that checks whether passed in polynomial is redundant with respect to
+	 * indexed polynomials i.e. whether it is their consequence which can be
+	 * detected without proving.
+	 *
+	 * @param xp	X-polynomial
+	 * @return		True if polynomial is found redundant, false otherwise
+	 */
+	public boolean isRedundant(XPolynomial xp) {
+		return this.findScalarMultiple(xp) != null;
+	}
+}
@@ -9,6 +9,7 @@ import java.util.Vector;
 
 import com.ogprover.main.OGPConstants;
 import com.ogprover.main.OpenGeoProver;
+import com.ogprover.utilities.OGPMemoryBudget;
 import com.ogprover.utilities.logger.ILogger;
 
 /**
@@ -124,6 +125,8 @@ public class XTerm extends Term {
 			c.getPowers().addElement(this.powers.get(ii).clone());
 			ii++;
 		}
+		c.packedPowers = this.packedPowers; // packed powers are immutable and can be shared
+		c.monomial = this.monomial;
 		
 		return c;
 	}
@@ -175,6 +178,18 @@ public class XTerm extends Term {
 	 * ========================== SPECIFIC METHODS ==========================
 	 * ======================================================================
 	 */
+	/**
+	 * @see com.ogprover.polynomials.Term#estimateSize()
+	 */
+	@Override
+	public long estimateSize() {
+		long size = super.estimateSize() + OGPMemoryBudget.REFERENCE;
+		
+		if (this.uCoeff != null)
+			size += this.uCoeff.estimateSize();
+		return size;
+	}
+	
 	/**
 	 * Method that reduces the coefficient of term
 	 * 
@@ -199,7 +214,7 @@ public class XTerm extends Term {
 	@Override
 	public Term merge(Term t) {
 		if (t == null) {
-			OpenGeoProver.settings.getLogger().error("Null term passed in.");
+			OpenGeoProver.getSettings().getLogger().error("Null term passed in.");
 			return null;
 		}
 		
@@ -218,7 +233,7 @@ public class XTerm extends Term {
 	@Override
 	public Term mul(Term t) {
 		if (t == null) {
-			OpenGeoProver.settings.getLogger().error("Null term passed in.");
+			OpenGeoProver.getSettings().getLogger().error("Null term passed in.");
 			return null;
 		}
 		
@@ -241,6 +256,20 @@ public class XTerm extends Term {
 		return this;
 	}
 	
+	/**
+	 * Multiplication of this term with rational coefficient
+	 * 
+	 * @param r		Rational coefficient multiplier
+	 * @return		This term which is result of operation
+	 * 
+	 * @see com.ogprover.polynomials.Term#mul(com.ogprover.polynomials.RationalNumber)
+	 */
+	@Override
+	public Term mul(RationalNumber r) {
+		this.uCoeff.mul(r);
+		return this;
+	}
+	
 	/**
 	 * Division of this term by another term
 	 * 
@@ -251,7 +280,7 @@ public class XTerm extends Term {
 	 */
 	@Override
 	public Term divide(Term t) {
-		ILogger logger = OpenGeoProver.settings.getLogger();
+		ILogger logger = OpenGeoProver.getSettings().getLogger();
 		
 		if (t == null) {
 			logger.error("Null term passed in.");
@@ -479,7 +508,7 @@ public class XTerm extends Term {
 		
 		UFraction resXTCoeff = this.uCoeff.instantiateVariablesWithValues(varValuesMap);
 		if (resXTCoeff == null) {
-			OpenGeoProver.settings.getLogger().error("Failed to instantiate coefficient");
+			OpenGeoProver.getSettings().getLogger().error("Failed to instantiate coefficient");
 			return null;
 		}
 		
@@ -0,0 +1,241 @@
+/*
+ * DISCLAIMER PLACEHOLDER
+ */
+
+package com.ogprover.pp;
+
+import java.util.Vector;
+
+
+/**
+ * <dl>
+ * <dt><b>Class description:</b></dt>
+ * <dd>Class for output prover protocol with result of one proof - status
+ *     of theorem, time and space measures, names of report and log files
+ *     and NDG conditions in user readable form</dd>
+ * </dl>
+ *
+ * @version 1.00
+ * @author Ivan Petrovic
+ */
+public class OGPResultOutputProverProtocol extends OGPOutputProverProtocol {
+	/*
+	 * ======================================================================
+	 * ========================== VARIABLES =================================
+	 * ======================================================================
+	 */
+	/**
+	 * <i><b>
+	 * Version number of class in form xx.yy where
+	 * xx is major version/release number and yy is minor
+	 * release number.
+	 * </b></i>
+	 */
+	public static final String VERSION_NUM = "1.00"; // this should match the version number from class comment
+
+	/**
+	 * Identifier of request which this is result of
+	 */
+	private String id = null;
+	/**
+	 * Whether identifier of request is number rather than text
+	 */
+	private boolean numericId = false;
+	/**
+	 * Return code of prover (one of TheoremProver.THEO_PROVE_RET_CODE_xxx values or error code)
+	 */
+	private int retCode;
+	/**
+	 * Status of proof in textual form (e.g. "proved", "time limit")
+	 */
+	private String status = null;
+	/**
+	 * Time spent by prover in milliseconds
+	 */
+	private double proverTime = 0;
+	/**
+	 * Total time spent for request in milliseconds
+	 */
+	private long wallTime = 0;
+	/**
+	 * Number of terms of the biggest polynomial obtained during proof
+	 */
+	private int maxNumOfTerms = 0;
+	/**
+	 * Base name of output report files (null if reports are not created)
+	 */
+	private String reportFile = null;
+	/**
+	 * Name of log file
+	 */
+	private String logFile = null;
+	/**
+	 * NDG conditions in user readable form (null if they are not available)
+	 */
+	private Vector<String> ndgConditions = null;
+	/**
+	 * Error message when request has failed before proving (null otherwise)
+	 */
+	private String errorMessage = null;
+
+
+
+	/*
+	 * ======================================================================
+	 * ========================== GETTERS/SETTERS ===========================
+	 * ======================================================================
+	 */
+	/**
+	 * @param id the id to set
+	 */
+	public void setId(String id) {
+		this.id = id;
+	}
+
+	/**
+	 * @return the id
+	 */
+	public String getId() {
+		return id;
+	}
+
+	/**
+	 * @param numericId the numericId to set
+	 */
+	public void setNumericId(boolean numericId) {
+		this.numericId = numericId;
+	}
+
+	/**
+	 * @return the numericId
+	 */
+	public boolean isNumericId() {
+		return numericId;
+	}
+
+	/**
+	 * @param retCode the retCode to set
+	 */
+	public void setRetCode(int retCode) {
+		this.retCode = retCode;
+	}
+
+	/**
+	 * @return the retCode
+	 */
+	public int getRetCode() {
+		return retCode;
+	}
+
+	/**
+	 * @param status the status to set
+	 */
+	public void setStatus(String status) {
+		this.status = status;
+	}
+
+	/**
+	 * @return the status
+	 */
+	public String getStatus() {
+		return status;
+	}
+
+	/**
+	 * @param proverTime the proverTime to set
+	 */
+	public void setProverTime(double proverTime) {
+		this.proverTime = proverTime;
+	}
+
+	/**
+	 * @return the proverTime
+	 */
+	public double getProverTime() {
+		return proverTime;
+	}
+
+	/**
+	 * @param wallTime the wallTime to set
+	 */
+	public void setWallTime(long wallTime) {
+		this.wallTime = wallTime;
+	}
+
+	/**
+	 * @return the wallTime
+	 */
+	public long getWallTime() {
+		return wallTime;
+	}
+
+	/**
+	 * @param maxNumOfTerms the maxNumOfTerms to set
+	 */
+	public void setMaxNumOfTerms(int maxNumOfTerms) {
+		this.maxNumOfTerms = maxNumOfTerms;
+	}
+
+	/**
+	 * @return the maxNumOfTerms
+	 */
+	public int getMaxNumOfTerms() {
+		return maxNumOfTerms;
+	}
+
+	/**
+	 * @param reportFile the reportFile to set
+	 */
+	public void setReportFile(String reportFile) {
+		this.reportFile = reportFile;
+	}
+
+	/**
+	 * @return the reportFile
+	 */
+	public String getReportFile() {
+		return reportFile;
+	}
+
+	/**
+	 * @param logFile the logFile to set
+	 */
+	public void setLogFile(String logFile) {
+		this.logFile = logFile;
+	}
+
+	/**
+	 * @return the logFile
+	 */
+	public String getLogFile() {
+		return logFile;
+	}
+
+	/**
+	 * @param ndgConditions the ndgConditions to set
+	 */
+	public void setNdgConditions(Vector<String> ndgConditions) {
+		this.ndgConditions = ndgConditions;
+	}
+
+	/**
+	 * @return the ndgConditions
+	 */
+	public Vector<String> getNdgConditions() {
+		return ndgConditions;
+	}
+
+	/**
+	 * @param errorMessage the errorMessage to set
+	 */
+	public void setErrorMessage(String errorMessage) {
+		this.errorMessage = errorMessage;
+	}
+
+	/**
+	 * @return the errorMessage
+	 */
+	public String getErrorMessage() {
+		return errorMessage;
+	}
+}
@@ -0,0 +1,194 @@
+/*
+ * DISCLAIMER PLACEHOLDER
+ */
+
+package com.ogprover.pp;
+
+
+/**
+ * <dl>
+ * <dt><b>Class description:</b></dt>
+ * <dd>Class for input prover protocol with theorem in xml form - either
+ *     name of xml file or xml text of theorem (OGP or algebraic format),
+ *     with options of prover in same form as in command line</dd>
+ * </dl>
+ *
+ * @version 1.00
+ * @author Ivan Petrovic
+ */
+public class OGPXMLInputProverProtocol extends OGPInputProverProtocol {
+	/*
+	 * ======================================================================
+	 * ========================== VARIABLES =================================
+	 * ======================================================================
+	 */
+	/**
+	 * <i><b>
+	 * Version number of class in form xx.yy where
+	 * xx is major version/release number and yy is minor
+	 * release number.
+	 * </b></i>
+	 */
+	public static final String VERSION_NUM = "1.00"; // this should match the version number from class comment
+
+	/**
+	 * Identifier of request, returned in output protocol (can be null)
+	 */
+	private String id = null;
+	/**
+	 * Whether identifier of request is number (e.g. in JSON form of request) rather than text
+	 */
+	private boolean numericId = false;
+	/**
+	 * Name of xml file with theorem
+	 */
+	private String theoremFile = null;
+	/**
+	 * Xml text of theorem - used when name of file is not set
+	 */
+	private String theoremXML = null;
+	/**
+	 * Format of theorem ("O" for OGP xml, "A" for algebraic form);
+	 * if null, format is recognized from xml
+	 */
+	private String inputFormat = null;
+	/**
+	 * Base name of output report files; if null, name of theorem file is used
+	 */
+	private String outputFile = null;
+	/**
+	 * Options of prover in same form as in command line (e.g. "-t", "10", "-o", "N")
+	 */
+	private String[] options = new String[0];
+
+
+
+	/*
+	 * ======================================================================
+	 * ========================== GETTERS/SETTERS ===========================
+	 * ======================================================================
+	 */
+	/**
+	 * @param id the id to set
+	 */
+	public void setId(String id) {
+		this.id = id;
+	}
+
+	/**
+	 * @return the id
+	 */
+	public String getId() {
+		return id;
+	}
+
+	/**
+	 * @param numericId the numericId to set
+	 */
+	public void setNumericId(boolean numericId) {
+		this.numericId = numericId;
+	}
+
+	/**
+	 * @return the numericId
+	 */
+	public boolean isNumericId() {
+		return numericId;
+	}
+
+	/**
+	 * @param theoremFile the theoremFile to set
+	 */
+	public void setTheoremFile(String theoremFile) {
+		this.theoremFile = theoremFile;
+	}
+
+	/**
+	 * @return the theoremFile
+	 */
+	public String getTheoremFile() {
+		return theoremFile;
+	}
+
+	/**
+	 * @param theoremXML the theoremXML to set
+	 */
+	public void setTheoremXML(String theoremXML) {
+		this.theoremXML = theoremXML;
+	}
+
+	/**
+	 * @return the theoremXML
+	 */
+	public String getTheoremXML() {
+		return theoremXML;
+	}
+
+	/**
+	 * @param inputFormat the inputFormat to set
+	 */
+	public void setInputFormat(String inputFormat) {
+		this.inputFormat = inputFormat;
+	}
+
+	/**
+	 * @return the inputFormat
+	 */
+	public String getInputFormat() {
+		return inputFormat;
+	}
+
+	/**
+	 * @param outputFile the outputFile to set
+	 */
+	public void setOutputFile(String outputFile) {
+		this.outputFile = outputFile;
+	}
+
+	/**
+	 * @return the outputFile
+	 */
+	public String getOutputFile() {
+		return outputFile;
+	}
+
+	/**
+	 * @param options the options to set
+	 */
+	public void setOptions(String[] options) {
+		this.options = (options != null) ? options : new String[0];
+	}
+
+	/**
+	 * @return the options
+	 */
+	public String[] getOptions() {
+		return options;
+	}
+
+
+
+	/*
+	 * ======================================================================
+	 * ========================== CONSTRUCTORS ==============================
+	 * ======================================================================
+	 */
+	/**
+	 * Default constructor method
+	 */
+	public OGPXMLInputProverProtocol() {
+	}
+
+	/**
+	 * Constructor method
+	 *
+	 * @param id			Identifier of request
+	 * @param theoremFile	Name of xml file with theorem
+	 * @param options		Options of prover in same form as in command line
+	 */
+	public OGPXMLInputProverProtocol(String id, String theoremFile, String[] options) {
+		this.id = id;
+		this.theoremFile = theoremFile;
+		this.setOptions(options);
+	}
+}
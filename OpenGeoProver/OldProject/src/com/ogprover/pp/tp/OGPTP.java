@@ -6,6 +6,7 @@ package com.ogprover.pp.tp;
 
 import java.io.IOException;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Vector;
 
@@ -19,6 +20,7 @@ import com.ogprover.pp.tp.geoobject.RCConsPointList;
 import com.ogprover.pp.tp.ndgcondition.AlgebraicNDGCondition;
 import com.ogprover.pp.tp.ndgcondition.SimpleNDGCondition;
 import com.ogprover.pp.tp.thmstatement.*;
+import com.ogprover.utilities.OGPMetrics;
 import com.ogprover.utilities.io.OGPOutput;
 import com.ogprover.utilities.io.SpecialFileFormatting;
 import com.ogprover.utilities.logger.ILogger;
@@ -102,9 +104,20 @@ public class OGPTP {
 	 */
 	private GeoTheorem algebraicGeoTheorem = new GeoTheorem(); // empty theorem
 	/**
-	 * List with all combinations of points with zero for some coordinate
+	 * Index of polynomials from system of hypotheses of algebraic theorem, used to check
+	 * whether polynomial is consequence of constructions; it is updated on each check
 	 */
-	private Vector<Vector<Point>> zeroPoints = null;
+	private XPolynomialIndex hypothesesIndex = new XPolynomialIndex();
+	/**
+	 * List with all points with zero for some coordinate
+	 */
+	private Vector<Point> zeroPoints = null;
+	/**
+	 * Map with prepared polynomials of specific positions of points of this protocol,
+	 * used for translation of NDG conditions; key is name of position followed by
+	 * labels of points
+	 */
+	private Map<List<String>, PositionPolynomialForm> positionForms = null;
 	/* 
 	 * Members necessary for instantiation of points in algebraic form - BEGIN
 	 */
@@ -298,13 +311,23 @@ public class OGPTP {
 	/**
 	 * @return the zeroPoints
 	 */
-	public Vector<Vector<Point>> getZeroPoints() {
+	public Vector<Point> getZeroPoints() {
 		if (this.zeroPoints == null)
 			this.populateZeroPoints();
 		
 		return this.zeroPoints;
 	}
 	
+	/**
+	 * @return the positionForms
+	 */
+	public Map<List<String>, PositionPolynomialForm> getPositionForms() {
+		if (this.positionForms == null)
+			this.positionForms = new HashMap<List<String>, PositionPolynomialForm>();
+		
+		return this.positionForms;
+	}
+	
 	/**
 	 * @param uIndex the uIndex to set
 	 */
@@ -375,7 +398,7 @@ public class OGPTP {
 		this.constructionSteps = new Vector<GeoConstruction>();
 		this.constructionMap = new HashMap<String, GeoConstruction>();
 		this.theoremStatement = null;
-		if (OpenGeoProver.settings.getOgpMode() == OGPConstants.OGP_MODE_RC_CONSTRUCTIBILITY) {
+		if (OpenGeoProver.getSettings().getOgpMode() == OGPConstants.OGP_MODE_RC_CONSTRUCTIBILITY) {
 			this.rcConsFreePoints = new RCConsPointList();
 			this.rcConsPointsToConstruct = new RCConsPointList();
 		}
@@ -403,6 +426,7 @@ public class OGPTP {
 		this.algebraicNDGConditions = null;
 		this.algebraicGeoTheorem = new GeoTheorem();
 		this.zeroPoints = null;
+		this.positionForms = null;
 		this.uIndex = 1;
 		this.xIndex = 1;
 		this.numZeroIndices = 0;
@@ -416,7 +440,7 @@ public class OGPTP {
 	 */
 	public void addGeoConstruction(GeoConstruction gc) {
 		if (gc == null) {
-			OpenGeoProver.settings.getLogger().warn("Attempt to add null object to theorem protocol");
+			OpenGeoProver.getSettings().getLogger().warn("Attempt to add null object to theorem protocol");
 			return; // skip null objects
 		}
 		
@@ -460,7 +484,7 @@ public class OGPTP {
 	 * @param gc	Geometry construction to add into this protocol
 	 */
 	public void addGeoConstruction(int index, GeoConstruction gc) {
-		ILogger logger = OpenGeoProver.settings.getLogger();
+		ILogger logger = OpenGeoProver.getSettings().getLogger();
 		
 		if (gc == null) {
 			logger.warn("Attempt to add null object to theorem protocol");
@@ -569,7 +593,7 @@ public class OGPTP {
 	 */
 	public void addThmStatement(ThmStatement statement) {
 		if (statement == null) {
-			OpenGeoProver.settings.getLogger().error("Attempt to add null theorem statement to theorem protocol.");
+			OpenGeoProver.getSettings().getLogger().error("Attempt to add null theorem statement to theorem protocol.");
 			return;
 		}
 		
@@ -590,7 +614,7 @@ public class OGPTP {
 	 */
 	public void addAlgebraicNDGCondition(AlgebraicNDGCondition ndgCond) {
 		if (ndgCond == null) {
-			OpenGeoProver.settings.getLogger().error("Attempt to add null NDG condition to theorem protocol.");
+			OpenGeoProver.getSettings().getLogger().error("Attempt to add null NDG condition to theorem protocol.");
 			return;
 		}
 		
@@ -608,7 +632,7 @@ public class OGPTP {
 	 */
 	public void addSimpleNDGCondition(SimpleNDGCondition ndgCond) {
 		if (ndgCond == null) {
-			OpenGeoProver.settings.getLogger().error("Attempt to add null NDG condition to theorem protocol.");
+			OpenGeoProver.getSettings().getLogger().error("Attempt to add null NDG condition to theorem protocol.");
 			return;
 		}
 		
@@ -628,8 +652,8 @@ public class OGPTP {
 	 * @return	True if this protocol is valid, false otherwise
 	 */
 	public boolean isValid() {
-		OGPOutput output = OpenGeoProver.settings.getOutput();
-		ILogger logger = OpenGeoProver.settings.getLogger();
+		OGPOutput output = OpenGeoProver.getSettings().getOutput();
+		ILogger logger = OpenGeoProver.getSettings().getLogger();
 		boolean valid = true;
 		
 		try {
@@ -643,14 +667,14 @@ public class OGPTP {
 			output.closeEnum(SpecialFileFormatting.ENUM_COMMAND_ITEMIZE);
 			output.closeSubSection();
 			
-			if (OpenGeoProver.settings.getOgpMode() == OGPConstants.OGP_MODE_THM_PROVING) {
+			if (OpenGeoProver.getSettings().getOgpMode() == OGPConstants.OGP_MODE_THM_PROVING) {
 				output.openSubSection("Theorem statement: ", false);
 				output.openEnum(SpecialFileFormatting.ENUM_COMMAND_ITEMIZE);
 				output.writeEnumItem(this.theoremStatement.getStatementDesc());
 				output.closeEnum(SpecialFileFormatting.ENUM_COMMAND_ITEMIZE);
 				output.closeSubSection();
 			}
-			else if (OpenGeoProver.settings.getOgpMode() == OGPConstants.OGP_MODE_RC_CONSTRUCTIBILITY) {
+			else if (OpenGeoProver.getSettings().getOgpMode() == OGPConstants.OGP_MODE_RC_CONSTRUCTIBILITY) {
 				output.openSubSection("Free points: ", false);
 				output.openEnum(SpecialFileFormatting.ENUM_COMMAND_ITEMIZE);
 				for (Point pt : this.rcConsFreePoints.getPoints())
@@ -670,7 +694,7 @@ public class OGPTP {
 			
 			// Empty Construction Protocol is valid so don't check number of constructions
 			// Check if statement is set
-			if (OpenGeoProver.settings.getOgpMode() == OGPConstants.OGP_MODE_THM_PROVING && this.theoremStatement == null) {
+			if (OpenGeoProver.getSettings().getOgpMode() == OGPConstants.OGP_MODE_THM_PROVING && this.theoremStatement == null) {
 				output.openItemWithDesc("Error: ");
 				output.closeItemWithDesc("There is no theorem statement");
 				valid = false;
@@ -714,7 +738,7 @@ public class OGPTP {
 				}
 			}
 			
-			if (OpenGeoProver.settings.getOgpMode() == OGPConstants.OGP_MODE_THM_PROVING) {
+			if (OpenGeoProver.getSettings().getOgpMode() == OGPConstants.OGP_MODE_THM_PROVING) {
 				if (this.theoremStatement.isValid() == false) {
 					output.openItemWithDesc("Error: ");
 					output.closeItemWithDesc("Theorem statement is not valid");
@@ -727,7 +751,7 @@ public class OGPTP {
 				else
 					output.closeItemWithDesc("Theorem protocol is not valid - cannot proceed.");
 			}
-			else if (OpenGeoProver.settings.getOgpMode() == OGPConstants.OGP_MODE_RC_CONSTRUCTIBILITY) {
+			else if (OpenGeoProver.getSettings().getOgpMode() == OGPConstants.OGP_MODE_RC_CONSTRUCTIBILITY) {
 				Vector<Point> tempPointList = new Vector<Point>();
 				for (Point pt: this.rcConsFreePoints.getPoints()) {
 					if (tempPointList.indexOf(pt) != -1) {
@@ -866,10 +890,10 @@ public class OGPTP {
 	 * @return	SUCCESS on successful execution or general error otherwise
 	 */
 	public int convertToAlgebraicForm() {
-		OGPOutput output = OpenGeoProver.settings.getOutput();
-		ILogger logger = OpenGeoProver.settings.getLogger();
+		OGPOutput output = OpenGeoProver.getSettings().getOutput();
+		ILogger logger = OpenGeoProver.getSettings().getLogger();
 		
-		if (OpenGeoProver.settings.getOgpMode() != OGPConstants.OGP_MODE_THM_PROVING) {
+		if (OpenGeoProver.getSettings().getOgpMode() != OGPConstants.OGP_MODE_THM_PROVING) {
 			logger.error("Trying to convert theorem to algebraic form when problem is not theorem proving.");
 			return OGPConstants.ERR_CODE_GENERAL;
 		}
@@ -880,7 +904,9 @@ public class OGPTP {
 		this.setNumberOfZeroCoordinates();
 		
 		// Remove unnecessary geometry objects
+		OGPMetrics.Measurement simplifyMeasurement = OpenGeoProver.getSettings().getMetrics().start(OGPMetrics.PHASE_SIMPLIFY);
 		this.simplify();
+		simplifyMeasurement.stop();
 		
 		try {
 			//output.openSection("Transformation of Construction Protocol to algebraic form");
@@ -944,15 +970,15 @@ public class OGPTP {
 	 * Method which simplifies CP by removing all constructions that are not necessary for theorem statement.
 	 */
 	public void simplify() {
-		ILogger logger = OpenGeoProver.settings.getLogger();
+		ILogger logger = OpenGeoProver.getSettings().getLogger();
 		
-		if ((OpenGeoProver.settings.getOgpMode() == OGPConstants.OGP_MODE_THM_PROVING && this.theoremStatement == null) || this.constructionMap == null)
+		if ((OpenGeoProver.getSettings().getOgpMode() == OGPConstants.OGP_MODE_THM_PROVING && this.theoremStatement == null) || this.constructionMap == null)
 			return;
 		
 		Map<String, String> usedLabelsMap = new HashMap<String, String>();
 		Vector<String> usedLabelsList = new Vector<String>();
 		
-		if (OpenGeoProver.settings.getOgpMode() == OGPConstants.OGP_MODE_THM_PROVING) {
+		if (OpenGeoProver.getSettings().getOgpMode() == OGPConstants.OGP_MODE_THM_PROVING) {
 			// labels from statement
 			String[] statementInputLabels = this.theoremStatement.getInputLabels();
 			if (statementInputLabels == null) {
@@ -966,7 +992,7 @@ public class OGPTP {
 				}
 			}
 		}
-		else if (OpenGeoProver.settings.getOgpMode() == OGPConstants.OGP_MODE_RC_CONSTRUCTIBILITY) {
+		else if (OpenGeoProver.getSettings().getOgpMode() == OGPConstants.OGP_MODE_RC_CONSTRUCTIBILITY) {
 			for (Point pt : this.rcConsFreePoints.getPoints()) {
 				String label = pt.getGeoObjectLabel();
 				if (usedLabelsMap.get(label) == null) {
@@ -1003,7 +1029,7 @@ public class OGPTP {
 			if (usedLabelsMap.get(gc.getGeoObjectLabel()) == null) {
 				this.removeGeoConstruction(gc);
 				
-				if (OpenGeoProver.settings.getOgpMode() == OGPConstants.OGP_MODE_RC_CONSTRUCTIBILITY) {
+				if (OpenGeoProver.getSettings().getOgpMode() == OGPConstants.OGP_MODE_RC_CONSTRUCTIBILITY) {
 					if (this.rcConsFreePoints.getPoints().contains(gc))
 						this.rcConsFreePoints.getPoints().remove(gc);
 				}
@@ -1164,113 +1190,29 @@ public class OGPTP {
 	 * 						or null in case of error
 	 */
 	public static XPolynomial instantiateCondition(SymbolicPolynomial condition, Map<String, Point> pointsMap) {
-		XPolynomial result = new XPolynomial(); // empty polynomial
-		
-		// Instantiate one by one term of symbolic polynomial representing the condition
-		// and then add to the resulting XPolynomial
-		for (Term st : condition.getTermsAsDescList()) {
-			// instances of powers will be temporarily split into two maps
-			// to provide merging of powers of same U or X variables;
-			// e.g. term x0*xA could be instantiated with u1 * u1 = u1 ^2
-			// Although method addPower() from Term class does the merging of degrees
-			// of powers of same variable, we do extra merging here to make adding
-			// powers to term faster and to save some memory here - but this solution
-			// could be skipped
-			Map<UXVariable, Power> uPowers = new HashMap<UXVariable, Power>();
-			Map<UXVariable, Power> xPowers = new HashMap<UXVariable, Power>();
-			
-			boolean isZeroTerm = false;
-			// Process powers of current symbolic term one by one
-			for (Power pow : st.getPowers()) {
-				Power powerInstance;
-				SymbolicVariable sv = (SymbolicVariable)pow.getVariable();
-				String pointLabel = sv.getPointLabel();
-				short varType = sv.getVariableType();
-				Point P = pointsMap.get(pointLabel);
-				
-				if (P == null) {
-					OpenGeoProver.settings.getLogger().error("Failed to find point with specified label " + pointLabel + " during instantiation of condition");
-					return null;
-				}
-				
-				if (varType == Variable.VAR_TYPE_SYMB_X) {
-					powerInstance = new Power(P.getX().clone(), pow.getExponent());
-				}
-				else if (varType == Variable.VAR_TYPE_SYMB_Y) {
-					powerInstance = new Power(P.getY().clone(), pow.getExponent());
-				}
-				else {
-					OpenGeoProver.settings.getLogger().error("Non-symbolic variable obtained when symbolic was excpected");
-					return null;
-				}
-				
-				// check the type of the power instance and add into proper place
-				short newVarType = powerInstance.getVarType();
-				
-				if (newVarType == Variable.VAR_TYPE_UX_U) {
-					// check whether power is zero - in that case whole term is zero
-					// and will not be added to resulting XPolynomial
-					if (powerInstance.getIndex() == 0) {
-						isZeroTerm = true;
-						break;
-					}
-					
-					// check whether power for this u-variable has been already added
-					Power currPower = uPowers.get(powerInstance.getVariable());
-					
-					if (currPower == null) {
-						// if new variable, just add its power into map
-						uPowers.put((UXVariable)powerInstance.getVariable(), powerInstance);
-					}
-					else {
-						// if existing variable, then merge exponents of existing and current powers
-						currPower.addToExponent(powerInstance.getExponent());
-					}
-				}
-				else if (newVarType == Variable.VAR_TYPE_UX_X) {
-					// check whether power for this x-variable has been already added
-					Power currPower = xPowers.get(powerInstance.getVariable());
-					
-					if (currPower == null) {
-						// if new variable, just add its power into map
-						xPowers.put((UXVariable)powerInstance.getVariable(), powerInstance);
-					}
-					else {
-						// if existing variable, then merge exponents of existing and current powers
-						currPower.addToExponent(powerInstance.getExponent());
-					}
-				}
-				else {
-					OpenGeoProver.settings.getLogger().error("Power is not instantiated by UX variable");
-					return null;
-				}
-			}
-			
-			// If zero term obtained as instance, skip it
-			if (isZeroTerm)
-				continue;
-			
-			// instantiate XTerm of this symbolic term
-			UTerm ut = new UTerm(((SymbolicTerm)st).getCoeff());
-			
-			for (Power upow : uPowers.values()) {
-				ut.addPower(upow);
-			}
-			
-			UPolynomial up = new UPolynomial();
-			up.addTerm(ut);
-			UFraction uf = new UFraction(up);
-			XTerm xt = new XTerm(uf);
+		// Condition is compiled only once (static conditions of sets of points are
+		// instantiated many times, for various points) - here coordinates of points
+		// are just looked up and substituted for slots of compiled condition
+		CompiledSymbolicPolynomial compiled = condition.getCompiledForm();
+		
+		if (!compiled.isValid())
+			return null; // error is logged during compilation
+		
+		String[] pointLabels = compiled.getPointLabels();
+		UXVariable[] pointCoordinates = new UXVariable[2*pointLabels.length];
+		
+		for (int ii = 0; ii < pointLabels.length; ii++) {
+			Point P = pointsMap.get(pointLabels[ii]);
 			
-			for (Power xpow : xPowers.values()) {
-				xt.addPower(xpow);
+			if (P == null) {
+				OpenGeoProver.getSettings().getLogger().error("Failed to find point with specified label " + pointLabels[ii] + " during instantiation of condition");
+				return null;
 			}
-			
-			// add current instantiated XTerm to resulting polynomial
-			result.addTerm(xt);
+			pointCoordinates[2*ii] = P.getX();
+			pointCoordinates[2*ii + 1] = P.getY();
 		}
 		
-		return result;
+		return compiled.instantiate(pointCoordinates);
 	}
 	
 	public boolean isPolynomialConsequenceOfConstructions(XPolynomial xpoly) {
@@ -1279,8 +1221,10 @@ public class OGPTP {
 		if (xpoly.isZero())
 			return true;
 		
-		// If it is not zero, check whether it is already added to system of polynomials;
-		// if that's the case then given polynomial is consequence of constructions;
+		// If it is not zero, check whether it is already added to system of polynomials
+		// (possibly multiplied by real factor); if that's the case then given polynomial 
+		// is consequence of constructions. Polynomials of system are found by their hash
+		// index, which is brought up to date with system here;
 		// in common case we should check other types of dependencies like 
 		// complex forms of linear (or even other) dependencies of this polynomial
 		// and other polynomials from system to see if this instantiated polynomial
@@ -1289,12 +1233,9 @@ public class OGPTP {
 		// to increase the complexity of transformation to algebraic form so this
 		// complex check will be skipped unless something urgent happens that will change
 		// this decision.
-		for (XPolynomial xp : this.getAlgebraicGeoTheorem().getHypotheses().getPolynomials()) {
-			if (xpoly.clone().subtractPolynomial(xp).isZero())
-				return true;
-		}
+		this.hypothesesIndex.update(this.getAlgebraicGeoTheorem().getHypotheses().getPolynomials());
 		
-		return false;
+		return this.hypothesesIndex.isRedundant(xpoly);
 	}
 	
 	/**
@@ -1316,15 +1257,42 @@ public class OGPTP {
 		}
 		
 		if (this.algebraicNDGConditions == null) {
-			OpenGeoProver.settings.getLogger().error("Failed to fill in objects for NDG conditions");
+			OpenGeoProver.getSettings().getLogger().error("Failed to fill in objects for NDG conditions");
 			return OGPConstants.ERR_CODE_GENERAL;
 		}
 		
+		// Equal NDG conditions have same readable form, so only first of them is translated
+		// and others take its translation; translated conditions are indexed by hash code of
+		// x-monomials of their polynomials
+		Map<Integer, Vector<AlgebraicNDGCondition>> translatedNDGConditions = new HashMap<Integer, Vector<AlgebraicNDGCondition>>();
+		
 		for (AlgebraicNDGCondition ndgCond : this.algebraicNDGConditions) {
+			Integer key = Integer.valueOf(ndgCond.getPolynomialHashCode());
+			Vector<AlgebraicNDGCondition> translated = translatedNDGConditions.get(key);
+			AlgebraicNDGCondition equalNDGCond = null;
+			
+			if (translated == null) {
+				translated = new Vector<AlgebraicNDGCondition>();
+				translatedNDGConditions.put(key, translated);
+			}
+			
+			for (AlgebraicNDGCondition translatedNDGCond : translated) {
+				if (translatedNDGCond.getPolynomial().equals(ndgCond.getPolynomial())) {
+					equalNDGCond = translatedNDGCond;
+					break;
+				}
+			}
+			
+			if (equalNDGCond != null) {
+				ndgCond.copyTranslation(equalNDGCond);
+				continue;
+			}
+			
 			if (ndgCond.transformToUserReadableForm() != OGPConstants.RET_CODE_SUCCESS) {
-				OpenGeoProver.settings.getLogger().error("Failed to translate NDG condition " + ndgCond.getPolynomial().print());
+				OpenGeoProver.getSettings().getLogger().error("Failed to translate NDG condition " + ndgCond.getPolynomial().print());
 				return OGPConstants.ERR_CODE_GENERAL;
 			}
+			translated.add(ndgCond);
 		}
 		
 		return OGPConstants.RET_CODE_SUCCESS;
@@ -1343,7 +1311,11 @@ public class OGPTP {
 	 * @return	List with NDG conditions.
 	 */
 	public Vector<String> exportTranslatedNDGConditions() {
-		if (this.translateNDGConditionsToUserReadableForm() != OGPConstants.RET_CODE_SUCCESS)
+		OGPMetrics.Measurement measurement = OpenGeoProver.getSettings().getMetrics().start(OGPMetrics.PHASE_NDG_TRANSLATION);
+		int retCode = this.translateNDGConditionsToUserReadableForm();
+		
+		measurement.stop();
+		if (retCode != OGPConstants.RET_CODE_SUCCESS)
 			return null;
 		
 		Map<String, String> ndgMap = new HashMap<String, String>();
@@ -1375,17 +1347,10 @@ public class OGPTP {
 	}
 	
 	/**
-	 * Method that searches for all combinations of points whose at least one
-	 * coordinate equals zero. E.g. if A, B and C are points with zero coordinate(s)
-	 * then this method populates zeroPoints list with all combinations:
-	 * 
-	 * A
-	 * B
-	 * C
-	 * A B
-	 * A C
-	 * B C
-	 * A B C
+	 * Method that searches for all points whose at least one coordinate equals zero
+	 * and populates zeroPoints list with them. Combinations of these points are
+	 * not created here - they are enumerated as bit masks over this list when
+	 * merged with points of NDG condition (see PointListManager.createMergedCombinations()).
 	 */
 	private void populateZeroPoints() {
 		Vector<Point> allZeroPoints = new Vector<Point>();
@@ -1402,8 +1367,7 @@ public class OGPTP {
 			}
 		}
 		
-		this.zeroPoints = PointListManager.createListOfCombinations(allZeroPoints);
-		this.zeroPoints.add(new Vector<Point>()); // add empty list for merging without zero points
+		this.zeroPoints = allZeroPoints;
 	}
 	
 	/**
@@ -1424,7 +1388,7 @@ public class OGPTP {
 			varMap.put(uxV.toString(), uxV);
 		
 		if (varList.size() != varMap.size()) {
-			OpenGeoProver.settings.getLogger().error("Passed in list of variables contains duplicates.");
+			OpenGeoProver.getSettings().getLogger().error("Passed in list of variables contains duplicates.");
 			return null;
 		}
 		
@@ -1435,7 +1399,7 @@ public class OGPTP {
 			Point p = (Point)gc; // safe cast
 			
 			if (p.getPointState() == Point.POINT_STATE_INITIALIZED) {
-				OpenGeoProver.settings.getLogger().error("Point not yet instantiated.");
+				OpenGeoProver.getSettings().getLogger().error("Point not yet instantiated.");
 				return null;
 			}
 			
@@ -1443,7 +1407,7 @@ public class OGPTP {
 			UXVariable yVar = p.getY();
 			
 			if (xVar == null || yVar == null) {
-				OpenGeoProver.settings.getLogger().error("Point doesn't have coordinates.");
+				OpenGeoProver.getSettings().getLogger().error("Point doesn't have coordinates.");
 				return null;
 			}
 			
@@ -1474,7 +1438,7 @@ public class OGPTP {
 		
 		// Check if all variables were processed
 		if (resultMap.size() != varMap.size()) {
-			OpenGeoProver.settings.getLogger().error("Not all variables were successfully processed.");
+			OpenGeoProver.getSettings().getLogger().error("Not all variables were successfully processed.");
 			return null;
 		}
 		
@@ -1491,11 +1455,11 @@ public class OGPTP {
 	 * @return	Execution code (SUCCESS or Error code)
 	 */
 	public int transformRcConsProblemToPolynomialForm() {
-		ILogger logger = OpenGeoProver.settings.getLogger();
-		boolean writeToReport = OpenGeoProver.settings.getParameters().createReport();
-		OGPOutput output = OpenGeoProver.settings.getOutput();
+		ILogger logger = OpenGeoProver.getSettings().getLogger();
+		boolean writeToReport = OpenGeoProver.getSettings().getParameters().createReport();
+		OGPOutput output = OpenGeoProver.getSettings().getOutput();
 		
-		if (OpenGeoProver.settings.getOgpMode() != OGPConstants.OGP_MODE_RC_CONSTRUCTIBILITY) {
+		if (OpenGeoProver.getSettings().getOgpMode() != OGPConstants.OGP_MODE_RC_CONSTRUCTIBILITY) {
 			logger.error("Cannot call transformation of RC-constructibility problem to polynomial form with inappropriate OGP execution mode.");
 			return OGPConstants.ERR_CODE_GENERAL;
 		}
@@ -1519,7 +1483,9 @@ public class OGPTP {
 		/*
 		 * Simplify and validate construction protocol
 		 */
+		OGPMetrics.Measurement simplifyMeasurement = OpenGeoProver.getSettings().getMetrics().start(OGPMetrics.PHASE_SIMPLIFY);
 		this.simplify();
+		simplifyMeasurement.stop();
 		if (!this.isValid()) {
 			logger.error("Constructibility problem is not valid");
 			return OGPConstants.ERR_CODE_GENERAL;
@@ -1735,9 +1701,9 @@ public class OGPTP {
 	 * @return						Execution code
 	 */
 	private int instantiatePointsForRcConsProblem(int[] numXCoordinates) {
-		ILogger logger = OpenGeoProver.settings.getLogger();
-		boolean writeToReport = OpenGeoProver.settings.getParameters().createReport();
-		OGPOutput output = OpenGeoProver.settings.getOutput();
+		ILogger logger = OpenGeoProver.getSettings().getLogger();
+		boolean writeToReport = OpenGeoProver.getSettings().getParameters().createReport();
+		OGPOutput output = OpenGeoProver.getSettings().getOutput();
 		
 		numXCoordinates[0] = 0;
 		if (writeToReport) {
@@ -1987,9 +1953,9 @@ public class OGPTP {
 	 * @return						Execution code
 	 */
 	private int transformGeometryConditionsForRcConsProblem(int[] numPolyConstraints) {
-		ILogger logger = OpenGeoProver.settings.getLogger();
-		boolean writeToReport = OpenGeoProver.settings.getParameters().createReport();
-		OGPOutput output = OpenGeoProver.settings.getOutput();
+		ILogger logger = OpenGeoProver.getSettings().getLogger();
+		boolean writeToReport = OpenGeoProver.getSettings().getParameters().createReport();
+		OGPOutput output = OpenGeoProver.getSettings().getOutput();
 		
 		numPolyConstraints[0] = 0;
 		if (writeToReport) {
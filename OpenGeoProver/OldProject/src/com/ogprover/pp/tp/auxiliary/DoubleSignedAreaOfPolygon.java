@@ -117,7 +117,7 @@ public class DoubleSignedAreaOfPolygon {
 		
 		// Check if it is possible to do a calculation
 		if (this.vertices == null || this.vertices.size() < 3) {
-			OpenGeoProver.settings.getLogger().error("There are no enough vertices in polygon.");
+			OpenGeoProver.getSettings().getLogger().error("There are no enough vertices in polygon.");
 			return;
 		}
 		
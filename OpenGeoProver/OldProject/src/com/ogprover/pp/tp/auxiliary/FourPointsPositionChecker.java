@@ -6,9 +6,11 @@ package com.ogprover.pp.tp.auxiliary;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Vector;
 
+import com.ogprover.polynomials.PositionPolynomialForm;
 import com.ogprover.polynomials.UXVariable;
 import com.ogprover.polynomials.XPolynomial;
 import com.ogprover.pp.tp.geoconstruction.AngleBisector;
@@ -103,20 +105,26 @@ public class FourPointsPositionChecker extends PointsPositionChecker {
 	 * @return		True if condition is met, false otherwise
 	 */
 	private boolean checkFourCollinearPoints(Point A, Point B, Point C, Point D) {
-		this.clearAuxCP();
-		this.auxiliaryCP.addGeoConstruction(A);
-		this.auxiliaryCP.addGeoConstruction(B);
-		this.auxiliaryCP.addGeoConstruction(C);
-		this.auxiliaryCP.addGeoConstruction(D);
-		ArrayList<Point> pointList = new ArrayList<Point>();
-		pointList.add(A);
-		pointList.add(B);
-		pointList.add(C);
-		pointList.add(D);
-		this.auxiliaryCP.addThmStatement(new CollinearPoints(pointList));
-		XPolynomial statementPoly = this.auxiliaryCP.getTheoremStatement().getAlgebraicForm();
-		
-		if (statementPoly != null && statementPoly.matchesNDGCPolynomial(this.ndgCond.getPolynomial())) {
+		List<String> positionKey = PointsPositionChecker.getPositionKey("checkFourCollinearPoints", A, B, C, D);
+		PositionPolynomialForm form = this.getPositionForm(positionKey);
+		
+		if (form == null) {
+			this.clearAuxCP();
+			this.auxiliaryCP.addGeoConstruction(A);
+			this.auxiliaryCP.addGeoConstruction(B);
+			this.auxiliaryCP.addGeoConstruction(C);
+			this.auxiliaryCP.addGeoConstruction(D);
+			ArrayList<Point> pointList = new ArrayList<Point>();
+			pointList.add(A);
+			pointList.add(B);
+			pointList.add(C);
+			pointList.add(D);
+			this.auxiliaryCP.addThmStatement(new CollinearPoints(pointList));
+			XPolynomial statementPoly = this.auxiliaryCP.getTheoremStatement().getAlgebraicForm();
+			form = this.savePositionForm(positionKey, statementPoly);
+		}
+		
+		if (this.matchesNDGCondition(form)) {
 			Vector<Point> pointsV = new Vector<Point>();
 			pointsV.add(A);
 			pointsV.add(B);
@@ -159,20 +167,26 @@ public class FourPointsPositionChecker extends PointsPositionChecker {
 		if (xVarMap.size() <= 2 || yVarMap.size() <= 2) // at least three points have one same coordinate 
 			return false; // found at least three collinear points
 		
-		this.clearAuxCP();
-		this.auxiliaryCP.addGeoConstruction(A);
-		this.auxiliaryCP.addGeoConstruction(B);
-		this.auxiliaryCP.addGeoConstruction(C);
-		this.auxiliaryCP.addGeoConstruction(D);
-		ArrayList<Point> pointList = new ArrayList<Point>();
-		pointList.add(A);
-		pointList.add(B);
-		pointList.add(C);
-		pointList.add(D);
-		this.auxiliaryCP.addThmStatement(new ConcyclicPoints(pointList));
-		XPolynomial statementPoly = this.auxiliaryCP.getTheoremStatement().getAlgebraicForm();
-		
-		if (statementPoly != null && statementPoly.matchesNDGCPolynomial(this.ndgCond.getPolynomial())) {
+		List<String> positionKey = PointsPositionChecker.getPositionKey("checkFourConcyclicPoints", A, B, C, D);
+		PositionPolynomialForm form = this.getPositionForm(positionKey);
+		
+		if (form == null) {
+			this.clearAuxCP();
+			this.auxiliaryCP.addGeoConstruction(A);
+			this.auxiliaryCP.addGeoConstruction(B);
+			this.auxiliaryCP.addGeoConstruction(C);
+			this.auxiliaryCP.addGeoConstruction(D);
+			ArrayList<Point> pointList = new ArrayList<Point>();
+			pointList.add(A);
+			pointList.add(B);
+			pointList.add(C);
+			pointList.add(D);
+			this.auxiliaryCP.addThmStatement(new ConcyclicPoints(pointList));
+			XPolynomial statementPoly = this.auxiliaryCP.getTheoremStatement().getAlgebraicForm();
+			form = this.savePositionForm(positionKey, statementPoly);
+		}
+		
+		if (this.matchesNDGCondition(form)) {
 			Vector<Point> pointsV = new Vector<Point>();
 			pointsV.add(A);
 			pointsV.add(B);
@@ -195,15 +209,21 @@ public class FourPointsPositionChecker extends PointsPositionChecker {
 	 * @return		True if condition is met, false otherwise
 	 */
 	private boolean checkEqualSegments(Point A, Point B, Point C, Point D) {
-		this.clearAuxCP();
-		this.auxiliaryCP.addGeoConstruction(A);
-		this.auxiliaryCP.addGeoConstruction(B);
-		this.auxiliaryCP.addGeoConstruction(C);
-		this.auxiliaryCP.addGeoConstruction(D);
-		this.auxiliaryCP.addThmStatement(new SegmentsOfEqualLengths(A, B, C, D));
-		XPolynomial statementPoly = this.auxiliaryCP.getTheoremStatement().getAlgebraicForm();
-		
-		if (statementPoly != null && statementPoly.matchesNDGCPolynomial(this.ndgCond.getPolynomial())) {
+		List<String> positionKey = PointsPositionChecker.getPositionKey("checkEqualSegments", A, B, C, D);
+		PositionPolynomialForm form = this.getPositionForm(positionKey);
+		
+		if (form == null) {
+			this.clearAuxCP();
+			this.auxiliaryCP.addGeoConstruction(A);
+			this.auxiliaryCP.addGeoConstruction(B);
+			this.auxiliaryCP.addGeoConstruction(C);
+			this.auxiliaryCP.addGeoConstruction(D);
+			this.auxiliaryCP.addThmStatement(new SegmentsOfEqualLengths(A, B, C, D));
+			XPolynomial statementPoly = this.auxiliaryCP.getTheoremStatement().getAlgebraicForm();
+			form = this.savePositionForm(positionKey, statementPoly);
+		}
+		
+		if (this.matchesNDGCondition(form)) {
 			Vector<Point> pointsV = new Vector<Point>();
 			pointsV.add(A);
 			pointsV.add(B);
@@ -226,19 +246,25 @@ public class FourPointsPositionChecker extends PointsPositionChecker {
 	 * @return		True if condition is met, false otherwise
 	 */
 	private boolean checkParallelLines(Point A, Point B, Point C, Point D) {
-		this.clearAuxCP();
-		this.auxiliaryCP.addGeoConstruction(A);
-		this.auxiliaryCP.addGeoConstruction(B);
-		this.auxiliaryCP.addGeoConstruction(C);
-		this.auxiliaryCP.addGeoConstruction(D);
-		Line AB = new LineThroughTwoPoints("AB", A, B);
-		this.auxiliaryCP.addGeoConstruction(AB);
-		Line CD = new LineThroughTwoPoints("CD", C, D);
-		this.auxiliaryCP.addGeoConstruction(CD);
-		this.auxiliaryCP.addThmStatement(new TwoParallelLines(AB, CD));
-		XPolynomial statementPoly = this.auxiliaryCP.getTheoremStatement().getAlgebraicForm();
-		
-		if (statementPoly != null && statementPoly.matchesNDGCPolynomial(this.ndgCond.getPolynomial())) {
+		List<String> positionKey = PointsPositionChecker.getPositionKey("checkParallelLines", A, B, C, D);
+		PositionPolynomialForm form = this.getPositionForm(positionKey);
+		
+		if (form == null) {
+			this.clearAuxCP();
+			this.auxiliaryCP.addGeoConstruction(A);
+			this.auxiliaryCP.addGeoConstruction(B);
+			this.auxiliaryCP.addGeoConstruction(C);
+			this.auxiliaryCP.addGeoConstruction(D);
+			Line AB = new LineThroughTwoPoints("AB", A, B);
+			this.auxiliaryCP.addGeoConstruction(AB);
+			Line CD = new LineThroughTwoPoints("CD", C, D);
+			this.auxiliaryCP.addGeoConstruction(CD);
+			this.auxiliaryCP.addThmStatement(new TwoParallelLines(AB, CD));
+			XPolynomial statementPoly = this.auxiliaryCP.getTheoremStatement().getAlgebraicForm();
+			form = this.savePositionForm(positionKey, statementPoly);
+		}
+		
+		if (this.matchesNDGCondition(form)) {
 			Vector<Point> pointsV = new Vector<Point>();
 			pointsV.add(A);
 			pointsV.add(B);
@@ -261,19 +287,25 @@ public class FourPointsPositionChecker extends PointsPositionChecker {
 	 * @return		True if condition is met, false otherwise
 	 */
 	private boolean checkPerpendicularLines(Point A, Point B, Point C, Point D) {
-		this.clearAuxCP();
-		this.auxiliaryCP.addGeoConstruction(A);
-		this.auxiliaryCP.addGeoConstruction(B);
-		this.auxiliaryCP.addGeoConstruction(C);
-		this.auxiliaryCP.addGeoConstruction(D);
-		Line AB = new LineThroughTwoPoints("AB", A, B);
-		this.auxiliaryCP.addGeoConstruction(AB);
-		Line CD = new LineThroughTwoPoints("CD", C, D);
-		this.auxiliaryCP.addGeoConstruction(CD);
-		this.auxiliaryCP.addThmStatement(new TwoPerpendicularLines(AB, CD));
-		XPolynomial statementPoly = this.auxiliaryCP.getTheoremStatement().getAlgebraicForm();
-		
-		if (statementPoly != null && statementPoly.matchesNDGCPolynomial(this.ndgCond.getPolynomial())) {
+		List<String> positionKey = PointsPositionChecker.getPositionKey("checkPerpendicularLines", A, B, C, D);
+		PositionPolynomialForm form = this.getPositionForm(positionKey);
+		
+		if (form == null) {
+			this.clearAuxCP();
+			this.auxiliaryCP.addGeoConstruction(A);
+			this.auxiliaryCP.addGeoConstruction(B);
+			this.auxiliaryCP.addGeoConstruction(C);
+			this.auxiliaryCP.addGeoConstruction(D);
+			Line AB = new LineThroughTwoPoints("AB", A, B);
+			this.auxiliaryCP.addGeoConstruction(AB);
+			Line CD = new LineThroughTwoPoints("CD", C, D);
+			this.auxiliaryCP.addGeoConstruction(CD);
+			this.auxiliaryCP.addThmStatement(new TwoPerpendicularLines(AB, CD));
+			XPolynomial statementPoly = this.auxiliaryCP.getTheoremStatement().getAlgebraicForm();
+			form = this.savePositionForm(positionKey, statementPoly);
+		}
+		
+		if (this.matchesNDGCondition(form)) {
 			Vector<Point> pointsV = new Vector<Point>();
 			pointsV.add(A);
 			pointsV.add(B);
@@ -296,23 +328,27 @@ public class FourPointsPositionChecker extends PointsPositionChecker {
 	 * @return		True if condition is met, false otherwise
 	 */
 	private boolean checkHarmonicConjugatePoints(Point A, Point B, Point C, Point D) {
-		this.clearAuxCP();
-		this.auxiliaryCP.addGeoConstruction(A);
-		this.auxiliaryCP.addGeoConstruction(B);
-		this.auxiliaryCP.addGeoConstruction(C);
-		this.auxiliaryCP.addGeoConstruction(D);
-		this.auxiliaryCP.addThmStatement(new FourHarmonicConjugatePoints(A, B, C, D));
-		XPolynomial statementXPoly = ((FourHarmonicConjugatePoints) this.auxiliaryCP.getTheoremStatement()).getXAlgebraicForm();
-		XPolynomial statementYPoly = ((FourHarmonicConjugatePoints) this.auxiliaryCP.getTheoremStatement()).getYAlgebraicForm();
-		XPolynomial statementPoly = null;
-		
-		if (statementXPoly != null && statementYPoly != null)
-			statementPoly = (XPolynomial)statementXPoly.clone().multiplyByPolynomial(statementXPoly)
-		                  .addPolynomial(statementYPoly.clone().multiplyByPolynomial(statementYPoly));
-		
-		if ((statementXPoly != null && statementXPoly.matchesNDGCPolynomial(this.ndgCond.getPolynomial())) ||
-			(statementYPoly != null && statementYPoly.matchesNDGCPolynomial(this.ndgCond.getPolynomial())) ||
-			(statementPoly != null && statementPoly.matchesNDGCPolynomial(this.ndgCond.getPolynomial()))) {
+		List<String> positionKey = PointsPositionChecker.getPositionKey("checkHarmonicConjugatePoints", A, B, C, D);
+		PositionPolynomialForm form = this.getPositionForm(positionKey);
+		
+		if (form == null) {
+			this.clearAuxCP();
+			this.auxiliaryCP.addGeoConstruction(A);
+			this.auxiliaryCP.addGeoConstruction(B);
+			this.auxiliaryCP.addGeoConstruction(C);
+			this.auxiliaryCP.addGeoConstruction(D);
+			this.auxiliaryCP.addThmStatement(new FourHarmonicConjugatePoints(A, B, C, D));
+			XPolynomial statementXPoly = ((FourHarmonicConjugatePoints) this.auxiliaryCP.getTheoremStatement()).getXAlgebraicForm();
+			XPolynomial statementYPoly = ((FourHarmonicConjugatePoints) this.auxiliaryCP.getTheoremStatement()).getYAlgebraicForm();
+			XPolynomial statementPoly = null;
+			
+			if (statementXPoly != null && statementYPoly != null)
+				statementPoly = (XPolynomial)statementXPoly.clone().multiplyByPolynomial(statementXPoly)
+			                  .addPolynomial(statementYPoly.clone().multiplyByPolynomial(statementYPoly));
+			form = this.savePositionForm(positionKey, statementXPoly, statementYPoly, statementPoly);
+		}
+		
+		if (this.matchesNDGCondition(form)) {
 			Vector<Point> pointsV = new Vector<Point>();
 			pointsV.add(A);
 			pointsV.add(B);
@@ -336,23 +372,29 @@ public class FourPointsPositionChecker extends PointsPositionChecker {
 	 * @return		True if condition is met, false otherwise
 	 */
 	private boolean checkCongruentCollinearSegments(Point A, Point B, Point C, Point D) {
-		this.clearAuxCP();
-		this.auxiliaryCP.addGeoConstruction(A);
-		this.auxiliaryCP.addGeoConstruction(B);
-		this.auxiliaryCP.addGeoConstruction(C);
-		this.auxiliaryCP.addGeoConstruction(D);
-		Segment segAB = new Segment(A, B);
-		Segment segCD = new Segment(C, D);
-		Vector<Segment> segments = new Vector<Segment>();
-		segments.add(segAB);
-		segments.add(segCD);
-		Vector<Double> coefficients = new Vector<Double>();
-		coefficients.add(new Double(1));
-		coefficients.add(new Double(-1));
-		this.auxiliaryCP.addThmStatement(new LinearCombinationOfOrientedSegments(segments, coefficients));
-		XPolynomial statementPoly = this.auxiliaryCP.getTheoremStatement().getAlgebraicForm();
-		
-		if (statementPoly != null && statementPoly.matchesNDGCPolynomial(this.ndgCond.getPolynomial())) {
+		List<String> positionKey = PointsPositionChecker.getPositionKey("checkCongruentCollinearSegments", A, B, C, D);
+		PositionPolynomialForm form = this.getPositionForm(positionKey);
+		
+		if (form == null) {
+			this.clearAuxCP();
+			this.auxiliaryCP.addGeoConstruction(A);
+			this.auxiliaryCP.addGeoConstruction(B);
+			this.auxiliaryCP.addGeoConstruction(C);
+			this.auxiliaryCP.addGeoConstruction(D);
+			Segment segAB = new Segment(A, B);
+			Segment segCD = new Segment(C, D);
+			Vector<Segment> segments = new Vector<Segment>();
+			segments.add(segAB);
+			segments.add(segCD);
+			Vector<Double> coefficients = new Vector<Double>();
+			coefficients.add(new Double(1));
+			coefficients.add(new Double(-1));
+			this.auxiliaryCP.addThmStatement(new LinearCombinationOfOrientedSegments(segments, coefficients));
+			XPolynomial statementPoly = this.auxiliaryCP.getTheoremStatement().getAlgebraicForm();
+			form = this.savePositionForm(positionKey, statementPoly);
+		}
+		
+		if (this.matchesNDGCondition(form)) {
 			Vector<Point> pointsV = new Vector<Point>();
 			pointsV.add(A);
 			pointsV.add(B);
@@ -375,21 +417,27 @@ public class FourPointsPositionChecker extends PointsPositionChecker {
 	 * @return		True if condition is met, false otherwise
 	 */
 	private boolean checkAngleBisectorPoint(Point A, Point B, Point C, Point D) {
-		this.clearAuxCP();
-		this.auxiliaryCP.addGeoConstruction(A);
-		this.auxiliaryCP.addGeoConstruction(B);
-		this.auxiliaryCP.addGeoConstruction(C);
-		this.auxiliaryCP.addGeoConstruction(D);
-		StringBuilder nameSB = new StringBuilder("tempAngBis_");
-		nameSB.append(A.getGeoObjectLabel());
-		nameSB.append(B.getGeoObjectLabel());
-		nameSB.append(C.getGeoObjectLabel());
-		Line angBis = new AngleBisector(nameSB.toString(), A, B, C);
-		this.auxiliaryCP.addGeoConstruction(angBis);
-		this.auxiliaryCP.addThmStatement(new PointOnSetOfPoints(angBis, D));
-		XPolynomial statementPoly = this.auxiliaryCP.getTheoremStatement().getAlgebraicForm();
-		
-		if (statementPoly != null && statementPoly.matchesNDGCPolynomial(this.ndgCond.getPolynomial())) {
+		List<String> positionKey = PointsPositionChecker.getPositionKey("checkAngleBisectorPoint", A, B, C, D);
+		PositionPolynomialForm form = this.getPositionForm(positionKey);
+		
+		if (form == null) {
+			this.clearAuxCP();
+			this.auxiliaryCP.addGeoConstruction(A);
+			this.auxiliaryCP.addGeoConstruction(B);
+			this.auxiliaryCP.addGeoConstruction(C);
+			this.auxiliaryCP.addGeoConstruction(D);
+			StringBuilder nameSB = new StringBuilder("tempAngBis_");
+			nameSB.append(A.getGeoObjectLabel());
+			nameSB.append(B.getGeoObjectLabel());
+			nameSB.append(C.getGeoObjectLabel());
+			Line angBis = new AngleBisector(nameSB.toString(), A, B, C);
+			this.auxiliaryCP.addGeoConstruction(angBis);
+			this.auxiliaryCP.addThmStatement(new PointOnSetOfPoints(angBis, D));
+			XPolynomial statementPoly = this.auxiliaryCP.getTheoremStatement().getAlgebraicForm();
+			form = this.savePositionForm(positionKey, statementPoly);
+		}
+		
+		if (this.matchesNDGCondition(form)) {
 			Vector<Point> pointsV = new Vector<Point>();
 			pointsV.add(A);
 			pointsV.add(B);
@@ -412,24 +460,30 @@ public class FourPointsPositionChecker extends PointsPositionChecker {
 	 * @return		True if condition is met, false otherwise
 	 */
 	private boolean checkTwoPointsOnCircle(Point A, Point B, Point C, Point D) {
-		this.clearAuxCP();
-		this.auxiliaryCP.addGeoConstruction(A);
-		this.auxiliaryCP.addGeoConstruction(B);
-		this.auxiliaryCP.addGeoConstruction(C);
-		this.auxiliaryCP.addGeoConstruction(D);
-		Circle k = new CircleWithCenterAndPoint("tempCircle", A, B);
-		this.auxiliaryCP.addGeoConstruction(k);
-		this.auxiliaryCP.addThmStatement(new PointOnSetOfPoints(k, C));
-		XPolynomial statementPolyC = this.auxiliaryCP.getTheoremStatement().getAlgebraicForm();
-		this.auxiliaryCP.addThmStatement(new PointOnSetOfPoints(k, D));
-		XPolynomial statementPolyD = this.auxiliaryCP.getTheoremStatement().getAlgebraicForm();
-		XPolynomial statementPoly = null;
-		
-		if (statementPolyC != null && statementPolyD != null)
-			statementPoly = (XPolynomial) statementPolyC.clone().multiplyByPolynomial(statementPolyC)
-			                                                    .addPolynomial(statementPolyD.clone().multiplyByPolynomial(statementPolyD));
-		
-		if (statementPoly != null && statementPoly.matchesNDGCPolynomial(this.ndgCond.getPolynomial())) {
+		List<String> positionKey = PointsPositionChecker.getPositionKey("checkTwoPointsOnCircle", A, B, C, D);
+		PositionPolynomialForm form = this.getPositionForm(positionKey);
+		
+		if (form == null) {
+			this.clearAuxCP();
+			this.auxiliaryCP.addGeoConstruction(A);
+			this.auxiliaryCP.addGeoConstruction(B);
+			this.auxiliaryCP.addGeoConstruction(C);
+			this.auxiliaryCP.addGeoConstruction(D);
+			Circle k = new CircleWithCenterAndPoint("tempCircle", A, B);
+			this.auxiliaryCP.addGeoConstruction(k);
+			this.auxiliaryCP.addThmStatement(new PointOnSetOfPoints(k, C));
+			XPolynomial statementPolyC = this.auxiliaryCP.getTheoremStatement().getAlgebraicForm();
+			this.auxiliaryCP.addThmStatement(new PointOnSetOfPoints(k, D));
+			XPolynomial statementPolyD = this.auxiliaryCP.getTheoremStatement().getAlgebraicForm();
+			XPolynomial statementPoly = null;
+			
+			if (statementPolyC != null && statementPolyD != null)
+				statementPoly = (XPolynomial) statementPolyC.clone().multiplyByPolynomial(statementPolyC)
+				                                                    .addPolynomial(statementPolyD.clone().multiplyByPolynomial(statementPolyD));
+			form = this.savePositionForm(positionKey, statementPoly);
+		}
+		
+		if (this.matchesNDGCondition(form)) {
 			Vector<Point> pointsV = new Vector<Point>();
 			pointsV.add(A);
 			pointsV.add(B);
@@ -452,17 +506,23 @@ public class FourPointsPositionChecker extends PointsPositionChecker {
 	 * @return		True if condition is met, false otherwise
 	 */
 	private boolean checkPointOnCircle(Point A, Point B, Point C, Point D) {
-		this.clearAuxCP();
-		this.auxiliaryCP.addGeoConstruction(A);
-		this.auxiliaryCP.addGeoConstruction(B);
-		this.auxiliaryCP.addGeoConstruction(C);
-		this.auxiliaryCP.addGeoConstruction(D);
-		Circle k = new CircleWithCenterAndRadius("tempCircle", A, B, C);
-		this.auxiliaryCP.addGeoConstruction(k);
-		this.auxiliaryCP.addThmStatement(new PointOnSetOfPoints(k, D));
-		XPolynomial statementPoly = this.auxiliaryCP.getTheoremStatement().getAlgebraicForm();
-		
-		if (statementPoly != null && statementPoly.matchesNDGCPolynomial(this.ndgCond.getPolynomial())) {
+		List<String> positionKey = PointsPositionChecker.getPositionKey("checkPointOnCircle", A, B, C, D);
+		PositionPolynomialForm form = this.getPositionForm(positionKey);
+		
+		if (form == null) {
+			this.clearAuxCP();
+			this.auxiliaryCP.addGeoConstruction(A);
+			this.auxiliaryCP.addGeoConstruction(B);
+			this.auxiliaryCP.addGeoConstruction(C);
+			this.auxiliaryCP.addGeoConstruction(D);
+			Circle k = new CircleWithCenterAndRadius("tempCircle", A, B, C);
+			this.auxiliaryCP.addGeoConstruction(k);
+			this.auxiliaryCP.addThmStatement(new PointOnSetOfPoints(k, D));
+			XPolynomial statementPoly = this.auxiliaryCP.getTheoremStatement().getAlgebraicForm();
+			form = this.savePositionForm(positionKey, statementPoly);
+		}
+		
+		if (this.matchesNDGCondition(form)) {
 			Vector<Point> pointsV = new Vector<Point>();
 			pointsV.add(A);
 			pointsV.add(B);
@@ -486,25 +546,29 @@ public class FourPointsPositionChecker extends PointsPositionChecker {
 	 * @return		True if condition is met, false otherwise
 	 */
 	private boolean checkInversePoints(Point A, Point B, Point C, Point D) {
-		this.clearAuxCP();
-		this.auxiliaryCP.addGeoConstruction(A);
-		this.auxiliaryCP.addGeoConstruction(B);
-		this.auxiliaryCP.addGeoConstruction(C);
-		this.auxiliaryCP.addGeoConstruction(D);
-		Circle k = new CircleWithCenterAndPoint("tempCircle", A, B);
-		this.auxiliaryCP.addGeoConstruction(k);
-		this.auxiliaryCP.addThmStatement(new TwoInversePoints(C, D, k));
-		XPolynomial statementXPoly = ((TwoInversePoints) this.auxiliaryCP.getTheoremStatement()).getXAlgebraicForm();
-		XPolynomial statementYPoly = ((TwoInversePoints) this.auxiliaryCP.getTheoremStatement()).getYAlgebraicForm();
-		XPolynomial statementPoly = null;
-		
-		if (statementXPoly != null && statementYPoly != null)
-			statementPoly = (XPolynomial)statementXPoly.clone().multiplyByPolynomial(statementXPoly)
-		                  .addPolynomial(statementYPoly.clone().multiplyByPolynomial(statementYPoly));
-		
-		if ((statementXPoly != null && statementXPoly.matchesNDGCPolynomial(this.ndgCond.getPolynomial())) ||
-			(statementYPoly != null && statementYPoly.matchesNDGCPolynomial(this.ndgCond.getPolynomial())) ||
-			(statementPoly != null && statementPoly.matchesNDGCPolynomial(this.ndgCond.getPolynomial()))) {
+		List<String> positionKey = PointsPositionChecker.getPositionKey("checkInversePoints", A, B, C, D);
+		PositionPolynomialForm form = this.getPositionForm(positionKey);
+		
+		if (form == null) {
+			this.clearAuxCP();
+			this.auxiliaryCP.addGeoConstruction(A);
+			this.auxiliaryCP.addGeoConstruction(B);
+			this.auxiliaryCP.addGeoConstruction(C);
+			this.auxiliaryCP.addGeoConstruction(D);
+			Circle k = new CircleWithCenterAndPoint("tempCircle", A, B);
+			this.auxiliaryCP.addGeoConstruction(k);
+			this.auxiliaryCP.addThmStatement(new TwoInversePoints(C, D, k));
+			XPolynomial statementXPoly = ((TwoInversePoints) this.auxiliaryCP.getTheoremStatement()).getXAlgebraicForm();
+			XPolynomial statementYPoly = ((TwoInversePoints) this.auxiliaryCP.getTheoremStatement()).getYAlgebraicForm();
+			XPolynomial statementPoly = null;
+			
+			if (statementXPoly != null && statementYPoly != null)
+				statementPoly = (XPolynomial)statementXPoly.clone().multiplyByPolynomial(statementXPoly)
+			                  .addPolynomial(statementYPoly.clone().multiplyByPolynomial(statementYPoly));
+			form = this.savePositionForm(positionKey, statementXPoly, statementYPoly, statementPoly);
+		}
+		
+		if (this.matchesNDGCondition(form)) {
 			Vector<Point> pointsV = new Vector<Point>();
 			pointsV.add(A);
 			pointsV.add(B);
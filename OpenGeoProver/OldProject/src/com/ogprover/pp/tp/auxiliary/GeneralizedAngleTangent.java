@@ -503,11 +503,11 @@ public class GeneralizedAngleTangent {
 			}
 		}
 		
-		OpenGeoProver.settings.getLogger().debug("Condition for tangent of first angle:");
-		OpenGeoProver.settings.getLogger().debug("Numerator:");
-		OpenGeoProver.settings.getLogger().debug(tan.get(TANGENT_NUMERATOR).printToLaTeX());
-		OpenGeoProver.settings.getLogger().debug("Denominator:");
-		OpenGeoProver.settings.getLogger().debug(tan.get(TANGENT_DENOMINATOR).printToLaTeX());
+		OpenGeoProver.getSettings().getLogger().debug("Condition for tangent of first angle:");
+		OpenGeoProver.getSettings().getLogger().debug("Numerator:");
+		OpenGeoProver.getSettings().getLogger().debug(tan.get(TANGENT_NUMERATOR).printToLaTeX());
+		OpenGeoProver.getSettings().getLogger().debug("Denominator:");
+		OpenGeoProver.getSettings().getLogger().debug(tan.get(TANGENT_DENOMINATOR).printToLaTeX());
 		return tan;
 	}
 	
@@ -551,11 +551,11 @@ public class GeneralizedAngleTangent {
 			}
 		}
 		
-		OpenGeoProver.settings.getLogger().debug("Condition for tangent of second angle:");
-		OpenGeoProver.settings.getLogger().debug("Numerator:");
-		OpenGeoProver.settings.getLogger().debug(tan.get(TANGENT_NUMERATOR).printToLaTeX());
-		OpenGeoProver.settings.getLogger().debug("Denominator:");
-		OpenGeoProver.settings.getLogger().debug(tan.get(TANGENT_DENOMINATOR).printToLaTeX());
+		OpenGeoProver.getSettings().getLogger().debug("Condition for tangent of second angle:");
+		OpenGeoProver.getSettings().getLogger().debug("Numerator:");
+		OpenGeoProver.getSettings().getLogger().debug(tan.get(TANGENT_NUMERATOR).printToLaTeX());
+		OpenGeoProver.getSettings().getLogger().debug("Denominator:");
+		OpenGeoProver.getSettings().getLogger().debug(tan.get(TANGENT_DENOMINATOR).printToLaTeX());
 		
 		return tan;
 	}
@@ -600,11 +600,11 @@ public class GeneralizedAngleTangent {
 			}
 		}
 		
-		OpenGeoProver.settings.getLogger().debug("Condition for tangent of third angle:");
-		OpenGeoProver.settings.getLogger().debug("Numerator:");
-		OpenGeoProver.settings.getLogger().debug(tan.get(TANGENT_NUMERATOR).printToLaTeX());
-		OpenGeoProver.settings.getLogger().debug("Denominator:");
-		OpenGeoProver.settings.getLogger().debug(tan.get(TANGENT_DENOMINATOR).printToLaTeX());
+		OpenGeoProver.getSettings().getLogger().debug("Condition for tangent of third angle:");
+		OpenGeoProver.getSettings().getLogger().debug("Numerator:");
+		OpenGeoProver.getSettings().getLogger().debug(tan.get(TANGENT_NUMERATOR).printToLaTeX());
+		OpenGeoProver.getSettings().getLogger().debug("Denominator:");
+		OpenGeoProver.getSettings().getLogger().debug(tan.get(TANGENT_DENOMINATOR).printToLaTeX());
 		
 		return tan;
 	}
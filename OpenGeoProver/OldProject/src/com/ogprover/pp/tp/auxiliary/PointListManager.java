@@ -4,6 +4,7 @@
 
 package com.ogprover.pp.tp.auxiliary;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
@@ -234,4 +235,370 @@ public class PointListManager {
 		
 		return new Vector<Vector<Point>>(destinationC);
 	}
+	
+	/**
+	 * <i>[static method]</i><br>
+	 * Method that creates all distinct lists of points that are obtained when one
+	 * non-empty combination of points is taken from each of passed in lists of points
+	 * and arbitrary (possibly empty) combination of optional points is added to them,
+	 * i.e. the same lists, in the same order, that are obtained by merging pairs of
+	 * combinations created by createListOfCombinations() for each list by
+	 * mergePairsOfPointCombinations(). Only lists with number of points within
+	 * specified boundaries are returned.
+	 * 
+	 * @param pointLists		Lists of points - there are no duplicates in each list
+	 * @param optionalPoints	List of optional points; can be null
+	 * @param minNumOfPoints	Minimal number of points in resulting list
+	 * @param maxNumOfPoints	Maximal number of points in resulting list
+	 * @return					List of all merged combinations of points; null in case of error
+	 */
+	public static Vector<Vector<Point>> createMergedCombinations(Vector<Vector<Point>> pointLists, Vector<Point> optionalPoints, int minNumOfPoints, int maxNumOfPoints) {
+		if (pointLists == null)
+			return null;
+		
+		if (pointLists.size() == 0)
+			return new Vector<Vector<Point>>(); // there is no combination to merge with optional points
+		
+		Vector<Point> optionalList = (optionalPoints != null) ? optionalPoints : new Vector<Point>();
+		
+		/*
+		 * Each point gets index of bit in mask, so each combination of points
+		 * is one long word: union of combinations is bitwise OR of their masks.
+		 * Bits are assigned in ascending order of point labels, so string key
+		 * of combination (see getPointListKey()) is concatenation of labels of
+		 * its bits and its hash code is calculated from hash codes of labels.
+		 */
+		Map<String, Point> labelTree = new TreeMap<String, Point>();
+		
+		for (Vector<Point> pointList : pointLists) {
+			if (pointList == null)
+				return null;
+			for (Point P : pointList)
+				labelTree.put(P.getGeoObjectLabel(), P);
+		}
+		for (Point P : optionalList)
+			labelTree.put(P.getGeoObjectLabel(), P);
+		
+		if (labelTree.size() > Long.SIZE) { // can't be represented by masks
+			Vector<Vector<Point>> mergedPoints = null;
+			
+			for (Vector<Point> pointList : pointLists)
+				mergedPoints = PointListManager.mergePairsOfPointCombinations(mergedPoints, PointListManager.createListOfCombinations(pointList));
+			
+			Vector<Vector<Point>> optionalComb = PointListManager.createListOfCombinations(optionalList);
+			optionalComb.add(new Vector<Point>()); // for merging without optional points
+			mergedPoints = PointListManager.mergePairsOfPointCombinations(mergedPoints, optionalComb);
+			
+			Vector<Vector<Point>> combinations = new Vector<Vector<Point>>();
+			
+			if (mergedPoints != null) {
+				for (Vector<Point> vp : mergedPoints) {
+					if (vp.size() >= minNumOfPoints && vp.size() <= maxNumOfPoints)
+						combinations.add(vp);
+				}
+			}
+			return combinations;
+		}
+		
+		MergedCombination.Labels labels = new MergedCombination.Labels(labelTree.keySet());
+		Map<String, Integer> indices = new HashMap<String, Integer>();
+		int index = 0;
+		
+		for (String label : labelTree.keySet())
+			indices.put(label, Integer.valueOf(index++));
+		
+		/*
+		 * Combinations of first list are not merged with anything, so they keep
+		 * order of createListOfCombinations(); every other list (and list of optional
+		 * points with empty combination at the end) is merged with them through hash
+		 * map, in same order of pairs of combinations as in mergePairsOfPointCombinations().
+		 * Keys of map have same hash codes and equality as string keys of combinations,
+		 * so order of merged combinations is same as order of values of that method's map.
+		 * Points of merged combination (in order given by mergePointLists()) are needed
+		 * only for combinations which are not larger than maximal number of points; other
+		 * combinations are kept only as masks, since all combinations merged with them are
+		 * larger as well.
+		 */
+		Vector<Point> firstList = pointLists.get(0);
+		long[] firstMasks = PointListManager.getCombinationMasks(firstList, indices, false);
+		ArrayList<MergedCombination> merged = new ArrayList<MergedCombination>(firstMasks.length);
+		
+		for (long mask : firstMasks) {
+			MergedCombination mc = new MergedCombination(mask, labels);
+			
+			if (Long.bitCount(mask) <= maxNumOfPoints)
+				mc.points = PointListManager.getPointsOfMask(firstList, mask, indices);
+			merged.add(mc);
+		}
+		
+		for (int ii = 1, jj = pointLists.size(); ii <= jj; ii++) {
+			Vector<Point> pointList = (ii < jj) ? pointLists.get(ii) : optionalList;
+			long[] masks = PointListManager.getCombinationMasks(pointList, indices, ii == jj);
+			Map<MergedCombination, MergedCombination> mergeMap = new HashMap<MergedCombination, MergedCombination>();
+			MergedCombination probe = new MergedCombination(0, labels);
+			
+			for (MergedCombination comb1 : merged) {
+				for (long mask2 : masks) {
+					long unionMask = comb1.valueMask | mask2;
+					
+					probe.setKeyMask(unionMask);
+					
+					MergedCombination mc = mergeMap.get(probe);
+					
+					if (mc == null) {
+						mc = new MergedCombination(unionMask, labels);
+						mergeMap.put(mc, mc);
+					}
+					// value of map is replaced by each merged pair, only key stays from first pair
+					mc.valueMask = unionMask;
+					mc.source = comb1;
+					mc.sourceMask = mask2;
+				}
+			}
+			
+			merged = new ArrayList<MergedCombination>(mergeMap.values());
+			for (MergedCombination mc : merged) {
+				if (Long.bitCount(mc.valueMask) <= maxNumOfPoints)
+					mc.points = PointListManager.mergePointLists(mc.source.points, PointListManager.getPointsOfMask(pointList, mc.sourceMask, indices));
+				mc.source = null; // previous combinations are not needed any more
+			}
+		}
+		
+		Vector<Vector<Point>> combinations = new Vector<Vector<Point>>();
+		
+		for (MergedCombination mc : merged) {
+			int numOfPoints = Long.bitCount(mc.valueMask);
+			
+			if (numOfPoints >= minNumOfPoints && numOfPoints <= maxNumOfPoints)
+				combinations.add(mc.points);
+		}
+		
+		return combinations;
+	}
+	
+	/**
+	 * <i>[static method]</i><br>
+	 * Method that creates masks of all combinations of points from list, in same
+	 * order as createListOfCombinations() creates these combinations.
+	 * 
+	 * @param pointList		List of points - there are no duplicates in this list
+	 * @param indices		Map of point labels to indices of bits of points
+	 * @param withEmpty		Whether mask of empty combination is added at the end
+	 * @return				Masks of combinations
+	 */
+	private static long[] getCombinationMasks(Vector<Point> pointList, Map<String, Integer> indices, boolean withEmpty) {
+		int n = pointList.size();
+		long[] bits = new long[n];
+		
+		for (int ii = 0; ii < n; ii++)
+			bits[ii] = 1L << indices.get(pointList.get(ii).getGeoObjectLabel()).intValue();
+		
+		long[] masks = new long[(int)((1L << n) - 1) + (withEmpty ? 1 : 0)];
+		int numOfMasks = 0;
+		int[] indexArr = new int[n];
+		
+		// combinations by length and then lexicographically by positions of points
+		for (int len = 1; len <= n; len++) {
+			for (int ii = 0; ii < len; ii++)
+				indexArr[ii] = ii;
+			
+			while (true) {
+				long mask = 0;
+				
+				for (int ii = 0; ii < len; ii++)
+					mask |= bits[indexArr[ii]];
+				masks[numOfMasks++] = mask;
+				
+				// next combination - increase last position which can be increased
+				int pos = len - 1;
+				
+				while (pos >= 0 && indexArr[pos] == n - len + pos)
+					pos--;
+				if (pos < 0)
+					break;
+				indexArr[pos]++;
+				for (int ii = pos + 1; ii < len; ii++)
+					indexArr[ii] = indexArr[ii - 1] + 1;
+			}
+		}
+		
+		if (withEmpty)
+			masks[numOfMasks] = 0; // for merging without these points
+		return masks;
+	}
+	
+	/**
+	 * <i>[static method]</i><br>
+	 * Method that retrieves points of combination from list of points.
+	 * 
+	 * @param pointList		List of points
+	 * @param mask			Mask of combination of points from list
+	 * @param indices		Map of point labels to indices of bits of points
+	 * @return				Points of combination, in order of list
+	 */
+	private static Vector<Point> getPointsOfMask(Vector<Point> pointList, long mask, Map<String, Integer> indices) {
+		Vector<Point> points = new Vector<Point>(Long.bitCount(mask));
+		
+		for (Point P : pointList) {
+			if ((mask & (1L << indices.get(P.getGeoObjectLabel()).intValue())) != 0)
+				points.add(P);
+		}
+		
+		return points;
+	}
+	
+	/**
+	 * Merged combination of points - key and value of map used for merging of combinations.
+	 * As key, it is equal to other combination and has same hash code exactly when
+	 * string keys of these combinations (see getPointListKey()) are equal or have same
+	 * hash code respectively; it is also compared as those string keys.
+	 */
+	private static class MergedCombination implements Comparable<MergedCombination> {
+		/**
+		 * Mask of combination which is key of map
+		 */
+		private long keyMask;
+		/**
+		 * Hash code of string key of combination
+		 */
+		private int hash;
+		/**
+		 * Labels of points for each bit of mask
+		 */
+		private Labels labels;
+		/**
+		 * Mask of combination which is value of map - combination of last merged pair
+		 */
+		private long valueMask;
+		/**
+		 * Combination from first list of last merged pair
+		 */
+		private MergedCombination source = null;
+		/**
+		 * Mask of combination from second list of last merged pair
+		 */
+		private long sourceMask = 0;
+		/**
+		 * Points of combination (null if combination has more than maximal number of points)
+		 */
+		private Vector<Point> points = null;
+		
+		/**
+		 * Constructor method
+		 * 
+		 * @param mask		Mask of combination
+		 * @param labels	Labels of points for each bit of mask
+		 */
+		public MergedCombination(long mask, Labels labels) {
+			this.labels = labels;
+			this.setKeyMask(mask);
+			this.valueMask = mask;
+		}
+		
+		/**
+		 * Method that sets mask of key and calculates its hash code.
+		 * 
+		 * @param mask	Mask of combination
+		 */
+		public void setKeyMask(long mask) {
+			int h = 0;
+			
+			// hash code of concatenation of strings s1 and s2 is hash(s1)*31^length(s2) + hash(s2)
+			for (long rest = mask; rest != 0; rest &= rest - 1) {
+				int bit = Long.numberOfTrailingZeros(rest);
+				
+				h = h*this.labels.powers[bit] + this.labels.hashCodes[bit];
+			}
+			this.keyMask = mask;
+			this.hash = h;
+		}
+		
+		/**
+		 * Method that creates string key of combination - concatenated labels of its points.
+		 * 
+		 * @return	String key
+		 */
+		public String getKey() {
+			StringBuilder sb = new StringBuilder();
+			
+			for (long rest = this.keyMask; rest != 0; rest &= rest - 1)
+				sb.append(this.labels.labels[Long.numberOfTrailingZeros(rest)]);
+			return sb.toString();
+		}
+		
+		/**
+		 * @see java.lang.Object#hashCode()
+		 */
+		@Override
+		public int hashCode() {
+			return this.hash;
+		}
+		
+		/**
+		 * @see java.lang.Object#equals(java.lang.Object)
+		 */
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj)
+				return true;
+			if (!(obj instanceof MergedCombination))
+				return false;
+			
+			MergedCombination other = (MergedCombination)obj;
+			
+			if (this.keyMask == other.keyMask)
+				return true;
+			// different combinations can have same string key if labels are concatenated same way
+			return this.hash == other.hash && this.getKey().equals(other.getKey());
+		}
+		
+		/**
+		 * @see java.lang.Comparable#compareTo(java.lang.Object)
+		 */
+		public int compareTo(MergedCombination other) {
+			// used by hash map only for many keys with same hash code
+			return this.getKey().compareTo(other.getKey());
+		}
+		
+		/**
+		 * Labels of points of bits of masks, with data for calculation of hash codes
+		 */
+		private static class Labels {
+			/**
+			 * Labels in ascending order
+			 */
+			private String[] labels;
+			/**
+			 * Hash codes of labels
+			 */
+			private int[] hashCodes;
+			/**
+			 * Powers 31^length of labels
+			 */
+			private int[] powers;
+			
+			/**
+			 * Constructor method
+			 * 
+			 * @param sortedLabels	Labels of points in ascending order
+			 */
+			public Labels(Collection<String> sortedLabels) {
+				int n = sortedLabels.size(), ii = 0;
+				
+				this.labels = new String[n];
+				this.hashCodes = new int[n];
+				this.powers = new int[n];
+				for (String label : sortedLabels) {
+					int power = 1;
+					
+					for (int jj = 0, kk = label.length(); jj < kk; jj++)
+						power *= 31;
+					this.labels[ii] = label;
+					this.hashCodes[ii] = label.hashCode();
+					this.powers[ii] = power;
+					ii++;
+				}
+			}
+		}
+	}
 }
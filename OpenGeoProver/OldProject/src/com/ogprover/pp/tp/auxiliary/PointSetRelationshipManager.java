@@ -5,14 +5,14 @@
 package com.ogprover.pp.tp.auxiliary;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import com.ogprover.main.OGPConstants;
 import com.ogprover.main.OpenGeoProver;
+import com.ogprover.multithread.ParallelConditionInstantiation;
 import com.ogprover.polynomials.SymbolicPolynomial;
-import com.ogprover.polynomials.UXVariable;
 import com.ogprover.polynomials.Variable;
-import com.ogprover.polynomials.XPolySystem;
 import com.ogprover.polynomials.XPolynomial;
 import com.ogprover.pp.tp.OGPTP;
 import com.ogprover.pp.tp.geoconstruction.Point;
@@ -75,13 +75,13 @@ public class PointSetRelationshipManager {
 	 */
 	private int degreeOfBestInstantiatedPolynomial = 0;
 	/**
-	 * Variable used to temporarily hold the X-coordinate of point
-	 * so it can be restored after point has been renamed 
+	 * Variable used to hold the X-coordinate of point as it was
+	 * at the beginning of search for best points for instantiation
 	 */
 	private Variable xCoord = null;
 	/**
-	 * Variable used to temporarily hold the Y-coordinate of point
-	 * so it can be restored after point has been renamed 
+	 * Variable used to hold the Y-coordinate of point as it was
+	 * at the beginning of search for best points for instantiation
 	 */
 	private Variable yCoord = null;
 	/**
@@ -356,7 +356,7 @@ public class PointSetRelationshipManager {
 	 * Preparation method for finding best points for instantiation of condition
 	 */
 	public void prepareForFirstInstantiation() {
-		ILogger logger = OpenGeoProver.settings.getLogger();
+		ILogger logger = OpenGeoProver.getSettings().getLogger();
 		
 		// check if point has already been instantiated
 		if (this.point.getPointState() == Point.POINT_STATE_INITIALIZED) {
@@ -365,10 +365,9 @@ public class PointSetRelationshipManager {
 			return;
 		}
 		
-		// Coordinates of point P could be renamed during this test.
-		// In order to be able to repeat the action of renaming in real
-		// processing of that point, we should save here its coordinates
-		// and return to them at the end.
+		// Coordinates of point P are not renamed during this test (polynomials
+		// are only evaluated), but they are saved here so the instance of point
+		// used in the test is known.
 		this.xCoord = this.point.getX().clone();
 		this.yCoord = this.point.getY().clone();
 		
@@ -386,8 +385,10 @@ public class PointSetRelationshipManager {
 	 * current passed in map of points and checks whether these points
 	 * make new best points for instantiation (by comparing obtained
 	 * instantiated polynomial). Since it just checks one possible 
-	 * collection of points and results will be reset, no text will
-	 * be written to output file from this function.
+	 * collection of points, neither point nor system of polynomials
+	 * is changed and no text will be written to output file from this 
+	 * function - only the state of point is set to renamed, when polynomial
+	 * that renames coordinates of point is found.
 	 * 
 	 * @param pointsMap		Passed in map of points for instantiation
 	 */
@@ -397,7 +398,82 @@ public class PointSetRelationshipManager {
 		else if (this.managerType == PointSetRelationshipManager.MANAGER_TYPE_STATEMENT)
 			this.processPointsAndConditionForStatement(pointsMap);
 		else
-			OpenGeoProver.settings.getLogger().error("Wrong manager type!");
+			OpenGeoProver.getSettings().getLogger().error("Wrong manager type!");
+	}
+	
+	/**
+	 * Method that processes condition for several candidate maps of points. Result is
+	 * same as when processPointsAndCondition() is called for each map of points in
+	 * order of list, until error happens or polynomial that renames coordinates of
+	 * point is found. When concurrency level is greater than one, instances of condition
+	 * for all candidates are calculated concurrently and then processed in that order.
+	 * 
+	 * @param pointsMaps	List of candidate maps of points for instantiation
+	 */
+	public void processPointsAndConditions(List<Map<String, Point>> pointsMaps) {
+		if (this.managerType != PointSetRelationshipManager.MANAGER_TYPE_CONSTRUCTION &&
+			this.managerType != PointSetRelationshipManager.MANAGER_TYPE_STATEMENT) {
+			OpenGeoProver.getSettings().getLogger().error("Wrong manager type!");
+			return;
+		}
+		
+		int n = OpenGeoProver.getSettings().getParameters().getConLevel();
+		int from = 0, size = pointsMaps.size();
+		
+		while (from < size) {
+			XPolynomial[] instances = null;
+			int next = size;
+			
+			if (n > 1 && size - from > 1) {
+				instances = ParallelConditionInstantiation.instantiateConditions(this, pointsMaps.subList(from, size), n);
+				
+				if (instances == null) {
+					this.setErrorFlag(true);
+					return;
+				}
+			}
+			
+			for (int ii = from; ii < size; ii++) {
+				Map<String, Point> pointsMap = pointsMaps.get(ii);
+				XPolynomial instance = (instances != null) ? instances[ii - from] : this.instantiateCondition(pointsMap);
+				boolean reinstantiated = false;
+				
+				if (this.managerType == PointSetRelationshipManager.MANAGER_TYPE_CONSTRUCTION)
+					reinstantiated = this.processInstanceForConstruction(pointsMap, instance);
+				else
+					this.processInstanceForStatement(pointsMap, instance);
+				
+				if (this.errorFlag || this.point.getPointState() == Point.POINT_STATE_RENAMED)
+					return;
+				
+				// instances of remaining candidates have been calculated with old
+				// coordinates of point - they have to be calculated again
+				if (reinstantiated && instances != null) {
+					next = ii + 1;
+					break;
+				}
+			}
+			
+			from = next;
+		}
+	}
+	
+	/**
+	 * Method that instantiates the condition of this manager for passed in
+	 * map of points. It only reads points and condition, so it can be called
+	 * concurrently for several maps of points.
+	 * 
+	 * @param pointsMap		Map of points for instantiation
+	 * @return				Instance of condition (simplified for geometry construction)
+	 * 						or null in case of error
+	 */
+	public XPolynomial instantiateCondition(Map<String, Point> pointsMap) {
+		XPolynomial instance = OGPTP.instantiateCondition(this.condition, pointsMap);
+		
+		// instance of condition for theorem statement is not simplified
+		if (instance == null || this.managerType != PointSetRelationshipManager.MANAGER_TYPE_CONSTRUCTION)
+			return instance;
+		return instance.reduceByUTermDivision();
 	}
 	
 	/**
@@ -406,22 +482,43 @@ public class PointSetRelationshipManager {
 	 * @param pointsMap		Passed in map of points for instantiation
 	 */
 	public void processPointsAndConditionForConstruction(Map<String, Point> pointsMap) {
-		ILogger logger = OpenGeoProver.settings.getLogger();
-		Map<String, Point> bestElements = this.getBestPointsForInstantiation();
-		XPolynomial bestPolynomial = this.getBestInstantiatedPolynomial();
+		this.processInstanceForConstruction(pointsMap, this.instantiateCondition(pointsMap));
+	}
+	
+	/**
+	 * Method that processes the instance of condition for geometry construction.
+	 * 
+	 * @param pointsMap		Map of points used for instantiation
+	 * @param insCondition1	Instance of condition for that map of points
+	 * @return				True if point has been re-instantiated (by switching its
+	 * 						coordinates) during processing, false otherwise
+	 */
+	private boolean processInstanceForConstruction(Map<String, Point> pointsMap, XPolynomial insCondition1) {
+		ILogger logger = OpenGeoProver.getSettings().getLogger();
+		
+		if (insCondition1 == null) {
+			logger.error("Failed to instantiate condition when was searching for best elements");
+			this.setErrorFlag(true);
+			return false;
+		}
+		
+		// Polynomial with more than two terms can't rename coordinates of point, so if it
+		// contains dependent coordinate of point it would be added to system of hypotheses;
+		// such polynomial is skipped if it is not simpler than best polynomial found so far.
+		if (this.bestInstantiatedPolynomial != null && insCondition1.getNumOfTerms() > 2 &&
+			!this.isSimplerThanBest(insCondition1) && this.point.containsDependentCoordinate(insCondition1.getTermsAsDescList()))
+			return false;
 		
-		// instantiate the condition and simplify it
-		XPolynomial insCondition1 = OGPTP.instantiateCondition(this.condition, pointsMap).reduceByUTermDivision();
 		// process the condition (check for special forms of instantiated polynomial);
-		// since this is test processing, do not print result of processing to output file 
-		int retCode = this.point.processConstructionPolynomial(insCondition1, false); // this can change the state of point from manager
+		// since this is test processing, point is not changed and nothing is written to output file 
+		int retCode = this.point.evaluateConstructionPolynomial(insCondition1);
 		
 		switch (retCode) {
 		case Point.PROCESSPOLY_RETCODE_BAD_POLYNOMIAL:
 		case OGPConstants.ERR_CODE_GENERAL:
 			logger.error("Error or bad polynomial instantiated when was searching for best elements");
 			this.setErrorFlag(true);
-			return;
+			return false;
 		case Point.PROCESSPOLY_RETCODE_TRY_AGAIN:
 			logger.info("Wrong polynomial but will try again");
 			// re-instantiate half-dependent point by switching its coordinates
@@ -434,7 +531,7 @@ public class PointSetRelationshipManager {
 			else {
 				logger.error("Wrong instance type of point");
 				this.setErrorFlag(true);
-				return;
+				return false;
 			}
 			
 			//save coordinates
@@ -442,8 +539,8 @@ public class PointSetRelationshipManager {
 			this.yCoord = this.point.getY().clone();
 			
 			// again instantiate the condition and process it
-			XPolynomial insCondition2 = OGPTP.instantiateCondition(this.condition, pointsMap).reduceByUTermDivision();
-			int newRetCode = this.point.processConstructionPolynomial(insCondition2, false); // this can change the state of point P
+			XPolynomial insCondition2 = this.instantiateCondition(pointsMap);
+			int newRetCode = (insCondition2 != null) ? this.point.evaluateConstructionPolynomial(insCondition2) : OGPConstants.ERR_CODE_GENERAL;
 			
 			switch (newRetCode) {
 			case Point.PROCESSPOLY_RETCODE_BAD_POLYNOMIAL:
@@ -451,139 +548,32 @@ public class PointSetRelationshipManager {
 			case Point.PROCESSPOLY_RETCODE_TRY_AGAIN:
 				logger.error("Error or bad polynomial instantiated when was searching for best elements in second attempt");
 				this.setErrorFlag(true);
-				return;
+				return true;
 			case Point.PROCESSPOLY_RETCODE_COORDINATES_RENAMED:
 				logger.info("Found best elements in second attempt that will rename coordinates of point " + this.point.getGeoObjectLabel());
-				
-				if (bestElements == null) {
-					bestElements = new HashMap<String, Point>();
-					this.setBestPointsForInstantiation(bestElements);
-				}
-				
-				bestPolynomial = insCondition2;
-				this.setBestInstantiatedPolynomial(bestPolynomial);
-				this.setDegreeOfBestInstantiatedPolynomial(bestPolynomial.getPolynomialDegree());
-				
-				for (String key : pointsMap.keySet()) {
-					String newKey = new String(key);
-					bestElements.put(newKey, pointsMap.get(key).clone());
-				}
-				
-				// return old coordinates to point P and increment x index since renaming is undo
-				this.point.setX((UXVariable)this.xCoord.clone());
-				this.point.setY((UXVariable)this.yCoord.clone());
-				this.point.getConsProtocol().incrementXIndex();
-				return;
+				this.saveBestElements(pointsMap, insCondition2, true);
+				return true;
 			case Point.PROCESSPOLY_RETCODE_ADDED_TO_SYSTEM:
 				logger.info("Found elements in second attempt that will generate new polynomial that will be added to system of hypotheses");
-				// since new polynomial has been already added to CP, remove it now since this
-				// is just test processing
-				XPolySystem system = this.point.getConsProtocol().getAlgebraicGeoTheorem().getHypotheses();
-				system.removePoly(system.getPolynomials().size() - 1);
-				
-				if (bestElements == null) {
-					bestElements = new HashMap<String, Point>();
-					this.setBestPointsForInstantiation(bestElements);
-				}
-				
-				// save these current elements as best if no one has been found so far
-				if (bestPolynomial == null) {
-					bestPolynomial = insCondition2;
-					this.setBestInstantiatedPolynomial(bestPolynomial);
-					this.setDegreeOfBestInstantiatedPolynomial(bestPolynomial.getPolynomialDegree());
-					for (String key : pointsMap.keySet()) {
-						String newKey = new String(key);
-						bestElements.put(newKey, pointsMap.get(key).clone());
-					}
-				}
-				else {
-					int condDegree = insCondition2.getPolynomialDegree();
-					
-					// these elements are better if polynomial degree is lower or
-					// if it is equals with current best degree but new polynomial has less terms;
-					// i.e. these elements are better if new polynomial is simpler 
-					if (condDegree < this.getDegreeOfBestInstantiatedPolynomial() || 
-						(condDegree == this.getDegreeOfBestInstantiatedPolynomial() && insCondition2.getTerms().size() < bestPolynomial.getTerms().size())) {
-						bestPolynomial = insCondition2;
-						this.setBestInstantiatedPolynomial(bestPolynomial);
-						this.setDegreeOfBestInstantiatedPolynomial(condDegree);
-						for (String key : pointsMap.keySet()) {
-							String newKey = new String(key);
-							bestElements.put(newKey, pointsMap.get(key).clone());
-						}
-					}
-				}
-				break;
+				this.saveBestElements(pointsMap, insCondition2, false);
+				return true;
 			default:
 				logger.error("Unknown return result from processing of condition in second attempt");
 				this.setErrorFlag(true);
-				return;
+				return true;
 			}
-			break;
 		case Point.PROCESSPOLY_RETCODE_COORDINATES_RENAMED:
 			logger.info("Found best elements that will rename coordinates of point " + this.point.getGeoObjectLabel());
-			if (bestElements == null) {
-				bestElements = new HashMap<String, Point>();
-				this.setBestPointsForInstantiation(bestElements);
-			}
-			
-			bestPolynomial = insCondition1;
-			this.setBestInstantiatedPolynomial(bestPolynomial);
-			this.setDegreeOfBestInstantiatedPolynomial(bestPolynomial.getPolynomialDegree());
-			
-			for (String key : pointsMap.keySet()) {
-				String newKey = new String(key);
-				bestElements.put(newKey, pointsMap.get(key).clone());
-			}
-			// return old coordinates to point P and increment x index since renaming is undo
-			this.point.setX((UXVariable)this.xCoord.clone());
-			this.point.setY((UXVariable)this.yCoord.clone());
-			this.point.getConsProtocol().incrementXIndex();
-			return;
+			this.saveBestElements(pointsMap, insCondition1, true);
+			return false;
 		case Point.PROCESSPOLY_RETCODE_ADDED_TO_SYSTEM:
 			logger.info("Found elements that will generate new polynomial that will be added to system of hypotheses");
-			// since new polynomial has been already added to CP, remove it now since this
-			// is just test processing
-			XPolySystem system = this.point.getConsProtocol().getAlgebraicGeoTheorem().getHypotheses();
-			system.removePoly(system.getPolynomials().size() - 1);
-			
-			if (bestElements == null) {
-				bestElements = new HashMap<String, Point>();
-				this.setBestPointsForInstantiation(bestElements);
-			}
-			
-			// save these current elements as best if no one has been found so far
-			if (bestPolynomial == null) {
-				bestPolynomial = insCondition1;
-				this.setBestInstantiatedPolynomial(bestPolynomial);
-				this.setDegreeOfBestInstantiatedPolynomial(bestPolynomial.getPolynomialDegree());
-				for (String key : pointsMap.keySet()) {
-					String newKey = new String(key);
-					bestElements.put(newKey, pointsMap.get(key).clone());
-				}
-			}
-			else {
-				int condDegree = insCondition1.getPolynomialDegree();
-				
-				// these elements are better if polynomial degree is lower or
-				// if it is equals with current best degree but new polynomial has less terms;
-				// i.e. these elements are better if new polynomial is simpler 
-				if (condDegree < this.getDegreeOfBestInstantiatedPolynomial() || 
-					(condDegree == this.getDegreeOfBestInstantiatedPolynomial() && insCondition1.getTerms().size() < bestPolynomial.getTerms().size())) {
-					bestPolynomial = insCondition1;
-					this.setBestInstantiatedPolynomial(bestPolynomial);
-					this.setDegreeOfBestInstantiatedPolynomial(condDegree);
-					for (String key : pointsMap.keySet()) {
-						String newKey = new String(key);
-						bestElements.put(newKey, pointsMap.get(key).clone());
-					}
-				}
-			}
-			break;
+			this.saveBestElements(pointsMap, insCondition1, false);
+			return false;
 		default:
 			logger.error("Unknown return result from processing of condition");
 			this.setErrorFlag(true);
-			return;
+			return false;
 		}
 	}
 	
@@ -593,47 +583,71 @@ public class PointSetRelationshipManager {
 	 * @param pointsMap		Passed in map of points for instantiation
 	 */
 	public void processPointsAndConditionForStatement(Map<String, Point> pointsMap) {
-		Map<String, Point> bestElements = this.getBestPointsForInstantiation();
-		XPolynomial bestPolynomial = this.getBestInstantiatedPolynomial();
-		
 		/*
 		// instantiate the condition and simplify it
 		XPolynomial insCondition = OGPCP.instantiateCondition(this.condition, pointsMap).reduceByUTermDivision();
 		*/
 		
 		// instantiate the condition without simplification
-		XPolynomial insCondition = OGPTP.instantiateCondition(this.condition, pointsMap);
+		this.processInstanceForStatement(pointsMap, this.instantiateCondition(pointsMap));
+	}
+	
+	/**
+	 * Method that processes the instance of condition for theorem statement.
+	 * 
+	 * @param pointsMap		Map of points used for instantiation
+	 * @param insCondition	Instance of condition for that map of points
+	 */
+	private void processInstanceForStatement(Map<String, Point> pointsMap, XPolynomial insCondition) {
+		if (insCondition == null) {
+			OpenGeoProver.getSettings().getLogger().error("Failed to instantiate condition when was searching for best elements");
+			this.setErrorFlag(true);
+			return;
+		}
 		
+		this.saveBestElements(pointsMap, insCondition, false);
+	}
+	
+	/**
+	 * Method that checks whether passed in polynomial is simpler than best
+	 * instantiated polynomial found so far: polynomial is simpler if its
+	 * degree is lower or if degrees are equal but it has less terms.
+	 * 
+	 * @param xpoly		Instantiated polynomial
+	 * @return			True if polynomial is simpler, false otherwise
+	 */
+	private boolean isSimplerThanBest(XPolynomial xpoly) {
+		int condDegree = xpoly.getPolynomialDegree();
 		
-		if (bestElements == null) {
-			bestElements = new HashMap<String, Point>();
-			this.setBestPointsForInstantiation(bestElements);
-		}
+		return condDegree < this.degreeOfBestInstantiatedPolynomial || 
+			   (condDegree == this.degreeOfBestInstantiatedPolynomial && xpoly.getNumOfTerms() < this.bestInstantiatedPolynomial.getNumOfTerms());
+	}
+	
+	/**
+	 * Method that saves passed in points and their instance of condition as best
+	 * elements for instantiation, if they are better than best elements found so far.
+	 * 
+	 * @param pointsMap		Map of points used for instantiation
+	 * @param insCondition	Instance of condition for that map of points
+	 * @param renames		True if instance renames coordinates of point - such
+	 * 						elements are always best and state of point is set to renamed
+	 */
+	private void saveBestElements(Map<String, Point> pointsMap, XPolynomial insCondition, boolean renames) {
+		if (this.bestPointsForInstantiation == null)
+			this.bestPointsForInstantiation = new HashMap<String, Point>();
 		
-		// save these current elements as best if no one has been found so far
-		if (bestPolynomial == null) {
-			this.setBestInstantiatedPolynomial(insCondition);
-			this.setDegreeOfBestInstantiatedPolynomial(insCondition.getPolynomialDegree());
+		// save these current elements as best if no one has been found so far or
+		// if they are better i.e. new polynomial is simpler
+		if (renames || this.bestInstantiatedPolynomial == null || this.isSimplerThanBest(insCondition)) {
+			this.bestInstantiatedPolynomial = insCondition;
+			this.degreeOfBestInstantiatedPolynomial = insCondition.getPolynomialDegree();
 			for (String key : pointsMap.keySet()) {
 				String newKey = new String(key);
-				bestElements.put(newKey, pointsMap.get(key).clone());
-			}
-		}
-		else {
-			int condDegree = insCondition.getPolynomialDegree();
-			
-			// these elements are better if polynomial degree is lower or
-			// if it is equals with current best degree but new polynomial has less terms;
-			// i.e. these elements are better if new polynomial is simpler 
-			if (condDegree < this.getDegreeOfBestInstantiatedPolynomial() || 
-				(condDegree == this.getDegreeOfBestInstantiatedPolynomial() && insCondition.getTerms().size() < bestPolynomial.getTerms().size())) {
-				this.setBestInstantiatedPolynomial(insCondition);
-				this.setDegreeOfBestInstantiatedPolynomial(condDegree);
-				for (String key : pointsMap.keySet()) {
-					String newKey = new String(key);
-					bestElements.put(newKey, pointsMap.get(key).clone());
-				}
+				this.bestPointsForInstantiation.put(newKey, pointsMap.get(key).clone());
 			}
 		}
+		
+		if (renames)
+			this.point.setPointState(Point.POINT_STATE_RENAMED);
 	}
-}
\ No newline at end of file
+}
@@ -4,8 +4,12 @@
 
 package com.ogprover.pp.tp.auxiliary;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Vector;
 
+import com.ogprover.polynomials.PositionPolynomialForm;
+import com.ogprover.polynomials.XPolynomial;
 import com.ogprover.pp.tp.OGPTP;
 import com.ogprover.pp.tp.geoconstruction.Point;
 import com.ogprover.pp.tp.ndgcondition.AlgebraicNDGCondition;
@@ -113,6 +117,62 @@ public abstract class PointsPositionChecker {
 	 * ========================== SPECIFIC METHODS ==========================
 	 * ======================================================================
 	 */
+	/**
+	 * <i>[static method]</i><br>
+	 * Method that creates key of specific position of points.
+	 * 
+	 * @param positionName	Name of position (name of check method)
+	 * @param points		Points in order in which they make that position
+	 * @return				Key of position - list with name of position and labels of points
+	 */
+	protected static List<String> getPositionKey(String positionName, Point... points) {
+		List<String> positionKey = new ArrayList<String>(points.length + 1);
+		
+		positionKey.add(positionName);
+		for (Point P : points)
+			positionKey.add(P.getGeoObjectLabel());
+		
+		return positionKey;
+	}
+	
+	/**
+	 * Method that retrieves prepared polynomials of specific position of points.
+	 * Polynomials of position depend only on points, so they are prepared once
+	 * for CP of NDG condition and shared by all its NDG conditions.
+	 * 
+	 * @param positionKey	Key of position
+	 * @return				Prepared polynomials of position, or null if they have
+	 * 						not been prepared yet
+	 */
+	protected PositionPolynomialForm getPositionForm(List<String> positionKey) {
+		return this.ndgCond.getConsProtocol().getPositionForms().get(positionKey);
+	}
+	
+	/**
+	 * Method that prepares and saves polynomials of specific position of points.
+	 * 
+	 * @param positionKey		Key of position
+	 * @param positionPolys		Polynomials of position - position matches NDG condition
+	 * 							if any of them matches it (null polynomials are skipped)
+	 * @return					Prepared polynomials of position
+	 */
+	protected PositionPolynomialForm savePositionForm(List<String> positionKey, XPolynomial... positionPolys) {
+		PositionPolynomialForm form = new PositionPolynomialForm(positionPolys);
+		
+		this.ndgCond.getConsProtocol().getPositionForms().put(positionKey, form);
+		return form;
+	}
+	
+	/**
+	 * Method that checks if specific position of points matches attached NDG condition.
+	 * 
+	 * @param form	Prepared polynomials of position
+	 * @return		True if position generates attached NDG condition, false otherwise
+	 */
+	protected boolean matchesNDGCondition(PositionPolynomialForm form) {
+		return form.matches(this.ndgCond.getPolynomial(), this.ndgCond.getPolynomialHashCode());
+	}
+	
 	/**
 	 * Method for clearing auxiliary CP and setting initial values for indices.
 	 */
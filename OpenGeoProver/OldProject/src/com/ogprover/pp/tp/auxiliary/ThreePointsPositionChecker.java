@@ -5,8 +5,10 @@
 package com.ogprover.pp.tp.auxiliary;
 
 import java.util.ArrayList;
+import java.util.List;
 import java.util.Vector;
 
+import com.ogprover.polynomials.PositionPolynomialForm;
 import com.ogprover.polynomials.XPolynomial;
 import com.ogprover.pp.tp.geoconstruction.Circle;
 import com.ogprover.pp.tp.geoconstruction.CircleWithCenterAndPoint;
@@ -94,18 +96,24 @@ public class ThreePointsPositionChecker extends PointsPositionChecker {
 	 * @return		True if condition is met, false otherwise
 	 */
 	private boolean checkThreeCollinearPoints(Point A, Point B, Point C) {
-		this.clearAuxCP();
-		this.auxiliaryCP.addGeoConstruction(A);
-		this.auxiliaryCP.addGeoConstruction(B);
-		this.auxiliaryCP.addGeoConstruction(C);
-		ArrayList<Point> pointList = new ArrayList<Point>();
-		pointList.add(A);
-		pointList.add(B);
-		pointList.add(C);
-		this.auxiliaryCP.addThmStatement(new CollinearPoints(pointList));
-		XPolynomial statementPoly = this.auxiliaryCP.getTheoremStatement().getAlgebraicForm();
+		List<String> positionKey = PointsPositionChecker.getPositionKey("checkThreeCollinearPoints", A, B, C);
+		PositionPolynomialForm form = this.getPositionForm(positionKey);
 		
-		if (statementPoly != null && statementPoly.matchesNDGCPolynomial(this.ndgCond.getPolynomial())) {
+		if (form == null) {
+			this.clearAuxCP();
+			this.auxiliaryCP.addGeoConstruction(A);
+			this.auxiliaryCP.addGeoConstruction(B);
+			this.auxiliaryCP.addGeoConstruction(C);
+			ArrayList<Point> pointList = new ArrayList<Point>();
+			pointList.add(A);
+			pointList.add(B);
+			pointList.add(C);
+			this.auxiliaryCP.addThmStatement(new CollinearPoints(pointList));
+			XPolynomial statementPoly = this.auxiliaryCP.getTheoremStatement().getAlgebraicForm();
+			form = this.savePositionForm(positionKey, statementPoly);
+		}
+		
+		if (this.matchesNDGCondition(form)) {
 			Vector<Point> pointsV = new Vector<Point>();
 			pointsV.add(A);
 			pointsV.add(B);
@@ -126,24 +134,28 @@ public class ThreePointsPositionChecker extends PointsPositionChecker {
 	 * @return		True if condition is met, false otherwise
 	 */
 	private boolean checkMidPoint(Point A, Point B, Point C) {
-		this.clearAuxCP();
-		this.auxiliaryCP.addGeoConstruction(A);
-		this.auxiliaryCP.addGeoConstruction(B);
-		this.auxiliaryCP.addGeoConstruction(C);
-		Segment AC = new Segment(A, C);
-		Segment CB = new Segment(C, B);
-		this.auxiliaryCP.addThmStatement(new RatioOfOrientedSegments(AC, CB, 1));
-		XPolynomial statementXPoly = ((RatioOfOrientedSegments) this.auxiliaryCP.getTheoremStatement()).getXAlgebraicForm();
-		XPolynomial statementYPoly = ((RatioOfOrientedSegments) this.auxiliaryCP.getTheoremStatement()).getYAlgebraicForm();
-		XPolynomial statementPoly = null;
+		List<String> positionKey = PointsPositionChecker.getPositionKey("checkMidPoint", A, B, C);
+		PositionPolynomialForm form = this.getPositionForm(positionKey);
 		
-		if (statementXPoly != null && statementYPoly != null)
-			statementPoly = (XPolynomial)statementXPoly.clone().multiplyByPolynomial(statementXPoly)
-		                  .addPolynomial(statementYPoly.clone().multiplyByPolynomial(statementYPoly));
+		if (form == null) {
+			this.clearAuxCP();
+			this.auxiliaryCP.addGeoConstruction(A);
+			this.auxiliaryCP.addGeoConstruction(B);
+			this.auxiliaryCP.addGeoConstruction(C);
+			Segment AC = new Segment(A, C);
+			Segment CB = new Segment(C, B);
+			this.auxiliaryCP.addThmStatement(new RatioOfOrientedSegments(AC, CB, 1));
+			XPolynomial statementXPoly = ((RatioOfOrientedSegments) this.auxiliaryCP.getTheoremStatement()).getXAlgebraicForm();
+			XPolynomial statementYPoly = ((RatioOfOrientedSegments) this.auxiliaryCP.getTheoremStatement()).getYAlgebraicForm();
+			XPolynomial statementPoly = null;
+			
+			if (statementXPoly != null && statementYPoly != null)
+				statementPoly = (XPolynomial)statementXPoly.clone().multiplyByPolynomial(statementXPoly)
+			                  .addPolynomial(statementYPoly.clone().multiplyByPolynomial(statementYPoly));
+			form = this.savePositionForm(positionKey, statementXPoly, statementYPoly, statementPoly);
+		}
 		
-		if ((statementXPoly != null && statementXPoly.matchesNDGCPolynomial(this.ndgCond.getPolynomial())) ||
-			(statementYPoly != null && statementYPoly.matchesNDGCPolynomial(this.ndgCond.getPolynomial())) ||
-			(statementPoly != null && statementPoly.matchesNDGCPolynomial(this.ndgCond.getPolynomial()))) {
+		if (this.matchesNDGCondition(form)) {
 			Vector<Point> pointsV = new Vector<Point>();
 			pointsV.add(A);
 			pointsV.add(B);
@@ -164,16 +176,22 @@ public class ThreePointsPositionChecker extends PointsPositionChecker {
 	 * @return		True if condition is met, false otherwise
 	 */
 	private boolean checkPerpBisectorPoint(Point A, Point B, Point C) {
-		this.clearAuxCP();
-		this.auxiliaryCP.addGeoConstruction(A);
-		this.auxiliaryCP.addGeoConstruction(B);
-		this.auxiliaryCP.addGeoConstruction(C);
-		Line perpB = new PerpendicularBisector("perpB", A, B);
-		this.auxiliaryCP.addGeoConstruction(perpB);
-		this.auxiliaryCP.addThmStatement(new PointOnSetOfPoints(perpB, C));
-		XPolynomial statementPoly = this.auxiliaryCP.getTheoremStatement().getAlgebraicForm();
+		List<String> positionKey = PointsPositionChecker.getPositionKey("checkPerpBisectorPoint", A, B, C);
+		PositionPolynomialForm form = this.getPositionForm(positionKey);
+		
+		if (form == null) {
+			this.clearAuxCP();
+			this.auxiliaryCP.addGeoConstruction(A);
+			this.auxiliaryCP.addGeoConstruction(B);
+			this.auxiliaryCP.addGeoConstruction(C);
+			Line perpB = new PerpendicularBisector("perpB", A, B);
+			this.auxiliaryCP.addGeoConstruction(perpB);
+			this.auxiliaryCP.addThmStatement(new PointOnSetOfPoints(perpB, C));
+			XPolynomial statementPoly = this.auxiliaryCP.getTheoremStatement().getAlgebraicForm();
+			form = this.savePositionForm(positionKey, statementPoly);
+		}
 		
-		if (statementPoly != null && statementPoly.matchesNDGCPolynomial(this.ndgCond.getPolynomial())) {
+		if (this.matchesNDGCondition(form)) {
 			Vector<Point> pointsV = new Vector<Point>();
 			pointsV.add(A);
 			pointsV.add(B);
@@ -194,18 +212,24 @@ public class ThreePointsPositionChecker extends PointsPositionChecker {
 	 * @return		True if condition is met, false otherwise
 	 */
 	private boolean checkRightAngle(Point A, Point B, Point C) {
-		this.clearAuxCP();
-		this.auxiliaryCP.addGeoConstruction(A);
-		this.auxiliaryCP.addGeoConstruction(B);
-		this.auxiliaryCP.addGeoConstruction(C);
-		Line AC = new LineThroughTwoPoints("AC", A, C);
-		this.auxiliaryCP.addGeoConstruction(AC);
-		Line BC = new LineThroughTwoPoints("BC", B, C);
-		this.auxiliaryCP.addGeoConstruction(BC);
-		this.auxiliaryCP.addThmStatement(new TwoPerpendicularLines(AC, BC));
-		XPolynomial statementPoly = this.auxiliaryCP.getTheoremStatement().getAlgebraicForm();
+		List<String> positionKey = PointsPositionChecker.getPositionKey("checkRightAngle", A, B, C);
+		PositionPolynomialForm form = this.getPositionForm(positionKey);
 		
-		if (statementPoly != null && statementPoly.matchesNDGCPolynomial(this.ndgCond.getPolynomial())) {
+		if (form == null) {
+			this.clearAuxCP();
+			this.auxiliaryCP.addGeoConstruction(A);
+			this.auxiliaryCP.addGeoConstruction(B);
+			this.auxiliaryCP.addGeoConstruction(C);
+			Line AC = new LineThroughTwoPoints("AC", A, C);
+			this.auxiliaryCP.addGeoConstruction(AC);
+			Line BC = new LineThroughTwoPoints("BC", B, C);
+			this.auxiliaryCP.addGeoConstruction(BC);
+			this.auxiliaryCP.addThmStatement(new TwoPerpendicularLines(AC, BC));
+			XPolynomial statementPoly = this.auxiliaryCP.getTheoremStatement().getAlgebraicForm();
+			form = this.savePositionForm(positionKey, statementPoly);
+		}
+		
+		if (this.matchesNDGCondition(form)) {
 			Vector<Point> pointsV = new Vector<Point>();
 			pointsV.add(A);
 			pointsV.add(B);
@@ -226,16 +250,22 @@ public class ThreePointsPositionChecker extends PointsPositionChecker {
 	 * @return		True if condition is met, false otherwise
 	 */
 	private boolean checkPointOnCircle(Point A, Point B, Point C) {
-		this.clearAuxCP();
-		this.auxiliaryCP.addGeoConstruction(A);
-		this.auxiliaryCP.addGeoConstruction(B);
-		this.auxiliaryCP.addGeoConstruction(C);
-		Circle k = new CircleWithCenterAndPoint("k", A, B);
-		this.auxiliaryCP.addGeoConstruction(k);
-		this.auxiliaryCP.addThmStatement(new PointOnSetOfPoints(k, C));
-		XPolynomial statementPoly = this.auxiliaryCP.getTheoremStatement().getAlgebraicForm();
+		List<String> positionKey = PointsPositionChecker.getPositionKey("checkPointOnCircle", A, B, C);
+		PositionPolynomialForm form = this.getPositionForm(positionKey);
+		
+		if (form == null) {
+			this.clearAuxCP();
+			this.auxiliaryCP.addGeoConstruction(A);
+			this.auxiliaryCP.addGeoConstruction(B);
+			this.auxiliaryCP.addGeoConstruction(C);
+			Circle k = new CircleWithCenterAndPoint("k", A, B);
+			this.auxiliaryCP.addGeoConstruction(k);
+			this.auxiliaryCP.addThmStatement(new PointOnSetOfPoints(k, C));
+			XPolynomial statementPoly = this.auxiliaryCP.getTheoremStatement().getAlgebraicForm();
+			form = this.savePositionForm(positionKey, statementPoly);
+		}
 		
-		if (statementPoly != null && statementPoly.matchesNDGCPolynomial(this.ndgCond.getPolynomial())) {
+		if (this.matchesNDGCondition(form)) {
 			Vector<Point> pointsV = new Vector<Point>();
 			pointsV.add(A);
 			pointsV.add(B);
@@ -256,14 +286,20 @@ public class ThreePointsPositionChecker extends PointsPositionChecker {
 	 * @return		True if condition is met, false otherwise
 	 */
 	private boolean checkAlgebraicSumOfThreeSegments(Point A, Point B, Point C) {
-		this.clearAuxCP();
-		this.auxiliaryCP.addGeoConstruction(A);
-		this.auxiliaryCP.addGeoConstruction(B);
-		this.auxiliaryCP.addGeoConstruction(C);
-		this.auxiliaryCP.addThmStatement(new AlgebraicSumOfThreeSegments(A, B, A, C, C, B));
-		XPolynomial statementPoly = this.auxiliaryCP.getTheoremStatement().getAlgebraicForm();
+		List<String> positionKey = PointsPositionChecker.getPositionKey("checkAlgebraicSumOfThreeSegments", A, B, C);
+		PositionPolynomialForm form = this.getPositionForm(positionKey);
+		
+		if (form == null) {
+			this.clearAuxCP();
+			this.auxiliaryCP.addGeoConstruction(A);
+			this.auxiliaryCP.addGeoConstruction(B);
+			this.auxiliaryCP.addGeoConstruction(C);
+			this.auxiliaryCP.addThmStatement(new AlgebraicSumOfThreeSegments(A, B, A, C, C, B));
+			XPolynomial statementPoly = this.auxiliaryCP.getTheoremStatement().getAlgebraicForm();
+			form = this.savePositionForm(positionKey, statementPoly);
+		}
 		
-		if (statementPoly != null && statementPoly.matchesNDGCPolynomial(this.ndgCond.getPolynomial())) {
+		if (this.matchesNDGCondition(form)) {
 			Vector<Point> pointsV = new Vector<Point>();
 			pointsV.add(A);
 			pointsV.add(B);
@@ -4,8 +4,10 @@
 
 package com.ogprover.pp.tp.auxiliary;
 
+import java.util.List;
 import java.util.Vector;
 
+import com.ogprover.polynomials.PositionPolynomialForm;
 import com.ogprover.polynomials.XPolynomial;
 import com.ogprover.pp.tp.geoconstruction.Point;
 import com.ogprover.pp.tp.ndgcondition.AlgebraicNDGCondition;
@@ -98,13 +100,19 @@ public class TwoPointsPositionChecker extends PointsPositionChecker {
 		Point B = pointList.get(1).clone();
 		
 		// Check if points are equal
-		this.clearAuxCP();
-		this.auxiliaryCP.addGeoConstruction(A);
-		this.auxiliaryCP.addGeoConstruction(B);
-		this.auxiliaryCP.addThmStatement(new IdenticalPoints(A, B));
-		XPolynomial statementPoly = this.auxiliaryCP.getTheoremStatement().getAlgebraicForm();
+		List<String> positionKey = PointsPositionChecker.getPositionKey("checkIdenticalPoints", A, B);
+		PositionPolynomialForm form = this.getPositionForm(positionKey);
 		
-		if (statementPoly != null && statementPoly.matchesNDGCPolynomial(this.ndgCond.getPolynomial())) {
+		if (form == null) {
+			this.clearAuxCP();
+			this.auxiliaryCP.addGeoConstruction(A);
+			this.auxiliaryCP.addGeoConstruction(B);
+			this.auxiliaryCP.addThmStatement(new IdenticalPoints(A, B));
+			XPolynomial statementPoly = this.auxiliaryCP.getTheoremStatement().getAlgebraicForm();
+			form = this.savePositionForm(positionKey, statementPoly);
+		}
+		
+		if (this.matchesNDGCondition(form)) {
 			this.ndgCond.addNewTranslation(AlgebraicNDGCondition.NDG_TYPE_2PT_IDENTICAL, pointList);
 			return true;
 		}
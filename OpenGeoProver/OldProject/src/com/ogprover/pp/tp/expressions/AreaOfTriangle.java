@@ -145,7 +145,7 @@ public class AreaOfTriangle extends GeometricQuantity {
 			set.add(b);
 			set.add(c);
 			if (knownCollinearPoints.contains(set)) {
-				OpenGeoProver.settings.getLogger().debug("Koukou : " + this.print());
+				OpenGeoProver.getSettings().getLogger().debug("Koukou : " + this.print());
 				return new BasicNumber(0);
 			}
 		}
@@ -228,7 +228,7 @@ public class Fraction extends AMExpression {
 	@Override
 	public AMExpression toSumOfProducts() {
 		//return new Fraction(numerator.toSumOfProducts(), denominator);
-		OpenGeoProver.settings.getLogger().error("Calling toSumOfProduct on an instance of Fraction : " + this.print());
+		OpenGeoProver.getSettings().getLogger().error("Calling toSumOfProduct on an instance of Fraction : " + this.print());
 		return null;
 	}
 	
@@ -457,7 +457,7 @@ public class RatioOfCollinearSegments extends GeometricQuantity {
 			}
 		}
 		
-		OpenGeoProver.settings.getLogger().error("Unexpected form of fraction : " + this.print() +
+		OpenGeoProver.getSettings().getLogger().error("Unexpected form of fraction : " + this.print() +
 				" where the point to eliminate is " + pt.getGeoObjectLabel());
 		return null;
 	}
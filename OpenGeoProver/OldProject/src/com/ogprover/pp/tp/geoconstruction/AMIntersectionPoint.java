@@ -147,8 +147,8 @@ public class AMIntersectionPoint extends IntersectionPoint {
 	 */
 	@Override
 	public boolean isValidConstructionStep() {
-		OGPOutput output = OpenGeoProver.settings.getOutput();
-		ILogger logger = OpenGeoProver.settings.getLogger();
+		OGPOutput output = OpenGeoProver.getSettings().getOutput();
+		ILogger logger = OpenGeoProver.getSettings().getLogger();
 		
 		if (!super.isValidConstructionStep())
 			return false;
@@ -172,7 +172,7 @@ public class AngleOf60Deg extends GeoConstruction implements SpecialConstantAngl
 	 * 						will be processed by caller method
 	 */
 	private void instantiateParametricPoint() throws IOException {
-		OGPOutput output = OpenGeoProver.settings.getOutput();
+		OGPOutput output = OpenGeoProver.getSettings().getOutput();
 		Point point = this.parametricPoint;
 		
 		point.setX(new UXVariable(Variable.VAR_TYPE_UX_X, this.consProtocol.getXIndex()));
@@ -196,8 +196,8 @@ public class AngleOf60Deg extends GeoConstruction implements SpecialConstantAngl
      * @see com.ogprover.pp.tp.geoconstruction.SpecialConstantAngle#transformToAlgebraicForm()
      */
 	public int transformToAlgebraicForm() {
-    	OGPOutput output = OpenGeoProver.settings.getOutput();
-    	ILogger logger = OpenGeoProver.settings.getLogger();
+    	OGPOutput output = OpenGeoProver.getSettings().getOutput();
+    	ILogger logger = OpenGeoProver.getSettings().getLogger();
 		
 		try {
 			output.openSubSection("Transformation of angle " + this.geoObjectLabel + " of 60 degrees: ", true);
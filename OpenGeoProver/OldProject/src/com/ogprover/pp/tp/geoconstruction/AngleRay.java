@@ -191,8 +191,8 @@ public class AngleRay extends Line {
 	 */
 	@Override
 	public boolean isValidConstructionStep() {
-		OGPOutput output = OpenGeoProver.settings.getOutput();
-		ILogger logger = OpenGeoProver.settings.getLogger();
+		OGPOutput output = OpenGeoProver.getSettings().getOutput();
+		ILogger logger = OpenGeoProver.getSettings().getLogger();
 		
 		if (!super.isValidConstructionStep())
 			return false;
@@ -242,7 +242,7 @@ public class AngleRay extends Line {
 	 */
 	@Override
 	public int findBestPointsForInstantation(PointSetRelationshipManager manager) {
-		ILogger logger = OpenGeoProver.settings.getLogger();
+		ILogger logger = OpenGeoProver.getSettings().getLogger();
 		
 		// First call method from superclass - it implements default behavior considering
 		// this line as plain line through two points
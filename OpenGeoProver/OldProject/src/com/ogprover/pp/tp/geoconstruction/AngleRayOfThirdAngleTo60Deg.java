@@ -244,8 +244,8 @@ public class AngleRayOfThirdAngleTo60Deg extends Line {
 	 */
 	@Override
 	public boolean isValidConstructionStep() {
-		OGPOutput output = OpenGeoProver.settings.getOutput();
-		ILogger logger = OpenGeoProver.settings.getLogger();
+		OGPOutput output = OpenGeoProver.getSettings().getOutput();
+		ILogger logger = OpenGeoProver.getSettings().getLogger();
 		
 		if (!super.isValidConstructionStep())
 			return false;
@@ -306,7 +306,7 @@ public class AngleRayOfThirdAngleTo60Deg extends Line {
 	 */
 	@Override
 	public int findBestPointsForInstantation(PointSetRelationshipManager manager) {
-		ILogger logger = OpenGeoProver.settings.getLogger();
+		ILogger logger = OpenGeoProver.getSettings().getLogger();
 		
 		// First call method from superclass - it implements default behavior considering
 		// this line as plain line through two points
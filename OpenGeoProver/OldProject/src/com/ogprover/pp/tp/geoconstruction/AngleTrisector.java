@@ -145,8 +145,8 @@ public class AngleTrisector extends Line {
 	 */
 	@Override
 	public boolean isValidConstructionStep() {
-		OGPOutput output = OpenGeoProver.settings.getOutput();
-		ILogger logger = OpenGeoProver.settings.getLogger();
+		OGPOutput output = OpenGeoProver.getSettings().getOutput();
+		ILogger logger = OpenGeoProver.getSettings().getLogger();
 		
 		if (!super.isValidConstructionStep())
 			return false;
@@ -195,7 +195,7 @@ public class AngleTrisector extends Line {
 	 */
 	@Override
 	public int findBestPointsForInstantation(PointSetRelationshipManager manager) {
-		ILogger logger = OpenGeoProver.settings.getLogger();
+		ILogger logger = OpenGeoProver.getSettings().getLogger();
 		
 		// First call method from superclass - it implements default behavior considering
 		// this line as plain line through two points
@@ -108,7 +108,7 @@ public class CenterOfCircle extends ShortcutConstruction {
 		// If there are no three points on given circle, center could not be constructed
 		Vector<Point> circlePoints = circle.getPoints();
 		if (circlePoints.size() < 3) {
-			OpenGeoProver.settings.getLogger().error("Unable to construct center of circle " + circle.getGeoObjectLabel() + " because it doesn't have three points.");
+			OpenGeoProver.getSettings().getLogger().error("Unable to construct center of circle " + circle.getGeoObjectLabel() + " because it doesn't have three points.");
 			return;
 		}
 		
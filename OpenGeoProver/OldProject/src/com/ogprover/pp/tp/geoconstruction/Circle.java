@@ -427,7 +427,7 @@ public abstract class Circle extends GeoConstruction implements SetOfPoints {
 	 * @see com.ogprover.pp.tp.geoconstruction.SetOfPoints#findBestPointsForInstantation(com.ogprover.pp.tp.auxiliary.PointSetRelationshipManager)
 	 */
 	public int findBestPointsForInstantation(PointSetRelationshipManager manager) {
-		ILogger logger = OpenGeoProver.settings.getLogger();
+		ILogger logger = OpenGeoProver.getSettings().getLogger();
 		
 		// NOTE: This method is used to find best elements for process of transformation
 		// in algebraic form. It is implemented by calling same methods like in
@@ -507,6 +507,8 @@ public abstract class Circle extends GeoConstruction implements SetOfPoints {
 			 * safe to repeat such kind of iteration in nested loops.
 			 */
 			
+			ArrayList<Map<String, Point>> candidates = new ArrayList<Map<String, Point>>();
+			
 			for (int iA = 0, jA = this.points.size(); iA < jA; iA++) {
 				Point pointA = this.points.get(iA);
 				
@@ -515,19 +517,23 @@ public abstract class Circle extends GeoConstruction implements SetOfPoints {
 					continue;
 				
 				// put chosen points in map with current elements for instantiation
-				pointsMap.put(ALabel, pointA.clone());
-				
-				manager.processPointsAndCondition(pointsMap);
-				
-				if (manager.isErrorFlag()) {
-					logger.error("Failed in processing specific condition for circle with given center and one its point.");
-					return OGPConstants.ERR_CODE_GENERAL;
-				}
-				
-				// if polynomial that renames coordinates of point is found, stop further search
-				if (manager.getPoint().getPointState() == Point.POINT_STATE_RENAMED)
-					return OGPConstants.RET_CODE_SUCCESS;
+				Map<String, Point> candidate = new HashMap<String, Point>(pointsMap);
+				candidate.put(ALabel, pointA.clone());
+				candidates.add(candidate);
+			}
+			
+			// candidates are processed in order in which they are listed here; search
+			// stops when polynomial that renames coordinates of point is found
+			manager.processPointsAndConditions(candidates);
+			
+			if (manager.isErrorFlag()) {
+				logger.error("Failed in processing specific condition for circle with given center and one its point.");
+				return OGPConstants.ERR_CODE_GENERAL;
 			}
+			
+			// if polynomial that renames coordinates of point is found, stop further search
+			if (manager.getPoint().getPointState() == Point.POINT_STATE_RENAMED)
+				return OGPConstants.RET_CODE_SUCCESS;
 		}
 		
 		// turn the state of point P to UNCHANGED so it can be reset 
@@ -543,6 +549,8 @@ public abstract class Circle extends GeoConstruction implements SetOfPoints {
 		// therefore it is important to swap them all correctly - we need three different
 		// points constructed before point from manager.
 		
+		ArrayList<Map<String, Point>> candidates = new ArrayList<Map<String, Point>>();
+		
 		// Pass all points of this circle to search for first point from circle
 		for (int iA = 0, jA = this.points.size(); iA < jA; iA++) {
 			Point pointA = this.points.get(iA);
@@ -564,24 +572,26 @@ public abstract class Circle extends GeoConstruction implements SetOfPoints {
 					if (pointC.getIndex() >= P.getIndex() || pointC.getIndex() == pointA.getIndex() || pointC.getIndex() == pointB.getIndex()) // C constructed after P or is P or is A/B - skip it
 						continue;
 					
-					pointsMap.put(ALabel, pointA);
-					pointsMap.put(BLabel, pointB);
-					pointsMap.put(CLabel, pointC);
-		
-					manager.processPointsAndCondition(pointsMap);
-		
-					if (manager.isErrorFlag()) {
-						logger.error("Failed in processing specific polynomial for circle with three points on it.");
-						return OGPConstants.ERR_CODE_GENERAL;
-					}
-					
-					// if polynomial that renames coordinates of point is found, stop further search
-					if (manager.getPoint().getPointState() == Point.POINT_STATE_RENAMED)
-						return OGPConstants.RET_CODE_SUCCESS;
+					Map<String, Point> candidate = new HashMap<String, Point>(pointsMap);
+					candidate.put(ALabel, pointA);
+					candidate.put(BLabel, pointB);
+					candidate.put(CLabel, pointC);
+					candidates.add(candidate);
 				}
 			}
 		}
 		
+		manager.processPointsAndConditions(candidates);
+		
+		if (manager.isErrorFlag()) {
+			logger.error("Failed in processing specific polynomial for circle with three points on it.");
+			return OGPConstants.ERR_CODE_GENERAL;
+		}
+		
+		// if polynomial that renames coordinates of point is found, stop further search
+		if (manager.getPoint().getPointState() == Point.POINT_STATE_RENAMED)
+			return OGPConstants.RET_CODE_SUCCESS;
+		
 		/*
 		 * Finally check if circle is special case of circle with given diameter
 		 */
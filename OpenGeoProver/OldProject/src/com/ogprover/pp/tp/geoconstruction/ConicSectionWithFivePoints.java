@@ -219,7 +219,7 @@ public class ConicSectionWithFivePoints extends ParametricSet implements ConicSe
 		 * necessary is to use parametric points.
 		 */
 
-		ILogger logger = OpenGeoProver.settings.getLogger();
+		ILogger logger = OpenGeoProver.getSettings().getLogger();
 		
 		// NOTE: This method is used to find best elements for process of transformation
 		// in algebraic form. It is implemented by calling same methods like in
@@ -350,7 +350,7 @@ public class ConicSectionWithFivePoints extends ParametricSet implements ConicSe
 	 * 						will be processed by caller method
 	 */
 	private void instantiateParametricPoint(int pointIndex) throws IOException {
-		OGPOutput output = OpenGeoProver.settings.getOutput();
+		OGPOutput output = OpenGeoProver.getSettings().getOutput();
 		Point point = this.parametricPoints.get(pointIndex);
 		
 		point.setX(new UXVariable(Variable.VAR_TYPE_UX_X, this.consProtocol.getXIndex()));
@@ -375,7 +375,7 @@ public class ConicSectionWithFivePoints extends ParametricSet implements ConicSe
 	 * 						will be processed by caller method
 	 */
 	private void generatePolynomialForPointFromConicSection(int pointIndex) throws IOException {
-		OGPOutput output = OpenGeoProver.settings.getOutput();
+		OGPOutput output = OpenGeoProver.getSettings().getOutput();
 		Point point = this.points.get(pointIndex);
 		
 		XPolynomial polyCond = this.instantiateConditionFromBasicElements(point);
@@ -400,8 +400,8 @@ public class ConicSectionWithFivePoints extends ParametricSet implements ConicSe
      * @return	Returns SUCCESS if successful or general error otherwise 
      */
     public int transformToAlgebraicForm() {
-    	OGPOutput output = OpenGeoProver.settings.getOutput();
-    	ILogger logger = OpenGeoProver.settings.getLogger();
+    	OGPOutput output = OpenGeoProver.getSettings().getOutput();
+    	ILogger logger = OpenGeoProver.getSettings().getLogger();
 		
 		try {
 			output.openSubSection("Transformation of general conic section " + this.geoObjectLabel + ": ", true);
@@ -128,8 +128,8 @@ public class FreePoint extends Point {
 	 */
 	@Override
 	public int transformToAlgebraicForm() {
-		OGPOutput output = OpenGeoProver.settings.getOutput();
-		ILogger logger = OpenGeoProver.settings.getLogger();
+		OGPOutput output = OpenGeoProver.getSettings().getOutput();
+		ILogger logger = OpenGeoProver.getSettings().getLogger();
 		
 		try {
 			output.openSubSection("Transformation of point " + this.geoObjectLabel + ": ", true);
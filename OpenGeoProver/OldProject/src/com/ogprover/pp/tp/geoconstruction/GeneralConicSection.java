@@ -227,7 +227,7 @@ public class GeneralConicSection extends FreeParametricSet implements ConicSecti
 		 * necessary is to use parametric points.
 		 */
 
-		ILogger logger = OpenGeoProver.settings.getLogger();
+		ILogger logger = OpenGeoProver.getSettings().getLogger();
 		
 		// NOTE: This method is used to find best elements for process of transformation
 		// in algebraic form. It is implemented by calling same methods like in
@@ -357,7 +357,7 @@ public class GeneralConicSection extends FreeParametricSet implements ConicSecti
 	 * 						will be processed by caller method
 	 */
 	private void instantiateParametricPoint(int pointIndex) throws IOException {
-		OGPOutput output = OpenGeoProver.settings.getOutput();
+		OGPOutput output = OpenGeoProver.getSettings().getOutput();
 		Point point = this.parametricPoints.get(pointIndex);
 		
 		point.setX(new UXVariable(Variable.VAR_TYPE_UX_U, this.consProtocol.getUIndex()));
@@ -379,8 +379,8 @@ public class GeneralConicSection extends FreeParametricSet implements ConicSecti
      * @return	Returns SUCCESS if successful or general error otherwise 
      */
     public int transformToAlgebraicForm() {
-    	OGPOutput output = OpenGeoProver.settings.getOutput();
-    	ILogger logger = OpenGeoProver.settings.getLogger();
+    	OGPOutput output = OpenGeoProver.getSettings().getOutput();
+    	ILogger logger = OpenGeoProver.getSettings().getLogger();
 		
 		try {
 			output.openSubSection("Transformation of general conic section " + this.geoObjectLabel + ": ", true);
@@ -432,8 +432,8 @@ public abstract class GeoConstruction implements GeoObject {
 		// label of this object, so duplicate objects will be checked
 		// when validating whole theorem protocol.
 		
-		OGPOutput output = OpenGeoProver.settings.getOutput();
-		ILogger logger = OpenGeoProver.settings.getLogger();
+		OGPOutput output = OpenGeoProver.getSettings().getOutput();
+		ILogger logger = OpenGeoProver.getSettings().getLogger();
 		
 		try {
 			if (this.consProtocol == null) {
@@ -427,8 +427,8 @@ public class HarmonicConjugatePoint extends SelfConditionalPoint {
 	 */
 	@Override
 	public boolean isValidConstructionStep() {
-		OGPOutput output = OpenGeoProver.settings.getOutput();
-		ILogger logger = OpenGeoProver.settings.getLogger();
+		OGPOutput output = OpenGeoProver.getSettings().getOutput();
+		ILogger logger = OpenGeoProver.getSettings().getLogger();
 		
 		if (!super.isValidConstructionStep())
 			return false;
@@ -545,7 +545,7 @@ public class HarmonicConjugatePoint extends SelfConditionalPoint {
 
 	@Override
 	public Point replace(HashMap<Point, Point> replacementMap) {
-		OpenGeoProver.settings.getLogger().error("This method should not be called on this class.");
+		OpenGeoProver.getSettings().getLogger().error("This method should not be called on this class.");
 		return null;
 	}
 }
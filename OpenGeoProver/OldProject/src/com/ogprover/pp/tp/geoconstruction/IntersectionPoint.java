@@ -178,8 +178,8 @@ public class IntersectionPoint extends Point {
 	 */
 	@Override
 	public boolean isValidConstructionStep() {
-		OGPOutput output = OpenGeoProver.settings.getOutput();
-		ILogger logger = OpenGeoProver.settings.getLogger();
+		OGPOutput output = OpenGeoProver.getSettings().getOutput();
+		ILogger logger = OpenGeoProver.getSettings().getLogger();
 		
 		if (!super.isValidConstructionStep())
 			return false;
@@ -234,8 +234,8 @@ public class IntersectionPoint extends Point {
 	 * @see com.ogprover.pp.tp.geoconstruction.Point#transformToAlgebraicForm()
 	 */
 	public int transformToAlgebraicFormWithOutputPrintFlag(boolean outputPrintFlag) {
-		ILogger logger = OpenGeoProver.settings.getLogger();
-		OGPOutput output = OpenGeoProver.settings.getOutput();
+		ILogger logger = OpenGeoProver.getSettings().getLogger();
+		OGPOutput output = OpenGeoProver.getSettings().getOutput();
 		
 		try {
 			if (outputPrintFlag) {
@@ -524,7 +524,7 @@ public class IntersectionPoint extends Point {
 	public Point replace(HashMap<Point, Point> replacementMap) {
 		if (this instanceof AMIntersectionPoint)
 			return ((AMIntersectionPoint)this).replace(replacementMap);
-		OpenGeoProver.settings.getLogger().error("This method should not be called on this class.");
+		OpenGeoProver.getSettings().getLogger().error("This method should not be called on this class.");
 		return null;
 	}
 }
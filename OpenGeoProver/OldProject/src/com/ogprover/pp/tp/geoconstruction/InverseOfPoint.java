@@ -437,8 +437,8 @@ public class InverseOfPoint extends SelfConditionalPoint {
 	 */
 	@Override
 	public boolean isValidConstructionStep() {
-		OGPOutput output = OpenGeoProver.settings.getOutput();
-		ILogger logger = OpenGeoProver.settings.getLogger();
+		OGPOutput output = OpenGeoProver.getSettings().getOutput();
+		ILogger logger = OpenGeoProver.getSettings().getLogger();
 		
 		if (!super.isValidConstructionStep())
 			return false;
@@ -571,7 +571,7 @@ public class InverseOfPoint extends SelfConditionalPoint {
 
 	@Override
 	public Point replace(HashMap<Point, Point> replacementMap) {
-		OpenGeoProver.settings.getLogger().error("This method should not be called on this class.");
+		OpenGeoProver.getSettings().getLogger().error("This method should not be called on this class.");
 		return null;
 	}
 }
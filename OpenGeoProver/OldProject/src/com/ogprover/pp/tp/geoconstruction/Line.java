@@ -122,7 +122,7 @@ public abstract class Line extends GeoConstruction implements SetOfPoints {
 	 * @see com.ogprover.pp.tp.geoconstruction.SetOfPoints#findBestPointsForInstantation(com.ogprover.pp.tp.auxiliary.PointSetRelationshipManager)
 	 */
 	public int findBestPointsForInstantation(PointSetRelationshipManager manager) {
-		ILogger logger = OpenGeoProver.settings.getLogger();
+		ILogger logger = OpenGeoProver.getSettings().getLogger();
 		
 		// NOTE: This method is used to find best elements for process of transformation
 		// in algebraic form. It is implemented by calling same methods like in
@@ -163,6 +163,8 @@ public abstract class Line extends GeoConstruction implements SetOfPoints {
 		
 		// Points A and B are not equivalent in symbolic polynomial for condition for this line;
 		// therefore we have to provide all variations of these points
+		ArrayList<Map<String, Point>> candidates = new ArrayList<Map<String, Point>>();
+		
 		for (int iA = 0, jA = this.points.size(); iA < jA; iA++) {
 			Point pointA = this.points.get(iA);
 			// choose as first point one of those constructed before P
@@ -177,22 +179,22 @@ public abstract class Line extends GeoConstruction implements SetOfPoints {
 					continue;
 				
 				// put chosen points in map with current elements for instantiation
-				pointsMap.put(ALabel, pointA);
-				pointsMap.put(BLabel, pointB);
-				
-				manager.processPointsAndCondition(pointsMap);
-				
-				if (manager.isErrorFlag()) {
-					logger.error("Failed in processing specific condition for plain line i.e. line through two points.");
-					return OGPConstants.ERR_CODE_GENERAL;
-				}
-				
-				// if polynomial that renames coordinates of point is found, stop further search
-				if (manager.getPoint().getPointState() == Point.POINT_STATE_RENAMED)
-					return OGPConstants.RET_CODE_SUCCESS;
+				Map<String, Point> candidate = new HashMap<String, Point>(pointsMap);
+				candidate.put(ALabel, pointA);
+				candidate.put(BLabel, pointB);
+				candidates.add(candidate);
 			}
 		}
 		
+		// candidates are processed in order in which they are listed here; search
+		// stops when polynomial that renames coordinates of point is found
+		manager.processPointsAndConditions(candidates);
+		
+		if (manager.isErrorFlag()) {
+			logger.error("Failed in processing specific condition for plain line i.e. line through two points.");
+			return OGPConstants.ERR_CODE_GENERAL;
+		}
+		
 		return OGPConstants.RET_CODE_SUCCESS;
 	}
 	
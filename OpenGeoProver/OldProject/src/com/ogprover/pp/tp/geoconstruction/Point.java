@@ -8,6 +8,7 @@ package com.ogprover.pp.tp.geoconstruction;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 
 import com.ogprover.main.OGPConstants;
 import com.ogprover.main.OpenGeoProver;
@@ -331,12 +332,14 @@ public abstract class Point extends GeoConstruction implements Cloneable {
 	 * 							False otherwise - it will be false when this method is called
 	 * 							just for testing of some polynomial to see if it will be chosen
 	 * 							as condition instance for this point.
+	 * @param apply				True if coordinate has to be renamed, false if it is only checked
+	 * 							whether renaming is possible (then point is not changed)
 	 * @return					PROCESSPOLY_RETCODE_COORDINATES_RENAMED if renaming was successful
 	 * 							or ERR_CODE_GENERAL in case of error
 	 */
-	private int renameCoordinate(short coordinateType, short newVarType, long newIndex, boolean writeToOutput) {
-		ILogger logger = OpenGeoProver.settings.getLogger();
-		OGPOutput output = OpenGeoProver.settings.getOutput();
+	private int renameCoordinate(short coordinateType, short newVarType, long newIndex, boolean writeToOutput, boolean apply) {
+		ILogger logger = OpenGeoProver.getSettings().getLogger();
+		OGPOutput output = OpenGeoProver.getSettings().getOutput();
 		String messageForOutput = "";
 		
 		// check input arguments - type and index of new variable
@@ -412,7 +415,8 @@ public abstract class Point extends GeoConstruction implements Cloneable {
 							return OGPConstants.ERR_CODE_GENERAL;
 						}
 					}
-					this.Y.setIndex(this.X.getIndex()); // reuse old index
+					if (apply)
+						this.Y.setIndex(this.X.getIndex()); // reuse old index
 				}
 				else if (this.Y.getIndex() == this.X.getIndex()) {
 					logger.info("Another coordinate of point will be renamed too");
@@ -430,6 +434,9 @@ public abstract class Point extends GeoConstruction implements Cloneable {
 				}
 			}
 			
+			if (!apply)
+				return Point.PROCESSPOLY_RETCODE_COORDINATES_RENAMED;
+			
 			// rename X
 			this.X.setVariableType(newVarType);
 			this.X.setIndex(newIndex);
@@ -508,7 +515,8 @@ public abstract class Point extends GeoConstruction implements Cloneable {
 							return OGPConstants.ERR_CODE_GENERAL;
 						}
 					}
-					this.X.setIndex(this.Y.getIndex()); // reuse old index
+					if (apply)
+						this.X.setIndex(this.Y.getIndex()); // reuse old index
 				}
 				else if (this.X.getIndex() == this.Y.getIndex()) {
 					logger.info("Another coordinate of point will be renamed too");
@@ -526,6 +534,9 @@ public abstract class Point extends GeoConstruction implements Cloneable {
 				}
 			}
 			
+			if (!apply)
+				return Point.PROCESSPOLY_RETCODE_COORDINATES_RENAMED;
+			
 			// rename Y
 			this.Y.setVariableType(newVarType);
 			this.Y.setIndex(newIndex);
@@ -579,12 +590,13 @@ public abstract class Point extends GeoConstruction implements Cloneable {
 	 * 						False otherwise - it will be false when this method is called
 	 * 						just for testing of some polynomial to see if it will be chosen
 	 * 						as condition instance for this point.
+	 * @param apply			True if polynomial has to be added, false if system is not changed
 	 * @return				PROCESSPOLY_RETCODE_ADDED_TO_SYSTEM if polynomial is added
 	 * 						successfully, or ERR_CODE_GENERAL in case of error
 	 */
-	private int addPolynomialToSystem(XPolynomial xPoly, boolean writeToOutput) {
-		ILogger logger = OpenGeoProver.settings.getLogger();
-		OGPOutput output = OpenGeoProver.settings.getOutput();
+	private int addPolynomialToSystem(XPolynomial xPoly, boolean writeToOutput, boolean apply) {
+		ILogger logger = OpenGeoProver.getSettings().getLogger();
+		OGPOutput output = OpenGeoProver.getSettings().getOutput();
 		
 		// When polynomial is added to the system, it is polynomial
 		// with new variables. There could exist at the most only one
@@ -609,8 +621,10 @@ public abstract class Point extends GeoConstruction implements Cloneable {
 				return OGPConstants.ERR_CODE_GENERAL;
 			}
 		}
-		this.consProtocol.getAlgebraicGeoTheorem().getHypotheses().addXPoly(xPoly);
-		logger.debug(xPoly.printToLaTeX());
+		if (apply) {
+			this.consProtocol.getAlgebraicGeoTheorem().getHypotheses().addXPoly(xPoly);
+			logger.debug(xPoly.printToLaTeX());
+		}
 		return Point.PROCESSPOLY_RETCODE_ADDED_TO_SYSTEM;
 	}
 	
@@ -650,8 +664,8 @@ public abstract class Point extends GeoConstruction implements Cloneable {
 	 * 						value is returned. 
 	 */
 	public final int processConstructionPolynomial(XPolynomial xPoly, boolean writeToOutput) {
-		ILogger logger = OpenGeoProver.settings.getLogger();
-		OGPOutput output = OpenGeoProver.settings.getOutput();
+		ILogger logger = OpenGeoProver.getSettings().getLogger();
+		OGPOutput output = OpenGeoProver.getSettings().getOutput();
 		
 		logger.debug("Starting processing of polynomial...");
 		if (writeToOutput) {
@@ -666,7 +680,7 @@ public abstract class Point extends GeoConstruction implements Cloneable {
 			}
 		}
 		
-		int retCode = this.processConstructionPolynomialLogic(xPoly, writeToOutput);
+		int retCode = this.processConstructionPolynomialLogic(xPoly, writeToOutput, true);
 		
 		logger.debug("Finished processing of polynomial");
 		if (writeToOutput) {
@@ -682,14 +696,49 @@ public abstract class Point extends GeoConstruction implements Cloneable {
 		return retCode;
 	}
 	
+	/**
+	 * <b>[final method]</b><br>
+	 * Method that determines the action which processConstructionPolynomial() would take
+	 * for passed in polynomial, without taking it: neither this point nor system of
+	 * polynomials are changed and nothing is written to output reports. It is used for
+	 * testing of polynomials in search for best elements for instantiation of condition.
+	 * 
+	 * @param xPoly		XPolynomial representing the instance of condition of this point
+	 * @return			Same return code as processConstructionPolynomial() would return
+	 * 
+	 * @see com.ogprover.pp.tp.geoconstruction.Point#processConstructionPolynomial(XPolynomial xPoly, boolean writeToOutput)
+	 */
+	public final int evaluateConstructionPolynomial(XPolynomial xPoly) {
+		return this.processConstructionPolynomialLogic(xPoly, false, false);
+	}
+	
+	/**
+	 * Method that checks whether some term of polynomial contains dependent
+	 * coordinate of this point.
+	 * 
+	 * @param terms		Terms of polynomial
+	 * @return			True if at least one dependent coordinate of this point is found,
+	 * 					false otherwise
+	 */
+	public boolean containsDependentCoordinate(List<Term> terms) {
+		for (Term t : terms) {
+			if ((this.X.getVariableType() == Variable.VAR_TYPE_UX_X && t.getVectorIndexOfVarIndex(this.X.getIndex()) > -1) ||
+				(this.Y.getVariableType() == Variable.VAR_TYPE_UX_X && t.getVectorIndexOfVarIndex(this.Y.getIndex()) > -1))
+				return true;
+		}
+		return false;
+	}
+	
 	/**
 	 * Method that contains the logic of processing polynomial
 	 * 
+	 * @param apply		True if action is taken, false if it is only determined
+	 * 
 	 * @see com.ogprover.pp.tp.geoconstruction.Point#processConstructionPolynomial(XPolynomial xPoly, boolean writeToOutput)
 	 */
-	private int processConstructionPolynomialLogic(XPolynomial xPoly, boolean writeToOutput) {
-		ILogger logger = OpenGeoProver.settings.getLogger();
-		OGPOutput output = OpenGeoProver.settings.getOutput();
+	private int processConstructionPolynomialLogic(XPolynomial xPoly, boolean writeToOutput, boolean apply) {
+		ILogger logger = OpenGeoProver.getSettings().getLogger();
+		OGPOutput output = OpenGeoProver.getSettings().getOutput();
 		
 		// If this point is free, there should no be any condition for it
 		if (this.X.getVariableType() == Variable.VAR_TYPE_UX_U &&
@@ -714,15 +763,7 @@ public abstract class Point extends GeoConstruction implements Cloneable {
 		// this point it is bad. In this case if point is half-dependent i.e.
 		// one its coordinate is u-variable, it will be tried again with another
 		// point instance if it is possible.
-		boolean found = false;
-		for (Term t : terms) {
-			if ((this.X.getVariableType() == Variable.VAR_TYPE_UX_X && t.getVectorIndexOfVarIndex(this.X.getIndex()) > -1) ||
-				(this.Y.getVariableType() == Variable.VAR_TYPE_UX_X && t.getVectorIndexOfVarIndex(this.Y.getIndex()) > -1)) {
-				found = true;
-				break;
-			}
-		}
-		if (!found) {
+		if (!this.containsDependentCoordinate(terms)) {
 			if (this.instanceType == Point.POINT_TYPE_X_INDEPENDENT ||
 				this.instanceType == Point.POINT_TYPE_Y_INDEPENDENT) {
 				logger.warn("Bad polynomial for this point - will try again");
@@ -780,10 +821,10 @@ public abstract class Point extends GeoConstruction implements Cloneable {
 				long varIndex = singleTerm.getPowers().get(0).getIndex();
 				
 				if (this.X.getVariableType() == Variable.VAR_TYPE_UX_X && this.X.getIndex() == varIndex)
-					return this.renameCoordinate(Variable.VAR_TYPE_SYMB_X, Variable.VAR_TYPE_UX_U, 0, writeToOutput);
+					return this.renameCoordinate(Variable.VAR_TYPE_SYMB_X, Variable.VAR_TYPE_UX_U, 0, writeToOutput, apply);
 				
 				if (this.Y.getVariableType() == Variable.VAR_TYPE_UX_X && this.Y.getIndex() == varIndex)
-					return this.renameCoordinate(Variable.VAR_TYPE_SYMB_Y, Variable.VAR_TYPE_UX_U, 0, writeToOutput);
+					return this.renameCoordinate(Variable.VAR_TYPE_SYMB_Y, Variable.VAR_TYPE_UX_U, 0, writeToOutput, apply);
 				
 				// this is some old x-variable and this is an error, since
 				// passed in polynomial must contain at least one dependent
@@ -821,7 +862,7 @@ public abstract class Point extends GeoConstruction implements Cloneable {
 				
 				// more than one x-power in this term
 				// Add polynomial to system
-				return this.addPolynomialToSystem(xPoly, writeToOutput);
+				return this.addPolynomialToSystem(xPoly, writeToOutput, apply);
 			}
 		}
 		
@@ -834,7 +875,7 @@ public abstract class Point extends GeoConstruction implements Cloneable {
 			
 			if (firstTerm.getPowers().size() > 1 || secondTerm.getPowers().size() > 1) {
 				// Add polynomial to system
-				return this.addPolynomialToSystem(xPoly, writeToOutput);
+				return this.addPolynomialToSystem(xPoly, writeToOutput, apply);
 			}
 			
 			if (firstTerm.getPowers().size() == 0) {
@@ -879,11 +920,11 @@ public abstract class Point extends GeoConstruction implements Cloneable {
 					
 					if (this.X.getVariableType() == Variable.VAR_TYPE_UX_X &&
 						this.X.getIndex() == firstVarIndex)
-						return this.renameCoordinate(Variable.VAR_TYPE_SYMB_X, Variable.VAR_TYPE_UX_X, secondVarIndex, writeToOutput);
+						return this.renameCoordinate(Variable.VAR_TYPE_SYMB_X, Variable.VAR_TYPE_UX_X, secondVarIndex, writeToOutput, apply);
 					
 					if (this.Y.getVariableType() == Variable.VAR_TYPE_UX_X &&
 						this.Y.getIndex() == firstVarIndex)
-						return this.renameCoordinate(Variable.VAR_TYPE_SYMB_Y, Variable.VAR_TYPE_UX_X, secondVarIndex, writeToOutput);
+						return this.renameCoordinate(Variable.VAR_TYPE_SYMB_Y, Variable.VAR_TYPE_UX_X, secondVarIndex, writeToOutput, apply);
 					
 					// error - attempt to rename some old x-variable, not the one from this point coordinates
 					// (at least one x-variable of point must exist in polynomial but it is not the case here - therefore error)
@@ -902,7 +943,7 @@ public abstract class Point extends GeoConstruction implements Cloneable {
 				
 				// not in special form - then add into polynomial system
 				// Add polynomial to system
-				return this.addPolynomialToSystem(xPoly, writeToOutput);
+				return this.addPolynomialToSystem(xPoly, writeToOutput, apply);
 			}
 			
 			// second term has no x-powers
@@ -965,11 +1006,11 @@ public abstract class Point extends GeoConstruction implements Cloneable {
 				// rename x-variable of first term by this found u-variable of second term
 				if (this.X.getVariableType() == Variable.VAR_TYPE_UX_X &&
 					this.X.getIndex() == firstVarIndex)
-					return this.renameCoordinate(Variable.VAR_TYPE_SYMB_X, Variable.VAR_TYPE_UX_U, uIndex, writeToOutput);
+					return this.renameCoordinate(Variable.VAR_TYPE_SYMB_X, Variable.VAR_TYPE_UX_U, uIndex, writeToOutput, apply);
 					
 				if (this.Y.getVariableType() == Variable.VAR_TYPE_UX_X &&
 					this.Y.getIndex() == firstVarIndex)
-					return this.renameCoordinate(Variable.VAR_TYPE_SYMB_Y, Variable.VAR_TYPE_UX_U, uIndex, writeToOutput);
+					return this.renameCoordinate(Variable.VAR_TYPE_SYMB_Y, Variable.VAR_TYPE_UX_U, uIndex, writeToOutput, apply);
 					
 				// error - attempt to rename some old x-variable, not the one from this point coordinates 
 				// (at least one x-variable of point must exist in polynomial but it is not the case here - therefore error)
@@ -988,7 +1029,7 @@ public abstract class Point extends GeoConstruction implements Cloneable {
 				
 			// not in special form - then add into polynomial system
 			// Add polynomial to system
-			return this.addPolynomialToSystem(xPoly, writeToOutput);
+			return this.addPolynomialToSystem(xPoly, writeToOutput, apply);
 		}
 		
 		/*
@@ -997,7 +1038,7 @@ public abstract class Point extends GeoConstruction implements Cloneable {
 		 */
 		else if (terms.size() > 2) {
 			// Add polynomial to system
-			return this.addPolynomialToSystem(xPoly, writeToOutput);
+			return this.addPolynomialToSystem(xPoly, writeToOutput, apply);
 		}
 		
 		// If nothing from above conditions was satisfied that is execution error 
@@ -134,7 +134,7 @@ public class Polar extends ShortcutConstruction {
 		
 		// If base set is line, exit this method
 		if (baseSet instanceof Line) {
-			OpenGeoProver.settings.getLogger().error("Attempt to create polar with respect to line but conic or circle are expected");
+			OpenGeoProver.getSettings().getLogger().error("Attempt to create polar with respect to line but conic or circle are expected");
 			return;
 		}
 		
@@ -163,7 +163,7 @@ public class Polar extends ShortcutConstruction {
 			B1 = new RandomPointFromGeneralConic("polarB1" + Math.round(Math.random()*1000), (GeneralConicSection)baseSet);
 		}
 		else {
-			OpenGeoProver.settings.getLogger().error("Unknown set of points passed in for construction of polar");
+			OpenGeoProver.getSettings().getLogger().error("Unknown set of points passed in for construction of polar");
 			return;
 		}	
 		this.shortcutListOfConstructions.add(A1);
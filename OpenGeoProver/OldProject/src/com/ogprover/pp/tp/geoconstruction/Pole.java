@@ -133,7 +133,7 @@ public class Pole extends ShortcutConstruction {
 		
 		// If base set is line, exit this method
 		if (baseSet instanceof Line) {
-			OpenGeoProver.settings.getLogger().error("Attempt to create pole with respect to line but conic or circle are expected");
+			OpenGeoProver.getSettings().getLogger().error("Attempt to create pole with respect to line but conic or circle are expected");
 			return;
 		}
 		
@@ -178,7 +178,7 @@ public class Pole extends ShortcutConstruction {
 			D21 = new RandomPointFromGeneralConic("poleD21" + Math.round(Math.random()*1000), (GeneralConicSection)baseSet);
 		}
 		else {
-			OpenGeoProver.settings.getLogger().error("Unknown set of points passed in for construction of pole");
+			OpenGeoProver.getSettings().getLogger().error("Unknown set of points passed in for construction of pole");
 			return;
 		}	
 		this.shortcutListOfConstructions.add(C11);
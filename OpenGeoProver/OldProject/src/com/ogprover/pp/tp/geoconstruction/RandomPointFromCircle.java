@@ -122,8 +122,8 @@ public class RandomPointFromCircle extends RandomPointFromSetOfPoints {
 	 */
 	@Override
 	public boolean isValidConstructionStep() {
-		OGPOutput output = OpenGeoProver.settings.getOutput();
-		ILogger logger = OpenGeoProver.settings.getLogger();
+		OGPOutput output = OpenGeoProver.getSettings().getOutput();
+		ILogger logger = OpenGeoProver.getSettings().getLogger();
 		Circle baseCircle = (Circle) this.baseSetOfPoints;
 		
 		if (!super.isValidConstructionStep())
@@ -165,7 +165,7 @@ public class RandomPointFromCircle extends RandomPointFromSetOfPoints {
 
 	@Override
 	public Point replace(HashMap<Point, Point> replacementMap) {
-		OpenGeoProver.settings.getLogger().error("This method should not be called on this class.");
+		OpenGeoProver.getSettings().getLogger().error("This method should not be called on this class.");
 		return null;
 	}
 }
@@ -122,8 +122,8 @@ public class RandomPointFromGeneralConic extends RandomPointFromParametricSet {
 	 */
 	@Override
 	public boolean isValidConstructionStep() {
-		OGPOutput output = OpenGeoProver.settings.getOutput();
-		ILogger logger = OpenGeoProver.settings.getLogger();
+		OGPOutput output = OpenGeoProver.getSettings().getOutput();
+		ILogger logger = OpenGeoProver.getSettings().getLogger();
 		ConicSection baseConic = (ConicSection) this.baseSetOfPoints;
 		
 		if (!super.isValidConstructionStep())
@@ -165,7 +165,7 @@ public class RandomPointFromGeneralConic extends RandomPointFromParametricSet {
 
 	@Override
 	public Point replace(HashMap<Point, Point> replacementMap) {
-		OpenGeoProver.settings.getLogger().error("This method should not be called on this class.");
+		OpenGeoProver.getSettings().getLogger().error("This method should not be called on this class.");
 		return null;
 	}
 }
@@ -122,8 +122,8 @@ public class RandomPointFromLine extends RandomPointFromSetOfPoints {
 	 */
 	@Override
 	public boolean isValidConstructionStep() {
-		OGPOutput output = OpenGeoProver.settings.getOutput();
-		ILogger logger = OpenGeoProver.settings.getLogger();
+		OGPOutput output = OpenGeoProver.getSettings().getOutput();
+		ILogger logger = OpenGeoProver.getSettings().getLogger();
 		Line baseLine = (Line) this.baseSetOfPoints;
 		
 		if (!super.isValidConstructionStep())
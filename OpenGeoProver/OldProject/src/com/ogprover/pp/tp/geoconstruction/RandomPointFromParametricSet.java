@@ -58,8 +58,8 @@ public abstract class RandomPointFromParametricSet extends RandomPointFromSetOfP
 	 */
 	@Override
 	public int transformToAlgebraicForm() {
-		ILogger logger = OpenGeoProver.settings.getLogger();
-		OGPOutput output = OpenGeoProver.settings.getOutput();
+		ILogger logger = OpenGeoProver.getSettings().getLogger();
+		OGPOutput output = OpenGeoProver.getSettings().getOutput();
 		
 		try {
 			output.openSubSection("Transformation of point " + this.geoObjectLabel + ": ", true);
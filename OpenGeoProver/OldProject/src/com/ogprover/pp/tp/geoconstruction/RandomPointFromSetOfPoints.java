@@ -84,8 +84,8 @@ public abstract class RandomPointFromSetOfPoints extends Point {
 	 */
 	@Override
 	public int transformToAlgebraicForm() {
-		ILogger logger = OpenGeoProver.settings.getLogger();
-		OGPOutput output = OpenGeoProver.settings.getOutput();
+		ILogger logger = OpenGeoProver.getSettings().getLogger();
+		OGPOutput output = OpenGeoProver.getSettings().getOutput();
 		
 		try {
 			output.openSubSection("Transformation of point " + this.geoObjectLabel + ": ", true);
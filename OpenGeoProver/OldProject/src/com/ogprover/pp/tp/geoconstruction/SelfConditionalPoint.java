@@ -123,8 +123,8 @@ public abstract class SelfConditionalPoint extends Point {
 	 * @return				SUCCESS if transformation is successful, general error otherwise 
 	 */
 	public int transformToAlgebraicForm(Map<String, Point> pointsMap) {
-		OGPOutput output = OpenGeoProver.settings.getOutput();
-		ILogger logger = OpenGeoProver.settings.getLogger();
+		OGPOutput output = OpenGeoProver.getSettings().getOutput();
+		ILogger logger = OpenGeoProver.getSettings().getLogger();
 		
 		try {
 			output.openSubSection("Transformation of point " + this.geoObjectLabel + ": ", true);
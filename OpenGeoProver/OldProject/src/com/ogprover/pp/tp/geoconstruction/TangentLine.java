@@ -170,7 +170,7 @@ public class TangentLine extends Line {
 			
 		// first of all calculate first derivative of condition for set of points
 		if (this.conditionForUnderlyingSetOfPoints == null) {
-			OpenGeoProver.settings.getLogger().error("Cannot calculate condition for tangent line because condition for underlying set of points is null");
+			OpenGeoProver.getSettings().getLogger().error("Cannot calculate condition for tangent line because condition for underlying set of points is null");
 			return null;
 		}
 		ArrayList<SymbolicPolynomial> derivative = ((SymbolicPolynomial)(this.conditionForUnderlyingSetOfPoints.clone())).calcFirstDerivativeByPoint(M0Label);
@@ -185,7 +185,7 @@ public class TangentLine extends Line {
 			sb.append("First derivative of set of points ");
 			sb.append(((GeoConstruction)this).getGeoObjectLabel());
 			sb.append(" isn't calculated correcly. ");
-			OpenGeoProver.settings.getLogger().error(sb.toString());
+			OpenGeoProver.getSettings().getLogger().error(sb.toString());
 			return null;
 		}
 			
@@ -235,7 +235,7 @@ public class TangentLine extends Line {
 		// although theoretically possible, it will be forbidden here to construct
 		// tangent to line
 		if (pointsSet instanceof Line) {
-			OpenGeoProver.settings.getLogger().error("Attempt to set line as tangent's underlying set of points");
+			OpenGeoProver.getSettings().getLogger().error("Attempt to set line as tangent's underlying set of points");
 			this.underlyingPointsSet = null;
 		}
 		else
@@ -262,8 +262,8 @@ public class TangentLine extends Line {
 	 */
 	@Override
 	public boolean isValidConstructionStep() {
-		OGPOutput output = OpenGeoProver.settings.getOutput();
-		ILogger logger = OpenGeoProver.settings.getLogger();
+		OGPOutput output = OpenGeoProver.getSettings().getOutput();
+		ILogger logger = OpenGeoProver.getSettings().getLogger();
 		
 		if (!super.isValidConstructionStep())
 			return false;
@@ -355,7 +355,7 @@ public class TangentLine extends Line {
 	 */
 	@Override
 	public int findBestPointsForInstantation(PointSetRelationshipManager manager) {
-		ILogger logger = OpenGeoProver.settings.getLogger();
+		ILogger logger = OpenGeoProver.getSettings().getLogger();
 		
 		// First call method from superclass - it implements default behavior considering
 		// this line as plain line through two points
@@ -527,7 +527,7 @@ public class TangentLine extends Line {
 			// set of points only after construction of this tangent - therefore tangent
 			// and its first point must be constructed before P
 			if (this.indexOfTouchPoint == 0) {
-				OpenGeoProver.settings.getLogger().error("instantiateConditionFromBasicElements() method failed in processing condition for tangent line");
+				OpenGeoProver.getSettings().getLogger().error("instantiateConditionFromBasicElements() method failed in processing condition for tangent line");
 				return null;
 			}
 			
@@ -12,6 +12,7 @@ import com.ogprover.main.OGPConstants;
 import com.ogprover.main.OpenGeoProver;
 import com.ogprover.polynomials.UXVariable;
 import com.ogprover.polynomials.XPolynomial;
+import com.ogprover.polynomials.XPolynomialIndex;
 import com.ogprover.pp.tp.OGPTP;
 import com.ogprover.pp.tp.auxiliary.FourPointsPositionChecker;
 import com.ogprover.pp.tp.auxiliary.PointListManager;
@@ -58,6 +59,11 @@ public class AlgebraicNDGCondition {
 	 * Polynomial form of this NDG condition
 	 */
 	private XPolynomial polynomial = null;
+	/**
+	 * Hash code of x-monomials of polynomial form of this NDG condition
+	 * (see XPolynomialIndex.hashCodeOfMonomials())
+	 */
+	private int polynomialHashCode = 0;
 	/**
 	 * Lists of point combinations that are candidates
 	 * for making this NDG condition when they are in 
@@ -159,6 +165,7 @@ public class AlgebraicNDGCondition {
 	 */
 	public void setPolynomial(XPolynomial polynomial) {
 		this.polynomial = polynomial;
+		this.polynomialHashCode = XPolynomialIndex.hashCodeOfMonomials(polynomial);
 	}
 	
 	/**
@@ -167,6 +174,13 @@ public class AlgebraicNDGCondition {
 	public XPolynomial getPolynomial() {
 		return polynomial;
 	}
+	
+	/**
+	 * @return the polynomialHashCode
+	 */
+	public int getPolynomialHashCode() {
+		return polynomialHashCode;
+	}
 
 	/**
 	 * @param pointLists the pointLists to set
@@ -304,7 +318,7 @@ public class AlgebraicNDGCondition {
 	 * Default Constructor method
 	 */
 	public AlgebraicNDGCondition(XPolynomial ndgPoly){
-		this.polynomial = ((XPolynomial) ndgPoly.clone()).reduceUTerms(false); // partial reduction of u-terms
+		this.setPolynomial(((XPolynomial) ndgPoly.clone()).reduceUTerms(false)); // partial reduction of u-terms
 		this.ndgType = AlgebraicNDGCondition.NDG_TYPE_POLYNOMIAL;
 	}
 	
@@ -382,6 +396,24 @@ public class AlgebraicNDGCondition {
 		}
 	}
 	
+	/**
+	 * Method that takes translation of other NDG condition with same
+	 * polynomial form as translation of this NDG condition.
+	 * 
+	 * @param ndgCond	Already translated NDG condition
+	 */
+	public void copyTranslation(AlgebraicNDGCondition ndgCond) {
+		this.pointLists = ndgCond.getPointLists();
+		this.textList = (ndgCond.getText() != null) ? new Vector<String>(ndgCond.getText()) : null;
+		this.ndgType = ndgCond.getNdgType();
+		this.bestDescription = ndgCond.getBestDescription();
+		this.bestPointList = ndgCond.getBestPointList();
+		this.numOfAllPts = ndgCond.getNumOfAllPts();
+		this.numOfFreePts = ndgCond.getNumOfFreePts();
+		this.numOfRndPts = ndgCond.getNumOfRndPts();
+		this.numOfDependentPts = ndgCond.getNumOfDependentPts();
+	}
+	
 	/**
 	 * Method that populates lists of points of this NDG condition object
 	 * with all combinations of points that could make this NDG condition.
@@ -389,7 +421,7 @@ public class AlgebraicNDGCondition {
 	 * @return	SUCCESS if successful, general error code otherwise
 	 */
 	private int populatePointLists() {
-		ILogger logger = OpenGeoProver.settings.getLogger();
+		ILogger logger = OpenGeoProver.getSettings().getLogger();
 		Vector<UXVariable> varList = this.polynomial.extractAllVariables();
 		
 		if (varList == null) {
@@ -413,39 +445,14 @@ public class AlgebraicNDGCondition {
 		
 		Vector<Vector<Point>> pointsOfVarsV = new Vector<Vector<Point>>(pointsOfVarsC);
 		
-		// create points combinations of each list
-		Vector<Vector<Vector<Point>>> combinationsV = new Vector<Vector<Vector<Point>>>();
+		// Merge combinations of points of each list and combinations of zero points of CP;
+		// only lists of points that are within specified boundaries are relevant
+		this.pointLists = PointListManager.createMergedCombinations(pointsOfVarsV, this.consProtocol.getZeroPoints(), 
+				OGPConstants.MIN_NUM_OF_NDGC_POINTS, OGPConstants.MAX_NUM_OF_NDGC_POINTS);
 		
-		for (Vector<Point> comb : pointsOfVarsV)
-			combinationsV.add(PointListManager.createListOfCombinations(comb));
-		
-		// merge all these points combinations
-		boolean bFirst = true;
-		Vector<Vector<Point>> mergedPoints = new Vector<Vector<Point>>();
-		
-		for (Vector<Vector<Point>> comb : combinationsV) {
-			if (bFirst) {
-				mergedPoints = comb;
-				bFirst = false;
-			}
-			else {
-				mergedPoints = PointListManager.mergePairsOfPointCombinations(mergedPoints, comb);
-			}
-		}
-		
-		// finally merge these points with zero points of CP
-		mergedPoints = PointListManager.mergePairsOfPointCombinations(mergedPoints, this.consProtocol.getZeroPoints());
-		
-		// Now populate lists of points only with relevant lists - 
-		// that are within specified boundaries
-		this.pointLists = new Vector<Vector<Point>>();
-		
-		for (Vector<Point> vp : mergedPoints) {
-			int vpsiz = vp.size();
-			
-			if (vpsiz >= OGPConstants.MIN_NUM_OF_NDGC_POINTS && 
-				vpsiz <= OGPConstants.MAX_NUM_OF_NDGC_POINTS)
-				this.pointLists.add(vp);
+		if (this.pointLists == null) {
+			logger.error("Failed to create combinations of points for NDG condition.");
+			return OGPConstants.ERR_CODE_GENERAL;
 		}
 		
 		return OGPConstants.RET_CODE_SUCCESS;
@@ -481,7 +488,7 @@ public class AlgebraicNDGCondition {
 	 *          error is returned otherwise.
 	 */
 	public int transformToUserReadableForm() {
-		ILogger logger = OpenGeoProver.settings.getLogger();
+		ILogger logger = OpenGeoProver.getSettings().getLogger();
 		
 		if (this.populatePointLists() != OGPConstants.RET_CODE_SUCCESS) {
 			// Check if there are other objects with parameters
@@ -168,7 +168,7 @@ public class AlgebraicSumOfThreeAngles extends DimensionThmStatement {
 
 	@Override
 	public AreaMethodTheoremStatement getAreaMethodStatement() {
-		OpenGeoProver.settings.getLogger().error("Statement not currently supported by the area method.");
+		OpenGeoProver.getSettings().getLogger().error("Statement not currently supported by the area method.");
 		return null;
 	}
 
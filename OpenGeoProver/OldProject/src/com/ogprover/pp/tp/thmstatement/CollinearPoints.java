@@ -65,7 +65,7 @@ public class CollinearPoints extends PositionThmStatement {
 	 */
 	public CollinearPoints(ArrayList<Point> pointList) {
 		if (pointList == null || pointList.size() < 3) {
-			OpenGeoProver.settings.getLogger().error("There should be at least three points for statement about collinear points.");
+			OpenGeoProver.getSettings().getLogger().error("There should be at least three points for statement about collinear points.");
 			return;
 		}
 		
@@ -228,7 +228,7 @@ public class CollinearPoints extends PositionThmStatement {
 		
 		// there have to be at least three points
 		if (this.geoObjects.size() < 3) {
-			OpenGeoProver.settings.getLogger().error("There should be at least three points.");
+			OpenGeoProver.getSettings().getLogger().error("There should be at least three points.");
 			return false;
 		}
 		
@@ -262,7 +262,7 @@ public class CollinearPoints extends PositionThmStatement {
 		 * So, we take the first two points and for every other point, we add the corresponding statement.
 		 */
 		if (this.geoObjects.size() < 3) {
-			OpenGeoProver.settings.getLogger().error("There should be at least three points.");
+			OpenGeoProver.getSettings().getLogger().error("There should be at least three points.");
 			return null;
 		}
 		
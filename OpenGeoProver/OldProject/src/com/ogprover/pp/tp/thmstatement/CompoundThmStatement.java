@@ -91,13 +91,13 @@ public abstract class CompoundThmStatement extends ThmStatement {
 			return false;
 		
 		if (this.particleThmStatements == null || this.particleThmStatements.size() == 0) {
-			OpenGeoProver.settings.getLogger().error("Compound theorem statement doesn't contain particle statements");
+			OpenGeoProver.getSettings().getLogger().error("Compound theorem statement doesn't contain particle statements");
 			return false;
 		}
 		
 		for (ThmStatement statement : this.particleThmStatements) {
 			if (this.consProtocol != statement.getConsProtocol()) {
-				OpenGeoProver.settings.getLogger().error("Found particle statement not related to theorem protocol of this compound statement.");
+				OpenGeoProver.getSettings().getLogger().error("Found particle statement not related to theorem protocol of this compound statement.");
 				return false;
 			}
 			
@@ -68,7 +68,7 @@ public class ConcurrentCircles extends PositionThmStatement {
 	 */
 	public ConcurrentCircles(ArrayList<Circle> circleList) {
 		if (circleList == null || circleList.size() < 3) {
-			OpenGeoProver.settings.getLogger().error("There should be at least three circles for statement about concurrent circles.");
+			OpenGeoProver.getSettings().getLogger().error("There should be at least three circles for statement about concurrent circles.");
 			return;
 		}
 		
@@ -188,7 +188,7 @@ public class ConcurrentCircles extends PositionThmStatement {
 				IntersectionPoint P = new IntersectionPoint("intersectPoint-" + c1.getGeoObjectLabel() + "." + c2.getGeoObjectLabel(), c1, c2);
 				this.consProtocol.addGeoConstruction(P); // add to the end of CP
 				if (P.isValidConstructionStep() == false) {
-					OpenGeoProver.settings.getLogger().error("Failed to validate the construction of intersection point " + P.getGeoObjectLabel());
+					OpenGeoProver.getSettings().getLogger().error("Failed to validate the construction of intersection point " + P.getGeoObjectLabel());
 					return null;
 				}
 				P.transformToAlgebraicFormWithOutputPrintFlag(false);
@@ -211,7 +211,7 @@ public class ConcurrentCircles extends PositionThmStatement {
 					XPolynomial instantiatedCondition = manager.retrieveInstantiatedCondition();
 					
 					if (instantiatedCondition == null) {
-						OpenGeoProver.settings.getLogger().error("Failed to retrieve the condition for point " + P.getGeoObjectLabel() + " to belong to circle " + c.getGeoObjectLabel());
+						OpenGeoProver.getSettings().getLogger().error("Failed to retrieve the condition for point " + P.getGeoObjectLabel() + " to belong to circle " + c.getGeoObjectLabel());
 						return null;
 					}
 					
@@ -261,7 +261,7 @@ public class ConcurrentCircles extends PositionThmStatement {
 			this.consProtocol.addGeoConstruction(P);
 			
 			if (P.isValidConstructionStep() == false) {
-				OpenGeoProver.settings.getLogger().error("Failed to validate the construction of intersection point " + bestIntersectionPoint.getGeoObjectLabel());
+				OpenGeoProver.getSettings().getLogger().error("Failed to validate the construction of intersection point " + bestIntersectionPoint.getGeoObjectLabel());
 				return null;
 			}
 			
@@ -285,7 +285,7 @@ public class ConcurrentCircles extends PositionThmStatement {
 		
 		// there have to be at least three circles
 		if (this.geoObjects.size() < 3) {
-			OpenGeoProver.settings.getLogger().error("There should be at least three circles.");
+			OpenGeoProver.getSettings().getLogger().error("There should be at least three circles.");
 			return false;
 		}
 		
@@ -315,7 +315,7 @@ public class ConcurrentCircles extends PositionThmStatement {
 
 	@Override
 	public AreaMethodTheoremStatement getAreaMethodStatement() {
-		OpenGeoProver.settings.getLogger().error("Statement not currently supported by the area method.");
+		OpenGeoProver.getSettings().getLogger().error("Statement not currently supported by the area method.");
 		return null;
 	}
 }
@@ -68,7 +68,7 @@ public class ConcurrentLines extends PositionThmStatement {
 	 */
 	public ConcurrentLines(ArrayList<Line> lineList) {
 		if (lineList == null || lineList.size() < 3) {
-			OpenGeoProver.settings.getLogger().error("There should be at least three lines for statement about concurrent lines.");
+			OpenGeoProver.getSettings().getLogger().error("There should be at least three lines for statement about concurrent lines.");
 			return;
 		}
 		
@@ -188,7 +188,7 @@ public class ConcurrentLines extends PositionThmStatement {
 				IntersectionPoint P = new IntersectionPoint("intersectPoint-" + l1.getGeoObjectLabel() + "." + l2.getGeoObjectLabel(), l1, l2);
 				this.consProtocol.addGeoConstruction(P); // add to the end of CP
 				if (P.isValidConstructionStep() == false) {
-					OpenGeoProver.settings.getLogger().error("Failed to validate the construction of intersection point " + P.getGeoObjectLabel());
+					OpenGeoProver.getSettings().getLogger().error("Failed to validate the construction of intersection point " + P.getGeoObjectLabel());
 					return null;
 				}
 				P.transformToAlgebraicFormWithOutputPrintFlag(false);
@@ -211,7 +211,7 @@ public class ConcurrentLines extends PositionThmStatement {
 					XPolynomial instantiatedCondition = manager.retrieveInstantiatedCondition();
 					
 					if (instantiatedCondition == null) {
-						OpenGeoProver.settings.getLogger().error("Failed to retrieve the condition for point " + P.getGeoObjectLabel() + " to belong to line " + l.getGeoObjectLabel());
+						OpenGeoProver.getSettings().getLogger().error("Failed to retrieve the condition for point " + P.getGeoObjectLabel() + " to belong to line " + l.getGeoObjectLabel());
 						return null;
 					}
 					
@@ -263,7 +263,7 @@ public class ConcurrentLines extends PositionThmStatement {
 			this.consProtocol.addGeoConstruction(P);
 			
 			if (P.isValidConstructionStep() == false) {
-				OpenGeoProver.settings.getLogger().error("Failed to validate the construction of intersection point " + bestIntersectionPoint.getGeoObjectLabel());
+				OpenGeoProver.getSettings().getLogger().error("Failed to validate the construction of intersection point " + bestIntersectionPoint.getGeoObjectLabel());
 				return null;
 			}
 			
@@ -286,7 +286,7 @@ public class ConcurrentLines extends PositionThmStatement {
 		
 		// there have to be at least three lines
 		if (this.geoObjects.size() < 3) {
-			OpenGeoProver.settings.getLogger().error("There should be at least three lines.");
+			OpenGeoProver.getSettings().getLogger().error("There should be at least three lines.");
 			return false;
 		}
 		
@@ -67,7 +67,7 @@ public class ConcyclicPoints extends PositionThmStatement {
 	 */
 	public ConcyclicPoints(ArrayList<Point> pointList) {
 		if (pointList == null || pointList.size() < 4) {
-			OpenGeoProver.settings.getLogger().error("There should be at least four points for statement about concyclic points.");
+			OpenGeoProver.getSettings().getLogger().error("There should be at least four points for statement about concyclic points.");
 			return;
 		}
 		
@@ -238,7 +238,7 @@ public class ConcyclicPoints extends PositionThmStatement {
 		
 		// there have to be at least four points
 		if (this.geoObjects.size() < 4) {
-			OpenGeoProver.settings.getLogger().error("There should be at least four points.");
+			OpenGeoProver.getSettings().getLogger().error("There should be at least four points.");
 			return false;
 		}
 		
@@ -89,13 +89,13 @@ public abstract class ElementaryThmStatement extends ThmStatement {
 			return false;
 		
 		if (this.geoObjects == null || this.geoObjects.size() == 0) {
-			OpenGeoProver.settings.getLogger().error("Theorem statement doesn't contain geometry objects");
+			OpenGeoProver.getSettings().getLogger().error("Theorem statement doesn't contain geometry objects");
 			return false;
 		}
 		
 		for (GeoConstruction geoCons : this.geoObjects) {
 			if (this.consProtocol.getConstructionSteps().indexOf(geoCons) < 0) {
-				OpenGeoProver.settings.getLogger().error("Geometry object " + geoCons.getGeoObjectLabel() + " not found in list of all constructed objects.");
+				OpenGeoProver.getSettings().getLogger().error("Geometry object " + geoCons.getGeoObjectLabel() + " not found in list of all constructed objects.");
 				return false;
 			}
 		}
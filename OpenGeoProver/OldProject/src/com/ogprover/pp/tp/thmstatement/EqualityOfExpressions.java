@@ -70,7 +70,7 @@ public class EqualityOfExpressions extends ElementaryThmStatement {
 	@Override
 	public XPolynomial getAlgebraicForm() {
 		// TODO Write the transformation to algebraic form
-		OpenGeoProver.settings.getLogger().error("Transformation to algebraic form is not yet implemented for this theorem statement."); 
+		OpenGeoProver.getSettings().getLogger().error("Transformation to algebraic form is not yet implemented for this theorem statement."); 
 		return null;
 	}
 
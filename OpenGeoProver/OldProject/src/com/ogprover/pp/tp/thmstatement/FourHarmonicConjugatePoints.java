@@ -258,7 +258,7 @@ public class FourHarmonicConjugatePoints extends PositionThmStatement {
 		
 		// There must be four points
 		if (this.geoObjects.size() < 4) {
-			OpenGeoProver.settings.getLogger().error("There must be four points.");
+			OpenGeoProver.getSettings().getLogger().error("There must be four points.");
 			return false;
 		}
 		
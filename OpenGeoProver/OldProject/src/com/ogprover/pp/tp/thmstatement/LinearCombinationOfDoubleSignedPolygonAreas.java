@@ -133,7 +133,7 @@ public class LinearCombinationOfDoubleSignedPolygonAreas extends DimensionThmSta
 		
 		// There must be equal number of polygons and coefficients
 		if (this.polygons == null || this.coefficients == null || this.polygons.size() != this.coefficients.size()) {
-			OpenGeoProver.settings.getLogger().error("There must be equal number of polygons and coefficients.");
+			OpenGeoProver.getSettings().getLogger().error("There must be equal number of polygons and coefficients.");
 			return false;
 		}
 		
@@ -176,7 +176,7 @@ public class LinearCombinationOfDoubleSignedPolygonAreas extends DimensionThmSta
 
 	@Override
 	public AreaMethodTheoremStatement getAreaMethodStatement() {
-		OpenGeoProver.settings.getLogger().error("The area method does not currently use floating-point calculus.");
+		OpenGeoProver.getSettings().getLogger().error("The area method does not currently use floating-point calculus.");
 		return null;
 	}
 }
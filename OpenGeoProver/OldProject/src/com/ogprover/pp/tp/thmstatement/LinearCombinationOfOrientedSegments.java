@@ -139,7 +139,7 @@ public class LinearCombinationOfOrientedSegments extends DimensionThmStatement {
 		
 		// There must be equal number of segments and coefficients
 		if (this.segments == null || this.coefficients == null || this.segments.size() != this.coefficients.size()) {
-			OpenGeoProver.settings.getLogger().error("There must be equal number of segments and coefficients.");
+			OpenGeoProver.getSettings().getLogger().error("There must be equal number of segments and coefficients.");
 			return false;
 		}
 		
@@ -225,7 +225,7 @@ public class LinearCombinationOfOrientedSegments extends DimensionThmStatement {
 
 	@Override
 	public AreaMethodTheoremStatement getAreaMethodStatement() {
-		OpenGeoProver.settings.getLogger().error("The area method does not currently use floating-point calculus.");
+		OpenGeoProver.getSettings().getLogger().error("The area method does not currently use floating-point calculus.");
 		return null;
 	}
 
@@ -205,7 +205,7 @@ public class LinearCombinationOfSquaresOfSegments extends DimensionThmStatement
 
 	@Override
 	public AreaMethodTheoremStatement getAreaMethodStatement() {
-		OpenGeoProver.settings.getLogger().error("The area method does not currently use floating-point calculus.");
+		OpenGeoProver.getSettings().getLogger().error("The area method does not currently use floating-point calculus.");
 		return null;
 	}
 }
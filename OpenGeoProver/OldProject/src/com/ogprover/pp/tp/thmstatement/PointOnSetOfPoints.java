@@ -95,7 +95,7 @@ public class PointOnSetOfPoints extends PositionThmStatement {
 		XPolynomial instantiatedCondition = manager.retrieveInstantiatedCondition();
 		
 		if (instantiatedCondition == null) {
-			OpenGeoProver.settings.getLogger().error("Failed to instantiate the condition");
+			OpenGeoProver.getSettings().getLogger().error("Failed to instantiate the condition");
 			return null;
 		}
 		
@@ -260,7 +260,7 @@ public class RatioOfOrientedSegments extends DimensionThmStatement {
 		
 		// There must be four points
 		if (this.geoObjects.size() < 4) {
-			OpenGeoProver.settings.getLogger().error("There must be 4 points.");
+			OpenGeoProver.getSettings().getLogger().error("There must be 4 points.");
 			return false;
 		}
 		
@@ -324,14 +324,14 @@ public class RatioOfOrientedSegments extends DimensionThmStatement {
 			// AB is perpendicular to x-axis
 			
 			if (xC.getVariableType() != xD.getVariableType() || xC.getIndex() != xD.getIndex()) {
-				OpenGeoProver.settings.getLogger().error("Second segment is not perpendicular to x-axis while first is - they have to be collinear segments.");
+				OpenGeoProver.getSettings().getLogger().error("Second segment is not perpendicular to x-axis while first is - they have to be collinear segments.");
 				return null;
 			}	
 		}
 		else if (xC.getVariableType() == xD.getVariableType() && xC.getIndex() == xD.getIndex()) {
 			// CD is perpendicular to x-axis
 			
-			OpenGeoProver.settings.getLogger().error("First segment is not perpendicular to x-axis while second is - they have to be collinear segments.");
+			OpenGeoProver.getSettings().getLogger().error("First segment is not perpendicular to x-axis while second is - they have to be collinear segments.");
 			return null;
 		}
 		
@@ -339,14 +339,14 @@ public class RatioOfOrientedSegments extends DimensionThmStatement {
 			// AB is perpendicular to y-axis
 			
 			if (yC.getVariableType() != yD.getVariableType() || yC.getIndex() != yD.getIndex()) {
-				OpenGeoProver.settings.getLogger().error("Second segment is not perpendicular to y-axis while first is - they have to be collinear segments.");
+				OpenGeoProver.getSettings().getLogger().error("Second segment is not perpendicular to y-axis while first is - they have to be collinear segments.");
 				return null;
 			}	
 		}
 		else if (yC.getVariableType() == yD.getVariableType() && yC.getIndex() == yD.getIndex()) {
 			// CD is perpendicular to y-axis
 			
-			OpenGeoProver.settings.getLogger().error("First segment is not perpendicular to y-axis while second is - they have to be collinear segments.");
+			OpenGeoProver.getSettings().getLogger().error("First segment is not perpendicular to y-axis while second is - they have to be collinear segments.");
 			return null;
 		}
 		
@@ -377,7 +377,7 @@ public class RatioOfOrientedSegments extends DimensionThmStatement {
 
 	@Override
 	public AreaMethodTheoremStatement getAreaMethodStatement() {
-		OpenGeoProver.settings.getLogger().error("The area method does not currently use floating-point calculus.");
+		OpenGeoProver.getSettings().getLogger().error("The area method does not currently use floating-point calculus.");
 		return null;
 	}
 }
@@ -147,7 +147,7 @@ public class RatioOfTwoSegments extends DimensionThmStatement {
 		
 		// There must be four points
 		if (this.geoObjects.size() < 4) {
-			OpenGeoProver.settings.getLogger().error("There must be 4 points.");
+			OpenGeoProver.getSettings().getLogger().error("There must be 4 points.");
 			return false;
 		}
 		
@@ -184,7 +184,7 @@ public class RatioOfTwoSegments extends DimensionThmStatement {
 
 	@Override
 	public AreaMethodTheoremStatement getAreaMethodStatement() {
-		OpenGeoProver.settings.getLogger().error("The area method does not currently use floating-point calculus.");
+		OpenGeoProver.getSettings().getLogger().error("The area method does not currently use floating-point calculus.");
 		return null;
 	}
 }
@@ -116,7 +116,7 @@ public abstract class ThmStatement {
 		boolean valid = (this.consProtocol != null);
 		
 		if (!valid)
-			OpenGeoProver.settings.getLogger().error("Theorem statement is invalid because it is not added to theorem protocol.");
+			OpenGeoProver.getSettings().getLogger().error("Theorem statement is invalid because it is not added to theorem protocol.");
 		
 		return valid;
 	}
@@ -137,8 +137,8 @@ public abstract class ThmStatement {
     	
     	this.consProtocol.getAlgebraicGeoTheorem().setStatement(statementPoly.reduceByUTermDivision());
     	
-    	OGPOutput output = OpenGeoProver.settings.getOutput();
-    	ILogger logger = OpenGeoProver.settings.getLogger();
+    	OGPOutput output = OpenGeoProver.getSettings().getOutput();
+    	ILogger logger = OpenGeoProver.getSettings().getLogger();
     	
     	try {
     		output.openEnum(SpecialFileFormatting.ENUM_COMMAND_ITEMIZE);
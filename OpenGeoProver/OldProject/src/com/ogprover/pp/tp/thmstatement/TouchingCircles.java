@@ -83,7 +83,7 @@ public class TouchingCircles extends PositionThmStatement {
 			return false;
 		
 		if (this.geoObjects.size() < 2) {
-			OpenGeoProver.settings.getLogger().error("There should be two circles.");
+			OpenGeoProver.getSettings().getLogger().error("There should be two circles.");
 			return false;
 		}
 		
@@ -92,18 +92,18 @@ public class TouchingCircles extends PositionThmStatement {
 		Circle secondCircle = (Circle) this.geoObjects.get(1);
 		
 		if (firstCircle == null || secondCircle == null) {
-			OpenGeoProver.settings.getLogger().error("Some circle is null.");
+			OpenGeoProver.getSettings().getLogger().error("Some circle is null.");
 			return false;
 		}
 		
 		if (firstCircle.getCenter() == null || secondCircle.getCenter() == null) {
-			OpenGeoProver.settings.getLogger().error("Each circle must have constructed center.");
+			OpenGeoProver.getSettings().getLogger().error("Each circle must have constructed center.");
 			return false;
 		}
 		
 		if ((firstCircle.getPoints().size() == 0 && !(firstCircle instanceof CircleWithCenterAndRadius)) ||
 			(secondCircle.getPoints().size() == 0 && !(secondCircle instanceof CircleWithCenterAndRadius)) ) {
-			OpenGeoProver.settings.getLogger().error("Each circle must have defined radius.");
+			OpenGeoProver.getSettings().getLogger().error("Each circle must have defined radius.");
 			return false;
 		}
 		
@@ -245,7 +245,7 @@ public class TouchingCircles extends PositionThmStatement {
 
 	@Override
 	public AreaMethodTheoremStatement getAreaMethodStatement() {
-		OpenGeoProver.settings.getLogger().error("Area method cannot deal with such statement for now.");
+		OpenGeoProver.getSettings().getLogger().error("Area method cannot deal with such statement for now.");
 		return null;
 	}
 }
@@ -257,13 +257,13 @@ public class TwoInversePoints extends PositionThmStatement {
 		
 		// There must be two points and one circle
 		if (this.geoObjects.size() < 3) {
-			OpenGeoProver.settings.getLogger().error("There must be two points and one circle.");
+			OpenGeoProver.getSettings().getLogger().error("There must be two points and one circle.");
 			return false;
 		}
 		
 		// Circle must have constructed center
 		if (((Circle)this.getGeoObjects().get(2)).getCenter() == null) {
-			OpenGeoProver.settings.getLogger().error("Circle must have constructed center.");
+			OpenGeoProver.getSettings().getLogger().error("Circle must have constructed center.");
 			return false;
 		}
 		
@@ -310,7 +310,7 @@ public class TwoInversePoints extends PositionThmStatement {
 				AB = new LineThroughTwoPoints("SecantOfInversePoints", A, B);
 				this.consProtocol.addGeoConstruction(AB);
 				if (AB.isValidConstructionStep() == false) {
-					OpenGeoProver.settings.getLogger().error("Failed to validate the construction of secant of inverse points.");
+					OpenGeoProver.getSettings().getLogger().error("Failed to validate the construction of secant of inverse points.");
 					return OGPConstants.ERR_CODE_GENERAL;
 				}
 				AB.addPointToSet(O); // points A, B and O are collinear
@@ -332,7 +332,7 @@ public class TwoInversePoints extends PositionThmStatement {
 				this.intersectionPointS = new IntersectionPoint("tempPoint-S", AB, k);
 				this.consProtocol.addGeoConstruction(this.intersectionPointS);
 				if (this.intersectionPointS.isValidConstructionStep() == false) {
-					OpenGeoProver.settings.getLogger().error("Failed to validate the construction of intersection point of circle and line through two given points.");
+					OpenGeoProver.getSettings().getLogger().error("Failed to validate the construction of intersection point of circle and line through two given points.");
 					return OGPConstants.ERR_CODE_GENERAL;
 				}
 				
@@ -420,7 +420,7 @@ public class TwoInversePoints extends PositionThmStatement {
 	@Override
 	public AreaMethodTheoremStatement getAreaMethodStatement() {
 		// The area method cannot deal with such statement.
-		OpenGeoProver.settings.getLogger().error("The area method cannot deal with circle inversion.");
+		OpenGeoProver.getSettings().getLogger().error("The area method cannot deal with circle inversion.");
 		return null;
 	}
 }
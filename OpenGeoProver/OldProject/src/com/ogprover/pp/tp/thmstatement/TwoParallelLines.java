@@ -105,7 +105,7 @@ public class TwoParallelLines extends PositionThmStatement {
 			Point firstTempPoint = new RandomPointFromLine("tempPoint-" + firstLine.getPoints().size() + firstLine.getGeoObjectLabel(), firstLine);
 			this.consProtocol.addGeoConstruction(firstTempPoint);
 			if (firstTempPoint.isValidConstructionStep() == false) {
-				OpenGeoProver.settings.getLogger().error("Failed to validate the construction of random point from line " + firstLine.getGeoObjectLabel());
+				OpenGeoProver.getSettings().getLogger().error("Failed to validate the construction of random point from line " + firstLine.getGeoObjectLabel());
 				return null;
 			}
 			firstTempPoint.transformToAlgebraicForm();
@@ -115,7 +115,7 @@ public class TwoParallelLines extends PositionThmStatement {
 			Point secondTempPoint = new RandomPointFromLine("tempPoint-" + secondLine.getPoints().size() + secondLine.getGeoObjectLabel(), secondLine);
 			this.consProtocol.addGeoConstruction(secondTempPoint);
 			if (secondTempPoint.isValidConstructionStep() == false) {
-				OpenGeoProver.settings.getLogger().error("Failed to validate the construction of random point from line " + secondLine.getGeoObjectLabel());
+				OpenGeoProver.getSettings().getLogger().error("Failed to validate the construction of random point from line " + secondLine.getGeoObjectLabel());
 				return null;
 			}
 			secondTempPoint.transformToAlgebraicForm();
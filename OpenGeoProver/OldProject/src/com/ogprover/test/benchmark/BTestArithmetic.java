@@ -0,0 +1,137 @@
+/*
+ * DISCLAIMER PLACEHOLDER
+ */
+
+package com.ogprover.test.benchmark;
+
+import com.ogprover.main.OGPConfigurationSettings;
+import com.ogprover.main.OpenGeoProver;
+import com.ogprover.polynomials.Polynomial;
+import com.ogprover.polynomials.Power;
+import com.ogprover.polynomials.Term;
+import com.ogprover.polynomials.UPolynomial;
+import com.ogprover.polynomials.UTerm;
+import com.ogprover.polynomials.Variable;
+import com.ogprover.utilities.Stopwatch;
+
+/**
+* <dl>
+* <dt><b>Class description:</b></dt>
+* <dd>Class for benchmark of double and exact arithmetic of coefficients</dd>
+* </dl>
+*
+* @version 1.00
+* @author Ivan Petrovic
+*/
+public class BTestArithmetic {
+	/**
+	 * Number of warm-up iterations (results are not measured)
+	 */
+	private static final int NUM_OF_WARMUP_ITERATIONS = 5;
+	/**
+	 * Number of measured iterations
+	 */
+	private static final int NUM_OF_ITERATIONS = 10;
+
+	/**
+	 * Method that creates dense u-polynomial in two variables with
+	 * mixed integer and fractional coefficients, e.g. for degree 2:
+	 * (u_2)^2 + 1.5*u_2*u_1 + 3*(u_1)^2 + 4.5*u_2 + 6*u_1 + 7.5
+	 *
+	 * @param degree	Total degree of polynomial
+	 * @return			Created polynomial
+	 */
+	public static Polynomial createPolynomial(int degree) {
+		Polynomial p = new UPolynomial();
+		int cnt = 0;
+
+		for (int ii = 0; ii <= degree; ii++) {
+			for (int jj = 0; ii + jj <= degree; jj++) {
+				Term t = new UTerm(1 + 0.5*cnt++);
+
+				if (ii > 0)
+					t.addPower(new Power(Variable.VAR_TYPE_UX_U, 2, ii));
+				if (jj > 0)
+					t.addPower(new Power(Variable.VAR_TYPE_UX_U, 1, jj));
+				p.addTerm(t);
+			}
+		}
+
+		return p;
+	}
+
+	/**
+	 * Workload which multiplies two polynomials and then subtracts
+	 * one product from another one obtained in different order, so
+	 * result must be zero polynomial.
+	 *
+	 * @param degree	Degree of input polynomials
+	 * @return			Number of terms in final result (0 when arithmetic is correct)
+	 */
+	public static int runWorkload(int degree) {
+		Polynomial p = createPolynomial(degree);
+		Polynomial q = createPolynomial(degree + 1);
+		Polynomial r = createPolynomial(degree - 1);
+
+		// (p*q)*r - p*(q*r) = 0
+		Polynomial lhs = p.clone().multiplyByPolynomial(q).multiplyByPolynomial(r);
+		Polynomial rhs = q.clone().multiplyByPolynomial(r);
+
+		rhs = p.clone().multiplyByPolynomial(rhs);
+		lhs.subtractPolynomial(rhs);
+
+		return lhs.getNumOfTerms();
+	}
+
+	/**
+	 * Method that measures workload for specified arithmetic.
+	 *
+	 * @param arithmetic	Arithmetic of coefficients (one of UTerm.ARITHMETIC_xxx values)
+	 * @param degree		Degree of input polynomials
+	 * @return				Average time of one iteration in milliseconds
+	 */
+	public static double measure(int arithmetic, int degree) {
+		Stopwatch s = new Stopwatch();
+		int remaining = 0;
+
+		OpenGeoProver.settings.getParameters().putArithmetic(arithmetic);
+
+		for (int ii = 0; ii < NUM_OF_WARMUP_ITERATIONS; ii++)
+			runWorkload(degree);
+
+		s.startMeasureTime();
+		for (int ii = 0; ii < NUM_OF_ITERATIONS; ii++)
+			remaining += runWorkload(degree);
+		s.endMeasureTime();
+
+		if (remaining != 0)
+			System.out.println("Warning: " + remaining + " non-zero terms left in results.");
+
+		return s.getTimeIntMillisec() / NUM_OF_ITERATIONS;
+	}
+
+	/**
+	 * Method that compares both arithmetics on workloads of increasing size.
+	 */
+	public static void benchmarkArithmetic() {
+		System.out.println("degree\tdouble [ms]\texact [ms]\tratio");
+		for (int degree = 4; degree <= 16; degree += 4) {
+			double tDouble = measure(UTerm.ARITHMETIC_DOUBLE, degree);
+			double tExact = measure(UTerm.ARITHMETIC_EXACT, degree);
+
+			System.out.printf("%d\t%.3f\t\t%.3f\t\t%.2f\n", degree, tDouble, tExact, tExact/tDouble);
+		}
+		OpenGeoProver.settings.getParameters().putArithmetic(UTerm.ARITHMETIC_DOUBLE);
+	}
+
+	/**
+	 * Main method
+	 *
+	 * @param args	Command line arguments (not used)
+	 */
+	public static void main (String[] args) {
+		OpenGeoProver.settings = new OGPConfigurationSettings();
+		BTestArithmetic.benchmarkArithmetic();
+		OpenGeoProver.settings.getTimer().cancel(); // cancel timer thread
+	}
+}
@@ -0,0 +1,407 @@
+/*
+ * DISCLAIMER PLACEHOLDER
+ */
+
+package com.ogprover.test.benchmark;
+
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+
+import com.ogprover.main.OGPConfigurationSettings;
+import com.ogprover.main.OGPConstants;
+import com.ogprover.main.OpenGeoProver;
+import com.ogprover.polynomials.GeoTheorem;
+import com.ogprover.polynomials.Polynomial;
+import com.ogprover.polynomials.Term;
+import com.ogprover.polynomials.UFraction;
+import com.ogprover.polynomials.XPolySystem;
+import com.ogprover.polynomials.XPolynomial;
+import com.ogprover.polynomials.XTerm;
+import com.ogprover.test.formats.geothm_xml.GeoTheoremXMLParser;
+
+/**
+* <dl>
+* <dt><b>Class description:</b></dt>
+* <dd>Class for benchmark of polynomial kernel on systems of real theorems</dd>
+* </dl>
+*
+* @version 1.00
+* @author Ivan Petrovic
+*/
+// Inputs are built from theorems read by GeoTheoremXMLParser (from input directory) in the
+// same way for each run: pairs of hypotheses and statement for addition and multiplication,
+// triangular system for pseudo divisions and coefficients of products for reduction of
+// fractions. Each benchmark is run in warm-up iterations first and then in measured
+// iterations; mean time, its deviation and checksum of results are printed. Results can be
+// saved and compared with results of previous build to catch regressions, e.g.
+//    java ... BTestPolynomialKernel -save before.properties
+//    java ... BTestPolynomialKernel -baseline before.properties
+public class BTestPolynomialKernel {
+	/**
+	 * Number of warm-up iterations (results are not measured)
+	 */
+	private static final int NUM_OF_WARMUP_ITERATIONS = 10;
+	/**
+	 * Number of measured iterations
+	 */
+	private static final int NUM_OF_ITERATIONS = 20;
+	/**
+	 * Relative slowdown with respect to baseline which is reported as regression
+	 */
+	private static final double REGRESSION_TOLERANCE = 0.1;
+	/**
+	 * Theorems used when no theorem is specified in command line
+	 */
+	private static final String[] DEFAULT_THEOREMS = {"geothm_butterfly", "geothm_interior_angles", "geothm_test01"};
+
+	/**
+	 * Hypotheses of all theorems
+	 */
+	private static List<XPolySystem> systems = new ArrayList<XPolySystem>();
+	/**
+	 * Statements of all theorems
+	 */
+	private static List<XPolynomial> statements = new ArrayList<XPolynomial>();
+	/**
+	 * Triangulated hypotheses of all theorems (for theorems whose triangulation has succeeded)
+	 */
+	private static List<XPolySystem> triangularSystems = new ArrayList<XPolySystem>();
+	/**
+	 * Statements of theorems with triangulated hypotheses
+	 */
+	private static List<XPolynomial> triangularStatements = new ArrayList<XPolynomial>();
+	/**
+	 * Pairs of polynomials (hypotheses and statement of same theorem) for binary operations
+	 */
+	private static List<XPolynomial[]> pairs = new ArrayList<XPolynomial[]>();
+	/**
+	 * Coefficients of terms of products of pairs
+	 */
+	private static List<UFraction> fractions = new ArrayList<UFraction>();
+
+	/**
+	 * Measured operation; it returns checksum of results, so it can't
+	 * be optimized away and different results of two builds are visible.
+	 */
+	private static abstract class Benchmark {
+		private String name;
+
+		public Benchmark(String name) {
+			this.name = name;
+		}
+
+		public String getName() {
+			return this.name;
+		}
+
+		public abstract long run();
+	}
+
+	/**
+	 * Method that creates copy of system of polynomials.
+	 *
+	 * @param system	System to be copied
+	 * @return			New system with copies of polynomials
+	 */
+	private static XPolySystem copySystem(XPolySystem system) {
+		XPolySystem copy = new XPolySystem();
+
+		for (int ii = 0, jj = system.numOfPols(); ii < jj; ii++)
+			copy.addXPoly((XPolynomial)system.getXPoly(ii).clone());
+
+		return copy;
+	}
+
+	/**
+	 * Method that reads theorems and prepares inputs for all benchmarks.
+	 *
+	 * @param theoremNames	Names of theorem files in input directory
+	 * @return				RET_CODE_SUCCESS or ERR_CODE_GENERAL if some theorem can't be read
+	 */
+	public static int prepareInputs(List<String> theoremNames) {
+		GeoTheoremXMLParser parser = new GeoTheoremXMLParser();
+
+		for (String name : theoremNames) {
+			GeoTheorem theorem = parser.readGeoTheoremFromXML(name);
+
+			if (theorem == null || theorem.getHypotheses() == null || theorem.getStatement() == null) {
+				System.out.println("Failed to read theorem " + name);
+				return OGPConstants.ERR_CODE_GENERAL;
+			}
+
+			XPolySystem system = theorem.getHypotheses();
+			List<XPolynomial> polys = new ArrayList<XPolynomial>(system.getPolynomials());
+
+			systems.add(system);
+			statements.add(theorem.getStatement());
+			polys.add(theorem.getStatement());
+			for (int ii = 0, size = polys.size(); ii < size; ii++) {
+				for (int jj = ii; jj < size; jj++)
+					pairs.add(new XPolynomial[] {polys.get(ii), polys.get(jj)});
+			}
+
+			XPolySystem triangular = copySystem(system);
+
+			if (triangular.triangulate() == OGPConstants.RET_CODE_SUCCESS) {
+				triangularSystems.add(triangular);
+				triangularStatements.add(theorem.getStatement());
+			}
+			else
+				System.out.println("Triangulation of theorem " + name + " has failed - it is not used for pseudo divisions.");
+		}
+
+		for (XPolynomial[] pair : pairs) {
+			Polynomial product = pair[0].clone().multiplyByPolynomialSequentially(pair[1]);
+
+			for (Term t : product.getTermsAsDescList())
+				fractions.add(((XTerm)t).getUCoeff());
+		}
+
+		return OGPConstants.RET_CODE_SUCCESS;
+	}
+
+	/**
+	 * Method that creates list of benchmarks of polynomial kernel.
+	 *
+	 * @return	List of benchmarks
+	 */
+	public static List<Benchmark> createBenchmarks() {
+		List<Benchmark> benchmarks = new ArrayList<Benchmark>();
+		final int numOfThreads = Runtime.getRuntime().availableProcessors();
+
+		benchmarks.add(new Benchmark("addPolynomial") {
+			public long run() {
+				long sum = 0;
+
+				for (XPolynomial[] pair : pairs)
+					sum += pair[0].clone().addPolynomial(pair[1]).getNumOfTerms();
+				return sum;
+			}
+		});
+		benchmarks.add(new Benchmark("multiplyByPolynomial") {
+			public long run() {
+				long sum = 0;
+
+				for (XPolynomial[] pair : pairs)
+					sum += pair[0].clone().multiplyByPolynomial(pair[1]).getNumOfTerms();
+				return sum;
+			}
+		});
+		benchmarks.add(new Benchmark("multiplyByPolynomialConcurrently") {
+			public long run() {
+				long sum = 0;
+
+				for (XPolynomial[] pair : pairs)
+					sum += pair[0].clone().multiplyByPolynomialConcurrently(pair[1], numOfThreads).getNumOfTerms();
+				return sum;
+			}
+		});
+		benchmarks.add(new Benchmark("pseudoReminder") {
+			public long run() {
+				long sum = 0;
+
+				// final reduction of statement as in Wu's method
+				for (int kk = 0, size = triangularSystems.size(); kk < size; kk++) {
+					XPolySystem system = triangularSystems.get(kk);
+					XPolynomial reminder = (XPolynomial)triangularStatements.get(kk).clone();
+
+					for (int ii = system.numOfPols() - 1; ii >= 0 && reminder != null; ii--)
+						reminder = reminder.pseudoReminder(system.getXPoly(ii), system.getVariableList().get(ii).intValue());
+					sum += (reminder != null) ? reminder.getNumOfTerms() : -1;
+				}
+				return sum;
+			}
+		});
+		benchmarks.add(new Benchmark("UFraction.reduce") {
+			public long run() {
+				long sum = 0;
+
+				for (UFraction f : fractions)
+					sum += f.clone().reduce().getNumerator().getNumOfTerms();
+				return sum;
+			}
+		});
+		benchmarks.add(new Benchmark("triangulate") {
+			public long run() {
+				long sum = 0;
+
+				for (XPolySystem system : systems) {
+					XPolySystem copy = copySystem(system);
+
+					sum += (copy.triangulate() == OGPConstants.RET_CODE_SUCCESS) ? copy.numOfPols() : -1;
+				}
+				return sum;
+			}
+		});
+
+		return benchmarks;
+	}
+
+	/**
+	 * Method that measures one benchmark.
+	 *
+	 * @param b		Benchmark
+	 * @return		Array with mean time and standard deviation of one iteration in
+	 * 				milliseconds and checksum of results
+	 */
+	public static double[] measure(Benchmark b) {
+		double[] times = new double[NUM_OF_ITERATIONS];
+		long checksum = 0;
+		double mean = 0, deviation = 0;
+
+		for (int ii = 0; ii < NUM_OF_WARMUP_ITERATIONS; ii++)
+			b.run();
+
+		for (int ii = 0; ii < NUM_OF_ITERATIONS; ii++) {
+			long start = System.nanoTime();
+
+			checksum = b.run();
+			times[ii] = (System.nanoTime() - start) / 1000000.0;
+			mean += times[ii];
+		}
+		mean /= NUM_OF_ITERATIONS;
+
+		for (int ii = 0; ii < NUM_OF_ITERATIONS; ii++)
+			deviation += (times[ii] - mean) * (times[ii] - mean);
+		deviation = Math.sqrt(deviation / NUM_OF_ITERATIONS);
+
+		return new double[] {mean, deviation, checksum};
+	}
+
+	/**
+	 * Method that runs all benchmarks and compares results with baseline.
+	 *
+	 * @param baselineFile	File with results of previous build (null if there is no comparison)
+	 * @param saveFile		File for saving results (null if results are not saved)
+	 * @return				Number of benchmarks slower than baseline, or
+	 * 						negative value if file can't be read or written
+	 */
+	public static int benchmarkKernel(String baselineFile, String saveFile) {
+		Properties baseline = new Properties();
+		Properties results = new Properties();
+		int numOfRegressions = 0;
+
+		if (baselineFile != null && loadProperties(baseline, baselineFile) != OGPConstants.RET_CODE_SUCCESS)
+			return -1;
+
+		System.out.println("inputs: " + pairs.size() + " pairs, " + triangularSystems.size() + " triangular systems, " + fractions.size() + " fractions");
+		System.out.println("benchmark\t\t\t\tmean [ms]\tdeviation [ms]\tchecksum\tbaseline [ms]");
+		for (Benchmark b : createBenchmarks()) {
+			double[] res = measure(b);
+			String name = b.getName();
+			String base = baseline.getProperty(name);
+			String mark = "";
+
+			results.setProperty(name, Double.toString(res[0]));
+			if (base != null && res[0] > Double.parseDouble(base) * (1 + REGRESSION_TOLERANCE)) {
+				mark = "\tREGRESSION";
+				numOfRegressions++;
+			}
+			System.out.printf("%-40s%.3f\t\t%.3f\t\t%d\t\t%s%s\n", name, res[0], res[1], (long)res[2], (base != null) ? base : "-", mark);
+		}
+
+		if (saveFile != null && saveProperties(results, saveFile) != OGPConstants.RET_CODE_SUCCESS)
+			return -1;
+
+		return numOfRegressions;
+	}
+
+	/**
+	 * Method that reads results from file.
+	 *
+	 * @param props		Object which receives results
+	 * @param fileName	Name of file
+	 * @return			RET_CODE_SUCCESS or ERR_CODE_GENERAL if file can't be read
+	 */
+	private static int loadProperties(Properties props, String fileName) {
+		FileInputStream in = null;
+
+		try {
+			in = new FileInputStream(fileName);
+			props.load(in);
+		} catch (IOException e) {
+			System.out.println("Failed to read baseline from file " + fileName + ": " + e.toString());
+			return OGPConstants.ERR_CODE_GENERAL;
+		} finally {
+			if (in != null) {
+				try {
+					in.close();
+				} catch (IOException e) {
+					// nothing to do - values are already read
+				}
+			}
+		}
+
+		return OGPConstants.RET_CODE_SUCCESS;
+	}
+
+	/**
+	 * Method that writes results to file.
+	 *
+	 * @param props		Results
+	 * @param fileName	Name of file
+	 * @return			RET_CODE_SUCCESS or ERR_CODE_GENERAL if file can't be written
+	 */
+	private static int saveProperties(Properties props, String fileName) {
+		FileOutputStream out = null;
+
+		try {
+			out = new FileOutputStream(fileName);
+			props.store(out, "OpenGeoProver - benchmark of polynomial kernel (mean times in milliseconds)");
+		} catch (IOException e) {
+			System.out.println("Failed to write results to file " + fileName + ": " + e.toString());
+			return OGPConstants.ERR_CODE_GENERAL;
+		} finally {
+			if (out != null) {
+				try {
+					out.close();
+				} catch (IOException e) {
+					// nothing to do
+				}
+			}
+		}
+
+		return OGPConstants.RET_CODE_SUCCESS;
+	}
+
+	/**
+	 * Main method
+	 *
+	 * @param args	Command line arguments: [-baseline file] [-save file] [theorem ...];
+	 * 				theorems are read from input directory
+	 */
+	public static void main (String[] args) {
+		String baselineFile = null, saveFile = null;
+		List<String> theoremNames = new ArrayList<String>();
+		int retCode = 0;
+
+		for (int ii = 0; ii < args.length; ii++) {
+			if (args[ii].equals("-baseline") && ii + 1 < args.length)
+				baselineFile = args[++ii];
+			else if (args[ii].equals("-save") && ii + 1 < args.length)
+				saveFile = args[++ii];
+			else
+				theoremNames.add(args[ii]);
+		}
+		if (theoremNames.size() == 0) {
+			for (String name : DEFAULT_THEOREMS)
+				theoremNames.add(name);
+		}
+
+		OpenGeoProver.settings = new OGPConfigurationSettings();
+		if (prepareInputs(theoremNames) == OGPConstants.RET_CODE_SUCCESS)
+			retCode = benchmarkKernel(baselineFile, saveFile);
+		else
+			retCode = -1;
+		OpenGeoProver.settings.getTimer().cancel(); // cancel timer thread
+
+		if (retCode != 0) {
+			System.out.println((retCode > 0) ? (retCode + " benchmark(s) slower than baseline.") : "Benchmark has failed.");
+			System.exit(1);
+		}
+	}
+}
@@ -52,8 +52,12 @@ public class GeoTheoremXMLParser {
 	private String getAbsoluteFileName(String fileName) {
 		String xstreamFileName = null;
 		
-		// extract only base file name
+		// file given by path (e.g. from batch of theorems) is read from its location
 		int index = fileName.lastIndexOf('/');
+		if (index > -1 && new File(fileName).isFile())
+			return fileName;
+		
+		// extract only base file name
 		String basenameWithExt = null;
 		String basename = null;
 		
@@ -84,7 +88,7 @@ public class GeoTheoremXMLParser {
 	 * 						null otherwise
 	 */
 	public GeoTheorem readGeoTheoremFromXML(String fileName) {
-		ILogger logger = OpenGeoProver.settings.getLogger();
+		ILogger logger = OpenGeoProver.getSettings().getLogger();
 		
 		if (fileName == null) {
 			logger.error("Null file name passed to readGeoTheoremFromXML() method.");
@@ -97,7 +101,7 @@ public class GeoTheoremXMLParser {
 		
 		// Check whether input directory with XML files exists
 		File inDir = new File(CustomFileReader.INPUT_DIR_NAME);
-		if (inDir.exists() == false || inDir.isDirectory() == false) {
+		if (xstreamFileName != fileName && (inDir.exists() == false || inDir.isDirectory() == false)) {
 			logger.error("Input directory for xml files with name " + CustomFileReader.INPUT_DIR_NAME + " doesn't exist.");
 			return null;
 		}
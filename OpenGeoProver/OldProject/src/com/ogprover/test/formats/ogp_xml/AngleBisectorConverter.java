@@ -41,7 +41,7 @@ public class AngleBisectorConverter implements Converter {
 
 	public Object unmarshal(HierarchicalStreamReader reader,
 			UnmarshallingContext ctx) {
-		OGPTP consProtocol = OpenGeoProver.settings.getParsedTP();
+		OGPTP consProtocol = OpenGeoProver.getSettings().getParsedTP();
 		String label = reader.getAttribute("label");
 		String firstraypt = reader.getAttribute("firstraypt");
 		String vertex = reader.getAttribute("vertex");
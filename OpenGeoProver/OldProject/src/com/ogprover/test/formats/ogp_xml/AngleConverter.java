@@ -40,7 +40,7 @@ public class AngleConverter implements Converter {
 
 	public Object unmarshal(HierarchicalStreamReader reader,
 			UnmarshallingContext ctx) {
-		OGPTP consProtocol = OpenGeoProver.settings.getParsedTP();
+		OGPTP consProtocol = OpenGeoProver.getSettings().getParsedTP();
 		String firstraypt = reader.getAttribute("firstraypt");
 		String vertex = reader.getAttribute("vertex");
 		String secondraypt = reader.getAttribute("secondraypt");
@@ -46,7 +46,7 @@ public class AngleEqualToSpecialConstantAngleConverter implements Converter {
 
 	public Object unmarshal(HierarchicalStreamReader reader,
 			UnmarshallingContext ctx) {
-		OGPTP consProtocol = OpenGeoProver.settings.getParsedTP();
+		OGPTP consProtocol = OpenGeoProver.getSettings().getParsedTP();
 		String consAngLabel = reader.getAttribute("consAngle");
 		
 		if (!reader.hasMoreChildren())
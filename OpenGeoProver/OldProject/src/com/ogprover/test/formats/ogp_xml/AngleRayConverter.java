@@ -43,7 +43,7 @@ public class AngleRayConverter implements Converter {
 
 	public Object unmarshal(HierarchicalStreamReader reader,
 			UnmarshallingContext ctx) {
-		OGPTP consProtocol = OpenGeoProver.settings.getParsedTP();
+		OGPTP consProtocol = OpenGeoProver.getSettings().getParsedTP();
 		String label = reader.getAttribute("label");
 		String firstraypt = reader.getAttribute("firstraypt");
 		String vertex = reader.getAttribute("vertex");
@@ -48,7 +48,7 @@ public class AngleRayOfThirdAngleTo60DegConverter implements Converter {
 
 	public Object unmarshal(HierarchicalStreamReader reader,
 			UnmarshallingContext ctx) {
-		OGPTP consProtocol = OpenGeoProver.settings.getParsedTP();
+		OGPTP consProtocol = OpenGeoProver.getSettings().getParsedTP();
 		String label = reader.getAttribute("label");
 		String firstraypt = reader.getAttribute("firstraypt");
 		String vertex = reader.getAttribute("vertex");
@@ -39,7 +39,7 @@ public class CenterOfCircleConverter implements Converter {
 
 	public Object unmarshal(HierarchicalStreamReader reader,
 			UnmarshallingContext ctx) {
-		OGPTP consProtocol = OpenGeoProver.settings.getParsedTP();
+		OGPTP consProtocol = OpenGeoProver.getSettings().getParsedTP();
 		String label = reader.getAttribute("label");
 		String circle = reader.getAttribute("circle");
 		
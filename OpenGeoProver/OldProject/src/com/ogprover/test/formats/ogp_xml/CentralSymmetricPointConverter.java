@@ -40,7 +40,7 @@ public class CentralSymmetricPointConverter implements Converter {
 
 	public Object unmarshal(HierarchicalStreamReader reader,
 			UnmarshallingContext ctx) {
-		OGPTP consProtocol = OpenGeoProver.settings.getParsedTP();
+		OGPTP consProtocol = OpenGeoProver.getSettings().getParsedTP();
 		String label = reader.getAttribute("label");
 		String origpt = reader.getAttribute("origpt");
 		String center = reader.getAttribute("center");
@@ -41,7 +41,7 @@ public class CircleWithCenterAndRadiusConverter implements Converter {
 
 	public Object unmarshal(HierarchicalStreamReader reader,
 			UnmarshallingContext ctx) {
-		OGPTP consProtocol = OpenGeoProver.settings.getParsedTP();
+		OGPTP consProtocol = OpenGeoProver.getSettings().getParsedTP();
 		String label = reader.getAttribute("label");
 		String center = reader.getAttribute("center");
 		String radipoint1 = reader.getAttribute("radipt1");
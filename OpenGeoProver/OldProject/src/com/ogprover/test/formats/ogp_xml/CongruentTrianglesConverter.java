@@ -56,7 +56,7 @@ public class CongruentTrianglesConverter implements Converter {
 
 	public Object unmarshal(HierarchicalStreamReader reader,
 			UnmarshallingContext ctx) {
-		OGPTP consProtocol = OpenGeoProver.settings.getParsedTP();
+		OGPTP consProtocol = OpenGeoProver.getSettings().getParsedTP();
 		String firstTA = null, firstTB = null, firstTC = null;
 		String secondTA = null, secondTB = null, secondTC = null;
 		
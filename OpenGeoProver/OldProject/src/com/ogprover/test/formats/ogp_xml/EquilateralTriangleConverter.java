@@ -41,7 +41,7 @@ public class EquilateralTriangleConverter implements Converter {
 
 	public Object unmarshal(HierarchicalStreamReader reader,
 			UnmarshallingContext ctx) {
-		OGPTP consProtocol = OpenGeoProver.settings.getParsedTP();
+		OGPTP consProtocol = OpenGeoProver.getSettings().getParsedTP();
 		String pointA = reader.getAttribute("pointA");
 		String pointB = reader.getAttribute("pointB");
 		String pointC = reader.getAttribute("pointC");
@@ -46,7 +46,7 @@ public class HarmonicConjugatesConverter implements Converter {
 
 	public Object unmarshal(HierarchicalStreamReader reader,
 			UnmarshallingContext ctx) {
-		OGPTP consProtocol = OpenGeoProver.settings.getParsedTP();
+		OGPTP consProtocol = OpenGeoProver.getSettings().getParsedTP();
 		String point1 = reader.getAttribute("point1");
 		String point2 = reader.getAttribute("point2");
 		String point3 = reader.getAttribute("point3");
@@ -42,7 +42,7 @@ public class IdenticalPointsConverter implements Converter {
 
 	public Object unmarshal(HierarchicalStreamReader reader,
 			UnmarshallingContext ctx) {
-		OGPTP consProtocol = OpenGeoProver.settings.getParsedTP();
+		OGPTP consProtocol = OpenGeoProver.getSettings().getParsedTP();
 		String point1 = reader.getAttribute("point1");
 		String point2 = reader.getAttribute("point2");
 		
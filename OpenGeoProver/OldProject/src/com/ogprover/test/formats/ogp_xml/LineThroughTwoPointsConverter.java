@@ -40,7 +40,7 @@ public class LineThroughTwoPointsConverter implements Converter {
 
 	public Object unmarshal(HierarchicalStreamReader reader,
 			UnmarshallingContext ctx) {
-		OGPTP consProtocol = OpenGeoProver.settings.getParsedTP();
+		OGPTP consProtocol = OpenGeoProver.getSettings().getParsedTP();
 		String label = reader.getAttribute("label");
 		String point1 = reader.getAttribute("point1");
 		String point2 = reader.getAttribute("point2");
@@ -125,7 +125,7 @@ public class OGPCPXMLConverter implements Converter {
 		}
 		writer.endNode();
 		
-		if (OpenGeoProver.settings.getOgpMode() == OGPConstants.OGP_MODE_THM_PROVING) {
+		if (OpenGeoProver.getSettings().getOgpMode() == OGPConstants.OGP_MODE_THM_PROVING) {
 			writer.startNode("statement");
 			ThmStatement statement = consProtocol.getTheoremStatement();
 			if (statement instanceof AlgebraicSumOfThreeAngles)
@@ -184,7 +184,7 @@ public class OGPCPXMLConverter implements Converter {
 			writer.endNode();
 			writer.endNode();
 		}
-		else if (OpenGeoProver.settings.getOgpMode() == OGPConstants.OGP_MODE_RC_CONSTRUCTIBILITY) {
+		else if (OpenGeoProver.getSettings().getOgpMode() == OGPConstants.OGP_MODE_RC_CONSTRUCTIBILITY) {
 			writer.startNode("freepts");
 			writer.addAttribute("insMoment", (consProtocol.getRcConsMomentOfInstantiationOfPointCoordinates() == OGPTP.INSTANTIATION_MOMENT_AFTER) ? "after" : "before");
 			ctx.convertAnother(consProtocol.getRcConsFreePoints());
@@ -202,7 +202,7 @@ public class OGPCPXMLConverter implements Converter {
 	public Object unmarshal(HierarchicalStreamReader reader,
 			UnmarshallingContext ctx) {
 		OGPTP consProtocol = new OGPTP();
-		OpenGeoProver.settings.setParsedTP(consProtocol); // this CP will be visible while parsing inner tags
+		OpenGeoProver.getSettings().setParsedTP(consProtocol); // this CP will be visible while parsing inner tags
 		
 		consProtocol.setTheoremName(reader.getAttribute("name"));
 		
@@ -294,7 +294,7 @@ public class OGPCPXMLConverter implements Converter {
 		}
 		reader.moveUp();
 		reader.moveDown();
-		if (OpenGeoProver.settings.getOgpMode() == OGPConstants.OGP_MODE_THM_PROVING) {
+		if (OpenGeoProver.getSettings().getOgpMode() == OGPConstants.OGP_MODE_THM_PROVING) {
 			if ("statement".equals(reader.getNodeName())) {
 				reader.moveDown();
 				String nodeName = reader.getNodeName();
@@ -354,7 +354,7 @@ public class OGPCPXMLConverter implements Converter {
 				reader.moveUp();
 			}
 		}
-		else if (OpenGeoProver.settings.getOgpMode() == OGPConstants.OGP_MODE_RC_CONSTRUCTIBILITY) {
+		else if (OpenGeoProver.getSettings().getOgpMode() == OGPConstants.OGP_MODE_RC_CONSTRUCTIBILITY) {
 			if ("freepts".equals(reader.getNodeName())) {
 				String insMoment = reader.getAttribute("insMoment");
 				if (insMoment != null) {
@@ -41,7 +41,7 @@ public class PointOnSetOfPointsConverter implements Converter {
 
 	public Object unmarshal(HierarchicalStreamReader reader,
 			UnmarshallingContext ctx) {
-		OGPTP consProtocol = OpenGeoProver.settings.getParsedTP();
+		OGPTP consProtocol = OpenGeoProver.getSettings().getParsedTP();
 		String set = reader.getAttribute("set");
 		String point = reader.getAttribute("point");
 		
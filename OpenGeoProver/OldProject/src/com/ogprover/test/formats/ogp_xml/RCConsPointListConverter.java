@@ -55,7 +55,7 @@ public class RCConsPointListConverter implements Converter {
 			reader.moveDown();
 			if ("point".equals(reader.getNodeName())) {
 				String ptLabel = reader.getAttribute("label");
-				Point pt = (Point)OpenGeoProver.settings.getParsedTP().getConstructionMap().get(ptLabel);
+				Point pt = (Point)OpenGeoProver.getSettings().getParsedTP().getConstructionMap().get(ptLabel);
 				if (pt == null)
 					return null;
 				ptList.addPoint(pt);
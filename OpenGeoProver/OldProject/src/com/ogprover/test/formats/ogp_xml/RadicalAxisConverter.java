@@ -40,7 +40,7 @@ public class RadicalAxisConverter implements Converter {
 
 	public Object unmarshal(HierarchicalStreamReader reader,
 			UnmarshallingContext ctx) {
-		OGPTP consProtocol = OpenGeoProver.settings.getParsedTP();
+		OGPTP consProtocol = OpenGeoProver.getSettings().getParsedTP();
 		String label = reader.getAttribute("label");
 		String circle1 = reader.getAttribute("circle1");
 		String circle2 = reader.getAttribute("circle2");
@@ -40,7 +40,7 @@ public class RandomPointFromGeneralConicConverter implements Converter {
 	
 	public Object unmarshal(HierarchicalStreamReader reader,
 			UnmarshallingContext ctx) {
-		OGPTP consProtocol = OpenGeoProver.settings.getParsedTP();
+		OGPTP consProtocol = OpenGeoProver.getSettings().getParsedTP();
 		String label = reader.getAttribute("label");
 		String conic = reader.getAttribute("conic");
 		
@@ -43,7 +43,7 @@ public class RatioOfOrientedSegmentsConverter implements Converter {
 
 	public Object unmarshal(HierarchicalStreamReader reader,
 			UnmarshallingContext ctx) {
-		OGPTP consProtocol = OpenGeoProver.settings.getParsedTP();
+		OGPTP consProtocol = OpenGeoProver.getSettings().getParsedTP();
 		String point11 = reader.getAttribute("point11");
 		String point12 = reader.getAttribute("point12");
 		String point21 = reader.getAttribute("point21");
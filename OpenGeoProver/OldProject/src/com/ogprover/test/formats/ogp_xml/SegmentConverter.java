@@ -39,7 +39,7 @@ public class SegmentConverter implements Converter {
 
 	public Object unmarshal(HierarchicalStreamReader reader,
 			UnmarshallingContext ctx) {
-		OGPTP consProtocol = OpenGeoProver.settings.getParsedTP();
+		OGPTP consProtocol = OpenGeoProver.getSettings().getParsedTP();
 		String point1 = reader.getAttribute("point1");
 		String point2 = reader.getAttribute("point2");
 		
@@ -39,7 +39,7 @@ public class TwoPerpendicularLinesConverter implements Converter {
 
 	public Object unmarshal(HierarchicalStreamReader reader,
 			UnmarshallingContext ctx) {
-		OGPTP consProtocol = OpenGeoProver.settings.getParsedTP();
+		OGPTP consProtocol = OpenGeoProver.getSettings().getParsedTP();
 		String line1 = reader.getAttribute("line1");
 		String line2 = reader.getAttribute("line2");
 		
@@ -0,0 +1,35 @@
+/* 
+ * DISCLAIMER PLACEHOLDER 
+ */
+
+package com.ogprover.test.junit;
+
+import java.io.File;
+
+import com.ogprover.main.OGPConfigurationSettings;
+import com.ogprover.main.OpenGeoProver;
+import com.ogprover.utilities.logger.FileLogger;
+
+import junit.framework.Test;
+import junit.framework.TestSuite;
+
+/**
+* <dl>
+* <dt><b>Class description:</b></dt>
+* <dd>Class for unit testing suit for API of prover</dd>
+* </dl>
+* 
+* @version 1.00
+* @author Ivan Petrovic
+*/
+public class JUTestAPISuite extends TestSuite {
+	static public Test suite() {
+		TestSuite suite = new TestSuite();
+		OpenGeoProver.settings = new OGPConfigurationSettings("JUTestAPISuiteLogFile", ".." + File.separator + FileLogger.DEFAULT_LOG_DIR);
+		
+		// Add single test cases here
+		suite.addTestSuite(JUTestJSONProtocol.class);
+		
+		return suite;
+	}
+}
@@ -29,6 +29,7 @@ public class JUTestCPSuite extends TestSuite {
 		
 		// Add single test cases here
 		suite.addTestSuite(JUTestPoint.class);
+		suite.addTestSuite(JUTestProofCache.class);
 		// TODO - other tests for geometry classes
 		
 		return suite;
@@ -0,0 +1,181 @@
+/* 
+ * DISCLAIMER PLACEHOLDER 
+ */
+
+package com.ogprover.test.junit;
+
+import java.util.ArrayList;
+import java.util.Random;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.ogprover.main.OpenGeoProver;
+import com.ogprover.polynomials.GeoBucket;
+import com.ogprover.polynomials.Polynomial;
+import com.ogprover.polynomials.Power;
+import com.ogprover.polynomials.SortedTermArray;
+import com.ogprover.polynomials.Term;
+import com.ogprover.polynomials.UPolynomial;
+import com.ogprover.polynomials.UTerm;
+import com.ogprover.polynomials.Variable;
+
+import junit.framework.TestCase;
+
+/**
+* <dl>
+* <dt><b>Class description:</b></dt>
+* <dd>Class for unit testing of GeoBucket</dd>
+* </dl>
+* 
+* @version 1.00
+* @author Ivan Petrovic
+*/
+public class JUTestGeoBucket extends TestCase {
+	private Random random;
+	
+	public JUTestGeoBucket(String name) {
+		super(name);
+	}
+	
+	@Before
+	public void setUp() throws Exception{
+		random = new Random(20261018L);
+		OpenGeoProver.settings.getLogger().info("Starting new geobucket test");
+	}
+	
+	@After
+	public void tearDown() {
+		random = null;
+		OpenGeoProver.settings.getLogger().info("Finished geobucket test");
+	}
+	
+	/**
+	 * Method that creates polynomial with random terms of u-variables u1..u4
+	 * with small integer coefficients, so sums of coefficients are exact.
+	 */
+	private UPolynomial createRandomPolynomial(int numOfTerms) {
+		UPolynomial p = new UPolynomial();
+		
+		for (int ii = 0; ii < numOfTerms; ii++) {
+			UTerm t = new UTerm((random.nextInt(2) == 0 ? -1 : 1) * (1 + random.nextInt(5)));
+			
+			for (int jj = 1; jj <= 4; jj++) {
+				int exp = random.nextInt(4);
+				
+				if (exp > 0)
+					t.addPower(new Power(Variable.VAR_TYPE_UX_U, jj, exp));
+			}
+			p.addTerm(t);
+		}
+		
+		return p;
+	}
+	
+	/**
+	 * Method that gives sorted array with copies of terms of polynomial.
+	 */
+	private static SortedTermArray toArray(Polynomial p) {
+		return new SortedTermArray(p.clone().getTerms().values());
+	}
+	
+	/**
+	 * Method that checks that array has same terms in same order as tree of polynomial.
+	 */
+	private static void assertSameTerms(Polynomial expected, SortedTermArray actual) {
+		ArrayList<Term> expectedList = expected.getTermsAsDescList();
+		ArrayList<Term> actualList = actual.toDescList();
+		
+		assertEquals(expectedList.size(), actualList.size());
+		for (int ii = 0, jj = expectedList.size(); ii < jj; ii++) {
+			assertFalse(actualList.get(ii).isZero());
+			assertEquals(0, expectedList.get(ii).compareTo(actualList.get(ii)));
+			assertEquals(((UTerm)expectedList.get(ii)).getCoeff(), ((UTerm)actualList.get(ii)).getCoeff(), 0);
+		}
+	}
+	
+	@Test
+	public void testMergeAndCarry() {
+		OpenGeoProver.settings.getLogger().info("Testing merge of buckets and carry to bigger buckets");
+		
+		GeoBucket bucket = new GeoBucket();
+		UPolynomial expected = new UPolynomial();
+		
+		// different single terms - each addition merges full buckets and
+		// carries merged terms over several levels without losing any term
+		for (int ii = 1; ii <= 100; ii++) {
+			UTerm t = new UTerm(ii);
+			
+			t.addPower(new Power(Variable.VAR_TYPE_UX_U, 7, ii));
+			expected.addTerm(t.clone());
+			
+			SortedTermArray a = new SortedTermArray(1);
+			
+			a.append(t);
+			bucket.add(a);
+			assertEquals(ii, bucket.getNumOfTerms());
+		}
+		assertEquals(0, expected.getLeadingTerm().compareTo(bucket.getLeadingTerm()));
+		
+		// chunks of different sizes with equal terms, added after buckets were canonicalized
+		for (int ii = 0; ii < 60; ii++) {
+			UPolynomial p = this.createRandomPolynomial(1 + random.nextInt(80));
+			
+			expected.addPolynomial(p);
+			bucket.add(JUTestGeoBucket.toArray(p));
+			assertTrue(bucket.getNumOfTerms() >= expected.getNumOfTerms());
+		}
+		bucket.add(new SortedTermArray(1)); // empty array doesn't change anything
+		
+		assertSameTerms(expected, bucket.getResult());
+		assertEquals(0, bucket.getNumOfTerms());
+		assertNull(bucket.getLeadingTerm());
+	}
+	
+	@Test
+	public void testCancellation() {
+		OpenGeoProver.settings.getLogger().info("Testing cancellation of terms in geobucket");
+		
+		UPolynomial p = this.createRandomPolynomial(50);
+		UPolynomial q = this.createRandomPolynomial(30);
+		
+		// sum of polynomial and its negation is zero
+		GeoBucket bucket = new GeoBucket();
+		
+		bucket.add(JUTestGeoBucket.toArray(p));
+		bucket.add(JUTestGeoBucket.toArray(q));
+		bucket.add(JUTestGeoBucket.toArray(p.clone().invert()));
+		bucket.add(JUTestGeoBucket.toArray(q.clone().invert()));
+		assertNull(bucket.getLeadingTerm());
+		assertEquals(0, bucket.getResult().size());
+		
+		// partial cancellation leaves only terms which are not cancelled
+		bucket.add(JUTestGeoBucket.toArray(p));
+		bucket.add(JUTestGeoBucket.toArray(q));
+		bucket.add(JUTestGeoBucket.toArray(p.clone().invert()));
+		assertSameTerms(q, bucket.getResult());
+		
+		// product subtracted from itself
+		bucket.addProduct(p, q, false);
+		bucket.addProduct(q, p, true);
+		assertEquals(0, bucket.getResult().size());
+	}
+	
+	@Test
+	public void testProductOrder() {
+		OpenGeoProver.settings.getLogger().info("Testing order of terms of product in geobucket");
+		
+		for (int ii = 0; ii < 20; ii++) {
+			UPolynomial p = this.createRandomPolynomial(1 + random.nextInt(40));
+			UPolynomial q = this.createRandomPolynomial(1 + random.nextInt(40));
+			GeoBucket bucket = new GeoBucket();
+			
+			bucket.addProduct(p, q, false);
+			assertSameTerms(p.clone().multiplyByPolynomialSequentially(q), bucket.getResult());
+			
+			bucket.addProduct(p, q, true);
+			assertSameTerms(p.clone().multiplyByPolynomialSequentially(q).invert(), bucket.getResult());
+		}
+	}
+}
@@ -0,0 +1,279 @@
+/* 
+ * DISCLAIMER PLACEHOLDER 
+ */
+
+package com.ogprover.test.junit;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.PrintStream;
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Vector;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.ogprover.api.OGPDaemon;
+import com.ogprover.api.OGPJSONProtocol;
+import com.ogprover.main.OGPBatchProver;
+import com.ogprover.main.OpenGeoProver;
+import com.ogprover.pp.OGPResultOutputProverProtocol;
+import com.ogprover.pp.OGPXMLInputProverProtocol;
+
+import junit.framework.TestCase;
+
+/**
+* <dl>
+* <dt><b>Class description:</b></dt>
+* <dd>Class for unit testing of OGPJSONProtocol</dd>
+* </dl>
+* 
+* @version 1.00
+* @author Ivan Petrovic
+*/
+public class JUTestJSONProtocol extends TestCase {
+	private String[] malformedTexts;
+	
+	public JUTestJSONProtocol(String name) {
+		super(name);
+	}
+	
+	@Before
+	public void setUp() throws Exception{
+		StringBuilder deep = new StringBuilder("{\"a\": ");
+		
+		for (int ii = 0; ii < 100000; ii++)
+			deep.append('[');
+		
+		malformedTexts = new String[] {
+			"", "   ", "{", "}", "[1, 2]", "\"text\"", "{\"a\"}", "{\"a\": }", "{\"a\": 1,}", "{\"a\" 1}",
+			"{a: 1}", "{\"a\": tru}", "{\"a\": nul}", "{\"a\": [1, 2}", "{\"a\": \"x}", "{\"a\": \"\\x\"}",
+			"{\"a\": \"\\u12\"}", "{\"a\": \"\\u12g4\"}", "{\"a\": -}", "{\"a\": 1.2.3}", "{\"a\": 1} {",
+			"{\"a\": 1e99999999999}", deep.toString()
+		};
+		OpenGeoProver.settings.getLogger().info("Starting new JSON protocol test");
+	}
+	
+	@After
+	public void tearDown() {
+		malformedTexts = null;
+		OpenGeoProver.settings.getLogger().info("Finished JSON protocol test");
+	}
+	
+	@Test
+	public void testEscapes() {
+		OpenGeoProver.settings.getLogger().info("Testing escape sequences of strings");
+		
+		Map<String, Object> obj = OGPJSONProtocol.parseObject("{\"s\": \"q\\\"b\\\\s\\/n\\nt\\tr\\rb\\bf\\fu\\u0041\\u00e9\", \"k\\u0031\": \"\"}");
+		
+		assertNotNull(obj);
+		assertEquals("q\"b\\s/n\nt\tr\rb\bf\fuA\u00e9", obj.get("s"));
+		assertEquals("", obj.get("k1"));
+		
+		StringBuilder sb = new StringBuilder();
+		
+		OGPJSONProtocol.appendString(sb, "q\"b\\n\nt\tr\r\u0001");
+		assertEquals("\"q\\\"b\\\\n\\nt\\tr\\r\\u0001\"", sb.toString());
+	}
+	
+	@Test
+	public void testNestedArrays() {
+		OpenGeoProver.settings.getLogger().info("Testing nested arrays and objects");
+		
+		Map<String, Object> obj = OGPJSONProtocol.parseObject(" { \"a\" : [ [ ], [1, [\"x\", [true, false, null]]], {\"b\": [{}]} ] } ");
+		
+		assertNotNull(obj);
+		
+		List<?> a = (List<?>)obj.get("a");
+		
+		assertEquals(3, a.size());
+		assertEquals(0, ((List<?>)a.get(0)).size());
+		
+		List<?> a1 = (List<?>)a.get(1);
+		List<?> a11 = (List<?>)a1.get(1);
+		List<?> a111 = (List<?>)a11.get(1);
+		
+		assertEquals(0, new BigDecimal(1).compareTo((BigDecimal)a1.get(0)));
+		assertEquals("x", a11.get(0));
+		assertEquals(Boolean.TRUE, a111.get(0));
+		assertEquals(Boolean.FALSE, a111.get(1));
+		assertNull(a111.get(2));
+		assertEquals(3, a111.size());
+		
+		List<?> b = (List<?>)((Map<?, ?>)a.get(2)).get("b");
+		
+		assertEquals(1, b.size());
+		assertTrue(((Map<?, ?>)b.get(0)).isEmpty());
+	}
+	
+	@Test
+	public void testNumbers() {
+		OpenGeoProver.settings.getLogger().info("Testing numbers");
+		
+		Map<String, Object> obj = OGPJSONProtocol.parseObject("{\"options\": [-12, 0, 60.0, 6E+1, 2.50, 1e-3, 12345678901234567890, 1e100]}");
+		
+		assertNotNull(obj);
+		
+		List<?> numbers = (List<?>)obj.get("options");
+		
+		assertEquals(0, new BigDecimal("-12").compareTo((BigDecimal)numbers.get(0)));
+		assertEquals(0, new BigDecimal("0.001").compareTo((BigDecimal)numbers.get(5)));
+		
+		// numbers are passed to options of prover as text
+		OGPXMLInputProverProtocol proverInput = OGPJSONProtocol.toInputProtocol(obj);
+		
+		assertNotNull(proverInput);
+		
+		String[] options = proverInput.getOptions();
+		
+		assertEquals("-12", options[0]);
+		assertEquals("0", options[1]);
+		assertEquals("60", options[2]);
+		assertEquals("60", options[3]);
+		assertEquals("2.5", options[4]);
+		assertEquals("0.001", options[5]);
+		assertEquals("12345678901234567890", options[6]);
+		assertEquals(0, new BigDecimal("1e100").compareTo(new BigDecimal(options[7])));
+	}
+	
+	@Test
+	public void testMalformedText() {
+		OpenGeoProver.settings.getLogger().info("Testing malformed JSON text");
+		
+		for (String text : malformedTexts)
+			assertNull(text.length() > 40 ? text.substring(0, 40) : text, OGPJSONProtocol.parseObject(text));
+		
+		// members of bad type
+		Map<String, Object> request = new HashMap<String, Object>();
+		
+		request.put("file", new BigDecimal(5));
+		assertNull(OGPJSONProtocol.toInputProtocol(request));
+		request.put("file", "thm.xml");
+		request.put("options", "-t 10");
+		assertNull(OGPJSONProtocol.toInputProtocol(request));
+		request.put("options", OGPJSONProtocol.parseObject("{\"a\": [\"-t\", [10]]}").get("a"));
+		assertNull(OGPJSONProtocol.toInputProtocol(request));
+	}
+	
+	@Test
+	public void testDaemonAnswersMalformedRequests() {
+		OpenGeoProver.settings.getLogger().info("Testing replies of daemon to malformed requests");
+		
+		StringBuilder requests = new StringBuilder();
+		int numOfRequests = 2;
+		
+		for (String text : malformedTexts) {
+			if (text.trim().length() > 0) { // empty lines are skipped by daemon
+				requests.append(text).append('\n');
+				numOfRequests++;
+			}
+		}
+		requests.append("{\"id\": 5, \"file\": 7}\n");
+		requests.append("{\"id\": \"c\", \"command\": \"restart\"}\n");
+		
+		InputStream stdin = System.in;
+		PrintStream stdout = System.out;
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		int retCode;
+		
+		try {
+			System.setIn(new ByteArrayInputStream(requests.toString().getBytes("UTF-8")));
+			System.setOut(new PrintStream(out, true, "UTF-8"));
+			retCode = new OGPDaemon(OpenGeoProver.settings).run(OGPDaemon.SOURCE_STDIN);
+		} catch (Exception e) {
+			fail("Daemon failed: " + e.toString());
+			return;
+		} finally {
+			System.setIn(stdin);
+			System.setOut(stdout);
+		}
+		assertEquals(0, retCode);
+		
+		String[] lines;
+		
+		try {
+			lines = out.toString("UTF-8").split("\n");
+		} catch (Exception e) {
+			fail(e.toString());
+			return;
+		}
+		
+		// ready line and one error result for each request
+		assertEquals(numOfRequests + 1, lines.length);
+		for (int ii = 1; ii < lines.length; ii++) {
+			Map<String, Object> result = OGPJSONProtocol.parseObject(lines[ii]);
+			
+			assertNotNull(lines[ii], result);
+			assertEquals(OGPBatchProver.STATUS_ERROR, result.get("status"));
+			assertNotNull(result.get("error"));
+		}
+		assertEquals(0, new BigDecimal(5).compareTo((BigDecimal)OGPJSONProtocol.parseObject(lines[lines.length - 2]).get("id")));
+		assertEquals("c", OGPJSONProtocol.parseObject(lines[lines.length - 1]).get("id"));
+	}
+	
+	@Test
+	public void testIdType() {
+		OpenGeoProver.settings.getLogger().info("Testing type of identifier of request");
+		
+		OGPXMLInputProverProtocol numericInput = OGPJSONProtocol.toInputProtocol(OGPJSONProtocol.parseObject("{\"id\": 3, \"file\": \"thm.xml\"}"));
+		OGPXMLInputProverProtocol textInput = OGPJSONProtocol.toInputProtocol(OGPJSONProtocol.parseObject("{\"id\": \"3\", \"file\": \"thm.xml\"}"));
+		
+		assertTrue(numericInput.isNumericId());
+		assertFalse(textInput.isNumericId());
+		
+		OGPResultOutputProverProtocol result = new OGPResultOutputProverProtocol();
+		
+		result.setId(numericInput.getId());
+		result.setNumericId(numericInput.isNumericId());
+		result.setStatus(OGPBatchProver.STATUS_ERROR);
+		assertTrue(OGPJSONProtocol.toJSON(result).startsWith("{\"id\": 3,"));
+		
+		result.setId(textInput.getId());
+		result.setNumericId(textInput.isNumericId());
+		assertTrue(OGPJSONProtocol.toJSON(result).startsWith("{\"id\": \"3\","));
+		
+		assertTrue(OGPJSONProtocol.errorToJSON(new BigDecimal("3"), "Error").startsWith("{\"id\": 3,"));
+		assertTrue(OGPJSONProtocol.errorToJSON("3", "Error").startsWith("{\"id\": \"3\","));
+		assertTrue(OGPJSONProtocol.errorToJSON(Boolean.TRUE, "Error").startsWith("{\"id\": null,"));
+	}
+	
+	@Test
+	public void testWriterRoundTrip() {
+		OpenGeoProver.settings.getLogger().info("Testing parsing of written result");
+		
+		OGPResultOutputProverProtocol result = new OGPResultOutputProverProtocol();
+		Vector<String> ndgConditions = new Vector<String>();
+		
+		ndgConditions.add("Points A and B are not identical");
+		ndgConditions.add("Line \"AB\" \\ tab\t, newline\n and \u0002");
+		result.setId("r\"1\"");
+		result.setStatus(OGPBatchProver.STATUS_ERROR);
+		result.setRetCode(-1);
+		result.setProverTime(35.4);
+		result.setWallTime(52);
+		result.setMaxNumOfTerms(12);
+		result.setReportFile("dir\\thm 01");
+		result.setLogFile("log/ogp.log");
+		result.setNdgConditions(ndgConditions);
+		result.setErrorMessage("Failed:\r\n \"quoted\"");
+		
+		Map<String, Object> obj = OGPJSONProtocol.parseObject(OGPJSONProtocol.toJSON(result));
+		
+		assertNotNull(obj);
+		assertEquals("r\"1\"", obj.get("id"));
+		assertEquals(OGPBatchProver.STATUS_ERROR, obj.get("status"));
+		assertEquals(0, new BigDecimal(-1).compareTo((BigDecimal)obj.get("retCode")));
+		assertEquals(0, new BigDecimal(35).compareTo((BigDecimal)obj.get("proverTimeMs")));
+		assertEquals(0, new BigDecimal(52).compareTo((BigDecimal)obj.get("wallTimeMs")));
+		assertEquals(0, new BigDecimal(12).compareTo((BigDecimal)obj.get("maxNumOfTerms")));
+		assertEquals("dir\\thm 01", obj.get("report"));
+		assertEquals("log/ogp.log", obj.get("log"));
+		assertEquals(ndgConditions, obj.get("ndgConditions"));
+		assertEquals("Failed:\r\n \"quoted\"", obj.get("error"));
+	}
+}
@@ -0,0 +1,238 @@
+/* 
+ * DISCLAIMER PLACEHOLDER 
+ */
+
+package com.ogprover.test.junit;
+
+import java.util.Random;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.ogprover.main.OGPParameters;
+import com.ogprover.main.OpenGeoProver;
+import com.ogprover.polynomials.KaratsubaMultiplier;
+import com.ogprover.polynomials.MultiplicationCostModel;
+import com.ogprover.polynomials.Power;
+import com.ogprover.polynomials.RationalNumber;
+import com.ogprover.polynomials.SortedTermArray;
+import com.ogprover.polynomials.UFraction;
+import com.ogprover.polynomials.UPolynomial;
+import com.ogprover.polynomials.UTerm;
+import com.ogprover.polynomials.Variable;
+import com.ogprover.polynomials.XPolynomial;
+import com.ogprover.polynomials.XTerm;
+
+import junit.framework.TestCase;
+
+/**
+* <dl>
+* <dt><b>Class description:</b></dt>
+* <dd>Class for unit testing of KaratsubaMultiplier and choice of
+*     strategy of multiplication by MultiplicationCostModel</dd>
+* </dl>
+* 
+* @version 1.00
+* @author Ivan Petrovic
+*/
+public class JUTestKaratsubaMultiplier extends TestCase {
+	private Random random;
+	private String polyStorage;
+	
+	public JUTestKaratsubaMultiplier(String name) {
+		super(name);
+	}
+	
+	@Before
+	public void setUp() throws Exception{
+		random = new Random(7L);
+		polyStorage = OpenGeoProver.settings.getParameters().get(OGPParameters.PARAM_POLY_STORAGE);
+		OpenGeoProver.settings.getParameters().put(OGPParameters.PARAM_POLY_STORAGE, "T");
+		OpenGeoProver.settings.getLogger().info("Starting new Karatsuba multiplication test");
+	}
+	
+	@After
+	public void tearDown() {
+		MultiplicationCostModel.setModel(null); // measured again on next use
+		OpenGeoProver.settings.getParameters().put(OGPParameters.PARAM_POLY_STORAGE, polyStorage);
+		random = null;
+		OpenGeoProver.settings.getLogger().info("Finished Karatsuba multiplication test");
+	}
+	
+	/**
+	 * Method that creates random fraction (r1*u_i + r2)/d, with exact rational numbers
+	 * r1, r2 and d; denominator is constant since sums of fractions are not reduced.
+	 */
+	private UFraction createRandomFraction() {
+		UPolynomial num = new UPolynomial();
+		UPolynomial den = new UPolynomial();
+		UTerm ut = new UTerm(RationalNumber.valueOf(1 + random.nextInt(3), 1 + random.nextInt(2)));
+		
+		ut.addPower(new Power(Variable.VAR_TYPE_UX_U, 1 + random.nextInt(2), 1));
+		num.addTerm(ut);
+		num.addTerm(new UTerm(RationalNumber.valueOf((random.nextInt(2) == 0 ? -1 : 1) * (1 + random.nextInt(3)), 1 + random.nextInt(3))));
+		den.addTerm(new UTerm(RationalNumber.valueOf(1 + random.nextInt(3))));
+		
+		return new UFraction(num, den);
+	}
+	
+	/**
+	 * Method that creates polynomial with at least specified number of random terms
+	 * in specified x-variables, with fractions of u-polynomials as coefficients.
+	 */
+	private XPolynomial createRandomPolynomial(int[] varIndices, int maxExp, int numOfTerms) {
+		XPolynomial p = new XPolynomial();
+		
+		while (p.getNumOfTerms() < numOfTerms) {
+			XTerm t = new XTerm(this.createRandomFraction());
+			
+			for (int index : varIndices) {
+				int exp = random.nextInt(maxExp + 1);
+				
+				if (exp > 0)
+					t.addPower(new Power(Variable.VAR_TYPE_UX_X, index, exp));
+			}
+			p.addTerm(t);
+		}
+		
+		return p;
+	}
+	
+	/**
+	 * Method that checks Karatsuba-style product against sequential product.
+	 */
+	private static void assertSameProduct(XPolynomial a, XPolynomial b) {
+		XPolynomial aCopy = (XPolynomial)a.clone();
+		XPolynomial bCopy = (XPolynomial)b.clone();
+		SortedTermArray product = KaratsubaMultiplier.multiply(new SortedTermArray(a.getTerms().values()), new SortedTermArray(b.getTerms().values()));
+		XPolynomial karatsubaProduct = new XPolynomial();
+		
+		for (int ii = 1; ii < product.size(); ii++)
+			assertTrue(product.get(ii - 1).compareTo(product.get(ii)) < 0);
+		for (int ii = 0; ii < product.size(); ii++)
+			karatsubaProduct.addTerm(product.get(ii).clone());
+		
+		assertEquals(a.clone().multiplyByPolynomialSequentially(b), karatsubaProduct);
+		assertEquals(aCopy, a); // factors are not changed
+		assertEquals(bCopy, b);
+	}
+	
+	@Test
+	public void testSameMainVariable() {
+		OpenGeoProver.settings.getLogger().info("Testing Karatsuba product with same main variable");
+		
+		for (int ii = 0; ii < 3; ii++) {
+			XPolynomial a = this.createRandomPolynomial(new int[] {1, 2, 3}, 3, 40);
+			XPolynomial b = this.createRandomPolynomial(new int[] {1, 2, 3}, 3, 40);
+			
+			assertSameProduct(a, b);
+		}
+		
+		// main variable of lower degree in second factor
+		XPolynomial c = this.createRandomPolynomial(new int[] {1, 2, 3}, 2, 20);
+		
+		c.addPolynomial(this.createRandomPolynomial(new int[] {1, 2}, 6, 20));
+		assertTrue(c.getNumOfTerms() >= KaratsubaMultiplier.MIN_NUM_OF_TERMS);
+		assertSameProduct(this.createRandomPolynomial(new int[] {1, 2, 3}, 3, 40), c);
+	}
+	
+	@Test
+	public void testDifferentMainVariables() {
+		OpenGeoProver.settings.getLogger().info("Testing Karatsuba product with different main variables");
+		
+		// main variable x4 of second factor doesn't appear in first factor
+		XPolynomial a = this.createRandomPolynomial(new int[] {1, 2, 3}, 3, 40);
+		XPolynomial b = this.createRandomPolynomial(new int[] {1, 2, 4}, 3, 40);
+		
+		assertSameProduct(a, b);
+		assertSameProduct(b, a);
+		
+		// split variable x4 appears in first factor only with small exponent
+		XPolynomial c = this.createRandomPolynomial(new int[] {2, 3, 4}, 1, 8);
+		
+		c.addPolynomial(this.createRandomPolynomial(new int[] {1, 2, 3}, 3, 40));
+		assertSameProduct(c, b);
+		
+		// split variable x4 appears in first factor with exponent that is just high enough for splitting
+		c.addPolynomial(this.createRandomPolynomial(new int[] {4}, 2, 3));
+		assertSameProduct(c, b);
+		
+		// factor below minimal size is multiplied directly
+		assertSameProduct(this.createRandomPolynomial(new int[] {1, 2}, 3, 10), b);
+	}
+	
+	@Test
+	public void testChooseStrategyThresholds() {
+		OpenGeoProver.settings.getLogger().info("Testing thresholds of choice of multiplication strategy");
+		
+		// costs by which concurrent and Karatsuba-style multiplications are always cheaper
+		MultiplicationCostModel.setModel(new MultiplicationCostModel(1000, 1000, 1, 0, 0.001, 4));
+		
+		// pairs of terms
+		assertEquals(MultiplicationCostModel.STRATEGY_SEQUENTIAL, MultiplicationCostModel.chooseStrategy(createUnivariate(63, 4), createUnivariate(65, 4), 4));
+		assertEquals(MultiplicationCostModel.STRATEGY_CONCURRENT, MultiplicationCostModel.chooseStrategy(createUnivariate(64, 4), createUnivariate(64, 4), 4));
+		assertEquals(MultiplicationCostModel.STRATEGY_SEQUENTIAL, MultiplicationCostModel.chooseStrategy(createUnivariate(64, 4), createUnivariate(64, 4), 1));
+		
+		// size of smaller factor
+		assertEquals(MultiplicationCostModel.STRATEGY_SEQUENTIAL, MultiplicationCostModel.chooseStrategy(createUnivariate(31, 1), createUnivariate(124, 1), 1));
+		assertEquals(MultiplicationCostModel.STRATEGY_KARATSUBA, MultiplicationCostModel.chooseStrategy(createUnivariate(32, 1), createUnivariate(128, 1), 1));
+		
+		// ratio of sizes of factors
+		assertEquals(MultiplicationCostModel.STRATEGY_SEQUENTIAL, MultiplicationCostModel.chooseStrategy(createUnivariate(32, 1), createUnivariate(129, 1), 1));
+		assertEquals(MultiplicationCostModel.STRATEGY_CONCURRENT, MultiplicationCostModel.chooseStrategy(createUnivariate(32, 1), createUnivariate(129, 1), 4));
+		
+		// term density (number of terms divided by degree + 1 for univariate polynomials)
+		XPolynomial dense = createUnivariate(128, 1);
+		XPolynomial atDensity = createUnivariate(33, 1);
+		XPolynomial belowDensity = createUnivariate(32, 1);
+		
+		atDensity.addTerm(createPower(109)); // 34 terms of degree at most 109 - density above 0.3
+		belowDensity.addTerm(createPower(110)); // 33 terms of degree at most 110 - density below 0.3
+		assertTrue(MultiplicationCostModel.getTermDensity(atDensity) >= MultiplicationCostModel.MIN_KARATSUBA_DENSITY);
+		assertTrue(MultiplicationCostModel.getTermDensity(belowDensity) < MultiplicationCostModel.MIN_KARATSUBA_DENSITY);
+		assertEquals(MultiplicationCostModel.STRATEGY_KARATSUBA, MultiplicationCostModel.chooseStrategy(atDensity, dense, 1));
+		assertEquals(MultiplicationCostModel.STRATEGY_SEQUENTIAL, MultiplicationCostModel.chooseStrategy(belowDensity, dense, 1));
+		
+		// costs decide among candidate strategies - concurrent cost m*n*2/2 + 0 equals
+		// sequential cost m*n*1 with arrays, so sequential is kept, and it is smaller than
+		// sequential cost m*n*2 with trees
+		MultiplicationCostModel model = new MultiplicationCostModel(2, 1, 2, 0, 1000, 2);
+		
+		assertEquals(MultiplicationCostModel.STRATEGY_SEQUENTIAL, model.chooseStrategy(100, 100, 2, true, true));
+		assertEquals(MultiplicationCostModel.STRATEGY_CONCURRENT, model.chooseStrategy(100, 100, 2, true, false));
+		assertEquals(MultiplicationCostModel.STRATEGY_SEQUENTIAL, model.chooseStrategy(100, 100, 1, true, false));
+		
+		// Karatsuba cost just below and just above the cheapest other cost
+		double seqCost = model.estimateSequentialCost(100, 100, true);
+		double unitCost = seqCost / model.estimateKaratsubaCost(100, 100) * 1000;
+		
+		model = new MultiplicationCostModel(2, 1, 2, 0, unitCost * (1 - 1.0E-9), 2);
+		assertEquals(MultiplicationCostModel.STRATEGY_KARATSUBA, model.chooseStrategy(100, 100, 2, true, true));
+		assertEquals(MultiplicationCostModel.STRATEGY_SEQUENTIAL, model.chooseStrategy(100, 100, 2, false, true));
+		model = new MultiplicationCostModel(2, 1, 2, 0, unitCost * (1 + 1.0E-9), 2);
+		assertEquals(MultiplicationCostModel.STRATEGY_SEQUENTIAL, model.chooseStrategy(100, 100, 2, true, true));
+	}
+	
+	/**
+	 * Method that creates univariate polynomial 1 + x1^s + x1^(2s) + ... with specified number of terms.
+	 */
+	private static XPolynomial createUnivariate(int numOfTerms, int step) {
+		XPolynomial p = new XPolynomial();
+		
+		for (int ii = 0; ii < numOfTerms; ii++)
+			p.addTerm(createPower(ii * step));
+		return p;
+	}
+	
+	/**
+	 * Method that creates term x1^exp.
+	 */
+	private static XTerm createPower(int exp) {
+		XTerm t = new XTerm(1);
+		
+		if (exp > 0)
+			t.addPower(new Power(Variable.VAR_TYPE_UX_X, 1, exp));
+		return t;
+	}
+}
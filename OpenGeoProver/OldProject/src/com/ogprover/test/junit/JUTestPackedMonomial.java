@@ -0,0 +1,117 @@
+/* 
+ * DISCLAIMER PLACEHOLDER 
+ */
+
+package com.ogprover.test.junit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.ogprover.main.OpenGeoProver;
+import com.ogprover.polynomials.Monomial;
+import com.ogprover.polynomials.PackedMonomial;
+import com.ogprover.polynomials.Power;
+import com.ogprover.polynomials.Term;
+import com.ogprover.polynomials.Variable;
+import com.ogprover.polynomials.XTerm;
+
+import junit.framework.TestCase;
+
+/**
+* <dl>
+* <dt><b>Class description:</b></dt>
+* <dd>Class for unit testing of PackedMonomial</dd>
+* </dl>
+* 
+* @version 1.00
+* @author Ivan Petrovic
+*/
+public class JUTestPackedMonomial extends TestCase {
+	private XTerm t1, t2, t3;
+	
+	public JUTestPackedMonomial(String name) {
+		super(name);
+	}
+	
+	@Before
+	public void setUp() throws Exception{
+		// t1 = (x_9)^4*x_6*(x_2)^3, t2 = x_6*(x_2)^2, t3 = (x_9)^4*(x_7)^2
+		t1 = new XTerm(1);
+		t1.addPower(new Power(Variable.VAR_TYPE_UX_X, 9, 4));
+		t1.addPower(new Power(Variable.VAR_TYPE_UX_X, 2, 3));
+		t1.addPower(new Power(Variable.VAR_TYPE_UX_X, 6, 1));
+		t2 = new XTerm(1);
+		t2.addPower(new Power(Variable.VAR_TYPE_UX_X, 2, 2));
+		t2.addPower(new Power(Variable.VAR_TYPE_UX_X, 6, 1));
+		t3 = new XTerm(1);
+		t3.addPower(new Power(Variable.VAR_TYPE_UX_X, 7, 2));
+		t3.addPower(new Power(Variable.VAR_TYPE_UX_X, 9, 4));
+		OpenGeoProver.settings.getLogger().info("Starting new packed monomial test");
+	}
+	
+	@After
+	public void tearDown() {
+		t1 = t2 = t3 = null;
+		OpenGeoProver.settings.getLogger().info("Finished packed monomial test");
+	}
+	
+	@Test
+	public void testPackedComparison() {
+		OpenGeoProver.settings.getLogger().info("Testing comparison of packed monomials");
+		
+		long[] p1 = t1.getPackedPowers(), p2 = t2.getPackedPowers(), p3 = t3.getPackedPowers();
+		
+		assertEquals(3, p1.length);
+		assertEquals(9, PackedMonomial.getIndex(p1[0]));
+		assertEquals(3, PackedMonomial.getExponent(p1[2]));
+		// same ordering as for terms: t2 < t1 < t3
+		assertTrue(PackedMonomial.compare(p2, p1) < 0);
+		assertTrue(PackedMonomial.compare(p1, p3) < 0);
+		assertTrue(t1.compareTo(t3) < 0);
+		assertEquals(0, t1.compareTo(t1.clone()));
+		assertEquals(8, PackedMonomial.getDegree(p1));
+		assertEquals(4, t1.getVariableExponent(9));
+		assertEquals(0, t1.getVariableExponent(7));
+	}
+	
+	@Test
+	public void testPackedDivisibilityAndProduct() {
+		OpenGeoProver.settings.getLogger().info("Testing divisibility and product of packed monomials");
+		
+		assertTrue(t1.isDivisibleByTerm(t2));
+		assertFalse(t2.isDivisibleByTerm(t1));
+		assertFalse(t1.isDivisibleByTerm(t3));
+		
+		// packed powers of product must match powers of product
+		Term prod = t1.clone().mul(t3);
+		long[] packedProd = PackedMonomial.multiply(t1.getPackedPowers(), t3.getPackedPowers());
+		
+		assertEquals(0, PackedMonomial.compare(packedProd, PackedMonomial.pack(prod.getPowers())));
+		assertEquals(8, prod.getVariableExponent(9));
+		assertTrue(prod.isDivisibleByTerm(t3));
+		
+		// constant term has empty packed powers
+		assertEquals(0, new XTerm(2).getPackedPowers().length);
+	}
+	
+	@Test
+	public void testInternedMonomials() {
+		OpenGeoProver.settings.getLogger().info("Testing interned monomials");
+		
+		Term c = t1.clone();
+		Monomial m1 = t1.getMonomial();
+		
+		// equal powers give same monomial which shares packed array
+		assertSame(m1, c.getMonomial());
+		assertSame(m1, Monomial.valueOf(PackedMonomial.pack(t1.getPowers())));
+		assertSame(t1.getPackedPowers(), c.getPackedPowers());
+		assertEquals(t1.hashCode(), c.hashCode());
+		assertNotSame(m1, t3.getMonomial());
+		assertTrue(m1.compareTo(t3.getMonomial()) < 0);
+		assertEquals(8, m1.getDegree());
+		assertEquals(4, m1.getExponent(9));
+		assertSame(t1.clone().mul(t3).getMonomial(), m1.multiply(t3.getMonomial()));
+		assertSame(Monomial.CONSTANT, new XTerm(2).getMonomial());
+	}
+}
@@ -30,6 +30,11 @@ public class JUTestPolynomialsSuite extends TestSuite {
 		// Add single test cases here
 		suite.addTestSuite(JUTestPower.class);
 		suite.addTestSuite(JUTestUTerm.class);
+		suite.addTestSuite(JUTestPackedMonomial.class);
+		suite.addTestSuite(JUTestSortedTermArray.class);
+		suite.addTestSuite(JUTestGeoBucket.class);
+		suite.addTestSuite(JUTestKaratsubaMultiplier.class);
+		suite.addTestSuite(JUTestXPolynomialIndex.class);
 		// TODO - other tests for algebraic classes
 		
 		return suite;
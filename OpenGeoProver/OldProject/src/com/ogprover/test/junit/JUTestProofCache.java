@@ -0,0 +1,99 @@
+/* 
+ * DISCLAIMER PLACEHOLDER 
+ */
+
+package com.ogprover.test.junit;
+
+import java.util.ArrayList;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.ogprover.main.OGPConstants;
+import com.ogprover.main.OGPProofCache;
+import com.ogprover.main.OpenGeoProver;
+import com.ogprover.polynomials.UTerm;
+import com.ogprover.pp.tp.OGPTP;
+import com.ogprover.pp.tp.geoconstruction.FreePoint;
+import com.ogprover.pp.tp.geoconstruction.MidPoint;
+import com.ogprover.pp.tp.geoconstruction.Point;
+import com.ogprover.pp.tp.thmstatement.CollinearPoints;
+import com.ogprover.thmprover.TheoremProver;
+
+import junit.framework.TestCase;
+
+/**
+* <dl>
+* <dt><b>Class description:</b></dt>
+* <dd>Class for unit testing of OGPProofCache</dd>
+* </dl>
+* 
+* @version 1.00
+* @author Ivan Petrovic
+*/
+public class JUTestProofCache extends TestCase {
+	private OGPTP consProtocol = null;
+	
+	public JUTestProofCache(String name) {
+		super(name);
+	}
+	
+	@Before
+	public void setUp() throws Exception{
+		// midpoint M of segment AB is collinear with A and B
+		consProtocol = new OGPTP();
+		Point pointA = new FreePoint("A");
+		Point pointB = new FreePoint("B");
+		Point pointM = new MidPoint("M", pointA, pointB);
+		consProtocol.addGeoConstruction(pointA);
+		consProtocol.addGeoConstruction(pointB);
+		consProtocol.addGeoConstruction(pointM);
+		
+		ArrayList<Point> pointList = new ArrayList<Point>();
+		pointList.add(pointA);
+		pointList.add(pointB);
+		pointList.add(pointM);
+		consProtocol.addThmStatement(new CollinearPoints(pointList));
+		assertEquals(OGPConstants.RET_CODE_SUCCESS, consProtocol.convertToAlgebraicForm());
+		
+		OpenGeoProver.settings.getLogger().info("Starting new proof cache test");
+	}
+	
+	@After
+	public void tearDown() {
+		consProtocol = null;
+		OpenGeoProver.settings.getLogger().info("Finished proof cache test");
+	}
+	
+	@Test
+	public void testFingerprintOfNumericCheck() {
+		OpenGeoProver.settings.getLogger().info("Testing fingerprints of runs with and without numeric check");
+		
+		String withCheck = OGPProofCache.getFingerprint(consProtocol, TheoremProver.TP_TYPE_WU, UTerm.ARITHMETIC_DOUBLE, true);
+		String withoutCheck = OGPProofCache.getFingerprint(consProtocol, TheoremProver.TP_TYPE_WU, UTerm.ARITHMETIC_DOUBLE, false);
+		
+		assertNotNull(withCheck);
+		assertNotNull(withoutCheck);
+		assertEquals(withCheck, OGPProofCache.getFingerprint(consProtocol, TheoremProver.TP_TYPE_WU, UTerm.ARITHMETIC_DOUBLE, true));
+		assertFalse(withCheck.equals(withoutCheck));
+		
+		// result of run with numeric check is not given to run without it
+		OGPProofCache cache = OGPProofCache.getCache(null);
+		
+		cache.put(new OGPProofCache.CacheEntry(withCheck, TheoremProver.THEO_PROVE_RET_CODE_TRUE));
+		assertNotNull(cache.get(withCheck));
+		assertNull(cache.get(withoutCheck));
+	}
+	
+	@Test
+	public void testFingerprintOfArithmetic() {
+		OpenGeoProver.settings.getLogger().info("Testing fingerprints of runs with different arithmetic");
+		
+		String modular = OGPProofCache.getFingerprint(consProtocol, TheoremProver.TP_TYPE_WU, UTerm.ARITHMETIC_MODULAR, true);
+		String exact = OGPProofCache.getFingerprint(consProtocol, TheoremProver.TP_TYPE_WU, UTerm.ARITHMETIC_EXACT, true);
+		
+		assertNotNull(modular);
+		assertFalse(modular.equals(exact));
+	}
+}
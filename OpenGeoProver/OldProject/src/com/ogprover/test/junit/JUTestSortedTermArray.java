@@ -0,0 +1,200 @@
+/* 
+ * DISCLAIMER PLACEHOLDER 
+ */
+
+package com.ogprover.test.junit;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.Random;
+import java.util.TreeMap;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.ogprover.main.OGPParameters;
+import com.ogprover.main.OpenGeoProver;
+import com.ogprover.polynomials.Polynomial;
+import com.ogprover.polynomials.Power;
+import com.ogprover.polynomials.SortedTermArray;
+import com.ogprover.polynomials.Term;
+import com.ogprover.polynomials.UPolynomial;
+import com.ogprover.polynomials.UTerm;
+import com.ogprover.polynomials.Variable;
+import com.ogprover.polynomials.XPolynomial;
+import com.ogprover.polynomials.XTerm;
+
+import junit.framework.TestCase;
+
+/**
+* <dl>
+* <dt><b>Class description:</b></dt>
+* <dd>Class for unit testing of SortedTermArray</dd>
+* </dl>
+* 
+* @version 1.00
+* @author Ivan Petrovic
+*/
+public class JUTestSortedTermArray extends TestCase {
+	private Random random;
+	private String polyStorage;
+	
+	public JUTestSortedTermArray(String name) {
+		super(name);
+	}
+	
+	@Before
+	public void setUp() throws Exception{
+		random = new Random(18102026L);
+		polyStorage = OpenGeoProver.settings.getParameters().get(OGPParameters.PARAM_POLY_STORAGE);
+		OpenGeoProver.settings.getLogger().info("Starting new sorted term array test");
+	}
+	
+	@After
+	public void tearDown() {
+		OpenGeoProver.settings.getParameters().put(OGPParameters.PARAM_POLY_STORAGE, polyStorage);
+		random = null;
+		OpenGeoProver.settings.getLogger().info("Finished sorted term array test");
+	}
+	
+	/**
+	 * Method that creates polynomial with random terms of u-variables u1..u5
+	 * with small integer coefficients, so sums of coefficients are exact.
+	 */
+	private UPolynomial createRandomUPolynomial(int numOfTerms) {
+		UPolynomial p = new UPolynomial();
+		
+		for (int ii = 0; ii < numOfTerms; ii++) {
+			UTerm t = new UTerm((random.nextInt(2) == 0 ? -1 : 1) * (1 + random.nextInt(5)));
+			
+			for (int jj = 1; jj <= 5; jj++) {
+				int exp = random.nextInt(3);
+				
+				if (exp > 0)
+					t.addPower(new Power(Variable.VAR_TYPE_UX_U, jj, exp));
+			}
+			p.addTerm(t);
+		}
+		
+		return p;
+	}
+	
+	/**
+	 * Method that creates polynomial with random terms of x-variables x1..x4.
+	 */
+	private XPolynomial createRandomXPolynomial(int numOfTerms) {
+		XPolynomial p = new XPolynomial();
+		
+		for (int ii = 0; ii < numOfTerms; ii++) {
+			XTerm t = new XTerm((random.nextInt(2) == 0 ? -1 : 1) * (1 + random.nextInt(5)));
+			
+			for (int jj = 1; jj <= 4; jj++) {
+				int exp = random.nextInt(3);
+				
+				if (exp > 0)
+					t.addPower(new Power(Variable.VAR_TYPE_UX_X, jj, exp));
+			}
+			p.addTerm(t);
+		}
+		
+		return p;
+	}
+	
+	@Test
+	public void testOrderOfTerms() {
+		OpenGeoProver.settings.getLogger().info("Testing order of terms in sorted array");
+		
+		UPolynomial p = this.createRandomUPolynomial(200);
+		SortedTermArray a = new SortedTermArray(p.getTerms().values());
+		
+		assertEquals(p.getNumOfTerms(), a.size());
+		for (int ii = 1; ii < a.size(); ii++)
+			assertTrue(a.get(ii - 1).compareTo(a.get(ii)) < 0);
+		assertSame(p.getTerms().lastKey(), a.getLast());
+		
+		// descending list and tree have same terms in same order as tree of polynomial
+		ArrayList<Term> descList = a.toDescList();
+		ArrayList<Term> expectedList = p.getTermsAsDescList();
+		
+		assertEquals(expectedList.size(), descList.size());
+		for (int ii = 0, jj = descList.size(); ii < jj; ii++)
+			assertSame(expectedList.get(ii), descList.get(ii));
+		
+		TreeMap<Term, Term> tree = a.toTreeMap();
+		Iterator<Term> it = p.getTerms().values().iterator();
+		
+		assertEquals(p.getNumOfTerms(), tree.size());
+		for (Term t : tree.values())
+			assertSame(it.next(), t);
+		assertSame(tree.firstKey(), a.get(0));
+		
+		// tree built from array finds its terms
+		for (Term t : p.getTerms().values())
+			assertSame(t, tree.get(t.clone()));
+	}
+	
+	@Test
+	public void testMerge() {
+		OpenGeoProver.settings.getLogger().info("Testing merge of sorted arrays");
+		
+		for (int ii = 0; ii < 20; ii++) {
+			UPolynomial p = this.createRandomUPolynomial(1 + random.nextInt(60));
+			UPolynomial q = this.createRandomUPolynomial(1 + random.nextInt(60));
+			Polynomial sum = p.clone().addPolynomial(q);
+			Polynomial diff = p.clone().subtractPolynomial(q);
+			SortedTermArray qa = new SortedTermArray(q.getTerms().values());
+			SortedTermArray sa = SortedTermArray.merge(new SortedTermArray(p.clone().getTerms().values()), qa, false, true);
+			SortedTermArray da = SortedTermArray.merge(new SortedTermArray(p.clone().getTerms().values()), qa, true, true);
+			
+			assertEquals(sum.getNumOfTerms(), sa.size());
+			assertEquals(diff.getNumOfTerms(), da.size());
+			assertEquals(sum, JUTestSortedTermArray.toPolynomial(sa));
+			assertEquals(diff, JUTestSortedTermArray.toPolynomial(da));
+		}
+		
+		// terms of second array are copied, so they are not changed by merge
+		UPolynomial p = this.createRandomUPolynomial(30);
+		SortedTermArray pa = new SortedTermArray(p.getTerms().values());
+		SortedTermArray zero = SortedTermArray.merge(new SortedTermArray(p.clone().getTerms().values()), pa, true, true);
+		
+		assertEquals(0, zero.size());
+		assertNull(zero.getLast());
+		assertEquals(p, JUTestSortedTermArray.toPolynomial(pa));
+	}
+	
+	@Test
+	public void testProductInArrayStorage() {
+		OpenGeoProver.settings.getLogger().info("Testing product of x-polynomials stored in sorted arrays");
+		
+		for (int ii = 0; ii < 20; ii++) {
+			OpenGeoProver.settings.getParameters().put(OGPParameters.PARAM_POLY_STORAGE, "T");
+			
+			XPolynomial p = this.createRandomXPolynomial(1 + random.nextInt(40));
+			XPolynomial q = this.createRandomXPolynomial(1 + random.nextInt(40));
+			Polynomial treeProduct = p.clone().multiplyByPolynomialSequentially(q);
+			
+			OpenGeoProver.settings.getParameters().put(OGPParameters.PARAM_POLY_STORAGE, "A");
+			
+			Polynomial arrayProduct = p.clone().multiplyByPolynomialSequentially(q);
+			ArrayList<Term> treeList = treeProduct.getTermsAsDescList();
+			ArrayList<Term> arrayList = arrayProduct.getTermsAsDescList();
+			
+			assertEquals(treeList.size(), arrayList.size());
+			for (int jj = 0, kk = treeList.size(); jj < kk; jj++)
+				assertEquals(0, treeList.get(jj).compareTo(arrayList.get(jj)));
+			assertEquals(treeProduct, arrayProduct);
+		}
+	}
+	
+	/**
+	 * Method that creates u-polynomial with copies of terms from array.
+	 */
+	private static UPolynomial toPolynomial(SortedTermArray a) {
+		UPolynomial p = new UPolynomial();
+		
+		for (int ii = 0; ii < a.size(); ii++)
+			p.addTerm(a.get(ii).clone());
+		return p;
+	}
+}
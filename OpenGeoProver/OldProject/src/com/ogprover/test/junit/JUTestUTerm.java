@@ -11,6 +11,7 @@ import org.junit.Test;
 import com.ogprover.main.OGPConstants;
 import com.ogprover.main.OpenGeoProver;
 import com.ogprover.polynomials.Power;
+import com.ogprover.polynomials.RationalNumber;
 import com.ogprover.polynomials.UTerm;
 import com.ogprover.polynomials.Variable;
 
@@ -63,4 +64,33 @@ public class JUTestUTerm extends TestCase {
 		Assert.assertEquals(4, uterm.getPowers().get(0).getExponent());
 		Assert.assertEquals(7, uterm.getPowers().get(1).getExponent());
 	} 
+	
+	@Test
+	public void testExactCoefficients() {
+		OpenGeoProver.settings.getLogger().info("Testing uterm exact coefficients");
+		
+		OpenGeoProver.settings.getParameters().putArithmetic(UTerm.ARITHMETIC_EXACT);
+		try {
+			UTerm ut = new UTerm(0.1);
+			ut.addPower(new Power(Variable.VAR_TYPE_UX_U, 1, 2));
+			UTerm third = new UTerm(3);
+			
+			// 0.1 / 3 * 3 - 0.1 must be exactly zero
+			ut.divide(third);
+			Assert.assertEquals(RationalNumber.valueOf(1, 30), ut.getExactCoeff());
+			ut.mul(3);
+			Assert.assertEquals(RationalNumber.valueOf(1, 10), ut.getExactCoeff());
+			ut.merge(new UTerm(-0.1));
+			Assert.assertTrue(ut.isZero());
+			Assert.assertEquals(RationalNumber.ZERO, ut.getExactCoeff());
+			
+			// overflow of small numbers into big integers and back
+			RationalNumber big = RationalNumber.valueOf(Integer.MAX_VALUE);
+			big = big.multiply(big).multiply(big);
+			Assert.assertFalse(big.isSmall());
+			Assert.assertTrue(big.divide(RationalNumber.valueOf(Integer.MAX_VALUE)).divide(RationalNumber.valueOf(Integer.MAX_VALUE)).isSmall());
+		} finally {
+			OpenGeoProver.settings.getParameters().putArithmetic(UTerm.ARITHMETIC_DOUBLE);
+		}
+	}
 }
\ No newline at end of file
@@ -0,0 +1,189 @@
+/* 
+ * DISCLAIMER PLACEHOLDER 
+ */
+
+package com.ogprover.test.junit;
+
+import java.util.ArrayList;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.ogprover.main.OpenGeoProver;
+import com.ogprover.polynomials.Power;
+import com.ogprover.polynomials.UFraction;
+import com.ogprover.polynomials.UPolynomial;
+import com.ogprover.polynomials.UTerm;
+import com.ogprover.polynomials.Variable;
+import com.ogprover.polynomials.XPolynomial;
+import com.ogprover.polynomials.XPolynomialIndex;
+import com.ogprover.polynomials.XTerm;
+
+import junit.framework.TestCase;
+
+/**
+* <dl>
+* <dt><b>Class description:</b></dt>
+* <dd>Class for unit testing of XPolynomialIndex</dd>
+* </dl>
+* 
+* @version 1.00
+* @author Ivan Petrovic
+*/
+public class JUTestXPolynomialIndex extends TestCase {
+	private XPolynomialIndex index;
+	
+	public JUTestXPolynomialIndex(String name) {
+		super(name);
+	}
+	
+	@Before
+	public void setUp() throws Exception{
+		index = new XPolynomialIndex();
+		OpenGeoProver.settings.getLogger().info("Starting new x-polynomial index test");
+	}
+	
+	@After
+	public void tearDown() {
+		index = null;
+		OpenGeoProver.settings.getLogger().info("Finished x-polynomial index test");
+	}
+	
+	/**
+	 * Method that creates u-polynomial c1*u1 + c0.
+	 */
+	private static UPolynomial createUPolynomial(double c1, double c0) {
+		UPolynomial up = new UPolynomial();
+		UTerm ut = new UTerm(c1);
+		
+		ut.addPower(new Power(Variable.VAR_TYPE_UX_U, 1, 1));
+		up.addTerm(ut);
+		up.addTerm(new UTerm(c0));
+		return up;
+	}
+	
+	/**
+	 * Method that creates term (num/den)*x1^e1*x2^e2*x3^e3.
+	 */
+	private static XTerm createTerm(UPolynomial num, UPolynomial den, int e1, int e2, int e3) {
+		XTerm t = new XTerm(new UFraction(num, den));
+		int[] exps = new int[] {e1, e2, e3};
+		
+		for (int ii = 0; ii < exps.length; ii++) {
+			if (exps[ii] > 0)
+				t.addPower(new Power(Variable.VAR_TYPE_UX_X, ii + 1, exps[ii]));
+		}
+		return t;
+	}
+	
+	/**
+	 * Method that creates polynomial a*x1^2 + b*x1*x2 + ((u1 - 4)/u2)*x2,
+	 * where a and b are u-polynomials.
+	 */
+	private static XPolynomial createPolynomial(UPolynomial a, UPolynomial b) {
+		return createPolynomial(a, new UPolynomial(1), b);
+	}
+	
+	/**
+	 * Method that creates polynomial (a/aDen)*x1^2 + b*x1*x2 + ((u1 - 4)/u2)*x2,
+	 * where a, aDen and b are u-polynomials.
+	 */
+	private static XPolynomial createPolynomial(UPolynomial a, UPolynomial aDen, UPolynomial b) {
+		XPolynomial xp = new XPolynomial();
+		UPolynomial u2 = new UPolynomial();
+		UTerm ut = new UTerm(1);
+		
+		ut.addPower(new Power(Variable.VAR_TYPE_UX_U, 2, 1));
+		u2.addTerm(ut);
+		xp.addTerm(createTerm(a, aDen, 2, 0, 0));
+		xp.addTerm(createTerm(b, new UPolynomial(1), 1, 1, 0));
+		xp.addTerm(createTerm(createUPolynomial(1, -4), u2, 0, 1, 0));
+		return xp;
+	}
+	
+	@Test
+	public void testScalarMultiples() {
+		OpenGeoProver.settings.getLogger().info("Testing search for scalar multiples");
+		
+		XPolynomial p = createPolynomial(createUPolynomial(2, 1), new UPolynomial(3));
+		
+		index.add(p);
+		assertSame(p, index.findScalarMultiple((XPolynomial)p.clone()));
+		assertSame(p, index.findScalarMultiple((XPolynomial)p.clone().multiplyByRealConstant(-1.5)));
+		
+		// same polynomial with fraction in first term written with other numerator and denominator
+		assertSame(p, index.findScalarMultiple(createPolynomial(createUPolynomial(4, 2), new UPolynomial(2), new UPolynomial(3))));
+		
+		// numerators of terms multiplied by different factors
+		assertNull(index.findScalarMultiple(createPolynomial(createUPolynomial(4, 2), new UPolynomial(3))));
+		assertNull(index.findScalarMultiple(createPolynomial(createUPolynomial(2, 1), new UPolynomial(6))));
+		// coefficients of numerator of same term multiplied by different factors
+		assertNull(index.findScalarMultiple(createPolynomial(createUPolynomial(2, 3), new UPolynomial(3))));
+		assertTrue(index.isRedundant((XPolynomial)p.clone().multiplyByRealConstant(0.25)));
+	}
+	
+	@Test
+	public void testSharedBucket() {
+		OpenGeoProver.settings.getLogger().info("Testing polynomials with same x-monomials");
+		
+		XPolynomial p = createPolynomial(createUPolynomial(2, 1), new UPolynomial(3));
+		XPolynomial s = createPolynomial(createUPolynomial(1, 0), new UPolynomial(1));
+		XPolynomial t = createPolynomial(new UPolynomial(1), new UPolynomial(1));
+		
+		assertEquals(XPolynomialIndex.hashCodeOfMonomials(p), XPolynomialIndex.hashCodeOfMonomials(s));
+		assertEquals(XPolynomialIndex.hashCodeOfMonomials(p), XPolynomialIndex.hashCodeOfMonomials(t));
+		
+		index.add(p);
+		index.add(s);
+		assertSame(p, index.findScalarMultiple((XPolynomial)p.clone().multiplyByRealConstant(2)));
+		assertSame(s, index.findScalarMultiple((XPolynomial)s.clone().multiplyByRealConstant(2)));
+		assertNull(index.findScalarMultiple(t));
+		assertFalse(index.isRedundant(t));
+	}
+	
+	@Test
+	public void testUpdate() {
+		OpenGeoProver.settings.getLogger().info("Testing update of index");
+		
+		XPolynomial p = createPolynomial(createUPolynomial(2, 1), new UPolynomial(3));
+		XPolynomial s = createPolynomial(createUPolynomial(1, 0), new UPolynomial(1));
+		XPolynomial t = new XPolynomial();
+		ArrayList<XPolynomial> hypotheses = new ArrayList<XPolynomial>();
+		
+		t.addTerm(createTerm(new UPolynomial(1), new UPolynomial(1), 1, 0, 0));
+		t.addTerm(createTerm(new UPolynomial(-1), new UPolynomial(1), 0, 0, 1));
+		
+		hypotheses.add(p);
+		index.update(hypotheses);
+		assertEquals(1, index.size());
+		hypotheses.add(s);
+		index.update(hypotheses);
+		assertEquals(2, index.size());
+		assertSame(s, index.findScalarMultiple((XPolynomial)s.clone()));
+		
+		// hypothesis replaced by another one
+		hypotheses.set(0, t);
+		index.update(hypotheses);
+		assertEquals(2, index.size());
+		assertNull(index.findScalarMultiple((XPolynomial)p.clone()));
+		assertSame(t, index.findScalarMultiple((XPolynomial)t.clone().multiplyByRealConstant(3)));
+		assertSame(s, index.findScalarMultiple((XPolynomial)s.clone()));
+		
+		// hypothesis changed in place
+		XPolynomial oldT = (XPolynomial)t.clone();
+		
+		t.addTerm(createTerm(new UPolynomial(5), new UPolynomial(1), 0, 2, 0));
+		index.update(hypotheses);
+		assertEquals(2, index.size());
+		assertNull(index.findScalarMultiple(oldT));
+		assertSame(t, index.findScalarMultiple((XPolynomial)t.clone()));
+		
+		// hypothesis removed
+		hypotheses.remove(0);
+		index.update(hypotheses);
+		assertEquals(1, index.size());
+		assertNull(index.findScalarMultiple((XPolynomial)t.clone()));
+		assertSame(s, index.findScalarMultiple((XPolynomial)s.clone()));
+	}
+}
@@ -192,7 +192,7 @@ public class AreaMethodProver implements TheoremProver {
 	 * ======================================================================
 	 */
 	public int prove() {
-		ILogger logger = OpenGeoProver.settings.getLogger();
+		ILogger logger = OpenGeoProver.getSettings().getLogger();
 		Vector<ProofStep> steps = new Vector<ProofStep>();
 		
 		if (firstLaunch) {
@@ -374,7 +374,7 @@ public class AreaMethodProver implements TheoremProver {
 	
 	public static void debug(String str, AMExpression expr) {
 		if (debugMode) {
-			ILogger logger = OpenGeoProver.settings.getLogger();
+			ILogger logger = OpenGeoProver.getSettings().getLogger();
 			int size = expr.size();
 			int MAX_SIZE = 200;
 			if (size >= MAX_SIZE)
@@ -388,7 +388,7 @@ public class AreaMethodProver implements TheoremProver {
 	
 	public static void debug(String str)  {
 		if (debugMode) {
-			ILogger logger = OpenGeoProver.settings.getLogger();
+			ILogger logger = OpenGeoProver.getSettings().getLogger();
 			logger.debug(str);
 		}
 	}
@@ -616,9 +616,9 @@ public class AreaMethodProver implements TheoremProver {
 		double margin = 1;
 		double value = expr.testValue(coords);
 		if (value < margin && value > -margin)
-			OpenGeoProver.settings.getLogger().debug(" (Verification OK : value = " + value + ")");
+			OpenGeoProver.getSettings().getLogger().debug(" (Verification OK : value = " + value + ")");
 		else
-			OpenGeoProver.settings.getLogger().debug(" (Verification failed : value = " + value + ")");
+			OpenGeoProver.getSettings().getLogger().debug(" (Verification failed : value = " + value + ")");
 	}
 	
 	/**
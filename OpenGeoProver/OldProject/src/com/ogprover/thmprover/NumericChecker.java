@@ -0,0 +1,886 @@
+/*
+ * DISCLAIMER PLACEHOLDER
+ */
+
+package com.ogprover.thmprover;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+
+import com.ogprover.main.OpenGeoProver;
+import com.ogprover.polynomials.GeoTheorem;
+import com.ogprover.polynomials.Power;
+import com.ogprover.polynomials.Term;
+import com.ogprover.polynomials.UFraction;
+import com.ogprover.polynomials.UPolynomial;
+import com.ogprover.polynomials.UTerm;
+import com.ogprover.polynomials.XPolynomial;
+import com.ogprover.polynomials.XTerm;
+import com.ogprover.utilities.OGPUtilities;
+
+
+/**
+ * <dl>
+ * <dt><b>Class description:</b></dt>
+ * <dd>Class for numeric check of statement of theorem - statement is evaluated
+ *     for random instances of construction, so theorem which is clearly false
+ *     is disproved by counterexample before algebraic prover is invoked</dd>
+ * </dl>
+ *
+ * @version 1.00
+ * @author Ivan Petrovic
+ */
+// Values of u-variables are chosen at random and hypotheses are solved for x-variables
+// step by step: by polynomial with single unknown variable of degree at most 2, or by
+// pair of polynomials with same two unknown variables (intersections of lines and circles).
+// All real solutions are followed, so instance is counterexample only when statement doesn't
+// hold for any of them - degenerate solutions (e.g. second intersection of line and circle
+// which is already known point) can't make true theorem look false. Theorem is disproved only
+// when all checked instances are counterexamples; instances which can't be solved this way
+// (complex solutions, equations of higher degree etc.) are skipped.
+public class NumericChecker {
+	/*
+	 * ======================================================================
+	 * ========================== VARIABLES =================================
+	 * ======================================================================
+	 */
+	/**
+	 * <i><b>
+	 * Version number of class in form xx.yy where
+	 * xx is major version/release number and yy is minor
+	 * release number.
+	 * </b></i>
+	 */
+	public static final String VERSION_NUM = "1.00"; // this should match the version number from class comment
+	/**
+	 * <i><b>Number of instances which have to be counterexamples for theorem to be disproved</b></i>
+	 */
+	public static final int NUM_OF_INSTANCES = 5;
+	/**
+	 * <i><b>Maximal number of random instances which are tried</b></i>
+	 */
+	public static final int MAX_NUM_OF_ATTEMPTS = 20;
+	/**
+	 * <i><b>Maximal number of solutions of hypotheses followed in one instance</b></i>
+	 */
+	public static final int MAX_NUM_OF_SOLUTIONS = 256;
+	/**
+	 * <i><b>Random values of u-variables are taken from interval (-MAX_ABS_VALUE, MAX_ABS_VALUE)</b></i>
+	 */
+	public static final double MAX_ABS_VALUE = 10;
+	/**
+	 * <i><b>Value is considered zero when it is less than this part of sum of absolute values of its terms</b></i>
+	 */
+	public static final double ZERO_TOLERANCE = 1.0E-6;
+	/**
+	 * <i><b>Fixed seed makes results reproducible</b></i>
+	 */
+	private static final long RANDOM_SEED = 1234567L;
+
+	/*
+	 * Results of solving of hypotheses
+	 */
+	/**
+	 * Statement holds for some solution
+	 */
+	private static final int SOLUTION_SATISFIES = 0;
+	/**
+	 * Statement doesn't hold for any solution
+	 */
+	private static final int SOLUTION_VIOLATES = 1;
+	/**
+	 * Values don't satisfy all hypotheses
+	 */
+	private static final int SOLUTION_INCONSISTENT = 2;
+	/**
+	 * Hypotheses can't be solved numerically
+	 */
+	private static final int SOLUTION_UNKNOWN = 3;
+
+	/**
+	 * Theorem in algebraic form
+	 */
+	private GeoTheorem theorem;
+	/**
+	 * Generator of random values of u-variables
+	 */
+	private Random random;
+	/**
+	 * Values of u-variables in current instance: key is index of u-variable
+	 */
+	private HashMap<Long, Double> uValues;
+	/**
+	 * Map of indices of x-variables to their positions in array of values
+	 */
+	private TreeMap<Long, Integer> xPositions;
+	/**
+	 * Hypotheses with values of u-variables of current instance
+	 */
+	private NumericPolynomial[] hypotheses;
+	/**
+	 * Statement with values of u-variables of current instance
+	 */
+	private NumericPolynomial statement;
+	/**
+	 * Values of x-variables
+	 */
+	private double[] xValues;
+	/**
+	 * Flags of x-variables whose values are calculated
+	 */
+	private boolean[] known;
+	/**
+	 * Flags of hypotheses which have been used for calculation of values
+	 */
+	private boolean[] used;
+	/**
+	 * Number of solutions of hypotheses followed in current instance
+	 */
+	private int numOfSolutions;
+	/**
+	 * Values of x-variables in first solution of current instance for which statement doesn't hold
+	 */
+	private double[] violatingXValues;
+	/**
+	 * Values of variables of counterexample, as text (null if counterexample has not been found)
+	 */
+	private ArrayList<String> counterexample = null;
+
+
+
+	/*
+	 * ======================================================================
+	 * ========================== GETTERS/SETTERS ===========================
+	 * ======================================================================
+	 */
+	/**
+	 * Method that retrieves counterexample found by check.
+	 *
+	 * @return	Values of u-variables and x-variables of counterexample, one
+	 * 			assignment per element, or null if counterexample has not been found
+	 */
+	public ArrayList<String> getCounterexample() {
+		return this.counterexample;
+	}
+
+
+
+	/*
+	 * ======================================================================
+	 * ========================== CONSTRUCTORS ==============================
+	 * ======================================================================
+	 */
+	/**
+	 * Constructor method
+	 *
+	 * @param theorem	Theorem in algebraic form
+	 */
+	public NumericChecker(GeoTheorem theorem) {
+		this.theorem = theorem;
+		this.random = new Random(NumericChecker.RANDOM_SEED);
+		this.uValues = new HashMap<Long, Double>();
+		this.xPositions = new TreeMap<Long, Integer>();
+	}
+
+
+
+	/*
+	 * ======================================================================
+	 * ========================== SPECIFIC METHODS ==========================
+	 * ======================================================================
+	 */
+	/**
+	 * Method that checks statement of theorem for random instances of construction.
+	 * Hypotheses and statement of theorem are not changed.
+	 *
+	 * @return	TheoremProver.THEO_PROVE_RET_CODE_FALSE if all checked instances are
+	 * 			counterexamples, TheoremProver.THEO_PROVE_RET_CODE_UNKNOWN otherwise
+	 * 			(statement holds for some instance or instances can't be solved)
+	 */
+	public int check() {
+		if (this.theorem.getHypotheses() == null || this.theorem.getStatement() == null)
+			return TheoremProver.THEO_PROVE_RET_CODE_UNKNOWN;
+
+		// positions of x-variables in array of values
+		for (XPolynomial xp : this.theorem.getHypotheses().getPolynomials())
+			this.addXVariables(xp);
+		this.addXVariables(this.theorem.getStatement());
+
+		int numOfCounterexamples = 0;
+
+		for (int ii = 0; ii < NumericChecker.MAX_NUM_OF_ATTEMPTS && numOfCounterexamples < NumericChecker.NUM_OF_INSTANCES; ii++) {
+			if (OpenGeoProver.getSettings().getTimer().isTimeIsUp())
+				return TheoremProver.THEO_PROVE_RET_CODE_UNKNOWN;
+
+			int result = this.checkInstance();
+
+			if (result == NumericChecker.SOLUTION_SATISFIES)
+				return TheoremProver.THEO_PROVE_RET_CODE_UNKNOWN; // no reason to doubt in theorem
+			if (result == NumericChecker.SOLUTION_VIOLATES) {
+				if (numOfCounterexamples == 0)
+					this.saveCounterexample();
+				numOfCounterexamples++;
+			}
+		}
+
+		if (numOfCounterexamples < NumericChecker.NUM_OF_INSTANCES) {
+			this.counterexample = null;
+			return TheoremProver.THEO_PROVE_RET_CODE_UNKNOWN;
+		}
+		return TheoremProver.THEO_PROVE_RET_CODE_FALSE;
+	}
+
+	/**
+	 * Method that adds x-variables of polynomial to map of positions of x-variables.
+	 *
+	 * @param xp	X-polynomial
+	 */
+	private void addXVariables(XPolynomial xp) {
+		for (Term t : xp.getTermsAsDescList()) {
+			for (Power pow : t.getPowers()) {
+				Long index = Long.valueOf(pow.getIndex());
+
+				if (!this.xPositions.containsKey(index))
+					this.xPositions.put(index, Integer.valueOf(this.xPositions.size()));
+			}
+		}
+	}
+
+	/**
+	 * Method that checks statement for one random instance of construction.
+	 *
+	 * @return	One of SOLUTION_xxx values
+	 */
+	private int checkInstance() {
+		int numOfHypotheses = this.theorem.getHypotheses().numOfPols();
+		int numOfXVars = this.xPositions.size();
+
+		this.uValues.clear(); // new values are generated when they are needed
+		this.hypotheses = new NumericPolynomial[numOfHypotheses];
+		for (int ii = 0; ii < numOfHypotheses; ii++) {
+			this.hypotheses[ii] = this.toNumericPolynomial(this.theorem.getHypotheses().getXPoly(ii));
+			if (this.hypotheses[ii] == null)
+				return NumericChecker.SOLUTION_UNKNOWN;
+		}
+		this.statement = this.toNumericPolynomial(this.theorem.getStatement());
+		if (this.statement == null)
+			return NumericChecker.SOLUTION_UNKNOWN;
+
+		this.xValues = new double[numOfXVars];
+		this.known = new boolean[numOfXVars];
+		this.used = new boolean[numOfHypotheses];
+		this.numOfSolutions = 0;
+		this.violatingXValues = null;
+
+		return this.solve();
+	}
+
+	/**
+	 * Method that retrieves value of u-variable in current instance; new
+	 * variables get random values.
+	 *
+	 * @param index		Index of u-variable
+	 * @return			Value of u-variable
+	 */
+	private double getUValue(long index) {
+		Long key = Long.valueOf(index);
+		Double value = this.uValues.get(key);
+
+		if (value == null) {
+			value = Double.valueOf((2 * this.random.nextDouble() - 1) * NumericChecker.MAX_ABS_VALUE);
+			this.uValues.put(key, value);
+		}
+
+		return value.doubleValue();
+	}
+
+	/**
+	 * Method that evaluates u-polynomial for values of u-variables of current instance.
+	 *
+	 * @param up		U-polynomial
+	 * @param absolute	True to evaluate sum of absolute values of terms
+	 * @return			Value of u-polynomial
+	 */
+	private double valueOf(UPolynomial up, boolean absolute) {
+		double value = 0;
+
+		for (Term t : up.getTermsAsDescList()) {
+			double tValue = ((UTerm)t).getCoeff();
+
+			for (Power pow : t.getPowers())
+				tValue *= Math.pow(this.getUValue(pow.getIndex()), pow.getExponent());
+			value += absolute ? Math.abs(tValue) : tValue;
+		}
+
+		return value;
+	}
+
+	/**
+	 * Method that transforms x-polynomial to polynomial with numeric
+	 * coefficients, for values of u-variables of current instance.
+	 *
+	 * @param xp	X-polynomial
+	 * @return		Numeric polynomial or null if some coefficient can't be
+	 * 				calculated (denominator is zero)
+	 */
+	private NumericPolynomial toNumericPolynomial(XPolynomial xp) {
+		ArrayList<Term> termList = xp.getTermsAsDescList();
+		NumericPolynomial np = new NumericPolynomial(termList.size());
+
+		for (int ii = 0, jj = termList.size(); ii < jj; ii++) {
+			XTerm xt = (XTerm)termList.get(ii);
+			UFraction uf = xt.getUCoeff();
+			double den = this.valueOf(uf.getDenominator(), false);
+
+			if (NumericChecker.isZero(den, this.valueOf(uf.getDenominator(), true)))
+				return null;
+			np.coeffs[ii] = this.valueOf(uf.getNumerator(), false) / den;
+
+			int numOfPowers = xt.getPowers().size();
+
+			np.positions[ii] = new int[numOfPowers];
+			np.exponents[ii] = new int[numOfPowers];
+			for (int kk = 0; kk < numOfPowers; kk++) {
+				Power pow = xt.getPowers().get(kk);
+
+				np.positions[ii][kk] = this.xPositions.get(Long.valueOf(pow.getIndex())).intValue();
+				np.exponents[ii][kk] = pow.getExponent();
+			}
+		}
+
+		return np;
+	}
+
+	/**
+	 * <i>[static method]</i><br>
+	 * Method that examines whether value is zero with respect to its scale.
+	 *
+	 * @param value		Value
+	 * @param scale		Sum of absolute values of terms of value
+	 * @return			True if value is considered zero, false otherwise
+	 */
+	private static boolean isZero(double value, double scale) {
+		return Math.abs(value) <= NumericChecker.ZERO_TOLERANCE * scale;
+	}
+
+	/**
+	 * Method that solves hypotheses for unknown x-variables and checks statement
+	 * for all found solutions.
+	 *
+	 * @return	One of SOLUTION_xxx values
+	 */
+	private int solve() {
+		int[] unknowns = new int[2];
+		int chosenHypothesis = -1, chosenDegree = 3;
+
+		// polynomial with single unknown variable, of smallest degree
+		for (int ii = 0; ii < this.hypotheses.length && chosenDegree > 1; ii++) {
+			if (this.used[ii] || this.hypotheses[ii].getUnknowns(this.known, unknowns) != 1)
+				continue;
+
+			int degree = this.hypotheses[ii].getDegree(unknowns[0]);
+
+			if (degree < chosenDegree) {
+				chosenHypothesis = ii;
+				chosenDegree = degree;
+			}
+		}
+		if (chosenHypothesis >= 0) {
+			this.hypotheses[chosenHypothesis].getUnknowns(this.known, unknowns);
+			return this.solveSingle(chosenHypothesis, unknowns[0]);
+		}
+
+		// pair of polynomials with same two unknown variables
+		int[] otherUnknowns = new int[2];
+
+		for (int ii = 0; ii < this.hypotheses.length; ii++) {
+			if (this.used[ii] || this.hypotheses[ii].getUnknowns(this.known, unknowns) != 2)
+				continue;
+			for (int jj = ii + 1; jj < this.hypotheses.length; jj++) {
+				if (!this.used[jj] && this.hypotheses[jj].getUnknowns(this.known, otherUnknowns) == 2 &&
+					otherUnknowns[0] == unknowns[0] && otherUnknowns[1] == unknowns[1])
+					return this.solvePair(ii, jj, unknowns[0], unknowns[1]);
+			}
+		}
+
+		for (int ii = 0; ii < this.known.length; ii++) {
+			if (!this.known[ii])
+				return NumericChecker.SOLUTION_UNKNOWN; // can't be solved step by step
+		}
+		return this.checkSolution();
+	}
+
+	/**
+	 * Method that calculates values of unknown variable from polynomial
+	 * with single unknown variable and continues solving with them.
+	 *
+	 * @param hypothesis	Index of polynomial
+	 * @param var			Position of unknown variable
+	 * @return				One of SOLUTION_xxx values
+	 */
+	private int solveSingle(int hypothesis, int var) {
+		double[][] coeffs = this.hypotheses[hypothesis].restrict(this.xValues, var, -1, false);
+		double[][] scales = this.hypotheses[hypothesis].restrict(this.xValues, var, -1, true);
+		double[] roots = new double[2];
+		int numOfRoots = NumericChecker.findRoots(new double[] {coeffs[0][0], coeffs[1][0], coeffs[2][0]},
+												  new double[] {scales[0][0], scales[1][0], scales[2][0]}, roots);
+
+		if (numOfRoots <= 0)
+			return NumericChecker.SOLUTION_UNKNOWN;
+
+		int[] vars = { var };
+		double[][] solutions = new double[numOfRoots][];
+
+		for (int ii = 0; ii < numOfRoots; ii++)
+			solutions[ii] = new double[] { roots[ii] };
+
+		this.used[hypothesis] = true;
+		int result = this.solveWithValues(vars, solutions);
+		this.used[hypothesis] = false;
+		return result;
+	}
+
+	/**
+	 * Method that calculates values of two unknown variables from pair of
+	 * polynomials with same two unknown variables and continues solving with them.
+	 * Supported pairs are pairs of polynomials of degree at most 2 where at least one
+	 * polynomial is linear or polynomials have same quadratic part up to factor.
+	 *
+	 * @param first		Index of first polynomial
+	 * @param second	Index of second polynomial
+	 * @param var1		Position of first unknown variable
+	 * @param var2		Position of second unknown variable
+	 * @return			One of SOLUTION_xxx values
+	 */
+	private int solvePair(int first, int second, int var1, int var2) {
+		double[][] p = this.hypotheses[first].restrict(this.xValues, var1, var2, false);
+		double[][] ps = this.hypotheses[first].restrict(this.xValues, var1, var2, true);
+		double[][] q = this.hypotheses[second].restrict(this.xValues, var1, var2, false);
+		double[][] qs = this.hypotheses[second].restrict(this.xValues, var1, var2, true);
+
+		if (p == null || q == null || !NumericChecker.isOfDegreeAtMost(p, ps, 2) || !NumericChecker.isOfDegreeAtMost(q, qs, 2))
+			return NumericChecker.SOLUTION_UNKNOWN;
+
+		double[][] solutions = null;
+
+		if (NumericChecker.isOfDegreeAtMost(p, ps, 1) && NumericChecker.isOfDegreeAtMost(q, qs, 1)) {
+			// two lines
+			double det = p[1][0] * q[0][1] - p[0][1] * q[1][0];
+
+			if (NumericChecker.isZero(det, Math.abs(p[1][0] * q[0][1]) + Math.abs(p[0][1] * q[1][0])))
+				return NumericChecker.SOLUTION_UNKNOWN;
+			solutions = new double[][] { { (p[0][1] * q[0][0] - p[0][0] * q[0][1]) / det, (p[0][0] * q[1][0] - p[1][0] * q[0][0]) / det } };
+		}
+		else if (NumericChecker.isOfDegreeAtMost(p, ps, 1))
+			solutions = NumericChecker.intersect(p, ps, q, qs);
+		else if (NumericChecker.isOfDegreeAtMost(q, qs, 1))
+			solutions = NumericChecker.intersect(q, qs, p, ps);
+		else {
+			// e.g. two circles - difference of polynomials with same quadratic part is linear
+			int[][] quadratic = { { 2, 0 }, { 1, 1 }, { 0, 2 } };
+			int lead = 0;
+
+			while (lead < quadratic.length && NumericChecker.isZero(p[quadratic[lead][0]][quadratic[lead][1]], ps[quadratic[lead][0]][quadratic[lead][1]]))
+				lead++;
+
+			double pLead = p[quadratic[lead][0]][quadratic[lead][1]];
+			double qLead = q[quadratic[lead][0]][quadratic[lead][1]];
+			double[][] r = new double[3][3];
+			double[][] rs = new double[3][3];
+
+			for (int ii = 0; ii < 3; ii++) {
+				for (int jj = 0; jj < 3; jj++) {
+					r[ii][jj] = qLead * p[ii][jj] - pLead * q[ii][jj];
+					rs[ii][jj] = Math.abs(qLead) * ps[ii][jj] + Math.abs(pLead) * qs[ii][jj];
+				}
+			}
+			if (!NumericChecker.isOfDegreeAtMost(r, rs, 1))
+				return NumericChecker.SOLUTION_UNKNOWN;
+			solutions = NumericChecker.intersect(r, rs, p, ps);
+		}
+
+		if (solutions == null)
+			return NumericChecker.SOLUTION_UNKNOWN;
+
+		int[] vars = { var1, var2 };
+
+		this.used[first] = true;
+		this.used[second] = true;
+		int result = this.solveWithValues(vars, solutions);
+		this.used[first] = false;
+		this.used[second] = false;
+		return result;
+	}
+
+	/**
+	 * Method that continues solving for each of passed in values of variables.
+	 *
+	 * @param vars			Positions of variables
+	 * @param solutions		Values of variables - each element contains values
+	 * 						of all variables, in same order as their positions
+	 * @return				One of SOLUTION_xxx values
+	 */
+	private int solveWithValues(int[] vars, double[][] solutions) {
+		boolean violated = false, unknown = false;
+
+		for (int ii = 0; ii < solutions.length; ii++) {
+			for (int jj = 0; jj < vars.length; jj++) {
+				this.xValues[vars[jj]] = solutions[ii][jj];
+				this.known[vars[jj]] = true;
+			}
+
+			int result = this.solve();
+
+			for (int jj = 0; jj < vars.length; jj++)
+				this.known[vars[jj]] = false;
+
+			if (result == NumericChecker.SOLUTION_SATISFIES)
+				return result;
+			if (result == NumericChecker.SOLUTION_VIOLATES)
+				violated = true;
+			else if (result == NumericChecker.SOLUTION_UNKNOWN)
+				unknown = true; // can't be counterexample since not all solutions are checked
+		}
+
+		if (unknown)
+			return NumericChecker.SOLUTION_UNKNOWN;
+		return violated ? NumericChecker.SOLUTION_VIOLATES : NumericChecker.SOLUTION_INCONSISTENT;
+	}
+
+	/**
+	 * Method that checks statement when values of all x-variables are calculated.
+	 *
+	 * @return	One of SOLUTION_xxx values
+	 */
+	private int checkSolution() {
+		if (++this.numOfSolutions > NumericChecker.MAX_NUM_OF_SOLUTIONS)
+			return NumericChecker.SOLUTION_UNKNOWN;
+
+		// remaining hypotheses have to be satisfied as well
+		for (int ii = 0; ii < this.hypotheses.length; ii++) {
+			if (!this.used[ii] && !this.hypotheses[ii].isZero(this.xValues))
+				return NumericChecker.SOLUTION_INCONSISTENT;
+		}
+
+		if (this.statement.isZero(this.xValues))
+			return NumericChecker.SOLUTION_SATISFIES;
+
+		if (this.violatingXValues == null)
+			this.violatingXValues = this.xValues.clone();
+		return NumericChecker.SOLUTION_VIOLATES;
+	}
+
+	/**
+	 * Method that saves values of variables of current instance as counterexample.
+	 */
+	private void saveCounterexample() {
+		this.counterexample = new ArrayList<String>();
+
+		for (Map.Entry<Long, Double> entry : new TreeMap<Long, Double>(this.uValues).entrySet())
+			this.counterexample.add(NumericChecker.getAssignment("u", entry.getKey().longValue(), entry.getValue().doubleValue()));
+		for (Map.Entry<Long, Integer> entry : this.xPositions.entrySet())
+			this.counterexample.add(NumericChecker.getAssignment("x", entry.getKey().longValue(), this.violatingXValues[entry.getValue().intValue()]));
+	}
+
+	/**
+	 * <i>[static method]</i><br>
+	 * Method that gives text of assignment of value to variable.
+	 *
+	 * @param label		Label of variable ("u" or "x")
+	 * @param index		Index of variable
+	 * @param value		Value of variable
+	 * @return			Text of assignment
+	 */
+	private static String getAssignment(String label, long index, double value) {
+		StringBuilder sb = new StringBuilder();
+
+		sb.append("<ind_text><label>");
+		sb.append(label);
+		sb.append("</label><ind>");
+		sb.append(index);
+		sb.append("</ind></ind_text> = ");
+		sb.append(OGPUtilities.roundUpToPrecision(value));
+		return sb.toString();
+	}
+
+	/**
+	 * <i>[static method]</i><br>
+	 * Method that calculates real roots of polynomial of degree at most 2.
+	 *
+	 * @param coeffs	Coefficients of polynomial - element at position k is coefficient of k-th power
+	 * @param scales	Sums of absolute values of terms of coefficients
+	 * @param roots		Return argument - array of length 2 for roots
+	 * @return			Number of roots, or -1 if polynomial doesn't determine value
+	 * 					of variable or its roots are not real
+	 */
+	private static int findRoots(double[] coeffs, double[] scales, double[] roots) {
+		int degree = 2;
+
+		while (degree > 0 && NumericChecker.isZero(coeffs[degree], scales[degree]))
+			degree--;
+
+		if (degree == 0)
+			return -1;
+
+		if (degree == 1) {
+			roots[0] = -coeffs[0] / coeffs[1];
+			return 1;
+		}
+
+		double disc = coeffs[1] * coeffs[1] - 4 * coeffs[2] * coeffs[0];
+
+		if (NumericChecker.isZero(disc, scales[1] * scales[1] + 4 * scales[2] * scales[0])) {
+			roots[0] = -coeffs[1] / (2 * coeffs[2]);
+			return 1;
+		}
+		if (disc < 0)
+			return -1;
+
+		// numerically stable form of roots
+		double q = -0.5 * (coeffs[1] + ((coeffs[1] < 0) ? -Math.sqrt(disc) : Math.sqrt(disc)));
+
+		roots[0] = q / coeffs[2];
+		roots[1] = coeffs[0] / q;
+		return 2;
+	}
+
+	/**
+	 * <i>[static method]</i><br>
+	 * Method that examines whether polynomial in two variables has degree
+	 * not greater than given one.
+	 *
+	 * @param p			Coefficients of polynomial - element at position [i][j] is
+	 * 					coefficient of product of i-th power of first variable and
+	 * 					j-th power of second variable
+	 * @param scales	Sums of absolute values of terms of coefficients
+	 * @param degree	Degree
+	 * @return			True if all coefficients of terms of greater degree are zero
+	 */
+	private static boolean isOfDegreeAtMost(double[][] p, double[][] scales, int degree) {
+		for (int ii = 0; ii < p.length; ii++) {
+			for (int jj = 0; jj < p[ii].length; jj++) {
+				if (ii + jj > degree && !NumericChecker.isZero(p[ii][jj], scales[ii][jj]))
+					return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * <i>[static method]</i><br>
+	 * Method that calculates common points of linear polynomial and polynomial
+	 * of degree at most 2, in two variables.
+	 *
+	 * @param l			Coefficients of linear polynomial (see isOfDegreeAtMost())
+	 * @param ls		Scales of coefficients of linear polynomial
+	 * @param g			Coefficients of other polynomial
+	 * @param gs		Scales of coefficients of other polynomial
+	 * @return			Values of both variables for each common point, or
+	 * 					null if they can't be calculated
+	 */
+	private static double[][] intersect(double[][] l, double[][] ls, double[][] g, double[][] gs) {
+		boolean transposed = Math.abs(l[1][0]) < Math.abs(l[0][1]);
+
+		// first variable is expressed by second one, so it must have greater coefficient
+		if (transposed) {
+			l = NumericChecker.transpose(l);
+			ls = NumericChecker.transpose(ls);
+			g = NumericChecker.transpose(g);
+			gs = NumericChecker.transpose(gs);
+		}
+		if (NumericChecker.isZero(l[1][0], ls[1][0]))
+			return null;
+
+		// first = alpha * second + beta
+		double alpha = -l[0][1] / l[1][0], beta = -l[0][0] / l[1][0];
+		double alphaAbs = Math.abs(alpha), betaAbs = Math.abs(beta);
+		double[] u = new double[3];
+		double[] us = new double[3];
+
+		for (int jj = 0; jj < 3; jj++) {
+			u[jj] += g[0][jj];
+			us[jj] += gs[0][jj];
+		}
+		for (int jj = 0; jj < 2; jj++) {
+			u[jj + 1] += g[1][jj] * alpha;
+			u[jj] += g[1][jj] * beta;
+			us[jj + 1] += gs[1][jj] * alphaAbs;
+			us[jj] += gs[1][jj] * betaAbs;
+		}
+		u[2] += g[2][0] * alpha * alpha;
+		u[1] += g[2][0] * 2 * alpha * beta;
+		u[0] += g[2][0] * beta * beta;
+		us[2] += gs[2][0] * alphaAbs * alphaAbs;
+		us[1] += gs[2][0] * 2 * alphaAbs * betaAbs;
+		us[0] += gs[2][0] * betaAbs * betaAbs;
+
+		double[] roots = new double[2];
+		int numOfRoots = NumericChecker.findRoots(u, us, roots);
+
+		if (numOfRoots <= 0)
+			return null;
+
+		double[][] solutions = new double[numOfRoots][];
+
+		for (int ii = 0; ii < numOfRoots; ii++) {
+			double first = alpha * roots[ii] + beta;
+
+			solutions[ii] = transposed ? new double[] { roots[ii], first } : new double[] { first, roots[ii] };
+		}
+		return solutions;
+	}
+
+	/**
+	 * <i>[static method]</i><br>
+	 * Method that swaps variables of polynomial in two variables.
+	 *
+	 * @param p		Coefficients of polynomial (see isOfDegreeAtMost())
+	 * @return		Coefficients of polynomial with swapped variables
+	 */
+	private static double[][] transpose(double[][] p) {
+		double[][] t = new double[3][3];
+
+		for (int ii = 0; ii < 3; ii++) {
+			for (int jj = 0; jj < 3; jj++)
+				t[jj][ii] = p[ii][jj];
+		}
+		return t;
+	}
+
+
+
+	/*
+	 * ======================================================================
+	 * ========================== INNER CLASSES =============================
+	 * ======================================================================
+	 */
+	/**
+	 * Polynomial in x-variables with numeric coefficients
+	 */
+	private static class NumericPolynomial {
+		/**
+		 * Coefficients of terms
+		 */
+		private double[] coeffs;
+		/**
+		 * Positions of x-variables of terms
+		 */
+		private int[][] positions;
+		/**
+		 * Exponents of x-variables of terms - element at some position belongs
+		 * to variable at same position in array of positions
+		 */
+		private int[][] exponents;
+
+		/**
+		 * Constructor method
+		 *
+		 * @param numOfTerms	Number of terms
+		 */
+		public NumericPolynomial(int numOfTerms) {
+			this.coeffs = new double[numOfTerms];
+			this.positions = new int[numOfTerms][];
+			this.exponents = new int[numOfTerms][];
+		}
+
+		/**
+		 * Method that finds unknown variables of this polynomial.
+		 *
+		 * @param known		Flags of variables whose values are known
+		 * @param unknowns	Return argument - array of length 2 for positions of
+		 * 					first two unknown variables, in ascending order
+		 * @return			Number of unknown variables (3 means at least 3)
+		 */
+		public int getUnknowns(boolean[] known, int[] unknowns) {
+			int numOfUnknowns = 0;
+
+			for (int ii = 0; ii < this.positions.length; ii++) {
+				for (int jj = 0; jj < this.positions[ii].length; jj++) {
+					int pos = this.positions[ii][jj];
+
+					if (known[pos] || (numOfUnknowns > 0 && unknowns[0] == pos) || (numOfUnknowns > 1 && unknowns[1] == pos))
+						continue;
+					if (numOfUnknowns == 2)
+						return 3;
+					unknowns[numOfUnknowns++] = pos;
+				}
+			}
+
+			if (numOfUnknowns == 2 && unknowns[0] > unknowns[1]) {
+				int temp = unknowns[0];
+
+				unknowns[0] = unknowns[1];
+				unknowns[1] = temp;
+			}
+			return numOfUnknowns;
+		}
+
+		/**
+		 * Method that gives greatest exponent of variable in this polynomial.
+		 *
+		 * @param var	Position of variable
+		 * @return		Greatest exponent
+		 */
+		public int getDegree(int var) {
+			int degree = 0;
+
+			for (int ii = 0; ii < this.positions.length; ii++) {
+				for (int jj = 0; jj < this.positions[ii].length; jj++) {
+					if (this.positions[ii][jj] == var && this.exponents[ii][jj] > degree)
+						degree = this.exponents[ii][jj];
+				}
+			}
+			return degree;
+		}
+
+		/**
+		 * Method that substitutes values of all variables except two given ones.
+		 *
+		 * @param values	Values of variables
+		 * @param var1		Position of first remaining variable (-1 for none)
+		 * @param var2		Position of second remaining variable (-1 for none)
+		 * @param absolute	True to calculate sums of absolute values of terms instead of values
+		 * @return			Coefficients of polynomial in remaining variables - element at position
+		 * 					[i][j] is coefficient of product of i-th power of first variable and
+		 * 					j-th power of second variable; null if some exponent of remaining
+		 * 					variables is greater than 2
+		 */
+		public double[][] restrict(double[] values, int var1, int var2, boolean absolute) {
+			double[][] result = new double[3][3];
+
+			for (int ii = 0; ii < this.coeffs.length; ii++) {
+				double value = absolute ? Math.abs(this.coeffs[ii]) : this.coeffs[ii];
+				int exp1 = 0, exp2 = 0;
+
+				for (int jj = 0; jj < this.positions[ii].length; jj++) {
+					int pos = this.positions[ii][jj];
+
+					if (pos == var1)
+						exp1 = this.exponents[ii][jj];
+					else if (pos == var2)
+						exp2 = this.exponents[ii][jj];
+					else
+						value *= Math.pow(absolute ? Math.abs(values[pos]) : values[pos], this.exponents[ii][jj]);
+				}
+				if (exp1 > 2 || exp2 > 2)
+					return null;
+				result[exp1][exp2] += value;
+			}
+
+			return result;
+		}
+
+		/**
+		 * Method that examines whether value of this polynomial is zero.
+		 *
+		 * @param values	Values of all variables
+		 * @return			True if value is considered zero, false otherwise
+		 */
+		public boolean isZero(double[] values) {
+			return NumericChecker.isZero(this.restrict(values, -1, -1, false)[0][0], this.restrict(values, -1, -1, true)[0][0]);
+		}
+	}
+}
@@ -28,6 +28,11 @@ public interface TheoremProver {
 	 * it is not clear whether theorem is true or false (it cannot be proved)
 	 */
 	public static final int THEO_PROVE_RET_CODE_UNKNOWN = 2;
+	/**
+	 * theorem's statement is proved with high probability - final remainder is zero
+	 * modulo primes for random values of independent variables (NDG conditions are not calculated)
+	 */
+	public static final int THEO_PROVE_RET_CODE_TRUE_MODULAR = 3;
 	
 	// general types of provers
 	/**
@@ -10,8 +10,13 @@ import com.ogprover.main.OGPConstants;
 import com.ogprover.main.OGPParameters;
 import com.ogprover.main.OpenGeoProver;
 import com.ogprover.polynomials.GeoTheorem;
+import com.ogprover.polynomials.ModularPolySystem;
+import com.ogprover.polynomials.ModularPolynomial;
+import com.ogprover.polynomials.PrimeField;
+import com.ogprover.polynomials.UTerm;
 import com.ogprover.polynomials.XPolySystem;
 import com.ogprover.polynomials.XPolynomial;
+import com.ogprover.utilities.OGPMetrics;
 import com.ogprover.utilities.io.OGPOutput;
 import com.ogprover.utilities.io.SpecialFileFormatting;
 import com.ogprover.utilities.logger.ILogger;
@@ -26,6 +31,10 @@ import com.ogprover.utilities.logger.ILogger;
 * @author Ivan Petrovic
 */
 public class WuMethodProver extends AlgebraicMethodProver {
+	/**
+	 * <i><b>Number of primes used for calculation of final remainder modulo primes</b></i>
+	 */
+	public static final int NUM_OF_PRIMES = 3;
 
 	/**
 	 * Constructor method.
@@ -43,9 +52,9 @@ public class WuMethodProver extends AlgebraicMethodProver {
 	public int prove() {
 		int retCode;
 		
-		OGPParameters parameters = OpenGeoProver.settings.getParameters();
-		OGPOutput output = OpenGeoProver.settings.getOutput();
-		ILogger logger = OpenGeoProver.settings.getLogger();
+		OGPParameters parameters = OpenGeoProver.getSettings().getParameters();
+		OGPOutput output = OpenGeoProver.getSettings().getOutput();
+		ILogger logger = OpenGeoProver.getSettings().getLogger();
 		
 		XPolySystem hypotheses = this.theorem.getHypotheses();
 		XPolynomial statement = this.theorem.getStatement();
@@ -54,6 +63,80 @@ public class WuMethodProver extends AlgebraicMethodProver {
 		StringBuilder sb;
 		
 		
+		// numeric check - statement which doesn't hold for random instances of
+		// construction is disproved without triangulation of system
+		if (parameters.checkNumerically()) {
+			logger.info("Numeric check of statement for random instances of construction...");
+			NumericChecker checker = new NumericChecker(this.theorem);
+			OGPMetrics.Measurement measurement = OpenGeoProver.getSettings().getMetrics().start(OGPMetrics.PHASE_NUMERIC_CHECK);
+			int checkResult = checker.check();
+			
+			measurement.stop();
+			if (checkResult == TheoremProver.THEO_PROVE_RET_CODE_FALSE) {
+				logger.info("Statement doesn't hold for random instances of construction - theorem is disproved by counterexample.");
+				if (writeToReport) {
+					try {
+						output.openSection("Invoking the theorem prover");
+						output.writePlainText("The used proving method is numeric check of statement for random instances of construction.\n\n");
+						output.closeSection();
+						output.openSection("Counterexample");
+						output.openParagraph();
+						sb = new StringBuilder();
+						sb.append("The statement doesn't hold for any real solution of hypotheses in ");
+						sb.append(NumericChecker.NUM_OF_INSTANCES);
+						sb.append(" random instances of construction. Values of variables in the first of them are:");
+						output.writePlainText(sb.toString());
+						output.closeParagraph();
+						output.openEnum(SpecialFileFormatting.ENUM_COMMAND_ITEMIZE);
+						for (String assignment : checker.getCounterexample()) {
+							output.openItem();
+							output.writePlainText(assignment);
+							output.closeItem();
+						}
+						output.closeEnum(SpecialFileFormatting.ENUM_COMMAND_ITEMIZE);
+						output.closeSection();
+					} catch (IOException e) {
+						logger.error("Failed to write to output file(s).");
+						output.close();
+						return OGPConstants.ERR_CODE_GENERAL;
+					}
+				}
+				return TheoremProver.THEO_PROVE_RET_CODE_FALSE;
+			}
+			logger.info("No counterexample has been found by numeric check.");
+		}
+		
+		// calculation modulo primes - if final remainder is zero modulo all primes
+		// theorem is proved, otherwise calculation with u-fractions is performed
+		if (parameters.getArithmetic() == UTerm.ARITHMETIC_MODULAR) {
+			logger.info("Calculation of final reminder modulo primes...");
+			if (this.isFinalRemainderZeroModuloPrimes()) {
+				if (writeToReport) {
+					try {
+						output.openSection("Invoking the theorem prover");
+						output.writePlainText("The used proving method is Wu's method with calculation modulo primes.\n\n");
+						output.closeSection();
+						output.openSection("Final Remainder");
+						output.openParagraph();
+						sb = new StringBuilder();
+						sb.append("Final remainder of the conclusion with respect to the triangular system is zero modulo ");
+						sb.append(WuMethodProver.NUM_OF_PRIMES);
+						sb.append(" primes, for random values of independent variables. ");
+						sb.append("NDG conditions are not calculated in this mode.");
+						output.writePlainText(sb.toString());
+						output.closeParagraph();
+						output.closeSection();
+					} catch (IOException e) {
+						logger.error("Failed to write to output file(s).");
+						output.close();
+						return OGPConstants.ERR_CODE_GENERAL;
+					}
+				}
+				return TheoremProver.THEO_PROVE_RET_CODE_TRUE_MODULAR;
+			}
+			logger.info("Final reminder is not zero modulo primes - calculating it with u-fractions.");
+		}
+		
 		// first step - triangulate the system
 		logger.info("Triangulation of system...");
 		if (writeToReport) {
@@ -156,10 +239,10 @@ public class WuMethodProver extends AlgebraicMethodProver {
 			
 			if (finalReminder == null) {
 				logger.error("Wu's prove method has failed to calculate the final reminder due to error in pseudo division operation.");
-				return OpenGeoProver.settings.getRetCodeOfPseudoDivision();
+				return OpenGeoProver.getSettings().getRetCodeOfPseudoDivision();
 			}
 			
-			int numOfTerms = finalReminder.getTerms().size();
+			int numOfTerms = finalReminder.getNumOfTerms();
 			
 			if (numOfTerms > parameters.getSpaceLimit()) {
 				logger.error("Polynomial exceeds maximal allowed number of terms.");
@@ -177,11 +260,11 @@ public class WuMethodProver extends AlgebraicMethodProver {
 				return OGPConstants.ERR_CODE_SPACE;
 			}
 			
-			if (numOfTerms > OpenGeoProver.settings.getMaxNumOfTerms()) {
-				OpenGeoProver.settings.setMaxNumOfTerms(numOfTerms);
+			if (numOfTerms > OpenGeoProver.getSettings().getMaxNumOfTerms()) {
+				OpenGeoProver.getSettings().setMaxNumOfTerms(numOfTerms);
 			}
 			
-			if (OpenGeoProver.settings.getTimer().isTimeIsUp()) {
+			if (OpenGeoProver.getSettings().getTimer().isTimeIsUp()) {
 				logger.error("Time for execution of prover has been expired.");
 				if (writeToReport) {
 					try {
@@ -232,4 +315,38 @@ public class WuMethodProver extends AlgebraicMethodProver {
 		return TheoremProver.THEO_PROVE_RET_CODE_UNKNOWN;
 	}
 	
+	/**
+	 * Method that performs triangulation and calculation of final remainder
+	 * over several prime fields, with random values of u-variables. Hypotheses
+	 * and statement of theorem are not changed.
+	 * 
+	 * @return	True if final remainder is zero modulo all primes, false if it is not
+	 * 			zero modulo some prime or if calculation can't be performed
+	 */
+	private boolean isFinalRemainderZeroModuloPrimes() {
+		ILogger logger = OpenGeoProver.getSettings().getLogger();
+		
+		for (int ii = 0; ii < WuMethodProver.NUM_OF_PRIMES; ii++) {
+			PrimeField field = new PrimeField(PrimeField.PRIMES[ii]);
+			ModularPolySystem hypotheses = ModularPolySystem.fromXPolySystem(this.theorem.getHypotheses(), field);
+			ModularPolynomial statement = ModularPolynomial.fromXPolynomial(this.theorem.getStatement(), field);
+			
+			if (hypotheses == null || statement == null) {
+				logger.info("Theorem can't be mapped to field modulo " + field.getPrime());
+				return false;
+			}
+			
+			if (hypotheses.triangulate() != OGPConstants.RET_CODE_SUCCESS) {
+				logger.info("Triangulation modulo " + field.getPrime() + " has failed.");
+				return false;
+			}
+			
+			ModularPolynomial finalReminder = hypotheses.getFinalRemainder(statement);
+			
+			if (finalReminder == null || !finalReminder.isZero())
+				return false;
+		}
+		
+		return true;
+	}
 }
\ No newline at end of file
@@ -0,0 +1,189 @@
+/*
+ * DISCLAIMER PLACEHOLDER
+ */
+
+package com.ogprover.utilities;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+
+/**
+ * <dl>
+ * <dt><b>Class description:</b></dt>
+ * <dd>Class for limitation of memory of one proof - it keeps approximate number
+ *     of bytes of polynomials in work (shared by all threads of that proof)</dd>
+ * </dl>
+ *
+ * @version 1.00
+ * @author Ivan Petrovic
+ */
+// Sizes of polynomials are estimated from their structure (see estimateSize() methods of
+// polynomials and terms) with sizes of objects from 64-bit JVM. Polynomial operations
+// reserve bytes for polynomials they create and release them when those polynomials are
+// not needed any more; when budget is exceeded it stays exceeded and operations stop,
+// same as when time is up, so proof ends with space error before JVM runs out of memory.
+public class OGPMemoryBudget {
+	/*
+	 * ======================================================================
+	 * ========================== VARIABLES =================================
+	 * ======================================================================
+	 */
+	/**
+	 * <i><b>
+	 * Version number of class in form xx.yy where
+	 * xx is major version/release number and yy is minor
+	 * release number.
+	 * </b></i>
+	 */
+	public static final String VERSION_NUM = "1.00"; // this should match the version number from class comment
+	/**
+	 * <i><b>Estimated size of object header in bytes</b></i>
+	 */
+	public static final int OBJECT_HEADER = 16;
+	/**
+	 * <i><b>Estimated size of array header in bytes</b></i>
+	 */
+	public static final int ARRAY_HEADER = 16;
+	/**
+	 * <i><b>Estimated size of reference in bytes</b></i>
+	 */
+	public static final int REFERENCE = 8;
+	/**
+	 * <i><b>Estimated size of entry of tree map in bytes</b></i>
+	 */
+	public static final int TREE_ENTRY = 40;
+	/**
+	 * <i><b>Part of maximal heap of JVM used by proofs when memory limit is not set</b></i>
+	 */
+	public static final double DEFAULT_HEAP_FRACTION = 0.75;
+
+	/**
+	 * Maximal number of bytes of polynomials in work (0 means no limit)
+	 */
+	private volatile long limit = 0;
+	/**
+	 * Reserved number of bytes
+	 */
+	private AtomicLong used = new AtomicLong(0);
+	/**
+	 * Maximal reserved number of bytes
+	 */
+	private AtomicLong peak = new AtomicLong(0);
+	/**
+	 * Flag whether budget has been exceeded
+	 */
+	private volatile boolean exceeded = false;
+
+
+
+	/*
+	 * ======================================================================
+	 * ========================== GETTERS/SETTERS ===========================
+	 * ======================================================================
+	 */
+	/**
+	 * @return	Maximal number of bytes of polynomials in work (0 means no limit)
+	 */
+	public long getLimit() {
+		return this.limit;
+	}
+
+	/**
+	 * @return	Currently reserved number of bytes
+	 */
+	public long getUsed() {
+		return this.used.get();
+	}
+
+	/**
+	 * @return	Maximal reserved number of bytes
+	 */
+	public long getPeak() {
+		return this.peak.get();
+	}
+
+	/**
+	 * @return	True if budget has been exceeded, false otherwise
+	 */
+	public boolean isExceeded() {
+		return this.exceeded;
+	}
+
+
+
+	/*
+	 * ======================================================================
+	 * ========================== CONSTRUCTORS ==============================
+	 * ======================================================================
+	 */
+	/**
+	 * Constructor method - creates budget without limit
+	 */
+	public OGPMemoryBudget() {
+	}
+
+
+
+	/*
+	 * ======================================================================
+	 * ========================== SPECIFIC METHODS ==========================
+	 * ======================================================================
+	 */
+	/**
+	 * Method that sets limit of budget.
+	 *
+	 * @param limit		Maximal number of bytes of polynomials in work (0 means no limit)
+	 */
+	public void setBudget(long limit) {
+		this.exceeded = false;
+		this.limit = limit;
+	}
+
+	/**
+	 * Method that cancels limit of budget - budget which is already exceeded stays exceeded.
+	 */
+	public void cancel() {
+		this.limit = 0;
+	}
+
+	/**
+	 * Method that reserves bytes for polynomial.
+	 *
+	 * @param bytes		Estimated number of bytes
+	 * @return			True if reserved bytes are within limit, false if budget is exceeded
+	 */
+	public boolean reserve(long bytes) {
+		long total = this.used.addAndGet(bytes);
+		long max;
+
+		while (total > (max = this.peak.get()) && !this.peak.compareAndSet(max, total))
+			;
+
+		long lim = this.limit;
+
+		if (lim > 0 && total > lim)
+			this.exceeded = true;
+		return !this.exceeded;
+	}
+
+	/**
+	 * Method that releases bytes of polynomial which is not needed any more.
+	 *
+	 * @param bytes		Number of bytes previously reserved for polynomial
+	 */
+	public void release(long bytes) {
+		this.used.addAndGet(-bytes);
+	}
+
+	/**
+	 * <i>[static method]</i><br>
+	 * Method that gives default limit of memory for one proof - part of
+	 * maximal heap of JVM divided among proofs which run at same time.
+	 *
+	 * @param numOfProofs	Number of proofs which run at same time
+	 * @return				Number of bytes
+	 */
+	public static long getDefaultLimit(int numOfProofs) {
+		return (long)(Runtime.getRuntime().maxMemory() * OGPMemoryBudget.DEFAULT_HEAP_FRACTION) / ((numOfProofs > 0) ? numOfProofs : 1);
+	}
+}
@@ -0,0 +1,599 @@
+/*
+ * DISCLAIMER PLACEHOLDER
+ */
+
+package com.ogprover.utilities;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+import com.ogprover.api.OGPJSONProtocol;
+
+
+/**
+ * <dl>
+ * <dt><b>Class description:</b></dt>
+ * <dd>Class for metrics of phases of proof - for each phase (e.g. triangulation
+ *     step or pseudo remainder) it counts executions, time, allocated bytes
+ *     and numbers of terms of results, with histograms of time and terms</dd>
+ * </dl>
+ *
+ * @version 1.00
+ * @author Ivan Petrovic
+ */
+// Each proof has its own metrics (in its settings), shared by all threads of that proof;
+// at the end of proof they are added to global metrics of prover. Phases can be nested
+// (e.g. multiplications within pseudo remainder) - time and bytes of each phase include
+// those of its inner phases. Allocated bytes are those of thread which executes phase,
+// as reported by JVM (they are -1 when JVM doesn't report them). Histograms have buckets
+// of powers of two: bucket k counts values from 2^k to 2^(k+1)-1 (time is in microseconds).
+// Global metrics are JMX bean "com.ogprover:type=Metrics" when registerMBean() is called.
+// Metrics of proof can be disabled when nobody reads them; then phases are not measured at all.
+// Multiplications are measured only for products with at least MIN_NUM_OF_MEASURED_PAIRS pairs
+// of terms, since measuring of small products would take more time than products themselves.
+public class OGPMetrics implements OGPMetricsMBean {
+	/*
+	 * ======================================================================
+	 * ========================== VARIABLES =================================
+	 * ======================================================================
+	 */
+	/**
+	 * <i><b>
+	 * Version number of class in form xx.yy where
+	 * xx is major version/release number and yy is minor
+	 * release number.
+	 * </b></i>
+	 */
+	public static final String VERSION_NUM = "1.00"; // this should match the version number from class comment
+	/**
+	 * <i><b>Validation of construction protocol</b></i>
+	 */
+	public static final String PHASE_CP_VALIDATION = "cpValidation";
+	/**
+	 * <i><b>Transformation of construction protocol to algebraic form</b></i>
+	 */
+	public static final String PHASE_ALGEBRAIC_FORM = "convertToAlgebraicForm";
+	/**
+	 * <i><b>Simplification of construction protocol</b></i>
+	 */
+	public static final String PHASE_SIMPLIFY = "simplify";
+	/**
+	 * <i><b>Numeric check of statement for random instances of construction</b></i>
+	 */
+	public static final String PHASE_NUMERIC_CHECK = "numericCheck";
+	/**
+	 * <i><b>Triangulation of system of hypotheses</b></i>
+	 */
+	public static final String PHASE_TRIANGULATION = "triangulation";
+	/**
+	 * <i><b>Single step of triangulation (terms are those of polynomials left for next steps)</b></i>
+	 */
+	public static final String PHASE_TRIANGULATION_STEP = "triangulationStep";
+	/**
+	 * <i><b>Single pseudo remainder</b></i>
+	 */
+	public static final String PHASE_PSEUDO_REMAINDER = "pseudoRemainder";
+	/**
+	 * <i><b>Single multiplication of polynomials</b></i>
+	 */
+	public static final String PHASE_MULTIPLICATION = "multiplyByPolynomial";
+	/**
+	 * <i><b>Translation of NDG conditions to user readable form</b></i>
+	 */
+	public static final String PHASE_NDG_TRANSLATION = "ndgTranslation";
+	/**
+	 * <i><b>Writing of results and polynomials to report</b></i>
+	 */
+	public static final String PHASE_REPORT = "reportWriting";
+	/**
+	 * <i><b>Value of number of terms for phases without resulting polynomial</b></i>
+	 */
+	public static final int NO_TERMS = -1;
+	/**
+	 * <i><b>Number of buckets of histograms</b></i>
+	 */
+	public static final int NUM_OF_BUCKETS = 40;
+	/**
+	 * <i><b>Name of JMX bean with global metrics</b></i>
+	 */
+	public static final String MBEAN_NAME = "com.ogprover:type=Metrics";
+	/**
+	 * <i><b>Minimal number of pairs of terms of factors for multiplication to be measured</b></i>
+	 */
+	public static final long MIN_NUM_OF_MEASURED_PAIRS = 1024;
+
+	/**
+	 * All phases in order of output
+	 */
+	private static final String[] PHASES = {
+		OGPMetrics.PHASE_CP_VALIDATION,
+		OGPMetrics.PHASE_ALGEBRAIC_FORM,
+		OGPMetrics.PHASE_SIMPLIFY,
+		OGPMetrics.PHASE_NUMERIC_CHECK,
+		OGPMetrics.PHASE_TRIANGULATION,
+		OGPMetrics.PHASE_TRIANGULATION_STEP,
+		OGPMetrics.PHASE_PSEUDO_REMAINDER,
+		OGPMetrics.PHASE_MULTIPLICATION,
+		OGPMetrics.PHASE_NDG_TRANSLATION,
+		OGPMetrics.PHASE_REPORT
+	};
+	/**
+	 * Global metrics of all proofs
+	 */
+	private static final OGPMetrics globalMetrics = new OGPMetrics();
+	/**
+	 * Thread bean of JVM which reports number of bytes allocated by thread (null if JVM doesn't have it)
+	 */
+	private static com.sun.management.ThreadMXBean allocationBean = null;
+	/**
+	 * Flag which tells whether global metrics are registered as JMX bean
+	 */
+	private static volatile boolean mbeanRegistered = false;
+	/**
+	 * Measurement which doesn't measure anything - given for phases which are not measured
+	 */
+	private static final Measurement noMeasurement = new Measurement(null);
+
+	/**
+	 * Metrics of phases, in same order as names of phases
+	 */
+	private PhaseMetrics[] phaseMetrics = null;
+	/**
+	 * Number of proofs in these metrics
+	 */
+	private AtomicInteger numOfProofs = new AtomicInteger(0);
+	/**
+	 * Metrics of last proof added to these metrics, in JSON form
+	 */
+	private volatile String lastProofJSON = null;
+	/**
+	 * Flag which tells whether phases are measured
+	 */
+	private volatile boolean enabled = true;
+
+	static {
+		try {
+			ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+
+			if (bean instanceof com.sun.management.ThreadMXBean) {
+				com.sun.management.ThreadMXBean allocBean = (com.sun.management.ThreadMXBean)bean;
+
+				if (allocBean.isThreadAllocatedMemorySupported()) {
+					allocBean.setThreadAllocatedMemoryEnabled(true);
+					OGPMetrics.allocationBean = allocBean;
+				}
+			}
+		} catch (LinkageError e) {
+			OGPMetrics.allocationBean = null; // JVM doesn't have this bean - allocated bytes are not measured
+		} catch (RuntimeException e) {
+			OGPMetrics.allocationBean = null; // allocated bytes are not measured
+		}
+	}
+
+
+
+	/*
+	 * ======================================================================
+	 * ========================== GETTERS/SETTERS ===========================
+	 * ======================================================================
+	 */
+	/**
+	 * <i>[static method]</i><br>
+	 * Method that retrieves global metrics of all proofs.
+	 *
+	 * @return	Global metrics
+	 */
+	public static OGPMetrics getGlobalMetrics() {
+		return OGPMetrics.globalMetrics;
+	}
+
+	/**
+	 * @see com.ogprover.utilities.OGPMetricsMBean#getNumOfProofs()
+	 */
+	public int getNumOfProofs() {
+		return this.numOfProofs.get();
+	}
+
+	/**
+	 * @see com.ogprover.utilities.OGPMetricsMBean#getPhaseNames()
+	 */
+	public String[] getPhaseNames() {
+		return OGPMetrics.PHASES.clone();
+	}
+
+	/**
+	 * @see com.ogprover.utilities.OGPMetricsMBean#getLastProofMetricsJSON()
+	 */
+	public String getLastProofMetricsJSON() {
+		return this.lastProofJSON;
+	}
+
+	/**
+	 * @param enabled	Flag which tells whether phases are measured
+	 */
+	public void setEnabled(boolean enabled) {
+		this.enabled = enabled;
+	}
+
+	/**
+	 * @return	Flag which tells whether phases are measured
+	 */
+	public boolean isEnabled() {
+		return this.enabled;
+	}
+
+	/**
+	 * <i>[static method]</i><br>
+	 * Method that tells whether global metrics are registered as JMX bean.
+	 *
+	 * @return	True if bean is registered, false otherwise
+	 */
+	public static boolean isMBeanRegistered() {
+		return OGPMetrics.mbeanRegistered;
+	}
+
+
+
+	/*
+	 * ======================================================================
+	 * ========================== CONSTRUCTORS ==============================
+	 * ======================================================================
+	 */
+	/**
+	 * Constructor method
+	 */
+	public OGPMetrics() {
+		this.phaseMetrics = new PhaseMetrics[OGPMetrics.PHASES.length];
+		for (int ii = 0; ii < this.phaseMetrics.length; ii++)
+			this.phaseMetrics[ii] = new PhaseMetrics();
+	}
+
+
+
+	/*
+	 * ======================================================================
+	 * ========================== SPECIFIC METHODS ==========================
+	 * ======================================================================
+	 */
+	/**
+	 * <i>[static method]</i><br>
+	 * Method that registers global metrics as JMX bean of platform bean server.
+	 *
+	 * @return	True if bean is registered, false otherwise
+	 */
+	public static synchronized boolean registerMBean() {
+		try {
+			ObjectName name = new ObjectName(OGPMetrics.MBEAN_NAME);
+
+			if (!ManagementFactory.getPlatformMBeanServer().isRegistered(name))
+				ManagementFactory.getPlatformMBeanServer().registerMBean(OGPMetrics.globalMetrics, name);
+			OGPMetrics.mbeanRegistered = true;
+			return true;
+		} catch (JMException e) {
+			return false;
+		}
+	}
+
+	/**
+	 * <i>[static method]</i><br>
+	 * Method that retrieves number of bytes allocated by current thread so far.
+	 *
+	 * @return	Number of bytes or -1 if JVM doesn't report it
+	 */
+	private static long getAllocatedBytes() {
+		if (OGPMetrics.allocationBean == null)
+			return -1;
+
+		// JVM reads counter of current thread without search for thread by its id
+		return OGPMetrics.allocationBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+	}
+
+	/**
+	 * <i>[static method]</i><br>
+	 * Method that retrieves bucket of histogram for value.
+	 *
+	 * @param value	Non-negative value
+	 * @return		Index of bucket
+	 */
+	private static int getBucket(long value) {
+		int bucket = 63 - Long.numberOfLeadingZeros(value); // -1 for zero, which is put in first bucket
+
+		if (bucket < 0)
+			return 0;
+		return (bucket < OGPMetrics.NUM_OF_BUCKETS) ? bucket : OGPMetrics.NUM_OF_BUCKETS - 1;
+	}
+
+	/**
+	 * Method that starts measurement of one execution of phase.
+	 *
+	 * @param phase	Name of phase (one of PHASE_xxx values)
+	 * @return		Measurement which is to be stopped when phase is finished
+	 */
+	public Measurement start(String phase) {
+		if (!this.enabled)
+			return OGPMetrics.noMeasurement;
+
+		for (int ii = 0; ii < OGPMetrics.PHASES.length; ii++) {
+			if (OGPMetrics.PHASES[ii] == phase || OGPMetrics.PHASES[ii].equals(phase))
+				return new Measurement(this.phaseMetrics[ii]);
+		}
+		return OGPMetrics.noMeasurement; // unknown phase is not measured
+	}
+
+	/**
+	 * Method that starts measurement of one multiplication of polynomials.
+	 *
+	 * @param m		Number of terms of first factor
+	 * @param n		Number of terms of second factor
+	 * @return		Measurement which is to be stopped when multiplication is finished
+	 */
+	public Measurement startMultiplication(int m, int n) {
+		if ((long)m * n < OGPMetrics.MIN_NUM_OF_MEASURED_PAIRS)
+			return OGPMetrics.noMeasurement;
+		return this.start(OGPMetrics.PHASE_MULTIPLICATION);
+	}
+
+	/**
+	 * Method that adds metrics of one proof to these metrics.
+	 *
+	 * @param proofMetrics	Metrics of proof
+	 * @param theoremName	Name of theorem of proof (optional)
+	 */
+	public void addProof(OGPMetrics proofMetrics, String theoremName) {
+		for (int ii = 0; ii < this.phaseMetrics.length; ii++)
+			this.phaseMetrics[ii].add(proofMetrics.phaseMetrics[ii]);
+		this.numOfProofs.incrementAndGet();
+		this.lastProofJSON = proofMetrics.toJSON(theoremName);
+	}
+
+	/**
+	 * @see com.ogprover.utilities.OGPMetricsMBean#getPhaseCount(java.lang.String)
+	 */
+	public long getPhaseCount(String phase) {
+		for (int ii = 0; ii < OGPMetrics.PHASES.length; ii++) {
+			if (OGPMetrics.PHASES[ii].equals(phase))
+				return this.phaseMetrics[ii].count.get();
+		}
+		return 0;
+	}
+
+	/**
+	 * @see com.ogprover.utilities.OGPMetricsMBean#getPhaseTimeMillis(java.lang.String)
+	 */
+	public double getPhaseTimeMillis(String phase) {
+		for (int ii = 0; ii < OGPMetrics.PHASES.length; ii++) {
+			if (OGPMetrics.PHASES[ii].equals(phase))
+				return this.phaseMetrics[ii].totalNanos.get() / 1000000.0;
+		}
+		return 0;
+	}
+
+	/**
+	 * @see com.ogprover.utilities.OGPMetricsMBean#getMetricsJSON()
+	 */
+	public String getMetricsJSON() {
+		return this.toJSON(null);
+	}
+
+	/**
+	 * @see com.ogprover.utilities.OGPMetricsMBean#reset()
+	 */
+	public void reset() {
+		for (int ii = 0; ii < this.phaseMetrics.length; ii++)
+			this.phaseMetrics[ii] = new PhaseMetrics();
+		this.numOfProofs.set(0);
+		this.lastProofJSON = null;
+	}
+
+	/**
+	 * Method that exports these metrics in JSON form; phases which have
+	 * not been executed are omitted.
+	 *
+	 * @param theoremName	Name of theorem when these are metrics of single proof,
+	 * 						null for metrics of many proofs
+	 * @return				JSON object
+	 */
+	public String toJSON(String theoremName) {
+		StringBuilder sb = new StringBuilder();
+
+		sb.append("{");
+		if (theoremName != null) { // metrics of single proof
+			sb.append("\n  \"theorem\": ");
+			OGPJSONProtocol.appendString(sb, theoremName);
+		}
+		else {
+			sb.append("\n  \"proofs\": ");
+			sb.append(this.numOfProofs.get());
+		}
+		sb.append(",\n  \"phases\": {");
+
+		boolean first = true;
+
+		for (int ii = 0; ii < OGPMetrics.PHASES.length; ii++) {
+			PhaseMetrics pm = this.phaseMetrics[ii];
+
+			if (pm.count.get() == 0)
+				continue;
+			sb.append(first ? "\n    \"" : ",\n    \"");
+			first = false;
+			sb.append(OGPMetrics.PHASES[ii]);
+			sb.append("\": {\"count\": ");
+			sb.append(pm.count.get());
+			sb.append(", \"timeMs\": ");
+			sb.append(pm.totalNanos.get() / 1000000.0);
+			sb.append(", \"maxTimeMs\": ");
+			sb.append(pm.maxNanos.get() / 1000000.0);
+			sb.append(", \"allocatedBytes\": ");
+			sb.append((OGPMetrics.allocationBean != null) ? pm.allocatedBytes.get() : -1);
+			if (pm.numOfResults.get() > 0) {
+				sb.append(", \"terms\": ");
+				sb.append(pm.totalTerms.get());
+				sb.append(", \"maxTerms\": ");
+				sb.append(pm.maxTerms.get());
+				sb.append(", \"termHistogram\": ");
+				OGPMetrics.appendHistogram(sb, pm.termBuckets);
+			}
+			sb.append(", \"timeHistogramUs\": ");
+			OGPMetrics.appendHistogram(sb, pm.timeBuckets);
+			sb.append("}");
+		}
+		sb.append(first ? "}\n}\n" : "\n  }\n}\n");
+		return sb.toString();
+	}
+
+	/**
+	 * <i>[static method]</i><br>
+	 * Method that appends non-empty buckets of histogram as JSON object
+	 * with lower bound of bucket as key.
+	 *
+	 * @param sb		String builder
+	 * @param buckets	Buckets of histogram
+	 */
+	private static void appendHistogram(StringBuilder sb, AtomicLongArray buckets) {
+		boolean first = true;
+
+		sb.append("{");
+		for (int ii = 0; ii < OGPMetrics.NUM_OF_BUCKETS; ii++) {
+			long count = buckets.get(ii);
+
+			if (count == 0)
+				continue;
+			if (!first)
+				sb.append(", ");
+			first = false;
+			sb.append("\"");
+			sb.append((ii == 0) ? 0 : (1L << ii));
+			sb.append("\": ");
+			sb.append(count);
+		}
+		sb.append("}");
+	}
+
+	/**
+	 * <i>[static method]</i><br>
+	 * Method that sets value to maximum of current and new value.
+	 *
+	 * @param max		Current maximum
+	 * @param value		New value
+	 */
+	private static void updateMax(AtomicLong max, long value) {
+		long current;
+
+		while ((current = max.get()) < value && !max.compareAndSet(current, value))
+			;
+	}
+
+
+
+	/*
+	 * ======================================================================
+	 * ========================== INNER CLASSES =============================
+	 * ======================================================================
+	 */
+	/**
+	 * Measures of one phase - they are updated by several threads at same time
+	 */
+	private static class PhaseMetrics {
+		private AtomicLong count = new AtomicLong(0);
+		private AtomicLong totalNanos = new AtomicLong(0);
+		private AtomicLong maxNanos = new AtomicLong(0);
+		private AtomicLong allocatedBytes = new AtomicLong(0);
+		private AtomicLong numOfResults = new AtomicLong(0); // executions with resulting polynomial
+		private AtomicLong totalTerms = new AtomicLong(0);
+		private AtomicLong maxTerms = new AtomicLong(0);
+		private AtomicLongArray timeBuckets = new AtomicLongArray(OGPMetrics.NUM_OF_BUCKETS);
+		private AtomicLongArray termBuckets = new AtomicLongArray(OGPMetrics.NUM_OF_BUCKETS);
+
+		/**
+		 * Method that records one execution of phase.
+		 *
+		 * @param nanos		Time of execution in nanoseconds
+		 * @param bytes		Bytes allocated by execution (negative if unknown)
+		 * @param terms		Number of terms of result (NO_TERMS if there is no resulting polynomial)
+		 */
+		public void record(long nanos, long bytes, int terms) {
+			this.count.incrementAndGet();
+			this.totalNanos.addAndGet(nanos);
+			OGPMetrics.updateMax(this.maxNanos, nanos);
+			this.timeBuckets.incrementAndGet(OGPMetrics.getBucket(nanos / 1000));
+			if (bytes > 0)
+				this.allocatedBytes.addAndGet(bytes);
+			if (terms != OGPMetrics.NO_TERMS) {
+				this.numOfResults.incrementAndGet();
+				this.totalTerms.addAndGet(terms);
+				OGPMetrics.updateMax(this.maxTerms, terms);
+				this.termBuckets.incrementAndGet(OGPMetrics.getBucket(terms));
+			}
+		}
+
+		/**
+		 * Method that adds measures of same phase from other metrics.
+		 *
+		 * @param pm	Measures of phase
+		 */
+		public void add(PhaseMetrics pm) {
+			this.count.addAndGet(pm.count.get());
+			this.totalNanos.addAndGet(pm.totalNanos.get());
+			OGPMetrics.updateMax(this.maxNanos, pm.maxNanos.get());
+			this.allocatedBytes.addAndGet(pm.allocatedBytes.get());
+			this.numOfResults.addAndGet(pm.numOfResults.get());
+			this.totalTerms.addAndGet(pm.totalTerms.get());
+			OGPMetrics.updateMax(this.maxTerms, pm.maxTerms.get());
+			for (int ii = 0; ii < OGPMetrics.NUM_OF_BUCKETS; ii++) {
+				this.timeBuckets.addAndGet(ii, pm.timeBuckets.get(ii));
+				this.termBuckets.addAndGet(ii, pm.termBuckets.get(ii));
+			}
+		}
+	}
+
+	/**
+	 * Measurement of one execution of phase, started by OGPMetrics.start()
+	 */
+	public static class Measurement {
+		private PhaseMetrics phase;
+		private long startNanos;
+		private long startBytes;
+
+		/**
+		 * Constructor method
+		 *
+		 * @param phase	Measures of phase (null if phase is not measured)
+		 */
+		private Measurement(PhaseMetrics phase) {
+			this.phase = phase;
+			if (phase == null)
+				return;
+			this.startBytes = OGPMetrics.getAllocatedBytes();
+			this.startNanos = System.nanoTime();
+		}
+
+		/**
+		 * Method that finishes measurement of phase without resulting polynomial.
+		 */
+		public void stop() {
+			this.stop(OGPMetrics.NO_TERMS);
+		}
+
+		/**
+		 * Method that finishes measurement of phase.
+		 *
+		 * @param terms		Number of terms of result of phase (NO_TERMS if there is no resulting polynomial)
+		 */
+		public void stop(int terms) {
+			if (this.phase == null)
+				return;
+
+			long nanos = System.nanoTime() - this.startNanos;
+
+			long bytes = (this.startBytes >= 0) ? OGPMetrics.getAllocatedBytes() - this.startBytes : -1;
+
+			this.phase.record(nanos, bytes, terms);
+		}
+	}
+}
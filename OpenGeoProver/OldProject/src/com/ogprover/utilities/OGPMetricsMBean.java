@@ -0,0 +1,77 @@
+/*
+ * DISCLAIMER PLACEHOLDER
+ */
+
+package com.ogprover.utilities;
+
+
+/**
+ * <dl>
+ * <dt><b>Interface description:</b></dt>
+ * <dd>JMX interface of metrics of proofs (see OGPMetrics)</dd>
+ * </dl>
+ *
+ * @version 1.00
+ * @author Ivan Petrovic
+ */
+public interface OGPMetricsMBean {
+	/*
+	 * ======================================================================
+	 * ========================== VARIABLES =================================
+	 * ======================================================================
+	 */
+	/**
+	 * <i><b>
+	 * Version number of interface in form xx.yy where
+	 * xx is major version/release number and yy is minor
+	 * release number.
+	 * </b></i>
+	 */
+	public static final String VERSION_NUM = "1.00"; // this should match the version number from interface comment
+
+	/*
+	 * ======================================================================
+	 * ========================== SPECIFIC METHODS ==========================
+	 * ======================================================================
+	 */
+	/**
+	 * @return	Number of proofs in metrics
+	 */
+	public int getNumOfProofs();
+
+	/**
+	 * @return	Names of measured phases of proof
+	 */
+	public String[] getPhaseNames();
+
+	/**
+	 * @return	Metrics of all phases in JSON form
+	 */
+	public String getMetricsJSON();
+
+	/**
+	 * @return	Metrics of last finished proof in JSON form (null if there is no such proof)
+	 */
+	public String getLastProofMetricsJSON();
+
+	/**
+	 * Method that retrieves number of executions of phase.
+	 *
+	 * @param phase	Name of phase
+	 * @return		Number of executions
+	 */
+	public long getPhaseCount(String phase);
+
+	/**
+	 * Method that retrieves total time of phase.
+	 *
+	 * @param phase	Name of phase
+	 * @return		Time in milliseconds
+	 */
+	public double getPhaseTimeMillis(String phase);
+
+	/**
+	 * Method that clears all metrics.
+	 */
+	public void reset();
+}
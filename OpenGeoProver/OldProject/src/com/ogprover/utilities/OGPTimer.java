@@ -1,67 +1,73 @@
-/* 
- * DISCLAIMER PLACEHOLDER 
+/*
+ * DISCLAIMER PLACEHOLDER
  */
 
 package com.ogprover.utilities;
 
-import java.util.Timer;
-
 /**
 * <dl>
 * <dt><b>Class description:</b></dt>
-* <dd>Class for limitation of time</dd>
+* <dd>Class for limitation of time - deadline of one proof, polled by all threads of that proof</dd>
 * </dl>
-* 
+*
 * @version 1.00
 * @author Ivan Petrovic
 */
-public class OGPTimer extends Timer {
-	private boolean timeIsUp = false;
-	private OGPTimerTask timerTask;
-	
+// There is no timer thread: time is compared with deadline when it is checked, so
+// each proof has its own limit for free and inner loops of polynomial operations
+// can check it often (every POLL_INTERVAL elementary operations). Once time is up
+// it stays up; proof can also be stopped from outside by setTimeIsUp(true).
+public class OGPTimer {
+	/**
+	 * <i><b>Number of elementary operations (e.g. products of terms) between two checks of time in inner loops</b></i>
+	 */
+	public static final int POLL_INTERVAL = 4096;
+
+	private volatile boolean timeIsUp = false; // set when deadline is reached or proof is stopped
+	private volatile boolean armed = false; // whether deadline is set
+	private volatile long deadline = 0; // value of System.nanoTime() when time is up
+
 	/**
 	 * @param timeIsUp the timeIsUp to set
 	 */
 	public void setTimeIsUp(boolean timeIsUp) {
 		this.timeIsUp = timeIsUp;
 	}
+
 	/**
 	 * @return the timeIsUp
 	 */
 	public boolean isTimeIsUp() {
-		return timeIsUp;
-	}
-	/**
-	 * @param timerTask the timerTask to set
-	 */
-	public void setTimerTask(OGPTimerTask timerTask) {
-		this.timerTask = timerTask;
-	}
-	/**
-	 * @return the timerTask
-	 */
-	public OGPTimerTask getTimerTask() {
-		return timerTask;
+		if (this.timeIsUp)
+			return true;
+
+		if (this.armed && System.nanoTime() - this.deadline >= 0) {
+			this.timeIsUp = true;
+			return true;
+		}
+		return false;
 	}
-	
+
 	/**
 	 * Constructor method
 	 */
 	public OGPTimer() {
-		// Constructor from superclass always associates new thread to
-		// object of Timer class. Therefore, when timer is not needed
-		// anymore it is good to call cancel() method so thread could
-		// terminate gracefully.
 		this.timeIsUp = false;
-		this.timerTask = new OGPTimerTask(this);
 	}
-	
+
 	/**
 	 * Method to set the timer.
 	 */
 	public void setTimer(long timeLimit) {
 		this.timeIsUp = false;
-		// schedule new timer task for execution after the specified delay in milliseconds
-		this.schedule(this.timerTask, timeLimit);
+		this.deadline = System.nanoTime() + timeLimit * 1000000L; // from milliseconds
+		this.armed = true;
+	}
+
+	/**
+	 * Method to cancel the timer - time which is already up stays up.
+	 */
+	public void cancel() {
+		this.armed = false;
 	}
-}
\ No newline at end of file
+}
@@ -4,11 +4,16 @@
 
 package com.ogprover.utilities.io;
 
-import java.io.BufferedOutputStream;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
-import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.concurrent.Semaphore;
+
+import com.ogprover.main.OGPConfigurationSettings;
+import com.ogprover.main.OpenGeoProver;
+import com.ogprover.utilities.logger.ILogger;
 
 /**
 * <dl>
@@ -19,6 +24,11 @@ import java.io.OutputStream;
 * @version 1.00
 * @author Ivan Petrovic
 */
+// Text is collected in buffer and written to file channel only when buffer is full
+// and when file is closed, so writers can pass text in many small pieces (e.g. term
+// by term) without building whole text in memory. Full buffer is written by thread of
+// OGPAsyncWriter while text is collected in spare buffer; at most one buffer of each
+// file waits for that thread, and close() writes the rest before it returns.
 public class CustomFileWriter extends CustomFile {
 	/*
 	 * ======================================================================
@@ -34,7 +44,7 @@ public class CustomFileWriter extends CustomFile {
 	 */
 	public static final String VERSION_NUM = "1.00"; // this should match the version number from class comment
 	
-	public static final int BUFFER_SIZE = 4096; // 4K for size of output buffer
+	public static final int BUFFER_SIZE = 65536; // 64K for size of output buffer
 	public static final String OUTPUT_DIR_NAME = "output"; // default name of destination directory for all output files (from current working directory, whatever it is)
 	
 	/**
@@ -44,11 +54,33 @@ public class CustomFileWriter extends CustomFile {
 	/**
 	 * Stream for writing
 	 */
-	private OutputStream outputStream = null;
+	private FileOutputStream outputStream = null;
+	/**
+	 * Channel of output stream
+	 */
+	private FileChannel channel = null;
+	/**
+	 * Buffer with bytes which are waiting to be written to channel
+	 */
+	private ByteBuffer byteBuffer = null;
+	/**
+	 * Buffer which is written by asynchronous writer or is free for next text
+	 */
+	private ByteBuffer spareBuffer = null;
+	/**
+	 * Permit for handing over of full buffer to asynchronous writer - it is taken
+	 * while spare buffer is being written
+	 */
+	private Semaphore spareBufferFree = new Semaphore(1);
+	/**
+	 * Error of last asynchronous write (null if there was no error)
+	 */
+	private volatile IOException writeError = null;
 	/**
-	 * Buffered output stream for writing
+	 * Logger of proof for which this file has been created (null if there are no settings);
+	 * file can be closed by another thread which uses different settings
 	 */
-	private BufferedOutputStream buffOS = null;
+	private ILogger logger = null;
 	
 	
 	
@@ -90,7 +122,13 @@ public class CustomFileWriter extends CustomFile {
 		// Create file object for output file inside output directory
 		this.outputFile = new File(outDir, CustomFile.buildBaseFileName(this.baseFileName, this.fileExtension));
 		this.outputStream = new FileOutputStream(this.outputFile);
-		this.buffOS = new BufferedOutputStream(this.outputStream);
+		this.channel = this.outputStream.getChannel();
+		this.byteBuffer = ByteBuffer.allocate(CustomFileWriter.BUFFER_SIZE);
+		this.spareBuffer = ByteBuffer.allocate(CustomFileWriter.BUFFER_SIZE);
+		
+		OGPConfigurationSettings settings = OpenGeoProver.getSettings();
+		if (settings != null)
+			this.logger = settings.getLogger();
 	}
 	
 	/**
@@ -150,36 +188,106 @@ public class CustomFileWriter extends CustomFile {
 		if (s == null)
 			return;
 		
-		char[] charBuffer = s.toCharArray();
-		byte[] byteBuffer = new byte[CustomFileWriter.BUFFER_SIZE];
-		int bytesRemaining = 0; // number of bytes in array that are waiting to be written to stream
-		
 		for (int ii = 0, size = s.length(); ii < size; ii++) {
-			if (bytesRemaining >= CustomFileWriter.BUFFER_SIZE) {
-				this.outputStream.write(byteBuffer);
-				this.buffOS.flush();
-				bytesRemaining = 0;
+			if (!this.byteBuffer.hasRemaining())
+				this.writeBufferAsync();
+			this.byteBuffer.put((byte)s.charAt(ii));
+		}
+	}
+	
+	/**
+	 * Method for writing single character to file.
+	 * 
+	 * @param c	Character to be written to file
+	 * @throws IOException
+	 */
+	public void write(char c) throws IOException {
+		if (!this.byteBuffer.hasRemaining())
+			this.writeBufferAsync();
+		this.byteBuffer.put((byte)c);
+	}
+	
+	/**
+	 * Method that writes all buffered text to file.
+	 * 
+	 * @throws IOException
+	 */
+	public void flush() throws IOException {
+		this.waitForSpareBuffer();
+		this.spareBufferFree.release();
+		
+		this.byteBuffer.flip();
+		while (this.byteBuffer.hasRemaining())
+			this.channel.write(this.byteBuffer);
+		this.byteBuffer.clear();
+	}
+	
+	/**
+	 * Method that hands over full buffer to asynchronous writer and continues
+	 * with spare buffer.
+	 * 
+	 * @throws IOException	If previous asynchronous write has failed
+	 */
+	private void writeBufferAsync() throws IOException {
+		this.waitForSpareBuffer();
+		
+		final ByteBuffer fullBuffer = this.byteBuffer;
+		
+		this.byteBuffer = this.spareBuffer;
+		this.spareBuffer = fullBuffer;
+		fullBuffer.flip();
+		OGPAsyncWriter.getInstance().submit(new Runnable() {
+			public void run() {
+				try {
+					while (fullBuffer.hasRemaining())
+						CustomFileWriter.this.channel.write(fullBuffer);
+				} catch (IOException e) {
+					CustomFileWriter.this.writeError = e;
+				} finally {
+					fullBuffer.clear();
+					CustomFileWriter.this.spareBufferFree.release();
+				}
 			}
+		});
+	}
+	
+	/**
+	 * Method that waits until spare buffer is written by asynchronous writer
+	 * and takes permit for it.
+	 * 
+	 * @throws IOException	If asynchronous write has failed
+	 */
+	private void waitForSpareBuffer() throws IOException {
+		this.spareBufferFree.acquireUninterruptibly();
+		if (this.writeError != null) {
+			IOException e = this.writeError;
 			
-			byteBuffer[bytesRemaining] = (byte)charBuffer[ii];
-			bytesRemaining++;
+			this.writeError = null;
+			this.spareBufferFree.release();
+			throw e;
 		}
-		if (bytesRemaining > 0)
-			this.outputStream.write(byteBuffer, 0, bytesRemaining);
-		this.buffOS.flush();		
 	}
 	
 	/**
-	 * Method for safe closing of output stream.
+	 * Method for safe closing of output stream; closing of already closed
+	 * file does nothing.
 	 */
 	public void close() {
 		if (this.outputStream != null) {
+			try {
+				this.flush();
+			} catch (IOException e) {
+				// buffered text is lost; file is closed anyway
+				if (this.logger != null)
+					this.logger.error("Failed to write to output file " + this.outputFile.getPath() + ": " + e.getMessage());
+			}
 			try {
 				this.outputStream.close();
 			} catch (IOException e) {
 				// this is called in finally block of exception handling when
 				// working with CustomFileWriter; therefore ignore this exception
 			}
+			this.outputStream = null;
 		}
 	}
 	
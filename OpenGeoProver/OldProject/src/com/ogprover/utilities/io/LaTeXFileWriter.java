@@ -5,11 +5,14 @@
 package com.ogprover.utilities.io;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Vector;
 
 import com.ogprover.main.OGPConstants;
+import com.ogprover.polynomials.Term;
 import com.ogprover.polynomials.XPolySystem;
 import com.ogprover.polynomials.XPolynomial;
+import com.ogprover.polynomials.XTerm;
 import com.ogprover.pp.tp.geoconstruction.Point;
 
 /**
@@ -27,6 +30,10 @@ public class LaTeXFileWriter extends CustomFileWriter implements SpecialFileForm
 	private boolean subSectionOpened;
 	private boolean paragraphOpened;
 	private Vector<String> lastEnumCommandList = null;
+	// whether polynomials longer than MAX_OUTPUT_POLY_CHARS_NUM are truncated
+	private boolean truncatePolynomials = true;
+	// whether line break is to be written before next text of polynomial
+	private boolean lineBreakPending = false;
 	
 	public LaTeXFileWriter(String fileName) throws IOException{
 		super(fileName, "tex");
@@ -335,79 +342,141 @@ public class LaTeXFileWriter extends CustomFileWriter implements SpecialFileForm
 		this.write(sb.toString());
 	}
 	
-	public void writePolynomial(int index, XPolynomial xpoly)
-			throws IOException {
-		StringBuilder sb = new StringBuilder();
-		int outIndex = index + 1;
-		int numOfTerms = xpoly.getTerms().size();
+	public void setTruncatePolynomials(boolean truncatePolynomials) {
+		this.truncatePolynomials = truncatePolynomials;
+	}
+	
+	/**
+	 * Method that writes terms of polynomial one by one, with line breaks between
+	 * chunks of polynomial at same places as in text of XPolynomial.printToLaTeX(),
+	 * so text of whole polynomial is never built in memory.
+	 * 
+	 * @param xpoly	Polynomial to be written
+	 * @return		Number of written terms - it is less than number of terms of
+	 * 				polynomial when polynomial has been truncated
+	 * @throws IOException
+	 */
+	private int writePolynomialTerms(XPolynomial xpoly) throws IOException {
+		ArrayList<Term> list = xpoly.getTermsAsDescList();
+		int size = list.size(), chunkSize = 0, textSize = 0;
 		
-		if (numOfTerms > OGPConstants.MAX_OUTPUT_POLY_TERMS_NUM) {
-			sb.append("\n\\hspace*{2em} \\parbox{0.65\\textwidth}{\\textit{Polynomial too big for output (number of terms is $");
-			sb.append(numOfTerms);
-			sb.append("$)}}\n\n");
+		if (size == 0) {
+			this.write("0");
+			return 0;
 		}
-		else {
-			String latexXPoly = xpoly.printToLaTeX();
-			int len = latexXPoly.length();
+		
+		this.lineBreakPending = false;
+		for (int ii = 0; ii < size; ii++) {
+			XTerm t = (XTerm)list.get(ii);
+			t.reduce();
+			String latexTerm = t.printToLaTeX();
 			
-			if (len > OGPConstants.MAX_OUTPUT_POLY_CHARS_NUM ||
-				latexXPoly.startsWith("??")) {
-				sb.append("\n\\hspace*{2em} \\parbox{0.65\\textwidth}{\\textit{Polynomial too big for output (text size is ");
-				if (latexXPoly.startsWith("??")) {
-					sb.append("greater than $");
-					sb.append(OGPConstants.MAX_OUTPUT_POLY_CHARS_NUM);
-				}
-				else {
-					sb.append("$");
-					sb.append(len);
+			if (latexTerm.startsWith("??")) // it was impossible to print current term in several chunks - it is too long
+				return ii;
+			
+			int len = latexTerm.length();
+			boolean plusSign = (ii > 0 && !t.getUCoeff().isSingleNegativeTerm());
+			boolean newChunk = (chunkSize + len > OGPConstants.MAX_OUTPUT_POLY_CHUNK_SIZE);
+			
+			// size of term in text of polynomial, together with sign and chunk separators
+			textSize += (plusSign ? 3 : 0) + len;
+			if (newChunk)
+				textSize += ((ii > 0) ? 2 : 0) + ((len > OGPConstants.MAX_OUTPUT_POLY_CHUNK_SIZE) ? 2 : 0);
+			if (this.truncatePolynomials && textSize > OGPConstants.MAX_OUTPUT_POLY_CHARS_NUM)
+				return ii;
+			
+			if (plusSign)
+				this.writeChunkText(" + ");
+			if (newChunk) {
+				if (ii > 0)
+					this.breakLine();
+				this.writeChunkText(latexTerm); // if this term is alone longer then a single chunk
+												// it is already divided in lines
+				if (len > OGPConstants.MAX_OUTPUT_POLY_CHUNK_SIZE) {
+					this.breakLine();
+					chunkSize = 0;
 				}
-				sb.append("$ characters, number of terms is $");
-				sb.append(numOfTerms);
-				sb.append("$)}}\n\n");
+				else
+					chunkSize = len;
 			}
 			else {
-				sb.append("\n\\begin{eqnarray*}\n");
-				if (index < -1)
-					sb.append("p & = & ");
-				else if (index <= -1) // polynomial represents statement
-					sb.append("g & = & ");
-				else
-					sb.append("p_{" + outIndex + "} & = & ");
-				
-				int startIndex = 0;
-				String tempPolyOutput = latexXPoly;
-				int endIndex = tempPolyOutput.indexOf("$$"); // "$$" is used to separate chunks
-				boolean firstChunk = true;
-				
-				while (endIndex >= 0) {
-					if (!firstChunk)
-						sb.append("\\\\ \n & & ");
-					else
-						firstChunk = false;
-					
-					sb.append(tempPolyOutput.substring(startIndex, endIndex));
-					startIndex = endIndex + 2; // skip "$$"
-					if (startIndex < tempPolyOutput.length()) {
-						tempPolyOutput = tempPolyOutput.substring(startIndex);
-						endIndex = tempPolyOutput.indexOf("$$");
-						startIndex = 0;
-					}
-					else {
-						tempPolyOutput = null;
-						endIndex = -1;
-					}
-				}
-				
-				if (tempPolyOutput != null && tempPolyOutput.length() > 0) {
-					if (!firstChunk)
-						sb.append("\\\\ \n & & ");
-					sb.append(tempPolyOutput);
-				}
-				sb.append("\n\\end{eqnarray*}\n");
+				this.writeChunkText(latexTerm);
+				chunkSize += len;
 			}
 		}
 		
-		this.write(sb.toString());
+		return size;
+	}
+	
+	/**
+	 * Method that writes text of term where "$$" separates lines.
+	 * 
+	 * @param text	Text of term
+	 * @throws IOException
+	 */
+	private void writeChunkText(String text) throws IOException {
+		int startIndex = 0, endIndex;
+		
+		while ((endIndex = text.indexOf("$$", startIndex)) >= 0) {
+			if (endIndex > startIndex) {
+				this.writePendingLineBreak();
+				this.write(text.substring(startIndex, endIndex));
+			}
+			this.breakLine();
+			startIndex = endIndex + 2; // skip "$$"
+		}
+		if (startIndex < text.length()) {
+			this.writePendingLineBreak();
+			this.write((startIndex == 0) ? text : text.substring(startIndex));
+		}
+	}
+	
+	/**
+	 * Method that marks end of line of polynomial - line break is written
+	 * only if some text follows it.
+	 * 
+	 * @throws IOException
+	 */
+	private void breakLine() throws IOException {
+		this.writePendingLineBreak();
+		this.lineBreakPending = true;
+	}
+	
+	/**
+	 * Method that writes line break which is waiting for next text of polynomial.
+	 * 
+	 * @throws IOException
+	 */
+	private void writePendingLineBreak() throws IOException {
+		if (this.lineBreakPending) {
+			this.write("\\\\ \n & & ");
+			this.lineBreakPending = false;
+		}
+	}
+	
+	public void writePolynomial(int index, XPolynomial xpoly)
+			throws IOException {
+		int numOfTerms = xpoly.getTerms().size();
+		
+		this.write("\n\\begin{eqnarray*}\n");
+		if (index < -1)
+			this.write("p & = & ");
+		else if (index <= -1) // polynomial represents statement
+			this.write("g & = & ");
+		else
+			this.write("p_{" + (index + 1) + "} & = & ");
+		
+		int numOfWrittenTerms = this.writePolynomialTerms(xpoly);
+		
+		if (numOfWrittenTerms < numOfTerms)
+			this.write((numOfWrittenTerms > 0) ? " + \\ldots" : "\\ldots");
+		this.write("\n\\end{eqnarray*}\n");
+		
+		if (numOfWrittenTerms < numOfTerms) {
+			this.write("\n\\hspace*{2em} \\parbox{0.65\\textwidth}{\\textit{Polynomial truncated for output (number of terms is $");
+			this.write(String.valueOf(numOfTerms));
+			this.write("$)}}\n\n");
+		}
 	}
 	
 	public void writePolynomial(XPolynomial xpoly)
@@ -419,68 +488,27 @@ public class LaTeXFileWriter extends CustomFileWriter implements SpecialFileForm
 		if (xpolySys == null || xpolySys.getPolynomials().size() == 0)
 			return;
 		
-		StringBuilder sb = new StringBuilder();
 		int ii = 1;
 		boolean firstPoly = true;
 		
-		sb.append("\n\\begin{eqnarray*}\n");
+		this.write("\n\\begin{eqnarray*}\n");
 		
 		for (XPolynomial xp : xpolySys.getPolynomials()) {
-			int numOfTerms = xp.getTerms().size();
-			
 			if (!firstPoly)
-				sb.append("\\\\ \n");
+				this.write("\\\\ \n");
 			else
 				firstPoly = false;
 			
-			sb.append("p_{" + ii + "} & = & ");
-			if (numOfTerms > OGPConstants.MAX_OUTPUT_POLY_TERMS_NUM)
-				sb.append("\\ldots");
-			else {
-				String latexXPoly = xp.printToLaTeX();
-				int len = latexXPoly.length();
-				
-				if (len > OGPConstants.MAX_OUTPUT_POLY_CHARS_NUM ||
-					latexXPoly.startsWith("??"))
-					sb.append("\\ldots");
-				else {
-					int startIndex = 0;
-					String tempPolyOutput = latexXPoly;
-					int endIndex = tempPolyOutput.indexOf("$$"); // "$$" is used to separate chunks
-					boolean firstChunk = true;
-					
-					while (endIndex >= 0) {
-						if (!firstChunk)
-							sb.append("\\\\ \n & & ");
-						else
-							firstChunk = false;
-						
-						sb.append(tempPolyOutput.substring(startIndex, endIndex));
-						startIndex = endIndex + 2; // skip "$$"
-						if (startIndex < tempPolyOutput.length()) {
-							tempPolyOutput = tempPolyOutput.substring(startIndex);
-							endIndex = tempPolyOutput.indexOf("$$");
-							startIndex = 0;
-						}
-						else {
-							tempPolyOutput = null;
-							endIndex = -1;
-						}
-					}
-					
-					if (tempPolyOutput != null && tempPolyOutput.length() > 0) {
-						if (!firstChunk)
-							sb.append("\\\\ \n & & ");
-						sb.append(tempPolyOutput);
-					}
-				}
-			}
+			this.write("p_{" + ii + "} & = & ");
+			
+			int numOfWrittenTerms = this.writePolynomialTerms(xp);
+			
+			if (numOfWrittenTerms < xp.getTerms().size())
+				this.write((numOfWrittenTerms > 0) ? " + \\ldots" : "\\ldots");
 			ii++;
 		}
 		
-		sb.append("\n\\end{eqnarray*}\n");
-		
-		this.write(sb.toString());
+		this.write("\n\\end{eqnarray*}\n");
 	}
 	
 	public boolean isDocumentOpened() {
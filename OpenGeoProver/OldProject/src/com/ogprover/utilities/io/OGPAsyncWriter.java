@@ -0,0 +1,192 @@
+/*
+ * DISCLAIMER PLACEHOLDER
+ */
+
+package com.ogprover.utilities.io;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+
+import org.apache.log4j.helpers.LogLog;
+
+
+/**
+* <dl>
+* <dt><b>Class description:</b></dt>
+* <dd>Class for asynchronous output - single writer thread which performs
+*     writes of log messages and of output reports, so provers don't wait
+*     for disk</dd>
+* </dl>
+*
+* @version 1.00
+* @author Ivan Petrovic
+*/
+// Writes are tasks in bounded queue (ring buffer of fixed capacity) and writer thread
+// performs them in order of submission. When queue is full, thread which submits write
+// waits until there is free place, so fast provers can't exhaust memory by pending text.
+// flush() waits until all writes submitted before it are performed; it is also called
+// from shutdown hook, so nothing is lost when prover exits.
+public class OGPAsyncWriter {
+	/*
+	 * ======================================================================
+	 * ========================== VARIABLES =================================
+	 * ======================================================================
+	 */
+	/**
+	 * <i><b>
+	 * Version number of class in form xx.yy where
+	 * xx is major version/release number and yy is minor
+	 * release number.
+	 * </b></i>
+	 */
+	public static final String VERSION_NUM = "1.00"; // this should match the version number from class comment
+	/**
+	 * <i><b>Maximal number of writes which wait for writer thread</b></i>
+	 */
+	public static final int QUEUE_CAPACITY = 4096;
+
+	/**
+	 * Instance shared by all loggers and output files
+	 */
+	private static OGPAsyncWriter instance = null;
+
+	/**
+	 * Writes which wait for writer thread
+	 */
+	private BlockingQueue<Runnable> queue = null;
+	/**
+	 * Writer thread
+	 */
+	private Thread writerThread = null;
+
+
+
+	/*
+	 * ======================================================================
+	 * ========================== GETTERS/SETTERS ===========================
+	 * ======================================================================
+	 */
+	/**
+	 * <i>[static method]</i><br>
+	 * Method that retrieves shared asynchronous writer; writer thread is
+	 * started when this method is called for the first time.
+	 *
+	 * @return	Shared asynchronous writer
+	 */
+	public static synchronized OGPAsyncWriter getInstance() {
+		if (OGPAsyncWriter.instance == null)
+			OGPAsyncWriter.instance = new OGPAsyncWriter();
+		return OGPAsyncWriter.instance;
+	}
+
+
+
+	/*
+	 * ======================================================================
+	 * ========================== CONSTRUCTORS ==============================
+	 * ======================================================================
+	 */
+	/**
+	 * Constructor method
+	 */
+	private OGPAsyncWriter() {
+		this.queue = new ArrayBlockingQueue<Runnable>(OGPAsyncWriter.QUEUE_CAPACITY);
+		this.writerThread = new Thread(new Runnable() {
+			public void run() {
+				OGPAsyncWriter.this.drain();
+			}
+		}, "ogp-async-writer");
+		this.writerThread.setDaemon(true); // writer doesn't keep finished prover alive - shutdown hook flushes it
+		this.writerThread.start();
+
+		Runtime.getRuntime().addShutdownHook(new Thread(new Runnable() {
+			public void run() {
+				OGPAsyncWriter.this.flush();
+			}
+		}, "ogp-async-writer-flush"));
+	}
+
+
+
+	/*
+	 * ======================================================================
+	 * ========================== SPECIFIC METHODS ==========================
+	 * ======================================================================
+	 */
+	/**
+	 * Method that submits write to writer thread; if queue is full, it waits
+	 * until writer thread makes place for it.
+	 *
+	 * @param write	Write to be performed
+	 */
+	public void submit(Runnable write) {
+		if (Thread.currentThread() == this.writerThread) { // e.g. write which logs its own error
+			write.run();
+			return;
+		}
+
+		boolean interrupted = false;
+
+		while (true) {
+			try {
+				this.queue.put(write);
+				break;
+			} catch (InterruptedException e) {
+				interrupted = true; // write must not be lost - interrupt is restored below
+			}
+		}
+		if (interrupted)
+			Thread.currentThread().interrupt();
+	}
+
+	/**
+	 * Method that waits until all writes submitted before it are performed.
+	 */
+	public void flush() {
+		if (Thread.currentThread() == this.writerThread)
+			return;
+
+		final CountDownLatch done = new CountDownLatch(1);
+		boolean interrupted = false;
+
+		this.submit(new Runnable() {
+			public void run() {
+				done.countDown();
+			}
+		});
+		while (true) {
+			try {
+				done.await();
+				break;
+			} catch (InterruptedException e) {
+				interrupted = true;
+			}
+		}
+		if (interrupted)
+			Thread.currentThread().interrupt();
+	}
+
+	/**
+	 * Method executed by writer thread - performs writes from queue one by one.
+	 */
+	private void drain() {
+		while (true) {
+			Runnable write;
+
+			try {
+				write = this.queue.take();
+			} catch (InterruptedException e) {
+				continue; // writer thread is stopped only together with JVM
+			}
+
+			try {
+				write.run();
+			} catch (Throwable t) {
+				// failed write must not stop writes of other proofs; it is reported by internal
+				// logging of log4j, since log messages are written by this thread as well
+				LogLog.error("Asynchronous write of OpenGeoProver failed.", t);
+			}
+		}
+	}
+}
@@ -6,9 +6,11 @@ package com.ogprover.utilities.io;
 
 import java.io.IOException;
 
+import com.ogprover.main.OpenGeoProver;
 import com.ogprover.polynomials.XPolySystem;
 import com.ogprover.polynomials.XPolynomial;
 import com.ogprover.pp.tp.geoconstruction.Point;
+import com.ogprover.utilities.OGPMetrics;
 
 /**
 * <dl>
@@ -299,10 +301,16 @@ public class OGPOutput implements SpecialFileFormatting {
 		if (this.closed)
 			return;
 		
-		if (this.latexFile != null)
-			this.latexFile.writePolynomial(index, xpoly);
-		if (this.xmlFile != null)
-			this.xmlFile.writePolynomial(index, xpoly);
+		OGPMetrics.Measurement measurement = OpenGeoProver.getSettings().getMetrics().start(OGPMetrics.PHASE_REPORT);
+		
+		try {
+			if (this.latexFile != null)
+				this.latexFile.writePolynomial(index, xpoly);
+			if (this.xmlFile != null)
+				this.xmlFile.writePolynomial(index, xpoly);
+		} finally {
+			measurement.stop((xpoly != null) ? xpoly.getNumOfTerms() : OGPMetrics.NO_TERMS);
+		}
 	}
 	
 	public void writePolynomial(XPolynomial xpoly)
@@ -310,20 +318,32 @@ public class OGPOutput implements SpecialFileFormatting {
 		if (this.closed)
 			return;
 		
-		if (this.latexFile != null)
-			this.latexFile.writePolynomial(xpoly);
-		if (this.xmlFile != null)
-			this.xmlFile.writePolynomial(xpoly);
+		OGPMetrics.Measurement measurement = OpenGeoProver.getSettings().getMetrics().start(OGPMetrics.PHASE_REPORT);
+		
+		try {
+			if (this.latexFile != null)
+				this.latexFile.writePolynomial(xpoly);
+			if (this.xmlFile != null)
+				this.xmlFile.writePolynomial(xpoly);
+		} finally {
+			measurement.stop((xpoly != null) ? xpoly.getNumOfTerms() : OGPMetrics.NO_TERMS);
+		}
 	}
 	
 	public void writePolySystem(XPolySystem xpolySys) throws IOException {
 		if (this.closed)
 			return;
 		
-		if (this.latexFile != null)
-			this.latexFile.writePolySystem(xpolySys);
-		if (this.xmlFile != null)
-			this.xmlFile.writePolySystem(xpolySys);
+		OGPMetrics.Measurement measurement = OpenGeoProver.getSettings().getMetrics().start(OGPMetrics.PHASE_REPORT);
+		
+		try {
+			if (this.latexFile != null)
+				this.latexFile.writePolySystem(xpolySys);
+			if (this.xmlFile != null)
+				this.xmlFile.writePolySystem(xpolySys);
+		} finally {
+			measurement.stop();
+		}
 	}
 	
 	public boolean isDocumentOpened() {
@@ -5,11 +5,14 @@
 package com.ogprover.utilities.io;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Vector;
 
 import com.ogprover.main.OGPConstants;
+import com.ogprover.polynomials.Term;
 import com.ogprover.polynomials.XPolySystem;
 import com.ogprover.polynomials.XPolynomial;
+import com.ogprover.polynomials.XTerm;
 import com.ogprover.pp.tp.geoconstruction.Point;
 
 /**
@@ -30,6 +33,8 @@ public class XMLFileWriter extends CustomFileWriter implements SpecialFileFormat
 	// numbers of section and subsection to be opened
 	private int nextSectionNum = 0;
 	private int nextSubSectionNum = 0;
+	// whether polynomials longer than MAX_XML_OUTPUT_POLY_CHARS_NUM are truncated
+	private boolean truncatePolynomials = true;
 	
 	public XMLFileWriter(String fileName) throws IOException{
 		super(fileName, "xml");
@@ -322,60 +327,76 @@ public class XMLFileWriter extends CustomFileWriter implements SpecialFileFormat
 		this.write(sb.toString());
 	}
 	
-	private String getPolynomialText(int index, XPolynomial xpoly) {
-		StringBuilder sb = new StringBuilder();
-		int outIndex = index + 1;
-		int numOfTerms = xpoly.getTerms().size();
-		
-		if (numOfTerms > OGPConstants.MAX_OUTPUT_POLY_TERMS_NUM) {
-			sb.append("\n<proof_line>\n");
-			sb.append("Polynomial too big for output (number of terms is ");
-			sb.append(numOfTerms);
-			sb.append(")\n</proof_line>\n");
+	public void setTruncatePolynomials(boolean truncatePolynomials) {
+		this.truncatePolynomials = truncatePolynomials;
+	}
+	
+	/**
+	 * Method that writes polynomial term by term, so text of whole
+	 * polynomial is never built in memory.
+	 * 
+	 * @param index		Index of polynomial (-1 for statement, less than -1 for polynomial without index)
+	 * @param xpoly		Polynomial to be written
+	 * @throws IOException
+	 */
+	private void writePolynomialText(int index, XPolynomial xpoly) throws IOException {
+		ArrayList<Term> list = xpoly.getTermsAsDescList();
+		int numOfTerms = list.size(), numOfWrittenTerms = 0;
+		
+		this.write("\n<polynomial>\n");
+		this.write("<poly_label><poly_label_text>");
+		if (index < -1)
+			this.write("p</poly_label_text>");
+		else if (index <= -1) // polynomial represents statement
+			this.write("g</poly_label_text>");
+		else {
+			this.write("p</poly_label_text><proof_index>");
+			this.write(String.valueOf(index + 1));
+			this.write("</proof_index>");
 		}
+		this.write("</poly_label>");
+		
+		if (numOfTerms == 0) // zero polynomial
+			this.write(xpoly.printToXML());
 		else {
-			String xmlXPoly = xpoly.printToXML();
-			int len = xmlXPoly.length();
+			int textSize = "<proof_xpoly></proof_xpoly>".length();
 			
-			if (len > OGPConstants.MAX_XML_OUTPUT_POLY_CHARS_NUM ||
-				xmlXPoly.startsWith("??")) {
-				sb.append("\n<proof_line>\n");
-				sb.append("Polynomial too big for output (text size is ");
-				if (xmlXPoly.startsWith("??")) {
-					sb.append("greater than ");
-					sb.append(OGPConstants.MAX_XML_OUTPUT_POLY_CHARS_NUM);
-				}
-				else
-					sb.append(len);
-				sb.append(" characters, number of terms is ");
-				sb.append(numOfTerms);
-				sb.append(")\n</proof_line>\n");
-			}
-			else {
-				sb.append("\n<polynomial>\n");
-				sb.append("<poly_label><poly_label_text>");
-				if (index < -1)
-					sb.append("p</poly_label_text>");
-				else if (index <= -1) // polynomial represents statement
-					sb.append("g</poly_label_text>");
-				else {
-					sb.append("p</poly_label_text><proof_index>");
-					sb.append(outIndex);
-					sb.append("</proof_index>");
+			this.write("<proof_xpoly>");
+			while (numOfWrittenTerms < numOfTerms) {
+				String xmlTerm = ((XTerm)list.get(numOfWrittenTerms)).printToXML();
+				
+				if (xmlTerm.startsWith("??")) // term is too long for output
+					break;
+				
+				if (numOfWrittenTerms == 0) {
+					// If coefficient of first term is non-negative, remove the + sign
+					int signInd = xmlTerm.indexOf("<proof_xsign> +");
+					if (signInd >= 0)
+						xmlTerm = xmlTerm.substring(0, xmlTerm.indexOf("<proof_xsign>")) + xmlTerm.substring(xmlTerm.indexOf("</proof_xsign>") + 14);
 				}
-				sb.append("</poly_label>");
 				
-				sb.append(xmlXPoly);
-				sb.append("\n</polynomial>\n");
+				textSize += xmlTerm.length();
+				if (this.truncatePolynomials && textSize > OGPConstants.MAX_XML_OUTPUT_POLY_CHARS_NUM)
+					break;
+				
+				this.write(xmlTerm);
+				numOfWrittenTerms++;
 			}
+			this.write("</proof_xpoly>");
 		}
+		this.write("\n</polynomial>\n");
 		
-		return sb.toString();
+		if (numOfWrittenTerms < numOfTerms) {
+			this.write("\n<proof_line>\n");
+			this.write("Polynomial truncated for output (number of terms is ");
+			this.write(String.valueOf(numOfTerms));
+			this.write(")\n</proof_line>\n");
+		}
 	}
 	
 	public void writePolynomial(int index, XPolynomial xpoly)
 			throws IOException {
-		this.write(getPolynomialText(index, xpoly));
+		this.writePolynomialText(index, xpoly);
 	}
 	
 	public void writePolynomial(XPolynomial xpoly)
@@ -387,21 +408,16 @@ public class XMLFileWriter extends CustomFileWriter implements SpecialFileFormat
 		if (xpolySys == null || xpolySys.getPolynomials().size() == 0)
 			return;
 		
-		StringBuilder sb = new StringBuilder();
-		
-		sb.append("\n<polynomial_system>\n");
+		this.write("\n<polynomial_system>\n");
 		
 		int ii = 0;
 		for (XPolynomial xp : xpolySys.getPolynomials()) {
-			sb.append(this.getPolynomialText(ii, xp));
-			sb.append("\n");
+			this.writePolynomialText(ii, xp);
+			this.write("\n");
 			ii++;
 		}
 		
-		sb.append("\n</polynomial_system>\n");
-		
-		this.write(sb.toString());
-		
+		this.write("\n</polynomial_system>\n");
 	}
 	
 	public boolean isDocumentOpened() {
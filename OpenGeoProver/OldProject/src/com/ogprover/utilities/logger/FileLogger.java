@@ -12,8 +12,10 @@ import org.apache.log4j.Layout;
 import org.apache.log4j.Level;
 import org.apache.log4j.Logger;
 import org.apache.log4j.PatternLayout;
+import org.apache.log4j.spi.LoggingEvent;
 
 import com.ogprover.utilities.io.CustomFile;
+import com.ogprover.utilities.io.OGPAsyncWriter;
 
 
 
@@ -231,50 +233,61 @@ public class FileLogger extends Logger implements ILogger {
      */
     
     /* 
-     * Base log functions - they are all made to be thread safe
-     * since logger could be used in multi-threading environment
-     * when multiplying two polynomials. 
-     * 
-     * Following comment is from book "Thinking in Java" by Bruce Eckel
-     * (section with title "Resolving shared resource contention"):
-     * "When you call any synchronized method, that object is locked 
-     * and no other synchronized method of that object can be called 
-     * until the first one finishes and releases the lock."
+     * Base log functions - they are called from many threads (threads
+     * which multiply polynomials and threads of proofs in batch and daemon
+     * modes), so they don't lock logger and don't write to log file. 
+     * Event of log message is created in calling thread (with location and 
+     * thread name of caller) and it is passed to writer thread of 
+     * OGPAsyncWriter, which passes events to appenders one by one.
      */
     
-    public synchronized void fatal(String msg) {
-    	if (this.verbose)
-    		System.out.println(msg);
-    	this.log(FileLogger.class.getName(), Level.FATAL, msg, null);
+    public void fatal(String msg) {
+    	this.logAsync(Level.FATAL, msg);
 	}
     
-    public synchronized void error(String msg) {
-    	if (this.verbose)
-    		System.out.println(msg);
-    	this.log(FileLogger.class.getName(), Level.ERROR, msg, null);	
+    public void error(String msg) {
+    	this.logAsync(Level.ERROR, msg);
     }
     
-    public synchronized void warn(String msg) {
-    	if (this.verbose)
-    		System.out.println(msg);
-    	this.log(FileLogger.class.getName(), Level.WARN, msg, null);	
+    public void warn(String msg) {
+    	this.logAsync(Level.WARN, msg);
     }
     
-    public synchronized void info(String msg) {
-    	if (this.verbose)
-    		System.out.println(msg);
-    	this.log(FileLogger.class.getName(), Level.INFO, msg, null);	
+    public void info(String msg) {
+    	this.logAsync(Level.INFO, msg);
     }
     
-    public synchronized void debug(String msg) {
-    	if (this.verbose)
-    		System.out.println(msg);
-    	this.log(FileLogger.class.getName(), Level.DEBUG, msg, null);	
+    public void debug(String msg) {
+    	this.logAsync(Level.DEBUG, msg);
     }
     
-	public synchronized void trace(String msg) {
+	public void trace(String msg) {
+		this.logAsync(Level.TRACE, msg);
+	}
+	
+	/**
+	 * Method that passes log message to writer thread if its level is enabled.
+	 * 
+	 * @param level	Level of message
+	 * @param msg	Text of message
+	 */
+	private void logAsync(Level level, String msg) {
 		if (this.verbose)
     		System.out.println(msg);
-    	this.log(FileLogger.class.getName(), Level.TRACE, msg, null);
+		if (this.getLoggerRepository().isDisabled(level.toInt()) || !level.isGreaterOrEqual(this.getEffectiveLevel()))
+			return;
+		
+		final LoggingEvent event = new LoggingEvent(FileLogger.class.getName(), this, level, msg, null);
+		
+		// data of calling thread must be taken before event leaves it
+		event.getLocationInformation();
+		event.getThreadName();
+		event.getNDC();
+		event.getMDCCopy();
+		OGPAsyncWriter.getInstance().submit(new Runnable() {
+			public void run() {
+				FileLogger.this.callAppenders(event);
+			}
+		});
 	}
-}
\ No newline at end of file
+}